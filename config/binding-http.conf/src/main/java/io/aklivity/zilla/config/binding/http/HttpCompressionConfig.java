@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.config.binding.http;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.aklivity.zilla.config.engine.Config;
+
+public final class HttpCompressionConfig extends Config
+{
+    public final List<String> encodings;
+    public final Integer minSize;
+    public final List<String> types;
+
+    public static HttpCompressionConfigBuilder<HttpCompressionConfig> builder()
+    {
+        return new HttpCompressionConfigBuilder<>(HttpCompressionConfig.class::cast);
+    }
+
+    public static <T> HttpCompressionConfigBuilder<T> builder(
+        Function<HttpCompressionConfig, T> mapper)
+    {
+        return new HttpCompressionConfigBuilder<>(mapper);
+    }
+
+    HttpCompressionConfig(
+        List<String> encodings,
+        Integer minSize,
+        List<String> types)
+    {
+        this.encodings = encodings;
+        this.minSize = minSize;
+        this.types = types;
+    }
+}
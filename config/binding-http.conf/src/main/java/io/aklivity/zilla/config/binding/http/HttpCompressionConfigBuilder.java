@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.config.binding.http;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.aklivity.zilla.config.engine.ConfigBuilder;
+
+public final class HttpCompressionConfigBuilder<T> extends ConfigBuilder<T, HttpCompressionConfigBuilder<T>>
+{
+    public static final int MIN_SIZE_DEFAULT = 1024;
+
+    private final Function<HttpCompressionConfig, T> mapper;
+
+    private List<String> encodings;
+    private Integer minSize;
+    private List<String> types;
+
+    HttpCompressionConfigBuilder(
+        Function<HttpCompressionConfig, T> mapper)
+    {
+        this.mapper = mapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Class<HttpCompressionConfigBuilder<T>> thisType()
+    {
+        return (Class<HttpCompressionConfigBuilder<T>>) getClass();
+    }
+
+    public HttpCompressionConfigBuilder<T> encoding(
+        String encoding)
+    {
+        if (encodings == null)
+        {
+            encodings = new LinkedList<>();
+        }
+        encodings.add(encoding);
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<T> minSize(
+        int minSize)
+    {
+        this.minSize = minSize;
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<T> type(
+        String type)
+    {
+        if (types == null)
+        {
+            types = new LinkedList<>();
+        }
+        types.add(type);
+        return this;
+    }
+
+    @Override
+    public T build()
+    {
+        return mapper.apply(new HttpCompressionConfig(encodings, minSize, types));
+    }
+}
@@ -34,6 +34,7 @@ public final class HttpOptionsConfig extends OptionsConfig
     public final HttpAccessControlConfig access;
     public final HttpAuthorizationConfig authorization;
     public final List<HttpRequestConfig> requests;
+    public final HttpCompressionConfig compression;
 
     public static HttpOptionsConfigBuilder<HttpOptionsConfig> builder()
     {
@@ -51,7 +52,8 @@ public final class HttpOptionsConfig extends OptionsConfig
         Map<String, String> overrides,
         HttpAccessControlConfig access,
         HttpAuthorizationConfig authorization,
-        List<HttpRequestConfig> requests)
+        List<HttpRequestConfig> requests,
+        HttpCompressionConfig compression)
     {
         super(resolveModels(requests), List.of());
         this.versions = versions;
@@ -59,6 +61,7 @@ public final class HttpOptionsConfig extends OptionsConfig
         this.access = access;
         this.authorization = authorization;
         this.requests = requests;
+        this.compression = compression;
     }
 
     private static List<ModelConfig> resolveModels(
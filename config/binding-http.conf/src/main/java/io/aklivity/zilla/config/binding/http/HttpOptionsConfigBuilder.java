@@ -34,6 +34,7 @@ public final class HttpOptionsConfigBuilder<T> extends ConfigBuilder<T, HttpOpti
     private HttpAccessControlConfig access;
     private HttpAuthorizationConfig authorization;
     private List<HttpRequestConfig> requests;
+    private HttpCompressionConfig compression;
 
     HttpOptionsConfigBuilder(
         Function<OptionsConfig, T> mapper)
@@ -122,9 +123,21 @@ public final class HttpOptionsConfigBuilder<T> extends ConfigBuilder<T, HttpOpti
         return new HttpAccessControlConfigBuilder<>(this::access);
     }
 
+    public HttpOptionsConfigBuilder<T> compression(
+        HttpCompressionConfig compression)
+    {
+        this.compression = compression;
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<HttpOptionsConfigBuilder<T>> compression()
+    {
+        return new HttpCompressionConfigBuilder<>(this::compression);
+    }
+
     @Override
     public T build()
     {
-        return mapper.apply(new HttpOptionsConfig(versions, overrides, access, authorization, requests));
+        return mapper.apply(new HttpOptionsConfig(versions, overrides, access, authorization, requests, compression));
     }
 }
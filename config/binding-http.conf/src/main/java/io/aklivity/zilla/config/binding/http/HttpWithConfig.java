@@ -22,6 +22,7 @@ import io.aklivity.zilla.config.engine.WithConfig;
 public final class HttpWithConfig extends WithConfig
 {
     public final Map<String, String> overrides;
+    public final HttpCompressionConfig compression;
 
     public static HttpWithConfigBuilder<HttpWithConfig> builder()
     {
@@ -36,9 +37,11 @@ public final class HttpWithConfig extends WithConfig
 
     HttpWithConfig(
         long compositeId,
-        Map<String, String> overrides)
+        Map<String, String> overrides,
+        HttpCompressionConfig compression)
     {
         super(compositeId);
         this.overrides = overrides;
+        this.compression = compression;
     }
 }
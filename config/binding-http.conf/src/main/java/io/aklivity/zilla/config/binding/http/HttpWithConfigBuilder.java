@@ -29,6 +29,7 @@ public final class HttpWithConfigBuilder<T> extends ConfigBuilder<T, HttpWithCon
 
     private long compositeId = NO_COMPOSITE_ID;
     private Map<String, String> overrides;
+    private HttpCompressionConfig compression;
 
     HttpWithConfigBuilder(
         Function<WithConfig, T> mapper)
@@ -73,8 +74,20 @@ public final class HttpWithConfigBuilder<T> extends ConfigBuilder<T, HttpWithCon
         return this;
     }
 
+    public HttpWithConfigBuilder<T> compression(
+        HttpCompressionConfig compression)
+    {
+        this.compression = compression;
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<HttpWithConfigBuilder<T>> compression()
+    {
+        return new HttpCompressionConfigBuilder<>(this::compression);
+    }
+
     public T build()
     {
-        return mapper.apply(new HttpWithConfig(compositeId, overrides));
+        return mapper.apply(new HttpWithConfig(compositeId, overrides, compression));
     }
 }
@@ -33,6 +33,8 @@ import io.aklivity.zilla.config.binding.http.HttpAllowConfig;
 import io.aklivity.zilla.config.binding.http.HttpAllowConfigBuilder;
 import io.aklivity.zilla.config.binding.http.HttpAuthorizationConfig;
 import io.aklivity.zilla.config.binding.http.HttpAuthorizationConfigBuilder;
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfig;
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfigBuilder;
 import io.aklivity.zilla.config.binding.http.HttpCredentialsConfig;
 import io.aklivity.zilla.config.binding.http.HttpCredentialsConfigBuilder;
 import io.aklivity.zilla.config.binding.http.HttpExposeConfig;
@@ -66,6 +68,10 @@ public final class HttpOptionsConfigAdapter extends ConfigAdapter<OptionsConfig,
     private static final String EXPOSE_NAME = "expose";
     private static final String EXPOSE_HEADERS_NAME = "headers";
     private static final String REQUESTS_NAME = "requests";
+    private static final String COMPRESSION_NAME = "compression";
+    private static final String COMPRESSION_ENCODINGS_NAME = "encodings";
+    private static final String COMPRESSION_MIN_SIZE_NAME = "min-size";
+    private static final String COMPRESSION_TYPES_NAME = "types";
 
     private final HttpRequestConfigAdapter httpRequest = new HttpRequestConfigAdapter();
 
@@ -224,6 +230,33 @@ public final class HttpOptionsConfigAdapter extends ConfigAdapter<OptionsConfig,
             object.add(REQUESTS_NAME, requests);
         }
 
+        HttpCompressionConfig httpCompression = httpOptions.compression;
+        if (httpCompression != null)
+        {
+            JsonObjectBuilder compression = Json.createObjectBuilder();
+
+            if (httpCompression.encodings != null)
+            {
+                JsonArrayBuilder encodings = Json.createArrayBuilder();
+                httpCompression.encodings.forEach(encodings::add);
+                compression.add(COMPRESSION_ENCODINGS_NAME, encodings);
+            }
+
+            if (httpCompression.minSize != null)
+            {
+                compression.add(COMPRESSION_MIN_SIZE_NAME, httpCompression.minSize);
+            }
+
+            if (httpCompression.types != null)
+            {
+                JsonArrayBuilder types = Json.createArrayBuilder();
+                httpCompression.types.forEach(types::add);
+                compression.add(COMPRESSION_TYPES_NAME, types);
+            }
+
+            object.add(COMPRESSION_NAME, compression);
+        }
+
         return object.build();
     }
 
@@ -377,6 +410,31 @@ public final class HttpOptionsConfigAdapter extends ConfigAdapter<OptionsConfig,
             httpOptions.requests(requests);
         }
 
+        if (object.containsKey(COMPRESSION_NAME))
+        {
+            HttpCompressionConfigBuilder<?> httpCompression = httpOptions.compression();
+            JsonObject compression = object.getJsonObject(COMPRESSION_NAME);
+
+            if (compression.containsKey(COMPRESSION_ENCODINGS_NAME))
+            {
+                compression.getJsonArray(COMPRESSION_ENCODINGS_NAME)
+                    .forEach(v -> httpCompression.encoding(JsonString.class.cast(v).getString()));
+            }
+
+            if (compression.containsKey(COMPRESSION_MIN_SIZE_NAME))
+            {
+                httpCompression.minSize(compression.getInt(COMPRESSION_MIN_SIZE_NAME));
+            }
+
+            if (compression.containsKey(COMPRESSION_TYPES_NAME))
+            {
+                compression.getJsonArray(COMPRESSION_TYPES_NAME)
+                    .forEach(v -> httpCompression.type(JsonString.class.cast(v).getString()));
+            }
+
+            httpCompression.build();
+        }
+
         return httpOptions.build();
     }
 }
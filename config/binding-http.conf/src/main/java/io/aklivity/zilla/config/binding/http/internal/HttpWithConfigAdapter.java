@@ -15,10 +15,13 @@
 package io.aklivity.zilla.config.binding.http.internal;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfig;
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfigBuilder;
 import io.aklivity.zilla.config.binding.http.HttpWithConfig;
 import io.aklivity.zilla.config.binding.http.HttpWithConfigBuilder;
 import io.aklivity.zilla.config.engine.ConfigAdapter;
@@ -28,6 +31,9 @@ public class HttpWithConfigAdapter extends ConfigAdapter<WithConfig, JsonObject>
 {
     private static final String HEADERS_NAME = "headers";
     private static final String OVERRIDES_NAME = "overrides";
+    private static final String COMPRESSION_NAME = "compression";
+    private static final String COMPRESSION_MIN_SIZE_NAME = "min-size";
+    private static final String COMPRESSION_TYPES_NAME = "types";
 
     @Override
     public JsonObject adaptToJson(
@@ -46,6 +52,26 @@ public class HttpWithConfigAdapter extends ConfigAdapter<WithConfig, JsonObject>
             object.add(HEADERS_NAME, object.add(OVERRIDES_NAME, entries));
         }
 
+        HttpCompressionConfig withCompression = config.compression;
+        if (withCompression != null)
+        {
+            JsonObjectBuilder compression = Json.createObjectBuilder();
+
+            if (withCompression.minSize != null)
+            {
+                compression.add(COMPRESSION_MIN_SIZE_NAME, withCompression.minSize);
+            }
+
+            if (withCompression.types != null)
+            {
+                JsonArrayBuilder types = Json.createArrayBuilder();
+                withCompression.types.forEach(types::add);
+                compression.add(COMPRESSION_TYPES_NAME, types);
+            }
+
+            object.add(COMPRESSION_NAME, compression);
+        }
+
         return object.build();
     }
 
@@ -66,6 +92,25 @@ public class HttpWithConfigAdapter extends ConfigAdapter<WithConfig, JsonObject>
             }
         }
 
+        if (object.containsKey(COMPRESSION_NAME))
+        {
+            HttpCompressionConfigBuilder<?> withCompression = with.compression();
+            JsonObject compression = object.getJsonObject(COMPRESSION_NAME);
+
+            if (compression.containsKey(COMPRESSION_MIN_SIZE_NAME))
+            {
+                withCompression.minSize(compression.getInt(COMPRESSION_MIN_SIZE_NAME));
+            }
+
+            if (compression.containsKey(COMPRESSION_TYPES_NAME))
+            {
+                compression.getJsonArray(COMPRESSION_TYPES_NAME)
+                    .forEach(v -> withCompression.type(JsonString.class.cast(v).getString()));
+            }
+
+            withCompression.build();
+        }
+
         return with.build();
     }
 }
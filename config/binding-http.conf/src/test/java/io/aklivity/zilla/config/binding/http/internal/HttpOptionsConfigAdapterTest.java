@@ -28,6 +28,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
 import java.util.EnumSet;
+import java.util.List;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
@@ -250,4 +251,64 @@ public class HttpOptionsConfigAdapterTest
         assertThat(yaml, not(nullValue()));
         assertThat(yaml, equalTo(expectedYaml));
     }
+
+    @Test
+    public void shouldReadCompressionOptions()
+    {
+        // GIVEN
+        String yaml =
+            """
+            compression:
+              encodings:
+                - gzip
+                - deflate
+              min-size: 512
+              types:
+                - application/json
+                - "text/*"
+            """;
+
+        // WHEN
+        HttpOptionsConfig options = jsonb.fromJson(yaml, HttpOptionsConfig.class);
+
+        // THEN
+        assertThat(options, not(nullValue()));
+        assertThat(options.compression, not(nullValue()));
+        assertThat(options.compression.encodings, equalTo(List.of("gzip", "deflate")));
+        assertThat(options.compression.minSize, equalTo(512));
+        assertThat(options.compression.types, equalTo(List.of("application/json", "text/*")));
+    }
+
+    @Test
+    public void shouldWriteCompressionOptions()
+    {
+        // GIVEN
+        String expectedYaml =
+            """
+            compression:
+              encodings:
+                - gzip
+              min-size: 512
+              types:
+                - application/json
+                - text/event-stream
+            """;
+        HttpOptionsConfig options = HttpOptionsConfig.builder()
+            .inject(identity())
+            .compression()
+                .inject(identity())
+                .encoding("gzip")
+                .minSize(512)
+                .type("application/json")
+                .type("text/event-stream")
+                .build()
+            .build();
+
+        // WHEN
+        String yaml = jsonb.toJson(options);
+
+        // THEN
+        assertThat(yaml, not(nullValue()));
+        assertThat(yaml, equalTo(expectedYaml));
+    }
 }
@@ -20,6 +20,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.util.List;
+
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
@@ -88,4 +90,56 @@ public class HttpWithConfigAdapterTest
         assertThat(text, not(nullValue()));
         assertThat(text, equalTo(expected));
     }
+
+    @Test
+    public void shouldReadWithCompression()
+    {
+        String text =
+            "{" +
+                "\"compression\":" +
+                "{" +
+                    "\"min-size\":256," +
+                    "\"types\":" +
+                    "[" +
+                        "\"text/event-stream\"" +
+                    "]" +
+                "}" +
+            "}";
+
+        HttpWithConfig with = jsonb.fromJson(text, HttpWithConfig.class);
+
+        assertThat(with, not(nullValue()));
+        assertThat(with.compression, not(nullValue()));
+        assertThat(with.compression.encodings, nullValue());
+        assertThat(with.compression.minSize, equalTo(256));
+        assertThat(with.compression.types, equalTo(List.of("text/event-stream")));
+    }
+
+    @Test
+    public void shouldWriteWithCompression()
+    {
+        HttpWithConfig with = HttpWithConfig.builder()
+            .compression()
+                .minSize(256)
+                .type("text/event-stream")
+                .build()
+            .build();
+
+        String text = jsonb.toJson(with);
+
+        String expected =
+            "{" +
+                "\"compression\":" +
+                "{" +
+                    "\"min-size\":256," +
+                    "\"types\":" +
+                    "[" +
+                        "\"text/event-stream\"" +
+                    "]" +
+                "}" +
+            "}";
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo(expected));
+    }
 }
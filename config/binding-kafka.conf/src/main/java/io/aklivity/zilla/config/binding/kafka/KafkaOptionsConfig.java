@@ -31,6 +31,7 @@ public final class KafkaOptionsConfig extends OptionsConfig
     public final List<KafkaTopicConfig> topics;
     public final List<KafkaServerConfig> servers;
     public final KafkaAuthorizationConfig authorization;
+    public final KafkaProduceConfig produce;
 
     public static KafkaOptionsConfigBuilder<KafkaOptionsConfig> builder()
     {
@@ -47,13 +48,15 @@ public final class KafkaOptionsConfig extends OptionsConfig
         List<String> bootstrap,
         List<KafkaTopicConfig> topics,
         List<KafkaServerConfig> servers,
-        KafkaAuthorizationConfig authorization)
+        KafkaAuthorizationConfig authorization,
+        KafkaProduceConfig produce)
     {
         super(resolveModels(topics), List.of());
         this.bootstrap = bootstrap;
         this.topics = topics;
         this.servers = servers;
         this.authorization = authorization;
+        this.produce = produce;
     }
 
     private static List<ModelConfig> resolveModels(
@@ -29,6 +29,7 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
     private List<KafkaTopicConfig> topics;
     private List<KafkaServerConfig> servers;
     private KafkaAuthorizationConfig authorization;
+    private KafkaProduceConfig produce;
 
     KafkaOptionsConfigBuilder(
         Function<OptionsConfig, T> mapper)
@@ -90,6 +91,18 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
         return KafkaAuthorizationConfig.builder(this::authorization);
     }
 
+    public KafkaOptionsConfigBuilder<T> produce(
+        KafkaProduceConfig produce)
+    {
+        this.produce = produce;
+        return this;
+    }
+
+    public KafkaProduceConfigBuilder<KafkaOptionsConfigBuilder<T>> produce()
+    {
+        return KafkaProduceConfig.builder(this::produce);
+    }
+
     public KafkaOptionsConfigBuilder<T> server(
         KafkaServerConfig server)
     {
@@ -105,6 +118,6 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
     @Override
     public T build()
     {
-        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, authorization));
+        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, authorization, produce));
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.config.binding.kafka;
+
+import static java.util.function.Function.identity;
+
+import java.util.function.Function;
+
+import io.aklivity.zilla.config.engine.Config;
+
+public final class KafkaProduceConfig extends Config
+{
+    public final String compression;
+    public final Long linger;
+    public final Integer batchSize;
+
+    public static KafkaProduceConfigBuilder<KafkaProduceConfig> builder()
+    {
+        return new KafkaProduceConfigBuilder<>(identity());
+    }
+
+    public static <T> KafkaProduceConfigBuilder<T> builder(
+        Function<KafkaProduceConfig, T> mapper)
+    {
+        return new KafkaProduceConfigBuilder<>(mapper);
+    }
+
+    KafkaProduceConfig(
+        String compression,
+        Long linger,
+        Integer batchSize)
+    {
+        this.compression = compression;
+        this.linger = linger;
+        this.batchSize = batchSize;
+    }
+}
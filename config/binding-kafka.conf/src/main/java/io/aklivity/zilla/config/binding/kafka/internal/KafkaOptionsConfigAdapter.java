@@ -26,6 +26,7 @@ import jakarta.json.JsonValue;
 
 import io.aklivity.zilla.config.binding.kafka.KafkaOptionsConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaOptionsConfigBuilder;
+import io.aklivity.zilla.config.binding.kafka.KafkaProduceConfigBuilder;
 import io.aklivity.zilla.config.engine.ConfigAdapter;
 import io.aklivity.zilla.config.engine.OptionsConfig;
 
@@ -42,6 +43,10 @@ public final class KafkaOptionsConfigAdapter extends ConfigAdapter<OptionsConfig
     private static final String SASL_OAUTHBEARER_MECHANISM = "oauthbearer";
     private static final String AUTHORIZATION_NAME = "authorization";
     private static final String AUTHORIZATION_CREDENTIALS_NAME = "credentials";
+    private static final String PRODUCE_NAME = "produce";
+    private static final String PRODUCE_COMPRESSION_NAME = "compression";
+    private static final String PRODUCE_LINGER_NAME = "linger";
+    private static final String PRODUCE_BATCH_SIZE_NAME = "batchSize";
 
     private final KafkaTopicConfigAdapter topic = new KafkaTopicConfigAdapter();
 
@@ -104,6 +109,28 @@ public final class KafkaOptionsConfigAdapter extends ConfigAdapter<OptionsConfig
             object.add(AUTHORIZATION_NAME, authorizations);
         }
 
+        if (kafkaOptions.produce != null)
+        {
+            JsonObjectBuilder produce = Json.createObjectBuilder();
+
+            if (kafkaOptions.produce.compression != null)
+            {
+                produce.add(PRODUCE_COMPRESSION_NAME, kafkaOptions.produce.compression);
+            }
+
+            if (kafkaOptions.produce.linger != null)
+            {
+                produce.add(PRODUCE_LINGER_NAME, kafkaOptions.produce.linger);
+            }
+
+            if (kafkaOptions.produce.batchSize != null)
+            {
+                produce.add(PRODUCE_BATCH_SIZE_NAME, kafkaOptions.produce.batchSize);
+            }
+
+            object.add(PRODUCE_NAME, produce);
+        }
+
         return object.build();
     }
 
@@ -173,6 +200,29 @@ public final class KafkaOptionsConfigAdapter extends ConfigAdapter<OptionsConfig
             }
         }
 
+        if (object.containsKey(PRODUCE_NAME))
+        {
+            JsonObject produce = object.getJsonObject(PRODUCE_NAME);
+            KafkaProduceConfigBuilder<KafkaOptionsConfigBuilder<KafkaOptionsConfig>> produceBuilder = options.produce();
+
+            if (produce.containsKey(PRODUCE_COMPRESSION_NAME))
+            {
+                produceBuilder.compression(produce.getString(PRODUCE_COMPRESSION_NAME));
+            }
+
+            if (produce.containsKey(PRODUCE_LINGER_NAME))
+            {
+                produceBuilder.linger(produce.getJsonNumber(PRODUCE_LINGER_NAME).longValue());
+            }
+
+            if (produce.containsKey(PRODUCE_BATCH_SIZE_NAME))
+            {
+                produceBuilder.batchSize(produce.getInt(PRODUCE_BATCH_SIZE_NAME));
+            }
+
+            produceBuilder.build();
+        }
+
         return options.build();
     }
 }
@@ -240,4 +240,47 @@ public class KafkaOptionsConfigAdapterTest
         assertThat(yaml, not(nullValue()));
         assertThat(yaml, equalTo(expected));
     }
+
+    @Test
+    public void shouldReadProduceOptions()
+    {
+        String yaml = """
+                produce:
+                  compression: lz4
+                  linger: 5
+                  batchSize: 16384
+                """;
+
+        KafkaOptionsConfig options = jsonb.fromJson(yaml, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.produce, not(nullValue()));
+        assertThat(options.produce.compression, equalTo("lz4"));
+        assertThat(options.produce.linger, equalTo(5L));
+        assertThat(options.produce.batchSize, equalTo(16384));
+    }
+
+    @Test
+    public void shouldWriteProduceOptions()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .produce()
+                .compression("lz4")
+                .linger(5L)
+                .batchSize(16384)
+                .build()
+            .build();
+
+        String expected = """
+                produce:
+                  compression: lz4
+                  linger: 5
+                  batchSize: 16384
+                """;
+
+        String yaml = jsonb.toJson(options);
+
+        assertThat(yaml, not(nullValue()));
+        assertThat(yaml, equalTo(expected));
+    }
 }
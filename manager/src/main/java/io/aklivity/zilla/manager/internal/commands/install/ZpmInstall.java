@@ -1045,6 +1045,8 @@ public final class ZpmInstall extends ZpmCommand
     private void generateLauncher() throws IOException
     {
         Path zillaPath = launcherDir.resolve("zilla");
+        List<String> incubatorModules = incubatorModules();
+        String addModules = incubatorModules.isEmpty() ? "" : " --add-modules %s".formatted(String.join(",", incubatorModules));
         Files.write(zillaPath, Arrays.asList(
             "#!/bin/sh",
             "if [ -n \"$ZILLA_INCUBATOR_ENABLED\" ]; then",
@@ -1055,7 +1057,7 @@ public final class ZpmInstall extends ZpmCommand
             "JAVA_OPTIONS=\"$JAVA_OPTIONS --add-opens java.base/jdk.internal.misc=ALL-UNNAMED " +
                 "--add-opens java.base/jdk.internal.misc=org.agrona " +
                 "--enable-native-access=io.aklivity.zilla.runtime.common.agrona " +
-                "--sun-misc-unsafe-memory-access=%s\"".formatted(unsafeMemoryAccess),
+                "--sun-misc-unsafe-memory-access=%s%s\"".formatted(unsafeMemoryAccess, addModules),
             String.format(String.join(" ", Arrays.asList(
                     "exec $ZILLA_DIRECTORY/%s/bin/java",
                     "$JAVA_OPTIONS",
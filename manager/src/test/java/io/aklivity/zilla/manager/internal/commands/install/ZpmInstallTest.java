@@ -154,6 +154,9 @@ public class ZpmInstallTest
         listModules.waitFor();
 
         assertThat(modules, containsString("jdk.incubator.vector"));
+
+        String launcher = Files.readString(launcherDir.resolve("zilla"));
+        assertThat(launcher, containsString("--add-modules jdk.incubator.vector"));
     }
 
     @Test
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * Per-worker cache of memory-mapped files and their attribute-derived tags.
+ * <p>
+ * {@link #lookup} never touches the filesystem, so the engine worker can call it directly. On a
+ * miss, {@link #supply} reads the file attributes and maps the file read-only, then closes the
+ * file; callers run it, and {@link Entry#load} for the pages they are about to send, as signaler
+ * tasks so the engine worker only copies resident memory into data frames. Entries are invalidated
+ * by the {@link FileSystemWatcher} when their directory changes, or directly after the binding
+ * writes or deletes a file.
+ * </p>
+ */
+public final class FileSystemCache
+{
+    private static final int REGION_BITS = 30;
+    private static final long REGION_MASK = (1L << REGION_BITS) - 1;
+
+    private final Map<Path, Entry> entries;
+    private final int readAhead;
+
+    private volatile FileSystemWatcher watcher;
+
+    public FileSystemCache(
+        int capacity,
+        int readAhead)
+    {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<Path, Entry> eldest)
+            {
+                return size() > capacity;
+            }
+        };
+        this.readAhead = readAhead;
+    }
+
+    public int readAhead()
+    {
+        return readAhead;
+    }
+
+    public void start(
+        FileSystemWatcher watcher)
+    {
+        this.watcher = watcher;
+    }
+
+    public void stop()
+    {
+        watcher = null;
+
+        synchronized (entries)
+        {
+            entries.clear();
+        }
+    }
+
+    public Entry lookup(
+        Path path,
+        LinkOption[] symlinks)
+    {
+        Entry entry;
+
+        synchronized (entries)
+        {
+            entry = entries.get(path);
+        }
+
+        return entry != null && Arrays.equals(entry.symlinks, symlinks) ? entry : null;
+    }
+
+    public Entry supply(
+        Path path,
+        LinkOption[] symlinks)
+    {
+        Entry entry = lookup(path, symlinks);
+
+        if (entry == null)
+        {
+            entry = newEntry(path, symlinks);
+
+            if (entry != null && entry.watched)
+            {
+                synchronized (entries)
+                {
+                    entries.put(path, entry);
+                }
+            }
+        }
+
+        return entry;
+    }
+
+    public void invalidate(
+        Path path)
+    {
+        synchronized (entries)
+        {
+            entries.remove(path);
+        }
+    }
+
+    void invalidateDirectory(
+        Path directory)
+    {
+        synchronized (entries)
+        {
+            entries.values().removeIf(e -> e.directory.equals(directory) || directory.equals(e.target));
+        }
+    }
+
+    public static String tag(
+        Path path,
+        LinkOption[] symlinks)
+    {
+        String tag = null;
+
+        try
+        {
+            BasicFileAttributeView view = Files.getFileAttributeView(path, BasicFileAttributeView.class, symlinks);
+            tag = tag(view.readAttributes());
+        }
+        catch (IOException ex)
+        {
+            // no tag
+        }
+
+        return tag;
+    }
+
+    private static String tag(
+        BasicFileAttributes attributes)
+    {
+        final long modified = attributes.lastModifiedTime().to(NANOSECONDS);
+        final int fileKey = Objects.hashCode(attributes.fileKey());
+
+        return "%x-%x-%x".formatted(modified, attributes.size(), fileKey);
+    }
+
+    private Entry newEntry(
+        Path path,
+        LinkOption[] symlinks)
+    {
+        Entry entry = null;
+
+        try
+        {
+            final BasicFileAttributeView view = Files.getFileAttributeView(path, BasicFileAttributeView.class, symlinks);
+            final BasicFileAttributes attributes = view.readAttributes();
+
+            if (attributes.isRegularFile())
+            {
+                final long size = attributes.size();
+                final MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((size + REGION_MASK) >>> REGION_BITS)];
+
+                if (size > 0L)
+                {
+                    try (FileChannel channel = FileChannel.open(path, READ))
+                    {
+                        for (int index = 0; index < regions.length; index++)
+                        {
+                            final long position = (long) index << REGION_BITS;
+                            regions[index] = channel.map(READ_ONLY, position, Math.min(size - position, 1L << REGION_BITS));
+                        }
+                    }
+                }
+
+                final Path directory = path.toAbsolutePath().getParent();
+                final Path target = symlinks.length == 0 ? path.toRealPath().getParent() : directory;
+
+                // only entries that the watcher can invalidate are retained
+                final FileSystemWatcher watcher = this.watcher;
+                final boolean watched = watcher != null &&
+                    watcher.cache(directory) &&
+                    (target.equals(directory) || watcher.cache(target));
+
+                entry = new Entry(symlinks, directory, target, size, tag(attributes), regions, watched);
+            }
+        }
+        catch (IOException ex)
+        {
+            // not cacheable
+        }
+
+        return entry;
+    }
+
+    public static final class Entry
+    {
+        private final LinkOption[] symlinks;
+        private final Path directory;
+        private final Path target;
+        private final long size;
+        private final String tag;
+        private final MappedByteBuffer[] regions;
+        private final DirectBufferEx[] buffers;
+        private final boolean watched;
+
+        private Entry(
+            LinkOption[] symlinks,
+            Path directory,
+            Path target,
+            long size,
+            String tag,
+            MappedByteBuffer[] regions,
+            boolean watched)
+        {
+            this.symlinks = symlinks;
+            this.directory = directory;
+            this.target = target;
+            this.size = size;
+            this.tag = tag;
+            this.regions = regions;
+            this.watched = watched;
+            this.buffers = new DirectBufferEx[regions.length];
+
+            for (int index = 0; index < regions.length; index++)
+            {
+                buffers[index] = new UnsafeBufferEx(regions[index]);
+            }
+        }
+
+        public long size()
+        {
+            return size;
+        }
+
+        public String tag()
+        {
+            return tag;
+        }
+
+        /**
+         * Returns the mapped region containing the given position.
+         *
+         * @param position  the file position
+         * @return the region buffer, indexed from {@link #offset(long)}
+         */
+        public DirectBufferEx buffer(
+            long position)
+        {
+            return buffers[(int) (position >>> REGION_BITS)];
+        }
+
+        public int offset(
+            long position)
+        {
+            return (int) (position & REGION_MASK);
+        }
+
+        public int contiguous(
+            long position)
+        {
+            return buffer(position).capacity() - offset(position);
+        }
+
+        /**
+         * Loads the given range of the file into memory, so reading it does not block on page faults.
+         * <p>
+         * Pages may be evicted again under memory pressure, so callers load each range they are about
+         * to send rather than relying on an earlier load.
+         * </p>
+         *
+         * @param position  the file position to load from
+         * @param limit     the file position to load up to
+         */
+        public void load(
+            long position,
+            long limit)
+        {
+            long at = position;
+            while (at < limit)
+            {
+                final MappedByteBuffer region = regions[(int) (at >>> REGION_BITS)];
+                final int offset = (int) (at & REGION_MASK);
+                final int length = (int) Math.min(limit - at, region.capacity() - offset);
+
+                region.slice(offset, length).load();
+                at += length;
+            }
+        }
+    }
+}
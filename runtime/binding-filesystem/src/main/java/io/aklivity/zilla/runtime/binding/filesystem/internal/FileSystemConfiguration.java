@@ -26,12 +26,19 @@ public class FileSystemConfiguration extends Configuration
     private static final ConfigurationDef FILE_SYSTEM_CONFIG;
 
     public static final PropertyDef<URI> FILE_SYSTEM_SERVER_ROOT;
+    public static final PropertyDef<Tag> FILE_SYSTEM_TAG;
+    public static final IntPropertyDef FILE_SYSTEM_CACHE_CAPACITY;
+    public static final IntPropertyDef FILE_SYSTEM_READ_AHEAD;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef(String.format("zilla.binding.%s", NAME));
         FILE_SYSTEM_SERVER_ROOT = config.property(URI.class, "server.root",
             FileSystemConfiguration::decodeServerRoot, new File(".").toURI());
+        FILE_SYSTEM_TAG = config.property(Tag.class, "tag",
+            (c, v) -> Tag.valueOf(v.toUpperCase()), "attributes");
+        FILE_SYSTEM_CACHE_CAPACITY = config.property("cache.capacity", 256);
+        FILE_SYSTEM_READ_AHEAD = config.property("read.ahead", 64 * 1024);
 
         FILE_SYSTEM_CONFIG = config;
     }
@@ -47,9 +54,30 @@ public class FileSystemConfiguration extends Configuration
         return FILE_SYSTEM_SERVER_ROOT.get(this);
     }
 
+    public Tag tag()
+    {
+        return FILE_SYSTEM_TAG.get(this);
+    }
+
+    public int cacheCapacity()
+    {
+        return FILE_SYSTEM_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    public int readAhead()
+    {
+        return FILE_SYSTEM_READ_AHEAD.getAsInt(this);
+    }
+
     private static URI decodeServerRoot(
         String location)
     {
         return location.indexOf(':') != -1 ? URI.create(location) : new File(location).toURI();
     }
+
+    public enum Tag
+    {
+        CONTENT,
+        ATTRIBUTES
+    }
 }
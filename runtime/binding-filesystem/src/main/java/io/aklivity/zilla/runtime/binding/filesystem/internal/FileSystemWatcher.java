@@ -37,6 +37,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
@@ -44,15 +45,19 @@ import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 public class FileSystemWatcher implements Callable<Void>
 {
     private final Map<WatchKey, Set<WatchedFile>> watchedFiles;
+    private final Map<WatchKey, Path> cachedDirectories;
     private final WatchService watchService;
     private final Signaler signaler;
-
+    private final FileSystemCache cache;
 
     public FileSystemWatcher(
-        Signaler signaler)
+        Signaler signaler,
+        FileSystemCache cache)
     {
         this.watchedFiles = new HashMap<>();
+        this.cachedDirectories = new ConcurrentHashMap<>();
         this.signaler = signaler;
+        this.cache = cache;
         this.watchService = createWatchService();
     }
 
@@ -64,6 +69,13 @@ public class FileSystemWatcher implements Callable<Void>
             try
             {
                 final WatchKey watchKey = watchService.take();
+                final Path cachedDirectory = cachedDirectories.get(watchKey);
+                if (cachedDirectory != null)
+                {
+                    watchKey.pollEvents();
+                    cache.invalidateDirectory(cachedDirectory);
+                }
+
                 Set<WatchedFile> changedFiles = watchedFiles.get(watchKey);
                 if (changedFiles != null)
                 {
@@ -75,7 +87,7 @@ public class FileSystemWatcher implements Callable<Void>
                         {
                             changedFile.cancelTimeoutSignal(signaler);
                             changedFile.keys.forEach(watchedFiles::remove);
-                            changedFile.unregister();
+                            changedFile.unregister(cachedDirectories);
                             changedFile.signalChange(signaler);
                         }
                         else
@@ -83,7 +95,7 @@ public class FileSystemWatcher implements Callable<Void>
                             if (changedFile.symlinks.length == 0)
                             {
                                 changedFile.keys.forEach(watchedFiles::remove);
-                                changedFile.unregister();
+                                changedFile.unregister(cachedDirectories);
                                 changedFile.registerWithSymlinks(watchService);
                                 changedFile.keys.forEach(key ->
                                     watchedFiles.computeIfAbsent(key, k -> new HashSet<>()).add(changedFile)
@@ -96,6 +108,11 @@ public class FileSystemWatcher implements Callable<Void>
                         }
                     }
                 }
+
+                if (cachedDirectory != null && !watchKey.reset())
+                {
+                    cachedDirectories.remove(watchKey);
+                }
             }
             catch (InterruptedException | ClosedWatchServiceException ex)
             {
@@ -119,7 +136,26 @@ public class FileSystemWatcher implements Callable<Void>
         WatchedFile watchedFile)
     {
         watchedFile.keys.forEach(watchedFiles::remove);
-        watchedFile.unregister();
+        watchedFile.unregister(cachedDirectories);
+    }
+
+    boolean cache(
+        Path directory)
+    {
+        boolean watched = false;
+
+        try
+        {
+            WatchKey key = directory.register(watchService, ENTRY_MODIFY, ENTRY_CREATE, ENTRY_DELETE);
+            cachedDirectories.put(key, directory);
+            watched = true;
+        }
+        catch (IOException | ClosedWatchServiceException ex)
+        {
+            // not watchable
+        }
+
+        return watched;
     }
 
     public static final class WatchedFile
@@ -251,9 +287,11 @@ public class FileSystemWatcher implements Callable<Void>
             }
         }
 
-        private void unregister()
+        private void unregister(
+            Map<WatchKey, Path> retained)
         {
-            keys.forEach(WatchKey::cancel);
+            // keys shared with cached directories must keep watching
+            keys.stream().filter(k -> !retained.containsKey(k)).forEach(WatchKey::cancel);
             keys.clear();
         }
 
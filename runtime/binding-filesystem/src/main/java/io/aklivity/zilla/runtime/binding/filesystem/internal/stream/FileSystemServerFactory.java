@@ -40,8 +40,6 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributeView;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.function.LongUnaryOperator;
@@ -57,7 +55,9 @@ import org.agrona.collections.Long2ObjectHashMap;
 import io.aklivity.zilla.config.binding.filesystem.FileSystemOptionsConfig;
 import io.aklivity.zilla.config.engine.BindingConfig;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemBinding;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemCache;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemConfiguration;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemConfiguration.Tag;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemWatcher;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.config.FileSystemBindingConfig;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.types.FileSystemCapabilities;
@@ -101,6 +101,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
     private static final int TIMEOUT_EXPIRED_SIGNAL_ID = 0;
     public static final int FILE_CHANGED_SIGNAL_ID = 1;
+    private static final int FILE_READ_SIGNAL_ID = 2;
+    private static final int FILE_RESOLVED_SIGNAL_ID = 3;
     private static final int FLAG_FIN = 0x01;
     private static final int FLAG_INIT = 0x02;
     private static final String DIRECTORY_NAME = "directory";
@@ -142,6 +144,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private final MessageDigest md5;
     private final Signaler signaler;
     private final Supplier<FileSystemWatcher> supplyWatcher;
+    private final FileSystemCache cache;
+    private final Tag tagging;
 
     private final int decodeMax;
 
@@ -150,6 +154,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     public FileSystemServerFactory(
         FileSystemConfiguration config,
         EngineContext context,
+        FileSystemCache cache,
         Supplier<FileSystemWatcher> supplyWatcher)
     {
         this.bufferPool = context.bufferPool();
@@ -166,6 +171,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         this.signaler = context.signaler();
         this.md5 = initMessageDigest("MD5");
         this.supplyWatcher = supplyWatcher;
+        this.cache = cache;
+        this.tagging = config.tag();
         this.decodeMax = bufferPool.slotCapacity();
     }
 
@@ -306,7 +313,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private final String tag;
         private final LinkOption[] symlinks;
         private FileSystemWatcher.WatchedFile watchedFile;
-        private BasicFileAttributes attributes;
+        private FileSystemCache.Entry file;
+        private volatile FileSystemCache.Entry resolved;
+        private boolean prefetching;
+        private long timeout;
         private long initialSeq;
         private long initialAck;
         private int initialMax;
@@ -319,6 +329,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private int replyPad;
         private long replyBud;
         private long replyBytes;
+        private long replyLoaded;
+        private long replyLoading;
         private BudgetDebit replyDebit;
 
         private int state;
@@ -409,44 +421,74 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             state = FileSystemState.openingInitial(state);
 
             doAppWindow(traceId);
-            String currentTag = calculateTag();
-            if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
+            timeout = beginEx != null ? beginEx.timeout() : 0L;
+            resolve(traceId);
+        }
+
+        private void resolve(
+            long traceId)
+        {
+            file = canReadPayload(capabilities) ? cache.lookup(resolvedPath, symlinks) : null;
+
+            if (file == null && canReadPayload(capabilities))
             {
-                doAppBegin(traceId, currentTag);
-                flushAppData(traceId);
+                // stat and map the file off the engine worker
+                signaler.signalTask(() -> resolved = cache.supply(resolvedPath, symlinks),
+                    originId, routedId, replyId, traceId, FILE_RESOLVED_SIGNAL_ID, 0);
             }
             else
             {
-                long timeoutAt = now().toEpochMilli() + beginEx.timeout();
-                long timeoutId = signaler.signalAt(timeoutAt, originId, routedId, replyId, traceId,
-                    TIMEOUT_EXPIRED_SIGNAL_ID, 0);
-                watchedFile = new FileSystemWatcher.WatchedFile(
-                    resolvedPath, symlinks, this::calculateTag, tag, timeoutId, originId, routedId, replyId);
-                fileSystemWatcher.watch(watchedFile);
+                onResolved(traceId);
             }
         }
 
-        private BasicFileAttributes readAttributes()
+        private void onResolved(
+            long traceId)
         {
-            BasicFileAttributes attributes = null;
-            try
+            if (watchedFile == null)
             {
-                BasicFileAttributeView view = Files.getFileAttributeView(resolvedPath, BasicFileAttributeView.class, symlinks);
-                attributes = view.readAttributes();
+                String currentTag = calculateTag();
+                if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
+                {
+                    doAppBegin(traceId, currentTag);
+                    flushAppData(traceId);
+                }
+                else
+                {
+                    long timeoutAt = now().toEpochMilli() + timeout;
+                    long timeoutId = signaler.signalAt(timeoutAt, originId, routedId, replyId, traceId,
+                        TIMEOUT_EXPIRED_SIGNAL_ID, 0);
+                    watchedFile = new FileSystemWatcher.WatchedFile(
+                        resolvedPath, symlinks, this::computeTag, tag, timeoutId, originId, routedId, replyId);
+                    fileSystemWatcher.watch(watchedFile);
+                }
             }
-            catch (IOException ex)
+            else
             {
-                // reject
+                flushAppData(traceId);
+                fileSystemWatcher.unregister(watchedFile);
             }
-            return attributes;
         }
 
         private String calculateTag()
+        {
+            return tagging == Tag.ATTRIBUTES
+                ? file != null ? file.tag() : null
+                : calculateContentTag();
+        }
+
+        private String computeTag()
+        {
+            return tagging == Tag.ATTRIBUTES
+                ? canReadPayload(capabilities) ? FileSystemCache.tag(resolvedPath, symlinks) : null
+                : calculateContentTag();
+        }
+
+        private String calculateContentTag()
         {
             String newTag = null;
-            try
+            try (InputStream input = getInputStream())
             {
-                InputStream input = getInputStream();
                 if (input != null)
                 {
                     final byte[] readArray = readBuffer.byteArray();
@@ -581,16 +623,26 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             switch (signal.signalId())
             {
             case FILE_CHANGED_SIGNAL_ID:
-                flushAppData(traceId);
+                resolve(traceId);
+                break;
+            case FILE_RESOLVED_SIGNAL_ID:
+                file = resolved;
+                resolved = null;
+                onResolved(traceId);
                 break;
             case TIMEOUT_EXPIRED_SIGNAL_ID:
                 doAppBegin(traceId, tag, 0);
                 doAppEnd(traceId);
+                fileSystemWatcher.unregister(watchedFile);
+                break;
+            case FILE_READ_SIGNAL_ID:
+                prefetching = false;
+                replyLoaded = replyLoading;
+                flushAppData(traceId);
                 break;
             default:
                 break;
             }
-            fileSystemWatcher.unregister(watchedFile);
         }
 
         private void doAppBegin(
@@ -606,10 +658,9 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             int capabilities)
         {
             state = FileSystemState.openingReply(state);
-            attributes = readAttributes();
 
-            long size = (capabilities & READ_DIRECTORY_MASK) == 0 && attributes != null
-                ? attributes.size()
+            long size = (capabilities & READ_DIRECTORY_MASK) == 0 && file != null
+                ? file.size()
                 : FileSystemBeginExFW.Builder.DEFAULT_PAYLOAD_SIZE;
 
             FileSystemBeginExFW extension = beginExRW
@@ -747,61 +798,79 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                             }
                         }
                     }
+                    else if (file != null)
+                    {
+                        flushAppFile(traceId, replyWin);
+                    }
                     else
                     {
-                        InputStream input = getInputStream();
-
-                        if (input != null)
-                        {
-                            input.skip(replyBytes);
-                        }
+                        doAppEnd(traceId);
+                    }
+                }
+                catch (Exception ex)
+                {
+                    doAppAbort(traceId);
+                }
+            }
+        }
 
-                        int available = input != null ? input.available() : 0;
+        private void flushAppFile(
+            long traceId,
+            int replyWin)
+        {
+            final FileSystemCache.Entry file = this.file;
+            final long size = file.size();
+            final long loaded = replyLoaded;
+            final long wanted = Math.min(size, replyBytes + cache.readAhead());
 
-                        if (available > 0)
-                        {
-                            int reserved = Math.min(replyWin, available + replyPad);
-                            int length = Math.max(reserved - replyPad, 0);
+            if (loaded < wanted && !prefetching)
+            {
+                // always load the window this stream is about to send, pages loaded earlier may have been evicted
+                prefetching = true;
+                replyLoading = wanted;
+                signaler.signalTask(() -> file.load(loaded, wanted),
+                    originId, routedId, replyId, traceId, FILE_READ_SIGNAL_ID, 0);
+            }
 
-                            if (length > 0 && replyDebit != null)
-                            {
-                                final int minimum = Math.min(bufferPool.slotCapacity(), reserved); // TODO: fragmentation
-                                reserved = replyDebit.claim(traceId, minimum, reserved);
-                                length = Math.max(reserved - replyPad, 0);
-                            }
+            final long available = Math.min(loaded, size) - replyBytes;
 
-                            if (length > 0)
-                            {
-                                final byte[] readArray = readBuffer.byteArray();
-                                int bytesRead = input.read(readArray, 0, Math.min(readArray.length, length));
-                                if (bytesRead != -1)
-                                {
-                                    OctetsFW payload = payloadRO.wrap(readBuffer, 0, bytesRead);
+            if (available > 0 && !FileSystemState.replyClosed(state))
+            {
+                final int contiguous = (int) Math.min(available, file.contiguous(replyBytes));
+                int reserved = Math.min(replyWin, Math.min(contiguous, readBuffer.capacity()) + replyPad);
+                int length = Math.max(reserved - replyPad, 0);
 
-                                    doAppData(traceId, reserved, payload);
+                if (length > 0 && replyDebit != null)
+                {
+                    final int minimum = Math.min(bufferPool.slotCapacity(), reserved); // TODO: fragmentation
+                    reserved = replyDebit.claim(traceId, minimum, reserved);
+                    length = Math.max(reserved - replyPad, 0);
+                }
 
-                                    replyBytes += bytesRead;
+                if (length > 0)
+                {
+                    try
+                    {
+                        final int offset = file.offset(replyBytes);
+                        OctetsFW payload = payloadRO.wrap(file.buffer(replyBytes), offset, offset + length);
 
-                                    if (replyBytes == attributes.size())
-                                    {
-                                        input.close();
-                                        input = null;
-                                        replyBytes = 0;
-                                    }
-                                }
-                            }
-                        }
+                        doAppData(traceId, reserved, payload);
 
-                        if (available <= 0 || input == null)
-                        {
-                            doAppEnd(traceId);
-                        }
+                        replyBytes += length;
+                    }
+                    catch (InternalError ex)
+                    {
+                        // mapped file truncated
+                        doAppAbort(traceId);
                     }
                 }
-                catch (Exception ex)
-                {
-                    doAppAbort(traceId);
-                }
+            }
+
+            if (replyBytes == size)
+            {
+                replyBytes = 0;
+                replyLoaded = 0;
+                doAppEnd(traceId);
             }
         }
     }
@@ -1054,6 +1123,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                         {
                             Files.move(tmpPath, resolvedPath, REPLACE_EXISTING, ATOMIC_MOVE);
                         }
+                        cache.invalidate(resolvedPath);
 
                         String currentTag = calculateTag();
                         doAppBegin(traceId, currentTag);
@@ -1250,11 +1320,17 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         }
 
         private String calculateTag()
+        {
+            return tagging == Tag.ATTRIBUTES
+                ? FileSystemCache.tag(resolvedPath, symlinks)
+                : calculateContentTag();
+        }
+
+        private String calculateContentTag()
         {
             String newTag = null;
-            try
+            try (InputStream input = getInputStream())
             {
-                InputStream input = getInputStream();
                 if (input != null)
                 {
                     md5.reset();
@@ -1325,6 +1401,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 if ((capabilities & DELETE_FILE_MASK) != 0 || (capabilities & DELETE_DIRECTORY_MASK) != 0)
                 {
                     Files.delete(resolvedPath);
+                    cache.invalidate(resolvedPath);
                     processed = true;
                 }
                 else if ((capabilities & CREATE_DIRECTORY_MASK) != 0)
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
+
+public class FileSystemCacheTest
+{
+    private static final LinkOption[] LINK_OPTIONS_NONE = new LinkOption[0];
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private FileSystemCache cache;
+
+    @Before
+    public void start()
+    {
+        cache = new FileSystemCache(16, 4096);
+        cache.start(new FileSystemWatcher(mock(Signaler.class), cache));
+    }
+
+    @After
+    public void stop()
+    {
+        cache.stop();
+    }
+
+    @Test
+    public void shouldLoadMappedFile() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.writeString(path, "Hello World", UTF_8);
+
+        FileSystemCache.Entry entry = cache.supply(path, LINK_OPTIONS_NONE);
+        entry.load(0L, entry.size());
+
+        assertThat(entry.size(), equalTo(11L));
+        assertThat(entry.buffer(0L).getStringWithoutLengthUtf8(entry.offset(0L), 11), equalTo("Hello World"));
+    }
+
+    @Test
+    public void shouldLookupOnlySuppliedEntry() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.writeString(path, "Hello World", UTF_8);
+
+        assertThat(cache.lookup(path, LINK_OPTIONS_NONE), nullValue());
+
+        FileSystemCache.Entry entry = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertThat(cache.lookup(path, LINK_OPTIONS_NONE), sameInstance(entry));
+        assertThat(cache.lookup(path, new LinkOption[] { LinkOption.NOFOLLOW_LINKS }), nullValue());
+    }
+
+    @Test
+    public void shouldRetainEntryUntilInvalidated() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.writeString(path, "Hello World", UTF_8);
+
+        FileSystemCache.Entry entry = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertThat(cache.supply(path, LINK_OPTIONS_NONE), sameInstance(entry));
+
+        Files.writeString(path, "Hello World!", UTF_8);
+        cache.invalidate(path);
+
+        FileSystemCache.Entry updated = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertThat(updated, not(sameInstance(entry)));
+        assertThat(updated.size(), equalTo(12L));
+        assertThat(updated.tag(), not(equalTo(entry.tag())));
+        assertThat(updated.tag(), equalTo(FileSystemCache.tag(path, LINK_OPTIONS_NONE)));
+    }
+
+    @Test
+    public void shouldNotSupplyDirectory() throws Exception
+    {
+        Path path = folder.newFolder("directory").toPath();
+
+        assertThat(cache.supply(path, LINK_OPTIONS_NONE), nullValue());
+    }
+}
@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemConfiguration.FILE_SYSTEM_TAG;
 import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
@@ -32,6 +33,7 @@ import org.junit.rules.Timeout;
 
 import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemConfiguration.Tag;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
 
@@ -45,6 +47,7 @@ public class FileSystemServerIT
     private final EngineRule engine = new EngineRule()
         .directory("target/zilla-itests")
         .countersBufferCapacity(8192)
+        .configure(FILE_SYSTEM_TAG, Tag.CONTENT)
         .configurationRoot("io/aklivity/zilla/specs/binding/filesystem/config")
         .external("app0")
         .clean();
@@ -35,6 +35,8 @@ public class HttpConfiguration extends Configuration
     public static final IntPropertyDef HTTP_MAX_CONCURRENT_STREAMS_CLEANUP;
     public static final IntPropertyDef HTTP_STREAMS_CLEANUP_DELAY;
     public static final IntPropertyDef HTTP_MAX_CONCURRENT_APPLICATION_HEADERS;
+    public static final IntPropertyDef HTTP_COMPRESSION_LEVEL;
+    public static final IntPropertyDef HTTP_COMPRESSION_ENCODERS;
     public static final PropertyDef<String> HTTP_SERVER_HEADER;
     public static final PropertyDef<String> HTTP_USER_AGENT_HEADER;
     public static final BooleanPropertyDef HTTP_VERBOSE;
@@ -55,6 +57,8 @@ public class HttpConfiguration extends Configuration
         HTTP_MAX_CONCURRENT_STREAMS_CLEANUP = config.property("max.concurrent.streams.cleanup", 1000);
         HTTP_STREAMS_CLEANUP_DELAY = config.property("streams.cleanup.delay", 100);
         HTTP_MAX_CONCURRENT_APPLICATION_HEADERS = config.property("max.concurrent.application.headers", 10000);
+        HTTP_COMPRESSION_LEVEL = config.property("compression.level", 6);
+        HTTP_COMPRESSION_ENCODERS = config.property("compression.encoders", 64);
         HTTP_VERBOSE = config.property("verbose", HttpConfiguration::verboseDefault);
         HTTP_CONFIG = config;
     }
@@ -117,6 +121,16 @@ public class HttpConfiguration extends Configuration
         return HTTP_MAX_CONCURRENT_APPLICATION_HEADERS.getAsInt(this);
     }
 
+    public int compressionLevel()
+    {
+        return HTTP_COMPRESSION_LEVEL.getAsInt(this);
+    }
+
+    public int compressionEncoders()
+    {
+        return HTTP_COMPRESSION_ENCODERS.getAsInt(this);
+    }
+
     public String16FW serverHeader()
     {
         return serverHeader;
@@ -89,6 +89,7 @@ public final class HttpBindingConfig
     public final List<HttpRequestType> requests;
     public final Map<String8FW, String16FW> overrides;
     private final HttpAccessControlResolver accessResolver;
+    private final HttpRouteResolver routeResolver;
 
     public HttpBindingConfig(
         EngineContext context,
@@ -100,9 +101,13 @@ public final class HttpBindingConfig
         this.kind = binding.kind;
         this.options = HttpOptionsConfig.class.cast(binding.options);
         this.overrides = new HttpOverridesResolver(options != null ? options.overrides : null).overrides;
+        final HttpCompressionResolver compressionResolver = options != null && options.compression != null
+            ? new HttpCompressionResolver(options.compression)
+            : null;
         this.routes = binding.routes.stream().map(route ->
-            new HttpRouteConfig(context, route, overrides))
+            new HttpRouteConfig(context, route, overrides, compressionResolver))
             .collect(toList());
+        this.routeResolver = new HttpRouteResolver(routes);
         this.accessResolver = options != null && options.access != null
             ? new HttpAccessControlResolver(options.access)
             : DEFAULT_ACCESS_CONTROL_RESOLVER;
@@ -121,10 +126,7 @@ public final class HttpBindingConfig
         long authorization,
         Function<String, String> headerByName)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization, headerByName) && r.matches(headerByName))
-            .findFirst()
-            .orElse(null);
+        return routeResolver.resolve(authorization, headerByName);
     }
 
     public SortedSet<HttpVersion>  versions()
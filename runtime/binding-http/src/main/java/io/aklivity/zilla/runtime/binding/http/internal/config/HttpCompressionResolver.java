@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfig;
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfigBuilder;
+
+public final class HttpCompressionResolver
+{
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_DEFLATE = "deflate";
+
+    private static final List<String> DEFAULT_ENCODINGS = List.of(ENCODING_GZIP, ENCODING_DEFLATE);
+    private static final List<String> DEFAULT_TYPES = List.of(
+        "text/*",
+        "application/json",
+        "application/javascript",
+        "application/xml",
+        "image/svg+xml");
+
+    private static final String WILDCARD = "*";
+
+    private final List<String> encodings;
+    private final int minSize;
+    private final List<Predicate<String>> types;
+
+    public HttpCompressionResolver(
+        HttpCompressionConfig compression)
+    {
+        this(compression.encodings != null ? compression.encodings : DEFAULT_ENCODINGS,
+            compression.minSize != null ? compression.minSize : HttpCompressionConfigBuilder.MIN_SIZE_DEFAULT,
+            asMatchers(compression.types != null ? compression.types : DEFAULT_TYPES));
+    }
+
+    private HttpCompressionResolver(
+        List<String> encodings,
+        int minSize,
+        List<Predicate<String>> types)
+    {
+        this.encodings = encodings;
+        this.minSize = minSize;
+        this.types = types;
+    }
+
+    public HttpCompressionResolver override(
+        HttpCompressionConfig compression)
+    {
+        return compression != null
+            ? new HttpCompressionResolver(encodings,
+                compression.minSize != null ? compression.minSize : minSize,
+                compression.types != null ? asMatchers(compression.types) : types)
+            : this;
+    }
+
+    public String negotiate(
+        String acceptEncoding)
+    {
+        String encoding = null;
+
+        if (acceptEncoding != null && !acceptEncoding.isEmpty())
+        {
+            final String[] accepts = acceptEncoding.split(",");
+
+            float wildcardQ = 0.0f;
+            for (String accept : accepts)
+            {
+                if (WILDCARD.equals(codingOf(accept)))
+                {
+                    wildcardQ = qualityOf(accept);
+                }
+            }
+
+            float encodingQ = 0.0f;
+            for (String candidate : encodings)
+            {
+                float candidateQ = wildcardQ;
+                for (String accept : accepts)
+                {
+                    if (candidate.equalsIgnoreCase(codingOf(accept)))
+                    {
+                        candidateQ = qualityOf(accept);
+                        break;
+                    }
+                }
+
+                if (candidateQ > encodingQ)
+                {
+                    encoding = candidate;
+                    encodingQ = candidateQ;
+                }
+            }
+        }
+
+        return encoding;
+    }
+
+    public boolean compressible(
+        String contentType,
+        long contentLength)
+    {
+        boolean compressible = contentLength == -1L || contentLength >= minSize;
+
+        if (compressible)
+        {
+            final String mediaType = contentType != null ? mediaTypeOf(contentType) : null;
+            compressible = mediaType != null && types.stream().anyMatch(t -> t.test(mediaType));
+        }
+
+        return compressible;
+    }
+
+    private static String codingOf(
+        String accept)
+    {
+        final int semicolon = accept.indexOf(';');
+        final String coding = semicolon != -1 ? accept.substring(0, semicolon) : accept;
+        return coding.trim();
+    }
+
+    private static float qualityOf(
+        String accept)
+    {
+        float quality = 1.0f;
+
+        final String[] params = accept.split(";");
+        for (int i = 1; i < params.length; i++)
+        {
+            final String param = params[i].trim();
+            if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=')
+            {
+                try
+                {
+                    quality = Float.parseFloat(param.substring(2));
+                }
+                catch (NumberFormatException ex)
+                {
+                    quality = 0.0f;
+                }
+            }
+        }
+
+        return quality;
+    }
+
+    private static String mediaTypeOf(
+        String contentType)
+    {
+        final int semicolon = contentType.indexOf(';');
+        final String mediaType = semicolon != -1 ? contentType.substring(0, semicolon) : contentType;
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Predicate<String>> asMatchers(
+        List<String> types)
+    {
+        return types.stream()
+            .map(HttpCompressionResolver::asMatcher)
+            .collect(toList());
+    }
+
+    private static Predicate<String> asMatcher(
+        String type)
+    {
+        final String pattern = type.trim().toLowerCase(Locale.ROOT);
+
+        Predicate<String> matcher;
+        if ("*/*".equals(pattern) || WILDCARD.equals(pattern))
+        {
+            matcher = t -> true;
+        }
+        else if (pattern.endsWith("/*"))
+        {
+            final String prefix = pattern.substring(0, pattern.length() - 1);
+            matcher = t -> t.startsWith(prefix);
+        }
+        else
+        {
+            matcher = pattern::equals;
+        }
+
+        return matcher;
+    }
+}
@@ -26,13 +26,20 @@ import io.aklivity.zilla.config.binding.http.HttpConditionConfig;
 
 public final class HttpConditionMatcher
 {
+    private static final String HEADER_PATH = ":path";
+    private static final String PATTERN_CHARS = "*{}\\^$|?+()[]";
+
+    private final Map<String, String> headers;
     private final Map<String, Matcher> headersMatch;
+    private final Map<String, String> headersLiteral;
     private Consumer<HttpConditionMatcher> observer;
 
     public HttpConditionMatcher(
         HttpConditionConfig condition)
     {
+        this.headers = condition.headers;
         this.headersMatch = condition.headers != null ? asMatcherMap(condition.headers) : null;
+        this.headersLiteral = condition.headers != null ? asLiteralMap(condition.headers) : null;
     }
 
     public void observe(
@@ -54,7 +61,7 @@ public final class HttpConditionMatcher
     public String parameter(
         String name)
     {
-        return headersMatch.get(":path").group(name);
+        return headersMatch.get(HEADER_PATH).group(name);
     }
 
     public boolean matches(
@@ -67,15 +74,65 @@ public final class HttpConditionMatcher
             for (Map.Entry<String, Matcher> entry : headersMatch.entrySet())
             {
                 String name = entry.getKey();
-                Matcher matcher = entry.getValue();
+                String literal = headersLiteral.get(name);
                 String value = headerByName.apply(name);
-                match &= value != null && matcher.reset(value).matches();
+                match &= value != null && (literal != null
+                    ? matchesLiteral(name, literal, value)
+                    : entry.getValue().reset(value).matches());
             }
         }
 
         return match && observeMatched();
     }
 
+    String prefix(
+        String header)
+    {
+        String wildcard = headers != null ? headers.get(header) : null;
+        return wildcard != null ? literalPrefix(wildcard) : null;
+    }
+
+    String literal(
+        String header)
+    {
+        return headersLiteral != null ? headersLiteral.get(header) : null;
+    }
+
+    private static boolean matchesLiteral(
+        String header,
+        String literal,
+        String value)
+    {
+        return HEADER_PATH.equals(header)
+            ? value.startsWith(literal) && (value.length() == literal.length() || value.charAt(literal.length()) == '?')
+            : value.equals(literal);
+    }
+
+    private static Map<String, String> asLiteralMap(
+        Map<String, String> patterns)
+    {
+        Map<String, String> literals = new LinkedHashMap<>();
+        patterns.forEach((k, v) ->
+        {
+            if (literalPrefix(v).length() == v.length())
+            {
+                literals.put(k, v);
+            }
+        });
+        return literals;
+    }
+
+    private static String literalPrefix(
+        String wildcard)
+    {
+        int length = 0;
+        while (length < wildcard.length() && PATTERN_CHARS.indexOf(wildcard.charAt(length)) == -1)
+        {
+            length++;
+        }
+        return wildcard.substring(0, length);
+    }
+
     private static Map<String, Matcher> asMatcherMap(
         Map<String, String> patterns)
     {
@@ -93,7 +150,7 @@ public final class HttpConditionMatcher
             .replace("*", ".*")
             .replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>.+)");
 
-        if (":path".equals(header) && !pattern.endsWith(".*"))
+        if (HEADER_PATH.equals(header) && !pattern.endsWith(".*"))
         {
             pattern = pattern + "(\\?.*)?";
         }
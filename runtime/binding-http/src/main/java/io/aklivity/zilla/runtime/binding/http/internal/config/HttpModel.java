@@ -32,7 +32,9 @@ import io.aklivity.zilla.runtime.engine.model.ModelTransform;
  * pipeline and the produced (possibly changed) bytes are exposed via {@link #buffer} / {@link #produced}
  * for the caller to substitute downstream, or {@code -1} signals the model rejected it. Streaming content
  * is transformed via {@link #transform(long, long, long, int, DirectBufferEx, int, int, int)}: each fragment is
- * driven through the pipeline and the produced bytes are exposed for the caller to forward downstream.
+ * driven through the pipeline and the produced bytes are exposed for the caller to forward downstream,
+ * once {@link #prepare} reports the pipeline ready at the start of the content; until then the caller parks
+ * the stream and prepares again when signaled.
  * </p>
  */
 public final class HttpModel
@@ -123,6 +125,21 @@ public final class HttpModel
         return total;
     }
 
+    public boolean prepare(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int limit)
+    {
+        return pipeline == null ||
+            pipeline.prepare(traceId, originId, routedId, streamId, signalId, contextId, data, index, limit - index);
+    }
+
     public int transform(
         long traceId,
         long bindingId,
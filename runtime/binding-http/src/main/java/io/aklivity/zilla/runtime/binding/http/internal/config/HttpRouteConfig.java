@@ -44,14 +44,22 @@ public final class HttpRouteConfig
     private final HttpWithResolver with;
     private final LongObjectPredicate<UnaryOperator<String>> authorized;
     private final Map<String8FW, String16FW> overrides;
+    private final HttpCompressionResolver compressionResolver;
 
     public HttpRouteConfig(
         EngineContext context,
         RouteConfig route,
-        Map<String8FW, String16FW> overrides)
+        Map<String8FW, String16FW> overrides,
+        HttpCompressionResolver compressionResolver)
     {
         this.context = context;
         this.id = route.id;
+        this.compressionResolver = compressionResolver != null
+            ? compressionResolver.override(Optional.ofNullable(route.with)
+                .map(HttpWithConfig.class::cast)
+                .map(w -> w.compression)
+                .orElse(null))
+            : null;
         this.with = Optional.ofNullable(route.with)
             .map(HttpWithConfig.class::cast)
             .map(HttpWithResolver::new)
@@ -98,6 +106,11 @@ public final class HttpRouteConfig
         return overrides;
     }
 
+    public HttpCompressionResolver compressionResolver()
+    {
+        return compressionResolver;
+    }
+
     boolean authorized(
         long authorization,
         Function<String, String> headerByName)
@@ -113,6 +126,11 @@ public final class HttpRouteConfig
         return authorized.test(authorization, resolve);
     }
 
+    List<HttpConditionMatcher> when()
+    {
+        return when;
+    }
+
     boolean matches(
         Function<String, String> headerByName)
     {
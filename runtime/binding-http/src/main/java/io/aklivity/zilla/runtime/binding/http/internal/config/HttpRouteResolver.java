@@ -0,0 +1,268 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Index over the {@code :path}, {@code :method} and {@code :authority} conditions of a binding's routes,
+ * built once at attach time.
+ * <p>
+ * A radix tree keyed by the literal prefix of each {@code :path} condition selects the candidate
+ * conditions in a single pass over the request path, and literal {@code :method} and {@code :authority}
+ * conditions discard candidates before any pattern is evaluated. Only the remaining candidates, plus
+ * routes whose conditions cannot be indexed, are checked in route order against their full condition.
+ * </p>
+ */
+public final class HttpRouteResolver
+{
+    private static final String HEADER_AUTHORITY = ":authority";
+    private static final String HEADER_METHOD = ":method";
+    private static final String HEADER_PATH = ":path";
+
+    private static final int[] NO_ENTRIES = new int[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final List<HttpRouteConfig> routes;
+    private final Node root;
+    private final BitSet unindexed;
+    private final BitSet candidates;
+    private final int[] entryRoutes;
+    private final String[] entryMethods;
+    private final String[] entryAuthorities;
+
+    public HttpRouteResolver(
+        List<HttpRouteConfig> routes)
+    {
+        this.routes = routes;
+        this.root = new Node("");
+        this.unindexed = new BitSet(routes.size());
+        this.candidates = new BitSet(routes.size());
+
+        int entries = 0;
+        for (HttpRouteConfig route : routes)
+        {
+            entries += route.when().size();
+        }
+
+        this.entryRoutes = new int[entries];
+        this.entryMethods = new String[entries];
+        this.entryAuthorities = new String[entries];
+
+        int entry = 0;
+        for (int index = 0; index < routes.size(); index++)
+        {
+            final List<HttpConditionMatcher> when = routes.get(index).when();
+
+            if (when.isEmpty())
+            {
+                unindexed.set(index);
+            }
+
+            for (HttpConditionMatcher condition : when)
+            {
+                final String prefix = condition.prefix(HEADER_PATH);
+                if (prefix != null)
+                {
+                    entryRoutes[entry] = index;
+                    entryMethods[entry] = condition.literal(HEADER_METHOD);
+                    entryAuthorities[entry] = condition.literal(HEADER_AUTHORITY);
+                    root.insert(prefix, condition.literal(HEADER_PATH) != null, entry);
+                    entry++;
+                }
+                else
+                {
+                    unindexed.set(index);
+                }
+            }
+        }
+    }
+
+    public HttpRouteConfig resolve(
+        long authorization,
+        Function<String, String> headerByName)
+    {
+        final BitSet candidates = this.candidates;
+        candidates.clear();
+        candidates.or(unindexed);
+
+        final String path = headerByName.apply(HEADER_PATH);
+        if (path != null)
+        {
+            final String method = headerByName.apply(HEADER_METHOD);
+            final String authority = headerByName.apply(HEADER_AUTHORITY);
+
+            Node node = root;
+            int offset = 0;
+            while (node != null)
+            {
+                select(node.prefixes, method, authority);
+
+                if (offset == path.length() || path.charAt(offset) == '?')
+                {
+                    select(node.exacts, method, authority);
+                }
+
+                final Node child = offset < path.length() ? node.child(path.charAt(offset)) : null;
+                if (child != null && path.startsWith(child.edge, offset))
+                {
+                    offset += child.edge.length();
+                    node = child;
+                }
+                else
+                {
+                    node = null;
+                }
+            }
+        }
+
+        HttpRouteConfig resolved = null;
+        for (int index = candidates.nextSetBit(0); index != -1; index = candidates.nextSetBit(index + 1))
+        {
+            final HttpRouteConfig route = routes.get(index);
+            if (route.authorized(authorization, headerByName) && route.matches(headerByName))
+            {
+                resolved = route;
+                break;
+            }
+        }
+
+        return resolved;
+    }
+
+    private void select(
+        int[] entries,
+        String method,
+        String authority)
+    {
+        for (int entry : entries)
+        {
+            final String entryMethod = entryMethods[entry];
+            final String entryAuthority = entryAuthorities[entry];
+            if ((entryMethod == null || entryMethod.equals(method)) &&
+                (entryAuthority == null || entryAuthority.equals(authority)))
+            {
+                candidates.set(entryRoutes[entry]);
+            }
+        }
+    }
+
+    private static final class Node
+    {
+        private String edge;
+        private Node[] children;
+        private int[] prefixes;
+        private int[] exacts;
+
+        private Node(
+            String edge)
+        {
+            this.edge = edge;
+            this.children = NO_CHILDREN;
+            this.prefixes = NO_ENTRIES;
+            this.exacts = NO_ENTRIES;
+        }
+
+        private Node child(
+            char first)
+        {
+            Node found = null;
+            for (int i = 0; found == null && i < children.length; i++)
+            {
+                found = children[i].edge.charAt(0) == first ? children[i] : null;
+            }
+            return found;
+        }
+
+        private void insert(
+            String key,
+            boolean exact,
+            int entry)
+        {
+            Node node = this;
+            int offset = 0;
+
+            while (offset < key.length())
+            {
+                Node child = node.child(key.charAt(offset));
+                if (child == null)
+                {
+                    child = new Node(key.substring(offset));
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.children[node.children.length - 1] = child;
+                }
+                else
+                {
+                    int common = 0;
+                    while (common < child.edge.length() &&
+                        offset + common < key.length() &&
+                        child.edge.charAt(common) == key.charAt(offset + common))
+                    {
+                        common++;
+                    }
+
+                    if (common < child.edge.length())
+                    {
+                        child = node.split(child, common);
+                    }
+                }
+
+                offset += child.edge.length();
+                node = child;
+            }
+
+            if (exact)
+            {
+                node.exacts = append(node.exacts, entry);
+            }
+            else
+            {
+                node.prefixes = append(node.prefixes, entry);
+            }
+        }
+
+        private Node split(
+            Node child,
+            int length)
+        {
+            final Node parent = new Node(child.edge.substring(0, length));
+            child.edge = child.edge.substring(length);
+            parent.children = new Node[] { child };
+
+            for (int i = 0; i < children.length; i++)
+            {
+                if (children[i] == child)
+                {
+                    children[i] = parent;
+                }
+            }
+
+            return parent;
+        }
+
+        private static int[] append(
+            int[] entries,
+            int entry)
+        {
+            final int[] appended = Arrays.copyOf(entries, entries.length + 1);
+            appended[entries.length] = entry;
+            return appended;
+        }
+    }
+}
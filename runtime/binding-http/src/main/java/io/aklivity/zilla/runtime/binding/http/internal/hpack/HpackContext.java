@@ -17,14 +17,12 @@ package io.aklivity.zilla.runtime.binding.http.internal.hpack;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.Arrays;
 
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 
 public class HpackContext
@@ -108,21 +106,42 @@ public class HpackContext
     public static final DirectBufferEx UPGRADE = new UnsafeBufferEx("upgrade".getBytes(UTF_8));
     public static final DirectBufferEx DEFAULT_ACCESS_CONTROL_ALLOW_ORIGIN = new UnsafeBufferEx("*".getBytes(UTF_8));
 
-    // Dynamic table. Entries are added at the end (since it is in reverse order,
-    // need to calculate the index accordingly)
-    /* private */ final List<HeaderField> table = new ArrayList<>();
-    /* private */ int tableSize;
+    private static final int ENTRY_OVERHEAD = 32;
+    private static final long NO_ENTRY = -1L;
 
     // No need to update the following index maps for decoding context
     private final boolean encoding;
 
-    // name --> uniquie id (stable across evictions) for dynamic entries.
-    // Used during encoding
-    private final Map<DirectBufferEx, Long> name2Index = new HashMap<>();
+    private final UnsafeBufferEx nameRO = new UnsafeBufferEx();
+    private final UnsafeBufferEx valueRO = new UnsafeBufferEx();
+    private final UnsafeBufferEx lookupNameRO = new UnsafeBufferEx();
+
+    // Dynamic table header bytes, laid out from oldest to newest entry between
+    // bufferHead and bufferTail, compacted to the start of the buffer when full
+    private MutableDirectBufferEx buffer;
+    private MutableDirectBufferEx scratch;
+    private int bufferHead;
+    private int bufferTail;
+
+    // Dynamic table entries, ring indexed by unique id (stable across evictions).
+    // Entries are added with increasing id, live ids are [noEvictions, noEvictions + entries)
+    private int[] entryOffsets;
+    private int[] nameLengths;
+    private int[] valueLengths;
+    private int[] nameHashes;
+    private int[] nameValueHashes;
+    private int entryMask;
+    private int entries;
+
+    // hash --> newest unique id, chained to older ids with the same hash.
+    // Used during encoding, evicted ids are skipped as chains are walked newest to oldest
+    private long[] nameBuckets;
+    private long[] nameValueBuckets;
+    private long[] nameChain;
+    private long[] nameValueChain;
+    private int bucketMask;
 
-    // (name, value) --> uniquie id (stable across evictions) for dynamic entries.
-    // Used during encoding
-    private final Map<NameValue, Long> namevalue2Index = new HashMap<>();
+    /* private */ int tableSize;
 
     private int maxTableSize;
 
@@ -134,7 +153,6 @@ public class HpackContext
     {
         private final DirectBufferEx name;
         private final DirectBufferEx value;
-        private int size;
 
         HeaderField(String name, String value)
         {
@@ -145,7 +163,6 @@ public class HpackContext
         {
             this.name = requireNonNull(name);
             this.value = requireNonNull(value);
-            this.size = name.capacity() + value.capacity() + 32;
         }
 
         private static DirectBufferEx buffer(String str)
@@ -163,6 +180,8 @@ public class HpackContext
     {
         this.maxTableSize = maxTableSize;
         this.encoding = encoding;
+        this.noEvictions = 0L;
+        allocate(maxTableSize);
     }
 
     void add(String name, String value)
@@ -175,37 +194,70 @@ public class HpackContext
 
     public void add(DirectBufferEx nameBuffer, DirectBufferEx valueBuffer)
     {
-        HeaderField header = new HeaderField(nameBuffer, valueBuffer);
+        final int nameLength = nameBuffer.capacity();
+        final int valueLength = valueBuffer.capacity();
+        final int size = nameLength + valueLength + ENTRY_OVERHEAD;
 
         // See if the header can be added to dynamic table. Calculate the
         // number of entries to be evicted to make space in the table.
         int noEntries = 0;
-        int wouldbeSize = tableSize + header.size;
-        while (noEntries < table.size() && wouldbeSize > maxTableSize)
+        int wouldbeSize = tableSize + size;
+        while (noEntries < entries && wouldbeSize > maxTableSize)
         {
-            wouldbeSize -= table.get(noEntries).size;
+            wouldbeSize -= entrySize(noEvictions + noEntries);
             noEntries++;
         }
+
+        // After evicting older entries, add the current one if space available
+        boolean spaceAvailable = wouldbeSize <= maxTableSize;
+        if (spaceAvailable)
+        {
+            // name and value may refer to an entry that is about to be evicted
+            scratch.putBytes(0, nameBuffer, 0, nameLength);
+            scratch.putBytes(nameLength, valueBuffer, 0, valueLength);
+        }
+
         if (noEntries > 0)
         {
             evict(noEntries);
         }
 
-        // After evicting older entries, add the current one if space available
-        boolean spaceAvailable = wouldbeSize <= maxTableSize;
         if (spaceAvailable)
         {
-            if (encoding)
+            final int length = nameLength + valueLength;
+            if (bufferTail + length > buffer.capacity())
             {
-                long id = noEvictions + table.size();
+                compact();
+            }
+
+            final long id = noEvictions + entries;
+            final int slot = (int) id & entryMask;
+            final int offset = bufferTail;
+
+            buffer.putBytes(offset, scratch, 0, length);
+            bufferTail += length;
 
-                name2Index.putIfAbsent(header.name, id);
+            entryOffsets[slot] = offset;
+            nameLengths[slot] = nameLength;
+            valueLengths[slot] = valueLength;
+            entries++;
+            tableSize += size;
 
-                NameValue nameValue = new NameValue(header.name, header.value);
-                namevalue2Index.putIfAbsent(nameValue, id);
+            if (encoding)
+            {
+                final int nameHash = hash(buffer, offset, nameLength);
+                final int nameValueHash = hash(nameHash, buffer, offset + nameLength, valueLength);
+                nameHashes[slot] = nameHash;
+                nameValueHashes[slot] = nameValueHash;
+
+                final int nameBucket = nameHash & bucketMask;
+                nameChain[slot] = nameBuckets[nameBucket];
+                nameBuckets[nameBucket] = id;
+
+                final int nameValueBucket = nameValueHash & bucketMask;
+                nameValueChain[slot] = nameValueBuckets[nameValueBucket];
+                nameValueBuckets[nameValueBucket] = id;
             }
-            table.add(header);
-            tableSize += header.size;
         }
     }
 
@@ -215,57 +267,60 @@ public class HpackContext
         {
             // Calculate the number of entries to be evicted so that table size is
             // under new max table size
-            int wouldbeSize = maxTableSize;
+            int wouldbeSize = tableSize;
             int noEntries = 0;
 
-            while (noEntries < table.size() && wouldbeSize > newMaxTableSize)
+            while (noEntries < entries && wouldbeSize > newMaxTableSize)
             {
-                wouldbeSize -= table.get(noEntries).size;
+                wouldbeSize -= entrySize(noEvictions + noEntries);
                 noEntries++;
             }
             if (noEntries > 0)
             {
                 evict(noEntries);
             }
-
+        }
+        else if (newMaxTableSize > maxTableSize)
+        {
+            reallocate(newMaxTableSize);
         }
 
         this.maxTableSize = newMaxTableSize;
     }
 
+    int tableEntries()
+    {
+        return entries;
+    }
+
     // Evicts older entries from dynamic table
     private void evict(int noEntries)
     {
         for (int i = 0; i < noEntries; i++)
         {
-            HeaderField header = table.get(i);
-            tableSize -= header.size;
-
-            if (encoding)
-            {
-                Long id = noEvictions + i;
-                if (id.equals(name2Index.get(header.name)))
-                {
-                    name2Index.remove(header.name, id);
-
-                }
-                NameValue nameValue = new NameValue(header.name, header.value);
-                if (id.equals(namevalue2Index.get(nameValue)))
-                {
-                    namevalue2Index.remove(nameValue, id);
-                }
-            }
+            final long id = noEvictions + i;
+            tableSize -= entrySize(id);
         }
 
-        table.subList(0, noEntries).clear();
         noEvictions += noEntries;
+        entries -= noEntries;
+
+        if (entries != 0)
+        {
+            bufferHead = entryOffsets[(int) noEvictions & entryMask];
+        }
+        else
+        {
+            bufferHead = 0;
+            bufferTail = 0;
+        }
     }
 
     // @return true if the index is valid
     //         false otherwise
     public boolean valid(int index)
     {
-        return index != 0 && index < STATIC_TABLE.length + table.size();
+        return index != 0 && index < STATIC_TABLE.length + entries;
     }
 
     String name(int index)
@@ -280,9 +335,19 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].name
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).name;
+
+        DirectBufferEx name;
+        if (index < STATIC_TABLE.length)
+        {
+            name = STATIC_TABLE[index].name;
+        }
+        else
+        {
+            final int slot = (int) indexToId(index) & entryMask;
+            nameRO.wrap(buffer, entryOffsets[slot], nameLengths[slot]);
+            name = nameRO;
+        }
+        return name;
     }
 
     String value(int index)
@@ -297,9 +362,27 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].value
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).value;
+
+        DirectBufferEx value;
+        if (index < STATIC_TABLE.length)
+        {
+            value = STATIC_TABLE[index].value;
+        }
+        else
+        {
+            final int slot = (int) indexToId(index) & entryMask;
+            final int valueLength = valueLengths[slot];
+            if (valueLength == 0)
+            {
+                value = EMPTY_VALUE;
+            }
+            else
+            {
+                valueRO.wrap(buffer, entryOffsets[slot] + nameLengths[slot], valueLength);
+                value = valueRO;
+            }
+        }
+        return value;
     }
 
     int index(String name)
@@ -312,10 +395,24 @@ public class HpackContext
     {
         int index = staticIndex(name);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && encoding && entries != 0)
         {
-            Long id = name2Index.get(name);
-            index = (id != null) ? idToIndex(id) : -1;
+            final int nameLength = name.capacity();
+            final int nameHash = hash(name, 0, nameLength);
+
+            long id = nameBuckets[nameHash & bucketMask];
+            while (id >= noEvictions)
+            {
+                final int slot = (int) id & entryMask;
+                if (nameHashes[slot] == nameHash &&
+                    nameLengths[slot] == nameLength &&
+                    matches(name, entryOffsets[slot], nameLength))
+                {
+                    index = idToIndex(id);
+                    break;
+                }
+                id = nameChain[slot];
+            }
         }
         return index;
     }
@@ -332,49 +429,152 @@ public class HpackContext
     {
         int index = staticIndex(name, value);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && encoding && entries != 0)
         {
-            Long id = namevalue2Index.get(new NameValue(name, value));
-            return (id != null) ? idToIndex(id) : -1;
+            final int nameLength = name.capacity();
+            final int valueLength = value.capacity();
+            final int nameValueHash = hash(hash(name, 0, nameLength), value, 0, valueLength);
+
+            long id = nameValueBuckets[nameValueHash & bucketMask];
+            while (id >= noEvictions)
+            {
+                final int slot = (int) id & entryMask;
+                final int offset = entryOffsets[slot];
+                if (nameValueHashes[slot] == nameValueHash &&
+                    nameLengths[slot] == nameLength &&
+                    valueLengths[slot] == valueLength &&
+                    matches(name, offset, nameLength) &&
+                    matches(value, offset + nameLength, valueLength))
+                {
+                    index = idToIndex(id);
+                    break;
+                }
+                id = nameValueChain[slot];
+            }
         }
         return index;
     }
 
     private int idToIndex(long id)
     {
-        return (int) (STATIC_TABLE_LENGTH + table.size() - (id - noEvictions) - 1);
+        return (int) (STATIC_TABLE_LENGTH + entries - (id - noEvictions) - 1);
+    }
 
+    private long indexToId(int index)
+    {
+        return noEvictions + entries - (index - STATIC_TABLE_LENGTH) - 1;
     }
 
-    private static final class NameValue
+    private int entrySize(long id)
     {
-        private final DirectBufferEx name;
-        private final DirectBufferEx value;
-        private final int hash;
+        final int slot = (int) id & entryMask;
+        return nameLengths[slot] + valueLengths[slot] + ENTRY_OVERHEAD;
+    }
 
-        NameValue(DirectBufferEx name, DirectBufferEx value)
-        {
-            this.name = name;
-            this.value = value;
-            this.hash = Objects.hash(name, value);
-        }
+    private boolean matches(
+        DirectBufferEx candidate,
+        int offset,
+        int length)
+    {
+        lookupNameRO.wrap(buffer, offset, length);
+        return lookupNameRO.equals(candidate);
+    }
 
-        @Override
-        public boolean equals(Object obj)
+    // Moves live header bytes to the start of the buffer
+    private void compact()
+    {
+        final int delta = bufferHead;
+        if (delta != 0)
         {
-            if (obj instanceof NameValue)
+            buffer.putBytes(0, buffer, bufferHead, bufferTail - bufferHead);
+            for (long id = noEvictions; id < noEvictions + entries; id++)
             {
-                NameValue other = (NameValue) obj;
-                return Objects.equals(name, other.name) && Objects.equals(value, other.value);
+                entryOffsets[(int) id & entryMask] -= delta;
             }
-            return false;
+            bufferHead = 0;
+            bufferTail -= delta;
+        }
+    }
+
+    private void allocate(
+        int maxTableSize)
+    {
+        final int maxEntries = findNextPositivePowerOfTwo(Math.max(maxTableSize / ENTRY_OVERHEAD, 1));
+
+        this.buffer = new UnsafeBufferEx(new byte[Math.max(maxTableSize << 1, ENTRY_OVERHEAD)]);
+        this.scratch = new UnsafeBufferEx(new byte[Math.max(maxTableSize, ENTRY_OVERHEAD)]);
+        this.bufferHead = 0;
+        this.bufferTail = 0;
+
+        this.entryOffsets = new int[maxEntries];
+        this.nameLengths = new int[maxEntries];
+        this.valueLengths = new int[maxEntries];
+        this.entryMask = maxEntries - 1;
+        this.entries = 0;
+        this.tableSize = 0;
+
+        if (encoding)
+        {
+            this.nameHashes = new int[maxEntries];
+            this.nameValueHashes = new int[maxEntries];
+            this.nameChain = new long[maxEntries];
+            this.nameValueChain = new long[maxEntries];
+            this.nameBuckets = new long[maxEntries << 1];
+            this.nameValueBuckets = new long[maxEntries << 1];
+            this.bucketMask = (maxEntries << 1) - 1;
+            Arrays.fill(nameBuckets, NO_ENTRY);
+            Arrays.fill(nameValueBuckets, NO_ENTRY);
         }
+    }
+
+    // Grows the dynamic table, preserving entries and their unique ids
+    private void reallocate(
+        int newMaxTableSize)
+    {
+        final MutableDirectBufferEx oldBuffer = buffer;
+        final int[] oldEntryOffsets = entryOffsets;
+        final int[] oldNameLengths = nameLengths;
+        final int[] oldValueLengths = valueLengths;
+        final int oldEntryMask = entryMask;
+        final int oldEntries = entries;
+        final long firstId = noEvictions;
 
-        @Override
-        public int hashCode()
+        allocate(newMaxTableSize);
+
+        this.maxTableSize = newMaxTableSize;
+
+        // re-add from oldest to newest, assigning the same unique ids
+        this.noEvictions = firstId;
+        for (long id = firstId; id < firstId + oldEntries; id++)
+        {
+            final int slot = (int) id & oldEntryMask;
+            final int offset = oldEntryOffsets[slot];
+            final int nameLength = oldNameLengths[slot];
+            nameRO.wrap(oldBuffer, offset, nameLength);
+            valueRO.wrap(oldBuffer, offset + nameLength, oldValueLengths[slot]);
+            add(nameRO, valueRO);
+        }
+    }
+
+    private static int hash(
+        DirectBufferEx buffer,
+        int offset,
+        int length)
+    {
+        return hash(1, buffer, offset, length);
+    }
+
+    private static int hash(
+        int hash,
+        DirectBufferEx buffer,
+        int offset,
+        int length)
+    {
+        for (int i = 0; i < length; i++)
         {
-            return hash;
+            hash = 31 * hash + buffer.getByte(offset + i);
         }
+        return hash ^ (hash >>> 16);
     }
 
     /*
@@ -5878,12 +5878,7 @@ public final class HttpClientFactory implements HttpStreamFactory
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBufferEx nameCopy = new UnsafeBufferEx(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBufferEx valueCopy = new UnsafeBufferEx(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    context.add(name, value);
                 }
                 break;
             default:
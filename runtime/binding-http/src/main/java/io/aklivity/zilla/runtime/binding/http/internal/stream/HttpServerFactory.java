@@ -43,7 +43,9 @@ import static java.util.Arrays.asList;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -98,6 +100,7 @@ import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2SettingsFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2WindowUpdateFW;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpAccessControlResolver;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpBindingConfig;
+import io.aklivity.zilla.runtime.binding.http.internal.config.HttpCompressionResolver;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpModel;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRequestType;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRouteAffinity;
@@ -132,6 +135,7 @@ import io.aklivity.zilla.runtime.binding.http.internal.types.stream.RedirectFW;
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.ResetFW;
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.SignalFW;
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.WindowFW;
+import io.aklivity.zilla.runtime.binding.http.internal.util.HttpContentEncoder;
 import io.aklivity.zilla.runtime.binding.http.internal.util.HttpUtil;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.ExpandableArrayBufferEx;
@@ -154,6 +158,7 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final int CLEANUP_SIGNAL = 0;
     private static final int DELEGATE_SIGNAL = 1;
     private static final int EXPIRING_SIGNAL = 2;
+    private static final int MODEL_SIGNAL = 3;
 
     private static final int FLAG_FIN = 0x01;
     private static final int FLAG_INIT = 0x02;
@@ -222,9 +227,11 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String HEADER_NAME_AUTHORITY = ":authority";
     private static final String HEADER_NAME_CONTENT_TYPE = "content-type";
     private static final String HEADER_NAME_CONTENT_LENGTH = "content-length";
+    private static final String HEADER_NAME_ACCEPT_ENCODING = "accept-encoding";
 
     private static final String METHOD_NAME_OPTIONS = "OPTIONS";
     private static final String METHOD_NAME_POST = "POST";
+    private static final String METHOD_NAME_HEAD = "HEAD";
 
     private static final String CHALLENGE_RESPONSE_METHOD = METHOD_NAME_POST;
     private static final String CHALLENGE_RESPONSE_CONTENT_TYPE = "application/x-challenge-response";
@@ -237,6 +244,9 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String8FW HEADER_AUTHORITY = new String8FW(":authority");
     private static final String8FW HEADER_CONNECTION = new String8FW("connection");
     private static final String8FW HEADER_CONTENT_LENGTH = new String8FW("content-length");
+    private static final String8FW HEADER_CONTENT_ENCODING = new String8FW("content-encoding");
+    private static final String8FW HEADER_CONTENT_TYPE = new String8FW("content-type");
+    private static final String8FW HEADER_ACCEPT_ENCODING = new String8FW("accept-encoding");
     private static final String8FW HEADER_METHOD = new String8FW(":method");
     private static final String8FW HEADER_PATH = new String8FW(":path");
     private static final String8FW HEADER_SCHEME = new String8FW(":scheme");
@@ -300,6 +310,27 @@ public final class HttpServerFactory implements HttpStreamFactory
                 .value(HEADER_NAME_ORIGIN)
                 .build();
 
+    private static final HttpHeaderFW HEADER_VARY_ACCEPT_ENCODING =
+            new HttpHeaderFW.Builder()
+                .wrap(new UnsafeBufferEx(new byte[64]), 0, 64)
+                .name(HEADER_VARY)
+                .value(HEADER_NAME_ACCEPT_ENCODING)
+                .build();
+
+    private static final HttpHeaderFW HEADER_CONTENT_ENCODING_GZIP =
+            new HttpHeaderFW.Builder()
+                .wrap(new UnsafeBufferEx(new byte[64]), 0, 64)
+                .name(HEADER_CONTENT_ENCODING)
+                .value(HttpCompressionResolver.ENCODING_GZIP)
+                .build();
+
+    private static final HttpHeaderFW HEADER_CONTENT_ENCODING_DEFLATE =
+            new HttpHeaderFW.Builder()
+                .wrap(new UnsafeBufferEx(new byte[64]), 0, 64)
+                .name(HEADER_CONTENT_ENCODING)
+                .value(HttpCompressionResolver.ENCODING_DEFLATE)
+                .build();
+
     private static final Array32FW<HttpHeaderFW> DEFAULT_HEADERS =
             new Array32FW.Builder<>(new HttpHeaderFW.Builder(), new HttpHeaderFW())
                     .wrap(new UnsafeBufferEx(new byte[64]), 0, 64)
@@ -549,6 +580,7 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private final HttpConfiguration config;
     private final MutableDirectBufferEx codecBuffer;
+    private final MutableDirectBufferEx compressBuffer;
     private final MutableDirectBufferEx writeBuffer;
     private final MutableDirectBufferEx frameBuffer;
     private final BufferPool bufferPool;
@@ -571,6 +603,11 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final Matcher headerLine;
     private final Matcher connectionClose;
     private final int maximumHeadersSize;
+    private final int compressionLevel;
+    private final int compressionEncoders;
+    private final int compressPad;
+    private final Deque<HttpContentEncoder> gzipEncoders;
+    private final Deque<HttpContentEncoder> deflateEncoders;
     private final Long2ObjectHashMap<HttpBindingConfig> bindings;
     private final HttpEventContext event;
 
@@ -591,6 +628,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.headersPool = bufferPool.duplicate();
         this.initialSettings = new Http2Settings(config, headersPool);
         this.codecBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
+        this.compressBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
         this.frameBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
         this.extBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
         this.modelBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
@@ -605,6 +643,11 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.maximumHeadersSize = bufferPool.slotCapacity();
         this.decodeMax = bufferPool.slotCapacity();
         this.encodeMax = bufferPool.slotCapacity();
+        this.compressionLevel = config.compressionLevel();
+        this.compressionEncoders = config.compressionEncoders();
+        this.compressPad = HttpContentEncoder.padding(encodeMax);
+        this.gzipEncoders = new ArrayDeque<>();
+        this.deflateEncoders = new ArrayDeque<>();
         this.bindings = new Long2ObjectHashMap<>();
         this.event = new HttpEventContext(context);
 
@@ -1160,7 +1203,8 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                             HttpRequestType requestType = binding.resolveRequestType(beginEx);
                             boolean headersValid = server.onDecodeHeaders(server.routedId, route.id, resolved.initialId(),
-                                resolved.affinity(), traceId, exchangeAuth, policy, origin, beginEx, requestType);
+                                resolved.affinity(), traceId, exchangeAuth, policy, origin, beginEx, requestType,
+                                route.compressionResolver());
                             if (!headersValid)
                             {
                                 error = response400;
@@ -2035,6 +2079,12 @@ public final class HttpServerFactory implements HttpStreamFactory
                     exchange.onResponseExpiring(traceId);
                 }
                 break;
+            case MODEL_SIGNAL:
+                if (this.exchange != null)
+                {
+                    this.exchange.decodeRequestIfBuffered(traceId, signal.authorization(), 0L);
+                }
+                break;
             }
         }
 
@@ -2365,7 +2415,8 @@ public final class HttpServerFactory implements HttpStreamFactory
             HttpPolicyConfig policy,
             String origin,
             HttpBeginExFW beginEx,
-            HttpRequestType requestType)
+            HttpRequestType requestType,
+            HttpCompressionResolver compression)
         {
             final HttpExchange exchange = new HttpExchange(originId, routedId, requestId, affinity,
                 authorization, traceId, policy, origin, requestType);
@@ -2374,6 +2425,18 @@ public final class HttpServerFactory implements HttpStreamFactory
             boolean headersValid = transformedBeginEx != null;
             if (headersValid)
             {
+                if (compression != null)
+                {
+                    final Array32FW<HttpHeaderFW> headers = beginEx.headers();
+                    final HttpHeaderFW method = headers.matchFirst(h -> HEADER_METHOD.equals(h.name()));
+                    final HttpHeaderFW acceptEncoding = headers.matchFirst(h -> HEADER_ACCEPT_ENCODING.equals(h.name()));
+                    exchange.responseCompression = compression;
+                    exchange.responseEncoding = negotiateContentEncoding(compression,
+                        method != null ? method.value().asString() : null,
+                        acceptEncoding != null ? acceptEncoding.value().asString() : null);
+                    exchange.responsePad += exchange.responseEncoding != null ? compressPad : 0;
+                }
+
                 exchange.doRequestBegin(traceId, transformedBeginEx);
                 exchange.doResponseWindow(traceId);
 
@@ -2487,6 +2550,11 @@ public final class HttpServerFactory implements HttpStreamFactory
                     ? parseInt(contentLength.value().asString())
                     : Integer.MAX_VALUE - encodeMax; // avoids responseRemaining overflow
 
+            final HttpContentEncoder encoder = supplyContentEncoder(exchange.responseCompression, exchange.responseEncoding,
+                    headers, contentLength != null ? exchange.responseRemaining : -1L);
+            exchange.responseEncoder = encoder;
+            exchange.responseEncoding = encoder != null ? encoder.encoding : null;
+
             final HttpHeaderFW server = headers.matchFirst(h -> HEADER_SERVER.equals(h.name()));
             final String16FW serverHeader = config.serverHeader();
 
@@ -2502,9 +2570,24 @@ public final class HttpServerFactory implements HttpStreamFactory
                         HEADER_SERVER.value(), serverHeader.value(), false);
             }
             final Array32FW<HttpHeaderFW> outboundHeaders = translateAltSvc(headers, ALT_SVC_ALPN_HTTP_1_1_BYTES);
-            outboundHeaders.forEach(h -> codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, h));
+            if (encoder != null)
+            {
+                outboundHeaders.forEach(h ->
+                {
+                    if (!HEADER_CONTENT_LENGTH.equals(h.name()))
+                    {
+                        codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, h);
+                    }
+                });
+                codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, contentEncodingHeader(encoder));
+                codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, HEADER_VARY_ACCEPT_ENCODING);
+            }
+            else
+            {
+                outboundHeaders.forEach(h -> codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, h));
+            }
 
-            if (contentLength == null &&
+            if ((contentLength == null || encoder != null) &&
                 !exchange.responseChunked &&
                 !exchange.responseClosing &&
                 !STATUS_204.equals(httpStatus) &&
@@ -2727,20 +2810,27 @@ public final class HttpServerFactory implements HttpStreamFactory
             int offset = payload.offset();
             int limit = payload.limit();
 
+            if (exchange.responseEncoder != null)
+            {
+                limit = exchange.responseEncoder.encode(buffer, offset, limit - offset, compressBuffer, 0);
+                buffer = compressBuffer;
+                offset = 0;
+            }
+
             if (exchange.responseChunked /* && flags != 0 */)
             {
                 int chunkLimit = 0;
 
                 //if ((flags & 0x01) != 0)
                 {
-                    final String chunkSizeHex = Integer.toHexString(payload.sizeof());
+                    final String chunkSizeHex = Integer.toHexString(limit - offset);
                     chunkLimit += codecBuffer.putStringWithoutLengthAscii(chunkLimit, chunkSizeHex);
                     codecBuffer.putBytes(chunkLimit, CRLF_BYTES);
                     chunkLimit += 2;
                 }
 
-                codecBuffer.putBytes(chunkLimit, payload.buffer(), payload.offset(), payload.sizeof());
-                chunkLimit += payload.sizeof();
+                codecBuffer.putBytes(chunkLimit, buffer, offset, limit - offset);
+                chunkLimit += limit - offset;
 
                 //if ((flags & 0x02) != 0)
                 {
@@ -2778,6 +2868,11 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             assert exchange == this.exchange;
 
+            if (exchange.responseEncoder != null)
+            {
+                doEncodeFinish(exchange, traceId, authorization, budgetId);
+            }
+
             if (exchange.responseChunked)
             {
                 DirectBufferEx buffer = ZERO_CHUNK;
@@ -2816,6 +2911,52 @@ public final class HttpServerFactory implements HttpStreamFactory
             }
         }
 
+        private void doEncodeFinish(
+            HttpExchange exchange,
+            long traceId,
+            long authorization,
+            long budgetId)
+        {
+            final int length = exchange.responseEncoder.finish(compressBuffer, 0);
+            exchange.cleanupEncoderIfNecessary();
+
+            DirectBufferEx buffer = compressBuffer;
+            int offset = 0;
+            int limit = length;
+
+            if (exchange.responseChunked)
+            {
+                int chunkLimit = 0;
+                chunkLimit += codecBuffer.putStringWithoutLengthAscii(chunkLimit, Integer.toHexString(length));
+                codecBuffer.putBytes(chunkLimit, CRLF_BYTES);
+                chunkLimit += 2;
+                codecBuffer.putBytes(chunkLimit, compressBuffer, 0, length);
+                chunkLimit += length;
+                codecBuffer.putBytes(chunkLimit, CRLF_BYTES);
+                chunkLimit += 2;
+
+                buffer = codecBuffer;
+                limit = chunkLimit;
+            }
+
+            int reserved = limit + replyPad;
+
+            if (encodeSlot != NO_SLOT)
+            {
+                final MutableDirectBufferEx encodeBuffer = bufferPool.buffer(encodeSlot);
+                final int encodeSlotIndex = encodeSlotOffset;
+                encodeBuffer.putBytes(encodeSlotIndex, buffer, offset, limit - offset);
+                encodeSlotOffset += limit - offset;
+
+                buffer = encodeBuffer;
+                offset = 0;
+                limit = encodeSlotOffset;
+                reserved += encodeSlotIndex;
+            }
+
+            doNetworkData(traceId, authorization, budgetId, reserved, buffer, offset, limit);
+        }
+
         private void cleanupNetwork(
             long traceId,
             long authorization)
@@ -2884,6 +3025,9 @@ public final class HttpServerFactory implements HttpStreamFactory
             private boolean responseChunked;
             private boolean responseClosing;
             private int responseRemaining;
+            private HttpCompressionResolver responseCompression;
+            private String responseEncoding;
+            private HttpContentEncoder responseEncoder;
             private boolean redirected;
 
             private HttpExchange(
@@ -2961,6 +3105,12 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                     progress = offset + length;
                 }
+                else if ((flags & FLAG_INIT) != 0 &&
+                    !content.prepare(traceId, originId, routedId, replyId, MODEL_SIGNAL, 0, buffer, offset, limit))
+                {
+                    // parked until the content model signals it is prepared, consuming nothing meanwhile
+                    progress = offset;
+                }
                 else
                 {
                     final int dstMax = Math.min(window, modelBuffer.capacity());
@@ -3232,6 +3382,14 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                 assert requestAck <= requestSeq;
 
+                decodeRequestIfBuffered(traceId, authorization, budgetId);
+            }
+
+            private void decodeRequestIfBuffered(
+                long traceId,
+                long authorization,
+                long budgetId)
+            {
                 decodeNetworkIfBuffered(traceId, authorization, budgetId);
 
                 if (decodeSlot == NO_SLOT && requestState == HttpExchangeState.CLOSED)
@@ -3338,6 +3496,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 doNetworkAbort(traceId, authorization);
 
                 cleanupExpiringIfNecessary();
+                cleanupEncoderIfNecessary();
             }
 
             private void onResponseExpiring(
@@ -3370,6 +3529,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 doReset(application, originId, routedId, responseId, responseSeq, responseAck, responseMax, traceId, sessionId);
 
                 cleanupExpiringIfNecessary();
+                cleanupEncoderIfNecessary();
             }
 
             private void doResponseWindow(
@@ -3379,7 +3539,10 @@ public final class HttpServerFactory implements HttpStreamFactory
                 int responseNoAckMin = (int)(responseSeq - responseAckMax);
                 int minResponseMax =
                         Math.max(Math.min(responseRemaining - responseNoAckMin + replyPad + responsePad, replyMax), 0);
-                int responsePadMax = responseChunked ? responsePad : 0;
+                final boolean responseEncoded = responseState == HttpExchangeState.PENDING
+                    ? responseEncoding != null
+                    : responseEncoder != null;
+                int responsePadMax = (responseChunked ? PADDING_CHUNKED : 0) + (responseEncoded ? compressPad : 0);
 
                 if (responseAckMax > responseAck ||
                     minResponseMax > responseMax && encodeSlotOffset == 0 ||
@@ -3421,6 +3584,15 @@ public final class HttpServerFactory implements HttpStreamFactory
                     expiringId = NO_CANCEL_ID;
                 }
             }
+
+            private void cleanupEncoderIfNecessary()
+            {
+                if (responseEncoder != null)
+                {
+                    releaseContentEncoder(responseEncoder);
+                    responseEncoder = null;
+                }
+            }
         }
     }
 
@@ -3896,7 +4068,8 @@ public final class HttpServerFactory implements HttpStreamFactory
             error = Http2ErrorCode.PROTOCOL_ERROR;
         }
 
-        if (server.headersSlotOffset + length > headersPool.slotCapacity())
+        if (error == Http2ErrorCode.NO_ERROR &&
+            server.headersSlotOffset + length > headersPool.slotCapacity(server.headersSlot))
         {
             // TODO: decoded header list size check, recoverable error instead
             error = Http2ErrorCode.PROTOCOL_ERROR;
@@ -4547,6 +4720,12 @@ public final class HttpServerFactory implements HttpStreamFactory
                     exchange.onResponseExpiring(traceId);
                 }
                 break;
+            case MODEL_SIGNAL:
+                if (streams.containsKey(contextId))
+                {
+                    decodeNetworkIfNecessary(traceId);
+                }
+                break;
             }
         }
 
@@ -5181,7 +5360,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 assert headersSlot == NO_SLOT;
                 assert headersSlotOffset == 0;
 
-                headersSlot = headersPool.acquire(initialId);
+                headersSlot = headersPool.acquire(initialId, headersSlotCapacity(dataLength));
                 if (headersSlot == NO_SLOT)
                 {
                     cleanupNetwork(traceId, authorization);
@@ -5197,6 +5376,13 @@ public final class HttpServerFactory implements HttpStreamFactory
             }
         }
 
+        private int headersSlotCapacity(
+            int length)
+        {
+            // header block fragments accumulate up to the advertised header list size
+            return Math.max(length, (int) Math.min(initialSettings.maxHeaderListSize, headersPool.slotCapacity()));
+        }
+
         private void onDecodeContinuation(
             long traceId,
             long authorization,
@@ -5350,6 +5536,9 @@ public final class HttpServerFactory implements HttpStreamFactory
                             final Http2Exchange exchange = new Http2Exchange(originId, routedId,
                                 resolved.initialId(), resolved.affinity(),
                                 streamId, exchangeAuth, traceId, policy, origin, contentLength, requestType);
+                            exchange.responseCompression = route.compressionResolver();
+                            exchange.responseEncoding = negotiateContentEncoding(exchange.responseCompression,
+                                headers.get(HEADER_NAME_METHOD), headers.get(HEADER_NAME_ACCEPT_ENCODING));
 
                             final HttpBeginExFW transformedBeginEx =
                                 transformRequestBeginEx(traceId, routedId, exchangeAuth, beginEx, requestType);
@@ -5476,7 +5665,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 assert headersSlot == NO_SLOT;
                 assert headersSlotOffset == 0;
 
-                headersSlot = headersPool.acquire(initialId);
+                headersSlot = headersPool.acquire(initialId, headersSlotCapacity(dataLength));
                 if (headersSlot == NO_SLOT)
                 {
                     cleanupNetwork(traceId, authorization);
@@ -5573,12 +5762,12 @@ public final class HttpServerFactory implements HttpStreamFactory
                     {
                         final int initFlag = exchange.requestContentInited ? 0 : FLAG_INIT;
                         final int finFlag = Http2Flags.endStream(flags) && deferred == 0 ? FLAG_FIN : 0;
-                        exchange.requestContentInited = true;
 
                         payloadRemaining.set(payloadLength);
                         contentValid = exchange.doRequestData(traceId, initFlag | finFlag, payload, payloadRemaining);
                         if (contentValid)
                         {
+                            exchange.requestContentInited |= payloadRemaining.value != payloadLength;
                             progress += payloadLength - payloadRemaining.value;
                             deferred += payloadRemaining.value;
                         }
@@ -5815,6 +6004,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             HttpPolicyConfig policy,
             String origin,
             Array32FW<HttpHeaderFW> headers,
+            HttpContentEncoder encoder,
             boolean endResponse)
         {
             final Array32FW<HttpHeaderFW> outboundHeaders = translateAltSvc(headers, ALT_SVC_ALPN_HTTP_2_BYTES);
@@ -5822,7 +6012,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                     .wrap(frameBuffer, 0, frameBuffer.capacity())
                     .streamId(streamId)
                     .headers(hb -> headersEncoder.encodeHeaders(encodeContext, binding.access(), binding.accessResolver(),
-                            policy, origin, outboundHeaders, hb))
+                            policy, origin, outboundHeaders, encoder, hb))
                     .endHeaders()
                     .endStream(endResponse)
                     .build();
@@ -5840,7 +6030,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             final Http2HeadersFW http2Headers = http2HeadersRW
                     .wrap(frameBuffer, 0, frameBuffer.capacity())
                     .streamId(streamId)
-                    .headers(hb -> headersEncoder.encodeHeaders(encodeContext, null, null, null, null, headers, hb))
+                    .headers(hb -> headersEncoder.encodeHeaders(encodeContext, null, null, null, null, headers, null, hb))
                     .endHeaders()
                     .endStream(endResponse)
                     .build();
@@ -5855,13 +6045,11 @@ public final class HttpServerFactory implements HttpStreamFactory
             long budgetId,
             int reserved,
             int streamId,
-            OctetsFW payload,
+            DirectBufferEx buffer,
+            int offset,
+            int limit,
             boolean endResponse)
         {
-            final DirectBufferEx buffer = payload.buffer();
-            final int offset = payload.offset();
-            final int limit = payload.limit();
-
             int frameOffset = 0;
             int progress = offset;
             while (progress < limit)
@@ -5883,6 +6071,22 @@ public final class HttpServerFactory implements HttpStreamFactory
             doNetworkData(traceId, authorization, 0L, reserved, frameBuffer, 0, frameOffset);
         }
 
+        private void doEncodeFinish(
+            long traceId,
+            long authorization,
+            int streamId,
+            DirectBufferEx buffer,
+            int offset,
+            int limit)
+        {
+            final Http2DataFW http2Data = http2DataRW.wrap(frameBuffer, 0, frameBuffer.capacity())
+                    .streamId(streamId)
+                    .payload(buffer, offset, limit - offset)
+                    .build();
+
+            doNetworkReservedData(traceId, authorization, 0L, http2Data);
+        }
+
         private void doEncodeTrailers(
             long traceId,
             long authorization,
@@ -6040,6 +6244,9 @@ public final class HttpServerFactory implements HttpStreamFactory
 
             private long responseContentLength;
             private long responseContentObserved;
+            private HttpCompressionResolver responseCompression;
+            private String responseEncoding;
+            private HttpContentEncoder responseEncoder;
 
             private long expiringId;
 
@@ -6157,7 +6364,9 @@ public final class HttpServerFactory implements HttpStreamFactory
                     remaining.value -= length;
                     assert remaining.value >= 0;
                 }
-                else
+                // otherwise parked until the content model signals it is prepared, deferring the content meanwhile
+                else if ((flags & FLAG_INIT) == 0 ||
+                    content.prepare(traceId, originId, routedId, replyId, MODEL_SIGNAL, streamId, buffer, 0, remaining.value))
                 {
                     final int window = Math.max(Math.min(initialWindow() - requestPad, remaining.value), 0);
                     final int dstMax = Math.min(window, modelBuffer.capacity());
@@ -6480,7 +6689,16 @@ public final class HttpServerFactory implements HttpStreamFactory
                         header.name().equals(HEADER_CONTENT_LENGTH));
                 responseContentLength = contentLengthHeader != null ? parseInt(contentLengthHeader.value().asString()) : -1;
 
-                doEncodeHeaders(traceId, authorization, streamId, policy, origin, headers, responseContentLength == 0);
+                responseEncoder = supplyContentEncoder(responseCompression, responseEncoding, headers, responseContentLength);
+                responseEncoding = responseEncoder != null ? responseEncoder.encoding : null;
+                if (responseEncoder != null)
+                {
+                    responseContentLength = -1;
+                    remoteSharedBudget -= HttpContentEncoder.FINISH_MAX;
+                }
+
+                doEncodeHeaders(traceId, authorization, streamId, policy, origin, headers, responseEncoder,
+                    responseContentLength == 0);
             }
 
             private void onResponseData(
@@ -6524,7 +6742,19 @@ public final class HttpServerFactory implements HttpStreamFactory
                     if (payload != null)
                     {
                         final int flags = data.flags();
-                        final int length = data.length();
+
+                        DirectBufferEx buffer = payload.buffer();
+                        int offset = payload.offset();
+                        int limit = payload.limit();
+
+                        if (responseEncoder != null)
+                        {
+                            limit = responseEncoder.encode(buffer, offset, limit - offset, compressBuffer, 0);
+                            buffer = compressBuffer;
+                            offset = 0;
+                        }
+
+                        final int length = limit - offset;
 
                         if (HttpConfiguration.DEBUG_HTTP2_BUDGETS)
                         {
@@ -6537,14 +6767,16 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                         remoteBudget -= length;
                         remoteSharedBudget -= length;
-                        responseContentObserved += length;
+                        responseContentObserved += data.length();
 
                         final boolean endResponse = responseContentLength == responseContentObserved;
-                        doEncodeData(traceId, authorization, flags, budgetId, reserved, streamId, payload, endResponse);
+                        doEncodeData(traceId, authorization, flags, budgetId, reserved, streamId, buffer, offset, limit,
+                            endResponse);
 
                         final int remotePaddableMax = Math.min(remoteBudget, bufferPool.slotCapacity());
                         final int remotePadding = http2FramePadding(remotePaddableMax, remoteSettings.maxFrameSize);
-                        final int responsePadding = replyPad + remotePadding;
+                        final int encodePadding = responseEncoding != null ? compressPad : 0;
+                        final int responsePadding = replyPad + remotePadding + encodePadding;
 
                         final int responseWin = responseMax - (int)(responseSeq - responseAck);
                         final int minimumClaim = 1024;
@@ -6599,6 +6831,11 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                 assert responseSharedBudget >= 0;
 
+                if (responseEncoder != null)
+                {
+                    doResponseFinish(end.traceId());
+                }
+
                 setResponseClosed();
 
                 if (responseContentLength != responseContentObserved)
@@ -6611,6 +6848,18 @@ public final class HttpServerFactory implements HttpStreamFactory
                 }
             }
 
+            private void doResponseFinish(
+                long traceId)
+            {
+                final int length = responseEncoder.finish(compressBuffer, 0);
+                cleanupEncoderIfNecessary();
+
+                remoteBudget -= length;
+                remoteSharedBudget -= length;
+
+                doEncodeFinish(traceId, authorization, streamId, compressBuffer, 0, length);
+            }
+
             private void onResponseAbort(
                 AbortFW abort)
             {
@@ -6691,8 +6940,10 @@ public final class HttpServerFactory implements HttpStreamFactory
                 {
                     final int remotePaddableMax = Math.min(remoteBudget, bufferPool.slotCapacity());
                     final int remotePad = http2FramePadding(remotePaddableMax, remoteSettings.maxFrameSize);
-                    final int responsePad = replyPad + remotePad;
-                    final int newResponseWin = remoteBudget;
+                    final int encodePad = responseEncoding != null ? compressPad : 0;
+                    final int encodeReserve = responseEncoding != null ? HttpContentEncoder.FINISH_MAX : 0;
+                    final int responsePad = replyPad + remotePad + encodePad;
+                    final int newResponseWin = remoteBudget - encodeReserve;
                     final int responseWin = responseMax - (int)(responseSeq - responseAck);
                     final int responseCredit = newResponseWin - responseWin;
 
@@ -6735,6 +6986,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 removeStreamIfNecessary();
                 deauthorizeIfNecessary();
                 cleanupExpiringIfNecessary();
+                cleanupEncoderIfNecessary();
             }
 
             private void removeStreamIfNecessary()
@@ -6755,6 +7007,16 @@ public final class HttpServerFactory implements HttpStreamFactory
                 }
             }
 
+            private void cleanupEncoderIfNecessary()
+            {
+                if (responseEncoder != null)
+                {
+                    releaseContentEncoder(responseEncoder);
+                    responseEncoder = null;
+                    remoteSharedBudget += HttpContentEncoder.FINISH_MAX;
+                }
+            }
+
             private void cleanup(
                 long traceId)
             {
@@ -7123,12 +7385,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBufferEx nameCopy = new UnsafeBufferEx(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBufferEx valueCopy = new UnsafeBufferEx(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    context.add(name, value);
                 }
                 break;
             default:
@@ -7165,6 +7422,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             HttpPolicyConfig policy,
             String origin,
             Array32FW<HttpHeaderFW> headers,
+            HttpContentEncoder encoder,
             HpackHeaderBlockFW.Builder headerBlock)
         {
             reset(encodeContext);
@@ -7178,12 +7436,19 @@ public final class HttpServerFactory implements HttpStreamFactory
 
             headers.forEach(h ->
             {
-                if (includeHeader(h))
+                if (includeHeader(h) && (encoder == null || !HEADER_CONTENT_LENGTH.equals(h.name())))
                 {
                     headerBlock.header(b -> encodeHeader(h, b));
                 }
             });
 
+            if (encoder != null)
+            {
+                final HttpHeaderFW contentEncoding = contentEncodingHeader(encoder);
+                headerBlock.header(b -> encodeHeader(contentEncoding, b));
+                headerBlock.header(b -> encodeHeader(HEADER_VARY_ACCEPT_ENCODING, b));
+            }
+
             // add configured Server header if there is no Server header in response
             if (config.serverHeader() != null && !serverHeader)
             {
@@ -7435,6 +7700,79 @@ public final class HttpServerFactory implements HttpStreamFactory
                 headers.containsKey(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS));
     }
 
+    private String negotiateContentEncoding(
+        HttpCompressionResolver compression,
+        String method,
+        String acceptEncoding)
+    {
+        return compression != null && !METHOD_NAME_HEAD.equals(method)
+            ? compression.negotiate(acceptEncoding)
+            : null;
+    }
+
+    private HttpContentEncoder supplyContentEncoder(
+        HttpCompressionResolver compression,
+        String encoding,
+        Array32FW<HttpHeaderFW> headers,
+        long contentLength)
+    {
+        HttpContentEncoder encoder = null;
+
+        if (encoding != null && contentLength != 0L)
+        {
+            final HttpHeaderFW status = headers.matchFirst(h -> HEADER_STATUS.equals(h.name()));
+            final DirectBufferEx statusValue = status != null ? status.value().value() : STATUS_200.value();
+            final int statusCode = statusValue.parseNaturalIntAscii(0, statusValue.capacity());
+
+            final HttpHeaderFW contentEncoding = headers.matchFirst(h -> HEADER_CONTENT_ENCODING.equals(h.name()));
+            final HttpHeaderFW contentType = headers.matchFirst(h -> HEADER_CONTENT_TYPE.equals(h.name()));
+
+            if (statusCode >= 200 && statusCode != 204 && statusCode != 206 && statusCode != 304 &&
+                contentEncoding == null &&
+                contentType != null &&
+                compression.compressible(contentType.value().asString(), contentLength))
+            {
+                final boolean gzip = HttpCompressionResolver.ENCODING_GZIP.equals(encoding);
+                final Deque<HttpContentEncoder> encoders = gzip ? gzipEncoders : deflateEncoders;
+                encoder = encoders.poll();
+                if (encoder == null)
+                {
+                    encoder = gzip
+                        ? HttpContentEncoder.gzip(compressionLevel)
+                        : HttpContentEncoder.deflate(compressionLevel);
+                }
+            }
+        }
+
+        return encoder;
+    }
+
+    private void releaseContentEncoder(
+        HttpContentEncoder encoder)
+    {
+        final boolean gzip = HttpCompressionResolver.ENCODING_GZIP.equals(encoder.encoding);
+        final Deque<HttpContentEncoder> encoders = gzip ? gzipEncoders : deflateEncoders;
+
+        if (encoders.size() < compressionEncoders)
+        {
+            encoder.reset();
+            encoders.offer(encoder);
+        }
+        else
+        {
+            // beyond the high-water mark of a past burst, release native zlib memory now
+            encoder.end();
+        }
+    }
+
+    private static HttpHeaderFW contentEncodingHeader(
+        HttpContentEncoder encoder)
+    {
+        return HttpCompressionResolver.ENCODING_GZIP.equals(encoder.encoding)
+            ? HEADER_CONTENT_ENCODING_GZIP
+            : HEADER_CONTENT_ENCODING_DEFLATE;
+    }
+
     private Array32FW<HttpHeaderFW> translateAltSvc(
         Array32FW<HttpHeaderFW> headers,
         byte[] alpnBytes)
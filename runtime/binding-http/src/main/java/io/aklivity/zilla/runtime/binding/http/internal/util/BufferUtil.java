@@ -16,6 +16,7 @@
 package io.aklivity.zilla.runtime.binding.http.internal.util;
 
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferOps;
 
 public final class BufferUtil
 {
@@ -25,15 +26,7 @@ public final class BufferUtil
         int limit,
         byte value)
     {
-        for (int cursor = offset; cursor < limit; cursor++)
-        {
-            if (buffer.getByte(cursor) == value)
-            {
-                return cursor;
-            }
-        }
-
-        return -1;
+        return DirectBufferOps.indexOfByte(buffer, offset, limit, value);
     }
 
     public static int limitOfBytes(
@@ -42,23 +35,7 @@ public final class BufferUtil
         int limit,
         byte[] value)
     {
-        int matchedBytes = 0;
-
-        for (int cursor = offset; cursor < limit; cursor++)
-        {
-            if (buffer.getByte(cursor) != value[matchedBytes])
-            {
-                matchedBytes = 0;
-                continue;
-            }
-
-            if (value.length == ++matchedBytes)
-            {
-                return cursor + 1;
-            }
-        }
-
-        return -1;
+        return DirectBufferOps.limitOfBytes(buffer, offset, limit, value);
     }
 
     public static int limitOfBytes(
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.util;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.util.zip.Deflater.SYNC_FLUSH;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+
+/**
+ * Streaming {@code gzip} or {@code deflate} content encoder.
+ * <p>
+ * Each call to {@link #encode} flushes, so every encoded fragment can be sent as soon as its
+ * input arrives. Instances are reusable after {@link #reset()}.
+ * </p>
+ */
+public final class HttpContentEncoder
+{
+    public static final int FINISH_MAX = 32;
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, 0x08, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    public final String encoding;
+
+    private final Deflater deflater;
+    private final CRC32 checksum;
+
+    private boolean started;
+
+    public static HttpContentEncoder gzip(
+        int level)
+    {
+        return new HttpContentEncoder("gzip", new Deflater(level, true), new CRC32());
+    }
+
+    public static HttpContentEncoder deflate(
+        int level)
+    {
+        return new HttpContentEncoder("deflate", new Deflater(level, false), null);
+    }
+
+    /**
+     * Returns the maximum number of bytes that encoding {@code length} bytes can add, including the
+     * stream header and the flush marker.
+     */
+    public static int padding(
+        int length)
+    {
+        return (length >> 12) + (length >> 14) + FINISH_MAX;
+    }
+
+    private HttpContentEncoder(
+        String encoding,
+        Deflater deflater,
+        CRC32 checksum)
+    {
+        this.encoding = encoding;
+        this.deflater = deflater;
+        this.checksum = checksum;
+    }
+
+    public int encode(
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        MutableDirectBufferEx output,
+        int offset)
+    {
+        int progress = offset;
+
+        if (!started)
+        {
+            if (checksum != null)
+            {
+                output.putBytes(progress, GZIP_HEADER);
+                progress += GZIP_HEADER.length;
+            }
+            started = true;
+        }
+
+        final ByteBuffer input = asByteBuffer(buffer, index, length);
+        if (checksum != null)
+        {
+            checksum.update(input);
+            input.position(0);
+        }
+        deflater.setInput(input);
+
+        final ByteBuffer encoded = asByteBuffer(output, progress, output.capacity() - progress);
+        do
+        {
+            deflater.deflate(encoded, SYNC_FLUSH);
+        }
+        while (!deflater.needsInput() && encoded.hasRemaining());
+
+        progress += encoded.position();
+
+        return progress - offset;
+    }
+
+    public int finish(
+        MutableDirectBufferEx output,
+        int offset)
+    {
+        int progress = offset;
+
+        if (!started)
+        {
+            if (checksum != null)
+            {
+                output.putBytes(progress, GZIP_HEADER);
+                progress += GZIP_HEADER.length;
+            }
+            started = true;
+        }
+
+        deflater.finish();
+
+        final ByteBuffer encoded = asByteBuffer(output, progress, output.capacity() - progress);
+        while (!deflater.finished() && encoded.hasRemaining())
+        {
+            deflater.deflate(encoded);
+        }
+        progress += encoded.position();
+
+        if (checksum != null)
+        {
+            output.putInt(progress, (int) checksum.getValue(), LITTLE_ENDIAN);
+            output.putInt(progress + Integer.BYTES, (int) deflater.getBytesRead(), LITTLE_ENDIAN);
+            progress += GZIP_TRAILER_SIZE;
+        }
+
+        return progress - offset;
+    }
+
+    public void reset()
+    {
+        deflater.reset();
+        if (checksum != null)
+        {
+            checksum.reset();
+        }
+        started = false;
+    }
+
+    public void end()
+    {
+        deflater.end();
+    }
+
+    private static ByteBuffer asByteBuffer(
+        DirectBufferEx buffer,
+        int index,
+        int length)
+    {
+        return buffer.segment().asSlice(buffer.wrapAdjustment() + index, length).asByteBuffer();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.binding.http.internal;
 
+import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_COMPRESSION_ENCODERS;
+import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_COMPRESSION_LEVEL;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_CONCURRENT_STREAMS;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_MAX_CONCURRENT_STREAMS_CLEANUP;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_MAX_FRAME_SIZE;
@@ -38,6 +40,8 @@ public class HttpConfigurationTest
     public static final String HTTP_MAX_FRAME_SIZE_NAME = "zilla.binding.http.max.frame.size";
     public static final String HTTP_MAX_CONCURRENT_STREAMS_CLEANUP_NAME = "zilla.binding.http.max.concurrent.streams.cleanup";
     public static final String HTTP_STREAMS_CLEANUP_DELAY_NAME = "zilla.binding.http.streams.cleanup.delay";
+    public static final String HTTP_COMPRESSION_LEVEL_NAME = "zilla.binding.http.compression.level";
+    public static final String HTTP_COMPRESSION_ENCODERS_NAME = "zilla.binding.http.compression.encoders";
 
     @Test
     public void shouldVerifyConstants() throws Exception
@@ -50,5 +54,7 @@ public class HttpConfigurationTest
         assertEquals(HTTP_MAX_FRAME_SIZE.name(), HTTP_MAX_FRAME_SIZE_NAME);
         assertEquals(HTTP_MAX_CONCURRENT_STREAMS_CLEANUP.name(), HTTP_MAX_CONCURRENT_STREAMS_CLEANUP_NAME);
         assertEquals(HTTP_STREAMS_CLEANUP_DELAY.name(), HTTP_STREAMS_CLEANUP_DELAY_NAME);
+        assertEquals(HTTP_COMPRESSION_LEVEL.name(), HTTP_COMPRESSION_LEVEL_NAME);
+        assertEquals(HTTP_COMPRESSION_ENCODERS.name(), HTTP_COMPRESSION_ENCODERS_NAME);
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.bench;
+
+import static io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackLiteralHeaderFieldFW.LiteralType.INCREMENTAL_INDEXING;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackContext;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderBlockFW;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderFieldFW;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackLiteralHeaderFieldFW;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackStringFW;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class HpackHeaderBlockBM
+{
+    private static final String[][] HEADERS =
+    {
+        {":method", "GET"},
+        {":scheme", "https"},
+        {":path", "/items/1234567890"},
+        {":authority", "www.example.com"},
+        {"user-agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36"},
+        {"accept", "application/json"},
+        {"cache-control", "no-cache"},
+        {"custom-key", "custom-value"},
+    };
+
+    private static final DirectBufferEx REQUEST_ID = new UnsafeBufferEx("x-request-id".getBytes(UTF_8));
+
+    private final HpackHeaderBlockFW.Builder blockRW = new HpackHeaderBlockFW.Builder();
+    private final HpackHeaderBlockFW blockRO = new HpackHeaderBlockFW();
+    private final MutableDirectBufferEx encodeBuffer = new UnsafeBufferEx(new byte[4096]);
+    private final MutableDirectBufferEx requestId = new UnsafeBufferEx(new byte[16]);
+
+    private DirectBufferEx[] names;
+    private DirectBufferEx[] values;
+
+    private HpackContext encodeContext;
+    private HpackContext decodeContext;
+    private DirectBufferEx encoded;
+    private int encodedLimit;
+    private long requests;
+
+    private Blackhole blackhole;
+    private Consumer<HpackHeaderFieldFW> decodeHeader;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        names = new DirectBufferEx[HEADERS.length];
+        values = new DirectBufferEx[HEADERS.length];
+        for (int i = 0; i < HEADERS.length; i++)
+        {
+            names[i] = new UnsafeBufferEx(HEADERS[i][0].getBytes(UTF_8));
+            values[i] = new UnsafeBufferEx(HEADERS[i][1].getBytes(UTF_8));
+        }
+
+        encodeContext = new HpackContext(4096, true);
+        decodeContext = new HpackContext(4096, false);
+
+        HpackContext context = new HpackContext(4096, true);
+        MutableDirectBufferEx buffer = new UnsafeBufferEx(new byte[4096]);
+        HpackHeaderBlockFW block = encode(context, buffer);
+        encoded = buffer;
+        encodedLimit = block.limit();
+
+        decodeHeader = this::decodeHeader;
+    }
+
+    @Benchmark
+    public int encode()
+    {
+        return encode(encodeContext, encodeBuffer).limit();
+    }
+
+    @Benchmark
+    public void decode(
+        Blackhole blackhole)
+    {
+        this.blackhole = blackhole;
+        blockRO.wrap(encoded, 0, encodedLimit).forEach(decodeHeader);
+    }
+
+    private HpackHeaderBlockFW encode(
+        HpackContext context,
+        MutableDirectBufferEx buffer)
+    {
+        HpackHeaderBlockFW.Builder block = blockRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < names.length; i++)
+        {
+            final DirectBufferEx name = names[i];
+            final DirectBufferEx value = values[i];
+            block.header(h -> encodeHeader(h, context, name, value));
+        }
+
+        requestId.putLongAscii(0, requests++);
+        block.header(h -> encodeHeader(h, context, REQUEST_ID, requestId));
+
+        return block.build();
+    }
+
+    private void encodeHeader(
+        HpackHeaderFieldFW.Builder builder,
+        HpackContext context,
+        DirectBufferEx name,
+        DirectBufferEx value)
+    {
+        final int index = context.index(name, value);
+        if (index != -1)
+        {
+            builder.indexed(index);
+        }
+        else
+        {
+            builder.literal(l -> encodeLiteral(l, context, name, value));
+            context.add(name, value);
+        }
+    }
+
+    private void encodeLiteral(
+        HpackLiteralHeaderFieldFW.Builder builder,
+        HpackContext context,
+        DirectBufferEx name,
+        DirectBufferEx value)
+    {
+        builder.type(INCREMENTAL_INDEXING);
+        final int nameIndex = context.index(name);
+        if (nameIndex != -1)
+        {
+            builder.name(nameIndex);
+        }
+        else
+        {
+            builder.name(name, 0, name.capacity());
+        }
+        builder.value(value, 0, value.capacity());
+    }
+
+    private void decodeHeader(
+        HpackHeaderFieldFW header)
+    {
+        final HpackContext context = decodeContext;
+
+        switch (header.type())
+        {
+        case INDEXED:
+            blackhole.consume(context.nameBuffer(header.index()));
+            blackhole.consume(context.valueBuffer(header.index()));
+            break;
+        case LITERAL:
+            final HpackLiteralHeaderFieldFW literal = header.literal();
+            final HpackStringFW valueLiteral = literal.valueLiteral();
+            final DirectBufferEx name = switch (literal.nameType())
+            {
+            case INDEXED -> context.nameBuffer(literal.nameIndex());
+            case NEW -> literal.nameLiteral().payload();
+            };
+            final DirectBufferEx value = valueLiteral.payload();
+            blackhole.consume(name);
+            blackhole.consume(value);
+            if (literal.literalType() == INCREMENTAL_INDEXING)
+            {
+                context.add(name, value);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(HpackHeaderBlockBM.class.getSimpleName())
+            .forks(0)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.config.binding.http.HttpCompressionConfig;
+
+public class HttpCompressionResolverTest
+{
+    @Test
+    public void shouldNegotiateFirstConfiguredEncoding()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder().build());
+
+        assertEquals("gzip", resolver.negotiate("gzip, deflate, br"));
+        assertEquals("gzip", resolver.negotiate("deflate, gzip"));
+        assertEquals("deflate", resolver.negotiate("deflate"));
+    }
+
+    @Test
+    public void shouldNegotiateByQuality()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder().build());
+
+        assertEquals("deflate", resolver.negotiate("gzip;q=0.5, deflate"));
+        assertEquals("deflate", resolver.negotiate("gzip;q=0, *"));
+        assertEquals("gzip", resolver.negotiate("*;q=0.1"));
+        assertNull(resolver.negotiate("gzip;q=0, deflate;q=0"));
+        assertNull(resolver.negotiate("identity"));
+        assertNull(resolver.negotiate(""));
+        assertNull(resolver.negotiate(null));
+    }
+
+    @Test
+    public void shouldNegotiateConfiguredEncodingsOnly()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder()
+            .encoding("deflate")
+            .build());
+
+        assertEquals("deflate", resolver.negotiate("gzip, deflate"));
+        assertNull(resolver.negotiate("gzip"));
+    }
+
+    @Test
+    public void shouldMatchDefaultTypes()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder().build());
+
+        assertTrue(resolver.compressible("application/json", -1L));
+        assertTrue(resolver.compressible("text/event-stream", -1L));
+        assertTrue(resolver.compressible("Text/HTML; charset=utf-8", 2048L));
+        assertFalse(resolver.compressible("image/png", -1L));
+        assertFalse(resolver.compressible(null, -1L));
+    }
+
+    @Test
+    public void shouldMatchConfiguredTypesAndMinSize()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder()
+            .minSize(512)
+            .type("application/json")
+            .build());
+
+        assertTrue(resolver.compressible("application/json", 512L));
+        assertTrue(resolver.compressible("application/json", -1L));
+        assertFalse(resolver.compressible("application/json", 511L));
+        assertFalse(resolver.compressible("text/plain", -1L));
+    }
+
+    @Test
+    public void shouldOverrideTypesAndInheritMinSize()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder()
+            .minSize(512)
+            .type("application/json")
+            .build())
+            .override(HttpCompressionConfig.builder()
+                .type("text/plain")
+                .build());
+
+        assertTrue(resolver.compressible("text/plain", 512L));
+        assertFalse(resolver.compressible("text/plain", 511L));
+        assertFalse(resolver.compressible("application/json", -1L));
+        assertEquals("gzip", resolver.negotiate("gzip, deflate"));
+    }
+
+    @Test
+    public void shouldOverrideMinSizeAndInheritTypes()
+    {
+        HttpCompressionResolver resolver = new HttpCompressionResolver(HttpCompressionConfig.builder()
+            .minSize(512)
+            .type("application/json")
+            .build())
+            .override(HttpCompressionConfig.builder()
+                .minSize(0)
+                .build());
+
+        assertTrue(resolver.compressible("application/json", 1L));
+        assertFalse(resolver.compressible("text/plain", -1L));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.config.binding.http.HttpConditionConfig;
+import io.aklivity.zilla.config.binding.http.HttpConditionConfigBuilder;
+import io.aklivity.zilla.config.engine.RouteConfig;
+
+public class HttpRouteResolverTest
+{
+    @Test
+    public void shouldResolveExactPath()
+    {
+        HttpRouteResolver resolver = resolver(
+            route(1L, Map.of(":path", "/items")),
+            route(2L, Map.of(":path", "/items/all")));
+
+        assertEquals(1L, resolve(resolver, "GET", "/items").id);
+        assertEquals(1L, resolve(resolver, "GET", "/items?limit=10").id);
+        assertEquals(2L, resolve(resolver, "GET", "/items/all").id);
+        assertNull(resolve(resolver, "GET", "/item"));
+        assertNull(resolve(resolver, "GET", "/items/other"));
+    }
+
+    @Test
+    public void shouldResolvePathPatterns()
+    {
+        HttpRouteResolver resolver = resolver(
+            route(1L, Map.of(":path", "/items/{id}/reviews")),
+            route(2L, Map.of(":path", "/items/{id}")),
+            route(3L, Map.of(":path", "/orders/*")));
+
+        assertEquals(1L, resolve(resolver, "GET", "/items/1/reviews").id);
+        assertEquals(2L, resolve(resolver, "GET", "/items/1").id);
+        assertEquals(3L, resolve(resolver, "GET", "/orders/1/lines").id);
+        assertNull(resolve(resolver, "GET", "/order"));
+    }
+
+    @Test
+    public void shouldResolveRoutesInOrder()
+    {
+        HttpRouteResolver resolver = resolver(
+            route(1L, Map.of(":path", "/items/*")),
+            route(2L, Map.of(":path", "/items/1")),
+            route(3L, Map.of()));
+
+        assertEquals(1L, resolve(resolver, "GET", "/items/1").id);
+        assertEquals(3L, resolve(resolver, "GET", "/other").id);
+    }
+
+    @Test
+    public void shouldResolveByMethodAndAuthority()
+    {
+        HttpRouteResolver resolver = resolver(
+            route(1L, Map.of(":method", "POST", ":path", "/items")),
+            route(2L, Map.of(":authority", "example.com:443", ":path", "/items")),
+            route(3L, Map.of(":method", "GET|HEAD", ":path", "/items")));
+
+        assertEquals(1L, resolve(resolver, "POST", "/items").id);
+        assertEquals(2L, resolve(resolver, "GET", "/items").id);
+        assertNull(resolve(resolver, "PUT", "/items", "localhost:8080"));
+        assertEquals(3L, resolve(resolver, "HEAD", "/items", "localhost:8080").id);
+    }
+
+    @Test
+    public void shouldResolveConditionsWithoutPath()
+    {
+        HttpRouteResolver resolver = resolver(
+            route(1L, Map.of(":path", "/items")),
+            route(2L, Map.of(":method", "DELETE")));
+
+        assertEquals(2L, resolve(resolver, "DELETE", "/orders").id);
+        assertNull(resolve(resolver, "GET", "/orders"));
+    }
+
+    private static HttpRouteConfig resolve(
+        HttpRouteResolver resolver,
+        String method,
+        String path)
+    {
+        return resolve(resolver, method, path, "example.com:443");
+    }
+
+    private static HttpRouteConfig resolve(
+        HttpRouteResolver resolver,
+        String method,
+        String path,
+        String authority)
+    {
+        Map<String, String> headers = Map.of(":method", method, ":path", path, ":authority", authority);
+        return resolver.resolve(0L, headers::get);
+    }
+
+    private static HttpRouteConfig route(
+        long id,
+        Map<String, String> headers)
+    {
+        HttpConditionConfigBuilder<HttpConditionConfig> condition = HttpConditionConfig.builder();
+        headers.forEach(condition::header);
+
+        RouteConfig route = RouteConfig.builder()
+            .when(condition.build())
+            .build();
+        route.id = id;
+        route.authorized = (s, r) -> true;
+
+        return new HttpRouteConfig(null, route, null, null);
+    }
+
+    private static HttpRouteResolver resolver(
+        HttpRouteConfig... routes)
+    {
+        return new HttpRouteResolver(new ArrayList<>(List.of(routes)));
+    }
+}
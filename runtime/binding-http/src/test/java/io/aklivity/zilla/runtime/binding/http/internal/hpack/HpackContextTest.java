@@ -169,4 +169,66 @@ public class HpackContextTest
 
     }
 
+    @Test
+    public void shouldKeepEntriesAcrossCompaction()
+    {
+        HpackContext context = new HpackContext(256, true);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            context.add("name" + i, "value" + i);
+
+            assertEquals(62, context.index("name" + i, "value" + i));
+            assertEquals("name" + i, context.name(62));
+            assertEquals("value" + i, context.value(62));
+            if (i > 0)
+            {
+                assertEquals(63, context.index("name" + (i - 1), "value" + (i - 1)));
+                assertEquals("name" + (i - 1), context.name(63));
+                assertEquals("value" + (i - 1), context.value(63));
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepEntriesWhenTableGrows()
+    {
+        HpackContext context = new HpackContext(100, true);
+        context.add("name1", "value1");
+        context.add("name2", "value2");
+
+        context.updateSize(4096);
+        context.add("name3", "value3");
+
+        assertEquals(3, context.tableEntries());
+        assertEquals(62, context.index("name3", "value3"));
+        assertEquals(63, context.index("name2", "value2"));
+        assertEquals(64, context.index("name1", "value1"));
+        assertEquals("value1", context.value(64));
+    }
+
+    @Test
+    public void shouldIndexNewestEntryWithSameName()
+    {
+        HpackContext context = new HpackContext(4096, true);
+        context.add("name1", "value1");
+        context.add("name1", "value2");
+
+        assertEquals(62, context.index("name1"));
+        assertEquals(62, context.index("name1", "value2"));
+        assertEquals(63, context.index("name1", "value1"));
+    }
+
+    @Test
+    public void shouldAddEntryWithNameFromDynamicTable()
+    {
+        HpackContext context = new HpackContext(84, false);
+        context.add("name1", "value1");
+
+        context.add(context.nameBuffer(62), context.valueBuffer(62));
+
+        assertEquals(1, context.tableEntries());
+        assertEquals("name1", context.name(62));
+        assertEquals("value1", context.value(62));
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.streams.rfc7540.server;
+
+import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_CONCURRENT_STREAMS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.engine.test.EngineRule;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+
+public class ContentCodingIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("net", "io/aklivity/zilla/specs/binding/http/streams/network/rfc7540/content.coding")
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/http/streams/application/rfc7540/content.coding");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(10, SECONDS));
+
+    private final EngineRule engine = new EngineRule()
+        .directory("target/zilla-itests")
+        .countersBufferCapacity(8192)
+        .configurationRoot("io/aklivity/zilla/specs/binding/http/config/v2")
+        .configure(HTTP_CONCURRENT_STREAMS, 100)
+        .external("app0")
+        .clean();
+
+    @Rule
+    public final TestRule chain = outerRule(engine).around(k3po).around(timeout);
+
+    @Test
+    @Configuration("server.compression.yaml")
+    @Specification({
+        "${net}/response.gzip/client",
+        "${app}/response.gzip/server" })
+    public void shouldEncodeResponseWithGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.compression.yaml")
+    @Specification({
+        "${net}/response.deflate/client",
+        "${app}/response.deflate/server" })
+    public void shouldEncodeResponseWithDeflateWhenGzipNotAcceptable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.compression.yaml")
+    @Specification({
+        "${net}/response.identity/client",
+        "${app}/response.identity/server" })
+    public void shouldNotEncodeResponseWhenNoEncodingAcceptable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.compression.route.yaml")
+    @Specification({
+        "${net}/response.gzip.route.types/client",
+        "${app}/response.gzip.route.types/server" })
+    public void shouldEncodeResponseWithGzipWhenRouteTypeMatches() throws Exception
+    {
+        k3po.finish();
+    }
+}
@@ -56,6 +56,13 @@ public class BufferUtilTest
                 "a nice warm cookie cutter indeed".getBytes()));
     }
 
+    @Test
+    public void shouldLocateLimitAfterPartialMatch()
+    {
+        DirectBufferEx buffer2 = new UnsafeBufferEx("\r\n\r\r\n\r\n".getBytes(US_ASCII));
+        assertEquals(buffer2.capacity(), BufferUtil.limitOfBytes(buffer2, 0, buffer2.capacity(), CRLFCRLF));
+    }
+
     @Test
     public void shouldLocateLimitWhenValueInSecondBuffer()
     {
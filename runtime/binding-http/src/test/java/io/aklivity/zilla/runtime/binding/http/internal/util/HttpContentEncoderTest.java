@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+public class HttpContentEncoderTest
+{
+    @Test
+    public void shouldEncodeGzip() throws IOException
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.gzip(6);
+
+        byte[] expected = content(100);
+        byte[] encoded = encode(encoder, expected, 10);
+
+        assertArrayEquals(expected, new GZIPInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+    }
+
+    @Test
+    public void shouldEncodeDeflate() throws IOException
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.deflate(6);
+
+        byte[] expected = content(100);
+        byte[] encoded = encode(encoder, expected, 10);
+
+        assertArrayEquals(expected, new InflaterInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+    }
+
+    @Test
+    public void shouldEncodeEmptyGzip() throws IOException
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.gzip(6);
+
+        byte[] encoded = encode(encoder, new byte[0], 1);
+
+        assertArrayEquals(new byte[0], new GZIPInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+    }
+
+    @Test
+    public void shouldFlushEachFragment() throws IOException
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.deflate(6);
+        MutableDirectBufferEx output = new UnsafeBufferEx(new byte[1024]);
+
+        byte[] fragment = "data: {\"id\":1}\n\n".getBytes(UTF_8);
+        int length = encoder.encode(new UnsafeBufferEx(fragment), 0, fragment.length, output, 0);
+
+        byte[] encoded = new byte[length];
+        output.getBytes(0, encoded);
+
+        InputStream input = new InflaterInputStream(new ByteArrayInputStream(encoded));
+        byte[] decoded = new byte[fragment.length];
+        int decodedLength = input.readNBytes(decoded, 0, decoded.length);
+
+        assertEquals(fragment.length, decodedLength);
+        assertArrayEquals(fragment, decoded);
+    }
+
+    @Test
+    public void shouldReuseAfterReset() throws IOException
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.gzip(6);
+
+        byte[] first = content(50);
+        encode(encoder, first, 5);
+        encoder.reset();
+
+        byte[] second = content(20);
+        byte[] encoded = encode(encoder, second, 4);
+
+        assertArrayEquals(second, new GZIPInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+    }
+
+    @Test
+    public void shouldEncodeWithinPadding()
+    {
+        HttpContentEncoder encoder = HttpContentEncoder.gzip(6);
+        MutableDirectBufferEx output = new UnsafeBufferEx(new byte[65536]);
+
+        byte[] random = new byte[16384];
+        new Random(0L).nextBytes(random);
+        int length = encoder.encode(new UnsafeBufferEx(random), 0, random.length, output, 0);
+        int finished = encoder.finish(output, length);
+
+        assertTrue(length <= random.length + HttpContentEncoder.padding(random.length));
+        assertTrue(finished <= HttpContentEncoder.FINISH_MAX);
+    }
+
+    private static byte[] encode(
+        HttpContentEncoder encoder,
+        byte[] content,
+        int fragments)
+    {
+        MutableDirectBufferEx output = new UnsafeBufferEx(new byte[content.length * 2 + 1024]);
+        DirectBufferEx input = new UnsafeBufferEx(content);
+
+        int progress = 0;
+        int fragment = Math.max(content.length / fragments, 1);
+        for (int offset = 0; offset < content.length; offset += fragment)
+        {
+            int length = Math.min(fragment, content.length - offset);
+            progress += encoder.encode(input, offset, length, output, progress);
+        }
+        progress += encoder.finish(output, progress);
+
+        byte[] encoded = new byte[progress];
+        output.getBytes(0, encoded);
+        return encoded;
+    }
+
+    private static byte[] content(
+        int records)
+    {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < records; i++)
+        {
+            content.append("{\"id\":").append(i).append(",\"status\":\"active\"}\n");
+        }
+        return content.toString().getBytes(UTF_8);
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static java.nio.file.StandardOpenOption.READ;
@@ -355,6 +357,19 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public void move(
+        Path directory)
+    {
+        try
+        {
+            Files.move(location, directory.resolve(location.getFileName()), ATOMIC_MOVE, REPLACE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
     public boolean empty()
     {
         return capacity == 0;
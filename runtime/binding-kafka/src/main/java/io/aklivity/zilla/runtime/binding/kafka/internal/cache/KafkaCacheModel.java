@@ -136,6 +136,21 @@ public final class KafkaCacheModel
         return total;
     }
 
+    public boolean prepare(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int limit)
+    {
+        return pipeline == null ||
+            pipeline.prepare(traceId, originId, routedId, streamId, signalId, contextId, data, index, limit - index);
+    }
+
     public int padding(
         DirectBufferEx data,
         int index,
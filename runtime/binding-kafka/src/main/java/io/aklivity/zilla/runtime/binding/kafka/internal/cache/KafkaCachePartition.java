@@ -41,8 +41,12 @@ import static org.agrona.BitUtil.SIZE_OF_INT;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -55,7 +59,9 @@ import jakarta.json.JsonStructure;
 import jakarta.json.JsonWriter;
 import jakarta.json.spi.JsonProvider;
 
+import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.io.DirectBufferInputStream;
 import org.agrona.io.ExpandableDirectBufferOutputStream;
@@ -103,6 +109,12 @@ public final class KafkaCachePartition
 
     private static final String FORMAT_FETCH_PARTITION_DIRECTORY = "%s-%d";
     private static final String FORMAT_PRODUCE_PARTITION_DIRECTORY = "%s-%d-%d";
+    private static final String FORMAT_CLEANER_FILES = "%019d.*";
+    private static final String CLEANER_DIRECTORY = ".cleaner";
+
+    private static final int CLEANER_STATE_CLEANING = 0;
+    private static final int CLEANER_STATE_CLEANED = 1;
+    private static final int CLEANER_STATE_ABORTED = 2;
 
     private static final int FLAGS_COMPLETE = 0x03;
     private static final int FLAGS_FIN = 0x01;
@@ -119,8 +131,6 @@ public final class KafkaCachePartition
 
     private final KafkaCachePaddedKeyFW paddedKeyRO = new KafkaCachePaddedKeyFW();
     private final KafkaCacheEntryFW headEntryRO = new KafkaCacheEntryFW();
-    private final KafkaCacheEntryFW logEntryRO = new KafkaCacheEntryFW();
-    private final KafkaCacheDeltaFW deltaEntryRO = new KafkaCacheDeltaFW();
 
     private final MutableDirectBufferEx entryInfo = new UnsafeBufferEx(new byte[FIELD_OFFSET_PADDED_KEY]);
     private final MutableDirectBufferEx valueInfo = new UnsafeBufferEx(new byte[Integer.BYTES]);
@@ -140,8 +150,10 @@ public final class KafkaCachePartition
     private final DirectBufferInputStream headIn = new DirectBufferInputStream();
     private final MutableDirectBufferEx diffBuffer = new ExpandableArrayBufferEx();
     private final ExpandableDirectBufferOutputStream diffOut = new ExpandableDirectBufferOutputStream();
+    private final Queue<MutableDirectBufferEx> cleanBufs = new ConcurrentLinkedQueue<>();
 
     private final Path location;
+    private final Path cleanerLocation;
     private final KafkaCacheTopicConfig config;
     private final String cache;
     private final String topic;
@@ -169,6 +181,7 @@ public final class KafkaCachePartition
         IntFunction<long[]> sortSpaceRef)
     {
         this.location = createDirectories(location.resolve(String.format(FORMAT_FETCH_PARTITION_DIRECTORY, topic, id)));
+        this.cleanerLocation = deleteDirectory(this.location.resolve(CLEANER_DIRECTORY));
         this.config = config;
         this.cache = cache;
         this.topic = topic;
@@ -194,6 +207,7 @@ public final class KafkaCachePartition
         int index)
     {
         this.location = createDirectories(location.resolve(String.format(FORMAT_PRODUCE_PARTITION_DIRECTORY, topic, id, index)));
+        this.cleanerLocation = deleteDirectory(this.location.resolve(CLEANER_DIRECTORY));
         this.config = config;
         this.cache = cache;
         this.produceCapacity = produceCapacity;
@@ -1116,6 +1130,7 @@ public final class KafkaCachePartition
         private volatile KafkaCacheSegment segment;
         private volatile KafkaCachePartition.Node previous;
         private volatile KafkaCachePartition.Node next;
+        private Cleaner cleaner;
 
         Node()
         {
@@ -1168,6 +1183,13 @@ public final class KafkaCachePartition
         public void remove()
         {
             assert segment != null;
+
+            if (cleaner != null)
+            {
+                cleaner.abort();
+                cleaner = null;
+            }
+
             segment.delete();
             segment.close();
 
@@ -1186,78 +1208,53 @@ public final class KafkaCachePartition
         public void clean(
             long now)
         {
-            assert next != sentinel; // not head segment
-
-            if (segment.cleanableAt() <= now)
+            final Cleaner cleaner = cleaner(now);
+            if (cleaner != null)
             {
-                // TODO: use temporary files plus move to avoid corrupted log on restart
-                segment.delete();
-
-                final KafkaCacheSegment appender = new KafkaCacheSegment(segment, config, appendBuf, sortSpaceRef);
-                final KafkaCacheFile logFile = segment.logFile();
-                final KafkaCacheFile deltaFile = segment.deltaFile();
-
-                for (int logPosition = 0; logPosition < logFile.capacity(); )
-                {
-                    final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, logEntryRO::wrap);
-                    if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
-                    {
-                        final long logOffset = logEntry.offset$();
-                        final KafkaKeyFW key = logEntry.paddedKey().key();
-                        final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
-                        final int deltaPosition = logEntry.deltaPosition();
-                        final long keyHash = computeHash(key);
-
-                        final long offsetDelta = (int)(logOffset - segment.baseOffset());
-                        final long indexEntry = (offsetDelta << 32) | appender.logFile().capacity();
-                        appender.indexFile().appendLong(indexEntry);
-
-                        final long keyHashEntry = keyHash << 32 | appender.logFile().capacity();
-                        appender.hashFile().appendLong(keyHashEntry);
-
-                        headers.forEach(header ->
-                        {
-                            final long headerHash = computeHash(header);
-                            final long headerHashEntry = headerHash << 32 | appender.logFile().capacity();
-                            appender.hashFile().appendLong(headerHashEntry);
-                        });
-
-                        appender.logFile().appendBytes(logEntry);
-                        if (deltaPosition != -1)
-                        {
-                            final int newLogEntryAt = appender.logFile().capacity() - logEntry.sizeof();
-                            appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION, deltaFile.capacity());
+                cleaner.run();
+                cleaned();
+            }
+        }
 
-                            final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, deltaEntryRO::wrap);
-                            appender.deltaFile().appendBytes(deltaEntry);
-                        }
+        public Cleaner cleaner(
+            long now)
+        {
+            assert next != sentinel; // not head segment
 
-                        // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
-                        final int deltaBaseOffset = 0;
-                        final long keyEntry = keyHash << 32 | deltaBaseOffset;
-                        appender.keysFile().appendLong(keyEntry);
+            Cleaner newCleaner = null;
 
-                        appender.lastOffset(logOffset);
-                    }
+            if (cleaner == null && segment.cleanableAt() <= now)
+            {
+                newCleaner = new Cleaner(this, segment);
+                cleaner = newCleaner;
+            }
 
-                    logPosition = logEntry.limit();
-                }
+            return newCleaner;
+        }
 
-                segment.close();
+        public Cleaner cleaned()
+        {
+            Cleaner cleaned = cleaner;
 
-                final KafkaCacheSegment frozen = appender.freeze();
-                appender.close();
+            if (cleaned != null && cleaned.state() != CLEANER_STATE_CLEANING)
+            {
+                cleaner = null;
 
-                if (frozen.logFile().empty())
+                if (cleaned.state() == CLEANER_STATE_CLEANED)
                 {
-                    frozen.delete();
-                    remove();
+                    cleaned.swap();
                 }
                 else
                 {
-                    segment(frozen);
+                    cleaned = null;
                 }
             }
+            else
+            {
+                cleaned = null;
+            }
+
+            return cleaned;
         }
 
         public void findAndAbortProducerId(
@@ -1367,6 +1364,257 @@ public final class KafkaCachePartition
         }
     }
 
+    // Rewrites a frozen segment without its dirty entries into temporary files away from the owning worker,
+    // so that the worker only pays for reconciling entries marked dirty during the rewrite and for the
+    // atomic moves that replace the original segment files.
+    public final class Cleaner implements Runnable
+    {
+        private final KafkaCacheEntryFW logEntryRO = new KafkaCacheEntryFW();
+        private final KafkaCacheEntryFW cleanEntryRO = new KafkaCacheEntryFW();
+        private final KafkaCacheDeltaFW deltaEntryRO = new KafkaCacheDeltaFW();
+        private final CRC32C checksum = new CRC32C();
+        private final LongArrayList positions = new LongArrayList();
+        private final AtomicInteger state = new AtomicInteger(CLEANER_STATE_CLEANING);
+
+        private final Node node;
+        private final KafkaCacheSegment segment;
+
+        private KafkaCacheSegment cleaned;
+        private long durationNanos;
+        private long reclaimedBytes;
+
+        private Cleaner(
+            Node node,
+            KafkaCacheSegment segment)
+        {
+            this.node = node;
+            this.segment = segment.acquire();
+        }
+
+        public long durationNanos()
+        {
+            return durationNanos;
+        }
+
+        public long reclaimedBytes()
+        {
+            return reclaimedBytes;
+        }
+
+        @Override
+        public void run()
+        {
+            final long startedAt = System.nanoTime();
+
+            // cleaners of different segments may run concurrently, so each borrows its own scratch buffer
+            // and returns it for the next cleaner instead of allocating direct memory per compaction
+            final MutableDirectBufferEx cleanBuf = supplyCleanBuf();
+
+            KafkaCacheSegment appender = null;
+            boolean completed = false;
+
+            try
+            {
+                createDirectories(cleanerLocation);
+
+                appender = new KafkaCacheSegment(segment, cleanerLocation, config, cleanBuf, sortSpaceRef);
+
+                final KafkaCacheFile logFile = segment.logFile();
+                final KafkaCacheFile deltaFile = segment.deltaFile();
+
+                for (int logPosition = 0; logPosition < logFile.capacity(); )
+                {
+                    if (state.get() != CLEANER_STATE_CLEANING)
+                    {
+                        break;
+                    }
+
+                    final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, logEntryRO::wrap);
+                    if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
+                    {
+                        final long logOffset = logEntry.offset$();
+                        final KafkaKeyFW key = logEntry.paddedKey().key();
+                        final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
+                        final int deltaPosition = logEntry.deltaPosition();
+                        final long keyHash = computeHash(key);
+                        final int newLogEntryAt = appender.logFile().capacity();
+
+                        final long offsetDelta = (int)(logOffset - segment.baseOffset());
+                        final long indexEntry = (offsetDelta << 32) | newLogEntryAt;
+                        appender.indexFile().appendLong(indexEntry);
+
+                        final long keyHashEntry = keyHash << 32 | newLogEntryAt;
+                        appender.hashFile().appendLong(keyHashEntry);
+
+                        final KafkaCacheSegment hashAppender = appender;
+                        headers.forEach(header ->
+                        {
+                            final long headerHash = computeHash(header);
+                            final long headerHashEntry = headerHash << 32 | newLogEntryAt;
+                            hashAppender.hashFile().appendLong(headerHashEntry);
+                        });
+
+                        appender.logFile().appendBytes(logEntry);
+                        if (deltaPosition != -1)
+                        {
+                            appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION,
+                                appender.deltaFile().capacity());
+
+                            final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, deltaEntryRO::wrap);
+                            appender.deltaFile().appendBytes(deltaEntry);
+                        }
+
+                        // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
+                        final int deltaBaseOffset = 0;
+                        final long keyEntry = keyHash << 32 | deltaBaseOffset;
+                        appender.keysFile().appendLong(keyEntry);
+
+                        appender.lastOffset(logOffset);
+
+                        positions.addLong((long) logPosition << 32 | newLogEntryAt);
+                    }
+
+                    logPosition = logEntry.limit();
+                }
+
+                cleaned = appender.freeze();
+                appender.close();
+                appender = null;
+
+                reclaimedBytes = logFile.capacity() + deltaFile.capacity() -
+                    cleaned.logFile().capacity() - cleaned.deltaFile().capacity();
+                durationNanos = System.nanoTime() - startedAt;
+
+                completed = state.compareAndSet(CLEANER_STATE_CLEANING, CLEANER_STATE_CLEANED);
+            }
+            finally
+            {
+                if (!completed)
+                {
+                    state.set(CLEANER_STATE_ABORTED);
+
+                    if (appender != null)
+                    {
+                        appender.close();
+                    }
+
+                    discard();
+                }
+
+                segment.release();
+                cleanBufs.offer(cleanBuf);
+            }
+        }
+
+        private int state()
+        {
+            return state.get();
+        }
+
+        private void abort()
+        {
+            if (!state.compareAndSet(CLEANER_STATE_CLEANING, CLEANER_STATE_ABORTED) &&
+                state.get() == CLEANER_STATE_CLEANED)
+            {
+                discard();
+            }
+        }
+
+        private void swap()
+        {
+            assert node.segment == segment;
+
+            final KafkaCacheFile logFile = segment.logFile();
+            final KafkaCacheFile cleanFile = cleaned.logFile();
+
+            for (int index = 0; index < positions.size(); index++)
+            {
+                final long position = positions.getLong(index);
+                final int logPosition = (int) (position >>> 32);
+                final int cleanPosition = (int) position;
+
+                final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, logEntryRO::wrap);
+                final KafkaCacheEntryFW cleanEntry = cleanFile.readBytes(cleanPosition, cleanEntryRO::wrap);
+                final int flags = logEntry.flags();
+
+                if (flags != cleanEntry.flags())
+                {
+                    cleanFile.writeLong(cleanPosition + FIELD_OFFSET_DESCENDANT, logEntry.descendant());
+                    cleanFile.writeInt(cleanPosition + FIELD_OFFSET_FLAGS, flags);
+
+                    if ((flags & CACHE_ENTRY_FLAGS_DIRTY) != 0)
+                    {
+                        cleaned.markDirtyBytes(logEntry.sizeof());
+                    }
+                }
+            }
+
+            if (cleanFile.empty())
+            {
+                discard();
+                node.remove();
+            }
+            else
+            {
+                final KafkaCacheSegment moved = cleaned.move(location);
+                cleaned = null;
+                node.segment(moved);
+            }
+        }
+
+        private void discard()
+        {
+            if (cleaned != null)
+            {
+                cleaned.close();
+                cleaned = null;
+            }
+
+            if (Files.exists(cleanerLocation))
+            {
+                final String pattern = String.format(FORMAT_CLEANER_FILES, segment.baseOffset());
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(cleanerLocation, pattern))
+                {
+                    for (Path file : files)
+                    {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                catch (IOException ex)
+                {
+                    LangUtil.rethrowUnchecked(ex);
+                }
+            }
+        }
+
+        private long computeHash(
+            Flyweight keyOrHeader)
+        {
+            final DirectBufferEx buffer = keyOrHeader.buffer();
+            final ByteBuffer byteBuffer = buffer.byteBuffer();
+            byteBuffer.clear();
+            assert byteBuffer != null;
+            checksum.reset();
+            byteBuffer.position(keyOrHeader.offset());
+            byteBuffer.limit(keyOrHeader.limit());
+            checksum.update(byteBuffer);
+            return checksum.getValue();
+        }
+    }
+
+    private MutableDirectBufferEx supplyCleanBuf()
+    {
+        final MutableDirectBufferEx cleanBuf = cleanBufs.poll();
+        return cleanBuf != null ? cleanBuf : new UnsafeBufferEx(allocateDirect(appendBuf.capacity()));
+    }
+
+    private static Path deleteDirectory(
+        Path directory)
+    {
+        IoUtil.delete(directory.toFile(), true);
+        return directory;
+    }
+
     private static Path createDirectories(
         Path directory)
     {
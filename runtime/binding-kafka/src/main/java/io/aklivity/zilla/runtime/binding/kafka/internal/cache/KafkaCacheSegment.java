@@ -59,7 +59,17 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         MutableDirectBufferEx appendBuf,
         IntFunction<long[]> sortSpaceRef)
     {
-        this(segment.location,
+        this(segment, segment.location, config, appendBuf, sortSpaceRef);
+    }
+
+    public KafkaCacheSegment(
+        KafkaCacheSegment segment,
+        Path location,
+        KafkaCacheTopicConfig config,
+        MutableDirectBufferEx appendBuf,
+        IntFunction<long[]> sortSpaceRef)
+    {
+        this(location,
                 config,
                 segment.name,
                 segment.id,
@@ -224,6 +234,28 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return frozen;
     }
 
+    public KafkaCacheSegment move(
+        Path location)
+    {
+        close();
+
+        convertedFile.move(location);
+        deltaFile.move(location);
+        indexFile.move(location);
+        hashFile.move(location);
+        nullsFile.move(location);
+        keysFile.move(location);
+        logFile.move(location);
+
+        final KafkaCacheSegment moved = new KafkaCacheSegment(location, name, id, baseOffset, lastOffset, timestamp);
+
+        moved.dirtySince = dirtySince;
+        moved.dirtyBytes = dirtyBytes;
+        moved.cleanableAt = cleanableAt;
+
+        return moved;
+    }
+
     public void delete()
     {
         logFile.delete();
@@ -176,6 +176,64 @@ public final class KafkaPipeline
         return value != KafkaCacheModel.NONE;
     }
 
+    /**
+     * Prepares the key lane's model for the given key without blocking, so {@link #transformKey} can run
+     * without waiting on a catalog.
+     *
+     * @param traceId    the trace identifier for diagnostics
+     * @param originId   the origin binding id of the stream to signal
+     * @param routedId   the routed binding id of the stream to signal
+     * @param streamId   the stream id to signal
+     * @param signalId   the signal identifier delivered to the stream
+     * @param contextId  the signal context delivered to the stream
+     * @param data       the buffer holding the untransformed key
+     * @param index      the offset of the key
+     * @param limit      the offset just past the key
+     * @return {@code true} if the key lane is ready, {@code false} if the stream will be signaled
+     */
+    public boolean prepareKey(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int limit)
+    {
+        return key.prepare(traceId, originId, routedId, streamId, signalId, contextId, data, index, limit);
+    }
+
+    /**
+     * Prepares the value lane's model for the value starting in the given fragment without blocking, so
+     * {@link #transformValue} can run without waiting on a catalog.
+     *
+     * @param traceId    the trace identifier for diagnostics
+     * @param originId   the origin binding id of the stream to signal
+     * @param routedId   the routed binding id of the stream to signal
+     * @param streamId   the stream id to signal
+     * @param signalId   the signal identifier delivered to the stream
+     * @param contextId  the signal context delivered to the stream
+     * @param data       the buffer holding the first fragment of the untransformed value
+     * @param index      the offset of the fragment
+     * @param limit      the offset just past the fragment
+     * @return {@code true} if the value lane is ready, {@code false} if the stream will be signaled
+     */
+    public boolean prepareValue(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int limit)
+    {
+        return value.prepare(traceId, originId, routedId, streamId, signalId, contextId, data, index, limit);
+    }
+
     /**
      * Drives the key through its model, selecting the key lane for the transform chain. A stage may append
      * to the key lane while this runs; appending to any other lane is not supported.
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+public enum KafkaCompression
+{
+    NONE(0),
+    GZIP(1),
+    SNAPPY(2),
+    LZ4(3),
+    ZSTD(4);
+
+    private static final int ATTRIBUTES_COMPRESSION_MASK = 0x07;
+
+    private static final KafkaCompression[] VALUES = values();
+
+    private final int id;
+
+    KafkaCompression(
+        int id)
+    {
+        this.id = id;
+    }
+
+    public int id()
+    {
+        return id;
+    }
+
+    public static KafkaCompression valueOf(
+        int attributes)
+    {
+        final int id = attributes & ATTRIBUTES_COMPRESSION_MASK;
+        return id < VALUES.length ? VALUES[id] : null;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.agrona.DirectBuffer;
+
+import io.airlift.compress.v3.Compressor;
+import io.airlift.compress.v3.lz4.Lz4JavaCompressor;
+import io.airlift.compress.v3.snappy.SnappyJavaCompressor;
+import io.airlift.compress.v3.zstd.ZstdJavaCompressor;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * Compresses the records section of a {@code RecordBatch} into a reusable scratch buffer, using the
+ * same framing as the Kafka Java client so brokers and consumers can decode the result.
+ * <p>
+ * Instances hold per-worker scratch state and must not be shared across threads. The uncompressed bytes
+ * are first copied into the input scratch, so the caller may overwrite its own buffer with the result
+ * exposed by {@link #buffer()}, which remains valid until the next call to {@link #compress}.
+ */
+public final class KafkaRecordsCompressor
+{
+    public static final int COMPRESS_FAILED = -1;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_METHOD_DEFLATE = 8;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int GZIP_OS_UNKNOWN = 0xff;
+
+    private static final long SNAPPY_XERIAL_MAGIC = 0x82534e4150505900L;
+    private static final int SNAPPY_XERIAL_VERSION = 1;
+    private static final int SNAPPY_XERIAL_COMPATIBLE_VERSION = 1;
+    private static final int SNAPPY_XERIAL_HEADER_SIZE = 16;
+    private static final int SNAPPY_XERIAL_BLOCK_SIZE = 32 * 1024;
+
+    private static final int LZ4_FRAME_MAGIC = 0x184d2204;
+    private static final byte LZ4_FRAME_FLAGS = 0x60; // version 1, independent blocks
+    private static final byte LZ4_FRAME_BLOCK_DESCRIPTOR = 0x40; // 64KB max block size
+    private static final byte LZ4_FRAME_HEADER_CHECKSUM = (byte) 0x82; // xxhash32(flags, descriptor) >> 8
+    private static final int LZ4_FRAME_HEADER_SIZE = 7;
+    private static final int LZ4_FRAME_BLOCK_SIZE = 64 * 1024;
+    private static final int LZ4_BLOCK_UNCOMPRESSED = 0x80000000;
+
+    private final byte[] input;
+    private final byte[] output;
+    private final UnsafeBufferEx outputRW;
+
+    private final Deflater deflater;
+    private final CRC32 crc32;
+    private final Compressor snappy;
+    private final Compressor lz4;
+    private final Compressor zstd;
+
+    public KafkaRecordsCompressor(
+        int inputCapacity,
+        int outputCapacity)
+    {
+        this.input = new byte[inputCapacity];
+        this.output = new byte[outputCapacity];
+        this.outputRW = new UnsafeBufferEx(output);
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.crc32 = new CRC32();
+        this.snappy = new SnappyJavaCompressor();
+        this.lz4 = new Lz4JavaCompressor();
+        this.zstd = new ZstdJavaCompressor();
+    }
+
+    public int inputCapacity()
+    {
+        return input.length;
+    }
+
+    public int outputCapacity()
+    {
+        return output.length;
+    }
+
+    public DirectBufferEx buffer()
+    {
+        return outputRW;
+    }
+
+    public int compress(
+        KafkaCompression compression,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        int compressed = COMPRESS_FAILED;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(index, input, 0, length);
+
+            switch (compression)
+            {
+            case NONE:
+                compressed = compressNone(length);
+                break;
+            case GZIP:
+                compressed = compressGzip(length);
+                break;
+            case SNAPPY:
+                compressed = compressSnappy(length);
+                break;
+            case LZ4:
+                compressed = compressLz4(length);
+                break;
+            case ZSTD:
+                compressed = compressBlock(zstd, 0, length, 0);
+                break;
+            }
+        }
+
+        return compressed;
+    }
+
+    private int compressNone(
+        int length)
+    {
+        int compressed = COMPRESS_FAILED;
+
+        if (length <= output.length)
+        {
+            System.arraycopy(input, 0, output, 0, length);
+            compressed = length;
+        }
+
+        return compressed;
+    }
+
+    private int compressGzip(
+        int length)
+    {
+        int compressed = COMPRESS_FAILED;
+
+        encode:
+        if (GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE <= output.length)
+        {
+            outputRW.putShort(0, (short) GZIP_MAGIC, LITTLE_ENDIAN);
+            outputRW.putByte(2, (byte) GZIP_METHOD_DEFLATE);
+            outputRW.putByte(3, (byte) 0);
+            outputRW.putInt(4, 0, LITTLE_ENDIAN);
+            outputRW.putByte(8, (byte) 0);
+            outputRW.putByte(9, (byte) GZIP_OS_UNKNOWN);
+
+            final int outputLimit = output.length - GZIP_TRAILER_SIZE;
+            int outputProgress = GZIP_HEADER_SIZE;
+
+            deflater.reset();
+            deflater.setInput(input, 0, length);
+            deflater.finish();
+
+            while (!deflater.finished())
+            {
+                if (outputProgress == outputLimit)
+                {
+                    break encode;
+                }
+
+                outputProgress += deflater.deflate(output, outputProgress, outputLimit - outputProgress);
+            }
+
+            crc32.reset();
+            crc32.update(input, 0, length);
+
+            outputRW.putInt(outputProgress, (int) crc32.getValue(), LITTLE_ENDIAN);
+            outputProgress += Integer.BYTES;
+            outputRW.putInt(outputProgress, length, LITTLE_ENDIAN);
+            outputProgress += Integer.BYTES;
+
+            compressed = outputProgress;
+        }
+
+        return compressed;
+    }
+
+    private int compressSnappy(
+        int length)
+    {
+        int compressed = COMPRESS_FAILED;
+
+        encode:
+        if (SNAPPY_XERIAL_HEADER_SIZE <= output.length)
+        {
+            outputRW.putLong(0, SNAPPY_XERIAL_MAGIC, BIG_ENDIAN);
+            outputRW.putInt(Long.BYTES, SNAPPY_XERIAL_VERSION, BIG_ENDIAN);
+            outputRW.putInt(Long.BYTES + Integer.BYTES, SNAPPY_XERIAL_COMPATIBLE_VERSION, BIG_ENDIAN);
+
+            int progress = 0;
+            int outputProgress = SNAPPY_XERIAL_HEADER_SIZE;
+
+            while (progress < length)
+            {
+                final int blockLength = Math.min(length - progress, SNAPPY_XERIAL_BLOCK_SIZE);
+                final int chunkLength = compressBlock(snappy, progress, blockLength, outputProgress + Integer.BYTES);
+
+                if (chunkLength == COMPRESS_FAILED)
+                {
+                    break encode;
+                }
+
+                outputRW.putInt(outputProgress, chunkLength, BIG_ENDIAN);
+                outputProgress += Integer.BYTES + chunkLength;
+                progress += blockLength;
+            }
+
+            compressed = outputProgress;
+        }
+
+        return compressed;
+    }
+
+    private int compressLz4(
+        int length)
+    {
+        int compressed = COMPRESS_FAILED;
+
+        encode:
+        if (LZ4_FRAME_HEADER_SIZE + Integer.BYTES <= output.length)
+        {
+            outputRW.putInt(0, LZ4_FRAME_MAGIC, LITTLE_ENDIAN);
+            outputRW.putByte(Integer.BYTES, LZ4_FRAME_FLAGS);
+            outputRW.putByte(Integer.BYTES + 1, LZ4_FRAME_BLOCK_DESCRIPTOR);
+            outputRW.putByte(Integer.BYTES + 2, LZ4_FRAME_HEADER_CHECKSUM);
+
+            int progress = 0;
+            int outputProgress = LZ4_FRAME_HEADER_SIZE;
+
+            while (progress < length)
+            {
+                final int blockLength = Math.min(length - progress, LZ4_FRAME_BLOCK_SIZE);
+                final int blockOffset = outputProgress + Integer.BYTES;
+
+                int blockHeader = compressBlock(lz4, progress, blockLength, blockOffset);
+
+                if (blockHeader == COMPRESS_FAILED || blockHeader >= blockLength)
+                {
+                    if (blockOffset + blockLength > output.length)
+                    {
+                        break encode;
+                    }
+
+                    System.arraycopy(input, progress, output, blockOffset, blockLength);
+                    blockHeader = blockLength | LZ4_BLOCK_UNCOMPRESSED;
+                }
+
+                outputRW.putInt(outputProgress, blockHeader, LITTLE_ENDIAN);
+                outputProgress = blockOffset + (blockHeader & ~LZ4_BLOCK_UNCOMPRESSED);
+                progress += blockLength;
+            }
+
+            if (outputProgress + Integer.BYTES > output.length)
+            {
+                break encode;
+            }
+
+            outputRW.putInt(outputProgress, 0, LITTLE_ENDIAN);
+            outputProgress += Integer.BYTES;
+
+            compressed = outputProgress;
+        }
+
+        return compressed;
+    }
+
+    private int compressBlock(
+        Compressor compressor,
+        int offset,
+        int length,
+        int outputOffset)
+    {
+        final int maxOutputLength = output.length - outputOffset;
+
+        return outputOffset <= output.length &&
+               compressor.maxCompressedLength(length) <= maxOutputLength
+            ? compressor.compress(input, offset, length, output, outputOffset, maxOutputLength)
+            : COMPRESS_FAILED;
+    }
+}
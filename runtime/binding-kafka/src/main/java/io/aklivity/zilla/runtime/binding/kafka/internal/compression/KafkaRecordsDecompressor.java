@@ -0,0 +1,407 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import io.airlift.compress.v3.Decompressor;
+import io.airlift.compress.v3.MalformedInputException;
+import io.airlift.compress.v3.lz4.Lz4JavaDecompressor;
+import io.airlift.compress.v3.snappy.SnappyJavaDecompressor;
+import io.airlift.compress.v3.zstd.ZstdJavaDecompressor;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+
+/**
+ * Decompresses the records section of a compressed {@code RecordBatch} into a buffer pool slot.
+ * <p>
+ * Instances hold per-worker state and must not be shared across threads. The compressed bytes are read
+ * in place from the caller's buffer and decoded into a slot acquired by {@link #decompress}, exposed by
+ * {@link #buffer()} until {@link #release()} returns the slot to the pool. A caller that consumes the
+ * records across several passes takes ownership of the slot with {@link #detach()}, reads it again with
+ * {@link #buffer(int)} and returns it with {@link #release(int)}.
+ */
+public final class KafkaRecordsDecompressor
+{
+    public static final int DECOMPRESS_FAILED = -1;
+    public static final int DECOMPRESS_NO_SLOT = -2;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_METHOD_DEFLATE = 8;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final long SNAPPY_XERIAL_MAGIC = 0x82534e4150505900L;
+    private static final int SNAPPY_XERIAL_HEADER_SIZE = 16;
+
+    private static final int LZ4_FRAME_MAGIC = 0x184d2204;
+    private static final int LZ4_FRAME_VERSION = 1;
+    private static final int LZ4_FLAG_BLOCK_CHECKSUM = 0x10;
+    private static final int LZ4_FLAG_CONTENT_SIZE = 0x08;
+    private static final int LZ4_FLAG_DICTIONARY_ID = 0x01;
+    private static final int LZ4_BLOCK_UNCOMPRESSED = 0x80000000;
+
+    private final BufferPool bufferPool;
+    private final int maxBytes;
+    private final UnsafeBufferEx inputRO;
+    private final UnsafeBufferEx outputRW;
+
+    private final Inflater inflater;
+    private final CRC32 checksum;
+    private final Decompressor snappy;
+    private final Decompressor lz4;
+    private final Decompressor zstd;
+
+    private int slot = NO_SLOT;
+
+    public KafkaRecordsDecompressor(
+        BufferPool bufferPool,
+        int maxBytes)
+    {
+        this.bufferPool = bufferPool.duplicate();
+        this.maxBytes = maxBytes;
+        this.inputRO = new UnsafeBufferEx();
+        this.outputRW = new UnsafeBufferEx();
+        this.inflater = new Inflater(true);
+        this.checksum = new CRC32();
+        this.snappy = new SnappyJavaDecompressor();
+        this.lz4 = new Lz4JavaDecompressor();
+        this.zstd = new ZstdJavaDecompressor();
+    }
+
+    public DirectBufferEx buffer()
+    {
+        return outputRW;
+    }
+
+    public int decompress(
+        long streamId,
+        KafkaCompression compression,
+        DirectBufferEx buffer,
+        int index,
+        int length)
+    {
+        assert slot == NO_SLOT;
+
+        slot = bufferPool.acquire(streamId, maxBytes);
+        if (slot == NO_SLOT)
+        {
+            slot = bufferPool.acquire(streamId);
+        }
+
+        int decompressed = DECOMPRESS_NO_SLOT;
+
+        if (slot != NO_SLOT)
+        {
+            inputRO.wrap(buffer, index, length);
+            outputRW.wrap(bufferPool.buffer(slot), 0, Math.min(bufferPool.slotCapacity(slot), maxBytes));
+
+            try
+            {
+                decompressed = switch (compression)
+                {
+                case NONE -> decompressNone(length);
+                case GZIP -> decompressGzip(length);
+                case SNAPPY -> decompressSnappy(length);
+                case LZ4 -> decompressLz4(length);
+                case ZSTD -> zstd.decompress(input(0, length), output(0));
+                };
+            }
+            catch (MalformedInputException | IndexOutOfBoundsException ex)
+            {
+                decompressed = DECOMPRESS_FAILED;
+            }
+
+            if (decompressed == DECOMPRESS_FAILED)
+            {
+                release();
+            }
+        }
+
+        return decompressed;
+    }
+
+    public DirectBufferEx buffer(
+        int slot)
+    {
+        outputRW.wrap(bufferPool.buffer(slot), 0, Math.min(bufferPool.slotCapacity(slot), maxBytes));
+        return outputRW;
+    }
+
+    public int detach()
+    {
+        final int detached = slot;
+        slot = NO_SLOT;
+        return detached;
+    }
+
+    public void release()
+    {
+        if (slot != NO_SLOT)
+        {
+            bufferPool.release(slot);
+            slot = NO_SLOT;
+        }
+    }
+
+    public void release(
+        int slot)
+    {
+        bufferPool.release(slot);
+    }
+
+    private int decompressNone(
+        int length)
+    {
+        int decompressed = DECOMPRESS_FAILED;
+
+        if (length <= outputRW.capacity())
+        {
+            outputRW.putBytes(0, inputRO, 0, length);
+            decompressed = length;
+        }
+
+        return decompressed;
+    }
+
+    private int decompressGzip(
+        int length)
+    {
+        int decompressed = DECOMPRESS_FAILED;
+
+        decode:
+        if (length >= GZIP_HEADER_SIZE &&
+            (inputRO.getShort(0, LITTLE_ENDIAN) & 0xffff) == GZIP_MAGIC &&
+            inputRO.getByte(2) == GZIP_METHOD_DEFLATE)
+        {
+            final int flags = inputRO.getByte(3) & 0xff;
+
+            int progress = GZIP_HEADER_SIZE;
+
+            if ((flags & GZIP_FLAG_EXTRA) != 0)
+            {
+                progress += Short.BYTES + (inputRO.getShort(progress, LITTLE_ENDIAN) & 0xffff);
+            }
+
+            if ((flags & GZIP_FLAG_NAME) != 0)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_COMMENT) != 0)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_HCRC) != 0)
+            {
+                progress += Short.BYTES;
+            }
+
+            if (progress >= length)
+            {
+                break decode;
+            }
+
+            final ByteBuffer output = output(0).asByteBuffer();
+
+            inflater.reset();
+            inflater.setInput(input(progress, length - progress).asByteBuffer());
+
+            try
+            {
+                while (!inflater.finished() &&
+                       !inflater.needsInput() &&
+                       output.hasRemaining())
+                {
+                    inflater.inflate(output);
+                }
+
+                final int trailer = progress + (int) inflater.getBytesRead();
+
+                if (inflater.finished() &&
+                    trailer + GZIP_TRAILER_SIZE <= length)
+                {
+                    final ByteBuffer inflated = output.flip();
+                    checksum.reset();
+                    checksum.update(inflated);
+
+                    if ((int) checksum.getValue() == inputRO.getInt(trailer, LITTLE_ENDIAN) &&
+                        (int) inflater.getBytesWritten() == inputRO.getInt(trailer + Integer.BYTES, LITTLE_ENDIAN))
+                    {
+                        decompressed = inflated.limit();
+                    }
+                }
+            }
+            catch (DataFormatException ex)
+            {
+                decompressed = DECOMPRESS_FAILED;
+            }
+        }
+
+        return decompressed;
+    }
+
+    private int decompressSnappy(
+        int length)
+    {
+        int decompressed = DECOMPRESS_FAILED;
+
+        if (length >= SNAPPY_XERIAL_HEADER_SIZE &&
+            inputRO.getLong(0, BIG_ENDIAN) == SNAPPY_XERIAL_MAGIC)
+        {
+            int progress = SNAPPY_XERIAL_HEADER_SIZE;
+            int outputProgress = 0;
+
+            while (progress + Integer.BYTES <= length)
+            {
+                final int chunkLength = inputRO.getInt(progress, BIG_ENDIAN);
+                progress += Integer.BYTES;
+
+                if (chunkLength < 0 || progress + chunkLength > length)
+                {
+                    outputProgress = DECOMPRESS_FAILED;
+                    break;
+                }
+
+                outputProgress += snappy.decompress(input(progress, chunkLength), output(outputProgress));
+                progress += chunkLength;
+            }
+
+            decompressed = progress == length ? outputProgress : DECOMPRESS_FAILED;
+        }
+        else
+        {
+            decompressed = snappy.decompress(input(0, length), output(0));
+        }
+
+        return decompressed;
+    }
+
+    private int decompressLz4(
+        int length)
+    {
+        int decompressed = DECOMPRESS_FAILED;
+
+        decode:
+        if (length >= Integer.BYTES + 3 &&
+            inputRO.getInt(0, LITTLE_ENDIAN) == LZ4_FRAME_MAGIC)
+        {
+            final int flags = inputRO.getByte(Integer.BYTES) & 0xff;
+            if (flags >> 6 != LZ4_FRAME_VERSION)
+            {
+                break decode;
+            }
+
+            int progress = Integer.BYTES + 2;
+
+            if ((flags & LZ4_FLAG_CONTENT_SIZE) != 0)
+            {
+                progress += Long.BYTES;
+            }
+
+            if ((flags & LZ4_FLAG_DICTIONARY_ID) != 0)
+            {
+                progress += Integer.BYTES;
+            }
+
+            // header checksum
+            progress++;
+
+            final boolean blockChecksum = (flags & LZ4_FLAG_BLOCK_CHECKSUM) != 0;
+
+            int outputProgress = 0;
+            while (progress + Integer.BYTES <= length)
+            {
+                final int blockHeader = inputRO.getInt(progress, LITTLE_ENDIAN);
+                progress += Integer.BYTES;
+
+                if (blockHeader == 0)
+                {
+                    decompressed = outputProgress;
+                    break decode;
+                }
+
+                final int blockLength = blockHeader & ~LZ4_BLOCK_UNCOMPRESSED;
+                if (progress + blockLength > length)
+                {
+                    break decode;
+                }
+
+                if ((blockHeader & LZ4_BLOCK_UNCOMPRESSED) != 0)
+                {
+                    if (outputProgress + blockLength > outputRW.capacity())
+                    {
+                        break decode;
+                    }
+
+                    outputRW.putBytes(outputProgress, inputRO, progress, blockLength);
+                    outputProgress += blockLength;
+                }
+                else
+                {
+                    outputProgress += lz4.decompress(input(progress, blockLength), output(outputProgress));
+                }
+
+                progress += blockLength;
+
+                if (blockChecksum)
+                {
+                    progress += Integer.BYTES;
+                }
+            }
+        }
+
+        return decompressed;
+    }
+
+    private MemorySegment input(
+        int index,
+        int length)
+    {
+        return inputRO.segment().asSlice(inputRO.wrapAdjustment() + index, length);
+    }
+
+    private MemorySegment output(
+        int index)
+    {
+        return outputRW.segment().asSlice(outputRW.wrapAdjustment() + index, outputRW.capacity() - index);
+    }
+
+    private int skipZeroTerminated(
+        int progress,
+        int limit)
+    {
+        while (progress < limit && inputRO.getByte(progress) != 0)
+        {
+            progress++;
+        }
+        return progress + 1;
+    }
+}
@@ -24,12 +24,14 @@ import java.util.List;
 import java.util.function.ToLongFunction;
 
 import io.aklivity.zilla.config.binding.kafka.KafkaOptionsConfig;
+import io.aklivity.zilla.config.binding.kafka.KafkaProduceConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaSaslConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaSaslCredentialsConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaServerConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaTopicConfig;
 import io.aklivity.zilla.config.engine.BindingConfig;
 import io.aklivity.zilla.config.engine.KindConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompression;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -116,6 +118,32 @@ public final class KafkaBindingConfig
         return options != null ? options.servers : null;
     }
 
+    public KafkaCompression produceCompression()
+    {
+        KafkaProduceConfig produce = options != null ? options.produce : null;
+        return produce != null && produce.compression != null
+            ? KafkaCompression.valueOf(produce.compression.toUpperCase())
+            : KafkaCompression.NONE;
+    }
+
+    public long produceLinger(
+        long defaultLinger)
+    {
+        KafkaProduceConfig produce = options != null ? options.produce : null;
+        return produce != null && produce.linger != null
+            ? produce.linger
+            : defaultLinger;
+    }
+
+    public int produceBatchSize(
+        int defaultBatchSize)
+    {
+        KafkaProduceConfig produce = options != null ? options.produce : null;
+        return produce != null && produce.batchSize != null
+            ? produce.batchSize
+            : defaultBatchSize;
+    }
+
     public KafkaDeltaType supplyDeltaType(
         String topic,
         KafkaDeltaType deltaType)
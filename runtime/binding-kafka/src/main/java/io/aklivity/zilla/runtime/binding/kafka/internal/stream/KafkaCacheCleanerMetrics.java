@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.GAUGE;
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.HISTOGRAM;
+
+import java.util.function.LongConsumer;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionDurationMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionReclaimedMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionsActiveMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionsMetric;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+
+final class KafkaCacheCleanerMetrics
+{
+    private final EngineContext context;
+    private final int compactionsId;
+    private final int activeId;
+    private final int durationId;
+    private final int reclaimedId;
+    private final Long2ObjectHashMap<BindingMetrics> metricsByBindingId;
+
+    KafkaCacheCleanerMetrics(
+        EngineContext context)
+    {
+        this.context = context;
+        this.compactionsId = context.supplyTypeId(KafkaCacheCompactionsMetric.NAME);
+        this.activeId = context.supplyTypeId(KafkaCacheCompactionsActiveMetric.NAME);
+        this.durationId = context.supplyTypeId(KafkaCacheCompactionDurationMetric.NAME);
+        this.reclaimedId = context.supplyTypeId(KafkaCacheCompactionReclaimedMetric.NAME);
+        this.metricsByBindingId = new Long2ObjectHashMap<>();
+    }
+
+    void onCleanerStarted(
+        long bindingId)
+    {
+        final BindingMetrics metrics = supplyMetrics(bindingId);
+        metrics.recordActive.accept(++metrics.active);
+    }
+
+    void onCleanerSignaled(
+        long bindingId)
+    {
+        final BindingMetrics metrics = supplyMetrics(bindingId);
+        metrics.active = Math.max(metrics.active - 1, 0);
+        metrics.recordActive.accept(metrics.active);
+    }
+
+    void onCleaned(
+        long bindingId,
+        KafkaCachePartition.Cleaner cleaned)
+    {
+        final BindingMetrics metrics = supplyMetrics(bindingId);
+        metrics.recordCompactions.accept(1L);
+        metrics.recordDuration.accept(cleaned.durationNanos());
+        metrics.recordReclaimed.accept(cleaned.reclaimedBytes());
+    }
+
+    private BindingMetrics supplyMetrics(
+        long bindingId)
+    {
+        return metricsByBindingId.computeIfAbsent(bindingId, BindingMetrics::new);
+    }
+
+    private final class BindingMetrics
+    {
+        private final LongConsumer recordCompactions;
+        private final LongConsumer recordActive;
+        private final LongConsumer recordDuration;
+        private final LongConsumer recordReclaimed;
+
+        private long active;
+
+        private BindingMetrics(
+            long bindingId)
+        {
+            this.recordCompactions = context.supplyMetricWriter(COUNTER, bindingId, compactionsId, 0, null);
+            this.recordActive = context.supplyMetricWriter(GAUGE, bindingId, activeId, 0, null);
+            this.recordDuration = context.supplyMetricWriter(HISTOGRAM, bindingId, durationId, 0, null);
+            this.recordReclaimed = context.supplyMetricWriter(COUNTER, bindingId, reclaimedId, 0, null);
+        }
+    }
+}
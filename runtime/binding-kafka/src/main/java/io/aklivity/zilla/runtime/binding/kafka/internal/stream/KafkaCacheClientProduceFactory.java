@@ -43,6 +43,7 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFa
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaCacheCursor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheModel;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheSegment;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopic;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
@@ -126,6 +127,7 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
     private static final int SIGNAL_GROUP_CLEANUP = 2;
 
     private static final int SIGNAL_RECONNECT = 3;
+    private static final int SIGNAL_SEGMENT_CLEANED = 4;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -179,6 +181,7 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
     private final int trailersSizeMax;
     private final int reconnectDelay;
     private final EngineContext context;
+    private final KafkaCacheCleanerMetrics cleanerMetrics;
 
     public KafkaCacheClientProduceFactory(
         KafkaConfiguration config,
@@ -212,6 +215,7 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
         this.cursorFactory = new KafkaCacheCursorFactory(context.writeBuffer().capacity());
         this.trailersSizeMax = config.cacheClientTrailersSizeMax();
         this.reconnectDelay = config.cacheServerReconnect();
+        this.cleanerMetrics = new KafkaCacheCleanerMetrics(context);
     }
 
     @Override
@@ -951,6 +955,9 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
             case SIGNAL_SEGMENT_COMPACT:
                 onClientFanInitialSignalSegmentCompact(signal);
                 break;
+            case SIGNAL_SEGMENT_CLEANED:
+                onClientFanInitialSignalSegmentCleaned(signal);
+                break;
             case SIGNAL_GROUP_CLEANUP:
                 onClientFanInitialSignalCleanup(signal);
                 break;
@@ -960,12 +967,18 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
         private void onClientFanInitialSignalSegmentCompact(
             SignalFW signal)
         {
+            final long traceId = signal.traceId();
             final long now = currentTimeMillis();
 
             KafkaCachePartition.Node segmentNode = partition.sentinel().next();
             while (!segmentNode.next().sentinel()) // avoid cleaning head
             {
-                segmentNode.clean(now);
+                final KafkaCachePartition.Cleaner cleaner = segmentNode.cleaner(now);
+                if (cleaner != null)
+                {
+                    cleanerMetrics.onCleanerStarted(routedId);
+                    signaler.signalTask(cleaner, originId, routedId, initialId, traceId, SIGNAL_SEGMENT_CLEANED, 0);
+                }
                 segmentNode = segmentNode.next();
             }
 
@@ -973,6 +986,32 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
             this.compactId = NO_CANCEL_ID;
         }
 
+        private void onClientFanInitialSignalSegmentCleaned(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+
+            cleanerMetrics.onCleanerSignaled(routedId);
+
+            KafkaCachePartition.Node segmentNode = partition.sentinel().next();
+            while (!segmentNode.sentinel() && !segmentNode.next().sentinel()) // head is never cleaned
+            {
+                final KafkaCachePartition.Node nextNode = segmentNode.next();
+                final KafkaCachePartition.Cleaner cleaned = segmentNode.cleaned();
+                if (cleaned != null)
+                {
+                    cleanerMetrics.onCleaned(routedId, cleaned);
+
+                    final KafkaCacheSegment segment = segmentNode.segment();
+                    if (!segment.closed())
+                    {
+                        doClientFanCompactAt(partition.compactAt(segment), traceId);
+                    }
+                }
+                segmentNode = nextNode;
+            }
+        }
+
         private void onClientFanInitialSignalCleanup(
             SignalFW signal)
         {
@@ -1144,6 +1183,15 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
 
             final long newCompactAt = this.partition.compactAt(node.segment());
 
+            doClientFanCompactAt(newCompactAt, traceId);
+
+            return dirtyEntry;
+        }
+
+        private void doClientFanCompactAt(
+            long newCompactAt,
+            long traceId)
+        {
             if (newCompactAt != Long.MAX_VALUE)
             {
                 if (compactId != NO_CANCEL_ID && newCompactAt < compactAt)
@@ -1158,8 +1206,6 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
                     this.compactId = doClientFanoutInitialSignalAt(newCompactAt, traceId, SIGNAL_SEGMENT_COMPACT);
                 }
             }
-
-            return dirtyEntry;
         }
 
         private void onClientFanReplyEnd(
@@ -125,6 +125,8 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private static final int SIGNAL_SEGMENT_RETAIN = 2;
     private static final int SIGNAL_SEGMENT_DELETE = 3;
     private static final int SIGNAL_SEGMENT_COMPACT = 4;
+    private static final int SIGNAL_SEGMENT_CLEANED = 5;
+    private static final int SIGNAL_MODEL_PREPARED = 6;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -170,6 +172,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private final LongFunction<KafkaCacheRoute> supplyCacheRoute;
     private final int reconnectDelay;
     private final EngineContext context;
+    private final KafkaCacheCleanerMetrics cleanerMetrics;
     private final boolean verbose;
     private final long retentionMillisMaxLive;
 
@@ -199,6 +202,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         this.reconnectDelay = config.cacheServerReconnect();
         this.verbose = config.verbose();
         this.retentionMillisMaxLive = config.cacheRetentionMillisMax();
+        this.cleanerMetrics = new KafkaCacheCleanerMetrics(context);
     }
 
     @Override
@@ -518,6 +522,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         private long compactAt = Long.MAX_VALUE;
         private long reconnectAt = NO_CANCEL_ID;
         private int reconnectAttempt;
+        private boolean preparing;
 
         private KafkaCacheServerFetchFanout(
             long originId,
@@ -659,6 +664,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             }
 
             this.partitionOffset = partition.nextOffset(defaultOffset);
+            this.preparing = false;
 
             this.receiver = newStream(this::onServerFanoutMessage,
                 originId, routedId, initialId, initialSeq, initialAck, initialMax,
@@ -724,7 +730,11 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
                 break;
             case DataFW.TYPE_ID:
                 final DataFW data = dataRO.wrap(buffer, index, index + length);
-                onServerFanoutReplyData(data);
+                preparing = preparing || !onServerFanoutReplyDataPrepare(data);
+                if (!preparing)
+                {
+                    onServerFanoutReplyData(data);
+                }
                 break;
             case EndFW.TYPE_ID:
                 final EndFW end = endRO.wrap(buffer, index, index + length);
@@ -735,8 +745,11 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
                 onServerFanoutReplyAbort(abort);
                 break;
             case FlushFW.TYPE_ID:
-                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
-                onServerFanoutReplyFlush(flush);
+                if (!preparing)
+                {
+                    final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                    onServerFanoutReplyFlush(flush);
+                }
                 break;
             case ResetFW.TYPE_ID:
                 final ResetFW reset = resetRO.wrap(buffer, index, index + length);
@@ -848,6 +861,31 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             doServerFanoutReplyWindow(traceId, 0, replyMax);
         }
 
+        // a model still resolving its schema parks the fanout before the entry is written, dropping the reply
+        // frames that follow; once signaled, the fanout reconnects from the first offset not yet in the cache
+        private boolean onServerFanoutReplyDataPrepare(
+            DataFW data)
+        {
+            boolean prepared = true;
+
+            if ((data.flags() & FLAGS_INIT) != 0x00)
+            {
+                final long traceId = data.traceId();
+                final OctetsFW valueFragment = data.payload();
+                final KafkaDataExFW kafkaDataEx = data.extension().get(kafkaDataExRO::wrap);
+                final OctetsFW key = kafkaDataEx.fetch().key().value();
+
+                prepared = (key == null ||
+                        pipeline.prepareKey(traceId, originId, routedId, initialId, SIGNAL_MODEL_PREPARED, 0,
+                            key.buffer(), key.offset(), key.limit())) &&
+                    (valueFragment == null ||
+                        pipeline.prepareValue(traceId, originId, routedId, initialId, SIGNAL_MODEL_PREPARED, 0,
+                            valueFragment.buffer(), valueFragment.offset(), valueFragment.limit()));
+            }
+
+            return prepared;
+        }
+
         private void onServerFanoutReplyData(
             DataFW data)
         {
@@ -985,20 +1023,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
                     if (partition.cleanupPolicy().compact())
                     {
                         final long newCompactAt = partition.compactAt(head.segment());
-                        if (newCompactAt != Long.MAX_VALUE)
-                        {
-                            if (compactId != NO_CANCEL_ID && newCompactAt < compactAt)
-                            {
-                                signaler.cancel(compactId);
-                                this.compactId = NO_CANCEL_ID;
-                            }
-
-                            if (compactId == NO_CANCEL_ID)
-                            {
-                                this.compactAt = newCompactAt;
-                                this.compactId = doServerFanoutInitialSignalAt(newCompactAt, 0, SIGNAL_SEGMENT_COMPACT);
-                            }
-                        }
+                        doServerFanoutCompactAt(newCompactAt, 0);
                     }
                     break ancestor;
                 }
@@ -1027,21 +1052,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
                                 if (partition.cleanupPolicy().compact())
                                 {
                                     final long newCompactAt = partition.compactAt(segment);
-                                    if (newCompactAt != Long.MAX_VALUE)
-                                    {
-                                        if (compactId != NO_CANCEL_ID && newCompactAt < compactAt)
-                                        {
-                                            signaler.cancel(compactId);
-                                            this.compactId = NO_CANCEL_ID;
-                                        }
-
-                                        if (compactId == NO_CANCEL_ID)
-                                        {
-                                            this.compactAt = newCompactAt;
-                                            this.compactId = doServerFanoutInitialSignalAt(newCompactAt, 0,
-                                                SIGNAL_SEGMENT_COMPACT);
-                                        }
-                                    }
+                                    doServerFanoutCompactAt(newCompactAt, 0);
                                 }
                                 break ancestor;
                             }
@@ -1227,6 +1238,25 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             case SIGNAL_SEGMENT_COMPACT:
                 onServerFanoutInitialSignalSegmentCompact(signal);
                 break;
+            case SIGNAL_SEGMENT_CLEANED:
+                onServerFanoutInitialSignalSegmentCleaned(signal);
+                break;
+            case SIGNAL_MODEL_PREPARED:
+                onServerFanoutInitialSignalModelPrepared(signal);
+                break;
+            }
+        }
+
+        private void onServerFanoutInitialSignalModelPrepared(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+
+            if (preparing)
+            {
+                doServerFanoutInitialAbortIfNecessary(traceId);
+                doServerFanoutReplyResetIfNecessary(traceId);
+                doServerFanoutInitialBeginIfNecessary(traceId);
             }
         }
 
@@ -1266,12 +1296,18 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         private void onServerFanoutInitialSignalSegmentCompact(
             SignalFW signal)
         {
+            final long traceId = signal.traceId();
             final long now = currentTimeMillis();
 
             Node segmentNode = partition.sentinel().next();
             while (!segmentNode.next().sentinel()) // avoid cleaning head
             {
-                segmentNode.clean(now);
+                final KafkaCachePartition.Cleaner cleaner = segmentNode.cleaner(now);
+                if (cleaner != null)
+                {
+                    cleanerMetrics.onCleanerStarted(routedId);
+                    signaler.signalTask(cleaner, originId, routedId, initialId, traceId, SIGNAL_SEGMENT_CLEANED, 0);
+                }
                 segmentNode = segmentNode.next();
             }
 
@@ -1279,6 +1315,52 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             this.compactId = NO_CANCEL_ID;
         }
 
+        private void onServerFanoutInitialSignalSegmentCleaned(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+
+            cleanerMetrics.onCleanerSignaled(routedId);
+
+            Node segmentNode = partition.sentinel().next();
+            while (!segmentNode.sentinel() && !segmentNode.next().sentinel()) // head is never cleaned
+            {
+                final Node nextNode = segmentNode.next();
+                final KafkaCachePartition.Cleaner cleaned = segmentNode.cleaned();
+                if (cleaned != null)
+                {
+                    cleanerMetrics.onCleaned(routedId, cleaned);
+
+                    final KafkaCacheSegment segment = segmentNode.segment();
+                    if (!segment.closed())
+                    {
+                        doServerFanoutCompactAt(partition.compactAt(segment), traceId);
+                    }
+                }
+                segmentNode = nextNode;
+            }
+        }
+
+        private void doServerFanoutCompactAt(
+            long newCompactAt,
+            long traceId)
+        {
+            if (newCompactAt != Long.MAX_VALUE)
+            {
+                if (compactId != NO_CANCEL_ID && newCompactAt < compactAt)
+                {
+                    signaler.cancel(compactId);
+                    this.compactId = NO_CANCEL_ID;
+                }
+
+                if (compactId == NO_CANCEL_ID)
+                {
+                    this.compactAt = newCompactAt;
+                    this.compactId = doServerFanoutInitialSignalAt(newCompactAt, traceId, SIGNAL_SEGMENT_COMPACT);
+                }
+            }
+        }
+
         private void doServerFanoutReplyResetIfNecessary(
             long traceId)
         {
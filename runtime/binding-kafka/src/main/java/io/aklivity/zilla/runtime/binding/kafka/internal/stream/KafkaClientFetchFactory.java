@@ -21,17 +21,25 @@ import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_I
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 
+import org.agrona.BitUtil;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.IntArrayList;
 import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongLongConsumer;
 
 import io.aklivity.zilla.config.binding.kafka.KafkaSaslConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompression;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsDecompressor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Flyweight;
@@ -56,6 +64,11 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.Partit
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TopicRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TopicResponseFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TransactionResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch_v7.FetchSessionRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch_v7.FetchSessionResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch_v7.ForgottenPartitionRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch_v7.ForgottenTopicRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch_v7.ForgottenTopicsRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.MessageHeaderFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordBatchFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordHeaderFW;
@@ -120,6 +133,9 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final short FETCH_API_KEY = 1;
     private static final short FETCH_API_VERSION = 5;
+    private static final short FETCH_SESSION_API_VERSION = 7;
+
+    private static final int FETCH_PARTITION_REQUEST_SIZE = PartitionRequestFW.FIELD_OFFSET_MAX_BYTES + BitUtil.SIZE_OF_INT;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -151,12 +167,20 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final FetchRequestFW.Builder fetchRequestRW = new FetchRequestFW.Builder();
     private final TopicRequestFW.Builder fetchTopicRequestRW = new TopicRequestFW.Builder();
     private final PartitionRequestFW.Builder fetchPartitionRequestRW = new PartitionRequestFW.Builder();
+    private final FetchSessionRequestFW.Builder fetchSessionRequestRW = new FetchSessionRequestFW.Builder();
+    private final ForgottenTopicsRequestFW.Builder forgottenTopicsRequestRW = new ForgottenTopicsRequestFW.Builder();
+    private final ForgottenTopicRequestFW.Builder forgottenTopicRequestRW = new ForgottenTopicRequestFW.Builder();
+    private final ForgottenPartitionRequestFW.Builder forgottenPartitionRequestRW = new ForgottenPartitionRequestFW.Builder();
+    private final ResponseHeaderFW.Builder responseHeaderRW = new ResponseHeaderFW.Builder();
+    private final FetchResponseFW.Builder fetchResponseRW = new FetchResponseFW.Builder();
+    private final TopicResponseFW.Builder topicResponseRW = new TopicResponseFW.Builder();
 
     private final ResponseHeaderFW responseHeaderRO = new ResponseHeaderFW();
     private final OffsetsResponseFW offsetsResponseRO = new OffsetsResponseFW();
     private final OffsetsTopicResponseFW offsetsTopicResponseRO = new OffsetsTopicResponseFW();
     private final OffsetsPartitionResponseFW offsetsPartitionResponseRO = new OffsetsPartitionResponseFW();
     private final FetchResponseFW fetchResponseRO = new FetchResponseFW();
+    private final FetchSessionResponseFW fetchSessionResponseRO = new FetchSessionResponseFW();
     private final TopicResponseFW topicResponseRO = new TopicResponseFW();
     private final PartitionResponseFW partitionResponseRO = new PartitionResponseFW();
     private final TransactionResponseFW transactionResponseRO = new TransactionResponseFW();
@@ -189,6 +213,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final KafkaFetchClientDecoder decodeFetchTransaction = this::decodeFetchTransaction;
     private final KafkaFetchClientDecoder decodeFetchRecordSet = this::decodeFetchRecordSet;
     private final KafkaFetchClientDecoder decodeFetchRecordBatch = this::decodeFetchRecordBatch;
+    private final KafkaFetchClientDecoder decodeFetchRecordBatchCompressed = this::decodeFetchRecordBatchCompressed;
     private final KafkaFetchClientDecoder decodeFetchRecordLength = this::decodeFetchRecordLength;
     private final KafkaFetchClientDecoder decodeFetchRecord = this::decodeFetchRecord;
     private final KafkaFetchClientDecoder decodeFetchRecordInit = this::decodeFetchRecordInit;
@@ -202,6 +227,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final int fetchMaxBytes;
     private final int fetchMaxWaitMillis;
     private final int partitionMaxBytes;
+    private final boolean fetchSessions;
     private final int kafkaTypeId;
     private final int proxyTypeId;
     private final MutableDirectBufferEx extBuffer;
@@ -213,6 +239,9 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final LongFunction<BudgetDebitor> supplyDebitor;
     private final LongFunction<KafkaClientRoute> supplyClientRoute;
     private final int decodeMaxBytes;
+    private final KafkaRecordsDecompressor decompressor;
+    private final MutableDirectBufferEx fetchPrefixBuffer;
+    private final Long2ObjectHashMap<Long2ObjectHashMap<KafkaFetchCoordinator>> fetchCoordinators;
 
     public KafkaClientFetchFactory(
         KafkaConfiguration config,
@@ -225,6 +254,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.fetchMaxBytes = config.clientFetchMaxBytes();
         this.fetchMaxWaitMillis = config.clientFetchMaxWaitMillis();
         this.partitionMaxBytes = config.clientFetchPartitionMaxBytes();
+        this.fetchSessions = config.clientFetchSessions();
         this.kafkaTypeId = context.supplyTypeId(KafkaBinding.NAME);
         this.proxyTypeId = context.supplyTypeId("proxy");
         this.signaler = context.signaler();
@@ -236,6 +266,9 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.supplyDebitor = supplyDebitor;
         this.supplyClientRoute = supplyClientRoute;
         this.decodeMaxBytes = decodePool.slotCapacity();
+        this.decompressor = new KafkaRecordsDecompressor(decodePool, config.clientFetchDecompressMaxBytes());
+        this.fetchPrefixBuffer = new UnsafeBufferEx(new byte[decodeMaxBytes]);
+        this.fetchCoordinators = new Long2ObjectHashMap<>();
     }
 
     @Override
@@ -1104,12 +1137,20 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 client.decodableRecordBatchBytes -= recordBatchProgress;
                 assert client.decodableRecordBatchBytes >= 0;
 
-                if (isCompressedBatch(attributes) || isControlBatch(attributes) && !isTransactionalBatch(attributes))
+                if (isControlBatch(attributes) && !isTransactionalBatch(attributes))
                 {
                     client.decoder = decodeIgnoreRecordBatch;
                     break decode;
                 }
 
+                if (isCompressedBatch(attributes))
+                {
+                    client.decoder = isControlBatch(attributes)
+                        ? decodeIgnoreRecordBatch
+                        : decodeFetchRecordBatchCompressed;
+                    break decode;
+                }
+
                 client.decoder = decodeFetchRecordLength;
             }
         }
@@ -1117,6 +1158,172 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return progress;
     }
 
+    private int decodeFetchRecordBatchCompressed(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBufferEx buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+        final int compressedLength = client.decodableRecordBatchBytes;
+
+        decode:
+        if (compressedLength > decodeMaxBytes ||
+            compressedLength > client.decodableRecordSetBytes)
+        {
+            // compressed batch cannot be buffered whole, or is truncated at the end of the record set
+            client.decoder = decodeIgnoreRecordBatch;
+            break decode;
+        }
+        else if (length >= compressedLength)
+        {
+            if (client.decompressSlot == NO_SLOT)
+            {
+                final KafkaCompression compression = KafkaCompression.valueOf(client.decodeRecordBatchAttributes);
+                final int decompressedLength = compression != null
+                    ? decompressor.decompress(client.stream.replyId, compression, buffer, progress, compressedLength)
+                    : KafkaRecordsDecompressor.DECOMPRESS_FAILED;
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[client] [0x%016x] %s[%d] FETCH RecordBatch %s %d -> %d\n",
+                        client.replyId, client.topic, client.partitionId, compression, compressedLength, decompressedLength);
+                }
+
+                if (decompressedLength == KafkaRecordsDecompressor.DECOMPRESS_NO_SLOT)
+                {
+                    // retry when the next window or data arrives
+                    break decode;
+                }
+
+                if (decompressedLength == KafkaRecordsDecompressor.DECOMPRESS_FAILED)
+                {
+                    client.decoder = decodeIgnoreRecordBatch;
+                    break decode;
+                }
+
+                // keep the decompressed records until the batch is fully consumed,
+                // so a batch stalled on reply budget resumes without decompressing again
+                client.decompressSlot = decompressor.detach();
+                client.decompressLimit = decompressedLength;
+                client.decompressProgress = 0;
+            }
+
+            final int decompressedLength = client.decompressLimit;
+            final DirectBufferEx records = decompressor.buffer(client.decompressSlot);
+            int recordsProgress = client.decompressProgress;
+            while (recordsProgress < decompressedLength)
+            {
+                final RecordHeaderFW recordHeader = recordHeaderRO.tryWrap(records, recordsProgress, decompressedLength);
+                if (recordHeader == null)
+                {
+                    client.decoder = decodeIgnoreRecordBatch;
+                    break decode;
+                }
+
+                final Varint32FW recordLength = recordLengthRO.wrap(records, recordsProgress, decompressedLength);
+                final int sizeofRecord = recordLength.sizeof() + recordLength.value();
+                final int recordLimit = recordHeader.offset() + sizeofRecord;
+
+                if (recordLimit > decompressedLength)
+                {
+                    client.decoder = decodeIgnoreRecordBatch;
+                    break decode;
+                }
+
+                final long offsetAbs = client.decodeRecordBatchOffset + recordHeader.offsetDelta();
+
+                if (offsetAbs >= client.nextOffset)
+                {
+                    final int valueLength = recordHeader.valueLength();
+                    final int valueOffset = recordHeader.limit();
+                    final int valueSize = Math.max(valueLength, 0);
+                    final int valueReserved = valueSize + client.stream.replyPad;
+
+                    if (valueReserved > client.stream.replyBudget())
+                    {
+                        client.decompressProgress = recordsProgress;
+                        break decode;
+                    }
+
+                    if (valueReserved != 0 && client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+                    {
+                        final int valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                                client.stream.replyId, valueReserved, valueReserved, 0);
+
+                        if (valueClaimed == 0)
+                        {
+                            client.decompressProgress = recordsProgress;
+                            break decode;
+                        }
+                    }
+
+                    final long timestampAbs = client.decodeRecordBatchTimestamp + recordHeader.timestampDelta();
+                    final OctetsFW key = recordHeader.key();
+                    final OctetsFW value =
+                            valueLength != -1 ? valueRO.wrap(records, valueOffset, valueOffset + valueLength) : null;
+
+                    final int trailerOffset = valueOffset + valueSize;
+                    final RecordTrailerFW recordTrailer = recordTrailerRO.wrap(records, trailerOffset, recordLimit);
+                    final int headerCount = recordTrailer.headerCount();
+                    final int headersOffset = recordTrailer.limit();
+                    final int headersLength = recordLimit - headersOffset;
+                    final DirectBufferEx headers = wrapHeaders(records, headersOffset, headersLength);
+
+                    client.decodeRecordOffset = offsetAbs;
+                    client.onDecodeFetchRecord(traceId, client.decodeRecordBatchAborted, valueReserved, offsetAbs,
+                            timestampAbs, client.decodeRecordBatchTimestampType, client.decodeRecordBatchProducerId,
+                            key, value, headerCount, headers);
+
+                    if (client.decoder == decodeIgnoreAll)
+                    {
+                        break decode;
+                    }
+                }
+
+                recordsProgress = recordLimit;
+            }
+
+            client.decodableRecords = 0;
+            progress += compressedLength;
+
+            client.decodableResponseBytes -= compressedLength;
+            assert client.decodableResponseBytes >= 0;
+
+            client.decodableRecordSetBytes -= compressedLength;
+            assert client.decodableRecordSetBytes >= 0;
+
+            if (KafkaConfiguration.DEBUG)
+            {
+                System.out.format("[client] [0x%016x] %s[%d] FETCH Record Set Bytes %d\n",
+                    client.replyId, client.topic, client.partitionId, client.decodableRecordSetBytes);
+            }
+
+            client.decodableRecordBatchBytes -= compressedLength;
+            assert client.decodableRecordBatchBytes == 0;
+
+            client.nextOffset = Math.max(client.nextOffset, client.decodeRecordBatchLastOffset + 1);
+            client.decoder = decodeFetchRecordBatch;
+        }
+
+        if (client.decoder != decodeFetchRecordBatchCompressed)
+        {
+            client.cleanupDecompressSlotIfNecessary();
+        }
+
+        if (client.decoder == decodeIgnoreAll)
+        {
+            client.cleanupNetwork(traceId);
+        }
+
+        return progress;
+    }
+
     private int decodeFetchRecordLength(
         KafkaFetchStream.KafkaFetchClient client,
         long traceId,
@@ -2162,7 +2369,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             private final LongLongConsumer encodeSaslHandshakeRequest = this::doEncodeSaslHandshakeRequest;
             private final LongLongConsumer encodeSaslAuthenticateRequest = this::doEncodeSaslAuthenticateRequest;
             private final LongLongConsumer encodeOffsetsRequest = this::doEncodeOffsetsRequest;
-            private final LongLongConsumer encodeFetchRequest = this::doEncodeFetchRequest;
+            private final LongLongConsumer encodeFetchRequest;
 
             private MessageConsumer network;
             private final KafkaFetchStream stream;
@@ -2170,6 +2377,10 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             private final Int2IntHashMap topicPartitions;
             private final int partitionId;
             private final KafkaIsolation isolation;
+            private final boolean fetchCoordinated;
+
+            private KafkaFetchCoordinator fetchCoordinator;
+            private int fetchCoordinatorRound;
 
             private long nextOffset;
             private long stableOffset;
@@ -2221,6 +2432,10 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             private int decodableRecordBytes;
             private int decodableRecordValueBytes;
 
+            private int decompressSlot = NO_SLOT;
+            private int decompressLimit;
+            private int decompressProgress;
+
             private int nextResponseId;
 
             private KafkaFetchClientDecoder decoder;
@@ -2246,6 +2461,8 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 this.nextOffset = initialOffset;
                 this.latestOffset = latestOffset;
                 this.isolation = isolation;
+                this.fetchCoordinated = fetchSessions && sasl == null;
+                this.encodeFetchRequest = fetchCoordinated ? this::doEncodeFetchRequestCoordinated : this::doEncodeFetchRequest;
                 this.encoder = encodeFetchRequest;
                 this.decoder = decodeReject;
                 this.decodeAbortedTransactions = new Long2LongHashMap(Long.MIN_VALUE);
@@ -2526,6 +2743,8 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             {
                 state = KafkaState.closingInitial(state);
 
+                detachFetchCoordinatorIfNecessary(traceId);
+
                 if (encodeSlot == NO_SLOT)
                 {
                     doNetworkEnd(traceId, authorization);
@@ -2541,6 +2760,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                         traceId, authorization, EMPTY_OCTETS);
 
                 cleanupEncodeSlotIfNecessary();
+                detachFetchCoordinatorIfNecessary(traceId);
 
                 deauthorizeGuardSession();
             }
@@ -2556,6 +2776,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
 
                 cleanupEncodeSlotIfNecessary();
+                detachFetchCoordinatorIfNecessary(traceId);
 
                 deauthorizeGuardSession();
             }
@@ -2571,6 +2792,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
 
                 cleanupDecodeSlotIfNecessary();
+                detachFetchCoordinatorIfNecessary(traceId);
 
                 deauthorizeGuardSession();
             }
@@ -2786,6 +3008,78 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 this.decoder = decodeFetchResponse;
             }
 
+            private void doEncodeFetchRequestCoordinated(
+                long traceId,
+                long budgetId)
+            {
+                if (fetchCoordinator == null)
+                {
+                    fetchCoordinator = supplyFetchCoordinator(this);
+                }
+
+                nextRequestId++;
+
+                client.decodeRecordBatchLastOffset = nextOffset - 1;
+
+                this.decoder = decodeFetchResponse;
+
+                fetchCoordinator.doFetch(traceId, this);
+            }
+
+            private int onFetchCoordinatorData(
+                long traceId,
+                DirectBufferEx buffer,
+                int offset,
+                int limit)
+            {
+                if (decodeSlot == NO_SLOT)
+                {
+                    decodeSlot = decodePool.acquire(initialId);
+                }
+
+                int length = 0;
+
+                if (decodeSlot == NO_SLOT)
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    final MutableDirectBufferEx slotBuffer = decodePool.buffer(decodeSlot);
+                    length = Math.min(limit - offset, slotBuffer.capacity() - decodeSlotOffset);
+
+                    if (length > 0)
+                    {
+                        slotBuffer.putBytes(decodeSlotOffset, buffer, offset, length);
+                        decodeSlotOffset += length;
+
+                        decodeNetwork(traceId, authorization, 0L, 0, slotBuffer, 0, decodeSlotOffset);
+                    }
+                }
+
+                return length;
+            }
+
+            private void onFetchCoordinatorError(
+                long traceId,
+                int errorCode)
+            {
+                onDecodeResponseErrorCode(traceId, originId, errorCode, topic);
+                cleanupApplication(traceId, errorCode);
+                doNetworkEnd(traceId, authorization);
+            }
+
+            private void detachFetchCoordinatorIfNecessary(
+                long traceId)
+            {
+                if (fetchCoordinator != null)
+                {
+                    final KafkaFetchCoordinator coordinator = fetchCoordinator;
+                    fetchCoordinator = null;
+                    coordinator.detach(traceId, this);
+                }
+            }
+
             private void encodeNetwork(
                 long traceId,
                 long authorization,
@@ -2853,6 +3147,11 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
                     decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
                 }
+
+                if (fetchCoordinator != null)
+                {
+                    fetchCoordinator.decodeNetworkIfNecessary(traceId);
+                }
             }
 
             private void decodeNetwork(
@@ -3233,6 +3532,19 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                     decodeSlotOffset = 0;
                     decodeSlotReserved = 0;
                 }
+
+                cleanupDecompressSlotIfNecessary();
+            }
+
+            private void cleanupDecompressSlotIfNecessary()
+            {
+                if (decompressSlot != NO_SLOT)
+                {
+                    decompressor.release(decompressSlot);
+                    decompressSlot = NO_SLOT;
+                    decompressLimit = 0;
+                    decompressProgress = 0;
+                }
             }
 
             private void cleanupEncodeSlotIfNecessary()
@@ -3248,6 +3560,1128 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         }
     }
 
+    private KafkaFetchCoordinator supplyFetchCoordinator(
+        KafkaFetchStream.KafkaFetchClient client)
+    {
+        final Long2ObjectHashMap<KafkaFetchCoordinator> coordinators =
+            fetchCoordinators.computeIfAbsent(client.routedId, id -> new Long2ObjectHashMap<>());
+        final long key = fetchCoordinatorKey(client.stream.leaderId, client.isolation);
+
+        KafkaFetchCoordinator coordinator = coordinators.get(key);
+        if (coordinator == null)
+        {
+            coordinator = new KafkaFetchCoordinator(client.originId, client.routedId, key, client.stream.leaderId,
+                client.isolation, client.server, client.clientId);
+            coordinators.put(key, coordinator);
+        }
+
+        return coordinator;
+    }
+
+    private static long fetchCoordinatorKey(
+        long leaderId,
+        KafkaIsolation isolation)
+    {
+        return leaderId << 1 | isolation.ordinal();
+    }
+
+    @FunctionalInterface
+    private interface KafkaFetchCoordinatorDecoder
+    {
+        int decode(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit);
+    }
+
+    private final class KafkaFetchCoordinator
+    {
+        private final KafkaFetchCoordinatorDecoder decodeResponse = this::decodeResponse;
+        private final KafkaFetchCoordinatorDecoder decodeSessionResponse = this::decodeSessionResponse;
+        private final KafkaFetchCoordinatorDecoder decodeTopic = this::decodeTopic;
+        private final KafkaFetchCoordinatorDecoder decodePartition = this::decodePartition;
+        private final KafkaFetchCoordinatorDecoder decodeRecordSet = this::decodeRecordSet;
+        private final BiConsumer<String, IntArrayList> encodeForgottenTopic = this::encodeForgottenTopic;
+
+        private final long originId;
+        private final long routedId;
+        private final long key;
+        private final long leaderId;
+        private final KafkaIsolation isolation;
+        private final KafkaServerConfig server;
+        private final String16FW clientId;
+        private final long initialId;
+        private final long replyId;
+        private final KafkaFetchSession session;
+        private final List<KafkaFetchStream.KafkaFetchClient> clients;
+        private final List<KafkaFetchStream.KafkaFetchClient> pending;
+        private final List<KafkaFetchStream.KafkaFetchClient> inflight;
+
+        private MessageConsumer network;
+        private int state;
+        private long authorization;
+        private boolean signaling;
+        private boolean decoding;
+        private int round;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+        private int initialPad;
+        private long initialBudgetId;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+
+        private int encodeSlot = NO_SLOT;
+        private int encodeSlotOffset;
+        private long encodeSlotTraceId;
+        private int encodeProgress;
+        private int encodeLimit;
+        private int encodeForgottenTopics;
+
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private int decodeSlotReserved;
+
+        private int nextRequestId;
+        private int nextResponseId;
+
+        private KafkaFetchCoordinatorDecoder decoder;
+        private int decodableResponseBytes;
+        private int decodableTopics;
+        private int decodablePartitions;
+        private int decodableRecordSetBytes;
+        private String decodeTopicName;
+        private KafkaFetchStream.KafkaFetchClient decodeClient;
+
+        KafkaFetchCoordinator(
+            long originId,
+            long routedId,
+            long key,
+            long leaderId,
+            KafkaIsolation isolation,
+            KafkaServerConfig server,
+            String16FW clientId)
+        {
+            this.originId = originId;
+            this.routedId = routedId;
+            this.key = key;
+            this.leaderId = leaderId;
+            this.isolation = isolation;
+            this.server = server;
+            this.clientId = clientId;
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.session = new KafkaFetchSession();
+            this.clients = new ArrayList<>();
+            this.pending = new ArrayList<>();
+            this.inflight = new ArrayList<>();
+            this.decoder = decodeResponse;
+        }
+
+        private void doFetch(
+            long traceId,
+            KafkaFetchStream.KafkaFetchClient client)
+        {
+            if (!clients.contains(client))
+            {
+                clients.add(client);
+            }
+
+            if (!pending.contains(client))
+            {
+                pending.add(client);
+            }
+
+            if (network == null)
+            {
+                doNetworkBegin(traceId, client.authorization);
+            }
+            else if (!signaling)
+            {
+                signaling = true;
+                signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+            }
+        }
+
+        private void detach(
+            long traceId,
+            KafkaFetchStream.KafkaFetchClient client)
+        {
+            if (clients.remove(client))
+            {
+                pending.remove(client);
+                inflight.remove(client);
+                session.onPartitionDetached(client.topic, client.partitionId);
+
+                if (decodeClient == client)
+                {
+                    decodeClient = null;
+                }
+
+                if (clients.isEmpty() && !decoding)
+                {
+                    doNetworkClose(traceId);
+                }
+            }
+        }
+
+        private void onNetwork(
+            int msgTypeId,
+            DirectBufferEx buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onNetworkBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onNetworkData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onNetworkEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onNetworkAbort(abort);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onNetworkReset(reset);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onNetworkWindow(window);
+                break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onNetworkSignal(signal);
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void onNetworkBegin(
+            BeginFW begin)
+        {
+            final long traceId = begin.traceId();
+
+            authorization = begin.authorization();
+            state = KafkaState.openingReply(state);
+
+            doNetworkWindow(traceId, 0L, 0, 0, decodePool.slotCapacity());
+        }
+
+        private void onNetworkData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long budgetId = data.budgetId();
+
+            authorization = data.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + data.reserved();
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                cleanupNetwork(traceId);
+            }
+            else
+            {
+                if (decodeSlot == NO_SLOT)
+                {
+                    decodeSlot = decodePool.acquire(initialId);
+                }
+
+                if (decodeSlot == NO_SLOT)
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    final OctetsFW payload = data.payload();
+                    final int offset = payload.offset();
+                    final int limit = payload.limit();
+
+                    final MutableDirectBufferEx buffer = decodePool.buffer(decodeSlot);
+                    buffer.putBytes(decodeSlotOffset, payload.buffer(), offset, limit - offset);
+                    decodeSlotOffset += limit - offset;
+                    decodeSlotReserved += data.reserved();
+
+                    decodeNetwork(traceId, budgetId, decodeSlotReserved, buffer, 0, decodeSlotOffset);
+                }
+            }
+        }
+
+        private void onNetworkEnd(
+            EndFW end)
+        {
+            final long traceId = end.traceId();
+
+            state = KafkaState.closedReply(state);
+
+            cleanupNetwork(traceId);
+        }
+
+        private void onNetworkAbort(
+            AbortFW abort)
+        {
+            final long traceId = abort.traceId();
+
+            state = KafkaState.closedReply(state);
+
+            cleanupNetwork(traceId);
+        }
+
+        private void onNetworkReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
+
+            state = KafkaState.closedInitial(state);
+
+            cleanupNetwork(traceId);
+        }
+
+        private void onNetworkWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
+
+            authorization = window.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence <= initialSeq;
+            assert acknowledge >= initialAck;
+            assert maximum + acknowledge >= initialMax + initialAck;
+
+            this.initialAck = acknowledge;
+            this.initialMax = maximum;
+            this.initialPad = padding;
+            this.initialBudgetId = budgetId;
+
+            assert initialAck <= initialSeq;
+
+            state = KafkaState.openedInitial(state);
+
+            if (encodeSlot != NO_SLOT)
+            {
+                final MutableDirectBufferEx buffer = encodePool.buffer(encodeSlot);
+                final int limit = encodeSlotOffset;
+
+                encodeNetwork(encodeSlotTraceId, budgetId, buffer, 0, limit);
+            }
+
+            doEncodeRequestIfNecessary(traceId, budgetId);
+        }
+
+        private void onNetworkSignal(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final int signalId = signal.signalId();
+
+            if (signalId == SIGNAL_NEXT_REQUEST)
+            {
+                signaling = false;
+                doEncodeRequestIfNecessary(traceId, initialBudgetId);
+            }
+        }
+
+        private void doNetworkBegin(
+            long traceId,
+            long authorization)
+        {
+            state = KafkaState.openingInitial(state);
+
+            Consumer<OctetsFW.Builder> extension = EMPTY_EXTENSION;
+
+            if (server != null)
+            {
+                extension = e -> e.set((b, o, l) -> proxyBeginExRW.wrap(b, o, l)
+                                                                  .typeId(proxyTypeId)
+                                                                  .address(a -> a.inet(i -> i.protocol(p -> p.set(STREAM))
+                                                                                             .source("0.0.0.0")
+                                                                                             .destination(server.host)
+                                                                                             .sourcePort(0)
+                                                                                             .destinationPort(server.port)))
+                                                                  .infos(i -> i.item(ii -> ii.authority(server.host)))
+                                                                  .build()
+                                                                  .sizeof());
+            }
+
+            network = newStream(this::onNetwork, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, leaderId, extension);
+        }
+
+        private void doNetworkData(
+            long traceId,
+            long budgetId,
+            DirectBufferEx buffer,
+            int offset,
+            int limit)
+        {
+            if (encodeSlot != NO_SLOT)
+            {
+                final MutableDirectBufferEx encodeBuffer = encodePool.buffer(encodeSlot);
+                encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
+                encodeSlotOffset += limit - offset;
+                encodeSlotTraceId = traceId;
+
+                buffer = encodeBuffer;
+                offset = 0;
+                limit = encodeSlotOffset;
+            }
+
+            encodeNetwork(traceId, budgetId, buffer, offset, limit);
+        }
+
+        private void doNetworkClose(
+            long traceId)
+        {
+            final Long2ObjectHashMap<KafkaFetchCoordinator> coordinators = fetchCoordinators.get(routedId);
+            if (coordinators != null && coordinators.get(key) == this)
+            {
+                coordinators.remove(key);
+
+                if (coordinators.isEmpty())
+                {
+                    fetchCoordinators.remove(routedId);
+                }
+            }
+
+            if (network != null)
+            {
+                doNetworkEndIfNecessary(traceId);
+                doNetworkResetIfNecessary(traceId);
+            }
+
+            cleanupEncodeSlotIfNecessary();
+            cleanupDecodeSlotIfNecessary();
+        }
+
+        private void doNetworkEndIfNecessary(
+            long traceId)
+        {
+            if (!KafkaState.initialClosed(state))
+            {
+                state = KafkaState.closedInitial(state);
+                doEnd(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, EMPTY_OCTETS);
+            }
+        }
+
+        private void doNetworkAbortIfNecessary(
+            long traceId)
+        {
+            if (!KafkaState.initialClosed(state))
+            {
+                state = KafkaState.closedInitial(state);
+                doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, EMPTY_OCTETS);
+            }
+        }
+
+        private void doNetworkResetIfNecessary(
+            long traceId)
+        {
+            if (!KafkaState.replyClosed(state))
+            {
+                state = KafkaState.closedReply(state);
+                doReset(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, EMPTY_OCTETS);
+            }
+        }
+
+        private void doNetworkWindow(
+            long traceId,
+            long budgetId,
+            int minReplyNoAck,
+            int minReplyPad,
+            int minReplyMax)
+        {
+            final long newReplyAck = Math.max(replySeq - minReplyNoAck, replyAck);
+
+            if (newReplyAck > replyAck || minReplyMax > replyMax || !KafkaState.replyOpened(state))
+            {
+                replyAck = newReplyAck;
+                assert replyAck <= replySeq;
+
+                replyMax = minReplyMax;
+
+                doWindow(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, budgetId, minReplyPad);
+
+                state = KafkaState.openedReply(state);
+            }
+        }
+
+        private void doEncodeRequestIfNecessary(
+            long traceId,
+            long budgetId)
+        {
+            if (KafkaState.initialOpened(state) &&
+                !KafkaState.initialClosed(state) &&
+                nextRequestId == nextResponseId &&
+                !pending.isEmpty())
+            {
+                doEncodeFetchSessionRequest(traceId, budgetId);
+            }
+        }
+
+        private void doEncodeFetchSessionRequest(
+            long traceId,
+            long budgetId)
+        {
+            final MutableDirectBufferEx encodeBuffer = writeBuffer;
+            final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
+            final int partitionsLimit = encodeBuffer.capacity() - (encodeBuffer.capacity() >> 2);
+
+            encodeLimit = encodeBuffer.capacity();
+            encodeProgress = encodeOffset;
+
+            final RequestHeaderFW requestHeader = requestHeaderRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                    .length(0)
+                    .apiKey(FETCH_API_KEY)
+                    .apiVersion(FETCH_SESSION_API_VERSION)
+                    .correlationId(0)
+                    .clientId(clientId)
+                    .build();
+
+            encodeProgress = requestHeader.limit();
+
+            final int fetchRequestOffset = encodeProgress;
+            boolean opening = false;
+            for (int index = 0; index < pending.size(); index++)
+            {
+                opening |= !KafkaState.replyOpened(pending.get(index).stream.state);
+            }
+            final int maxWaitTimeMillis = opening ? 0 : fetchMaxWaitMillis;
+
+            encodeProgress = encodeFetchSessionRequest(fetchRequestOffset, maxWaitTimeMillis, 0).limit();
+
+            session.onRequestBegin();
+            round++;
+
+            int topicCount = 0;
+            for (int index = 0; index < pending.size(); index++)
+            {
+                final KafkaFetchStream.KafkaFetchClient first = pending.get(index);
+                if (first.fetchCoordinatorRound == round)
+                {
+                    continue;
+                }
+
+                final int topicOffset = encodeProgress;
+                final TopicRequestFW topicRequest = fetchTopicRequestRW.wrap(encodeBuffer, topicOffset, encodeLimit)
+                        .name(first.topic)
+                        .partitionCount(0)
+                        .build();
+
+                encodeProgress = topicRequest.limit();
+
+                int partitionCount = 0;
+                for (int candidate = index; candidate < pending.size(); candidate++)
+                {
+                    final KafkaFetchStream.KafkaFetchClient client = pending.get(candidate);
+                    if (client.fetchCoordinatorRound == round || !first.topic.equals(client.topic))
+                    {
+                        continue;
+                    }
+
+                    client.fetchCoordinatorRound = round;
+
+                    if (encodeProgress + FETCH_PARTITION_REQUEST_SIZE > partitionsLimit)
+                    {
+                        // remains pending for the next request, and stays in the session meanwhile
+                        continue;
+                    }
+
+                    inflight.add(client);
+
+                    if (session.onRequestPartition(client.topic, client.partitionId, client.nextOffset))
+                    {
+                        final PartitionRequestFW partitionRequest = fetchPartitionRequestRW
+                                .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                                .partitionId(client.partitionId)
+                                .fetchOffset(client.nextOffset)
+                                .maxBytes(partitionMaxBytes)
+                                .build();
+
+                        encodeProgress = partitionRequest.limit();
+                        partitionCount++;
+                    }
+                }
+
+                if (partitionCount == 0)
+                {
+                    encodeProgress = topicOffset;
+                }
+                else
+                {
+                    fetchTopicRequestRW.wrap(encodeBuffer, topicOffset, encodeLimit)
+                        .name(first.topic)
+                        .partitionCount(partitionCount)
+                        .build();
+                    topicCount++;
+                }
+            }
+
+            encodeFetchSessionRequest(fetchRequestOffset, maxWaitTimeMillis, topicCount);
+
+            final int forgottenOffset = encodeProgress;
+            final ForgottenTopicsRequestFW forgottenTopics = forgottenTopicsRequestRW
+                    .wrap(encodeBuffer, forgottenOffset, encodeLimit)
+                    .topicCount(0)
+                    .build();
+
+            encodeProgress = forgottenTopics.limit();
+            encodeForgottenTopics = 0;
+
+            session.onRequestForgotten(encodeForgottenTopic);
+
+            if (encodeForgottenTopics != 0)
+            {
+                forgottenTopicsRequestRW.wrap(encodeBuffer, forgottenOffset, encodeLimit)
+                    .topicCount(encodeForgottenTopics)
+                    .build();
+            }
+
+            final int requestId = nextRequestId++;
+            final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
+
+            requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
+                    .length(requestSize)
+                    .apiKey(requestHeader.apiKey())
+                    .apiVersion(requestHeader.apiVersion())
+                    .correlationId(requestId)
+                    .clientId(requestHeader.clientId())
+                    .build();
+
+            if (KafkaConfiguration.DEBUG)
+            {
+                System.out.format("[0x%016x] FETCH session %d epoch %d (%d topics, %d partitions)\n",
+                        replyId, session.sessionId(), session.epoch(), topicCount, inflight.size());
+            }
+
+            doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
+
+            decoder = decodeResponse;
+        }
+
+        private FetchSessionRequestFW encodeFetchSessionRequest(
+            int offset,
+            int maxWaitTimeMillis,
+            int topicCount)
+        {
+            return fetchSessionRequestRW.wrap(writeBuffer, offset, encodeLimit)
+                    .maxWaitTimeMillis(maxWaitTimeMillis)
+                    .minBytes(1)
+                    .maxBytes(fetchMaxBytes)
+                    .isolationLevel((byte) isolation.ordinal())
+                    .sessionId(session.sessionId())
+                    .sessionEpoch(session.epoch())
+                    .topicCount(topicCount)
+                    .build();
+        }
+
+        private void encodeForgottenTopic(
+            String topic,
+            IntArrayList partitionIds)
+        {
+            final int partitionCount = partitionIds.size();
+            final int topicSize = BitUtil.SIZE_OF_SHORT + topic.length() + BitUtil.SIZE_OF_INT;
+
+            if (encodeProgress + topicSize + partitionCount * BitUtil.SIZE_OF_INT <= encodeLimit)
+            {
+                final ForgottenTopicRequestFW forgottenTopic = forgottenTopicRequestRW
+                        .wrap(writeBuffer, encodeProgress, encodeLimit)
+                        .name(topic)
+                        .partitionCount(partitionCount)
+                        .build();
+
+                encodeProgress = forgottenTopic.limit();
+                encodeForgottenTopics++;
+
+                for (int index = 0; index < partitionCount; index++)
+                {
+                    final ForgottenPartitionRequestFW forgottenPartition = forgottenPartitionRequestRW
+                            .wrap(writeBuffer, encodeProgress, encodeLimit)
+                            .partitionId(partitionIds.getInt(index))
+                            .build();
+
+                    encodeProgress = forgottenPartition.limit();
+                }
+            }
+        }
+
+        private void encodeNetwork(
+            long traceId,
+            long budgetId,
+            DirectBufferEx buffer,
+            int offset,
+            int limit)
+        {
+            final int maxLength = limit - offset;
+            final int initialWin = initialMax - (int)(initialSeq - initialAck);
+            final int length = Math.max(Math.min(initialWin - initialPad, maxLength), 0);
+
+            if (length > 0)
+            {
+                final int reserved = length + initialPad;
+
+                doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, budgetId, reserved, buffer, offset, length, EMPTY_OCTETS);
+
+                initialSeq += reserved;
+
+                assert initialAck <= initialSeq;
+            }
+
+            final int remaining = maxLength - length;
+            if (remaining > 0)
+            {
+                if (encodeSlot == NO_SLOT)
+                {
+                    encodeSlot = encodePool.acquire(initialId);
+                }
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    final MutableDirectBufferEx encodeBuffer = encodePool.buffer(encodeSlot);
+                    encodeBuffer.putBytes(0, buffer, offset + length, remaining);
+                    encodeSlotOffset = remaining;
+                }
+            }
+            else
+            {
+                cleanupEncodeSlotIfNecessary();
+            }
+        }
+
+        private void decodeNetworkIfNecessary(
+            long traceId)
+        {
+            if (decodeSlot != NO_SLOT && !decoding)
+            {
+                final MutableDirectBufferEx buffer = decodePool.buffer(decodeSlot);
+                final long budgetId = 0L;
+                final int offset = 0;
+                final int limit = decodeSlotOffset;
+                final int reserved = decodeSlotReserved;
+
+                decodeNetwork(traceId, budgetId, reserved, buffer, offset, limit);
+            }
+        }
+
+        private void decodeNetwork(
+            long traceId,
+            long budgetId,
+            int reserved,
+            MutableDirectBufferEx buffer,
+            int offset,
+            int limit)
+        {
+            decoding = true;
+
+            KafkaFetchCoordinatorDecoder previous = null;
+            int progress = offset;
+            while (progress <= limit && previous != decoder)
+            {
+                previous = decoder;
+                progress = decoder.decode(traceId, buffer, offset, progress, limit);
+            }
+
+            decoding = false;
+
+            if (progress < limit)
+            {
+                if (decodeSlot == NO_SLOT)
+                {
+                    decodeSlot = decodePool.acquire(initialId);
+                }
+
+                if (decodeSlot == NO_SLOT ||
+                    decoder != decodeRecordSet && progress == offset && limit - offset >= decodePool.slotCapacity())
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    final MutableDirectBufferEx decodeBuffer = decodePool.buffer(decodeSlot);
+                    decodeBuffer.putBytes(0, buffer, progress, limit - progress);
+                    decodeSlotOffset = limit - progress;
+                    decodeSlotReserved = (int) ((long) (limit - progress) * reserved / (limit - offset));
+                    assert decodeSlotReserved >= 0;
+
+                    doNetworkWindow(traceId, budgetId, decodeSlotOffset, 0, replyMax);
+                }
+            }
+            else
+            {
+                cleanupDecodeSlotIfNecessary();
+
+                if (reserved > 0)
+                {
+                    doNetworkWindow(traceId, budgetId, 0, 0, replyMax);
+                }
+            }
+
+            if (clients.isEmpty())
+            {
+                doNetworkClose(traceId);
+            }
+        }
+
+        private int decodeResponse(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit)
+        {
+            final ResponseHeaderFW responseHeader = responseHeaderRO.tryWrap(buffer, progress, limit);
+            if (responseHeader != null)
+            {
+                progress = responseHeader.limit();
+                decodableResponseBytes = responseHeader.length();
+                decoder = decodeSessionResponse;
+            }
+
+            return progress;
+        }
+
+        private int decodeSessionResponse(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit)
+        {
+            final FetchSessionResponseFW fetchResponse = fetchSessionResponseRO.tryWrap(buffer, progress, limit);
+            if (fetchResponse != null)
+            {
+                final int errorCode = fetchResponse.errorCode();
+
+                progress = fetchResponse.limit();
+
+                decodableResponseBytes -= fetchResponse.sizeof();
+                assert decodableResponseBytes >= 0;
+
+                decodableTopics = fetchResponse.topicCount();
+                session.onResponse(errorCode, fetchResponse.sessionId());
+
+                if (errorCode != ERROR_NONE &&
+                    errorCode != KafkaFetchSession.ERROR_FETCH_SESSION_ID_NOT_FOUND &&
+                    errorCode != KafkaFetchSession.ERROR_INVALID_FETCH_SESSION_EPOCH)
+                {
+                    onDecodeResponseError(traceId, errorCode);
+                }
+
+                decoder = decodeTopic;
+            }
+
+            return progress;
+        }
+
+        private int decodeTopic(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit)
+        {
+            if (decodableTopics == 0)
+            {
+                onDecodeResponse(traceId);
+                decoder = decodeResponse;
+            }
+            else
+            {
+                final TopicResponseFW topic = topicResponseRO.tryWrap(buffer, progress, limit);
+                if (topic != null)
+                {
+                    progress = topic.limit();
+
+                    decodableResponseBytes -= topic.sizeof();
+                    assert decodableResponseBytes >= 0;
+
+                    decodeTopicName = topic.name().asString();
+                    decodablePartitions = topic.partitionCount();
+                    decoder = decodePartition;
+                }
+            }
+
+            return progress;
+        }
+
+        private int decodePartition(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit)
+        {
+            decode:
+            if (decodablePartitions == 0)
+            {
+                decodableTopics--;
+                assert decodableTopics >= 0;
+                decoder = decodeTopic;
+            }
+            else
+            {
+                final PartitionResponseFW partition = partitionResponseRO.tryWrap(buffer, progress, limit);
+                if (partition == null)
+                {
+                    break decode;
+                }
+
+                int recordSetOffset = partition.limit();
+                for (int count = partition.abortedTransactionCount(); count > 0; count--)
+                {
+                    final TransactionResponseFW transaction = transactionResponseRO.tryWrap(buffer, recordSetOffset, limit);
+                    if (transaction == null)
+                    {
+                        break decode;
+                    }
+                    recordSetOffset = transaction.limit();
+                }
+
+                final RecordSetFW recordSet = recordSetRO.tryWrap(buffer, recordSetOffset, limit);
+                if (recordSet == null)
+                {
+                    break decode;
+                }
+
+                final int partitionId = partition.partitionId();
+                final int recordSetLimit = recordSet.limit();
+
+                decodeClient = supplyInflight(decodeTopicName, partitionId);
+                decodableRecordSetBytes = recordSet.length();
+                decodableResponseBytes -= recordSetLimit - progress;
+                assert decodableResponseBytes >= 0;
+
+                if (decodeClient != null)
+                {
+                    final int prefixLimit = encodeFetchResponsePrefix(buffer, progress, recordSetLimit);
+                    final int accepted = decodeClient.onFetchCoordinatorData(traceId, fetchPrefixBuffer, 0, prefixLimit);
+
+                    if (decodeClient != null && accepted < prefixLimit)
+                    {
+                        decodeClient.cleanupNetwork(traceId);
+                    }
+                }
+
+                progress = recordSetLimit;
+                decoder = decodeRecordSet;
+            }
+
+            return progress;
+        }
+
+        private int decodeRecordSet(
+            long traceId,
+            DirectBufferEx buffer,
+            int offset,
+            int progress,
+            int limit)
+        {
+            if (decodableRecordSetBytes == 0)
+            {
+                if (decodeClient != null)
+                {
+                    inflight.remove(decodeClient);
+                    pending.remove(decodeClient);
+                    decodeClient = null;
+                }
+
+                decodablePartitions--;
+                assert decodablePartitions >= 0;
+                decoder = decodePartition;
+            }
+            else if (progress < limit)
+            {
+                final int maxLimit = Math.min(progress + decodableRecordSetBytes, limit);
+
+                int accepted = maxLimit - progress;
+                if (decodeClient != null)
+                {
+                    final int consumed = decodeClient.onFetchCoordinatorData(traceId, buffer, progress, maxLimit);
+                    if (decodeClient != null)
+                    {
+                        accepted = consumed;
+                    }
+                }
+
+                progress += accepted;
+
+                decodableRecordSetBytes -= accepted;
+                assert decodableRecordSetBytes >= 0;
+                decodableResponseBytes -= accepted;
+                assert decodableResponseBytes >= 0;
+            }
+
+            return progress;
+        }
+
+        private int encodeFetchResponsePrefix(
+            DirectBufferEx buffer,
+            int offset,
+            int limit)
+        {
+            final MutableDirectBufferEx prefixBuffer = fetchPrefixBuffer;
+            final int prefixLimit = prefixBuffer.capacity();
+
+            final ResponseHeaderFW responseHeader = responseHeaderRW.wrap(prefixBuffer, 0, prefixLimit)
+                    .length(0)
+                    .build();
+
+            final FetchResponseFW fetchResponse = fetchResponseRW.wrap(prefixBuffer, responseHeader.limit(), prefixLimit)
+                    .correlationId(0)
+                    .throttleTimeMillis(0)
+                    .topicCount(1)
+                    .build();
+
+            final TopicResponseFW topicResponse = topicResponseRW.wrap(prefixBuffer, fetchResponse.limit(), prefixLimit)
+                    .name(decodeTopicName)
+                    .partitionCount(1)
+                    .build();
+
+            final int partitionOffset = topicResponse.limit();
+            final int partitionLength = limit - offset;
+
+            prefixBuffer.putBytes(partitionOffset, buffer, offset, partitionLength);
+
+            final int responseLength = partitionOffset + partitionLength - responseHeader.limit() + decodableRecordSetBytes;
+
+            responseHeaderRW.wrap(prefixBuffer, 0, prefixLimit)
+                    .length(responseLength)
+                    .build();
+
+            return partitionOffset + partitionLength;
+        }
+
+        private KafkaFetchStream.KafkaFetchClient supplyInflight(
+            String topic,
+            int partitionId)
+        {
+            KafkaFetchStream.KafkaFetchClient inflightClient = null;
+
+            for (int index = 0; index < inflight.size(); index++)
+            {
+                final KafkaFetchStream.KafkaFetchClient client = inflight.get(index);
+                if (client.partitionId == partitionId && client.topic.equals(topic))
+                {
+                    inflightClient = client;
+                    break;
+                }
+            }
+
+            return inflightClient;
+        }
+
+        private void onDecodeResponse(
+            long traceId)
+        {
+            nextResponseId++;
+            inflight.clear();
+
+            if (!pending.isEmpty() && !signaling)
+            {
+                signaling = true;
+                signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+            }
+        }
+
+        private void onDecodeResponseError(
+            long traceId,
+            int errorCode)
+        {
+            final KafkaFetchStream.KafkaFetchClient[] failed = pending.toArray(KafkaFetchStream.KafkaFetchClient[]::new);
+
+            for (KafkaFetchStream.KafkaFetchClient client : failed)
+            {
+                client.onFetchCoordinatorError(traceId, errorCode);
+            }
+        }
+
+        private void cleanupNetwork(
+            long traceId)
+        {
+            if (network != null)
+            {
+                doNetworkResetIfNecessary(traceId);
+                doNetworkAbortIfNecessary(traceId);
+            }
+
+            final KafkaFetchStream.KafkaFetchClient[] detached = clients.toArray(KafkaFetchStream.KafkaFetchClient[]::new);
+
+            clients.clear();
+            pending.clear();
+            inflight.clear();
+            decodeClient = null;
+
+            for (KafkaFetchStream.KafkaFetchClient client : detached)
+            {
+                client.cleanupNetwork(traceId);
+            }
+
+            if (!decoding)
+            {
+                doNetworkClose(traceId);
+            }
+        }
+
+        private void cleanupDecodeSlotIfNecessary()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                decodePool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+                decodeSlotReserved = 0;
+            }
+        }
+
+        private void cleanupEncodeSlotIfNecessary()
+        {
+            if (encodeSlot != NO_SLOT)
+            {
+                encodePool.release(encodeSlot);
+                encodeSlot = NO_SLOT;
+                encodeSlotOffset = 0;
+                encodeSlotTraceId = 0;
+            }
+        }
+    }
+
     private DirectBufferEx wrapHeaders(
         DirectBufferEx buffer,
         int offset,
@@ -3310,7 +4744,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private static boolean isCompressedBatch(
         int attributes)
     {
-        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4
+        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4, 4 = ZSTD
         return (attributes & 0x07) != 0;
     }
 
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsCompressor.COMPRESS_FAILED;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaChecksum.combineCRC32C;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType.LIVE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.ProxyAddressProtocol.STREAM;
@@ -22,6 +23,7 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.Reque
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordBatchFW.FIELD_OFFSET_LENGTH;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordBatchFW.FIELD_OFFSET_RECORD_COUNT;
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.Thread.currentThread;
 import static java.nio.ByteOrder.BIG_ENDIAN;
@@ -38,6 +40,8 @@ import io.aklivity.zilla.config.binding.kafka.KafkaSaslConfig;
 import io.aklivity.zilla.config.binding.kafka.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompression;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsCompressor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.events.KafkaEventContext;
@@ -196,6 +200,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
     private final int decodeMaxBytes;
     private final int encodeMaxBytes;
     private final CRC32C crc32c;
+    private final KafkaRecordsCompressor compressor;
     private final KafkaEventContext event;
 
     public KafkaClientProduceFactory(
@@ -222,6 +227,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
         this.encodeMaxBytes = Math.min(config.clientProduceMaxBytes(),
                 encodePool.slotCapacity() - PRODUCE_REQUEST_RECORDS_OFFSET_MAX);
         this.crc32c = new CRC32C();
+        this.compressor = new KafkaRecordsCompressor(encodePool.slotCapacity(), encodePool.slotCapacity());
         this.event = new KafkaEventContext(context);
     }
 
@@ -1265,6 +1271,9 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             private final KafkaClientRoute clientRoute;
             private final String topic;
             private final int partitionId;
+            private final KafkaCompression compression;
+            private final long produceLinger;
+            private final int produceBatchSize;
 
             private KafkaAckMode encodeableAckMode;
             private KafkaAckMode encodedAckMode;
@@ -1307,6 +1316,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             private KafkaProduceClientDecoder decoder;
             private KafkaProduceClientFlusher flusher;
             private int signaledRequestId;
+            private long signaledRequestCancelId = NO_CANCEL_ID;
 
             private LongLongConsumer encoder;
             private boolean flushable;
@@ -1328,6 +1338,11 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 this.flusher = flushRecord;
                 this.encodeableAckMode = KafkaAckMode.NONE;
 
+                final KafkaBindingConfig binding = supplyBinding.apply(stream.routedId);
+                this.compression = binding.produceCompression();
+                this.produceLinger = binding.produceLinger(produceRequestMaxDelay);
+                this.produceBatchSize = binding.produceBatchSize(Integer.MAX_VALUE);
+
                 this.flushable = sasl == null;
                 this.encoder = sasl != null ? encodeSaslHandshakeRequest : encodeProduceRequest;
                 this.decoder = decodeReject;
@@ -1535,6 +1550,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
 
                 if (signalId == SIGNAL_NEXT_REQUEST)
                 {
+                    signaledRequestCancelId = NO_CANCEL_ID;
                     doEncodeRequestIfNecessary(traceId, 0L);
                 }
             }
@@ -1727,6 +1743,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                     encodeSlotBuffer, encodeableRecordBatchSlotOffset, encodeSlotLimit);
 
                 if (encodeableRecordBatch == null ||
+                    KafkaCompression.valueOf(encodeableRecordBatch.attributes()) != KafkaCompression.NONE ||
                     encodeableRecordBatch.producerId() != producerId ||
                     encodeableRecordBatch.producerEpoch() != producerEpoch ||
                     encodeableRecordBatch.baseSequence() >= sequence)
@@ -1890,20 +1907,34 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             private void doSignalNextRequestIfNecessary(
                 long traceId)
             {
-                if (signaledRequestId <= nextRequestId &&
-                    nextRequestId == nextResponseId &&
+                if (nextRequestId == nextResponseId &&
                     encodeSlot != NO_SLOT)
                 {
-                    if (produceRequestMaxDelay == 0)
+                    final boolean batched = encodeSlotLimit - encodeSlotOffset >= produceBatchSize;
+                    final long linger = batched ? 0L : produceLinger;
+
+                    if (signaledRequestId > nextRequestId &&
+                        signaledRequestCancelId != NO_CANCEL_ID &&
+                        linger == 0L)
                     {
-                        signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                        signaler.cancel(signaledRequestCancelId);
+                        signaledRequestCancelId = NO_CANCEL_ID;
+                        signaledRequestId = nextRequestId;
                     }
-                    else
+
+                    if (signaledRequestId <= nextRequestId)
                     {
-                        signaler.signalAt(currentTimeMillis() + produceRequestMaxDelay, originId, routedId,
-                                initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                        if (linger == 0L)
+                        {
+                            signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                        }
+                        else
+                        {
+                            signaledRequestCancelId = signaler.signalAt(currentTimeMillis() + linger, originId, routedId,
+                                    initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                        }
+                        signaledRequestId = nextRequestId + 1;
                     }
-                    signaledRequestId = nextRequestId + 1;
                 }
             }
 
@@ -1971,6 +2002,11 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 assert encodeSlot != NO_SLOT;
                 final MutableDirectBufferEx encodeSlotBuffer = encodePool.buffer(encodeSlot);
 
+                if (compression != KafkaCompression.NONE)
+                {
+                    doEncodeRecordBatchCompressed(encodeSlotBuffer);
+                }
+
                 final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
                 final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
 
@@ -2013,6 +2049,46 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 decoder = decodeProduceResponse;
             }
 
+            private void doEncodeRecordBatchCompressed(
+                MutableDirectBufferEx encodeSlotBuffer)
+            {
+                final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
+                final int recordBatchOffset = recordBatch.offset();
+                final int recordBatchLength = recordBatch.length();
+                final int recordBatchLimit = recordBatchOffset + RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatchLength;
+                final int attributes = recordBatch.attributes();
+
+                // only a fully encoded batch can be compressed, deferred record values stream through uncompressed
+                if (recordBatchLimit <= encodeSlotLimit &&
+                    KafkaCompression.valueOf(attributes) == KafkaCompression.NONE)
+                {
+                    final int recordsOffset = recordBatch.limit();
+                    final int recordsLength = recordBatchLimit - recordsOffset;
+                    final int compressedLength = compressor.compress(compression, encodeSlotBuffer, recordsOffset, recordsLength);
+
+                    if (compressedLength != COMPRESS_FAILED && compressedLength < recordsLength)
+                    {
+                        final int compressedLimit = recordsOffset + compressedLength;
+                        final int reclaimed = recordsLength - compressedLength;
+
+                        encodeSlotBuffer.putBytes(recordsOffset, compressor.buffer(), 0, compressedLength);
+                        encodeSlotBuffer.putBytes(compressedLimit, encodeSlotBuffer, recordBatchLimit,
+                                encodeSlotLimit - recordBatchLimit);
+                        encodeSlotLimit -= reclaimed;
+
+                        if (encodeableRecordBatchSlotOffset > recordBatchOffset)
+                        {
+                            encodeableRecordBatchSlotOffset -= reclaimed;
+                        }
+
+                        encodeSlotBuffer.putInt(recordBatchOffset + RecordBatchFW.FIELD_OFFSET_LENGTH,
+                            recordBatchLength - reclaimed, BIG_ENDIAN);
+                        encodeSlotBuffer.putShort(recordBatchOffset + RecordBatchFW.FIELD_OFFSET_ATTRIBUTES,
+                            (short) (attributes | compression.id()), BIG_ENDIAN);
+                    }
+                }
+            }
+
             private void doEncodeHeadersChecksum(
                 Array32FW<KafkaHeaderFW> headers)
             {
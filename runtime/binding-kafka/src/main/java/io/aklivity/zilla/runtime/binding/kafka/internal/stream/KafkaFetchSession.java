@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Client side state of a KIP-227 incremental fetch session.
+ * <p>
+ * Tracks the fetch offset last sent to the broker for each partition in the session, so that
+ * incremental fetch requests only carry partitions that are new or whose fetch offset has moved.
+ * Partitions stay in the session while they have no pending fetch, for example when back-pressured,
+ * and are only forgotten once their partition stream detaches.
+ */
+final class KafkaFetchSession
+{
+    static final int SESSION_ID_NONE = 0;
+    static final int EPOCH_INITIAL = 0;
+
+    static final int ERROR_FETCH_SESSION_ID_NOT_FOUND = 70;
+    static final int ERROR_INVALID_FETCH_SESSION_EPOCH = 71;
+
+    private final Map<String, Int2ObjectHashMap<Partition>> topics;
+    private final IntArrayList forgotten;
+
+    private int sessionId;
+    private int epoch;
+
+    KafkaFetchSession()
+    {
+        this.topics = new LinkedHashMap<>();
+        this.forgotten = new IntArrayList();
+        this.sessionId = SESSION_ID_NONE;
+        this.epoch = EPOCH_INITIAL;
+    }
+
+    int sessionId()
+    {
+        return sessionId;
+    }
+
+    int epoch()
+    {
+        return epoch;
+    }
+
+    boolean isFull()
+    {
+        return epoch == EPOCH_INITIAL;
+    }
+
+    void onRequestBegin()
+    {
+        if (isFull())
+        {
+            topics.clear();
+        }
+    }
+
+    boolean onRequestPartition(
+        String topic,
+        int partitionId,
+        long fetchOffset)
+    {
+        final Int2ObjectHashMap<Partition> partitions = topics.computeIfAbsent(topic, t -> new Int2ObjectHashMap<>());
+
+        Partition partition = partitions.get(partitionId);
+        final boolean include = isFull() || partition == null || partition.detached || partition.fetchOffset != fetchOffset;
+
+        if (partition == null)
+        {
+            partition = new Partition();
+            partitions.put(partitionId, partition);
+        }
+
+        partition.fetchOffset = fetchOffset;
+        partition.detached = false;
+
+        return include;
+    }
+
+    void onPartitionDetached(
+        String topic,
+        int partitionId)
+    {
+        final Int2ObjectHashMap<Partition> partitions = topics.get(topic);
+        final Partition partition = partitions != null ? partitions.get(partitionId) : null;
+
+        if (partition != null)
+        {
+            partition.detached = true;
+        }
+    }
+
+    void onRequestForgotten(
+        BiConsumer<String, IntArrayList> consumer)
+    {
+        for (Iterator<Map.Entry<String, Int2ObjectHashMap<Partition>>> i = topics.entrySet().iterator(); i.hasNext();)
+        {
+            final Map.Entry<String, Int2ObjectHashMap<Partition>> entry = i.next();
+            final Int2ObjectHashMap<Partition> partitions = entry.getValue();
+
+            forgotten.clear();
+            for (Int2ObjectHashMap<Partition>.EntryIterator j = partitions.entrySet().iterator(); j.hasNext();)
+            {
+                j.next();
+                if (j.getValue().detached)
+                {
+                    forgotten.addInt(j.getIntKey());
+                    j.remove();
+                }
+            }
+
+            if (!forgotten.isEmpty() && !isFull())
+            {
+                consumer.accept(entry.getKey(), forgotten);
+            }
+
+            if (partitions.isEmpty())
+            {
+                i.remove();
+            }
+        }
+    }
+
+    void onResponse(
+        int errorCode,
+        int sessionId)
+    {
+        if (errorCode != 0 || sessionId == SESSION_ID_NONE)
+        {
+            reset();
+        }
+        else
+        {
+            this.sessionId = sessionId;
+            this.epoch = epoch == Integer.MAX_VALUE ? 1 : epoch + 1;
+        }
+    }
+
+    void reset()
+    {
+        sessionId = SESSION_ID_NONE;
+        epoch = EPOCH_INITIAL;
+        topics.clear();
+    }
+
+    private static final class Partition
+    {
+        private long fetchOffset;
+        private boolean detached;
+    }
+}
@@ -21,6 +21,8 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguratio
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_API_VERSIONS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_DESCRIBE_CONFIG_INCLUDE_SYNONYMS;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_FETCH_SESSIONS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_INSTANCE_ID;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
@@ -45,6 +47,9 @@ public class KafkaConfigurationTest
         "zilla.binding.kafka.client.describe.config.include.synonyms";
     public static final String KAFKA_CLIENT_API_VERSIONS_NAME = "zilla.binding.kafka.client.api.versions";
     public static final String KAFKA_CLIENT_RECONNECT_DELAY_NAME = "zilla.binding.kafka.client.reconnect";
+    public static final String KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES_NAME =
+        "zilla.binding.kafka.client.fetch.decompress.max.bytes";
+    public static final String KAFKA_CLIENT_FETCH_SESSIONS_NAME = "zilla.binding.kafka.client.fetch.sessions";
 
     public static final String KAFKA_CACHE_RETENTION_MILLIS_MAX_NAME =
         "zilla.binding.kafka.cache.retention.ms.max";
@@ -63,5 +68,7 @@ public class KafkaConfigurationTest
         assertEquals(KAFKA_CLIENT_DESCRIBE_CONFIG_INCLUDE_SYNONYMS.name(), KAFKA_CLIENT_DESCRIBE_CONFIG_INCLUDE_SYNONYMS_NAME);
         assertEquals(KAFKA_CLIENT_API_VERSIONS.name(), KAFKA_CLIENT_API_VERSIONS_NAME);
         assertEquals(KAFKA_CLIENT_RECONNECT_DELAY.name(), KAFKA_CLIENT_RECONNECT_DELAY_NAME);
+        assertEquals(KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES.name(), KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES_NAME);
+        assertEquals(KAFKA_CLIENT_FETCH_SESSIONS.name(), KAFKA_CLIENT_FETCH_SESSIONS_NAME);
     }
 }
@@ -22,12 +22,16 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.agrona.collections.MutableInteger;
@@ -591,6 +595,98 @@ public class KafkaCachePartitionTest
             assertEquals("[KafkaCacheSegment] test[0] @ 15 +1", head15s.toString());
         }
 
+        @Test
+        public void shouldReconcileEntriesMarkedDirtyWhileCleaning() throws Exception
+        {
+            Path location = tempFolder.newFolder().toPath();
+            KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(new KafkaConfiguration());
+
+            MutableDirectBufferEx writeBuffer = new UnsafeBufferEx(ByteBuffer.allocate(1024));
+            MutableInteger entryMark = new MutableInteger(0);
+            MutableInteger valueMark = new MutableInteger(0);
+
+            KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+                .length(4)
+                .value(k -> k.set("test".getBytes(UTF_8)))
+                .build();
+
+            Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                    .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+                    .build();
+
+            OctetsFW value = new OctetsFW.Builder()
+                    .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                    .set(new byte[16])
+                    .build();
+
+            KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
+            KafkaCacheEntryFW dirtyRO = new KafkaCacheEntryFW();
+            KafkaCacheEntryFW cleanRO = new KafkaCacheEntryFW();
+
+            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536, long[]::new);
+            Node head10 = partition.append(10L);
+
+            partition.writeEntry(null, 1L, 1L, 0L, 11L, entryMark, valueMark, 0L, KafkaTimestampType.ADVISORY, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, KafkaPipeline.NONE, false);
+
+            long keyHash = partition.computeKeyHash(key);
+            head10.findAndMarkAncestor(key, keyHash, 11L, ancestorRO);
+
+            partition.writeEntry(null, 1L, 1L, 0L, 12L, entryMark, valueMark, 0L, KafkaTimestampType.ADVISORY, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, KafkaPipeline.NONE, false);
+
+            Node head15 = partition.append(15L);
+            Node tail10 = head15.previous();
+            KafkaCacheSegment tail10s = tail10.segment();
+
+            long now = currentTimeMillis();
+            tail10s.cleanableAt(now);
+
+            KafkaCachePartition.Cleaner cleaner = tail10.cleaner(now);
+            assertNotNull(cleaner);
+            assertNull(tail10.cleaner(now));
+
+            cleaner.run();
+
+            tail10.findAndMarkDirty(dirtyRO, 12L);
+
+            assertSame(cleaner, tail10.cleaned());
+
+            KafkaCacheSegment clean10s = tail10.segment();
+            KafkaCacheEntryFW entry = clean10s.logFile().readBytes(0, cleanRO::wrap);
+
+            assertNotSame(tail10s, clean10s);
+            assertEquals(12L, entry.offset$());
+            assertEquals(KafkaCachePartition.CACHE_ENTRY_FLAGS_DIRTY, entry.flags());
+            assertEquals(location.resolve("test-0"), clean10s.logFile().location().getParent());
+            assertTrue(cleaner.reclaimedBytes() > 0L);
+        }
+
+        @Test
+        public void shouldAbortCleanerWhenSegmentRemoved() throws Exception
+        {
+            Path location = tempFolder.newFolder().toPath();
+            KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(new KafkaConfiguration());
+
+            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536, long[]::new);
+            partition.append(10L);
+
+            Node head15 = partition.append(15L);
+            Node tail10 = head15.previous();
+
+            long now = currentTimeMillis();
+            tail10.segment().cleanableAt(now);
+
+            KafkaCachePartition.Cleaner cleaner = tail10.cleaner(now);
+            assertNotNull(cleaner);
+
+            tail10.remove();
+            cleaner.run();
+
+            assertNull(tail10.cleaned());
+            assertFalse(Files.exists(location.resolve("test-0").resolve(".cleaner").resolve(String.format("%019d.log", 10L))));
+        }
+
         @Test
         public void shouldSeekAncestor() throws Exception
         {
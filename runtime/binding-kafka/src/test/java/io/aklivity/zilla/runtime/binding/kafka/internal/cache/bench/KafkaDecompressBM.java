@@ -0,0 +1,304 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.airlift.compress.v3.Compressor;
+import io.airlift.compress.v3.lz4.Lz4JavaCompressor;
+import io.airlift.compress.v3.snappy.SnappyJavaCompressor;
+import io.airlift.compress.v3.zstd.ZstdJavaCompressor;
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaPipeline;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompression;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsDecompressor;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaTimestampType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Varint32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.message.RecordTrailerFW;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
+
+/**
+ * Measures the per-batch cost the fetch path pays for a compressed {@code RecordBatch}: decompressing the
+ * records section with {@link KafkaRecordsDecompressor} and then writing each decoded record into a
+ * {@link KafkaCachePartition}, the same work {@code KafkaCacheServerFetchFactory} drives per fetched record.
+ * The {@code NONE} codec measures the cache write alone behind a plain copy, so the difference to each
+ * codec isolates the decompression cost for the same JSON record batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaDecompressBM
+{
+    private static final int RECORD_COUNT = 200;
+    private static final int SLOT_CAPACITY = 64 * 1024;
+    private static final String VALUE_JSON =
+        "{\"region\":\"us-east-1\",\"status\":\"ok\",\"payload\":\"large-event-payload-body-%04d\"}";
+
+    @Param({ "NONE", "GZIP", "SNAPPY", "LZ4", "ZSTD" })
+    public KafkaCompression compression;
+
+    private final MutableDirectBufferEx scratch = new UnsafeBufferEx(new byte[512]);
+    private final MutableDirectBufferEx entryBuffer = new UnsafeBufferEx(new byte[512]);
+    private final RecordHeaderFW recordHeaderRO = new RecordHeaderFW();
+    private final Varint32FW recordLengthRO = new Varint32FW();
+    private final OctetsFW valueRO = new OctetsFW();
+    private final KafkaKeyFW.Builder keyRW = new KafkaKeyFW.Builder();
+    private final MutableInteger entryMark = new MutableInteger(0);
+    private final MutableInteger valueMark = new MutableInteger(0);
+
+    private KafkaRecordsDecompressor decompressor;
+    private DirectBufferEx compressed;
+    private Array32FW<KafkaHeaderFW> headers;
+    private KafkaPipeline pipeline;
+    private Path location;
+    private KafkaCachePartition partition;
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        final MutableDirectBufferEx records = new UnsafeBufferEx(new byte[SLOT_CAPACITY]);
+        final int recordsLength = encodeRecords(records);
+        final byte[] recordsBytes = new byte[recordsLength];
+        records.getBytes(0, recordsBytes);
+
+        final byte[] compressedBytes = compress(compression, recordsBytes);
+        compressed = new UnsafeBufferEx(compressedBytes);
+        decompressor = new KafkaRecordsDecompressor(new DefaultBufferPool(SLOT_CAPACITY, SLOT_CAPACITY), recordsLength);
+
+        headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+            .wrap(new UnsafeBufferEx(new byte[64]), 0, 64)
+            .build();
+        pipeline = KafkaPipeline.decoder(null, null, null, scratch);
+    }
+
+    @Setup(Level.Iteration)
+    public void initPartition() throws IOException
+    {
+        location = Files.createTempDirectory("zilla-kafka-bench");
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        partition = new KafkaCachePartition(location, config, "cache", "bench", 0, 65536, long[]::new);
+        offset = 0L;
+    }
+
+    @TearDown(Level.Iteration)
+    public void deletePartition()
+    {
+        for (Node node = partition.sentinel().next(); !node.sentinel(); node = partition.sentinel().next())
+        {
+            node.remove();
+        }
+        IoUtil.delete(location.toFile(), true);
+    }
+
+    @Benchmark
+    public long decompressAndWrite()
+    {
+        final int length = decompressor.decompress(0L, compression, compressed, 0, compressed.capacity());
+        final DirectBufferEx records = decompressor.buffer();
+
+        int progress = 0;
+        while (progress < length)
+        {
+            final RecordHeaderFW recordHeader = recordHeaderRO.wrap(records, progress, length);
+            final int valueOffset = recordHeader.limit();
+            final int valueLength = recordHeader.valueLength();
+            final OctetsFW value = valueRO.wrap(records, valueOffset, valueOffset + valueLength);
+            final OctetsFW keyValue = recordHeader.key();
+            final KafkaKeyFW key = keyRW.wrap(entryBuffer, 0, entryBuffer.capacity())
+                .length(keyValue.sizeof())
+                .value(keyValue.buffer(), keyValue.offset(), keyValue.sizeof())
+                .build();
+
+            partition.newHeadIfNecessary(offset, key, valueLength, 0);
+            partition.writeEntry(null, 0L, 0L, 0L, offset++, entryMark, valueMark, 0L, KafkaTimestampType.ADVISORY,
+                -1L, key, headers, value, 0x00, KafkaDeltaType.NONE, pipeline, false);
+
+            final Varint32FW recordLength = recordLengthRO.wrap(records, progress, length);
+            progress = recordLength.limit() + recordLength.value();
+        }
+
+        decompressor.release();
+
+        return offset;
+    }
+
+    private static int encodeRecords(
+        MutableDirectBufferEx buffer)
+    {
+        final RecordHeaderFW.Builder recordHeaderRW = new RecordHeaderFW.Builder();
+        final RecordTrailerFW.Builder recordTrailerRW = new RecordTrailerFW.Builder();
+        final MutableDirectBufferEx field = new UnsafeBufferEx(new byte[256]);
+
+        int progress = 0;
+        for (int index = 0; index < RECORD_COUNT; index++)
+        {
+            final byte[] key = String.format("key-%04d", index).getBytes(UTF_8);
+            final byte[] value = String.format(VALUE_JSON, index).getBytes(UTF_8);
+            field.putBytes(0, key);
+
+            // record length excludes its own varint prefix, so encode once with a single byte zero length
+            // to size the rest of the header
+            RecordHeaderFW header = recordHeaderRW.wrap(buffer, progress, buffer.capacity())
+                .length(0)
+                .attributes(0)
+                .timestampDelta(0)
+                .offsetDelta(index)
+                .keyLength(key.length)
+                .key(field, 0, key.length)
+                .valueLength(value.length)
+                .build();
+            final int headerSize = header.sizeof() - 1;
+            final int recordLength = headerSize + value.length + 1;
+
+            header = recordHeaderRW.wrap(buffer, progress, buffer.capacity())
+                .length(recordLength)
+                .attributes(0)
+                .timestampDelta(0)
+                .offsetDelta(index)
+                .keyLength(key.length)
+                .key(field, 0, key.length)
+                .valueLength(value.length)
+                .build();
+            progress = header.limit();
+
+            buffer.putBytes(progress, value);
+            progress += value.length;
+
+            progress = recordTrailerRW.wrap(buffer, progress, buffer.capacity())
+                .headerCount(0)
+                .build()
+                .limit();
+        }
+
+        return progress;
+    }
+
+    private static byte[] compress(
+        KafkaCompression compression,
+        byte[] records) throws IOException
+    {
+        byte[] compressed = records;
+
+        switch (compression)
+        {
+        case GZIP:
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+            {
+                gzip.write(records);
+            }
+            compressed = out.toByteArray();
+            break;
+        case SNAPPY:
+            byte[] snappy = compress(new SnappyJavaCompressor(), records);
+            MutableDirectBufferEx xerial = new UnsafeBufferEx(new byte[20 + snappy.length]);
+            xerial.putLong(0, 0x82534e4150505900L, BIG_ENDIAN);
+            xerial.putInt(8, 1, BIG_ENDIAN);
+            xerial.putInt(12, 1, BIG_ENDIAN);
+            xerial.putInt(16, snappy.length, BIG_ENDIAN);
+            xerial.putBytes(20, snappy);
+            compressed = xerial.byteArray();
+            break;
+        case LZ4:
+            byte[] lz4 = compress(new Lz4JavaCompressor(), records);
+            MutableDirectBufferEx frame = new UnsafeBufferEx(new byte[15 + lz4.length]);
+            frame.putInt(0, 0x184d2204, LITTLE_ENDIAN);
+            frame.putByte(4, (byte) 0x60);
+            frame.putByte(5, (byte) 0x70);
+            frame.putByte(6, (byte) 0x00);
+            frame.putInt(7, lz4.length, LITTLE_ENDIAN);
+            frame.putBytes(11, lz4);
+            frame.putInt(11 + lz4.length, 0, LITTLE_ENDIAN);
+            compressed = frame.byteArray();
+            break;
+        case ZSTD:
+            compressed = compress(new ZstdJavaCompressor(), records);
+            break;
+        default:
+            break;
+        }
+
+        return compressed;
+    }
+
+    private static byte[] compress(
+        Compressor compressor,
+        byte[] input)
+    {
+        byte[] output = new byte[compressor.maxCompressedLength(input.length)];
+        int length = compressor.compress(input, 0, input.length, output, 0, output.length);
+        byte[] compressed = new byte[length];
+        System.arraycopy(output, 0, compressed, 0, length);
+        return compressed;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(KafkaDecompressBM.class.getSimpleName())
+            .addProfiler("gc")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
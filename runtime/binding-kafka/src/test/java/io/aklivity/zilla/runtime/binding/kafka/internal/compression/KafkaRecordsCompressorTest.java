@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsCompressor.COMPRESS_FAILED;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+public class KafkaRecordsCompressorTest
+{
+    private static final byte[] RECORDS =
+        "{\"id\":\"key-1234\",\"status\":\"ok\"}{\"id\":\"key-5678\",\"status\":\"ok\"}".repeat(8).getBytes(UTF_8);
+
+    private final KafkaRecordsCompressor compressor = new KafkaRecordsCompressor(8192, 8192);
+    private final KafkaRecordsDecompressor decompressor = new KafkaRecordsDecompressor(8192, 8192);
+
+    @Test
+    public void shouldCompressNone()
+    {
+        assertRoundTrip(KafkaCompression.NONE);
+    }
+
+    @Test
+    public void shouldCompressGzip() throws Exception
+    {
+        final int compressed = assertRoundTrip(KafkaCompression.GZIP);
+
+        byte[] encoded = new byte[compressed];
+        compressor.buffer().getBytes(0, encoded);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded)))
+        {
+            assertArrayEquals(RECORDS, gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    public void shouldCompressSnappyXerialFramed()
+    {
+        assertRoundTrip(KafkaCompression.SNAPPY);
+
+        assertEquals(0x82534e4150505900L, compressor.buffer().getLong(0, BIG_ENDIAN));
+    }
+
+    @Test
+    public void shouldCompressLz4Frame()
+    {
+        assertRoundTrip(KafkaCompression.LZ4);
+    }
+
+    @Test
+    public void shouldCompressZstd()
+    {
+        assertRoundTrip(KafkaCompression.ZSTD);
+    }
+
+    @Test
+    public void shouldCompressLz4MultipleBlocks()
+    {
+        final KafkaRecordsCompressor compressor = new KafkaRecordsCompressor(256 * 1024, 256 * 1024);
+        final KafkaRecordsDecompressor decompressor = new KafkaRecordsDecompressor(256 * 1024, 256 * 1024);
+
+        byte[] records = new byte[160 * 1024];
+        new Random(0L).nextBytes(records);
+
+        final int compressed = compressor.compress(KafkaCompression.LZ4, new UnsafeBufferEx(records), 0, records.length);
+        assertTrue(compressed != COMPRESS_FAILED);
+
+        final int decompressed = decompressor.decompress(KafkaCompression.LZ4, compressor.buffer(), 0, compressed);
+        assertEquals(records.length, decompressed);
+
+        byte[] actual = new byte[decompressed];
+        decompressor.buffer().getBytes(0, actual);
+        assertArrayEquals(records, actual);
+    }
+
+    @Test
+    public void shouldRejectOverflowingOutput()
+    {
+        final KafkaRecordsCompressor compressor = new KafkaRecordsCompressor(8192, 16);
+
+        final int compressed = compressor.compress(KafkaCompression.GZIP, new UnsafeBufferEx(RECORDS), 0, RECORDS.length);
+
+        assertEquals(COMPRESS_FAILED, compressed);
+    }
+
+    private int assertRoundTrip(
+        KafkaCompression compression)
+    {
+        final int compressed = compressor.compress(compression, new UnsafeBufferEx(RECORDS), 0, RECORDS.length);
+        assertTrue(compressed != COMPRESS_FAILED);
+
+        final int decompressed = decompressor.decompress(compression, compressor.buffer(), 0, compressed);
+        assertEquals(RECORDS.length, decompressed);
+
+        byte[] actual = new byte[decompressed];
+        decompressor.buffer().getBytes(0, actual);
+        assertArrayEquals(RECORDS, actual);
+
+        return compressed;
+    }
+}
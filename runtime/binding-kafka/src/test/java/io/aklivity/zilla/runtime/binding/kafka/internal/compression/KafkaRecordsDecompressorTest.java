@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsDecompressor.DECOMPRESS_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaRecordsDecompressor.DECOMPRESS_NO_SLOT;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import io.airlift.compress.v3.Compressor;
+import io.airlift.compress.v3.lz4.Lz4JavaCompressor;
+import io.airlift.compress.v3.snappy.SnappyJavaCompressor;
+import io.airlift.compress.v3.zstd.ZstdJavaCompressor;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
+
+public class KafkaRecordsDecompressorTest
+{
+    private static final byte[] RECORDS =
+        "{\"id\":\"key-1234\",\"status\":\"ok\"}{\"id\":\"key-5678\",\"status\":\"ok\"}".repeat(8).getBytes(UTF_8);
+
+    private static final int SLOT_CAPACITY = 8192;
+    private static final long STREAM_ID = 1L;
+
+    private final DefaultBufferPool bufferPool = new DefaultBufferPool(SLOT_CAPACITY * 2, SLOT_CAPACITY);
+    private final KafkaRecordsDecompressor decompressor = new KafkaRecordsDecompressor(bufferPool, SLOT_CAPACITY);
+
+    @Test
+    public void shouldDecompressNone()
+    {
+        assertDecompressed(KafkaCompression.NONE, RECORDS);
+    }
+
+    @Test
+    public void shouldDecompressGzip() throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+        {
+            gzip.write(RECORDS);
+        }
+
+        assertDecompressed(KafkaCompression.GZIP, out.toByteArray());
+    }
+
+    @Test
+    public void shouldDecompressSnappyXerialFramed()
+    {
+        byte[] block = compress(new SnappyJavaCompressor(), RECORDS);
+
+        MutableDirectBufferEx framed = new UnsafeBufferEx(new byte[16 + Integer.BYTES + block.length]);
+        framed.putLong(0, 0x82534e4150505900L, BIG_ENDIAN);
+        framed.putInt(8, 1, BIG_ENDIAN);
+        framed.putInt(12, 1, BIG_ENDIAN);
+        framed.putInt(16, block.length, BIG_ENDIAN);
+        framed.putBytes(20, block);
+
+        assertDecompressed(KafkaCompression.SNAPPY, framed.byteArray());
+    }
+
+    @Test
+    public void shouldDecompressSnappyRaw()
+    {
+        assertDecompressed(KafkaCompression.SNAPPY, compress(new SnappyJavaCompressor(), RECORDS));
+    }
+
+    @Test
+    public void shouldDecompressLz4Frame()
+    {
+        byte[] block = compress(new Lz4JavaCompressor(), RECORDS);
+
+        MutableDirectBufferEx framed = new UnsafeBufferEx(new byte[7 + Integer.BYTES + block.length + Integer.BYTES]);
+        framed.putInt(0, 0x184d2204, LITTLE_ENDIAN);
+        framed.putByte(4, (byte) 0x60);
+        framed.putByte(5, (byte) 0x40);
+        framed.putByte(6, (byte) 0x00);
+        framed.putInt(7, block.length, LITTLE_ENDIAN);
+        framed.putBytes(11, block);
+        framed.putInt(11 + block.length, 0, LITTLE_ENDIAN);
+
+        assertDecompressed(KafkaCompression.LZ4, framed.byteArray());
+    }
+
+    @Test
+    public void shouldDecompressZstd()
+    {
+        assertDecompressed(KafkaCompression.ZSTD, compress(new ZstdJavaCompressor(), RECORDS));
+    }
+
+    @Test
+    public void shouldRejectCorruptGzip()
+    {
+        byte[] corrupt = new byte[] { 0x1f, (byte) 0x8b, 0x08, 0x00, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff };
+
+        int length = decompressor.decompress(STREAM_ID, KafkaCompression.GZIP,
+            new UnsafeBufferEx(corrupt), 0, corrupt.length);
+
+        assertEquals(DECOMPRESS_FAILED, length);
+        assertEquals(0, bufferPool.acquiredSlots());
+    }
+
+    @Test
+    public void shouldRejectGzipWithTrailerMismatch() throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+        {
+            gzip.write(RECORDS);
+        }
+
+        byte[] compressed = out.toByteArray();
+        compressed[compressed.length - 8] ^= 0x01;
+
+        int length = decompressor.decompress(STREAM_ID, KafkaCompression.GZIP,
+            new UnsafeBufferEx(compressed), 0, compressed.length);
+
+        assertEquals(DECOMPRESS_FAILED, length);
+        assertEquals(0, bufferPool.acquiredSlots());
+    }
+
+    @Test
+    public void shouldRetainDetachedSlot()
+    {
+        byte[] compressed = compress(new ZstdJavaCompressor(), RECORDS);
+
+        int length = decompressor.decompress(STREAM_ID, KafkaCompression.ZSTD,
+            new UnsafeBufferEx(compressed), 0, compressed.length);
+        int slot = decompressor.detach();
+
+        decompressor.release();
+        assertEquals(1, bufferPool.acquiredSlots());
+
+        byte[] decompressed = new byte[length];
+        decompressor.buffer(slot).getBytes(0, decompressed);
+        assertArrayEquals(RECORDS, decompressed);
+
+        decompressor.release(slot);
+        assertEquals(0, bufferPool.acquiredSlots());
+    }
+
+    @Test
+    public void shouldRejectOverflowingOutput()
+    {
+        KafkaRecordsDecompressor decompressor = new KafkaRecordsDecompressor(bufferPool, RECORDS.length - 1);
+        byte[] compressed = compress(new ZstdJavaCompressor(), RECORDS);
+
+        int length = decompressor.decompress(STREAM_ID, KafkaCompression.ZSTD,
+            new UnsafeBufferEx(compressed), 0, compressed.length);
+
+        assertEquals(DECOMPRESS_FAILED, length);
+        assertEquals(0, bufferPool.acquiredSlots());
+    }
+
+    @Test
+    public void shouldReportNoSlotWhenPoolExhausted()
+    {
+        int slot1 = bufferPool.acquire(STREAM_ID);
+        int slot2 = bufferPool.acquire(STREAM_ID);
+
+        int length = decompressor.decompress(STREAM_ID, KafkaCompression.NONE,
+            new UnsafeBufferEx(RECORDS), 0, RECORDS.length);
+
+        assertEquals(DECOMPRESS_NO_SLOT, length);
+
+        bufferPool.release(slot1);
+        bufferPool.release(slot2);
+    }
+
+    @Test
+    public void shouldResolveCompressionFromAttributes()
+    {
+        assertEquals(KafkaCompression.NONE, KafkaCompression.valueOf(0x00));
+        assertEquals(KafkaCompression.GZIP, KafkaCompression.valueOf(0x11));
+        assertEquals(KafkaCompression.SNAPPY, KafkaCompression.valueOf(0x02));
+        assertEquals(KafkaCompression.LZ4, KafkaCompression.valueOf(0x0b));
+        assertEquals(KafkaCompression.ZSTD, KafkaCompression.valueOf(0x04));
+        assertEquals(null, KafkaCompression.valueOf(0x07));
+    }
+
+    private void assertDecompressed(
+        KafkaCompression compression,
+        byte[] compressed)
+    {
+        UnsafeBufferEx buffer = new UnsafeBufferEx(new byte[compressed.length + 3]);
+        buffer.putBytes(3, compressed);
+
+        int length = decompressor.decompress(STREAM_ID, compression, buffer, 3, compressed.length);
+
+        assertEquals(RECORDS.length, length);
+        byte[] decompressed = new byte[length];
+        decompressor.buffer().getBytes(0, decompressed);
+        assertArrayEquals(RECORDS, decompressed);
+        assertEquals(1, bufferPool.acquiredSlots());
+
+        decompressor.release();
+        assertEquals(0, bufferPool.acquiredSlots());
+    }
+
+    private static byte[] compress(
+        Compressor compressor,
+        byte[] input)
+    {
+        byte[] output = new byte[compressor.maxCompressedLength(input.length)];
+        int length = compressor.compress(input, 0, input.length, output, 0, output.length);
+        byte[] compressed = new byte[length];
+        System.arraycopy(output, 0, compressed, 0, length);
+        return compressed;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactory;
+
+public class KafkaMetricGroupTest
+{
+    @Test
+    public void shouldLoadAndCreate()
+    {
+        Configuration config = new Configuration();
+        MetricGroupFactory factory = MetricGroupFactory.instantiate();
+        MetricGroup metricGroup = factory.create("kafka", config);
+
+        assertTrue(metricGroup instanceof KafkaMetricGroup);
+        assertEquals("kafka", metricGroup.name());
+    }
+
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        assertEquals(Set.of(
+            "kafka.cache.compactions",
+            "kafka.cache.compactions.active",
+            "kafka.cache.compaction.duration",
+            "kafka.cache.compaction.reclaimed"),
+            Set.copyOf(metricGroup.metricNames()));
+    }
+
+    @Test
+    public void shouldResolveCompactionDuration()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.cache.compaction.duration");
+
+        assertTrue(metric instanceof KafkaCacheCompactionDurationMetric);
+        assertEquals(Metric.Kind.HISTOGRAM, metric.kind());
+        assertEquals(Metric.Unit.NANOSECONDS, metric.unit());
+        assertNull(metric.supply(null));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownMetric()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        assertNull(metricGroup.supply("kafka.unknown"));
+    }
+}
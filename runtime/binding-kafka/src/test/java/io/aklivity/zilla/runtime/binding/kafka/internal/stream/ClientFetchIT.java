@@ -332,6 +332,16 @@ public class ClientFetchIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.yaml")
+    @Specification({
+        "${app}/message.values.gzip/client",
+        "${net}/message.values.gzip/server"})
+    public void shouldReceiveMessageValuesGzipAcrossWindows() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.yaml")
     @Specification({
@@ -368,6 +368,66 @@ public class ClientProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.options.produce.gzip.yaml")
+    @Specification({
+        "${app}/message.value.compressible/client",
+        "${net}/message.value.gzip/server"})
+    public void shouldSendMessageValueCompressedWithGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.options.produce.snappy.yaml")
+    @Specification({
+        "${app}/message.value.compressible/client",
+        "${net}/message.value.snappy/server"})
+    public void shouldSendMessageValueCompressedWithSnappy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.options.produce.lz4.yaml")
+    @Specification({
+        "${app}/message.value.compressible/client",
+        "${net}/message.value.lz4/server"})
+    public void shouldSendMessageValueCompressedWithLz4() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.options.produce.zstd.yaml")
+    @Specification({
+        "${app}/message.value.compressible/client",
+        "${net}/message.value.zstd/server"})
+    public void shouldSendMessageValueCompressedWithZstd() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.options.produce.linger.yaml")
+    @Specification({
+        "${app}/message.value.repeated/client",
+        "${net}/message.value.repeated/server"})
+    public void shouldSendMessageValueRepeatedWhenLingering() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.options.produce.batch.size.yaml")
+    @Specification({
+        "${app}/message.value/client",
+        "${net}/message.value/server"})
+    public void shouldSendMessageValueWhenBatchSizeReached() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.yaml")
     @Specification({
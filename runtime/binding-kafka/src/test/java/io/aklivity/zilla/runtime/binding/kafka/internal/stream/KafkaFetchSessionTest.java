@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaFetchSession.EPOCH_INITIAL;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaFetchSession.ERROR_FETCH_SESSION_ID_NOT_FOUND;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaFetchSession.ERROR_INVALID_FETCH_SESSION_EPOCH;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaFetchSession.SESSION_ID_NONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class KafkaFetchSessionTest
+{
+    @Test
+    public void shouldIncludeAllPartitionsInFullFetch()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+
+        assertTrue(session.isFull());
+        assertTrue(session.onRequestPartition("test", 0, 10L));
+        assertTrue(session.onRequestPartition("test", 1, 20L));
+        assertTrue(forgotten(session).isEmpty());
+        assertEquals(SESSION_ID_NONE, session.sessionId());
+        assertEquals(EPOCH_INITIAL, session.epoch());
+    }
+
+    @Test
+    public void shouldIncludeOnlyChangedPartitionsInIncrementalFetch()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onRequestPartition("test", 1, 20L);
+        forgotten(session);
+        session.onResponse(0, 42);
+
+        assertFalse(session.isFull());
+        assertEquals(42, session.sessionId());
+        assertEquals(1, session.epoch());
+
+        session.onRequestBegin();
+        assertFalse(session.onRequestPartition("test", 0, 10L));
+        assertTrue(session.onRequestPartition("test", 1, 25L));
+        assertTrue(session.onRequestPartition("test", 2, 0L));
+        assertTrue(forgotten(session).isEmpty());
+        session.onResponse(0, 42);
+
+        assertEquals(2, session.epoch());
+    }
+
+    @Test
+    public void shouldRetainPartitionsWithoutPendingFetch()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onRequestPartition("test", 1, 20L);
+        forgotten(session);
+        session.onResponse(0, 42);
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 15L);
+        assertTrue(forgotten(session).isEmpty());
+        session.onResponse(0, 42);
+
+        session.onRequestBegin();
+        assertFalse(session.onRequestPartition("test", 1, 20L));
+        assertTrue(forgotten(session).isEmpty());
+    }
+
+    @Test
+    public void shouldForgetDetachedPartitions()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onRequestPartition("test", 1, 20L);
+        session.onRequestPartition("other", 0, 5L);
+        forgotten(session);
+        session.onResponse(0, 42);
+
+        session.onPartitionDetached("test", 1);
+        session.onPartitionDetached("other", 0);
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        Map<String, List<Integer>> forgotten = forgotten(session);
+
+        assertEquals(Map.of("test", List.of(1), "other", List.of(0)), forgotten);
+
+        session.onResponse(0, 42);
+        session.onRequestBegin();
+
+        assertTrue(session.onRequestPartition("test", 1, 20L));
+    }
+
+    @Test
+    public void shouldIncludeReattachedPartition()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        forgotten(session);
+        session.onResponse(0, 42);
+
+        session.onPartitionDetached("test", 0);
+
+        session.onRequestBegin();
+        assertTrue(session.onRequestPartition("test", 0, 10L));
+        assertTrue(forgotten(session).isEmpty());
+    }
+
+    @Test
+    public void shouldResetOnSessionIdNotFound()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onResponse(0, 42);
+        session.onResponse(ERROR_FETCH_SESSION_ID_NOT_FOUND, 0);
+
+        assertTrue(session.isFull());
+        assertEquals(SESSION_ID_NONE, session.sessionId());
+
+        session.onRequestBegin();
+        assertTrue(session.onRequestPartition("test", 0, 10L));
+    }
+
+    @Test
+    public void shouldResetOnInvalidSessionEpoch()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onResponse(0, 42);
+        session.onResponse(ERROR_INVALID_FETCH_SESSION_EPOCH, 42);
+
+        assertTrue(session.isFull());
+        assertEquals(EPOCH_INITIAL, session.epoch());
+    }
+
+    @Test
+    public void shouldRemainSessionlessWhenBrokerDeclinesSession()
+    {
+        KafkaFetchSession session = new KafkaFetchSession();
+
+        session.onRequestBegin();
+        session.onRequestPartition("test", 0, 10L);
+        session.onResponse(0, SESSION_ID_NONE);
+
+        assertTrue(session.isFull());
+
+        session.onRequestBegin();
+        assertTrue(session.onRequestPartition("test", 0, 10L));
+    }
+
+    private static Map<String, List<Integer>> forgotten(
+        KafkaFetchSession session)
+    {
+        Map<String, List<Integer>> forgotten = new LinkedHashMap<>();
+        session.onRequestForgotten((t, p) -> forgotten.put(t, List.copyOf(p)));
+        return forgotten;
+    }
+}
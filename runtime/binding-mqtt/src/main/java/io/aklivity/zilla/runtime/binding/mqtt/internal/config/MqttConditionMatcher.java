@@ -16,20 +16,19 @@
 package io.aklivity.zilla.runtime.binding.mqtt.internal.config;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.agrona.collections.LongObjPredicate;
-
 import io.aklivity.zilla.config.binding.mqtt.MqttConditionConfig;
 import io.aklivity.zilla.config.binding.mqtt.MqttTopicParamConfig;
+import io.aklivity.zilla.runtime.common.lang.TopicTrie;
 import io.aklivity.zilla.runtime.common.lang.util.function.LongObjectBiFunction;
+import io.aklivity.zilla.runtime.common.lang.util.function.LongObjectPredicate;
 
 public final class MqttConditionMatcher
 {
@@ -38,13 +37,16 @@ public final class MqttConditionMatcher
     private static final Pattern ATTRIBUTE_PATTERN =
         Pattern.compile("\\$\\{guarded(?:\\['([a-zA-Z]+[a-zA-Z0-9\\._\\:\\-]*)'\\]).attributes" +
             ".([a-zA-Z]+[a-zA-Z0-9\\._\\:\\-]*)\\}");
+    private static final Pattern PARAM_PATTERN = Pattern.compile("\\{([a-zA-Z_]+)\\}");
+
+    private static final LongObjectPredicate<TopicMatcher> MATCH_PARAMS = (a, m) -> m.matchParams(a);
 
     private final Matcher identityMatcher = IDENTITY_PATTERN.matcher("");
     private final Matcher attributeMatcher = ATTRIBUTE_PATTERN.matcher("");
 
     private final List<Matcher> sessionMatchers;
-    private final List<TopicMatcher> subscribeMatchers;
-    private final List<TopicMatcher> publishMatchers;
+    private final TopicTrie<TopicMatcher> subscribeMatchers;
+    private final TopicTrie<TopicMatcher> publishMatchers;
 
     public MqttConditionMatcher(
         Function<String, LongFunction<String>> identities,
@@ -54,12 +56,24 @@ public final class MqttConditionMatcher
         this.sessionMatchers = condition.sessions != null && !condition.sessions.isEmpty()
             ? asWildcardMatcher(condition.sessions.stream().map(s -> s.clientId).collect(Collectors.toList()))
             : null;
-        this.subscribeMatchers = condition.subscribes != null && !condition.subscribes.isEmpty()
-            ? condition.subscribes.stream().map(s -> new TopicMatcher(identities, attributor, s.topic, s.params)).toList()
-            : null;
-        this.publishMatchers = condition.publishes != null && !condition.publishes.isEmpty()
-            ? condition.publishes.stream().map(p -> new TopicMatcher(identities, attributor, p.topic, p.params)).toList()
-            : null;
+
+        TopicTrie<TopicMatcher> subscribes = null;
+        if (condition.subscribes != null && !condition.subscribes.isEmpty())
+        {
+            final TopicTrie<TopicMatcher> matchers = new TopicTrie<>();
+            condition.subscribes.forEach(s -> asTopicMatcher(identities, attributor, matchers, s.topic, s.params));
+            subscribes = matchers;
+        }
+        this.subscribeMatchers = subscribes;
+
+        TopicTrie<TopicMatcher> publishes = null;
+        if (condition.publishes != null && !condition.publishes.isEmpty())
+        {
+            final TopicTrie<TopicMatcher> matchers = new TopicTrie<>();
+            condition.publishes.forEach(p -> asTopicMatcher(identities, attributor, matchers, p.topic, p.params));
+            publishes = matchers;
+        }
+        this.publishMatchers = publishes;
     }
 
     public boolean matchesSession(
@@ -84,38 +98,16 @@ public final class MqttConditionMatcher
         long authorization,
         String topic)
     {
-        boolean match = false;
-        if (subscribeMatchers != null)
-        {
-            for (TopicMatcher matcher : subscribeMatchers)
-            {
-                match = matcher.matches(authorization, topic);
-                if (match)
-                {
-                    break;
-                }
-            }
-        }
-        return match;
+        return subscribeMatchers != null &&
+            subscribeMatchers.matches(topic, authorization, MATCH_PARAMS);
     }
 
     public boolean matchesPublish(
         long authorization,
         String topic)
     {
-        boolean match = false;
-        if (publishMatchers != null)
-        {
-            for (TopicMatcher matcher : publishMatchers)
-            {
-                match = matcher.matches(authorization, topic);
-                if (match)
-                {
-                    break;
-                }
-            }
-        }
-        return match;
+        return publishMatchers != null &&
+            publishMatchers.matches(topic, authorization, MATCH_PARAMS);
     }
 
     private static List<Matcher> asWildcardMatcher(
@@ -137,106 +129,98 @@ public final class MqttConditionMatcher
         return matchers;
     }
 
-    private final class TopicMatcher
+    private void asTopicMatcher(
+        Function<String, LongFunction<String>> identities,
+        Function<String, LongObjectBiFunction<String, String>> attributor,
+        TopicTrie<TopicMatcher> matchers,
+        String wildcard,
+        List<MqttTopicParamConfig> params)
     {
-        private final Matcher matchTopic;
-        private final Map<String, LongObjPredicate<String>> matchParams;
-
-        private TopicMatcher(
-            Function<String, LongFunction<String>> identities,
-            Function<String, LongObjectBiFunction<String, String>> attributor,
-            String wildcard,
-            List<MqttTopicParamConfig> params)
-        {
-            this.matchTopic = Pattern.compile(wildcard
-                .replace(".", "\\.")
-                .replace("$", "\\$")
-                .replace("+", "[^/]*")
-                .replace("#", ".*")
-                .replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>[^/]+)")).matcher("");
-            this.matchParams = params != null
-                ? params.stream().collect(Collectors.toMap(
-                    p -> p.name,
-                    p -> asTopicParamMatcher(identities, attributor, p.value)))
-                : null;
-
-            Collection<String> topicParams = matchTopic.namedGroups().keySet();
-            topicParams.stream()
-                .filter(tp -> params == null || params.stream().noneMatch(p -> p.name.equals(tp)))
-                .forEach(tp -> System.out.format("Unconstrained param for MQTT topic %s: %s\n", wildcard, tp));
-            if (params != null)
-            {
-                params.stream()
-                    .filter(p -> !topicParams.contains(p.name))
-                    .forEach(p -> System.out.printf("Undefined param constraint for MQTT topic %s: %s\n", wildcard, p.name));
-            }
-        }
+        final TopicMatcher matcher = new TopicMatcher();
+        matchers.add(wildcard, matcher);
 
-        private boolean matches(
-            long authorization,
-            String topic)
+        if (params != null)
         {
-            return matchTopic.reset(topic).matches() &&
-                matchParams(name ->
-                {
-                    try
-                    {
-                        return matchTopic.group(name);
-                    }
-                    catch (IllegalArgumentException e)
-                    {
-                        return null;
-                    }
-                }, authorization);
+            params.forEach(p -> matcher.matchParams.add(
+                asTopicParamMatcher(identities, attributor, matchers, matchers.param(p.name), p.value)));
         }
 
-        private boolean matchParams(
-            Function<String, String> valuesByName,
-            long authorization)
+        final List<String> topicParams = PARAM_PATTERN.matcher(wildcard).results()
+            .map(r -> r.group(1))
+            .toList();
+        topicParams.stream()
+            .filter(tp -> params == null || params.stream().noneMatch(p -> p.name.equals(tp)))
+            .forEach(tp -> System.out.format("Unconstrained param for MQTT topic %s: %s\n", wildcard, tp));
+        if (params != null)
         {
-            return matchParams == null ||
-                matchParams.entrySet().stream()
-                    .allMatch(e -> e.getValue().test(authorization, valuesByName.apply(e.getKey())));
+            params.stream()
+                .filter(p -> !topicParams.contains(p.name))
+                .forEach(p -> System.out.printf("Undefined param constraint for MQTT topic %s: %s\n", wildcard, p.name));
         }
+    }
 
-        private LongObjPredicate<String> asTopicParamMatcher(
-            Function<String, LongFunction<String>> identities,
-            Function<String, LongObjectBiFunction<String, String>> attributor,
-            String value)
+    private LongPredicate asTopicParamMatcher(
+        Function<String, LongFunction<String>> identities,
+        Function<String, LongObjectBiFunction<String, String>> attributor,
+        TopicTrie<TopicMatcher> matchers,
+        int param,
+        String value)
+    {
+        LongPredicate topic;
+        if (identityMatcher.reset(value).matches())
         {
-            LongObjPredicate<String> topic;
-            if (identityMatcher.reset(value).matches())
-            {
-                topic = asTopicParamIdentityMatcher(identities.apply(identityMatcher.group(1)));
-            }
-            else if (attributeMatcher.reset(value).matches())
-            {
-                topic = asTopicParamAttributeMatcher(attributor.apply(attributeMatcher.group(1)), attributeMatcher.group(2));
-            }
-            else
-            {
-                topic = asTopicParamValueMatcher(value);
-            }
-            return topic;
+            topic = asTopicParamIdentityMatcher(matchers, param, identities.apply(identityMatcher.group(1)));
         }
-
-        private static LongObjPredicate<String> asTopicParamIdentityMatcher(
-            LongFunction<String> identity)
+        else if (attributeMatcher.reset(value).matches())
         {
-            return (a, v) -> v != null && identity != null && v.equals(identity.apply(a));
+            topic = asTopicParamAttributeMatcher(matchers, param,
+                attributor.apply(attributeMatcher.group(1)), attributeMatcher.group(2));
         }
-
-        private static LongObjPredicate<String> asTopicParamAttributeMatcher(
-            LongObjectBiFunction<String, String> attributor,
-            String name)
+        else
         {
-            return (a, v) -> v != null && attributor != null && v.equals(attributor.apply(a, name));
+            topic = asTopicParamValueMatcher(matchers, param, value);
         }
+        return topic;
+    }
+
+    private static LongPredicate asTopicParamIdentityMatcher(
+        TopicTrie<TopicMatcher> matchers,
+        int param,
+        LongFunction<String> identity)
+    {
+        return a -> identity != null && matchers.captureEquals(param, identity.apply(a));
+    }
+
+    private static LongPredicate asTopicParamAttributeMatcher(
+        TopicTrie<TopicMatcher> matchers,
+        int param,
+        LongObjectBiFunction<String, String> attributor,
+        String name)
+    {
+        return a -> attributor != null && matchers.captureEquals(param, attributor.apply(a, name));
+    }
+
+    private static LongPredicate asTopicParamValueMatcher(
+        TopicTrie<TopicMatcher> matchers,
+        int param,
+        String expected)
+    {
+        return a -> matchers.captureEquals(param, expected);
+    }
+
+    private static final class TopicMatcher
+    {
+        private final List<LongPredicate> matchParams = new ArrayList<>();
 
-        private static LongObjPredicate<String> asTopicParamValueMatcher(
-            String expected)
+        private boolean matchParams(
+            long authorization)
         {
-            return (a, v) -> v != null && v.equals(expected);
+            boolean match = true;
+            for (int i = 0; match && i < matchParams.size(); i++)
+            {
+                match = matchParams.get(i).test(authorization);
+            }
+            return match;
         }
     }
 }
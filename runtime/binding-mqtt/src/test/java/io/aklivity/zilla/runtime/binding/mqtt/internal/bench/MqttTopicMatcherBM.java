@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.internal.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.common.lang.TopicTrie;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class MqttTopicMatcherBM
+{
+    @Param({"10", "100", "1000"})
+    public int filters;
+
+    private Matcher[] matchers;
+    private TopicTrie<String> trie;
+    private int device;
+    private String hit;
+    private String miss;
+
+    @Setup
+    public void init()
+    {
+        matchers = new Matcher[filters];
+        trie = new TopicTrie<>();
+
+        for (int i = 0; i < filters; i++)
+        {
+            final String filter = String.format("tenants/tenant-%d/sensors/{device}/+", i);
+            matchers[i] = Pattern.compile(filter
+                .replace(".", "\\.")
+                .replace("$", "\\$")
+                .replace("+", "[^/]*")
+                .replace("#", ".*")
+                .replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>[^/]+)")).matcher("");
+            trie.add(filter, filter);
+        }
+
+        device = trie.param("device");
+        hit = String.format("tenants/tenant-%d/sensors/device-1/temperature", filters - 1);
+        miss = String.format("tenants/tenant-%d/sensors/device-1/temperature", filters);
+    }
+
+    @Benchmark
+    public boolean regexHit()
+    {
+        return matchRegex(hit);
+    }
+
+    @Benchmark
+    public boolean regexMiss()
+    {
+        return matchRegex(miss);
+    }
+
+    @Benchmark
+    public boolean trieHit()
+    {
+        return trie.matches(hit) && trie.captureEquals(device, "device-1");
+    }
+
+    @Benchmark
+    public boolean trieMiss()
+    {
+        return trie.matches(miss);
+    }
+
+    private boolean matchRegex(
+        String topic)
+    {
+        boolean match = false;
+        for (int i = 0; !match && i < matchers.length; i++)
+        {
+            final Matcher matcher = matchers[i].reset(topic);
+            match = matcher.matches() && "device-1".equals(matcher.group("device"));
+        }
+        return match;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(MqttTopicMatcherBM.class.getSimpleName())
+            .forks(0)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.internal.config;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.config.binding.mqtt.MqttConditionConfig;
+
+public class MqttConditionMatcherTest
+{
+    @Test
+    public void shouldMatchPublishTopics()
+    {
+        MqttConditionConfig condition = MqttConditionConfig.builder()
+            .publish()
+                .topic("sensors/one")
+                .build()
+            .publish()
+                .topic("devices/+/status")
+                .build()
+            .build();
+        MqttConditionMatcher matcher = new MqttConditionMatcher(g -> null, g -> null, condition);
+
+        assertTrue(matcher.matchesPublish(0L, "sensors/one"));
+        assertTrue(matcher.matchesPublish(0L, "devices/one/status"));
+        assertFalse(matcher.matchesPublish(0L, "sensors/two"));
+        assertFalse(matcher.matchesPublish(0L, "devices/one/two/status"));
+        assertFalse(matcher.matchesSubscribe(0L, "sensors/one"));
+    }
+
+    @Test
+    public void shouldMatchSubscribeTopics()
+    {
+        MqttConditionConfig condition = MqttConditionConfig.builder()
+            .subscribe()
+                .topic("sensors/#")
+                .build()
+            .build();
+        MqttConditionMatcher matcher = new MqttConditionMatcher(g -> null, g -> null, condition);
+
+        assertTrue(matcher.matchesSubscribe(0L, "sensors/one"));
+        assertTrue(matcher.matchesSubscribe(0L, "sensors/+/temperature"));
+        assertFalse(matcher.matchesSubscribe(0L, "devices/one"));
+        assertFalse(matcher.matchesPublish(0L, "sensors/one"));
+    }
+
+    @Test
+    public void shouldMatchTopicParams()
+    {
+        MqttConditionConfig condition = MqttConditionConfig.builder()
+            .publish()
+                .topic("sensors/{id}/{kind}")
+                .param()
+                    .name("id")
+                    .value("${guarded['jwt'].identity}")
+                    .build()
+                .param()
+                    .name("kind")
+                    .value("temperature")
+                    .build()
+                .build()
+            .build();
+        MqttConditionMatcher matcher = new MqttConditionMatcher(
+            g -> "jwt".equals(g) ? a -> a == 1L ? "one" : "two" : null,
+            g -> null,
+            condition);
+
+        assertTrue(matcher.matchesPublish(1L, "sensors/one/temperature"));
+        assertTrue(matcher.matchesPublish(2L, "sensors/two/temperature"));
+        assertFalse(matcher.matchesPublish(1L, "sensors/two/temperature"));
+        assertFalse(matcher.matchesPublish(1L, "sensors/one/humidity"));
+        assertFalse(matcher.matchesPublish(1L, "sensors//temperature"));
+    }
+
+    @Test
+    public void shouldMatchTopicParamAttributes()
+    {
+        MqttConditionConfig condition = MqttConditionConfig.builder()
+            .subscribe()
+                .topic("tenants/{tenant}/#")
+                .param()
+                    .name("tenant")
+                    .value("${guarded['jwt'].attributes.tenant}")
+                    .build()
+                .build()
+            .build();
+        MqttConditionMatcher matcher = new MqttConditionMatcher(
+            g -> null,
+            g -> (a, n) -> "tenant".equals(n) ? "acme" : null,
+            condition);
+
+        assertTrue(matcher.matchesSubscribe(1L, "tenants/acme/sensors"));
+        assertFalse(matcher.matchesSubscribe(1L, "tenants/other/sensors"));
+    }
+}
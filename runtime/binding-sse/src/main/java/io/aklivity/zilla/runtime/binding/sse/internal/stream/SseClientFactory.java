@@ -48,6 +48,7 @@ import io.aklivity.zilla.runtime.binding.sse.internal.types.stream.SseBeginExFW;
 import io.aklivity.zilla.runtime.binding.sse.internal.types.stream.SseDataExFW;
 import io.aklivity.zilla.runtime.binding.sse.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferOps;
 import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -84,8 +85,6 @@ public class SseClientFactory implements SseStreamFactory
     private static final DirectBufferEx FIELD_NAME_DATA_BYTES = new UnsafeBufferEx("data".getBytes(UTF_8));
 
     private static final IntPredicate EOL_MATCHER = v -> v == LINE_CR_BYTE || v == LINE_LF_BYTE;
-    private static final IntPredicate COLON_MATCHER = v -> v == LINE_COLON_BYTE;
-    private static final IntPredicate EOF_MATCHER = COLON_MATCHER.or(EOL_MATCHER);
 
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(new UnsafeBufferEx(0L, 0), 0, 0);
 
@@ -1767,7 +1766,7 @@ public class SseClientFactory implements SseStreamFactory
         int offset,
         int limit)
     {
-        return indexOfByte(buffer, offset, limit, EOL_MATCHER);
+        return DirectBufferOps.indexOfAnyByte(buffer, offset, limit, (byte) LINE_CR_BYTE, (byte) LINE_LF_BYTE);
     }
 
     private static int limitOfFieldName(
@@ -1775,26 +1774,8 @@ public class SseClientFactory implements SseStreamFactory
         int offset,
         int limit)
     {
-        return indexOfByte(buffer, offset, limit, EOF_MATCHER);
-    }
-
-    private static int indexOfByte(
-        DirectBufferEx buffer,
-        int offset,
-        int limit,
-        IntPredicate matcher)
-    {
-        for (int cursor = offset; cursor < limit; cursor++)
-        {
-            final int ch = buffer.getByte(cursor);
-
-            if (matcher.test(ch))
-            {
-                return cursor;
-            }
-        }
-
-        return -1;
+        return DirectBufferOps.indexOfAnyByte(buffer, offset, limit,
+            (byte) LINE_COLON_BYTE, (byte) LINE_CR_BYTE, (byte) LINE_LF_BYTE);
     }
 
     private static boolean matchAllBytes(
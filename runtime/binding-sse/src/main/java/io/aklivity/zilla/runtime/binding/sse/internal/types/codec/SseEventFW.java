@@ -15,11 +15,10 @@
  */
 package io.aklivity.zilla.runtime.binding.sse.internal.types.codec;
 
+import static io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferOps.indexOfByte;
 import static java.lang.Long.numberOfLeadingZeros;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.util.function.IntPredicate;
-
 import io.aklivity.zilla.runtime.binding.sse.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.sse.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
@@ -176,7 +175,7 @@ public final class SseEventFW extends Flyweight
             {
                 if ((flags & 0x02) == 0x00) // no INIT
                 {
-                    int newlineAt = indexOfByte(textAsBytes, progress, limit, v -> v == 0x0a);
+                    int newlineAt = indexOfByte(textAsBytes, progress, limit, FIELD_TRAILER);
                     if (newlineAt != -1)
                     {
                         buildData(textAsBytes, progress, newlineAt - progress, flags | 0x01);
@@ -200,10 +199,10 @@ public final class SseEventFW extends Flyweight
             if (data != null && (flags != 0x01 || progress < limit))
             {
 
-                for (int newlineAt = indexOfByte(textAsBytes, progress, limit, v -> v == 0x0a);
+                for (int newlineAt = indexOfByte(textAsBytes, progress, limit, FIELD_TRAILER);
                     newlineAt != -1;
                     progress = newlineAt + 1,
-                        newlineAt = indexOfByte(textAsBytes, progress, limit, v -> v == 0x0a))
+                        newlineAt = indexOfByte(textAsBytes, progress, limit, FIELD_TRAILER))
                 {
                     buildData(textAsBytes, progress, newlineAt - progress, flags | 0x01); // FIN
                     flags |= 0x02; // INIT
@@ -354,23 +353,4 @@ public final class SseEventFW extends Flyweight
             return this;
         }
     }
-
-    private static int indexOfByte(
-        DirectBufferEx buffer,
-        int offset,
-        int limit,
-        IntPredicate matcher)
-    {
-        for (int cursor = offset; cursor < limit; cursor++)
-        {
-            final int ch = buffer.getByte(cursor);
-
-            if (matcher.test(ch))
-            {
-                return cursor;
-            }
-        }
-
-        return -1;
-    }
 }
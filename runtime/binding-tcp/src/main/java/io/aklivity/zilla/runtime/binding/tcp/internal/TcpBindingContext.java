@@ -53,6 +53,11 @@ final class TcpBindingContext implements BindingContext
         this.factories = factories;
     }
 
+    public TcpUsageTracker usage()
+    {
+        return usage;
+    }
+
     public boolean accepted(
         long bindingId,
         SocketChannel channel,
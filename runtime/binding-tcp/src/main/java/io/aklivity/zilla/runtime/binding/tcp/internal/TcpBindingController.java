@@ -28,7 +28,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -46,7 +46,8 @@ final class TcpBindingController implements BindingController
     private final EngineController controller;
     private final Int2ObjectHashMap<TcpBindingContext> contexts;
     private final Long2ObjectHashMap<ServerSocketChannel[]> serversById;
-    private final AtomicInteger nextIndex;
+    private final TcpPlacement placement;
+    private final IntFunction<TcpUsageTracker> supplyUsage;
 
     TcpBindingController(
         TcpConfiguration config,
@@ -57,7 +58,8 @@ final class TcpBindingController implements BindingController
         this.controller = controller;
         this.contexts = contexts;
         this.serversById = new Long2ObjectHashMap<>();
-        this.nextIndex = new AtomicInteger();
+        this.placement = new TcpPlacement(config.placement(), config.placementInterval());
+        this.supplyUsage = i -> contexts.get(i).usage();
     }
 
     @Override
@@ -132,7 +134,7 @@ final class TcpBindingController implements BindingController
                 int contextCount = contexts.size();
                 if (contextCount > 0)
                 {
-                    int base = nextIndex.getAndIncrement();
+                    int base = placement.select(contextCount, supplyUsage, System.nanoTime());
                     for (int i = 0; !accepted && i < contextCount; i++)
                     {
                         int index = Math.floorMod(base + i, contextCount);
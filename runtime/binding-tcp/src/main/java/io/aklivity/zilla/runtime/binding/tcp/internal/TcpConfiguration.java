@@ -15,11 +15,15 @@
  */
 package io.aklivity.zilla.runtime.binding.tcp.internal;
 
+import java.time.Duration;
+
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class TcpConfiguration extends Configuration
 {
     public static final IntPropertyDef TCP_WINDOW_THRESHOLD;
+    public static final PropertyDef<Placement> TCP_PLACEMENT;
+    public static final PropertyDef<Duration> TCP_PLACEMENT_INTERVAL;
 
     private static final ConfigurationDef TCP_CONFIG;
 
@@ -27,6 +31,10 @@ public class TcpConfiguration extends Configuration
     {
         ConfigurationDef config = new ConfigurationDef("zilla.binding.tcp");
         TCP_WINDOW_THRESHOLD = config.property("window.threshold", 0);
+        TCP_PLACEMENT = config.property(Placement.class, "placement",
+            (c, v) -> Placement.valueOf(v.toUpperCase()), "round_robin");
+        TCP_PLACEMENT_INTERVAL = config.property(Duration.class, "placement.interval",
+            (c, v) -> Duration.parse(v), "PT1S");
         TCP_CONFIG = config;
     }
 
@@ -42,4 +50,21 @@ public class TcpConfiguration extends Configuration
         assert threshold >= 0 && threshold <= 100;
         return threshold;
     }
+
+    public Placement placement()
+    {
+        return TCP_PLACEMENT.get(this);
+    }
+
+    public Duration placementInterval()
+    {
+        return TCP_PLACEMENT_INTERVAL.get(this);
+    }
+
+    public enum Placement
+    {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS,
+        LEAST_BYTES
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.Placement;
+
+/**
+ * Chooses the worker that receives the next accepted connection.
+ * <p>
+ * Workers are scanned from a rotating start index, so ties keep round-robin order. Workers with no
+ * available capacity are skipped. For {@link Placement#LEAST_BYTES}, each worker's transfer rate is
+ * resampled at most once per interval and smoothed across samples, so one burst does not dominate.
+ * </p>
+ */
+public final class TcpPlacement
+{
+    private static final long[] NO_SAMPLES = new long[0];
+
+    private final Placement policy;
+    private final long interval;
+    private final AtomicInteger nextIndex;
+
+    private long[] sampled;
+    private long[] rates;
+    private long sampledAt;
+
+    public TcpPlacement(
+        Placement policy,
+        Duration interval)
+    {
+        this.policy = policy;
+        this.interval = interval.toNanos();
+        this.nextIndex = new AtomicInteger();
+        this.sampled = NO_SAMPLES;
+        this.rates = NO_SAMPLES;
+    }
+
+    /**
+     * Selects the worker index to try first.
+     *
+     * @param count     the number of workers
+     * @param trackers  supplies the usage tracker for each worker index
+     * @param now       the current time, in nanoseconds
+     * @return the worker index to try first, subsequent workers follow in round-robin order
+     */
+    public int select(
+        int count,
+        IntFunction<TcpUsageTracker> trackers,
+        long now)
+    {
+        final int base = Math.floorMod(nextIndex.getAndIncrement(), count);
+
+        return switch (policy)
+        {
+        case LEAST_CONNECTIONS -> leastConnections(base, count, trackers);
+        case LEAST_BYTES -> leastBytes(base, count, trackers, now);
+        default -> base;
+        };
+    }
+
+    private int leastConnections(
+        int base,
+        int count,
+        IntFunction<TcpUsageTracker> trackers)
+    {
+        int selected = base;
+        int minConnections = Integer.MAX_VALUE;
+
+        for (int i = 0; i < count; i++)
+        {
+            final int index = (base + i) % count;
+            final TcpUsageTracker tracker = trackers.apply(index);
+            final int connections = tracker.connections();
+
+            if (tracker.available() > 0 && connections < minConnections)
+            {
+                selected = index;
+                minConnections = connections;
+            }
+        }
+
+        return selected;
+    }
+
+    private int leastBytes(
+        int base,
+        int count,
+        IntFunction<TcpUsageTracker> trackers,
+        long now)
+    {
+        sample(count, trackers, now);
+
+        int selected = base;
+        long minRate = Long.MAX_VALUE;
+        int minConnections = Integer.MAX_VALUE;
+
+        for (int i = 0; i < count; i++)
+        {
+            final int index = (base + i) % count;
+            final TcpUsageTracker tracker = trackers.apply(index);
+            final long rate = rates[index];
+            final int connections = tracker.connections();
+
+            if (tracker.available() > 0 &&
+                (rate < minRate || rate == minRate && connections < minConnections))
+            {
+                selected = index;
+                minRate = rate;
+                minConnections = connections;
+            }
+        }
+
+        return selected;
+    }
+
+    private void sample(
+        int count,
+        IntFunction<TcpUsageTracker> trackers,
+        long now)
+    {
+        if (sampled.length != count)
+        {
+            sampled = new long[count];
+            rates = new long[count];
+
+            for (int index = 0; index < count; index++)
+            {
+                sampled[index] = trackers.apply(index).transferred();
+            }
+
+            sampledAt = now;
+        }
+        else if (now - sampledAt >= interval)
+        {
+            for (int index = 0; index < count; index++)
+            {
+                final long transferred = trackers.apply(index).transferred();
+                rates[index] = (rates[index] + transferred - sampled[index]) >>> 1;
+                sampled[index] = transferred;
+            }
+
+            sampledAt = now;
+        }
+    }
+}
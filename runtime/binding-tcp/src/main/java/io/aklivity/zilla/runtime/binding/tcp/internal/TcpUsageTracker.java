@@ -17,6 +17,8 @@ package io.aklivity.zilla.runtime.binding.tcp.internal;
 
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKER_CAPACITY_LIMIT;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -25,25 +27,44 @@ public final class TcpUsageTracker
 {
     private final int capacity;
     private final LongConsumer recordUsage;
-
-    private int usage;
+    private final AtomicInteger usage;
+    private final AtomicLong transferred;
 
     public TcpUsageTracker(
         TcpConfiguration config,
         EngineContext context)
     {
-        this.capacity = ENGINE_WORKER_CAPACITY_LIMIT.getAsInt(config);
-        this.recordUsage = context.supplyUtilizationMetric();
+        this(ENGINE_WORKER_CAPACITY_LIMIT.getAsInt(config), context.supplyUtilizationMetric());
+    }
+
+    public TcpUsageTracker(
+        int capacity,
+        LongConsumer recordUsage)
+    {
+        this.capacity = capacity;
+        this.recordUsage = recordUsage;
+        this.usage = new AtomicInteger();
+        this.transferred = new AtomicLong();
     }
 
     public int available()
     {
-        return capacity - usage;
+        return capacity - usage.get();
+    }
+
+    public int connections()
+    {
+        return usage.get();
+    }
+
+    public long transferred()
+    {
+        return transferred.get();
     }
 
     public void claim()
     {
-        int newUsage = ++usage;
+        int newUsage = usage.incrementAndGet();
         assert newUsage <= capacity : "newUsage = %d, capacity = %d".formatted(newUsage, capacity);
 
         record(newUsage);
@@ -51,12 +72,19 @@ public final class TcpUsageTracker
 
     public void released()
     {
-        int newUsage = --usage;
+        int newUsage = usage.decrementAndGet();
         assert newUsage >= 0 : "newUsage = %d".formatted(newUsage);
 
         record(newUsage);
     }
 
+    public void transferred(
+        int bytes)
+    {
+        // single writer, read by the accepting controller thread
+        transferred.lazySet(transferred.get() + bytes);
+    }
+
     private void record(
         int newUsage)
     {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.stream;
+
+import static java.nio.ByteOrder.nativeOrder;
+
+import java.nio.ByteBuffer;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+
+/**
+ * Presents a range of a {@link DirectBufferEx} as a {@link ByteBuffer} for socket writes.
+ * <p>
+ * When the buffer is backed by a direct {@link ByteBuffer}, such as the streams ring buffer, the range is
+ * exposed through a reused duplicate of that buffer without copying. Otherwise the range is copied into
+ * a private direct buffer. Either way the returned buffer is only valid until the next call to
+ * {@link #wrap}.
+ * </p>
+ */
+final class TcpByteBufferView
+{
+    private final ByteBuffer copyByteBuffer;
+
+    private ByteBuffer source;
+    private ByteBuffer view;
+
+    TcpByteBufferView(
+        int capacity)
+    {
+        this.copyByteBuffer = ByteBuffer.allocateDirect(capacity).order(nativeOrder());
+    }
+
+    ByteBuffer wrap(
+        DirectBufferEx buffer,
+        int offset,
+        int length)
+    {
+        final ByteBuffer byteBuffer = buffer.byteBuffer();
+
+        ByteBuffer wrapped;
+
+        if (byteBuffer != null && byteBuffer.isDirect())
+        {
+            if (byteBuffer != source)
+            {
+                source = byteBuffer;
+                view = byteBuffer.duplicate();
+            }
+
+            final int position = buffer.wrapAdjustment() + offset;
+            view.clear();
+            view.limit(position + length);
+            view.position(position);
+            wrapped = view;
+        }
+        else
+        {
+            copyByteBuffer.clear();
+            buffer.getBytes(offset, copyByteBuffer, length);
+            copyByteBuffer.flip();
+            wrapped = copyByteBuffer;
+        }
+
+        return wrapped;
+    }
+}
@@ -94,7 +94,8 @@ public class TcpServerFactory implements TcpStreamFactory
     private final MutableDirectBufferEx readBuffer;
     private final MutableDirectBufferEx writeBuffer;
     private final TcpUsageTracker usage;
-    private final ByteBuffer writeByteBuffer;
+    private final TcpByteBufferView writeView;
+    private final ByteBuffer[] writeByteBuffers;
     private final int replyMax;
     private final int windowThreshold;
     private final int proxyTypeId;
@@ -108,7 +109,8 @@ public class TcpServerFactory implements TcpStreamFactory
         this.event = new TcpEventContext(context);
         this.writeBuffer = context.writeBuffer();
         this.usage = usage;
-        this.writeByteBuffer = ByteBuffer.allocateDirect(writeBuffer.capacity()).order(nativeOrder());
+        this.writeView = new TcpByteBufferView(writeBuffer.capacity());
+        this.writeByteBuffers = new ByteBuffer[2];
         this.bufferPool = context.bufferPool();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
@@ -276,6 +278,7 @@ public class TcpServerFactory implements TcpStreamFactory
                 }
                 else if (bytesRead != 0)
                 {
+                    usage.transferred(bytesRead);
                     doAppData(readBuffer, 0, bytesRead);
                 }
             }
@@ -300,11 +303,8 @@ public class TcpServerFactory implements TcpStreamFactory
                 assert writeSlot != NO_SLOT;
 
                 long traceId = supplyTraceId.getAsLong();
-                DirectBufferEx buffer = bufferPool.buffer(writeSlot);
-                ByteBuffer byteBuffer = bufferPool.byteBuffer(writeSlot);
-                byteBuffer.limit(byteBuffer.position() + writeSlotOffset);
 
-                return doNetWrite(buffer, 0, writeSlotOffset, byteBuffer, traceId);
+                return doNetWrite(null, 0, 0, traceId);
             }
         }
 
@@ -312,21 +312,53 @@ public class TcpServerFactory implements TcpStreamFactory
             DirectBufferEx buffer,
             int offset,
             int length,
-            ByteBuffer byteBuffer,
             long traceId)
         {
+            final int pending = writeSlot != NO_SLOT ? writeSlotOffset : 0;
             int bytesWritten = 0;
 
             try
             {
-                for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
+                if (pending == 0)
                 {
-                    bytesWritten = net.write(byteBuffer);
+                    final ByteBuffer byteBuffer = writeView.wrap(buffer, offset, length);
+
+                    for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
+                    {
+                        bytesWritten = net.write(byteBuffer);
+                    }
+                }
+                else
+                {
+                    final ByteBuffer slotByteBuffer = bufferPool.byteBuffer(writeSlot);
+                    slotByteBuffer.limit(slotByteBuffer.position() + pending);
+
+                    if (length == 0)
+                    {
+                        for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
+                        {
+                            bytesWritten = net.write(slotByteBuffer);
+                        }
+                    }
+                    else
+                    {
+                        // gather pending bytes and new payload into one write
+                        writeByteBuffers[0] = slotByteBuffer;
+                        writeByteBuffers[1] = writeView.wrap(buffer, offset, length);
+
+                        for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
+                        {
+                            bytesWritten = (int) net.write(writeByteBuffers);
+                        }
+                    }
                 }
 
                 bytesFlushed += bytesWritten;
+                usage.transferred(bytesWritten);
 
-                if (bytesWritten < length)
+                final int remaining = pending + length - bytesWritten;
+
+                if (remaining > 0)
                 {
                     if (writeSlot == NO_SLOT)
                     {
@@ -341,8 +373,22 @@ public class TcpServerFactory implements TcpStreamFactory
                     else
                     {
                         final MutableDirectBufferEx slotBuffer = bufferPool.buffer(writeSlot);
-                        slotBuffer.putBytes(0, buffer, offset + bytesWritten, length - bytesWritten);
-                        writeSlotOffset = length - bytesWritten;
+
+                        if (bytesWritten < pending)
+                        {
+                            slotBuffer.putBytes(0, slotBuffer, bytesWritten, pending - bytesWritten);
+                            if (length != 0)
+                            {
+                                slotBuffer.putBytes(pending - bytesWritten, buffer, offset, length);
+                            }
+                        }
+                        else
+                        {
+                            final int payloadWritten = bytesWritten - pending;
+                            slotBuffer.putBytes(0, buffer, offset + payloadWritten, length - payloadWritten);
+                        }
+
+                        writeSlotOffset = remaining;
 
                         key.register(OP_WRITE);
                     }
@@ -475,38 +521,14 @@ public class TcpServerFactory implements TcpStreamFactory
             {
                 final OctetsFW payload = data.payload();
 
-                DirectBufferEx buffer = payload.buffer();
-                int offset = payload.offset();
-                int length = payload.sizeof();
+                final DirectBufferEx buffer = payload.buffer();
+                final int offset = payload.offset();
+                final int length = payload.sizeof();
 
                 assert reserved == length;
                 assert length > 0;
 
-                ByteBuffer byteBuffer;
-
-                if (writeSlot != NO_SLOT)
-                {
-                    final MutableDirectBufferEx slotBuffer = bufferPool.buffer(writeSlot);
-                    slotBuffer.putBytes(writeSlotOffset, buffer, offset, length);
-                    writeSlotOffset += length;
-
-                    final ByteBuffer slotByteBuffer = bufferPool.byteBuffer(writeSlot);
-                    slotByteBuffer.limit(slotByteBuffer.position() + writeSlotOffset);
-
-                    buffer = slotBuffer;
-                    offset = 0;
-                    length = writeSlotOffset;
-                    byteBuffer = slotByteBuffer;
-                }
-                else
-                {
-                    writeByteBuffer.clear();
-                    buffer.getBytes(offset, writeByteBuffer, length);
-                    writeByteBuffer.flip();
-                    byteBuffer = writeByteBuffer;
-                }
-
-                doNetWrite(buffer, offset, length, byteBuffer, traceId);
+                doNetWrite(buffer, offset, length, traceId);
             }
         }
 
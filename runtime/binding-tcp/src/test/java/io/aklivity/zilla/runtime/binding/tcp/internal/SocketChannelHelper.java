@@ -51,6 +51,11 @@ public final class SocketChannelHelper
             return write(channel, buffer, onData);
         }
 
+        public long doWrite(SocketChannel channel, ByteBuffer[] buffers) throws IOException
+        {
+            return write(channel, buffers, onData);
+        }
+
         private static void reset()
         {
             onData = IntStream.empty().iterator();
@@ -172,4 +177,34 @@ public final class SocketChannelHelper
         return written;
     }
 
+    private static long write(
+        SocketChannel channel,
+        ByteBuffer[] bs,
+        PrimitiveIterator.OfInt iterator) throws IOException
+    {
+        int bytesToWrite = iterator.hasNext() ? iterator.nextInt() : ALL;
+        long written;
+        if (bytesToWrite == ALL)
+        {
+            written = channel.write(bs);
+        }
+        else
+        {
+            int[] limits = new int[bs.length];
+            for (int i = 0; i < bs.length; i++)
+            {
+                ByteBuffer b = bs[i];
+                limits[i] = b.limit();
+                int bytes = Math.min(b.remaining(), bytesToWrite);
+                b.limit(b.position() + bytes);
+                bytesToWrite -= bytes;
+            }
+            written = channel.write(bs);
+            for (int i = 0; i < bs.length; i++)
+            {
+                bs[i].limit(limits[i]);
+            }
+        }
+        return written;
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal;
+
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.Placement.LEAST_BYTES;
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.Placement.LEAST_CONNECTIONS;
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.Placement.ROUND_ROBIN;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+public class TcpPlacementTest
+{
+    private final TcpUsageTracker[] trackers =
+    {
+        new TcpUsageTracker(2, u -> {}),
+        new TcpUsageTracker(2, u -> {}),
+        new TcpUsageTracker(2, u -> {})
+    };
+
+    @Test
+    public void shouldSelectRoundRobin()
+    {
+        TcpPlacement placement = new TcpPlacement(ROUND_ROBIN, Duration.ofSeconds(1L));
+
+        assertEquals(0, placement.select(3, i -> trackers[i], 0L));
+        assertEquals(1, placement.select(3, i -> trackers[i], 0L));
+        assertEquals(2, placement.select(3, i -> trackers[i], 0L));
+        assertEquals(0, placement.select(3, i -> trackers[i], 0L));
+    }
+
+    @Test
+    public void shouldSelectLeastConnections()
+    {
+        TcpPlacement placement = new TcpPlacement(LEAST_CONNECTIONS, Duration.ofSeconds(1L));
+
+        trackers[0].claim();
+        trackers[1].claim();
+
+        assertEquals(2, placement.select(3, i -> trackers[i], 0L));
+        assertEquals(2, placement.select(3, i -> trackers[i], 0L));
+    }
+
+    @Test
+    public void shouldSkipWorkersWithoutCapacity()
+    {
+        TcpPlacement placement = new TcpPlacement(LEAST_CONNECTIONS, Duration.ofSeconds(1L));
+
+        trackers[0].claim();
+        trackers[0].claim();
+        trackers[1].claim();
+        trackers[2].claim();
+
+        assertEquals(1, placement.select(3, i -> trackers[i], 0L));
+    }
+
+    @Test
+    public void shouldSelectLeastBytes()
+    {
+        TcpPlacement placement = new TcpPlacement(LEAST_BYTES, Duration.ofSeconds(1L));
+        long now = 0L;
+
+        placement.select(3, i -> trackers[i], now);
+
+        trackers[0].transferred(1024);
+        trackers[1].transferred(64);
+        trackers[2].transferred(4096);
+        now += Duration.ofSeconds(1L).toNanos();
+
+        assertEquals(1, placement.select(3, i -> trackers[i], now));
+        assertEquals(1, placement.select(3, i -> trackers[i], now));
+    }
+
+    @Test
+    public void shouldBreakLeastBytesTiesByConnections()
+    {
+        TcpPlacement placement = new TcpPlacement(LEAST_BYTES, Duration.ofSeconds(1L));
+
+        trackers[0].claim();
+        trackers[2].claim();
+
+        assertEquals(1, placement.select(3, i -> trackers[i], 0L));
+    }
+}
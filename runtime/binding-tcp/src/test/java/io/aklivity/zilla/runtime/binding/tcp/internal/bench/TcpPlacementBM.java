@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.bench;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.Placement;
+import io.aklivity.zilla.runtime.binding.tcp.internal.TcpPlacement;
+import io.aklivity.zilla.runtime.binding.tcp.internal.TcpUsageTracker;
+
+/**
+ * Reproduces worker skew from a few heavy, long-lived connections among many light, short-lived ones.
+ * <p>
+ * Each operation advances simulated time by one millisecond, moves bytes for every live connection,
+ * closes one connection and accepts a replacement. Heavy connections rarely close, so round-robin
+ * placement accumulates them unevenly. The skew of connections and bytes across workers, as the ratio
+ * of the busiest worker to the mean, is printed after each iteration.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(NANOSECONDS)
+public class TcpPlacementBM
+{
+    private static final int WORKERS = 8;
+    private static final int CONNECTIONS = 4096;
+    private static final int HEAVY_PERCENT = 1;
+    private static final int HEAVY_BYTES = 64 * 1024;
+    private static final int LIGHT_BYTES = 64;
+    private static final long TICK = MILLISECONDS.toNanos(1L);
+
+    @Param({ "round_robin", "least_connections", "least_bytes" })
+    public String placement;
+
+    private final Random random = new Random(0L);
+
+    private TcpUsageTracker[] trackers;
+    private IntFunction<TcpUsageTracker> supplyTracker;
+    private TcpPlacement placer;
+    private int[] heavy;
+    private int[] light;
+    private int[] slots;
+    private long[] transferred;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        trackers = new TcpUsageTracker[WORKERS];
+        for (int index = 0; index < WORKERS; index++)
+        {
+            trackers[index] = new TcpUsageTracker(Integer.MAX_VALUE, u -> {});
+        }
+
+        supplyTracker = i -> trackers[i];
+        placer = new TcpPlacement(Placement.valueOf(placement.toUpperCase()), Duration.ofMillis(100L));
+        heavy = new int[WORKERS];
+        light = new int[WORKERS];
+        transferred = new long[WORKERS];
+
+        slots = new int[CONNECTIONS];
+        for (int slot = 0; slot < CONNECTIONS; slot++)
+        {
+            slots[slot] = accept();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void sample()
+    {
+        for (int index = 0; index < WORKERS; index++)
+        {
+            transferred[index] = trackers[index].transferred();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void report()
+    {
+        long maxBytes = 0L;
+        long sumBytes = 0L;
+        int maxConnections = 0;
+
+        for (int index = 0; index < WORKERS; index++)
+        {
+            final long bytes = trackers[index].transferred() - transferred[index];
+            maxBytes = Math.max(maxBytes, bytes);
+            sumBytes += bytes;
+            maxConnections = Math.max(maxConnections, trackers[index].connections());
+        }
+
+        System.out.format("%n%s: connections skew %.2f, bytes skew %.2f%n", placement,
+            (double) maxConnections * WORKERS / CONNECTIONS,
+            sumBytes != 0L ? (double) maxBytes * WORKERS / sumBytes : 0.0);
+    }
+
+    @Benchmark
+    public int churn()
+    {
+        now += TICK;
+
+        for (int index = 0; index < WORKERS; index++)
+        {
+            final long bytes = (long) heavy[index] * HEAVY_BYTES + (long) light[index] * LIGHT_BYTES;
+            trackers[index].transferred((int) Math.min(bytes, Integer.MAX_VALUE));
+        }
+
+        final int slot = random.nextInt(CONNECTIONS);
+        final int connection = slots[slot];
+        final boolean closing = connection >= 0 || random.nextInt(100) == 0;
+
+        if (closing)
+        {
+            release(connection);
+            slots[slot] = accept();
+        }
+
+        return slots[slot];
+    }
+
+    private int accept()
+    {
+        final int index = placer.select(WORKERS, supplyTracker, now);
+        final boolean heavyweight = random.nextInt(100) < HEAVY_PERCENT;
+
+        trackers[index].claim();
+
+        if (heavyweight)
+        {
+            heavy[index]++;
+        }
+        else
+        {
+            light[index]++;
+        }
+
+        // heavy connections are encoded as negative, ~index
+        return heavyweight ? ~index : index;
+    }
+
+    private void release(
+        int connection)
+    {
+        final int index = connection >= 0 ? connection : ~connection;
+
+        if (connection >= 0)
+        {
+            light[index]--;
+        }
+        else
+        {
+            heavy[index]--;
+        }
+
+        trackers[index].released();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(TcpPlacementBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * Compares the server write strategies for outbound data frames over a loopback connection.
+ * <p>
+ * {@code copy} copies each frame payload into a private buffer before writing it, as the tcp binding did
+ * previously. {@code view} writes each payload through a view of the streams buffer without copying.
+ * {@code gather} also writes pending bytes together with the next payload in one gathering write, as
+ * happens once a connection is backpressured. The {@code bytes} and {@code writes} counters are reported
+ * per second, so their ratio gives the write syscalls per megabyte.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class TcpServerWriteBM
+{
+    private static final int FRAMES = 8;
+
+    @Param({ "copy", "view", "gather" })
+    public String strategy;
+
+    @Param({ "512", "8192" })
+    public int frameSize;
+
+    private ServerSocketChannel server;
+    private SocketChannel network;
+    private SocketChannel peer;
+    private Thread drainer;
+
+    private AtomicBufferEx streams;
+    private ByteBuffer streamsView;
+    private ByteBuffer copyByteBuffer;
+    private ByteBuffer[] gatherByteBuffers;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters
+    {
+        public long bytes;
+        public long writes;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            bytes = 0L;
+            writes = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("127.0.0.1", 0));
+
+        network = SocketChannel.open(server.getLocalAddress());
+        peer = server.accept();
+
+        drainer = new Thread(this::drain, "drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+
+        final byte[] payload = new byte[FRAMES * frameSize];
+        new Random(0L).nextBytes(payload);
+
+        final ByteBuffer byteBuffer = allocateDirect(payload.length).order(nativeOrder());
+        streams = new UnsafeBufferEx(byteBuffer).asNative();
+        streams.putBytes(0, payload);
+        streamsView = byteBuffer.duplicate();
+
+        copyByteBuffer = allocateDirect(frameSize).order(nativeOrder());
+        gatherByteBuffers = new ByteBuffer[FRAMES];
+        for (int i = 0; i < FRAMES; i++)
+        {
+            gatherByteBuffers[i] = byteBuffer.duplicate();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws Exception
+    {
+        network.close();
+        peer.close();
+        server.close();
+        drainer.join();
+    }
+
+    @Benchmark
+    public long write(
+        Counters counters) throws Exception
+    {
+        return switch (strategy)
+        {
+        case "copy" -> writeCopy(counters);
+        case "view" -> writeView(counters);
+        default -> writeGather(counters);
+        };
+    }
+
+    private long writeCopy(
+        Counters counters) throws Exception
+    {
+        long written = 0L;
+
+        for (int i = 0; i < FRAMES; i++)
+        {
+            copyByteBuffer.clear();
+            streams.getBytes(i * frameSize, copyByteBuffer, frameSize);
+            copyByteBuffer.flip();
+
+            while (copyByteBuffer.hasRemaining())
+            {
+                written += network.write(copyByteBuffer);
+                counters.writes++;
+            }
+        }
+
+        counters.bytes += written;
+        return written;
+    }
+
+    private long writeView(
+        Counters counters) throws Exception
+    {
+        long written = 0L;
+
+        for (int i = 0; i < FRAMES; i++)
+        {
+            final int position = i * frameSize;
+            streamsView.clear();
+            streamsView.limit(position + frameSize);
+            streamsView.position(position);
+
+            while (streamsView.hasRemaining())
+            {
+                written += network.write(streamsView);
+                counters.writes++;
+            }
+        }
+
+        counters.bytes += written;
+        return written;
+    }
+
+    private long writeGather(
+        Counters counters) throws Exception
+    {
+        for (int i = 0; i < FRAMES; i++)
+        {
+            final int position = i * frameSize;
+            final ByteBuffer view = gatherByteBuffers[i];
+            view.clear();
+            view.limit(position + frameSize);
+            view.position(position);
+        }
+
+        final long length = (long) FRAMES * frameSize;
+        long written = 0L;
+
+        while (written < length)
+        {
+            written += network.write(gatherByteBuffers);
+            counters.writes++;
+        }
+
+        counters.bytes += written;
+        return written;
+    }
+
+    private void drain()
+    {
+        final ByteBuffer byteBuffer = allocateDirect(64 * 1024);
+
+        try
+        {
+            while (peer.read(byteBuffer) != -1)
+            {
+                byteBuffer.clear();
+            }
+        }
+        catch (Exception ex)
+        {
+            // closed
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(TcpServerWriteBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
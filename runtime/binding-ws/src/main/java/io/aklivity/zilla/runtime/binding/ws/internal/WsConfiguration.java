@@ -19,11 +19,18 @@ import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class WsConfiguration extends Configuration
 {
+    public static final BooleanPropertyDef WS_SERVER_DEFLATE;
+    public static final BooleanPropertyDef WS_CLIENT_DEFLATE;
+    public static final IntPropertyDef WS_DEFLATE_LEVEL;
+
     private static final ConfigurationDef WS_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.ws");
+        WS_SERVER_DEFLATE = config.property("server.deflate", false);
+        WS_CLIENT_DEFLATE = config.property("client.deflate", false);
+        WS_DEFLATE_LEVEL = config.property("deflate.level", 6);
         WS_CONFIG = config;
     }
 
@@ -32,4 +39,19 @@ public class WsConfiguration extends Configuration
     {
         super(WS_CONFIG, config);
     }
+
+    public boolean serverDeflate()
+    {
+        return WS_SERVER_DEFLATE.getAsBoolean(this);
+    }
+
+    public boolean clientDeflate()
+    {
+        return WS_CLIENT_DEFLATE.getAsBoolean(this);
+    }
+
+    public int deflateLevel()
+    {
+        return WS_DEFLATE_LEVEL.getAsInt(this);
+    }
 }
@@ -19,6 +19,7 @@ import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeader
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_PROTOCOL_ERROR;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_UNEXPECTED_CONDITION;
 import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsMaskUtil.xor;
+import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsPermessageDeflate.RSV1;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -62,12 +63,14 @@ import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsBeginExFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsDataExFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsEndExFW;
+import io.aklivity.zilla.runtime.binding.ws.internal.util.WsPermessageDeflate;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 
 public final class WsClientFactory implements WsStreamFactory
@@ -114,6 +117,8 @@ public final class WsClientFactory implements WsStreamFactory
     private final OctetsFW.Builder payloadRW = new OctetsFW.Builder();
 
     private final OctetsFW payloadRO = new OctetsFW();
+    private final OctetsFW deflatedRO = new OctetsFW();
+    private final OctetsFW inflatedRO = new OctetsFW();
     private final ExtensionFW extensionExRO = new ExtensionFW();
 
     private final HttpBeginExFW httpBeginExRO = new HttpBeginExFW();
@@ -127,6 +132,9 @@ public final class WsClientFactory implements WsStreamFactory
 
     private final MutableDirectBufferEx writeBuffer;
     private final MutableDirectBufferEx extBuffer;
+    private final MutableDirectBufferEx deflateBuffer;
+    private final MutableDirectBufferEx inflateBuffer;
+    private final BufferPool bufferPool;
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
@@ -135,6 +143,10 @@ public final class WsClientFactory implements WsStreamFactory
     private final Long2ObjectHashMap<WsBindingConfig> bindings;
     private final int wsTypeId;
     private final int httpTypeId;
+    private final boolean deflateEnabled;
+    private final int deflateLevel;
+    private final int deflatePad;
+    private final int inflateMax;
 
     public WsClientFactory(
         WsConfiguration config,
@@ -142,6 +154,13 @@ public final class WsClientFactory implements WsStreamFactory
     {
         this.writeBuffer = context.writeBuffer();
         this.extBuffer = new UnsafeBufferEx(new byte[context.writeBuffer().capacity()]);
+        this.bufferPool = context.bufferPool();
+        this.deflateBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
+        this.inflateBuffer = new UnsafeBufferEx(new byte[bufferPool.slotCapacity()]);
+        this.deflateEnabled = config.clientDeflate();
+        this.deflateLevel = config.deflateLevel();
+        this.deflatePad = WsPermessageDeflate.padding(writeBuffer.capacity());
+        this.inflateMax = bufferPool.slotCapacity() >> 1;
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
@@ -445,7 +464,7 @@ public final class WsClientFactory implements WsStreamFactory
 
                 state = WsState.openReply(state);
 
-                int initialPad = paddingMin + MAXIMUM_HEADER_SIZE;
+                int initialPad = paddingMin + MAXIMUM_HEADER_SIZE + (client.deflate != null ? deflatePad : 0);
 
                 final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
                         .originId(originId)
@@ -564,7 +583,7 @@ public final class WsClientFactory implements WsStreamFactory
                     flags = wsDataEx.flags();
                 }
 
-                client.doNetData(traceId, authorization, budgetId, reserved, payload, flags);
+                client.doNetMessage(traceId, authorization, budgetId, reserved, payload, flags);
             }
         }
 
@@ -652,7 +671,15 @@ public final class WsClientFactory implements WsStreamFactory
 
             assert replyAck <= replySeq;
 
-            client.doNetWindow(traceId, authorization, budgetId, (int)(replySeq - replyAck), replyPad);
+            int pendingAck = (int)(replySeq - replyAck);
+
+            if (client.deflate != null)
+            {
+                client.flushInflate(traceId, authorization);
+                pendingAck = (int)(replySeq - replyAck) + client.deflate.buffered();
+            }
+
+            client.doNetWindow(traceId, authorization, budgetId, pendingAck, replyPad);
         }
 
         private void onAppReset(
@@ -706,6 +733,8 @@ public final class WsClientFactory implements WsStreamFactory
             private final String key;
             private final String protocol;
 
+            private WsPermessageDeflate deflate;
+
             private long initialBudgetId;
             private long initialSeq;
             private long initialAck;
@@ -718,6 +747,10 @@ public final class WsClientFactory implements WsStreamFactory
             private long decodeTraceId;
             private long decodeAuthorization;
             private DecoderState decodeState;
+            private boolean decodeFin;
+            private boolean inflating;
+            private int inflateOpcode;
+            private short inflateEndCode;
 
             private MutableDirectBufferEx header;
             private int headerLength;
@@ -760,6 +793,30 @@ public final class WsClientFactory implements WsStreamFactory
                         traceId, authorization, affinity, setHttpHeaders(scheme, authority, path, key, protocol));
             }
 
+            private void doNetMessage(
+                long traceId,
+                long authorization,
+                long budgetId,
+                int reserved,
+                OctetsFW payload,
+                int flags)
+            {
+                if (deflate != null && (flags & 0x08) == 0)
+                {
+                    final boolean fin = (flags & 0x80) != 0;
+                    final int length =
+                        deflate.deflate(payload.buffer(), payload.offset(), payload.sizeof(), fin, deflateBuffer, 0);
+                    final OctetsFW deflated = deflatedRO.wrap(deflateBuffer, 0, length);
+                    final int rsv1 = (flags & 0x0f) != 0x00 ? RSV1 : 0x00;
+
+                    doNetData(traceId, authorization, budgetId, reserved, deflated, flags | rsv1);
+                }
+                else
+                {
+                    doNetData(traceId, authorization, budgetId, reserved, payload, flags);
+                }
+            }
+
             private void doNetData(
                 long traceId,
                 long authorization,
@@ -820,6 +877,11 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(end.typeId(), end.buffer(), end.offset(), end.sizeof());
+
+                if (deflate != null)
+                {
+                    deflate.closeDeflate();
+                }
             }
 
             private void doNetAbort(
@@ -838,6 +900,11 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(abort.typeId(), abort.buffer(), abort.offset(), abort.sizeof());
+
+                if (deflate != null)
+                {
+                    deflate.closeDeflate();
+                }
             }
 
             private void doNetFlush(
@@ -878,6 +945,11 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
+
+                if (deflate != null)
+                {
+                    deflate.closeInflate();
+                }
             }
 
             private void doNetChallenge(
@@ -908,10 +980,11 @@ public final class WsClientFactory implements WsStreamFactory
                 int paddingMin)
             {
                 long replyAckMax = Math.max(replySeq - pendingAck, replyAck);
-                if (replyAckMax > replyAck || WsStream.this.replyMax > replyMax)
+                int maximum = deflate != null ? Math.min(WsStream.this.replyMax, inflateMax) : WsStream.this.replyMax;
+                if (replyAckMax > replyAck || maximum > replyMax)
                 {
                     replyAck = replyAckMax;
-                    replyMax = WsStream.this.replyMax;
+                    replyMax = maximum;
                     assert replyAck <= replySeq;
 
                     final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
@@ -1016,11 +1089,18 @@ public final class WsClientFactory implements WsStreamFactory
                     final String upgrade = headers.get("upgrade");
                     final String hash = headers.get("sec-websocket-accept");
                     final String protocol = headers.get("sec-websocket-protocol");
+                    final String extensions = headers.get("sec-websocket-extensions");
                     // TODO: need lightweight approach (end)
 
+                    if (extensions != null)
+                    {
+                        deflate = deflateEnabled ? WsPermessageDeflate.accept(extensions, deflateLevel, bufferPool) : null;
+                    }
+
                     if (WEBSOCKET_STATUS.equals(status) &&
                         WEBSOCKET_UPGRADE.equals(upgrade) &&
-                        Objects.equals(this.protocol, protocol))
+                        Objects.equals(this.protocol, protocol) &&
+                        (extensions == null || deflate != null))
                     {
                         sha1.reset();
                         sha1.update(key.getBytes(US_ASCII));
@@ -1122,7 +1202,7 @@ public final class WsClientFactory implements WsStreamFactory
 
                 assert replyAck <= replySeq;
 
-                doAppEnd(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                onDecodeEnd(traceId, authorization, STATUS_PROTOCOL_ERROR);
             }
 
             private void onNetAbort(
@@ -1142,6 +1222,11 @@ public final class WsClientFactory implements WsStreamFactory
                 assert replyAck <= replySeq;
 
                 doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
+
+                if (deflate != null)
+                {
+                    deflate.closeInflate();
+                }
             }
 
             private void onNetFlush(
@@ -1198,6 +1283,11 @@ public final class WsClientFactory implements WsStreamFactory
                 final long authorization = reset.authorization();
 
                 doAppReset(traceId, authorization);
+
+                if (deflate != null)
+                {
+                    deflate.closeDeflate();
+                }
             }
 
             private void onNetChallenge(
@@ -1263,7 +1353,7 @@ public final class WsClientFactory implements WsStreamFactory
                     consumed = wsHeader.sizeof();
                 }
 
-                if (wsHeader.mask() && wsHeader.maskingKey() != 0L)
+                if ((wsHeader.mask() && wsHeader.maskingKey() != 0L) || (wsHeader.rsv1() && !inflatable(wsHeader.opcode())))
                 {
                     doNetReset(decodeTraceId, decodeAuthorization);
                     doAppAbort(decodeTraceId, decodeAuthorization, STATUS_PROTOCOL_ERROR);
@@ -1273,17 +1363,22 @@ public final class WsClientFactory implements WsStreamFactory
                     this.maskingKey = 0;
                     this.payloadLength = wsHeader.length();
                     this.payloadProgress = 0;
+                    this.decodeFin = wsHeader.fin();
 
                     switch (wsHeaderRO.opcode())
                     {
                     case 0x00:
-                        this.decodeState = this::decodeContinuation;
+                        this.decodeState = inflating ? this::decodeInflate : this::decodeContinuation;
                         break;
                     case 0x01:
-                        this.decodeState = this::decodeText;
+                        this.inflating = wsHeader.rsv1();
+                        this.inflateOpcode = 0x01;
+                        this.decodeState = inflating ? this::decodeInflate : this::decodeText;
                         break;
                     case 0x02:
-                        this.decodeState = this::decodeBinary;
+                        this.inflating = wsHeader.rsv1();
+                        this.inflateOpcode = 0x02;
+                        this.decodeState = inflating ? this::decodeInflate : this::decodeBinary;
                         break;
                     case 0x08:
                         this.decodeState = this::decodeClose;
@@ -1303,6 +1398,98 @@ public final class WsClientFactory implements WsStreamFactory
                 return consumed;
             }
 
+            private boolean inflatable(
+                int opcode)
+            {
+                return deflate != null && (opcode == 0x01 || opcode == 0x02);
+            }
+
+            private int decodeInflate(
+                final DirectBufferEx buffer,
+                final int offset,
+                final int length)
+            {
+                final int decodeBytes = Math.min(length, (int) Math.min(payloadLength - payloadProgress, Integer.MAX_VALUE));
+                final boolean fin = decodeFin && payloadProgress + decodeBytes == payloadLength;
+
+                if (!deflate.append(replyId, buffer, offset, decodeBytes, maskingKey, inflateOpcode, fin))
+                {
+                    doNetReset(decodeTraceId, decodeAuthorization);
+                    doAppAbort(decodeTraceId, decodeAuthorization, STATUS_UNEXPECTED_CONDITION);
+                    return length;
+                }
+
+                payloadProgress += decodeBytes;
+
+                if (payloadProgress == payloadLength)
+                {
+                    this.inflating = !decodeFin;
+                    this.decodeState = this::decodeHeader;
+                }
+
+                flushInflate(decodeTraceId, decodeAuthorization);
+
+                return decodeBytes;
+            }
+
+            private void flushInflate(
+                long traceId,
+                long authorization)
+            {
+                while (deflate.inflatable())
+                {
+                    final int window = WsStream.this.replyMax - (int)(WsStream.this.replySeq - WsStream.this.replyAck) - replyPad;
+                    if (window < 0)
+                    {
+                        break;
+                    }
+
+                    final int inflated = deflate.inflate(inflateBuffer, 0, Math.min(window, inflateBuffer.capacity()));
+                    if (inflated == -1)
+                    {
+                        doNetReset(traceId, authorization);
+                        doAppAbort(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                        inflateEndCode = 0;
+                        break;
+                    }
+
+                    final int flags = deflate.flags();
+                    if (inflated == 0 && (flags & 0x80) == 0)
+                    {
+                        break;
+                    }
+
+                    doAppData(traceId, flags, 0, inflatedRO.wrap(inflateBuffer, 0, inflated));
+                }
+
+                if (inflateEndCode != 0 && !deflate.inflatable())
+                {
+                    doAppEnd(traceId, authorization, inflateEndCode);
+                    deflate.closeInflate();
+                    inflateEndCode = 0;
+                }
+            }
+
+            private void onDecodeEnd(
+                long traceId,
+                long authorization,
+                short code)
+            {
+                if (deflate != null && deflate.inflatable())
+                {
+                    inflateEndCode = code;
+                }
+                else
+                {
+                    doAppEnd(traceId, authorization, code);
+
+                    if (deflate != null)
+                    {
+                        deflate.closeInflate();
+                    }
+                }
+            }
+
             private int decodeContinuation(
                 final DirectBufferEx buffer,
                 final int offset,
@@ -1427,7 +1614,7 @@ public final class WsClientFactory implements WsStreamFactory
                             code = status.getShort(0, ByteOrder.BIG_ENDIAN);
                         }
                         statusLength = 0;
-                        doAppEnd(decodeTraceId, decodeAuthorization, code);
+                        onDecodeEnd(decodeTraceId, decodeAuthorization, code);
                         this.decodeState = this::decodeUnexpected;
                     }
 
@@ -1625,6 +1812,11 @@ public final class WsClientFactory implements WsStreamFactory
             {
                 headers.item(h -> h.name("sec-websocket-protocol").value(protocol));
             }
+
+            if (deflateEnabled)
+            {
+                headers.item(h -> h.name("sec-websocket-extensions").value(WsPermessageDeflate.EXTENSION_NAME));
+            }
         };
     }
 
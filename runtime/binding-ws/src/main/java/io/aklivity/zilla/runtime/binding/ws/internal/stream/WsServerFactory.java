@@ -19,6 +19,7 @@ import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeader
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_PROTOCOL_ERROR;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_UNEXPECTED_CONDITION;
 import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsMaskUtil.xor;
+import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsPermessageDeflate.RSV1;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.nativeOrder;
@@ -60,12 +61,14 @@ import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsBeginExFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsDataExFW;
 import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsEndExFW;
+import io.aklivity.zilla.runtime.binding.ws.internal.util.WsPermessageDeflate;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 
 public final class WsServerFactory implements WsStreamFactory
@@ -110,6 +113,8 @@ public final class WsServerFactory implements WsStreamFactory
     private final ChallengeFW.Builder challengeRW = new ChallengeFW.Builder();
 
     private final OctetsFW payloadRO = new OctetsFW();
+    private final OctetsFW deflatedRO = new OctetsFW();
+    private final OctetsFW inflatedRO = new OctetsFW();
 
     private final HttpBeginExFW httpBeginExRO = new HttpBeginExFW();
     private final HttpBeginExFW.Builder httpBeginExRW = new HttpBeginExFW.Builder();
@@ -121,6 +126,9 @@ public final class WsServerFactory implements WsStreamFactory
 
     private final MutableDirectBufferEx writeBuffer;
     private final MutableDirectBufferEx extBuffer;
+    private final MutableDirectBufferEx deflateBuffer;
+    private final MutableDirectBufferEx inflateBuffer;
+    private final BufferPool bufferPool;
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
@@ -129,6 +137,10 @@ public final class WsServerFactory implements WsStreamFactory
     private final Long2ObjectHashMap<WsBindingConfig> bindings;
     private final int wsTypeId;
     private final int httpTypeId;
+    private final boolean deflateEnabled;
+    private final int deflateLevel;
+    private final int deflatePad;
+    private final int inflateMax;
 
     public WsServerFactory(
         WsConfiguration config,
@@ -136,6 +148,13 @@ public final class WsServerFactory implements WsStreamFactory
     {
         this.writeBuffer = context.writeBuffer();
         this.extBuffer = new UnsafeBufferEx(new byte[context.writeBuffer().capacity()]);
+        this.bufferPool = context.bufferPool();
+        this.deflateBuffer = new UnsafeBufferEx(new byte[writeBuffer.capacity()]);
+        this.inflateBuffer = new UnsafeBufferEx(new byte[bufferPool.slotCapacity()]);
+        this.deflateEnabled = config.serverDeflate();
+        this.deflateLevel = config.deflateLevel();
+        this.deflatePad = WsPermessageDeflate.padding(writeBuffer.capacity());
+        this.inflateMax = bufferPool.slotCapacity() >> 1;
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
@@ -200,6 +219,7 @@ public final class WsServerFactory implements WsStreamFactory
         final String version = headers.get("sec-websocket-version");
         final String key = headers.get("sec-websocket-key");
         final String[] protocols = parseProtocols(headers.get("sec-websocket-protocol"));
+        final String extensions = headers.get("sec-websocket-extensions");
         // TODO: need lightweight approach (end)
 
         MessageConsumer newStream = null;
@@ -249,7 +269,8 @@ public final class WsServerFactory implements WsStreamFactory
                         protocol,
                         scheme,
                         authority,
-                        path)::onNetMessage;
+                        path,
+                        extensions)::onNetMessage;
                 }
             }
         }
@@ -269,12 +290,18 @@ public final class WsServerFactory implements WsStreamFactory
         private final String scheme;
         private final String authority;
         private final String path;
+        private final String extensions;
 
         private WsStream stream;
+        private WsPermessageDeflate deflate;
 
         private long decodeTraceId;
         private long decodeAuthorization;
         private DecoderState decodeState;
+        private boolean decodeFin;
+        private boolean inflating;
+        private int inflateOpcode;
+        private short inflateEndCode;
 
         private MutableDirectBufferEx header;
         private int headerLength;
@@ -309,7 +336,8 @@ public final class WsServerFactory implements WsStreamFactory
             String protocol,
             String scheme,
             String authority,
-            String path)
+            String path,
+            String extensions)
         {
             this.receiver = receiver;
             this.originId = originId;
@@ -321,6 +349,7 @@ public final class WsServerFactory implements WsStreamFactory
             this.scheme = scheme;
             this.authority = authority;
             this.path = path;
+            this.extensions = extensions;
 
             this.header = new UnsafeBufferEx(new byte[MAXIMUM_HEADER_SIZE]);
             this.status = new UnsafeBufferEx(new byte[2]);
@@ -340,8 +369,33 @@ public final class WsServerFactory implements WsStreamFactory
             final Encoder encoder = Base64.getEncoder();
             final String handshakeHash = new String(encoder.encode(digest), US_ASCII);
 
+            deflate = deflateEnabled ? WsPermessageDeflate.negotiate(extensions, deflateLevel, bufferPool) : null;
+
             doHttpBegin(receiver, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization, affinity,
-                    setHttpHeaders(handshakeHash, protocol));
+                    setHttpHeaders(handshakeHash, protocol, deflate != null ? deflate.response() : null));
+        }
+
+        private void doNetMessage(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            OctetsFW payload,
+            int flags)
+        {
+            if (deflate != null && (flags & 0x08) == 0)
+            {
+                final boolean fin = (flags & 0x80) != 0;
+                final int length = deflate.deflate(payload.buffer(), payload.offset(), payload.sizeof(), fin, deflateBuffer, 0);
+                final OctetsFW deflated = deflatedRO.wrap(deflateBuffer, 0, length);
+                final int rsv1 = (flags & 0x0f) != 0x00 ? RSV1 : 0x00;
+
+                doNetData(traceId, authorization, budgetId, reserved, deflated, flags | rsv1);
+            }
+            else
+            {
+                doNetData(traceId, authorization, budgetId, reserved, payload, flags);
+            }
         }
 
         private void doNetData(
@@ -398,6 +452,11 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(end.typeId(), end.buffer(), end.offset(), end.sizeof());
+
+            if (deflate != null)
+            {
+                deflate.closeDeflate();
+            }
         }
 
         private void doNetAbort(
@@ -414,6 +473,11 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(abort.typeId(), abort.buffer(), abort.offset(), abort.sizeof());
+
+            if (deflate != null)
+            {
+                deflate.closeDeflate();
+            }
         }
 
         private void doNetFlush(
@@ -452,6 +516,11 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
+
+            if (deflate != null)
+            {
+                deflate.closeInflate();
+            }
         }
 
         private void doNetChallenge(
@@ -482,10 +551,11 @@ public final class WsServerFactory implements WsStreamFactory
             int paddingMin)
         {
             long initialAckMax = Math.max(initialSeq - pendingAck, initialAck);
-            if (initialAckMax > initialAck || stream.initialMax > initialMax)
+            int maximum = deflate != null ? Math.min(stream.initialMax, inflateMax) : stream.initialMax;
+            if (initialAckMax > initialAck || maximum > initialMax)
             {
                 initialAck = initialAckMax;
-                initialMax = stream.initialMax;
+                initialMax = maximum;
                 assert initialAck <= initialSeq;
 
                 final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
@@ -642,7 +712,7 @@ public final class WsServerFactory implements WsStreamFactory
             final long traceId = end.traceId();
             final long authorization = end.authorization();
 
-            stream.doAppEnd(traceId, authorization, STATUS_NORMAL_CLOSURE);
+            onDecodeEnd(traceId, authorization, STATUS_NORMAL_CLOSURE);
         }
 
         private void onNetAbort(
@@ -652,6 +722,11 @@ public final class WsServerFactory implements WsStreamFactory
             final long authorization = abort.authorization();
 
             stream.doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
+
+            if (deflate != null)
+            {
+                deflate.closeInflate();
+            }
         }
 
         private void onNetFlush(
@@ -698,6 +773,11 @@ public final class WsServerFactory implements WsStreamFactory
             final long authorization = reset.authorization();
 
             stream.doAppReset(traceId, authorization);
+
+            if (deflate != null)
+            {
+                deflate.closeDeflate();
+            }
         }
 
         private void onNetChallenge(
@@ -763,22 +843,27 @@ public final class WsServerFactory implements WsStreamFactory
                 consumed = wsHeader.sizeof();
             }
 
-            if (wsHeader.mask() && wsHeader.maskingKey() != 0L)
+            if (wsHeader.mask() && wsHeader.maskingKey() != 0L && (!wsHeader.rsv1() || inflatable(wsHeader.opcode())))
             {
                 this.maskingKey = wsHeader.maskingKey();
                 this.payloadLength = wsHeader.length();
                 this.payloadProgress = 0;
+                this.decodeFin = wsHeader.fin();
 
                 switch (wsHeader.opcode())
                 {
                 case 0x00:
-                    this.decodeState = this::decodeContinuation;
+                    this.decodeState = inflating ? this::decodeInflate : this::decodeContinuation;
                     break;
                 case 0x01:
-                    this.decodeState = this::decodeText;
+                    this.inflating = wsHeader.rsv1();
+                    this.inflateOpcode = 0x01;
+                    this.decodeState = inflating ? this::decodeInflate : this::decodeText;
                     break;
                 case 0x02:
-                    this.decodeState = this::decodeBinary;
+                    this.inflating = wsHeader.rsv1();
+                    this.inflateOpcode = 0x02;
+                    this.decodeState = inflating ? this::decodeInflate : this::decodeBinary;
                     break;
                 case 0x08:
                     this.decodeState = this::decodeClose;
@@ -803,6 +888,99 @@ public final class WsServerFactory implements WsStreamFactory
             return consumed;
         }
 
+        private boolean inflatable(
+            int opcode)
+        {
+            return deflate != null && (opcode == 0x01 || opcode == 0x02);
+        }
+
+        private int decodeInflate(
+            final DirectBufferEx buffer,
+            final int offset,
+            final int length)
+        {
+            final int decodeBytes = Math.min(length, (int) Math.min(payloadLength - payloadProgress, Integer.MAX_VALUE));
+            final boolean fin = decodeFin && payloadProgress + decodeBytes == payloadLength;
+
+            if (!deflate.append(initialId, buffer, offset, decodeBytes, maskingKey, inflateOpcode, fin))
+            {
+                doNetReset(decodeTraceId, decodeAuthorization);
+                stream.doAppAbort(decodeTraceId, decodeAuthorization, STATUS_UNEXPECTED_CONDITION);
+                return length;
+            }
+
+            payloadProgress += decodeBytes;
+            maskingKey = rotateMaskingKey(maskingKey, decodeBytes);
+
+            if (payloadProgress == payloadLength)
+            {
+                this.inflating = !decodeFin;
+                this.decodeState = this::decodeHeader;
+            }
+
+            flushInflate(decodeTraceId, decodeAuthorization);
+
+            return decodeBytes;
+        }
+
+        private void flushInflate(
+            long traceId,
+            long authorization)
+        {
+            while (deflate.inflatable())
+            {
+                final int window = stream.initialMax - (int)(stream.initialSeq - stream.initialAck) - stream.initialPad;
+                if (window < 0)
+                {
+                    break;
+                }
+
+                final int inflated = deflate.inflate(inflateBuffer, 0, Math.min(window, inflateBuffer.capacity()));
+                if (inflated == -1)
+                {
+                    doNetReset(traceId, authorization);
+                    stream.doAppAbort(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                    inflateEndCode = 0;
+                    break;
+                }
+
+                final int flags = deflate.flags();
+                if (inflated == 0 && (flags & 0x80) == 0)
+                {
+                    break;
+                }
+
+                stream.doAppData(traceId, authorization, flags, 0, inflatedRO.wrap(inflateBuffer, 0, inflated));
+            }
+
+            if (inflateEndCode != 0 && !deflate.inflatable())
+            {
+                stream.doAppEnd(traceId, authorization, inflateEndCode);
+                deflate.closeInflate();
+                inflateEndCode = 0;
+            }
+        }
+
+        private void onDecodeEnd(
+            long traceId,
+            long authorization,
+            short code)
+        {
+            if (deflate != null && deflate.inflatable())
+            {
+                inflateEndCode = code;
+            }
+            else
+            {
+                stream.doAppEnd(traceId, authorization, code);
+
+                if (deflate != null)
+                {
+                    deflate.closeInflate();
+                }
+            }
+        }
+
         private int decodeContinuation(
             final DirectBufferEx buffer,
             final int offset,
@@ -906,7 +1084,7 @@ public final class WsServerFactory implements WsStreamFactory
                         code = status.getShort(0, ByteOrder.BIG_ENDIAN);
                     }
                     statusLength = 0;
-                    stream.doAppEnd(decodeTraceId, decodeAuthorization, code);
+                    onDecodeEnd(decodeTraceId, decodeAuthorization, code);
                     this.decodeState = this::decodeHeader;
                 }
 
@@ -1212,7 +1390,7 @@ public final class WsServerFactory implements WsStreamFactory
                     replyMax = WsServer.this.replyMax;
                     assert replyAck <= replySeq;
 
-                    int replyPad = paddingMin + MAXIMUM_HEADER_SIZE;
+                    int replyPad = paddingMin + MAXIMUM_HEADER_SIZE + (deflate != null ? deflatePad : 0);
 
                     final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
                             .originId(originId)
@@ -1317,7 +1495,7 @@ public final class WsServerFactory implements WsStreamFactory
                         flags = wsDataEx.flags();
                     }
 
-                    doNetData(traceId, authorization, budgetId, reserved, payload, flags);
+                    doNetMessage(traceId, authorization, budgetId, reserved, payload, flags);
                 }
             }
 
@@ -1401,7 +1579,15 @@ public final class WsServerFactory implements WsStreamFactory
 
                 assert initialAck <= initialSeq;
 
-                doNetWindow(traceId, authorization, budgetId, (int)(initialSeq - initialAck), initialPad);
+                int pendingAck = (int)(initialSeq - initialAck);
+
+                if (deflate != null)
+                {
+                    flushInflate(traceId, authorization);
+                    pendingAck = (int)(initialSeq - initialAck) + deflate.buffered();
+                }
+
+                doNetWindow(traceId, authorization, budgetId, pendingAck, initialPad);
             }
 
             private void onAppReset(
@@ -1580,7 +1766,8 @@ public final class WsServerFactory implements WsStreamFactory
 
     private Consumer<Array32FW.Builder<HttpHeaderFW.Builder, HttpHeaderFW>> setHttpHeaders(
         String handshakeHash,
-        String protocol)
+        String protocol,
+        String extensions)
     {
         return headers ->
         {
@@ -1593,6 +1780,11 @@ public final class WsServerFactory implements WsStreamFactory
             {
                 headers.item(h -> h.name("sec-websocket-protocol").value(protocol));
             }
+
+            if (extensions != null)
+            {
+                headers.item(h -> h.name("sec-websocket-extensions").value(extensions));
+            }
         };
     }
 
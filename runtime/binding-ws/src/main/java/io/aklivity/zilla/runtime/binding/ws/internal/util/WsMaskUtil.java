@@ -15,35 +15,11 @@
  */
 package io.aklivity.zilla.runtime.binding.ws.internal.util;
 
-import static java.nio.ByteOrder.BIG_ENDIAN;
-import static java.nio.ByteOrder.nativeOrder;
-
-import org.agrona.BitUtil;
-
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferOps;
 import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 
 public final class WsMaskUtil
 {
-    private static final int REMAINING_SHIFT_1ST_BYTE;
-    private static final int REMAINING_SHIFT_1ST_SHORT;
-    private static final int REMAINING_SHIFT_3RD_BYTE;
-
-    static
-    {
-        if (nativeOrder() == BIG_ENDIAN)
-        {
-            REMAINING_SHIFT_1ST_BYTE = 24;
-            REMAINING_SHIFT_1ST_SHORT = 16;
-            REMAINING_SHIFT_3RD_BYTE = 8;
-        }
-        else
-        {
-            REMAINING_SHIFT_1ST_BYTE = 0;
-            REMAINING_SHIFT_1ST_SHORT = 0;
-            REMAINING_SHIFT_3RD_BYTE = 16;
-        }
-    }
-
     private WsMaskUtil()
     {
         // utility class, no instances
@@ -59,34 +35,7 @@ public final class WsMaskUtil
 
         if (bits != 0 && length != 0)
         {
-            int index = offset;
-            int remaining = length;
-
-            while (remaining >= BitUtil.SIZE_OF_INT)
-            {
-                buffer.putInt(index, buffer.getInt(index) ^ bits);
-                index += BitUtil.SIZE_OF_INT;
-                remaining -= BitUtil.SIZE_OF_INT;
-            }
-
-            switch (remaining)
-            {
-            case 0:
-                break;
-            case 1:
-                buffer.putByte(index, (byte) (buffer.getByte(index) ^ ((bits >> REMAINING_SHIFT_1ST_BYTE) & 0xff)));
-                break;
-            case 2:
-                buffer.putShort(index, (short) (buffer.getShort(index) ^ ((bits >> REMAINING_SHIFT_1ST_SHORT) & 0xffff)));
-                break;
-            case 3:
-                buffer.putShort(index, (short) (buffer.getShort(index) ^ ((bits >> REMAINING_SHIFT_1ST_SHORT) & 0xffff)));
-                index += BitUtil.SIZE_OF_SHORT;
-                buffer.putByte(index, (byte) (buffer.getByte(index) ^ ((bits >> REMAINING_SHIFT_3RD_BYTE) & 0xff)));
-                break;
-            default:
-                throw new IllegalStateException("remaining=" + remaining);
-            }
+            DirectBufferOps.xor(buffer, offset, length, bits);
         }
 
         return length;
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.util;
+
+import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsMaskUtil.xor;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.zip.Deflater.SYNC_FLUSH;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+
+/**
+ * Per-connection state for the {@code permessage-deflate} extension, see RFC 7692.
+ * <p>
+ * Outbound fragments are deflated and flushed one at a time, so each can be framed as soon as it
+ * arrives. Inbound compressed payload is unmasked into a buffer pool slot and inflated from there as
+ * the receiver's window allows, so neither direction allocates per message.
+ * </p>
+ * <p>
+ * The JDK deflater always uses a 15-bit window, so offers that limit {@code server_max_window_bits}
+ * are declined, and the client never offers {@code client_max_window_bits}.
+ * </p>
+ */
+public final class WsPermessageDeflate
+{
+    public static final String EXTENSION_NAME = "permessage-deflate";
+    public static final int RSV1 = 0x40;
+    public static final int FLUSH_MAX = 32;
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+
+    private static final int WINDOW_BITS_MIN = 8;
+    private static final int WINDOW_BITS_MAX = 15;
+    private static final int WINDOW_BITS_NONE = -1;
+    private static final int WINDOW_BITS_ANY = 0;
+
+    private static final int TAIL = 0x0000ffff;
+    private static final int TAIL_SIZE = Integer.BYTES;
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+    private static final int RECORD_FIN = 0x8000_0000;
+    private static final int RECORD_CONTINUED = 0x4000_0000;
+    private static final int RECORD_OPCODE_MASK = 0x0f00_0000;
+    private static final int RECORD_OPCODE_SHIFT = 24;
+    private static final int RECORD_LENGTH_MASK = 0x00ff_ffff;
+
+    private final String response;
+    private final Deflater deflater;
+    private final Inflater inflater;
+    private final boolean deflateReset;
+    private final boolean inflateReset;
+    private final BufferPool bufferPool;
+
+    private boolean deflateClosed;
+    private boolean inflateClosed;
+    private int inflateSlot = NO_SLOT;
+    private int inflateSlotOffset;
+    private int inflateSlotLimit;
+    private int inflateRecord = -1;
+    private boolean inflateFull;
+    private int inflateFlags;
+
+    /**
+     * Accepts the first {@code permessage-deflate} offer that can be honored, as the server.
+     *
+     * @param extensions  the {@code sec-websocket-extensions} request header, or {@code null}
+     * @param level       the deflate compression level
+     * @param bufferPool  the buffer pool holding inflate input
+     * @return the negotiated extension, or {@code null} if no offer was accepted
+     */
+    public static WsPermessageDeflate negotiate(
+        String extensions,
+        int level,
+        BufferPool bufferPool)
+    {
+        WsPermessageDeflate deflate = null;
+
+        if (extensions != null)
+        {
+            final Parameters parameters = new Parameters();
+
+            for (String offer : extensions.split(","))
+            {
+                if (parameters.parse(offer) &&
+                    (parameters.serverMaxWindowBits == WINDOW_BITS_NONE ||
+                     parameters.serverMaxWindowBits == WINDOW_BITS_MAX))
+                {
+                    final StringBuilder response = new StringBuilder(EXTENSION_NAME);
+                    if (parameters.serverNoContextTakeover)
+                    {
+                        response.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+                    }
+                    if (parameters.clientNoContextTakeover)
+                    {
+                        response.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+                    }
+
+                    deflate = new WsPermessageDeflate(response.toString(), level,
+                        parameters.serverNoContextTakeover, parameters.clientNoContextTakeover, bufferPool);
+                    break;
+                }
+            }
+        }
+
+        return deflate;
+    }
+
+    /**
+     * Validates the server response to a plain {@code permessage-deflate} offer, as the client.
+     *
+     * @param extensions  the {@code sec-websocket-extensions} response header
+     * @param level       the deflate compression level
+     * @param bufferPool  the buffer pool holding inflate input
+     * @return the negotiated extension, or {@code null} if the response is not acceptable
+     */
+    public static WsPermessageDeflate accept(
+        String extensions,
+        int level,
+        BufferPool bufferPool)
+    {
+        final Parameters parameters = new Parameters();
+
+        return extensions.indexOf(',') == -1 &&
+            parameters.parse(extensions) &&
+            parameters.clientMaxWindowBits == WINDOW_BITS_NONE
+                ? new WsPermessageDeflate(null, level,
+                    parameters.clientNoContextTakeover, parameters.serverNoContextTakeover, bufferPool)
+                : null;
+    }
+
+    /**
+     * Returns the maximum number of bytes that deflating a fragment of {@code length} bytes can add.
+     */
+    public static int padding(
+        int length)
+    {
+        return (length >> 12) + (length >> 14) + FLUSH_MAX;
+    }
+
+    private WsPermessageDeflate(
+        String response,
+        int level,
+        boolean deflateReset,
+        boolean inflateReset,
+        BufferPool bufferPool)
+    {
+        this.response = response;
+        this.deflater = new Deflater(level, true);
+        this.inflater = new Inflater(true);
+        this.deflateReset = deflateReset;
+        this.inflateReset = inflateReset;
+        this.bufferPool = bufferPool;
+    }
+
+    public String response()
+    {
+        return response;
+    }
+
+    /**
+     * Deflates one fragment of a message, removing the trailing {@code 00 00 ff ff} from the final fragment.
+     *
+     * @return the number of bytes written to {@code output}, or zero after {@link #closeDeflate()}
+     */
+    public int deflate(
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        boolean fin,
+        MutableDirectBufferEx output,
+        int offset)
+    {
+        if (deflateClosed)
+        {
+            return 0;
+        }
+
+        deflater.setInput(asByteBuffer(buffer, index, length));
+
+        final ByteBuffer deflated = asByteBuffer(output, offset, output.capacity() - offset);
+        do
+        {
+            deflater.deflate(deflated, SYNC_FLUSH);
+        }
+        while (!deflater.needsInput() && deflated.hasRemaining());
+
+        int progress = deflated.position();
+
+        if (fin)
+        {
+            if (progress >= TAIL_SIZE && output.getInt(offset + progress - TAIL_SIZE, BIG_ENDIAN) == TAIL)
+            {
+                progress -= TAIL_SIZE;
+            }
+            else if (progress == 0)
+            {
+                // already flushed, so an empty stored block completes the message
+                output.putByte(offset, (byte) 0x00);
+                progress++;
+            }
+
+            if (deflateReset)
+            {
+                deflater.reset();
+            }
+        }
+
+        return progress;
+    }
+
+    /**
+     * Appends compressed payload from one frame, unmasking it into the inflate slot.
+     *
+     * @param opcode  the message opcode, used when this frame starts a new message
+     * @param fin     {@code true} if this completes the final frame of the message
+     * @return {@code true} if appended, or {@code false} if no slot is available or the slot is full
+     */
+    public boolean append(
+        long streamId,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        int maskingKey,
+        int opcode,
+        boolean fin)
+    {
+        if (!inflateClosed && inflateSlot == NO_SLOT)
+        {
+            inflateSlot = bufferPool.acquire(streamId);
+            inflateSlotOffset = 0;
+            inflateSlotLimit = 0;
+            inflateRecord = -1;
+        }
+
+        boolean appended = false;
+
+        if (inflateSlot != NO_SLOT)
+        {
+            final MutableDirectBufferEx slotBuffer = bufferPool.buffer(inflateSlot);
+            final int required = length + (inflateRecord == -1 ? RECORD_HEADER_SIZE : 0) + (fin ? TAIL_SIZE : 0);
+
+            if (inflateSlotLimit + required > slotBuffer.capacity() && inflateSlotOffset > 0)
+            {
+                slotBuffer.putBytes(0, slotBuffer, inflateSlotOffset, inflateSlotLimit - inflateSlotOffset);
+                inflateSlotLimit -= inflateSlotOffset;
+                inflateRecord -= inflateRecord != -1 ? inflateSlotOffset : 0;
+                inflateSlotOffset = 0;
+            }
+
+            appended = inflateSlotLimit + required <= slotBuffer.capacity();
+
+            if (appended)
+            {
+                if (inflateRecord == -1)
+                {
+                    inflateRecord = inflateSlotLimit;
+                    slotBuffer.putInt(inflateRecord, opcode << RECORD_OPCODE_SHIFT);
+                    inflateSlotLimit += RECORD_HEADER_SIZE;
+                }
+
+                slotBuffer.putBytes(inflateSlotLimit, buffer, index, length);
+                xor(slotBuffer, inflateSlotLimit, inflateSlotLimit + length, maskingKey);
+                inflateSlotLimit += length;
+
+                int header = slotBuffer.getInt(inflateRecord) + length;
+
+                if (fin)
+                {
+                    slotBuffer.putInt(inflateSlotLimit, TAIL, BIG_ENDIAN);
+                    inflateSlotLimit += TAIL_SIZE;
+                    header += TAIL_SIZE;
+                    header |= RECORD_FIN;
+                }
+
+                slotBuffer.putInt(inflateRecord, header);
+
+                if (fin)
+                {
+                    inflateRecord = -1;
+                }
+            }
+        }
+
+        return appended;
+    }
+
+    /**
+     * Returns {@code true} if buffered payload or pending output remains to be inflated.
+     */
+    public boolean inflatable()
+    {
+        boolean inflatable = inflateFull;
+
+        if (!inflatable && inflateSlot != NO_SLOT && inflateSlotOffset < inflateSlotLimit)
+        {
+            final int header = bufferPool.buffer(inflateSlot).getInt(inflateSlotOffset);
+            inflatable = (header & (RECORD_FIN | RECORD_LENGTH_MASK)) != 0;
+        }
+
+        return inflatable;
+    }
+
+    /**
+     * Returns the number of bytes held in the inflate slot.
+     */
+    public int buffered()
+    {
+        return inflateSlotLimit - inflateSlotOffset;
+    }
+
+    /**
+     * Inflates buffered payload from the oldest message into {@code output}.
+     *
+     * @return the number of bytes written to {@code output}, or {@code -1} if the payload is invalid
+     */
+    public int inflate(
+        MutableDirectBufferEx output,
+        int offset,
+        int maxLength)
+    {
+        int produced = inflateClosed ? -1 : 0;
+
+        if (inflateSlot != NO_SLOT && inflateSlotOffset < inflateSlotLimit)
+        {
+            final MutableDirectBufferEx slotBuffer = bufferPool.buffer(inflateSlot);
+            final int record = inflateSlotOffset;
+            final int header = slotBuffer.getInt(record);
+            final int length = header & RECORD_LENGTH_MASK;
+            final boolean fin = (header & RECORD_FIN) != 0;
+            final int opcode = (header & RECORD_CONTINUED) != 0 ? 0x00 : (header & RECORD_OPCODE_MASK) >>> RECORD_OPCODE_SHIFT;
+
+            final ByteBuffer input = asByteBuffer(slotBuffer, record + RECORD_HEADER_SIZE, length);
+            final ByteBuffer inflated = asByteBuffer(output, offset, maxLength);
+
+            try
+            {
+                inflater.setInput(input);
+                inflater.inflate(inflated);
+
+                produced = inflated.position();
+
+                // payload after the final deflate block is ignored until the message ends
+                final int consumed = inflater.finished() ? length : input.position();
+                final int remaining = length - consumed;
+
+                inflateFull = produced == maxLength;
+
+                if (fin && remaining == 0 && !inflateFull)
+                {
+                    inflateFlags = 0x80 | opcode;
+                    inflateSlotOffset = record + RECORD_HEADER_SIZE + length;
+
+                    if (inflateReset || inflater.finished())
+                    {
+                        inflater.reset();
+                    }
+                }
+                else
+                {
+                    inflateFlags = opcode;
+
+                    final int continued = produced > 0 ? RECORD_CONTINUED : 0;
+                    inflateSlotOffset = record + consumed;
+                    slotBuffer.putInt(inflateSlotOffset, (header & ~RECORD_LENGTH_MASK) | continued | remaining);
+
+                    if (inflateRecord == record)
+                    {
+                        inflateRecord = inflateSlotOffset;
+                    }
+                }
+
+                if (inflateSlotOffset == inflateSlotLimit)
+                {
+                    bufferPool.release(inflateSlot);
+                    inflateSlot = NO_SLOT;
+                }
+            }
+            catch (DataFormatException ex)
+            {
+                produced = -1;
+            }
+        }
+
+        return produced;
+    }
+
+    /**
+     * Returns the websocket flags for the output of the most recent {@link #inflate}.
+     */
+    public int flags()
+    {
+        return inflateFlags;
+    }
+
+    public void closeDeflate()
+    {
+        deflateClosed = true;
+        deflater.end();
+    }
+
+    public void closeInflate()
+    {
+        if (inflateSlot != NO_SLOT)
+        {
+            bufferPool.release(inflateSlot);
+            inflateSlot = NO_SLOT;
+        }
+
+        inflateSlotOffset = 0;
+        inflateSlotLimit = 0;
+        inflateRecord = -1;
+        inflateFull = false;
+        inflateClosed = true;
+        inflater.end();
+    }
+
+    private static ByteBuffer asByteBuffer(
+        DirectBufferEx buffer,
+        int index,
+        int length)
+    {
+        return buffer.segment().asSlice(buffer.wrapAdjustment() + index, length).asByteBuffer();
+    }
+
+    private static final class Parameters
+    {
+        private boolean serverNoContextTakeover;
+        private boolean clientNoContextTakeover;
+        private int serverMaxWindowBits;
+        private int clientMaxWindowBits;
+
+        private boolean parse(
+            String extension)
+        {
+            final String[] tokens = extension.split(";");
+
+            serverNoContextTakeover = false;
+            clientNoContextTakeover = false;
+            serverMaxWindowBits = WINDOW_BITS_NONE;
+            clientMaxWindowBits = WINDOW_BITS_NONE;
+
+            boolean valid = EXTENSION_NAME.equals(tokens[0].trim());
+
+            for (int i = 1; valid && i < tokens.length; i++)
+            {
+                final String token = tokens[i];
+                final int equals = token.indexOf('=');
+                final String name = (equals != -1 ? token.substring(0, equals) : token).trim();
+                final String value = equals != -1 ? token.substring(equals + 1).trim().replace("\"", "") : null;
+
+                switch (name)
+                {
+                case SERVER_NO_CONTEXT_TAKEOVER:
+                    valid = value == null && !serverNoContextTakeover;
+                    serverNoContextTakeover = true;
+                    break;
+                case CLIENT_NO_CONTEXT_TAKEOVER:
+                    valid = value == null && !clientNoContextTakeover;
+                    clientNoContextTakeover = true;
+                    break;
+                case SERVER_MAX_WINDOW_BITS:
+                    valid = serverMaxWindowBits == WINDOW_BITS_NONE;
+                    serverMaxWindowBits = windowBits(value);
+                    valid &= serverMaxWindowBits != WINDOW_BITS_NONE;
+                    break;
+                case CLIENT_MAX_WINDOW_BITS:
+                    valid = clientMaxWindowBits == WINDOW_BITS_NONE;
+                    clientMaxWindowBits = value != null ? windowBits(value) : WINDOW_BITS_ANY;
+                    valid &= clientMaxWindowBits != WINDOW_BITS_NONE;
+                    break;
+                default:
+                    valid = false;
+                    break;
+                }
+            }
+
+            return valid;
+        }
+
+        private static int windowBits(
+            String value)
+        {
+            int windowBits = WINDOW_BITS_NONE;
+
+            if (value != null && value.matches("\\d{1,2}"))
+            {
+                final int bits = Integer.parseInt(value);
+                if (bits >= WINDOW_BITS_MIN && bits <= WINDOW_BITS_MAX)
+                {
+                    windowBits = bits;
+                }
+            }
+
+            return windowBits;
+        }
+    }
+}
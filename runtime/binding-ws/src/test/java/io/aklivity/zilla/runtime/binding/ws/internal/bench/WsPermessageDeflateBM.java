@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.ws.internal.util.WsPermessageDeflate;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
+
+/**
+ * Measures {@code permessage-deflate} throughput for a stream of similar JSON text messages.
+ * <p>
+ * The {@code bytes} and {@code deflated} counters are reported per second, so their ratio gives the
+ * compression achieved on the wire, with and without context takeover between messages.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class WsPermessageDeflateBM
+{
+    private static final int MESSAGES = 64;
+    private static final int SLOT_CAPACITY = 65536;
+
+    @Param({ "false", "true" })
+    public boolean noContextTakeover;
+
+    private final MutableDirectBufferEx deflateBuffer = new UnsafeBufferEx(new byte[SLOT_CAPACITY]);
+    private final MutableDirectBufferEx inflateBuffer = new UnsafeBufferEx(new byte[SLOT_CAPACITY]);
+
+    private DirectBufferEx[] messages;
+    private DirectBufferEx[] deflatedMessages;
+
+    private WsPermessageDeflate deflater;
+    private WsPermessageDeflate inflater;
+    private int deflateIndex;
+    private int inflateIndex;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters
+    {
+        public long bytes;
+        public long deflated;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            bytes = 0L;
+            deflated = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final String extension = noContextTakeover
+            ? "permessage-deflate; server_no_context_takeover"
+            : "permessage-deflate";
+        final BufferPool bufferPool = new DefaultBufferPool(SLOT_CAPACITY * 4, SLOT_CAPACITY);
+
+        deflater = WsPermessageDeflate.negotiate(extension, 6, bufferPool);
+        inflater = WsPermessageDeflate.accept(extension, 6, bufferPool);
+
+        final Random random = new Random(0L);
+        final WsPermessageDeflate encoder = WsPermessageDeflate.negotiate(extension, 6, bufferPool);
+
+        messages = new DirectBufferEx[MESSAGES];
+        deflatedMessages = new DirectBufferEx[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++)
+        {
+            final byte[] message = newMessage(random, i);
+            messages[i] = new UnsafeBufferEx(message);
+
+            final int length = encoder.deflate(messages[i], 0, message.length, true, deflateBuffer, 0);
+            final byte[] deflated = new byte[length];
+            deflateBuffer.getBytes(0, deflated);
+            deflatedMessages[i] = new UnsafeBufferEx(deflated);
+        }
+    }
+
+    @Benchmark
+    public int deflate(
+        Counters counters)
+    {
+        final DirectBufferEx message = messages[deflateIndex++ & (MESSAGES - 1)];
+        final int length = deflater.deflate(message, 0, message.capacity(), true, deflateBuffer, 0);
+
+        counters.bytes += message.capacity();
+        counters.deflated += length;
+
+        return length;
+    }
+
+    @Benchmark
+    public int inflate(
+        Counters counters)
+    {
+        final int index = inflateIndex++ & (MESSAGES - 1);
+        final DirectBufferEx deflated = deflatedMessages[index];
+
+        inflater.append(0L, deflated, 0, deflated.capacity(), 0, 0x01, true);
+
+        int length = 0;
+        while (inflater.inflatable())
+        {
+            length += inflater.inflate(inflateBuffer, 0, inflateBuffer.capacity());
+        }
+
+        counters.bytes += length;
+        counters.deflated += deflated.capacity();
+
+        return length;
+    }
+
+    private static byte[] newMessage(
+        Random random,
+        int sequence)
+    {
+        final StringBuilder message = new StringBuilder("{\"sequence\":").append(sequence).append(",\"items\":[");
+        for (int i = 0; i < 8; i++)
+        {
+            if (i != 0)
+            {
+                message.append(',');
+            }
+            message.append("{\"id\":\"item-").append(random.nextInt(100000))
+                .append("\",\"status\":\"").append(random.nextBoolean() ? "active" : "inactive")
+                .append("\",\"price\":").append(random.nextInt(10000) / 100.0)
+                .append(",\"quantity\":").append(random.nextInt(100))
+                .append(",\"tags\":[\"stock\",\"warehouse-").append(random.nextInt(4)).append("\"]}");
+        }
+        return message.append("]}").toString().getBytes(UTF_8);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(WsPermessageDeflateBM.class.getSimpleName())
+            .forks(0)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
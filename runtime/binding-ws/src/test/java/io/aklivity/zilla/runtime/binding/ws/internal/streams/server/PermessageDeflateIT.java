@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.streams.server;
+
+import static io.aklivity.zilla.runtime.binding.ws.internal.WsConfiguration.WS_SERVER_DEFLATE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.engine.test.EngineRule;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+
+/**
+ * RFC-7692, section 7 "The permessage-deflate Extension"
+ */
+public class PermessageDeflateIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("net", "io/aklivity/zilla/specs/binding/ws/streams/network/permessage.deflate")
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/ws/streams/application/permessage.deflate");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(10, SECONDS));
+
+    private final EngineRule engine = new EngineRule()
+        .directory("target/zilla-itests")
+        .countersBufferCapacity(4096)
+        .configurationRoot("io/aklivity/zilla/specs/binding/ws/config")
+        .configure(WS_SERVER_DEFLATE, true)
+        .external("app0")
+        .clean();
+
+    @Rule
+    public final TestRule chain = outerRule(engine).around(k3po).around(timeout);
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.negotiated/handshake.request.and.frame",
+        "${app}/extension.negotiated/handshake.response.and.frame" })
+    public void shouldNegotiateExtension() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.negotiated.no.context.takeover/handshake.request.and.frame",
+        "${app}/extension.negotiated.no.context.takeover/handshake.response.and.frame" })
+    public void shouldNegotiateExtensionWithNoContextTakeover() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.negotiated.fallback.offer/handshake.request.and.frame",
+        "${app}/extension.negotiated.fallback.offer/handshake.response.and.frame" })
+    public void shouldNegotiateExtensionFromFallbackOffer() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.rejected.server.max.window.bits/handshake.request.and.frame",
+        "${app}/extension.rejected.server.max.window.bits/handshake.response.and.frame" })
+    public void shouldRejectExtensionWithServerMaxWindowBits() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.rejected.unknown.parameter/handshake.request.and.frame",
+        "${app}/extension.rejected.unknown.parameter/handshake.response.and.frame" })
+    public void shouldRejectExtensionWithUnknownParameter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.binary.payload.compressed.fragmented/handshake.request.and.frame",
+        "${app}/echo.binary.payload.compressed.fragmented/handshake.response.and.frame" })
+    public void shouldEchoCompressedBinaryFrameFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+
+public class WsPermessageDeflateTest
+{
+    private final MutableDirectBufferEx deflated = new UnsafeBufferEx(new byte[1024]);
+    private final MutableDirectBufferEx inflated = new UnsafeBufferEx(new byte[1024]);
+
+    private BufferPool bufferPool;
+
+    @Before
+    public void initBufferPool()
+    {
+        bufferPool = mock(BufferPool.class);
+        when(bufferPool.slotCapacity()).thenReturn(1024);
+        when(bufferPool.acquire(anyLong())).thenReturn(0);
+        when(bufferPool.buffer(0)).thenReturn(new UnsafeBufferEx(new byte[1024]));
+    }
+
+    @Test
+    public void shouldNegotiateOffer()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; client_max_window_bits", 6, bufferPool);
+
+        assertThat(deflate.response(), equalTo("permessage-deflate"));
+    }
+
+    @Test
+    public void shouldNegotiateNoContextTakeover()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; server_no_context_takeover; client_no_context_takeover", 6, bufferPool);
+
+        assertThat(deflate.response(),
+            equalTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover"));
+    }
+
+    @Test
+    public void shouldNegotiateFallbackOffer()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; server_max_window_bits=10, permessage-deflate", 6, bufferPool);
+
+        assertThat(deflate.response(), equalTo("permessage-deflate"));
+    }
+
+    @Test
+    public void shouldNotNegotiateReducedServerWindow()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; server_max_window_bits=10", 6, bufferPool);
+
+        assertThat(deflate, nullValue());
+    }
+
+    @Test
+    public void shouldNotNegotiateUnknownParameter()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; unknown_parameter", 6, bufferPool);
+
+        assertThat(deflate, nullValue());
+    }
+
+    @Test
+    public void shouldNotAcceptReducedClientWindow()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.accept(
+            "permessage-deflate; client_max_window_bits=10", 6, bufferPool);
+
+        assertThat(deflate, nullValue());
+    }
+
+    @Test
+    public void shouldDeflateMessage()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.negotiate(
+            "permessage-deflate; server_no_context_takeover", 6, bufferPool);
+
+        byte[] hello = "Hello".getBytes(UTF_8);
+        int length = deflate.deflate(new UnsafeBufferEx(hello), 0, hello.length, true, deflated, 0);
+
+        byte[] actual = new byte[length];
+        deflated.getBytes(0, actual);
+
+        assertArrayEquals(new byte[] {(byte) 0xf2, 0x48, (byte) 0xcd, (byte) 0xc9, (byte) 0xc9, 0x07, 0x00}, actual);
+    }
+
+    @Test
+    public void shouldInflateDeflatedMessage()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.accept("permessage-deflate", 6, bufferPool);
+
+        byte[] message = "{\"id\":1,\"name\":\"zilla\",\"tags\":[\"ws\",\"ws\",\"ws\"]}".getBytes(UTF_8);
+        int length = deflate.deflate(new UnsafeBufferEx(message), 0, message.length, true, deflated, 0);
+
+        assertTrue(deflate.append(1L, deflated, 0, length, 0, 0x01, true));
+
+        int produced = deflate.inflate(inflated, 0, inflated.capacity());
+
+        byte[] actual = new byte[produced];
+        inflated.getBytes(0, actual);
+
+        assertArrayEquals(message, actual);
+        assertThat(deflate.flags(), equalTo(0x81));
+        assertFalse(deflate.inflatable());
+        verify(bufferPool).release(0);
+    }
+
+    @Test
+    public void shouldInflateEmptyMessage()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.accept("permessage-deflate", 6, bufferPool);
+
+        int length = deflate.deflate(new UnsafeBufferEx(new byte[0]), 0, 0, true, deflated, 0);
+
+        assertThat(length, equalTo(1));
+        assertTrue(deflate.append(1L, deflated, 0, length, 0, 0x02, true));
+        assertThat(deflate.inflate(inflated, 0, inflated.capacity()), equalTo(0));
+        assertThat(deflate.flags(), equalTo(0x82));
+    }
+
+    @Test
+    public void shouldNotInflateInvalidMessage()
+    {
+        WsPermessageDeflate deflate = WsPermessageDeflate.accept("permessage-deflate", 6, bufferPool);
+
+        byte[] invalid = {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff};
+
+        assertTrue(deflate.append(1L, new UnsafeBufferEx(invalid), 0, invalid.length, 0, 0x01, true));
+        assertThat(deflate.inflate(inflated, 0, inflated.capacity()), equalTo(-1));
+    }
+}
@@ -14,18 +14,86 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import static io.aklivity.zilla.runtime.catalog.apicurio.internal.ApicurioCatalogHandler.RESET_RETRY_DELAY_MS_DEFAULT;
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 
 public class ApicurioCache
 {
     public final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> artifacts;
     public final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> artifactIds;
 
+    private final CatalogCacheFile file;
+
+    private int attached; // only updated while computing the shared caches by id entry
+
     public ApicurioCache()
+    {
+        this(null);
+    }
+
+    public ApicurioCache(
+        CatalogCacheFile file)
     {
         this.artifacts = new ConcurrentHashMap<>();
         this.artifactIds = new ConcurrentHashMap<>();
+        this.file = file;
+
+        if (file != null)
+        {
+            file.schemas((id, artifact) ->
+                artifacts.put(id, CompletableFuture.completedFuture(new CachedArtifact(artifact))));
+            file.schemaIds((key, timestamp, id) ->
+                artifactIds.put(key, CompletableFuture.completedFuture(
+                    new CachedArtifactId(timestamp, id, new AtomicInteger(), RESET_RETRY_DELAY_MS_DEFAULT))));
+        }
+    }
+
+    public void persistArtifact(
+        int artifactId,
+        String artifact)
+    {
+        if (file != null && artifact != null)
+        {
+            file.putSchema(artifactId, System.currentTimeMillis(), artifact);
+        }
+    }
+
+    public void persistArtifactId(
+        int artifactKey,
+        CachedArtifactId artifactId)
+    {
+        if (file != null && artifactId.id != NO_SCHEMA_ID)
+        {
+            file.putSchemaId(artifactKey, artifactId.timestamp, artifactId.id);
+        }
+    }
+
+    public ApicurioCache attach()
+    {
+        attached++;
+        return this;
+    }
+
+    public ApicurioCache detach()
+    {
+        ApicurioCache cache = this;
+
+        if (--attached == 0)
+        {
+            if (file != null)
+            {
+                file.close();
+            }
+            cache = null;
+        }
+
+        return cache;
     }
 }
@@ -28,11 +28,13 @@ public class ApicurioCatalog implements Catalog
     public static final String TYPE = "apicurio-registry";
     public static final Set<String> TYPE_ALIASES = Set.of("apicurio");
 
+    private final ApicurioConfiguration config;
     private final ConcurrentMap<Long, ApicurioCache> cache;
 
     public ApicurioCatalog(
         Configuration config)
     {
+        this.config = new ApicurioConfiguration(config);
         this.cache = new ConcurrentHashMap<>();
     }
 
@@ -52,6 +54,6 @@ public class ApicurioCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new ApicurioCatalogContext(context, cache);
+        return new ApicurioCatalogContext(config, context, cache);
     }
 }
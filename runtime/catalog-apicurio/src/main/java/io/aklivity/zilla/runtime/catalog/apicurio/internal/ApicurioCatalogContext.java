@@ -14,23 +14,28 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentMap;
 
 import io.aklivity.zilla.config.catalog.apicurio.ApicurioOptionsConfig;
 import io.aklivity.zilla.config.engine.CatalogConfig;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 
 public class ApicurioCatalogContext implements CatalogContext
 {
+    private final ApicurioConfiguration config;
     private final EngineContext context;
     private final ConcurrentMap<Long, ApicurioCache> cachesById;
 
     public ApicurioCatalogContext(
+        ApicurioConfiguration config,
         EngineContext context,
         ConcurrentMap<Long, ApicurioCache> cachesById)
     {
+        this.config = config;
         this.context = context;
         this.cachesById = cachesById;
     }
@@ -39,8 +44,32 @@ public class ApicurioCatalogContext implements CatalogContext
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        ApicurioCache cache = cachesById.computeIfAbsent(catalog.id, id -> new ApicurioCache());
+        ApicurioCache cache = cachesById.compute(catalog.id, (id, c) -> (c != null ? c : newCache(catalog)).attach());
         return new ApicurioCatalogHandler(ApicurioOptionsConfig.class.cast(catalog.options), context,
             catalog.id, cache);
     }
+
+    @Override
+    public void detach(
+        CatalogConfig catalog)
+    {
+        cachesById.computeIfPresent(catalog.id, (id, c) -> c.detach());
+    }
+
+    private ApicurioCache newCache(
+        CatalogConfig catalog)
+    {
+        CatalogCacheFile file = null;
+
+        if (config.cachePersistent())
+        {
+            Path location = config.cacheDirectory()
+                .resolve(ApicurioCatalog.TYPE)
+                .resolve(catalog.namespace)
+                .resolve(catalog.name);
+            file = new CatalogCacheFile(location, config.cacheCapacity());
+        }
+
+        return new ApicurioCache(file);
+    }
 }
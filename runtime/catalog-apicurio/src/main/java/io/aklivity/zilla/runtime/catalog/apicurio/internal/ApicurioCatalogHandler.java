@@ -58,7 +58,7 @@ public class ApicurioCatalogHandler implements CatalogHandler
     private static final String VERSION_LATEST = "latest";
     private static final int MAX_PADDING_LENGTH = SIZE_OF_BYTE + SIZE_OF_LONG;
     private static final byte MAGIC_BYTE = 0x0;
-    private static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
+    static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
     private static final long RETRY_INITIAL_DELAY_MS_DEFAULT = 1000L;
 
     private final ApicurioLegacyIdFW.Builder legacyIdRW = new ApicurioLegacyIdFW.Builder()
@@ -84,6 +84,7 @@ public class ApicurioCatalogHandler implements CatalogHandler
     private final String artifactPath;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> cachedArtifacts;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> cachedArtifactIds;
+    private final ApicurioCache cache;
 
     public ApicurioCatalogHandler(
         ApicurioOptionsConfig config,
@@ -116,6 +117,7 @@ public class ApicurioCatalogHandler implements CatalogHandler
         this.catalogId = catalogId;
         this.cachedArtifacts = cache.artifacts;
         this.cachedArtifactIds = cache.artifactIds;
+        this.cache = cache;
     }
 
     @Override
@@ -170,6 +172,7 @@ public class ApicurioCatalogHandler implements CatalogHandler
                             {
                                 event.onRetrievableArtifactId(catalogId, artifactId);
                             }
+                            cache.persistArtifact(artifactId, artifact);
                             newFuture.complete(new CachedArtifact(artifact, retryAttempts));
                         }
                     }
@@ -275,8 +278,10 @@ public class ApicurioCatalogHandler implements CatalogHandler
                         {
                             event.onRetrievableArtifactSubjectVersion(catalogId, artifact, version);
                         }
-                        newFuture.complete(new CachedArtifactId(System.currentTimeMillis(), resolveId(response),
-                            retryAttempts, retryAfter));
+                        CachedArtifactId resolved = new CachedArtifactId(System.currentTimeMillis(), resolveId(response),
+                            retryAttempts, retryAfter);
+                        cache.persistArtifactId(artifactKey, resolved);
+                        newFuture.complete(resolved);
                     }
                 }
                 catch (Throwable ex)
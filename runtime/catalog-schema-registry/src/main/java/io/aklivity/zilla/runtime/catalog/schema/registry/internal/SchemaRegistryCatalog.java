@@ -27,6 +27,7 @@ import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 public final class SchemaRegistryCatalog implements Catalog
 {
     private final Configuration config;
+    private final SchemaRegistryConfiguration schemaRegistryConfig;
     private final String type;
     private final Set<String> aliases;
     private final ConcurrentMap<Long, SchemaRegistryCache> cache;
@@ -37,6 +38,7 @@ public final class SchemaRegistryCatalog implements Catalog
         Set<String> aliases)
     {
         this.config = config;
+        this.schemaRegistryConfig = new SchemaRegistryConfiguration(config);
         this.type = type;
         this.aliases = aliases;
         this.cache = new ConcurrentHashMap<>();
@@ -58,6 +60,6 @@ public final class SchemaRegistryCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new SchemaRegistryCatalogContext(type, config, context, cache);
+        return new SchemaRegistryCatalogContext(type, config, schemaRegistryConfig, context, cache);
     }
 }
@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentMap;
 
 import io.aklivity.zilla.config.engine.CatalogConfig;
@@ -22,12 +23,14 @@ import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.Schema
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 
 public class SchemaRegistryCatalogContext implements CatalogContext
 {
     private final Configuration config;
+    private final SchemaRegistryConfiguration schemaRegistryConfig;
     private final String type;
     private final EngineContext context;
     private final ConcurrentMap<Long, SchemaRegistryCache> cachesById;
@@ -35,10 +38,12 @@ public class SchemaRegistryCatalogContext implements CatalogContext
     public SchemaRegistryCatalogContext(
         String type,
         Configuration config,
+        SchemaRegistryConfiguration schemaRegistryConfig,
         EngineContext context,
         ConcurrentMap<Long, SchemaRegistryCache> cachesById)
     {
         this.config = config;
+        this.schemaRegistryConfig = schemaRegistryConfig;
         this.type = type;
         this.context = context;
         this.cachesById = cachesById;
@@ -48,8 +53,32 @@ public class SchemaRegistryCatalogContext implements CatalogContext
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        SchemaRegistryCache cache = cachesById.computeIfAbsent(catalog.id, id -> new SchemaRegistryCache());
+        SchemaRegistryCache cache = cachesById.compute(catalog.id, (id, c) -> (c != null ? c : newCache(catalog)).attach());
         SchemaRegistryCatalogConfig attached = new SchemaRegistryCatalogConfig(type, context, catalog, cache);
         return new SchemaRegistryCatalogHandler(config, attached, context);
     }
+
+    @Override
+    public void detach(
+        CatalogConfig catalog)
+    {
+        cachesById.computeIfPresent(catalog.id, (id, c) -> c.detach());
+    }
+
+    private SchemaRegistryCache newCache(
+        CatalogConfig catalog)
+    {
+        CatalogCacheFile file = null;
+
+        if (schemaRegistryConfig.cachePersistent())
+        {
+            Path location = schemaRegistryConfig.cacheDirectory()
+                .resolve(type)
+                .resolve(catalog.namespace)
+                .resolve(catalog.name);
+            file = new CatalogCacheFile(location, schemaRegistryConfig.cacheCapacity());
+        }
+
+        return new SchemaRegistryCache(file);
+    }
 }
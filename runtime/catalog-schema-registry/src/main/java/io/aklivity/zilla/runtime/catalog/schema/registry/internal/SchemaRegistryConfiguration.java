@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CACHE_DIRECTORY;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class SchemaRegistryConfiguration extends Configuration
+{
+    public static final PropertyDef<Duration> SCHEMA_REGISTRY_REQUEST_TIMEOUT;
+    public static final PropertyDef<Duration> SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL;
+    public static final BooleanPropertyDef SCHEMA_REGISTRY_CACHE_PERSISTENT;
+    public static final PropertyDef<Path> SCHEMA_REGISTRY_CACHE_DIRECTORY;
+    public static final IntPropertyDef SCHEMA_REGISTRY_CACHE_CAPACITY;
+
+    private static final ConfigurationDef SCHEMA_REGISTRY_CONFIG;
+
+    static
+    {
+        final ConfigurationDef config = new ConfigurationDef("zilla.catalog.schema.registry");
+        SCHEMA_REGISTRY_REQUEST_TIMEOUT = config.property(Duration.class, "request.timeout",
+            (c, v) -> Duration.parse(v), "PT5S");
+        SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL = config.property(Duration.class, "retry.backoff.initial",
+            (c, v) -> Duration.parse(v), "PT1S");
+        SCHEMA_REGISTRY_CACHE_PERSISTENT = config.property("cache.persistent", false);
+        SCHEMA_REGISTRY_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
+            SchemaRegistryConfiguration::cacheDirectory, "catalogs");
+        SCHEMA_REGISTRY_CACHE_CAPACITY = config.property("cache.capacity", 16 * 1024 * 1024);
+        SCHEMA_REGISTRY_CONFIG = config;
+    }
+
+    public SchemaRegistryConfiguration()
+    {
+        super(SCHEMA_REGISTRY_CONFIG, new Configuration());
+    }
+
+    public SchemaRegistryConfiguration(
+        Configuration config)
+    {
+        super(SCHEMA_REGISTRY_CONFIG, config);
+    }
+
+    public Duration requestTimeout()
+    {
+        return SCHEMA_REGISTRY_REQUEST_TIMEOUT.get(this);
+    }
+
+    public Duration retryBackoffInitial()
+    {
+        return SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL.get(this);
+    }
+
+    public boolean cachePersistent()
+    {
+        return SCHEMA_REGISTRY_CACHE_PERSISTENT.getAsBoolean(this);
+    }
+
+    public Path cacheDirectory()
+    {
+        return SCHEMA_REGISTRY_CACHE_DIRECTORY.get(this);
+    }
+
+    public int cacheCapacity()
+    {
+        return SCHEMA_REGISTRY_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    private static Path cacheDirectory(
+        Configuration config,
+        String cacheDirectory)
+    {
+        return ENGINE_CACHE_DIRECTORY.get(config).resolve(cacheDirectory);
+    }
+}
@@ -21,21 +21,45 @@ public class CachedSchema
     public static final String SCHEMA_PLACEHOLDER = "schema";
     public static final CachedSchema IN_PROGRESS = new CachedSchema(SCHEMA_PLACEHOLDER);
 
+    public static final int EVENT_NONE = 0;
+    public static final int EVENT_UNRETRIEVABLE = 1;
+    public static final int EVENT_RETRIEVABLE = 2;
+
     public final String schema;
     public final AtomicInteger retryAttempts;
+    public final long timestamp;
+    public final long retryAfter;
+    public final AtomicInteger event;
 
     public CachedSchema(
         String schema)
     {
-        this.schema = schema;
-        this.retryAttempts = new AtomicInteger();
+        this(schema, new AtomicInteger());
     }
 
     public CachedSchema(
         String schema,
         AtomicInteger retryAttempts)
+    {
+        this(schema, retryAttempts, Long.MAX_VALUE, Long.MAX_VALUE, EVENT_NONE);
+    }
+
+    public CachedSchema(
+        String schema,
+        AtomicInteger retryAttempts,
+        long timestamp,
+        long retryAfter,
+        int event)
     {
         this.schema = schema;
         this.retryAttempts = retryAttempts;
+        this.timestamp = timestamp;
+        this.retryAfter = retryAfter;
+        this.event = new AtomicInteger(event);
+    }
+
+    public boolean retry()
+    {
+        return System.currentTimeMillis() - this.timestamp > this.retryAfter;
     }
 }
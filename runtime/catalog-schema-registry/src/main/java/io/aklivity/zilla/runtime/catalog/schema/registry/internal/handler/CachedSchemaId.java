@@ -26,17 +26,29 @@ public class CachedSchemaId
     public int id;
     public final AtomicInteger retryAttempts;
     public final long retryAfter;
+    public final AtomicInteger event;
 
     public CachedSchemaId(
         long timestamp,
         int id,
         AtomicInteger retryAttempts,
         long retryAfter)
+    {
+        this(timestamp, id, retryAttempts, retryAfter, CachedSchema.EVENT_NONE);
+    }
+
+    public CachedSchemaId(
+        long timestamp,
+        int id,
+        AtomicInteger retryAttempts,
+        long retryAfter,
+        int event)
     {
         this.timestamp = timestamp;
         this.id = id;
         this.retryAttempts = retryAttempts;
         this.retryAfter = retryAfter;
+        this.event = new AtomicInteger(event);
     }
 
     public boolean expired(
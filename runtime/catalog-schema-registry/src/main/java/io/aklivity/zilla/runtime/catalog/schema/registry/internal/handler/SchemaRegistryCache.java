@@ -14,18 +14,86 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
 
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler.RESET_RETRY_DELAY_MS_DEFAULT;
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 
 public class SchemaRegistryCache
 {
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> schemas;
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> schemaIds;
 
+    private final CatalogCacheFile file;
+
+    private int attached; // only updated while computing the shared caches by id entry
+
     public SchemaRegistryCache()
+    {
+        this(null);
+    }
+
+    public SchemaRegistryCache(
+        CatalogCacheFile file)
     {
         this.schemas = new ConcurrentHashMap<>();
         this.schemaIds = new ConcurrentHashMap<>();
+        this.file = file;
+
+        if (file != null)
+        {
+            file.schemas((id, schema) ->
+                schemas.put(id, CompletableFuture.completedFuture(new CachedSchema(schema))));
+            file.schemaIds((key, timestamp, id) ->
+                schemaIds.put(key, CompletableFuture.completedFuture(
+                    new CachedSchemaId(timestamp, id, new AtomicInteger(), RESET_RETRY_DELAY_MS_DEFAULT))));
+        }
+    }
+
+    public void persistSchema(
+        int schemaId,
+        String schema)
+    {
+        if (file != null && schema != null)
+        {
+            file.putSchema(schemaId, System.currentTimeMillis(), schema);
+        }
+    }
+
+    public void persistSchemaId(
+        int schemaKey,
+        CachedSchemaId schemaId)
+    {
+        if (file != null && schemaId.id != NO_SCHEMA_ID)
+        {
+            file.putSchemaId(schemaKey, schemaId.timestamp, schemaId.id);
+        }
+    }
+
+    public SchemaRegistryCache attach()
+    {
+        attached++;
+        return this;
+    }
+
+    public SchemaRegistryCache detach()
+    {
+        SchemaRegistryCache cache = this;
+
+        if (--attached == 0)
+        {
+            if (file != null)
+            {
+                file.close();
+            }
+            cache = null;
+        }
+
+        return cache;
     }
 }
@@ -14,8 +14,12 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
 
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchema.EVENT_NONE;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchema.EVENT_RETRIEVABLE;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchema.EVENT_UNRETRIEVABLE;
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchemaId.IN_PROGRESS;
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.UnregisterSchemaRequest.NO_VERSIONS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -24,9 +28,12 @@ import java.net.http.HttpResponse;
 import java.nio.ByteOrder;
 import java.security.KeyStore;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.LongFunction;
 import java.util.zip.CRC32C;
@@ -42,6 +49,7 @@ import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectCache;
 
 import io.aklivity.zilla.config.catalog.schema.registry.AbstractSchemaRegistryOptionsConfig;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.events.SchemaRegistryEventContext;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.RegisterSchemaRequest;
@@ -52,6 +60,7 @@ import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.security.Trusted;
 import io.aklivity.zilla.runtime.engine.vault.VaultHandler;
@@ -66,8 +75,7 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
 
     private static final int MAX_PADDING_LENGTH = 5;
     private static final byte MAGIC_BYTE = 0x0;
-    private static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
-    private static final long RETRY_INITIAL_DELAY_MS_DEFAULT = 1000L;
+    static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
 
     private final SchemaRegistryPrefixFW.Builder prefixRW = new SchemaRegistryPrefixFW.Builder()
         .wrap(new UnsafeBufferEx(new byte[5]), 0, 5);
@@ -84,7 +92,11 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
     private final long catalogId;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> cachedSchemas;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> cachedSchemaIds;
+    private final SchemaRegistryCache cache;
     private final String authorization;
+    private final Signaler signaler;
+    private final Duration requestTimeout;
+    private final long retryInitialDelayMillis;
 
     public SchemaRegistryCatalogHandler(
         Configuration config,
@@ -143,7 +155,13 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         this.catalogId = catalog.id;
         this.cachedSchemas = catalog.cache.schemas;
         this.cachedSchemaIds = catalog.cache.schemaIds;
+        this.cache = catalog.cache;
         this.authorization = options.authorization;
+        this.signaler = context.signaler();
+
+        SchemaRegistryConfiguration schemaRegistryConfig = new SchemaRegistryConfiguration(config);
+        this.requestTimeout = schemaRegistryConfig.requestTimeout();
+        this.retryInitialDelayMillis = schemaRegistryConfig.retryBackoffInitial().toMillis();
     }
 
     @Override
@@ -190,71 +208,39 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             }
             else
             {
-                AtomicInteger retryAttempts = new AtomicInteger();
-                CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
-                CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
-                if (existing != null && existing.isDone())
-                {
-                    try
-                    {
-                        CachedSchema cachedSchema = existing.get();
-                        if (cachedSchema != null)
-                        {
-                            retryAttempts = cachedSchema.retryAttempts;
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        existing.completeExceptionally(ex);
-                    }
-                }
-                CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
-                    v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
-                if (future == newFuture)
-                {
-                    try
-                    {
-                        String response = sendHttpRequest(SCHEMA_PATH.formatted(schemaId));
-                        if (response == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(registerRequest.resolveSchemaResponse(response), retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
-                }
-                assert future != null;
-                try
-                {
-                    schema = future.get().schema;
-                    if (schema != null)
-                    {
-                        schemas.put(schemaId, schema);
-                    }
-                }
-                catch (Throwable ex)
+                CachedSchema cachedSchema = await(resolveSchema(schemaId));
+                if (cachedSchema != null)
                 {
-                    future.completeExceptionally(ex);
+                    schema = onSchemaResolved(schemaId, cachedSchema);
                 }
             }
         }
         return schema;
     }
 
+    @Override
+    public boolean prepare(
+        int schemaId,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = true;
+        if (schemaId != NO_SCHEMA_ID && !schemas.containsKey(schemaId))
+        {
+            CompletableFuture<CachedSchema> future = resolveSchema(schemaId);
+            if (!future.isDone())
+            {
+                future.whenComplete((s, ex) -> signaler.signalNow(originId, routedId, streamId, traceId, signalId, contextId));
+                prepared = false;
+            }
+        }
+        return prepared;
+    }
+
     @Override
     public int resolve(
         String subject,
@@ -269,93 +255,39 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         }
         else
         {
-            CachedSchemaId cachedSchemaId = null;
-            AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
-            CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
-            CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
-            if (existing != null && existing.isDone())
+            CachedSchemaId cachedSchemaId = await(resolveSchemaId(subject, version, schemaKey));
+            if (cachedSchemaId != null)
             {
-                try
-                {
-                    cachedSchemaId = existing.get();
-                    if (cachedSchemaId != null)
-                    {
-                        retryAttempts = cachedSchemaId.retryAttempts;
-                    }
-                }
-                catch (Throwable ex)
-                {
-                    existing.completeExceptionally(ex);
-                }
+                schemaId = onSchemaIdResolved(subject, version, schemaKey, cachedSchemaId);
             }
-            CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
-                v1.getNow(IN_PROGRESS).retry() &&
-                    (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
-            if (future == newFuture)
-            {
-                try
-                {
-                    String response = sendHttpRequest(SUBJECT_VERSION_PATH.formatted(subject, version));
-                    if (response == null)
-                    {
-                        if (retryAttempts.getAndIncrement() == 0)
-                        {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
-                            if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version,
-                                    cachedSchemaId.id);
-                            }
-                        }
+        }
+        return schemaId;
+    }
 
-                        if (cachedSchemaId != null)
-                        {
-                            if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
-                    {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
-                        }
-                        newFuture.complete(new CachedSchemaId(System.currentTimeMillis(),
-                            registerRequest.resolveResponse(response), retryAttempts, retryAfter));
-                    }
-                }
-                catch (Throwable ex)
-                {
-                    newFuture.completeExceptionally(ex);
-                }
-            }
-            assert future != null;
-            try
-            {
-                cachedSchemaId = future.get();
-                schemaId = cachedSchemaId.id;
-                if (schemaId != NO_SCHEMA_ID)
-                {
-                    schemaIds.put(schemaKey, cachedSchemaId);
-                }
-            }
-            catch (Throwable ex)
+    @Override
+    public boolean prepare(
+        String subject,
+        String version,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = true;
+
+        int schemaKey = generateCRC32C(subject, version);
+        if (!schemaIds.containsKey(schemaKey) || schemaIds.get(schemaKey).expired(maxAgeMillis))
+        {
+            CompletableFuture<CachedSchemaId> future = resolveSchemaId(subject, version, schemaKey);
+            if (!future.isDone())
             {
-                future.completeExceptionally(ex);
+                future.whenComplete((s, ex) -> signaler.signalNow(originId, routedId, streamId, traceId, signalId, contextId));
+                prepared = false;
             }
         }
-        return schemaId;
+        return prepared;
     }
 
     @Override
@@ -464,11 +396,180 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         return status;
     }
 
-    private String sendHttpRequest(
+    private CompletableFuture<CachedSchema> resolveSchema(
+        int schemaId)
+    {
+        CachedSchema cachedSchema = null;
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
+        if (existing != null && existing.isDone() && !existing.isCompletedExceptionally())
+        {
+            cachedSchema = existing.join();
+            retryAttempts = cachedSchema.retryAttempts;
+        }
+        CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
+            v1.isCompletedExceptionally() ||
+                v1.getNow(CachedSchema.IN_PROGRESS).schema == null && v1.getNow(CachedSchema.IN_PROGRESS).retry() ? v2 : v1);
+        if (future == newFuture)
+        {
+            final CachedSchema previous = cachedSchema;
+            final AtomicInteger attempts = retryAttempts;
+            sendHttpRequest(SCHEMA_PATH.formatted(schemaId))
+                .thenAccept(response ->
+                {
+                    final long now = System.currentTimeMillis();
+                    if (response == null)
+                    {
+                        final int event = attempts.getAndIncrement() == 0 ? EVENT_UNRETRIEVABLE : EVENT_NONE;
+                        final long retryAfter = previous != null
+                            ? Math.max(Math.min(previous.retryAfter << 1, maxAgeMillis), retryInitialDelayMillis)
+                            : retryInitialDelayMillis;
+                        newFuture.complete(new CachedSchema(null, attempts, now, retryAfter, event));
+                    }
+                    else
+                    {
+                        final int event = attempts.getAndSet(0) > 0 ? EVENT_RETRIEVABLE : EVENT_NONE;
+                        final String schema = registerRequest.resolveSchemaResponse(response);
+                        cache.persistSchema(schemaId, schema);
+                        newFuture.complete(new CachedSchema(schema, attempts, now, RESET_RETRY_DELAY_MS_DEFAULT, event));
+                    }
+                })
+                .exceptionally(ex ->
+                {
+                    newFuture.completeExceptionally(ex);
+                    return null;
+                });
+        }
+        assert future != null;
+        return future;
+    }
+
+    private String onSchemaResolved(
+        int schemaId,
+        CachedSchema cachedSchema)
+    {
+        switch (cachedSchema.event.getAndSet(EVENT_NONE))
+        {
+        case EVENT_UNRETRIEVABLE:
+            event.onUnretrievableSchemaId(catalogId, schemaId);
+            break;
+        case EVENT_RETRIEVABLE:
+            event.onRetrievableSchemaId(catalogId, schemaId);
+            break;
+        }
+
+        String schema = cachedSchema.schema;
+        if (schema != null)
+        {
+            schemas.put(schemaId, schema);
+        }
+        return schema;
+    }
+
+    private CompletableFuture<CachedSchemaId> resolveSchemaId(
+        String subject,
+        String version,
+        int schemaKey)
+    {
+        CachedSchemaId cachedSchemaId = null;
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
+        if (existing != null && existing.isDone() && !existing.isCompletedExceptionally())
+        {
+            cachedSchemaId = existing.join();
+            retryAttempts = cachedSchemaId.retryAttempts;
+        }
+        CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
+            v1.isCompletedExceptionally() ||
+            v1.getNow(IN_PROGRESS).retry() &&
+                (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
+        if (future == newFuture)
+        {
+            final CachedSchemaId previous = cachedSchemaId;
+            final AtomicInteger attempts = retryAttempts;
+            sendHttpRequest(SUBJECT_VERSION_PATH.formatted(subject, version))
+                .thenAccept(response ->
+                {
+                    if (response == null)
+                    {
+                        long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+                        int event = EVENT_NONE;
+                        if (attempts.getAndIncrement() == 0)
+                        {
+                            retryAfter = retryInitialDelayMillis;
+                            event = EVENT_UNRETRIEVABLE;
+                        }
+
+                        if (previous != null)
+                        {
+                            if (previous.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
+                            {
+                                retryAfter = Math.min(previous.retryAfter << 1, maxAgeMillis);
+                            }
+                            newFuture.complete(new CachedSchemaId(previous.timestamp, previous.id,
+                                attempts, retryAfter, event));
+                        }
+                        else
+                        {
+                            newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                                attempts, retryAfter, event));
+                        }
+                    }
+                    else
+                    {
+                        final int event = attempts.getAndSet(0) > 0 ? EVENT_RETRIEVABLE : EVENT_NONE;
+                        final CachedSchemaId resolved = new CachedSchemaId(System.currentTimeMillis(),
+                            registerRequest.resolveResponse(response), attempts, RESET_RETRY_DELAY_MS_DEFAULT, event);
+                        cache.persistSchemaId(schemaKey, resolved);
+                        newFuture.complete(resolved);
+                    }
+                })
+                .exceptionally(ex ->
+                {
+                    newFuture.completeExceptionally(ex);
+                    return null;
+                });
+        }
+        assert future != null;
+        return future;
+    }
+
+    private int onSchemaIdResolved(
+        String subject,
+        String version,
+        int schemaKey,
+        CachedSchemaId cachedSchemaId)
+    {
+        switch (cachedSchemaId.event.getAndSet(EVENT_NONE))
+        {
+        case EVENT_UNRETRIEVABLE:
+            event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
+            if (cachedSchemaId.id != NO_SCHEMA_ID)
+            {
+                event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version, cachedSchemaId.id);
+            }
+            break;
+        case EVENT_RETRIEVABLE:
+            event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
+            break;
+        }
+
+        int schemaId = cachedSchemaId.id;
+        if (schemaId != NO_SCHEMA_ID)
+        {
+            schemaIds.put(schemaKey, cachedSchemaId);
+        }
+        return schemaId;
+    }
+
+    private CompletableFuture<String> sendHttpRequest(
         String path)
     {
         HttpRequest.Builder httpRequest = HttpRequest
                 .newBuilder(toURI(baseUrl, path))
+                .timeout(requestTimeout)
                 .GET();
 
         if (authorization != null)
@@ -476,19 +577,36 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             httpRequest.header("authorization", authorization);
         }
 
-        // TODO: introduce interrupt/timeout for request to schema registry
+        return send(httpRequest);
+    }
+
+    private CompletableFuture<String> send(
+        HttpRequest.Builder httpRequest)
+    {
+        return client.sendAsync(httpRequest.build(), HttpResponse.BodyHandlers.ofString())
+            .handle((r, ex) -> ex == null && r.statusCode() == 200 ? r.body() : null);
+    }
+
+    // callers that did not prepare still get an answer on a cold cache, waiting no longer than one request
+    private <T> T await(
+        CompletableFuture<T> future)
+    {
+        T result = null;
 
-        String responseBody;
         try
         {
-            HttpResponse<String> httpResponse = client.send(httpRequest.build(), HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
+            result = future.get(requestTimeout.toMillis(), MILLISECONDS);
         }
-        catch (Exception ex)
+        catch (InterruptedException ex)
         {
-            responseBody = null;
+            Thread.currentThread().interrupt();
         }
-        return responseBody;
+        catch (ExecutionException | TimeoutException ex)
+        {
+            result = null;
+        }
+
+        return result;
     }
 
     private String sendPostHttpRequest(
@@ -506,19 +624,9 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             httpRequest.header("authorization", authorization);
         }
 
-        // TODO: introduce interrupt/timeout for request to schema registry
+        httpRequest.timeout(requestTimeout);
 
-        String responseBody;
-        try
-        {
-            HttpResponse<String> httpResponse = client.send(httpRequest.build(), HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
-        }
-        catch (Exception ex)
-        {
-            responseBody = null;
-        }
-        return responseBody;
+        return await(send(httpRequest));
     }
 
     private String sendDeleteHttpRequest(
@@ -527,6 +635,7 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         HttpRequest.Builder httpRequest = HttpRequest
             .newBuilder(toURI(baseUrl, path))
             .version(HttpClient.Version.HTTP_1_1)
+            .timeout(requestTimeout)
             .DELETE();
 
         if (authorization != null)
@@ -534,17 +643,7 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             httpRequest.header("authorization", authorization);
         }
 
-        String responseBody;
-        try
-        {
-            HttpResponse<String> httpResponse = client.send(httpRequest.build(), HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
-        }
-        catch (Exception ex)
-        {
-            responseBody = null;
-        }
-        return responseBody;
+        return await(send(httpRequest));
     }
 
     @Override
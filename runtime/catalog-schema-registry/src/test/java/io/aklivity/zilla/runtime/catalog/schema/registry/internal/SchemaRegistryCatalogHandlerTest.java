@@ -14,29 +14,44 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Properties;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import io.aklivity.zilla.config.catalog.schema.registry.SchemaRegistryOptionsConfig;
 import io.aklivity.zilla.config.engine.GenericCatalogConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
 import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 
 public class SchemaRegistryCatalogHandlerTest
 {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private SchemaRegistryCatalogConfig catalogConfig;
     private EngineContext context = mock(EngineContext.class);
     private EngineConfiguration config = new EngineConfiguration(new Properties());
@@ -142,4 +157,96 @@ public class SchemaRegistryCatalogHandlerTest
 
         assertTrue(catalog.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP, CatalogHandler.Validator.IDENTITY));
     }
+
+    @Test
+    public void shouldSignalWhenSchemaUnresolvable()
+    {
+        Signaler signaler = mock(Signaler.class);
+        when(context.signaler()).thenReturn(signaler);
+
+        SchemaRegistryCatalogConfig unreachableConfig = GenericCatalogConfig
+            .builder(c -> new SchemaRegistryCatalogConfig(context, c))
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url("http://localhost:1")
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+
+        SchemaRegistryCatalogHandler catalog = new SchemaRegistryCatalogHandler(config, unreachableConfig, context);
+
+        assertFalse(catalog.prepare(9, 4L, 1L, 2L, 3L, 5, 7));
+        verify(signaler, timeout(5000)).signalNow(1L, 2L, 3L, 4L, 5, 7);
+
+        assertTrue(catalog.prepare(9, 4L, 1L, 2L, 3L, 5, 7));
+        assertNull(catalog.resolve(9));
+
+        assertFalse(catalog.prepare("items-snapshots-value", "latest", 4L, 1L, 2L, 6L, 5, 0));
+        verify(signaler, timeout(5000)).signalNow(1L, 2L, 6L, 4L, 5, 0);
+
+        assertTrue(catalog.prepare("items-snapshots-value", "latest", 4L, 1L, 2L, 6L, 5, 0));
+        assertEquals(NO_SCHEMA_ID, catalog.resolve("items-snapshots-value", "latest"));
+    }
+
+    @Test
+    public void shouldSettleLookupWhenResolvedWithoutPrepare()
+    {
+        Signaler signaler = mock(Signaler.class);
+        when(context.signaler()).thenReturn(signaler);
+
+        SchemaRegistryCatalogConfig unreachableConfig = GenericCatalogConfig
+            .builder(c -> new SchemaRegistryCatalogConfig(context, c))
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url("http://localhost:1")
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+
+        SchemaRegistryCatalogHandler catalog = new SchemaRegistryCatalogHandler(config, unreachableConfig, context);
+
+        assertNull(catalog.resolve(9));
+        assertTrue(catalog.prepare(9, 4L, 1L, 2L, 3L, 5, 7));
+
+        assertEquals(NO_SCHEMA_ID, catalog.resolve("items-snapshots-value", "latest"));
+        assertTrue(catalog.prepare("items-snapshots-value", "latest", 4L, 1L, 2L, 6L, 5, 0));
+    }
+
+    @Test
+    public void shouldResolveSchemaFromPersistentCacheWithoutRegistry()
+    {
+        Path path = folder.getRoot().toPath().resolve("test0");
+        String schema = "{\"type\":\"string\"}";
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 1024))
+        {
+            file.putSchema(9, System.currentTimeMillis(), schema);
+        }
+
+        CatalogCacheFile file = new CatalogCacheFile(path, 1024);
+        SchemaRegistryCatalogConfig unreachableConfig = GenericCatalogConfig
+            .builder(c -> new SchemaRegistryCatalogConfig(SchemaRegistryCatalogFactorySpi.TYPE, context, c,
+                new SchemaRegistryCache(file)))
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url("http://localhost:1")
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+
+        SchemaRegistryCatalogHandler catalog = new SchemaRegistryCatalogHandler(config, unreachableConfig, context);
+
+        assertEquals(schema, catalog.resolve(9));
+
+        file.close();
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
+
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_CAPACITY;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_DIRECTORY;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_PERSISTENT;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_REQUEST_TIMEOUT;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SchemaRegistryConfigurationTest
+{
+    public static final String SCHEMA_REGISTRY_REQUEST_TIMEOUT_NAME = "zilla.catalog.schema.registry.request.timeout";
+    public static final String SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL_NAME =
+        "zilla.catalog.schema.registry.retry.backoff.initial";
+    public static final String SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME = "zilla.catalog.schema.registry.cache.persistent";
+    public static final String SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME = "zilla.catalog.schema.registry.cache.directory";
+    public static final String SCHEMA_REGISTRY_CACHE_CAPACITY_NAME = "zilla.catalog.schema.registry.cache.capacity";
+
+    @Test
+    public void shouldVerifyConstants()
+    {
+        assertEquals(SCHEMA_REGISTRY_REQUEST_TIMEOUT.name(), SCHEMA_REGISTRY_REQUEST_TIMEOUT_NAME);
+        assertEquals(SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL.name(), SCHEMA_REGISTRY_RETRY_BACKOFF_INITIAL_NAME);
+        assertEquals(SCHEMA_REGISTRY_CACHE_PERSISTENT.name(), SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME);
+        assertEquals(SCHEMA_REGISTRY_CACHE_DIRECTORY.name(), SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME);
+        assertEquals(SCHEMA_REGISTRY_CACHE_CAPACITY.name(), SCHEMA_REGISTRY_CACHE_CAPACITY_NAME);
+    }
+}
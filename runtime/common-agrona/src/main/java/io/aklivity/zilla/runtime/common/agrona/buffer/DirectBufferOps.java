@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.common.agrona.buffer;
+
+/**
+ * Bulk masking and byte search over {@link DirectBufferEx} ranges.
+ * <p>
+ * When the {@code jdk.incubator.vector} module is resolved, for example with
+ * {@code --add-modules jdk.incubator.vector}, these operations use the Vector API to process a full
+ * SIMD register per step. Otherwise they use a scalar implementation that processes eight bytes per
+ * step. The implementation is selected once, at class initialization, and the Vector API path can be
+ * disabled with {@code -Dzilla.buffer.vector=false}.
+ */
+public final class DirectBufferOps
+{
+    private static final boolean VECTORIZED =
+        ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() &&
+        Boolean.parseBoolean(System.getProperty("zilla.buffer.vector", "true")) &&
+        VectorBufferOps.supported();
+
+    private static final Ops OPS = VECTORIZED ? VectorBufferOps.create() : new ScalarBufferOps();
+
+    private DirectBufferOps()
+    {
+        // utility class, no instances
+    }
+
+    /**
+     * Returns {@code true} if the Vector API implementation was selected.
+     */
+    public static boolean vectorized()
+    {
+        return VECTORIZED;
+    }
+
+    /**
+     * Applies a repeating 4-byte mask to a range of bytes, as used for websocket payload masking.
+     *
+     * @param buffer  the buffer to mask in place
+     * @param index   the index of the first byte to mask
+     * @param length  the number of bytes to mask
+     * @param bits    the mask, with the bytes in the order returned by {@code buffer.getInt(index)}
+     */
+    public static void xor(
+        MutableDirectBufferEx buffer,
+        int index,
+        int length,
+        int bits)
+    {
+        OPS.xor(buffer, index, length, bits);
+    }
+
+    /**
+     * Finds the first occurrence of a byte.
+     *
+     * @return the index of the byte, or {@code -1} if not found before {@code limit}
+     */
+    public static int indexOfByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value)
+    {
+        return OPS.indexOfByte(buffer, index, limit, value);
+    }
+
+    /**
+     * Finds the first occurrence of either of two bytes.
+     *
+     * @return the index of the byte, or {@code -1} if not found before {@code limit}
+     */
+    public static int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2)
+    {
+        return OPS.indexOfAnyByte(buffer, index, limit, value1, value2);
+    }
+
+    /**
+     * Finds the first occurrence of any of three bytes.
+     *
+     * @return the index of the byte, or {@code -1} if not found before {@code limit}
+     */
+    public static int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2,
+        byte value3)
+    {
+        return OPS.indexOfAnyByte(buffer, index, limit, value1, value2, value3);
+    }
+
+    /**
+     * Finds the first occurrence of a sequence of bytes, such as a {@code CRLF} delimiter.
+     *
+     * @return the index after the last byte of the sequence, or {@code -1} if not found before {@code limit}
+     */
+    public static int limitOfBytes(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte[] value)
+    {
+        final int searchLimit = limit - value.length + 1;
+        final byte first = value[0];
+
+        int matchLimit = -1;
+        for (int cursor = OPS.indexOfByte(buffer, index, searchLimit, first);
+             cursor != -1;
+             cursor = OPS.indexOfByte(buffer, cursor + 1, searchLimit, first))
+        {
+            if (matches(buffer, cursor, value))
+            {
+                matchLimit = cursor + value.length;
+                break;
+            }
+        }
+
+        return matchLimit;
+    }
+
+    private static boolean matches(
+        DirectBufferEx buffer,
+        int index,
+        byte[] value)
+    {
+        boolean matches = true;
+        for (int i = 1; matches && i < value.length; i++)
+        {
+            matches = buffer.getByte(index + i) == value[i];
+        }
+        return matches;
+    }
+
+    interface Ops
+    {
+        void xor(
+            MutableDirectBufferEx buffer,
+            int index,
+            int length,
+            int bits);
+
+        int indexOfByte(
+            DirectBufferEx buffer,
+            int index,
+            int limit,
+            byte value);
+
+        int indexOfAnyByte(
+            DirectBufferEx buffer,
+            int index,
+            int limit,
+            byte value1,
+            byte value2);
+
+        int indexOfAnyByte(
+            DirectBufferEx buffer,
+            int index,
+            int limit,
+            byte value1,
+            byte value2,
+            byte value3);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.common.agrona.buffer;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.ByteOrder.nativeOrder;
+
+/**
+ * Processes eight bytes per step using plain {@code long} access, testing all eight bytes of a word
+ * for a match at once.
+ */
+final class ScalarBufferOps implements DirectBufferOps.Ops
+{
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    private static final int REMAINING_SHIFT_1ST_BYTE;
+    private static final int REMAINING_SHIFT_1ST_SHORT;
+    private static final int REMAINING_SHIFT_3RD_BYTE;
+
+    static
+    {
+        if (nativeOrder() == BIG_ENDIAN)
+        {
+            REMAINING_SHIFT_1ST_BYTE = 24;
+            REMAINING_SHIFT_1ST_SHORT = 16;
+            REMAINING_SHIFT_3RD_BYTE = 8;
+        }
+        else
+        {
+            REMAINING_SHIFT_1ST_BYTE = 0;
+            REMAINING_SHIFT_1ST_SHORT = 0;
+            REMAINING_SHIFT_3RD_BYTE = 16;
+        }
+    }
+
+    @Override
+    public void xor(
+        MutableDirectBufferEx buffer,
+        int index,
+        int length,
+        int bits)
+    {
+        final long bitsAsLong = (bits & 0xffff_ffffL) | ((long) bits << Integer.SIZE);
+        final int limit = index + length;
+
+        int cursor = index;
+        for (; cursor <= limit - Long.BYTES; cursor += Long.BYTES)
+        {
+            buffer.putLong(cursor, buffer.getLong(cursor) ^ bitsAsLong);
+        }
+
+        if (cursor <= limit - Integer.BYTES)
+        {
+            buffer.putInt(cursor, buffer.getInt(cursor) ^ bits);
+            cursor += Integer.BYTES;
+        }
+
+        switch (limit - cursor)
+        {
+        case 0:
+            break;
+        case 1:
+            buffer.putByte(cursor, (byte) (buffer.getByte(cursor) ^ ((bits >> REMAINING_SHIFT_1ST_BYTE) & 0xff)));
+            break;
+        case 2:
+            buffer.putShort(cursor, (short) (buffer.getShort(cursor) ^ ((bits >> REMAINING_SHIFT_1ST_SHORT) & 0xffff)));
+            break;
+        case 3:
+            buffer.putShort(cursor, (short) (buffer.getShort(cursor) ^ ((bits >> REMAINING_SHIFT_1ST_SHORT) & 0xffff)));
+            cursor += Short.BYTES;
+            buffer.putByte(cursor, (byte) (buffer.getByte(cursor) ^ ((bits >> REMAINING_SHIFT_3RD_BYTE) & 0xff)));
+            break;
+        default:
+            throw new IllegalStateException("remaining=" + (limit - cursor));
+        }
+    }
+
+    @Override
+    public int indexOfByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value)
+    {
+        final long pattern = ONES * (value & 0xff);
+
+        int cursor = index;
+        for (; cursor <= limit - Long.BYTES; cursor += Long.BYTES)
+        {
+            final long word = buffer.getLong(cursor, LITTLE_ENDIAN);
+            final long matches = zeros(word ^ pattern);
+            if (matches != 0L)
+            {
+                return cursor + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+
+        for (; cursor < limit; cursor++)
+        {
+            if (buffer.getByte(cursor) == value)
+            {
+                return cursor;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2)
+    {
+        final long pattern1 = ONES * (value1 & 0xff);
+        final long pattern2 = ONES * (value2 & 0xff);
+
+        int cursor = index;
+        for (; cursor <= limit - Long.BYTES; cursor += Long.BYTES)
+        {
+            final long word = buffer.getLong(cursor, LITTLE_ENDIAN);
+            final long matches = zeros(word ^ pattern1) | zeros(word ^ pattern2);
+            if (matches != 0L)
+            {
+                return cursor + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+
+        for (; cursor < limit; cursor++)
+        {
+            final byte candidate = buffer.getByte(cursor);
+            if (candidate == value1 || candidate == value2)
+            {
+                return cursor;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2,
+        byte value3)
+    {
+        final long pattern1 = ONES * (value1 & 0xff);
+        final long pattern2 = ONES * (value2 & 0xff);
+        final long pattern3 = ONES * (value3 & 0xff);
+
+        int cursor = index;
+        for (; cursor <= limit - Long.BYTES; cursor += Long.BYTES)
+        {
+            final long word = buffer.getLong(cursor, LITTLE_ENDIAN);
+            final long matches = zeros(word ^ pattern1) | zeros(word ^ pattern2) | zeros(word ^ pattern3);
+            if (matches != 0L)
+            {
+                return cursor + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+
+        for (; cursor < limit; cursor++)
+        {
+            final byte candidate = buffer.getByte(cursor);
+            if (candidate == value1 || candidate == value2 || candidate == value3)
+            {
+                return cursor;
+            }
+        }
+
+        return -1;
+    }
+
+    // sets the high bit of each zero byte; bytes above the lowest zero byte may be set spuriously,
+    // so only the lowest set bit is exact, which is all the callers read
+    private static long zeros(
+        long word)
+    {
+        return (word - ONES) & ~word & HIGHS;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.common.agrona.buffer;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Processes a full SIMD register per step through the buffer {@link MemorySegment}, handing the
+ * remaining bytes to {@link ScalarBufferOps}.
+ * <p>
+ * Only loaded when the {@code jdk.incubator.vector} module is resolved.
+ */
+final class VectorBufferOps implements DirectBufferOps.Ops
+{
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int VECTOR_BYTES = BYTE_SPECIES.vectorByteSize();
+    private static final ByteOrder NATIVE_ORDER = nativeOrder();
+
+    // narrower registers are no faster than the eight-byte scalar words
+    private static final int VECTOR_BYTES_MIN = 16;
+
+    private final ScalarBufferOps scalar = new ScalarBufferOps();
+
+    static boolean supported()
+    {
+        return VECTOR_BYTES >= VECTOR_BYTES_MIN && INT_SPECIES.vectorByteSize() == VECTOR_BYTES;
+    }
+
+    static DirectBufferOps.Ops create()
+    {
+        return new VectorBufferOps();
+    }
+
+    @Override
+    public void xor(
+        MutableDirectBufferEx buffer,
+        int index,
+        int length,
+        int bits)
+    {
+        int cursor = index;
+
+        if (length >= VECTOR_BYTES)
+        {
+            final MemorySegment segment = buffer.segment();
+            final long adjustment = buffer.wrapAdjustment();
+            final IntVector mask = IntVector.broadcast(INT_SPECIES, bits);
+            final int limit = index + length;
+
+            for (; cursor <= limit - VECTOR_BYTES; cursor += VECTOR_BYTES)
+            {
+                final long offset = adjustment + cursor;
+                IntVector.fromMemorySegment(INT_SPECIES, segment, offset, NATIVE_ORDER)
+                    .lanewise(XOR, mask)
+                    .intoMemorySegment(segment, offset, NATIVE_ORDER);
+            }
+        }
+
+        scalar.xor(buffer, cursor, length - (cursor - index), bits);
+    }
+
+    @Override
+    public int indexOfByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value)
+    {
+        int cursor = index;
+
+        if (limit - index >= VECTOR_BYTES)
+        {
+            final MemorySegment segment = buffer.segment();
+            final long adjustment = buffer.wrapAdjustment();
+
+            for (; cursor <= limit - VECTOR_BYTES; cursor += VECTOR_BYTES)
+            {
+                final ByteVector bytes = ByteVector.fromMemorySegment(BYTE_SPECIES, segment, adjustment + cursor, NATIVE_ORDER);
+                final VectorMask<Byte> matches = bytes.eq(value);
+                if (matches.anyTrue())
+                {
+                    return cursor + matches.firstTrue();
+                }
+            }
+        }
+
+        return scalar.indexOfByte(buffer, cursor, limit, value);
+    }
+
+    @Override
+    public int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2)
+    {
+        int cursor = index;
+
+        if (limit - index >= VECTOR_BYTES)
+        {
+            final MemorySegment segment = buffer.segment();
+            final long adjustment = buffer.wrapAdjustment();
+
+            for (; cursor <= limit - VECTOR_BYTES; cursor += VECTOR_BYTES)
+            {
+                final ByteVector bytes = ByteVector.fromMemorySegment(BYTE_SPECIES, segment, adjustment + cursor, NATIVE_ORDER);
+                final VectorMask<Byte> matches = bytes.eq(value1).or(bytes.eq(value2));
+                if (matches.anyTrue())
+                {
+                    return cursor + matches.firstTrue();
+                }
+            }
+        }
+
+        return scalar.indexOfAnyByte(buffer, cursor, limit, value1, value2);
+    }
+
+    @Override
+    public int indexOfAnyByte(
+        DirectBufferEx buffer,
+        int index,
+        int limit,
+        byte value1,
+        byte value2,
+        byte value3)
+    {
+        int cursor = index;
+
+        if (limit - index >= VECTOR_BYTES)
+        {
+            final MemorySegment segment = buffer.segment();
+            final long adjustment = buffer.wrapAdjustment();
+
+            for (; cursor <= limit - VECTOR_BYTES; cursor += VECTOR_BYTES)
+            {
+                final ByteVector bytes = ByteVector.fromMemorySegment(BYTE_SPECIES, segment, adjustment + cursor, NATIVE_ORDER);
+                final VectorMask<Byte> matches = bytes.eq(value1).or(bytes.eq(value2)).or(bytes.eq(value3));
+                if (matches.anyTrue())
+                {
+                    return cursor + matches.firstTrue();
+                }
+            }
+        }
+
+        return scalar.indexOfAnyByte(buffer, cursor, limit, value1, value2, value3);
+    }
+}
@@ -16,6 +16,7 @@
 module io.aklivity.zilla.runtime.common.agrona
 {
     requires transitive org.agrona;
+    requires static jdk.incubator.vector;
 
     exports io.aklivity.zilla.runtime.common.agrona.buffer;
     exports io.aklivity.zilla.runtime.common.agrona.concurrent;
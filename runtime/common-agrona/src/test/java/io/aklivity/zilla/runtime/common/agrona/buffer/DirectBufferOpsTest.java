@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.common.agrona.buffer;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the scalar and Vector API implementations against byte-at-a-time references, across lengths
+ * that exercise the word or register loop, the remaining bytes, and a non-zero wrap adjustment.
+ */
+public class DirectBufferOpsTest
+{
+    private static final int LENGTH_MAX = 200;
+    private static final int WRAP_OFFSET = 5;
+
+    @Test
+    public void shouldMaskWithScalar()
+    {
+        shouldMask(new ScalarBufferOps());
+    }
+
+    @Test
+    public void shouldMaskWithVector()
+    {
+        shouldMask(vectorOps());
+    }
+
+    @Test
+    public void shouldFindByteWithScalar()
+    {
+        shouldFindByte(new ScalarBufferOps());
+    }
+
+    @Test
+    public void shouldFindByteWithVector()
+    {
+        shouldFindByte(vectorOps());
+    }
+
+    @Test
+    public void shouldFindAnyByteWithScalar()
+    {
+        shouldFindAnyByte(new ScalarBufferOps());
+    }
+
+    @Test
+    public void shouldFindAnyByteWithVector()
+    {
+        shouldFindAnyByte(vectorOps());
+    }
+
+    @Test
+    public void shouldLocateLimitAfterPartialMatch()
+    {
+        DirectBufferEx buffer = new UnsafeBufferEx("GET / HTTP/1.1\r\n\r\r\n\r\n".getBytes(US_ASCII));
+        byte[] value = "\r\n\r\n".getBytes(US_ASCII);
+        assertEquals(buffer.capacity(), DirectBufferOps.limitOfBytes(buffer, 0, buffer.capacity(), value));
+    }
+
+    @Test
+    public void shouldNotLocateLimitBeyondLimit()
+    {
+        DirectBufferEx buffer = new UnsafeBufferEx("GET / HTTP/1.1\r\n\r\n".getBytes(US_ASCII));
+        assertEquals(-1, DirectBufferOps.limitOfBytes(buffer, 0, buffer.capacity() - 1, "\r\n\r\n".getBytes(US_ASCII)));
+    }
+
+    private static void shouldMask(
+        DirectBufferOps.Ops ops)
+    {
+        final Random random = new Random(0L);
+        final int bits = 0x12345678;
+
+        for (int length = 0; length <= LENGTH_MAX; length++)
+        {
+            final byte[] bytes = new byte[WRAP_OFFSET + length];
+            random.nextBytes(bytes);
+
+            final byte[] expected = bytes.clone();
+            for (int i = 0; i < length; i++)
+            {
+                expected[WRAP_OFFSET + i] ^= maskByte(bits, i);
+            }
+
+            final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+            byteBuffer.put(bytes).clear();
+            ops.xor(new UnsafeBufferEx(byteBuffer, WRAP_OFFSET, length), 0, length, bits);
+
+            final byte[] actual = new byte[bytes.length];
+            byteBuffer.get(actual);
+            assertArrayEquals("length=" + length, expected, actual);
+        }
+    }
+
+    private static void shouldFindByte(
+        DirectBufferOps.Ops ops)
+    {
+        for (int length = 0; length <= LENGTH_MAX; length++)
+        {
+            final byte[] bytes = new byte[WRAP_OFFSET + length];
+            final DirectBufferEx buffer = new UnsafeBufferEx(bytes, WRAP_OFFSET, length);
+
+            assertEquals(-1, ops.indexOfByte(buffer, 0, length, (byte) '\n'));
+
+            for (int at = 0; at < length; at++)
+            {
+                bytes[WRAP_OFFSET + at] = '\n';
+                assertEquals("length=" + length, at, ops.indexOfByte(buffer, 0, length, (byte) '\n'));
+                assertEquals("length=" + length, -1, ops.indexOfByte(buffer, 0, at, (byte) '\n'));
+                bytes[WRAP_OFFSET + at] = 0;
+            }
+        }
+    }
+
+    private static void shouldFindAnyByte(
+        DirectBufferOps.Ops ops)
+    {
+        for (int length = 0; length <= LENGTH_MAX; length++)
+        {
+            final byte[] bytes = new byte[WRAP_OFFSET + length];
+            final DirectBufferEx buffer = new UnsafeBufferEx(bytes, WRAP_OFFSET, length);
+
+            assertEquals(-1, ops.indexOfAnyByte(buffer, 0, length, (byte) '\r', (byte) '\n'));
+            assertEquals(-1, ops.indexOfAnyByte(buffer, 0, length, (byte) ':', (byte) '\r', (byte) '\n'));
+
+            for (int at = 0; at < length; at++)
+            {
+                bytes[WRAP_OFFSET + at] = '\n';
+                assertEquals("length=" + length, at, ops.indexOfAnyByte(buffer, 0, length, (byte) '\r', (byte) '\n'));
+                bytes[WRAP_OFFSET + at] = ':';
+                assertEquals("length=" + length, -1, ops.indexOfAnyByte(buffer, 0, length, (byte) '\r', (byte) '\n'));
+                assertEquals("length=" + length, at,
+                    ops.indexOfAnyByte(buffer, 0, length, (byte) ':', (byte) '\r', (byte) '\n'));
+                bytes[WRAP_OFFSET + at] = 0;
+            }
+        }
+    }
+
+    private static byte maskByte(
+        int bits,
+        int index)
+    {
+        final int shift = nativeOrder() == BIG_ENDIAN ? 24 - 8 * (index & 3) : 8 * (index & 3);
+        return (byte) (bits >> shift);
+    }
+
+    private static DirectBufferOps.Ops vectorOps()
+    {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assumeTrue(VectorBufferOps.supported());
+        return VectorBufferOps.create();
+    }
+}
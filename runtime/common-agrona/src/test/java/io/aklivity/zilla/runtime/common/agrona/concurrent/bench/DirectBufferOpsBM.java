@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.common.agrona.concurrent.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferOps;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * Compares websocket masking and delimiter search over frame sizes from 64 bytes to 64 KiB.
+ * <p>
+ * {@code baseline} masks one int at a time and searches one byte at a time, as the ws, http and sse
+ * bindings did previously. {@code scalar} and {@code vector} run {@link DirectBufferOps} with the
+ * {@code zilla.buffer.vector} property set accordingly. The implementation is selected once per JVM,
+ * so each trial needs its own fork, and the {@code bytes} counter reports throughput per second.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 3, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class DirectBufferOpsBM
+{
+    private static final byte[] CRLFCRLF = "\r\n\r\n".getBytes(US_ASCII);
+    private static final int MASK = 0x5a3c96e1;
+
+    @Param({ "baseline", "scalar", "vector" })
+    public String impl;
+
+    @Param({ "64", "512", "4096", "65536" })
+    public int size;
+
+    private AtomicBufferEx buffer;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters
+    {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            bytes = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final boolean vector = "vector".equals(impl);
+        System.setProperty("zilla.buffer.vector", Boolean.toString(vector));
+
+        if (!"baseline".equals(impl) && DirectBufferOps.vectorized() != vector)
+        {
+            throw new IllegalStateException("%s implementation not selected".formatted(impl));
+        }
+
+        final byte[] payload = new byte[size];
+        final Random random = new Random(0L);
+        for (int i = 0; i < payload.length; i++)
+        {
+            payload[i] = (byte) ('a' + random.nextInt(26));
+        }
+        System.arraycopy(CRLFCRLF, 0, payload, payload.length - CRLFCRLF.length, CRLFCRLF.length);
+
+        buffer = new UnsafeBufferEx(allocateDirect(size).order(nativeOrder()));
+        buffer.putBytes(0, payload);
+    }
+
+    @Benchmark
+    public int xor(
+        Counters counters)
+    {
+        if ("baseline".equals(impl))
+        {
+            xorBaseline(buffer, 0, size, MASK);
+        }
+        else
+        {
+            DirectBufferOps.xor(buffer, 0, size, MASK);
+        }
+
+        counters.bytes += size;
+        return buffer.getInt(0);
+    }
+
+    @Benchmark
+    public int indexOfByte(
+        Counters counters)
+    {
+        counters.bytes += size;
+        return "baseline".equals(impl)
+            ? indexOfByteBaseline(buffer, 0, size, (byte) '\n')
+            : DirectBufferOps.indexOfByte(buffer, 0, size, (byte) '\n');
+    }
+
+    @Benchmark
+    public int limitOfBytes(
+        Counters counters)
+    {
+        counters.bytes += size;
+        return "baseline".equals(impl)
+            ? limitOfBytesBaseline(buffer, 0, size, CRLFCRLF)
+            : DirectBufferOps.limitOfBytes(buffer, 0, size, CRLFCRLF);
+    }
+
+    private static void xorBaseline(
+        AtomicBufferEx buffer,
+        int index,
+        int length,
+        int bits)
+    {
+        final int limit = index + length;
+
+        int cursor = index;
+        for (; cursor + Integer.BYTES <= limit; cursor += Integer.BYTES)
+        {
+            buffer.putInt(cursor, buffer.getInt(cursor) ^ bits);
+        }
+
+        for (int remaining = 0; cursor < limit; cursor++, remaining++)
+        {
+            final int shift = nativeOrder() == BIG_ENDIAN ? 24 - 8 * remaining : 8 * remaining;
+            buffer.putByte(cursor, (byte) (buffer.getByte(cursor) ^ (bits >> shift)));
+        }
+    }
+
+    private static int indexOfByteBaseline(
+        AtomicBufferEx buffer,
+        int index,
+        int limit,
+        byte value)
+    {
+        int byteAt = -1;
+        for (int cursor = index; cursor < limit; cursor++)
+        {
+            if (buffer.getByte(cursor) == value)
+            {
+                byteAt = cursor;
+                break;
+            }
+        }
+        return byteAt;
+    }
+
+    private static int limitOfBytesBaseline(
+        AtomicBufferEx buffer,
+        int index,
+        int limit,
+        byte[] value)
+    {
+        int matchedLimit = -1;
+        for (int cursor = index; cursor + value.length <= limit; cursor++)
+        {
+            int matched = 0;
+            while (matched < value.length && buffer.getByte(cursor + matched) == value[matched])
+            {
+                matched++;
+            }
+
+            if (matched == value.length)
+            {
+                matchedLimit = cursor + value.length;
+                break;
+            }
+        }
+        return matchedLimit;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(DirectBufferOpsBM.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
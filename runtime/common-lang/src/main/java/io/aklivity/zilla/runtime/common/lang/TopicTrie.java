@@ -0,0 +1,592 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.common.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.aklivity.zilla.runtime.common.lang.util.function.LongObjectPredicate;
+
+/**
+ * Trie of {@code /}-separated topic filters, shared by MQTT route condition matchers so a topic is
+ * matched level by level against every configured filter at once, without regular expressions or
+ * substrings.
+ * <p>
+ * A {@code +} level matches any single level, a {@code {param}} level matches any non-empty single
+ * level and captures it, and a final {@code #} level matches one or more remaining levels. Wildcards
+ * only apply to whole levels, so a level such as {@code a+b} is matched literally.
+ * </p>
+ * <p>
+ * Captures refer to the most recently matched topic so, like {@link java.util.regex.Matcher}, a trie
+ * must not be shared between threads.
+ * </p>
+ *
+ * @param <V>  the type of value associated with each filter
+ */
+public final class TopicTrie<V>
+{
+    private static final LongObjectPredicate<Object> ACCEPT_ANY = (c, v) -> true;
+
+    private static final int NO_PARAM = -1;
+    private static final int NO_CAPTURE = -1;
+
+    private final Node<V> root;
+    private final Map<String, Integer> params;
+
+    private int[] captures;
+    private CharSequence topic;
+
+    public TopicTrie()
+    {
+        this.root = new Node<>(null);
+        this.params = new HashMap<>();
+        this.captures = new int[0];
+    }
+
+    /**
+     * Adds a topic filter.
+     *
+     * @param filter  the topic filter, with optional {@code +}, {@code #} and {@code {param}} levels
+     * @param value   the value associated with the filter
+     */
+    public void add(
+        String filter,
+        V value)
+    {
+        Node<V> node = root;
+        int start = 0;
+        int end;
+        do
+        {
+            end = filter.indexOf('/', start);
+            final boolean last = end == -1;
+            final String level = filter.substring(start, last ? filter.length() : end);
+
+            if ("+".equals(level))
+            {
+                if (node.any == null)
+                {
+                    node.any = new Node<>(level);
+                }
+                node = node.any;
+            }
+            else if ("#".equals(level) && last)
+            {
+                if (node.rest == null)
+                {
+                    node.rest = new Node<>(level);
+                }
+                node = node.rest;
+            }
+            else if (isParam(level))
+            {
+                node = node.supplyParam(param(level.substring(1, level.length() - 1), true));
+            }
+            else
+            {
+                node = node.supplyLiteral(level);
+            }
+
+            start = end + 1;
+        }
+        while (end != -1);
+
+        node.values.add(value);
+    }
+
+    /**
+     * Returns the index of a named {@code {param}} level.
+     *
+     * @param name  the param name
+     * @return the param index, or {@code -1} if no filter has a param with this name
+     */
+    public int param(
+        String name)
+    {
+        return param(name, false);
+    }
+
+    /**
+     * Matches a topic name against the filters, treating {@code +} and {@code #} in the topic as
+     * literal characters.
+     *
+     * @param topic  the topic name
+     * @return {@code true} if any filter matches
+     */
+    public boolean matches(
+        CharSequence topic)
+    {
+        return matches(topic, 0L, ACCEPT_ANY);
+    }
+
+    /**
+     * Matches a topic name against the filters, treating {@code +} and {@code #} in the topic as
+     * literal characters.
+     *
+     * @param topic    the topic name
+     * @param context  the context passed to {@code accept}
+     * @param accept   tests the value of each matching filter, with the captures of that match
+     * @return {@code true} if any filter matches and its value is accepted
+     */
+    public boolean matches(
+        CharSequence topic,
+        long context,
+        LongObjectPredicate<? super V> accept)
+    {
+        reset(topic);
+        return matches(root, 0, context, accept);
+    }
+
+    /**
+     * Tests whether a topic filter overlaps the filters, treating {@code +} and a final {@code #} in
+     * the topic filter as wildcards.
+     *
+     * @param filter  the topic filter
+     * @return {@code true} if any filter overlaps
+     */
+    public boolean overlaps(
+        CharSequence filter)
+    {
+        return overlaps(filter, 0L, ACCEPT_ANY);
+    }
+
+    /**
+     * Tests whether a topic filter overlaps the filters, treating {@code +} and a final {@code #} in
+     * the topic filter as wildcards.
+     *
+     * @param filter   the topic filter
+     * @param context  the context passed to {@code accept}
+     * @param accept   tests the value of each overlapping filter, with the captures of that match
+     * @return {@code true} if any filter overlaps and its value is accepted
+     */
+    public boolean overlaps(
+        CharSequence filter,
+        long context,
+        LongObjectPredicate<? super V> accept)
+    {
+        reset(filter);
+        return overlaps(root, 0, context, accept);
+    }
+
+    /**
+     * Returns the level captured by a param in the most recent match.
+     *
+     * @param param  the param index
+     * @return the captured level, or {@code null} if the param was not captured
+     */
+    public String capture(
+        int param)
+    {
+        return captured(param)
+            ? topic.subSequence(captures[param << 1], captures[(param << 1) + 1]).toString()
+            : null;
+    }
+
+    /**
+     * Compares the level captured by a param in the most recent match without creating a string.
+     *
+     * @param param     the param index
+     * @param expected  the expected level
+     * @return {@code true} if the param was captured and equals {@code expected}
+     */
+    public boolean captureEquals(
+        int param,
+        CharSequence expected)
+    {
+        boolean equals = expected != null && captured(param);
+
+        if (equals)
+        {
+            final int start = captures[param << 1];
+            final int end = captures[(param << 1) + 1];
+            equals = end - start == expected.length();
+            for (int i = start; equals && i < end; i++)
+            {
+                equals = topic.charAt(i) == expected.charAt(i - start);
+            }
+        }
+
+        return equals;
+    }
+
+    private boolean matches(
+        Node<V> node,
+        int start,
+        long context,
+        LongObjectPredicate<? super V> accept)
+    {
+        final CharSequence topic = this.topic;
+        final int length = topic.length();
+
+        boolean match;
+        if (start > length)
+        {
+            match = node.accepts(context, accept);
+        }
+        else
+        {
+            int hash = 0;
+            int end = start;
+            while (end < length && topic.charAt(end) != '/')
+            {
+                hash = 31 * hash + topic.charAt(end++);
+            }
+
+            final Node<V> literal = node.findLiteral(topic, start, end, hash);
+            match = literal != null && matches(literal, end + 1, context, accept);
+
+            if (!match && node.any != null)
+            {
+                match = matches(node.any, end + 1, context, accept);
+            }
+
+            for (int i = 0; !match && end > start && i < node.paramCount; i++)
+            {
+                final Node<V> param = node.params[i];
+                capture(param.param, start, end);
+                match = matches(param, end + 1, context, accept);
+                if (!match)
+                {
+                    capture(param.param, NO_CAPTURE, NO_CAPTURE);
+                }
+            }
+
+            if (!match && node.rest != null)
+            {
+                match = node.rest.accepts(context, accept);
+            }
+        }
+
+        return match;
+    }
+
+    private boolean overlaps(
+        Node<V> node,
+        int start,
+        long context,
+        LongObjectPredicate<? super V> accept)
+    {
+        final CharSequence topic = this.topic;
+        final int length = topic.length();
+
+        boolean match;
+        if (start > length)
+        {
+            match = node.accepts(context, accept);
+        }
+        else
+        {
+            int hash = 0;
+            int end = start;
+            while (end < length && topic.charAt(end) != '/')
+            {
+                hash = 31 * hash + topic.charAt(end++);
+            }
+
+            final boolean single = end - start == 1;
+            final char wildcard = single ? topic.charAt(start) : 0;
+
+            if (wildcard == '#' && end == length)
+            {
+                match = node.acceptsAny(context, accept);
+            }
+            else if (wildcard == '+')
+            {
+                match = false;
+
+                final Node<V>[] literals = node.literals;
+                for (int i = 0; !match && literals != null && i < literals.length; i++)
+                {
+                    match = literals[i] != null && overlaps(literals[i], end + 1, context, accept);
+                }
+
+                if (!match && node.any != null)
+                {
+                    match = overlaps(node.any, end + 1, context, accept);
+                }
+
+                for (int i = 0; !match && i < node.paramCount; i++)
+                {
+                    match = overlaps(node.params[i], end + 1, context, accept);
+                }
+            }
+            else
+            {
+                final Node<V> literal = node.findLiteral(topic, start, end, hash);
+                match = literal != null && overlaps(literal, end + 1, context, accept);
+
+                if (!match && node.any != null)
+                {
+                    match = overlaps(node.any, end + 1, context, accept);
+                }
+
+                for (int i = 0; !match && end > start && i < node.paramCount; i++)
+                {
+                    final Node<V> param = node.params[i];
+                    capture(param.param, start, end);
+                    match = overlaps(param, end + 1, context, accept);
+                    if (!match)
+                    {
+                        capture(param.param, NO_CAPTURE, NO_CAPTURE);
+                    }
+                }
+            }
+
+            if (!match && node.rest != null)
+            {
+                match = node.rest.accepts(context, accept);
+            }
+        }
+
+        return match;
+    }
+
+    private void reset(
+        CharSequence topic)
+    {
+        this.topic = topic;
+        Arrays.fill(captures, NO_CAPTURE);
+    }
+
+    private boolean captured(
+        int param)
+    {
+        return param >= 0 && param << 1 < captures.length && captures[param << 1] != NO_CAPTURE;
+    }
+
+    private void capture(
+        int param,
+        int start,
+        int end)
+    {
+        captures[param << 1] = start;
+        captures[(param << 1) + 1] = end;
+    }
+
+    private int param(
+        String name,
+        boolean supply)
+    {
+        Integer index = params.get(name);
+
+        if (index == null && supply)
+        {
+            index = params.size();
+            params.put(name, index);
+            captures = Arrays.copyOf(captures, params.size() << 1);
+            Arrays.fill(captures, NO_CAPTURE);
+        }
+
+        return index != null ? index : NO_PARAM;
+    }
+
+    private static boolean isParam(
+        String level)
+    {
+        boolean param = level.length() > 2 &&
+            level.charAt(0) == '{' &&
+            level.charAt(level.length() - 1) == '}';
+
+        for (int i = 1; param && i < level.length() - 1; i++)
+        {
+            final char ch = level.charAt(i);
+            param = ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch == '_';
+        }
+
+        return param;
+    }
+
+    private static final class Node<V>
+    {
+        private final String level;
+        private final int hash;
+        private final List<V> values;
+
+        private Node<V>[] literals;
+        private int literalCount;
+        private Node<V>[] params;
+        private int paramCount;
+        private Node<V> any;
+        private Node<V> rest;
+        private int param;
+
+        private Node(
+            String level)
+        {
+            this.level = level;
+            this.hash = level != null ? level.hashCode() : 0;
+            this.values = new ArrayList<>(1);
+            this.param = NO_PARAM;
+        }
+
+        private Node<V> findLiteral(
+            CharSequence topic,
+            int start,
+            int end,
+            int hash)
+        {
+            Node<V> found = null;
+
+            final Node<V>[] literals = this.literals;
+            if (literals != null)
+            {
+                final int mask = literals.length - 1;
+                for (int index = mix(hash) & mask; literals[index] != null; index = (index + 1) & mask)
+                {
+                    final Node<V> literal = literals[index];
+                    if (literal.hash == hash && literal.equalsLevel(topic, start, end))
+                    {
+                        found = literal;
+                        break;
+                    }
+                }
+            }
+
+            return found;
+        }
+
+        private Node<V> supplyLiteral(
+            String level)
+        {
+            Node<V> literal = findLiteral(level, 0, level.length(), level.hashCode());
+
+            if (literal == null)
+            {
+                if (literals == null || (literalCount + 1) << 1 > literals.length)
+                {
+                    resizeLiterals(literals == null ? 4 : literals.length << 1);
+                }
+
+                literal = new Node<>(level);
+                insertLiteral(literal);
+            }
+
+            return literal;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<V> supplyParam(
+            int param)
+        {
+            Node<V> found = null;
+            for (int i = 0; found == null && i < paramCount; i++)
+            {
+                found = params[i].param == param ? params[i] : null;
+            }
+
+            if (found == null)
+            {
+                params = params == null ? new Node[1] : Arrays.copyOf(params, paramCount + 1);
+                found = new Node<>(null);
+                found.param = param;
+                params[paramCount++] = found;
+            }
+
+            return found;
+        }
+
+        private boolean accepts(
+            long context,
+            LongObjectPredicate<? super V> accept)
+        {
+            boolean accepted = false;
+            for (int i = 0; !accepted && i < values.size(); i++)
+            {
+                accepted = accept.test(context, values.get(i));
+            }
+            return accepted;
+        }
+
+        private boolean acceptsAny(
+            long context,
+            LongObjectPredicate<? super V> accept)
+        {
+            boolean accepted = accepts(context, accept);
+
+            for (int i = 0; !accepted && literals != null && i < literals.length; i++)
+            {
+                accepted = literals[i] != null && literals[i].acceptsAny(context, accept);
+            }
+
+            for (int i = 0; !accepted && i < paramCount; i++)
+            {
+                accepted = params[i].acceptsAny(context, accept);
+            }
+
+            if (!accepted && any != null)
+            {
+                accepted = any.acceptsAny(context, accept);
+            }
+
+            if (!accepted && rest != null)
+            {
+                accepted = rest.acceptsAny(context, accept);
+            }
+
+            return accepted;
+        }
+
+        private boolean equalsLevel(
+            CharSequence topic,
+            int start,
+            int end)
+        {
+            boolean equals = end - start == level.length();
+            for (int i = start; equals && i < end; i++)
+            {
+                equals = topic.charAt(i) == level.charAt(i - start);
+            }
+            return equals;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void resizeLiterals(
+            int capacity)
+        {
+            final Node<V>[] existing = literals;
+            literals = new Node[capacity];
+            literalCount = 0;
+            for (int i = 0; existing != null && i < existing.length; i++)
+            {
+                if (existing[i] != null)
+                {
+                    insertLiteral(existing[i]);
+                }
+            }
+        }
+
+        private void insertLiteral(
+            Node<V> literal)
+        {
+            final int mask = literals.length - 1;
+            int index = mix(literal.hash) & mask;
+            while (literals[index] != null)
+            {
+                index = (index + 1) & mask;
+            }
+            literals[index] = literal;
+            literalCount++;
+        }
+
+        private static int mix(
+            int hash)
+        {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
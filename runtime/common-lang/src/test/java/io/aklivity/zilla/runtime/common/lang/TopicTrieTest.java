@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.common.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TopicTrieTest
+{
+    @Test
+    public void shouldMatchLiteralTopic()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/one", "one");
+
+        assertTrue(trie.matches("sensors/one"));
+        assertFalse(trie.matches("sensors/two"));
+        assertFalse(trie.matches("sensors"));
+        assertFalse(trie.matches("sensors/one/temperature"));
+    }
+
+    @Test
+    public void shouldMatchManyLiteralTopics()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        for (int i = 0; i < 64; i++)
+        {
+            trie.add("sensors/" + i, "sensor");
+        }
+
+        for (int i = 0; i < 64; i++)
+        {
+            assertTrue(trie.matches("sensors/" + i));
+        }
+        assertFalse(trie.matches("sensors/64"));
+    }
+
+    @Test
+    public void shouldMatchSingleLevelWildcard()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/+/temperature", "temperature");
+
+        assertTrue(trie.matches("sensors/one/temperature"));
+        assertTrue(trie.matches("sensors//temperature"));
+        assertFalse(trie.matches("sensors/one/two/temperature"));
+        assertFalse(trie.matches("sensors/one/humidity"));
+    }
+
+    @Test
+    public void shouldMatchMultiLevelWildcard()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/#", "sensors");
+
+        assertTrue(trie.matches("sensors/one"));
+        assertTrue(trie.matches("sensors/one/temperature"));
+        assertTrue(trie.matches("sensors/"));
+        assertFalse(trie.matches("sensors"));
+        assertFalse(trie.matches("devices/one"));
+    }
+
+    @Test
+    public void shouldMatchAnyTopicWithRootMultiLevelWildcard()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("#", "all");
+
+        assertTrue(trie.matches(""));
+        assertTrue(trie.matches("sensors"));
+        assertTrue(trie.matches("/sensors/one"));
+    }
+
+    @Test
+    public void shouldMatchWildcardsInLevelLiterally()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/a+b/#/c", "literal");
+
+        assertTrue(trie.matches("sensors/a+b/#/c"));
+        assertFalse(trie.matches("sensors/ab/one/c"));
+    }
+
+    @Test
+    public void shouldCaptureParams()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/{id}/{kind}", "sensor");
+
+        int id = trie.param("id");
+        int kind = trie.param("kind");
+
+        assertTrue(trie.matches("sensors/one/temperature"));
+        assertEquals("one", trie.capture(id));
+        assertEquals("temperature", trie.capture(kind));
+        assertTrue(trie.captureEquals(id, "one"));
+        assertFalse(trie.captureEquals(id, "on"));
+        assertFalse(trie.captureEquals(id, "two"));
+        assertFalse(trie.captureEquals(id, null));
+        assertFalse(trie.matches("sensors//temperature"));
+        assertNull(trie.capture(id));
+        assertEquals(-1, trie.param("unknown"));
+        assertNull(trie.capture(-1));
+    }
+
+    @Test
+    public void shouldTestValuesWithCaptures()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/{id}", "one");
+        trie.add("sensors/{name}", "two");
+        trie.add("sensors/+", "any");
+
+        int id = trie.param("id");
+        int name = trie.param("name");
+
+        assertTrue(trie.matches("sensors/two", 0L, (c, v) -> "two".equals(v) && trie.captureEquals(name, "two")));
+        assertNull(trie.capture(id));
+        assertTrue(trie.matches("sensors/one", 7L, (c, v) -> c == 7L && "any".equals(v)));
+        assertFalse(trie.matches("sensors/one", 0L, (c, v) -> "one".equals(v) && trie.captureEquals(id, "two")));
+        assertNull(trie.capture(id));
+    }
+
+    @Test
+    public void shouldOverlapFilters()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("/some/hierarchical/topic/name", "name");
+
+        assertTrue(trie.overlaps("/some/hierarchical/topic/name"));
+        assertTrue(trie.overlaps("/some/hierarchical/topic/name/#"));
+        assertTrue(trie.overlaps("/some/hierarchical/+/name/#"));
+        assertTrue(trie.overlaps("/some/+/topic/+"));
+        assertTrue(trie.overlaps("/some/#"));
+        assertTrue(trie.overlaps("#"));
+        assertTrue(trie.overlaps("/#"));
+        assertFalse(trie.overlaps("/some/+"));
+        assertFalse(trie.overlaps("/some/hierarchical/topic/name/something"));
+        assertFalse(trie.overlaps("some/hierarchical/topic/name"));
+    }
+
+    @Test
+    public void shouldOverlapWildcardFilters()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("device/#", "device");
+        trie.add("sensors/+/temperature", "temperature");
+
+        assertTrue(trie.overlaps("device/one"));
+        assertTrue(trie.overlaps("device/+"));
+        assertTrue(trie.overlaps("device/#"));
+        assertTrue(trie.overlaps("device/rain/one"));
+        assertTrue(trie.overlaps("sensors/one/temperature"));
+        assertTrue(trie.overlaps("sensors/+/+"));
+        assertTrue(trie.overlaps("+/+/temperature"));
+        assertFalse(trie.overlaps("device"));
+        assertFalse(trie.overlaps("/device/one"));
+        assertFalse(trie.overlaps("sensors/one/humidity"));
+        assertFalse(trie.overlaps("/#"));
+    }
+
+    @Test
+    public void shouldCaptureParamsWhenOverlapping()
+    {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("sensors/{id}/temperature", "temperature");
+
+        int id = trie.param("id");
+
+        assertTrue(trie.overlaps("sensors/one/temperature"));
+        assertEquals("one", trie.capture(id));
+        assertTrue(trie.overlaps("sensors/+/temperature"));
+        assertNull(trie.capture(id));
+        assertTrue(trie.overlaps("sensors/#"));
+        assertTrue(trie.overlaps("sensors/two/#", 0L, (c, v) -> trie.captureEquals(id, "two")));
+        assertFalse(trie.overlaps("sensors//temperature"));
+    }
+}
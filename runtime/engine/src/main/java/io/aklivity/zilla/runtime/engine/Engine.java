@@ -15,7 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.MAX_WORKERS;
 import static io.aklivity.zilla.runtime.engine.namespace.NamespacedId.NO_LOCAL_ID;
 import static io.aklivity.zilla.runtime.engine.namespace.NamespacedId.NO_NAMESPACE_ID;
 import static java.nio.channels.Channels.newWriter;
@@ -85,6 +85,7 @@ import io.aklivity.zilla.runtime.engine.internal.registry.EngineBoss;
 import io.aklivity.zilla.runtime.engine.internal.registry.EngineManager;
 import io.aklivity.zilla.runtime.engine.internal.registry.EngineWorker;
 import io.aklivity.zilla.runtime.engine.metrics.Collector;
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
 import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
 import io.aklivity.zilla.runtime.engine.model.Model;
 import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
@@ -110,6 +111,7 @@ public final class Engine implements Collector, AutoCloseable
     private final EngineBoss boss;
     private final boolean readonly;
     private final EngineConfiguration config;
+    private final HistogramBuckets histogramBuckets;
     private final EngineManager manager;
     private final EngineDiagnosticsTask diagnostics;
     private final RouterConfig routerConfig;
@@ -136,6 +138,7 @@ public final class Engine implements Collector, AutoCloseable
         boolean readonly)
     {
         this.config = config;
+        this.histogramBuckets = HistogramBuckets.of(config.metricsHistogramSignificantDigits());
         this.nextTaskId = new AtomicInteger();
         this.factory = Executors.defaultThreadFactory();
 
@@ -159,6 +162,11 @@ public final class Engine implements Collector, AutoCloseable
             .build();
         int workerCount = info.workers();
 
+        if (workerCount > MAX_WORKERS)
+        {
+            throw new IllegalArgumentException(String.format("Engine workers %d exceeds maximum %d", workerCount, MAX_WORKERS));
+        }
+
         if (readonly && !Ready.initialized(config.directory(), info.startTime()))
         {
             throw new EngineNotInitializedException(String.format("Engine not yet initialized: %s", config.directory()));
@@ -582,8 +590,8 @@ public final class Engine implements Collector, AutoCloseable
         int metricId,
         int attributesId)
     {
-        LongSupplier[] result = new LongSupplier[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
+        LongSupplier[] result = new LongSupplier[histogramBuckets.count()];
+        for (int i = 0; i < result.length; i++)
         {
             final int index = i;
             result[index] = () -> aggregateHistogramBucketValue(bindingId, metricId, attributesId, index);
@@ -635,6 +643,12 @@ public final class Engine implements Collector, AutoCloseable
         return mergeIds(EngineWorker::histogramIds);
     }
 
+    @Override
+    public HistogramBuckets histogramBuckets()
+    {
+        return histogramBuckets;
+    }
+
     private long[][] mergeIds(
         Function<EngineWorker, long[][]> supplier)
     {
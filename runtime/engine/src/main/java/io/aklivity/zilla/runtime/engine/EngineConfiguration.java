@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.MAX_WORKERS;
 import static java.lang.Math.min;
 import static java.lang.management.ManagementFactory.getOperatingSystemMXBean;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
@@ -60,6 +61,7 @@ public class EngineConfiguration extends Configuration
     public static final PropertyDef<URI> ENGINE_CONFIG_URI;
     public static final PropertyDef<URI> ENGINE_LOCAL_CONFIG_URI;
     public static final BooleanPropertyDef ENGINE_CONFIG_WATCH;
+    public static final BooleanPropertyDef ENGINE_CONFIG_RELOAD_INCREMENTAL;
     public static final IntPropertyDef ENGINE_CONFIG_POLL_INTERVAL_SECONDS;
     public static final PropertyDef<String> ENGINE_NAME;
     public static final PropertyDef<String> ENGINE_VERSION;
@@ -73,9 +75,15 @@ public class EngineConfiguration extends Configuration
     public static final DoublePropertyDef ENGINE_DISK_PERCENTAGE;
     public static final IntPropertyDef ENGINE_BUFFER_POOL_CAPACITY;
     public static final IntPropertyDef ENGINE_BUFFER_SLOT_CAPACITY;
+    public static final BooleanPropertyDef ENGINE_BUFFER_POOL_SLAB;
+    public static final IntPropertyDef ENGINE_BUFFER_SLAB_MIN_CAPACITY;
+    public static final IntPropertyDef ENGINE_BUFFER_SLAB_MAX_CAPACITY;
+    public static final DoublePropertyDef ENGINE_BUFFER_SLAB_DEFAULT_SHARE;
     public static final IntPropertyDef ENGINE_STREAMS_BUFFER_CAPACITY;
     public static final IntPropertyDef ENGINE_EVENTS_BUFFER_CAPACITY;
     public static final IntPropertyDef ENGINE_COUNTERS_BUFFER_CAPACITY;
+    public static final IntPropertyDef ENGINE_METRICS_HISTOGRAM_SIGNIFICANT_DIGITS;
+    public static final IntPropertyDef ENGINE_METRICS_HISTOGRAM_RECORDS;
     public static final IntPropertyDef ENGINE_BUDGETS_BUFFER_CAPACITY;
     public static final BooleanPropertyDef ENGINE_TIMESTAMPS;
     public static final IntPropertyDef ENGINE_MAXIMUM_MESSAGES_PER_READ;
@@ -123,6 +131,7 @@ public class EngineConfiguration extends Configuration
         ENGINE_LOCAL_CONFIG_URI =
             config.property(URI.class, "local.config.uri", EngineConfiguration::localConfigUri, (String) null);
         ENGINE_CONFIG_WATCH = config.property("config.watch", true);
+        ENGINE_CONFIG_RELOAD_INCREMENTAL = config.property("config.reload.incremental", true);
         ENGINE_CONFIG_POLL_INTERVAL_SECONDS = config.property("config.poll.interval.seconds", 60);
         ENGINE_NAME = config.property("name", EngineConfiguration::defaultName);
         ENGINE_VERSION = config.property("version", EngineConfiguration::defaultVersion);
@@ -137,12 +146,19 @@ public class EngineConfiguration extends Configuration
         ENGINE_WORKER_CAPACITY_LIMIT = config.property("worker.capacity.limit", EngineConfiguration::defaultWorkerCapacityLimit);
         ENGINE_BUFFER_POOL_CAPACITY = config.property("buffer.pool.capacity", EngineConfiguration::defaultBufferPoolCapacity);
         ENGINE_BUFFER_SLOT_CAPACITY = config.property("buffer.slot.capacity", 32 * 1024);
+        ENGINE_BUFFER_POOL_SLAB = config.property("buffer.pool.slab", false);
+        ENGINE_BUFFER_SLAB_MIN_CAPACITY = config.property("buffer.slab.min.capacity", 512);
+        ENGINE_BUFFER_SLAB_MAX_CAPACITY = config.property("buffer.slab.max.capacity", 1024 * 1024);
+        ENGINE_BUFFER_SLAB_DEFAULT_SHARE = config.property("buffer.slab.default.share", 0.5);
         ENGINE_STREAMS_BUFFER_CAPACITY = config.property("streams.buffer.capacity",
                 EngineConfiguration::defaultStreamsBufferCapacity);
         ENGINE_EVENTS_BUFFER_CAPACITY = config.property("events.buffer.capacity", 4 * 64 * 1024);
         ENGINE_BUDGETS_BUFFER_CAPACITY = config.property("budgets.buffer.capacity",
                 EngineConfiguration::defaultBudgetsBufferCapacity);
         ENGINE_COUNTERS_BUFFER_CAPACITY = config.property("counters.buffer.capacity", 1024 * 1024);
+        ENGINE_METRICS_HISTOGRAM_SIGNIFICANT_DIGITS = config.property("metrics.histogram.significant.digits", 0);
+        ENGINE_METRICS_HISTOGRAM_RECORDS = config.property("metrics.histogram.records",
+                EngineConfiguration::defaultMetricsHistogramRecords);
         ENGINE_TIMESTAMPS = config.property("timestamps", true);
         ENGINE_MAXIMUM_MESSAGES_PER_READ = config.property("maximum.messages.per.read", Integer.MAX_VALUE);
         ENGINE_MAXIMUM_EXPIRATIONS_PER_POLL = config.property("maximum.expirations.per.poll", Integer.MAX_VALUE);
@@ -168,7 +184,7 @@ public class EngineConfiguration extends Configuration
         ENGINE_VERBOSE_EVENTS = config.property("verbose.events", false);
         ENGINE_CLOCK = config.property(Clock.class, "clock",
             EngineConfiguration::decodeCLock, EngineConfiguration::defaultClock);
-        ENGINE_WORKERS = config.property("workers", Runtime.getRuntime().availableProcessors());
+        ENGINE_WORKERS = config.property("workers", min(Runtime.getRuntime().availableProcessors(), MAX_WORKERS));
         ENGINE_CACERTS_STORE_TYPE = config.property("cacerts.store.type", EngineConfiguration::cacertsStoreTypeDefault);
         ENGINE_CACERTS_STORE = config.property("cacerts.store", EngineConfiguration::cacertsStoreDefault);
         ENGINE_CACERTS_STORE_PASS = config.property("cacerts.store.pass");
@@ -229,6 +245,11 @@ public class EngineConfiguration extends Configuration
         return ENGINE_CONFIG_WATCH.get(this);
     }
 
+    public boolean configReloadIncremental()
+    {
+        return ENGINE_CONFIG_RELOAD_INCREMENTAL.get(this);
+    }
+
     public int configPollIntervalSeconds()
     {
         return ENGINE_CONFIG_POLL_INTERVAL_SECONDS.getAsInt(this);
@@ -269,6 +290,26 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BUFFER_SLOT_CAPACITY.getAsInt(this);
     }
 
+    public boolean bufferPoolSlab()
+    {
+        return ENGINE_BUFFER_POOL_SLAB.get(this);
+    }
+
+    public int bufferSlabMinCapacity()
+    {
+        return ENGINE_BUFFER_SLAB_MIN_CAPACITY.getAsInt(this);
+    }
+
+    public int bufferSlabMaxCapacity()
+    {
+        return ENGINE_BUFFER_SLAB_MAX_CAPACITY.getAsInt(this);
+    }
+
+    public double bufferSlabDefaultShare()
+    {
+        return ENGINE_BUFFER_SLAB_DEFAULT_SHARE.getAsDouble(this);
+    }
+
     public int budgetsBufferCapacity()
     {
         return ENGINE_BUDGETS_BUFFER_CAPACITY.getAsInt(this);
@@ -289,6 +330,16 @@ public class EngineConfiguration extends Configuration
         return ENGINE_COUNTERS_BUFFER_CAPACITY.getAsInt(this);
     }
 
+    public int metricsHistogramSignificantDigits()
+    {
+        return ENGINE_METRICS_HISTOGRAM_SIGNIFICANT_DIGITS.getAsInt(this);
+    }
+
+    public int metricsHistogramRecords()
+    {
+        return ENGINE_METRICS_HISTOGRAM_RECORDS.getAsInt(this);
+    }
+
     public int maximumMessagesPerRead()
     {
         return ENGINE_MAXIMUM_MESSAGES_PER_READ.getAsInt(this);
@@ -463,6 +514,13 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BUFFER_SLOT_CAPACITY.get(config) * ENGINE_WORKER_CAPACITY.getAsInt(config);
     }
 
+    private static int defaultMetricsHistogramRecords(
+        Configuration config)
+    {
+        // log-linear records are hundreds of times larger than power of two records
+        return ENGINE_METRICS_HISTOGRAM_SIGNIFICANT_DIGITS.getAsInt(config) != 0 ? 128 : 2048;
+    }
+
     private static int defaultBudgetsBufferCapacity(
         Configuration config)
     {
@@ -39,6 +39,34 @@ public interface BufferPool
      */
     int acquire(long streamId);
 
+    /**
+     * Returns the capacity of the given slot
+     *
+     * @param slot  reference to a previously acquired slot
+     *
+     * @return the slot capacity
+     */
+    default int slotCapacity(
+        int slot)
+    {
+        return slotCapacity();
+    }
+
+    /**
+     * Reserves a slot of at least the requested capacity for use by the given stream
+     *
+     * @param streamId  the stream identifier
+     * @param capacity  the minimum slot capacity
+     *
+     * @return  reference to the acquired slot, or {@code NO_SLOT} if no slot of sufficient capacity is available
+     */
+    default int acquire(
+        long streamId,
+        int capacity)
+    {
+        return capacity <= slotCapacity() ? acquire(streamId) : NO_SLOT;
+    }
+
     /**
      * Returns a buffer which can be used to write data into the given slot
      *
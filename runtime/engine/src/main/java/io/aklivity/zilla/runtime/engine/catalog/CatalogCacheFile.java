@@ -0,0 +1,346 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.agrona.IoUtil.createEmptyFile;
+import static org.agrona.IoUtil.mapExistingFile;
+import static org.agrona.IoUtil.unmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.agrona.CloseHelper;
+import org.agrona.LangUtil;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * Memory-mapped, append-only record of schemas resolved by a remote catalog.
+ * <p>
+ * Remote catalogs such as {@code catalog-schema-registry} and {@code catalog-apicurio} use this file
+ * to reload schemas after a restart, so known schema ids are served without calling the registry.
+ * Schemas are stored by schema id. Subject/version lookups are stored by key, together with the
+ * time they were resolved, so the catalog can still apply its {@code maxAge}.
+ * </p>
+ * <p>
+ * Opening the file compacts it, keeping only the latest record for each key. An append that would exceed
+ * the capacity compacts the file again, through a staged copy that atomically replaces it, and is only
+ * dropped when the latest records alone still fill the file. Appends are thread-safe, so one file can be
+ * shared by all workers.
+ * </p>
+ */
+public final class CatalogCacheFile implements AutoCloseable
+{
+    private static final int MAGIC = 0x7a637363;
+    private static final int VERSION = 1;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = OFFSET_MAGIC + Integer.BYTES;
+    private static final int SIZEOF_HEADER = OFFSET_VERSION + Integer.BYTES;
+
+    private static final int OFFSET_LENGTH = 0;
+    private static final int OFFSET_KIND = OFFSET_LENGTH + Integer.BYTES;
+    private static final int OFFSET_KEY = OFFSET_KIND + Integer.BYTES;
+    private static final int OFFSET_VALUE = OFFSET_KEY + Integer.BYTES;
+    private static final int OFFSET_TIMESTAMP = OFFSET_VALUE + Integer.BYTES;
+    private static final int OFFSET_PAYLOAD = OFFSET_TIMESTAMP + Long.BYTES;
+
+    private static final int KIND_SCHEMA = 1;
+    private static final int KIND_SCHEMA_ID = 2;
+
+    private final Path path;
+    private final int capacity;
+
+    private AtomicBufferEx buffer;
+    private int limit;
+    private int compactedLimit;
+
+    /**
+     * Opens the cache file at the given path, creating it if needed.
+     *
+     * @param path      the location of the cache file
+     * @param capacity  the maximum size of the cache file in bytes
+     */
+    public CatalogCacheFile(
+        Path path,
+        int capacity)
+    {
+        final Map<Integer, String> schemas = new LinkedHashMap<>();
+        final Map<Integer, long[]> schemaIds = new LinkedHashMap<>();
+
+        if (Files.exists(path))
+        {
+            load(path, schemas, schemaIds);
+        }
+
+        this.path = path;
+        this.capacity = capacity;
+
+        rewrite(schemas, schemaIds);
+    }
+
+    /**
+     * Visits every schema in the cache file.
+     *
+     * @param consumer  receives the schema id and schema text
+     */
+    public synchronized void schemas(
+        SchemaConsumer consumer)
+    {
+        for (int offset = SIZEOF_HEADER; offset < limit; offset += buffer.getInt(offset + OFFSET_LENGTH))
+        {
+            if (buffer.getInt(offset + OFFSET_KIND) == KIND_SCHEMA)
+            {
+                final int length = buffer.getInt(offset + OFFSET_LENGTH) - OFFSET_PAYLOAD;
+                consumer.accept(buffer.getInt(offset + OFFSET_KEY),
+                    buffer.getStringWithoutLengthUtf8(offset + OFFSET_PAYLOAD, length));
+            }
+        }
+    }
+
+    /**
+     * Visits every subject/version lookup in the cache file.
+     *
+     * @param consumer  receives the lookup key, resolve time, and schema id
+     */
+    public synchronized void schemaIds(
+        SchemaIdConsumer consumer)
+    {
+        for (int offset = SIZEOF_HEADER; offset < limit; offset += buffer.getInt(offset + OFFSET_LENGTH))
+        {
+            if (buffer.getInt(offset + OFFSET_KIND) == KIND_SCHEMA_ID)
+            {
+                consumer.accept(buffer.getInt(offset + OFFSET_KEY), buffer.getLong(offset + OFFSET_TIMESTAMP),
+                    buffer.getInt(offset + OFFSET_VALUE));
+            }
+        }
+    }
+
+    /**
+     * Appends a resolved schema.
+     *
+     * @param schemaId   the schema id
+     * @param timestamp  the time the schema was resolved, in milliseconds
+     * @param schema     the schema text
+     * @return {@code true} if the schema was appended, or {@code false} if the file is full
+     */
+    public boolean putSchema(
+        int schemaId,
+        long timestamp,
+        String schema)
+    {
+        return append(KIND_SCHEMA, schemaId, 0, timestamp, schema.getBytes(UTF_8));
+    }
+
+    /**
+     * Appends a resolved subject/version lookup.
+     *
+     * @param key        the lookup key derived from the subject and version
+     * @param timestamp  the time the lookup was resolved, in milliseconds
+     * @param schemaId   the resolved schema id
+     * @return {@code true} if the lookup was appended, or {@code false} if the file is full
+     */
+    public boolean putSchemaId(
+        int key,
+        long timestamp,
+        int schemaId)
+    {
+        return append(KIND_SCHEMA_ID, key, schemaId, timestamp, null);
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        if (buffer != null)
+        {
+            unmap(buffer.byteBuffer());
+            buffer = null;
+            limit = SIZEOF_HEADER;
+        }
+    }
+
+    private synchronized boolean append(
+        int kind,
+        int key,
+        int value,
+        long timestamp,
+        byte[] payload)
+    {
+        final int length = OFFSET_PAYLOAD + (payload != null ? payload.length : 0);
+
+        if (buffer != null &&
+            limit + length > capacity &&
+            limit > compactedLimit)
+        {
+            compact();
+        }
+
+        final boolean appendable = buffer != null && limit + length <= capacity;
+
+        if (appendable)
+        {
+            final int offset = limit;
+            buffer.putInt(offset + OFFSET_KIND, kind);
+            buffer.putInt(offset + OFFSET_KEY, key);
+            buffer.putInt(offset + OFFSET_VALUE, value);
+            buffer.putLong(offset + OFFSET_TIMESTAMP, timestamp);
+            if (payload != null)
+            {
+                buffer.putBytes(offset + OFFSET_PAYLOAD, payload);
+            }
+            buffer.putIntOrdered(offset + OFFSET_LENGTH, length);
+            limit += length;
+        }
+
+        return appendable;
+    }
+
+    private void compact()
+    {
+        final Map<Integer, String> schemas = new LinkedHashMap<>();
+        final Map<Integer, long[]> schemaIds = new LinkedHashMap<>();
+
+        collect(buffer, limit, schemas, schemaIds);
+        rewrite(schemas, schemaIds);
+    }
+
+    private void rewrite(
+        Map<Integer, String> schemas,
+        Map<Integer, long[]> schemaIds)
+    {
+        final File file = path.toFile();
+        final File staging = path.resolveSibling(path.getFileName() + ".tmp").toFile();
+
+        try
+        {
+            Files.createDirectories(path.getParent());
+            CloseHelper.close(createEmptyFile(staging, capacity));
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        final AtomicBufferEx previous = buffer;
+
+        this.buffer = new UnsafeBufferEx(mapExistingFile(staging, "catalog cache")).asNative();
+        buffer.putInt(OFFSET_MAGIC, MAGIC);
+        buffer.putInt(OFFSET_VERSION, VERSION);
+        this.limit = SIZEOF_HEADER;
+        this.compactedLimit = Integer.MAX_VALUE;
+
+        schemas.forEach((id, schema) -> append(KIND_SCHEMA, id, 0, 0L, schema.getBytes(UTF_8)));
+        schemaIds.forEach((key, entry) -> append(KIND_SCHEMA_ID, key, (int) entry[1], entry[0], null));
+
+        this.compactedLimit = limit;
+
+        try
+        {
+            Files.move(staging.toPath(), file.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        if (previous != null)
+        {
+            unmap(previous.byteBuffer());
+        }
+    }
+
+    private static void load(
+        Path path,
+        Map<Integer, String> schemas,
+        Map<Integer, long[]> schemaIds)
+    {
+        final File file = path.toFile();
+        final AtomicBufferEx existing = new UnsafeBufferEx(mapExistingFile(file, "catalog cache")).asNative();
+
+        try
+        {
+            final int capacity = existing.capacity();
+            if (capacity >= SIZEOF_HEADER &&
+                existing.getInt(OFFSET_MAGIC) == MAGIC &&
+                existing.getInt(OFFSET_VERSION) == VERSION)
+            {
+                collect(existing, capacity, schemas, schemaIds);
+            }
+        }
+        finally
+        {
+            unmap(existing.byteBuffer());
+        }
+    }
+
+    private static void collect(
+        AtomicBufferEx buffer,
+        int limit,
+        Map<Integer, String> schemas,
+        Map<Integer, long[]> schemaIds)
+    {
+        int offset = SIZEOF_HEADER;
+        while (offset + OFFSET_PAYLOAD <= limit)
+        {
+            final int length = buffer.getIntVolatile(offset + OFFSET_LENGTH);
+            if (length < OFFSET_PAYLOAD || offset + length > limit)
+            {
+                break;
+            }
+
+            final int key = buffer.getInt(offset + OFFSET_KEY);
+            switch (buffer.getInt(offset + OFFSET_KIND))
+            {
+            case KIND_SCHEMA:
+                schemas.put(key, buffer.getStringWithoutLengthUtf8(offset + OFFSET_PAYLOAD, length - OFFSET_PAYLOAD));
+                break;
+            case KIND_SCHEMA_ID:
+                schemaIds.remove(key);
+                schemaIds.put(key, new long[] {
+                    buffer.getLong(offset + OFFSET_TIMESTAMP),
+                    buffer.getInt(offset + OFFSET_VALUE)});
+                break;
+            }
+
+            offset += length;
+        }
+    }
+
+    @FunctionalInterface
+    public interface SchemaConsumer
+    {
+        void accept(
+            int schemaId,
+            String schema);
+    }
+
+    @FunctionalInterface
+    public interface SchemaIdConsumer
+    {
+        void accept(
+            int key,
+            long timestamp,
+            int schemaId);
+    }
+}
@@ -219,6 +219,10 @@ public interface CatalogHandler
 
     /**
      * Resolves the schema definition string for a given schema id.
+     * <p>
+     * Catalogs with remote lookups answer immediately once {@linkplain #prepare prepared}, otherwise they may
+     * wait for the lookup, bounded by the catalog request timeout.
+     * </p>
      *
      * @param schemaId  the schema id to resolve
      * @return the schema definition string, or {@code null} if not found
@@ -228,6 +232,9 @@ public interface CatalogHandler
 
     /**
      * Resolves the schema id for a given subject name and version string.
+     * <p>
+     * As with {@link #resolve(int)}, an unprepared lookup may wait up to the catalog request timeout.
+     * </p>
      *
      * @param subject  the subject name
      * @param version  the version string (e.g., {@code "latest"} or a numeric version)
@@ -237,6 +244,68 @@ public interface CatalogHandler
         String subject,
         String version);
 
+    /**
+     * Prepares the schema definition for a given schema id without blocking the calling thread.
+     * <p>
+     * Returns {@code true} when {@link #resolve(int)} can already answer, with the schema or with a
+     * settled {@code null}. Otherwise starts the lookup, returns {@code false}, and signals the given
+     * stream with {@code signalId} and {@code contextId} once the lookup settles, so the caller can park
+     * just that stream and prepare again on the signal. The default implementation returns {@code true}
+     * for catalogs that never need remote access.
+     * </p>
+     *
+     * @param schemaId   the schema id to prepare
+     * @param traceId    the trace identifier
+     * @param originId   the origin binding id of the stream to signal
+     * @param routedId   the routed binding id of the stream to signal
+     * @param streamId   the stream id to signal
+     * @param signalId   the signal identifier delivered to the stream
+     * @param contextId  the signal context delivered to the stream
+     * @return {@code true} if the schema is settled, {@code false} if the stream will be signaled
+     */
+    default boolean prepare(
+        int schemaId,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        return true;
+    }
+
+    /**
+     * Prepares the schema id for a given subject name and version string without blocking the calling thread.
+     * <p>
+     * Returns {@code true} when {@link #resolve(String, String)} can already answer. Otherwise starts the
+     * lookup, returns {@code false}, and signals the given stream with {@code signalId} and
+     * {@code contextId} once the lookup settles.
+     * </p>
+     *
+     * @param subject    the subject name
+     * @param version    the version string (e.g., {@code "latest"} or a numeric version)
+     * @param traceId    the trace identifier
+     * @param originId   the origin binding id of the stream to signal
+     * @param routedId   the routed binding id of the stream to signal
+     * @param streamId   the stream id to signal
+     * @param signalId   the signal identifier delivered to the stream
+     * @param contextId  the signal context delivered to the stream
+     * @return {@code true} if the schema id is settled, {@code false} if the stream will be signaled
+     */
+    default boolean prepare(
+        String subject,
+        String version,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        return true;
+    }
+
     /**
      * Attempts to extract a schema id embedded in the payload bytes themselves
      * (e.g., a Confluent-framed message with a magic byte + 4-byte schema id prefix).
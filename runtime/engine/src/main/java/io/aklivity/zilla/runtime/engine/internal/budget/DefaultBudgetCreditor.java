@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.budget;
 
+import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.BUDGET_WATCHERS_WORDS;
+import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.SIZEOF_BUDGET_WATCHERS;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetIdOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetRemainingOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetWatchersOffset;
@@ -36,7 +38,7 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
 {
     public interface BudgetFlusher
     {
-        void flush(long traceId, long budgetId, long watchers);
+        void flush(long traceId, long budgetId, int watcherBase, long watchers);
     }
 
     private final long budgetMask;
@@ -100,7 +102,7 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
             if (storage.compareAndSetLong(budgetIdOffset, 0L, budgetId))
             {
                 storage.putLong(budgetRemainingOffset(index), 0L);
-                storage.putLong(budgetWatchersOffset(index), 0L);
+                storage.setMemory(budgetWatchersOffset(index), SIZEOF_BUDGET_WATCHERS, (byte) 0);
                 budgetIndex = budgetMask | (long) index;
                 break;
             }
@@ -145,11 +147,15 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
                     System.nanoTime(), traceId, budgetId, credit, previous, previous + credit);
         }
 
-        final long watchers = storage.getLongVolatile(budgetWatchersOffset(index));
-        if (watchers != 0)
+        final int watchersOffset = budgetWatchersOffset(index);
+        for (int word = 0; word < BUDGET_WATCHERS_WORDS; word++)
         {
-            final long budgetId = storage.getLong(budgetIdOffset(index));
-            flusher.flush(traceId, budgetId, watchers);
+            final long watchers = storage.getLongVolatile(watchersOffset + word * Long.BYTES);
+            if (watchers != 0)
+            {
+                final long budgetId = storage.getLong(budgetIdOffset(index));
+                flusher.flush(traceId, budgetId, word * Long.SIZE, watchers);
+            }
         }
 
         return previous;
@@ -169,7 +175,11 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
 
         final long budgetId = storage.getAndSetLong(budgetIdOffset(index), 0L);
         storage.putLong(budgetRemainingOffset(index), 0L);
-        storage.putLongOrdered(budgetWatchersOffset(index), 0L);
+        final int watchersOffset = budgetWatchersOffset(index);
+        for (int word = 0; word < BUDGET_WATCHERS_WORDS; word++)
+        {
+            storage.putLongOrdered(watchersOffset + word * Long.BYTES, 0L);
+        }
 
         assert budgetId != 0L;
 
@@ -247,9 +257,17 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
     void watchers(
         long budgetIndex,
         long watchers)
+    {
+        watchers(budgetIndex, 0, watchers);
+    }
+
+    void watchers(
+        long budgetIndex,
+        int watcherBase,
+        long watchers)
     {
         assert (budgetIndex & budgetMask) == budgetMask;
         final int index = (int) (budgetIndex & ~budgetMask);
-        storage.putLongVolatile(budgetWatchersOffset(index), watchers);
+        storage.putLongVolatile(budgetWatchersOffset(index, watcherBase), watchers);
     }
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.buffer;
+
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static org.agrona.BitUtil.isPowerOfTwo;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+
+/**
+ * A chunk of shared memory for temporary storage of data, segmented into size classes of power of two
+ * slot capacity. The size class of the default slot capacity receives a configured share of the pool and
+ * the remaining size classes split the rest equally, so small slots are plentiful while large slots remain
+ * available for streams that need them.
+ * <p>
+ * Slots are acquired either by requested capacity or, without a capacity, by the configured default slot
+ * capacity, choosing the smallest sufficient size class with a free slot and falling back to larger size
+ * classes when it is exhausted. Each size class keeps a free list so that acquire and release take constant
+ * time, and reports its occupancy to an optional recorder as slots are acquired and released.
+ * </p>
+ * <b>Each instance of this class is assumed to be used by one and only one thread.</b>
+ */
+public class SlabBufferPool implements BufferPool
+{
+    private static final int SLOT_CLASS_SHIFT = 24;
+    private static final int SLOT_INDEX_MASK = (1 << SLOT_CLASS_SHIFT) - 1;
+
+    private final MutableDirectBufferEx slotBuffer = new UnsafeBufferEx(new byte[0]);
+
+    private final int minSlotShift;
+    private final int defaultSizeClass;
+    private final AtomicBufferEx poolBuffer;
+    private final ByteBuffer slotByteBuffer;
+
+    private final int[] slotOffsets;
+    private final int[] slotCounts;
+    private final int[][] nextFree;
+    private final int[] freeHeads;
+    private final int[] acquired;
+    private final LongConsumer[] recorders;
+
+    public SlabBufferPool(
+        int poolCapacity,
+        int minSlotCapacity,
+        int maxSlotCapacity,
+        int slotCapacity,
+        double defaultShare)
+    {
+        this(minSlotCapacity, maxSlotCapacity, slotCapacity, defaultShare, ByteBuffer.allocateDirect(poolCapacity));
+    }
+
+    public SlabBufferPool(
+        int minSlotCapacity,
+        int maxSlotCapacity,
+        int slotCapacity,
+        double defaultShare,
+        ByteBuffer poolByteBuffer)
+    {
+        if (!isPowerOfTwo(minSlotCapacity) || !isPowerOfTwo(maxSlotCapacity) || !isPowerOfTwo(slotCapacity))
+        {
+            throw new IllegalArgumentException("slot capacities are not powers of 2");
+        }
+        if (minSlotCapacity > maxSlotCapacity ||
+            slotCapacity < minSlotCapacity ||
+            slotCapacity > maxSlotCapacity)
+        {
+            throw new IllegalArgumentException("slotCapacity not between minSlotCapacity and maxSlotCapacity");
+        }
+        if (defaultShare <= 0.0 || defaultShare > 1.0)
+        {
+            throw new IllegalArgumentException("defaultShare not between 0 (exclusive) and 1 (inclusive)");
+        }
+
+        final int minSlotShift = numberOfTrailingZeros(minSlotCapacity);
+        final int sizeClasses = numberOfTrailingZeros(maxSlotCapacity) - minSlotShift + 1;
+        final int defaultSizeClass = numberOfTrailingZeros(slotCapacity) - minSlotShift;
+        final long poolCapacity = poolByteBuffer.capacity();
+        final long defaultCapacity = sizeClasses > 1 ? (long) (poolCapacity * defaultShare) : poolCapacity;
+        final long sizeClassCapacity = sizeClasses > 1 ? (poolCapacity - defaultCapacity) / (sizeClasses - 1) : 0L;
+
+        this.minSlotShift = minSlotShift;
+        this.defaultSizeClass = defaultSizeClass;
+        this.poolBuffer = new UnsafeBufferEx(poolByteBuffer).asNative();
+        this.slotByteBuffer = poolByteBuffer.duplicate();
+        this.slotOffsets = new int[sizeClasses];
+        this.slotCounts = new int[sizeClasses];
+        this.nextFree = new int[sizeClasses][];
+        this.freeHeads = new int[sizeClasses];
+        this.acquired = new int[sizeClasses];
+        this.recorders = new LongConsumer[sizeClasses];
+        Arrays.fill(recorders, (LongConsumer) v -> {});
+
+        int slotOffset = 0;
+        for (int sizeClass = 0; sizeClass < sizeClasses; sizeClass++)
+        {
+            final long capacity = sizeClass == defaultSizeClass ? defaultCapacity : sizeClassCapacity;
+            final int slotCount = (int) Math.min(capacity >>> (minSlotShift + sizeClass), SLOT_INDEX_MASK);
+            final int[] next = new int[slotCount];
+            Arrays.setAll(next, i -> i + 1 < slotCount ? i + 1 : NO_SLOT);
+
+            slotOffsets[sizeClass] = slotOffset;
+            slotCounts[sizeClass] = slotCount;
+            nextFree[sizeClass] = next;
+            freeHeads[sizeClass] = slotCount != 0 ? 0 : NO_SLOT;
+
+            slotOffset += slotCount << (minSlotShift + sizeClass);
+        }
+    }
+
+    @Override
+    public int slotCapacity()
+    {
+        return sizeClassCapacity(defaultSizeClass);
+    }
+
+    @Override
+    public int slotCapacity(
+        int slot)
+    {
+        return sizeClassCapacity(slot >>> SLOT_CLASS_SHIFT);
+    }
+
+    @Override
+    public int acquire(
+        long streamId)
+    {
+        return acquire(streamId, sizeClassCapacity(defaultSizeClass));
+    }
+
+    @Override
+    public int acquire(
+        long streamId,
+        int capacity)
+    {
+        int slot = NO_SLOT;
+
+        if (capacity <= sizeClassCapacity(slotCounts.length - 1))
+        {
+            final int minSizeClass = Math.max(Integer.SIZE - numberOfLeadingZeros(Math.max(capacity, 1) - 1) - minSlotShift, 0);
+
+            for (int sizeClass = minSizeClass; slot == NO_SLOT && sizeClass < slotCounts.length; sizeClass++)
+            {
+                slot = acquire(sizeClass);
+            }
+        }
+
+        return slot;
+    }
+
+    @Override
+    public MutableDirectBufferEx buffer(
+        int slot)
+    {
+        assert acquired(slot);
+        slotBuffer.wrap(poolBuffer, slotOffset(slot), slotCapacity(slot));
+        return slotBuffer;
+    }
+
+    @Override
+    public ByteBuffer byteBuffer(
+        int slot)
+    {
+        assert acquired(slot);
+        final int slotOffset = slotOffset(slot);
+        slotByteBuffer.clear();
+        slotByteBuffer.position(slotOffset);
+        slotByteBuffer.limit(slotOffset + slotCapacity(slot));
+        return slotByteBuffer;
+    }
+
+    @Override
+    public MutableDirectBufferEx buffer(
+        int slot,
+        int offset)
+    {
+        assert acquired(slot);
+        slotBuffer.wrap(poolBuffer, slotOffset(slot) + offset, slotCapacity(slot) - offset);
+        return slotBuffer;
+    }
+
+    @Override
+    public void release(
+        int slot)
+    {
+        assert acquired(slot);
+        final int sizeClass = slot >>> SLOT_CLASS_SHIFT;
+        final int index = slot & SLOT_INDEX_MASK;
+
+        nextFree[sizeClass][index] = freeHeads[sizeClass];
+        freeHeads[sizeClass] = index;
+        acquired[sizeClass]--;
+        recorders[sizeClass].accept(acquired[sizeClass]);
+    }
+
+    @Override
+    public BufferPool duplicate()
+    {
+        return new SlabBufferPool(this);
+    }
+
+    @Override
+    public int acquiredSlots()
+    {
+        int acquiredSlots = 0;
+        for (int sizeClass = 0; sizeClass < acquired.length; sizeClass++)
+        {
+            acquiredSlots += acquired[sizeClass];
+        }
+        return acquiredSlots;
+    }
+
+    /**
+     * Returns the number of size classes in this buffer pool.
+     *
+     * @return  the number of size classes
+     */
+    public int sizeClasses()
+    {
+        return slotCounts.length;
+    }
+
+    /**
+     * Returns the capacity of each slot in the given size class.
+     *
+     * @param sizeClass  the size class, from {@code 0} for the smallest slots
+     *
+     * @return  the slot capacity of the size class
+     */
+    public int sizeClassCapacity(
+        int sizeClass)
+    {
+        return 1 << (minSlotShift + sizeClass);
+    }
+
+    /**
+     * Returns the number of slots in the given size class.
+     *
+     * @param sizeClass  the size class, from {@code 0} for the smallest slots
+     *
+     * @return  the number of slots in the size class
+     */
+    public int slotCount(
+        int sizeClass)
+    {
+        return slotCounts[sizeClass];
+    }
+
+    /**
+     * Returns the number of slots currently reserved in the given size class.
+     *
+     * @param sizeClass  the size class, from {@code 0} for the smallest slots
+     *
+     * @return  the number of reserved slots in the size class
+     */
+    public int acquiredSlots(
+        int sizeClass)
+    {
+        return acquired[sizeClass];
+    }
+
+    /**
+     * Records the number of slots reserved in the given size class each time it changes.
+     *
+     * @param sizeClass  the size class, from {@code 0} for the smallest slots
+     * @param recorder   the recorder of reserved slots, such as a gauge writer
+     */
+    public void recordAcquiredSlots(
+        int sizeClass,
+        LongConsumer recorder)
+    {
+        recorders[sizeClass] = recorder;
+        recorder.accept(acquired[sizeClass]);
+    }
+
+    public DirectBufferEx poolBuffer()
+    {
+        return poolBuffer;
+    }
+
+    private SlabBufferPool(
+        SlabBufferPool that)
+    {
+        this.minSlotShift = that.minSlotShift;
+        this.defaultSizeClass = that.defaultSizeClass;
+        this.poolBuffer = that.poolBuffer;
+        this.slotByteBuffer = that.slotByteBuffer.duplicate();
+        this.slotOffsets = that.slotOffsets;
+        this.slotCounts = that.slotCounts;
+        this.nextFree = that.nextFree;
+        this.freeHeads = that.freeHeads;
+        this.acquired = that.acquired;
+        this.recorders = that.recorders;
+    }
+
+    private int acquire(
+        int sizeClass)
+    {
+        final int index = freeHeads[sizeClass];
+        int slot = NO_SLOT;
+
+        if (index != NO_SLOT)
+        {
+            freeHeads[sizeClass] = nextFree[sizeClass][index];
+            nextFree[sizeClass][index] = index;
+            acquired[sizeClass]++;
+            recorders[sizeClass].accept(acquired[sizeClass]);
+            slot = (sizeClass << SLOT_CLASS_SHIFT) | index;
+        }
+
+        return slot;
+    }
+
+    private int slotOffset(
+        int slot)
+    {
+        final int sizeClass = slot >>> SLOT_CLASS_SHIFT;
+        final int index = slot & SLOT_INDEX_MASK;
+
+        return slotOffsets[sizeClass] + (index << (minSlotShift + sizeClass));
+    }
+
+    private boolean acquired(
+        int slot)
+    {
+        final int sizeClass = slot >>> SLOT_CLASS_SHIFT;
+        final int index = slot & SLOT_INDEX_MASK;
+
+        return sizeClass < slotCounts.length &&
+            index < slotCounts[sizeClass] &&
+            nextFree[sizeClass][index] == index;
+    }
+}
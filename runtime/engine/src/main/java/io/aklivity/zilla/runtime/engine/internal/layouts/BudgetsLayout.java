@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.layouts;
 
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.MAX_WORKERS;
 import static java.lang.Integer.numberOfTrailingZeros;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.agrona.BitUtil.align;
@@ -42,7 +43,8 @@ public final class BudgetsLayout implements AutoCloseable
     public static final int SIZEOF_BUDGET_REMAINING = Long.BYTES;
     public static final int LIMIT_BUDGET_REMAINING = OFFSET_BUDGET_REMAINING + SIZEOF_BUDGET_REMAINING;
     public static final int OFFSET_BUDGET_WATCHERS = LIMIT_BUDGET_REMAINING;
-    public static final int SIZEOF_BUDGET_WATCHERS = Long.BYTES;
+    public static final int BUDGET_WATCHERS_WORDS = MAX_WORKERS / Long.SIZE;
+    public static final int SIZEOF_BUDGET_WATCHERS = BUDGET_WATCHERS_WORDS * Long.BYTES;
     public static final int LIMIT_BUDGET_WATCHERS = OFFSET_BUDGET_WATCHERS + SIZEOF_BUDGET_WATCHERS;
 
     public static final int SIZEOF_BUDGET_ENTRY =
@@ -96,6 +98,13 @@ public final class BudgetsLayout implements AutoCloseable
         return budgetEntryOffset(index) + OFFSET_BUDGET_WATCHERS;
     }
 
+    public static int budgetWatchersOffset(
+        int index,
+        int watcherIndex)
+    {
+        return budgetWatchersOffset(index) + (watcherIndex / Long.SIZE) * Long.BYTES;
+    }
+
     private static int budgetEntryOffset(
         int index)
     {
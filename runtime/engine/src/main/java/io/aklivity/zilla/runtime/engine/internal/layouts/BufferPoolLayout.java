@@ -20,6 +20,7 @@ import static org.agrona.IoUtil.mapExistingFile;
 import static org.agrona.IoUtil.unmap;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Path;
 
@@ -27,15 +28,19 @@ import org.agrona.CloseHelper;
 
 import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
+import io.aklivity.zilla.runtime.engine.internal.buffer.SlabBufferPool;
 
 public final class BufferPoolLayout implements AutoCloseable
 {
-    private final DefaultBufferPool bufferPool;
+    private final BufferPool bufferPool;
+    private final ByteBuffer poolBuffer;
 
     private BufferPoolLayout(
-        DefaultBufferPool bufferPool)
+        BufferPool bufferPool,
+        ByteBuffer poolBuffer)
     {
         this.bufferPool = bufferPool;
+        this.poolBuffer = poolBuffer;
     }
 
     public BufferPool bufferPool()
@@ -46,7 +51,7 @@ public final class BufferPoolLayout implements AutoCloseable
     @Override
     public void close()
     {
-        unmap(bufferPool.poolBuffer().byteBuffer());
+        unmap(poolBuffer);
     }
 
     public static final class Builder
@@ -55,6 +60,10 @@ public final class BufferPoolLayout implements AutoCloseable
         private int slotCapacity;
         private Path path;
         private boolean readonly;
+        private boolean slab;
+        private int minSlotCapacity;
+        private int maxSlotCapacity;
+        private double defaultShare;
 
         public Builder slotCount(
             int slotCount)
@@ -70,6 +79,34 @@ public final class BufferPoolLayout implements AutoCloseable
             return this;
         }
 
+        public Builder slab(
+            boolean slab)
+        {
+            this.slab = slab;
+            return this;
+        }
+
+        public Builder minSlotCapacity(
+            int minSlotCapacity)
+        {
+            this.minSlotCapacity = minSlotCapacity;
+            return this;
+        }
+
+        public Builder maxSlotCapacity(
+            int maxSlotCapacity)
+        {
+            this.maxSlotCapacity = maxSlotCapacity;
+            return this;
+        }
+
+        public Builder defaultShare(
+            double defaultShare)
+        {
+            this.defaultShare = defaultShare;
+            return this;
+        }
+
         public Builder path(
             Path path)
         {
@@ -85,6 +122,25 @@ public final class BufferPoolLayout implements AutoCloseable
         }
 
         public BufferPoolLayout build()
+        {
+            return slab && !readonly ? buildSlab() : buildDefault();
+        }
+
+        private BufferPoolLayout buildSlab()
+        {
+            final File layoutFile = path.toFile();
+
+            CloseHelper.close(createEmptyFile(layoutFile, (long) slotCapacity * slotCount));
+
+            final MappedByteBuffer mapped = mapExistingFile(layoutFile, "bufferPool");
+
+            final SlabBufferPool bufferPool =
+                new SlabBufferPool(minSlotCapacity, maxSlotCapacity, slotCapacity, defaultShare, mapped);
+
+            return new BufferPoolLayout(bufferPool, mapped);
+        }
+
+        private BufferPoolLayout buildDefault()
         {
             final File layoutFile = path.toFile();
 
@@ -113,7 +169,7 @@ public final class BufferPoolLayout implements AutoCloseable
                 slotCapacity = slotCountIndex / slotCount - Long.BYTES;
             }
 
-            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, slotCount, mapped));
+            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, slotCount, mapped), mapped);
         }
     }
 }
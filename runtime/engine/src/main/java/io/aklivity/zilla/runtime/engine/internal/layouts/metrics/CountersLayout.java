@@ -36,7 +36,15 @@ public final class CountersLayout extends ScalarsLayout
         int kind)
     {
         int index = findOrSetPosition(bindingId, metricId, attributesId, kind);
-        return delta -> buffer.getAndAddLong(index + VALUE_OFFSET, delta);
+        return delta -> record(index + VALUE_OFFSET, delta);
+    }
+
+    private void record(
+        int valueOffset,
+        long delta)
+    {
+        // single writer per worker layout
+        buffer.putLongOrdered(valueOffset, buffer.getLong(valueOffset) + delta);
     }
 
     public static final class Builder extends ScalarsLayout.Builder
@@ -21,7 +21,6 @@ import static org.agrona.IoUtil.createEmptyFile;
 import static org.agrona.IoUtil.mapExistingFile;
 
 import java.io.File;
-import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
@@ -34,23 +33,35 @@ import org.agrona.CloseHelper;
 
 import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
 import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
 
 public final class HistogramsLayout extends MetricsLayout
 {
-    public static final int BUCKETS = 63;
-    public static final long[] BUCKET_LIMITS = generateBucketLimits();
+    public static final int BUCKETS = HistogramBuckets.POWER_OF_TWO.count();
+    public static final long[] BUCKET_LIMITS = HistogramBuckets.POWER_OF_TWO.limits();
 
     // Record: long bindingId (8) + int metricId (4) + int attributesId (4) + long kind (8)
-    //       + long[63] values (504) = 528 bytes
+    //       + long[buckets] values, 528 bytes for the 63 power of two buckets
     private static final int VALUES_OFFSET = VALUE_OFFSET;
-    private static final int ARRAY_SIZE = BUCKETS * FIELD_SIZE;
-    private static final int RECORD_SIZE = VALUES_OFFSET + ARRAY_SIZE;
     private static final LongSupplier ZERO_LONG_SUPPLIER = () -> 0L;
 
+    private final HistogramBuckets buckets;
+    private final int arraySize;
+    private final int recordSize;
+
     private HistogramsLayout(
-        AtomicBufferEx buffer)
+        AtomicBufferEx buffer,
+        HistogramBuckets buckets)
     {
         super(buffer);
+        this.buckets = buckets;
+        this.arraySize = buckets.count() * FIELD_SIZE;
+        this.recordSize = recordSize(buckets);
+    }
+
+    public HistogramBuckets buckets()
+    {
+        return buckets;
     }
 
     @Override
@@ -61,7 +72,14 @@ public final class HistogramsLayout extends MetricsLayout
         int kind)
     {
         int index = findOrSetPosition(bindingId, metricId, attributesId, kind);
-        return value -> buffer.getAndAddLong(index + VALUES_OFFSET + findBucket(value) * FIELD_SIZE, 1);
+        return value -> record(index + VALUES_OFFSET + buckets.index(value) * FIELD_SIZE);
+    }
+
+    private void record(
+        int bucketOffset)
+    {
+        // single writer per worker layout
+        buffer.putLongOrdered(bucketOffset, buffer.getLong(bucketOffset) + 1L);
     }
 
     @Override
@@ -83,14 +101,14 @@ public final class HistogramsLayout extends MetricsLayout
         int index = findPosition(bindingId, metricId, attributesId);
         if (index == -1) // not found
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets.count())
                     .mapToObj(bucket -> ZERO_LONG_SUPPLIER)
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
         }
         else
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets.count())
                     .mapToObj(bucket -> newLongSupplier(index + VALUES_OFFSET + bucket * FIELD_SIZE))
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
@@ -98,13 +116,6 @@ public final class HistogramsLayout extends MetricsLayout
         return readers;
     }
 
-    private int findBucket(
-        long value)
-    {
-        assert value >= 0;
-        return Math.max(63 - Long.numberOfLeadingZeros(value), 0);
-    }
-
     private LongSupplier newLongSupplier(
         int index)
     {
@@ -120,28 +131,22 @@ public final class HistogramsLayout extends MetricsLayout
         int index)
     {
         buffer.putLong(index + BINDING_ID_OFFSET, bindingId);
-        buffer.putInt(index + METRIC_ID_OFFSET, metricId);
         buffer.putInt(index + ATTRIBUTES_ID_OFFSET, attributesId);
         buffer.putLong(index + KIND_OFFSET, kind);
-        ByteBuffer initialValues = ByteBuffer.allocate(ARRAY_SIZE); // all zeroes
-        buffer.putBytes(index + VALUES_OFFSET, initialValues.array());
+        buffer.setMemory(index + VALUES_OFFSET, arraySize, (byte) 0);
+        buffer.putIntOrdered(index + METRIC_ID_OFFSET, metricId);
     }
 
     @Override
     protected int recordSize()
     {
-        return RECORD_SIZE;
+        return recordSize;
     }
 
-    // exclusive upper limits of each bucket
-    private static long[] generateBucketLimits()
+    private static int recordSize(
+        HistogramBuckets buckets)
     {
-        long[] limits = new long[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
-        {
-            limits[i] = 1L << (i + 1);
-        }
-        return limits;
+        return VALUES_OFFSET + buckets.count() * FIELD_SIZE;
     }
 
     public static final class Builder
@@ -149,8 +154,10 @@ public final class HistogramsLayout extends MetricsLayout
         public static final String HISTOGRAMS_LABEL = "histograms";
 
         private long capacity;
+        private int records;
         private Path path;
         private boolean readonly;
+        private HistogramBuckets buckets = HistogramBuckets.POWER_OF_TWO;
 
         public Builder capacity(
             long capacity)
@@ -159,6 +166,13 @@ public final class HistogramsLayout extends MetricsLayout
             return this;
         }
 
+        public Builder records(
+            int records)
+        {
+            this.records = records;
+            return this;
+        }
+
         public Builder path(
             Path path)
         {
@@ -173,17 +187,25 @@ public final class HistogramsLayout extends MetricsLayout
             return this;
         }
 
+        public Builder buckets(
+            HistogramBuckets buckets)
+        {
+            this.buckets = buckets;
+            return this;
+        }
+
         public HistogramsLayout build()
         {
             final File layoutFile = path.toFile();
             if (!readonly)
             {
+                final long capacity = records != 0 ? (long) records * recordSize(buckets) : this.capacity;
                 CloseHelper.close(createEmptyFile(layoutFile, capacity));
             }
             FileChannel.MapMode mode = readonly ? READ_ONLY : READ_WRITE;
             MappedByteBuffer mappedBuffer = mapExistingFile(layoutFile, mode, HISTOGRAMS_LABEL);
             final AtomicBufferEx atomicBuffer = new UnsafeBufferEx(mappedBuffer).asNative();
-            return new HistogramsLayout(atomicBuffer);
+            return new HistogramsLayout(atomicBuffer, buckets);
         }
     }
 }
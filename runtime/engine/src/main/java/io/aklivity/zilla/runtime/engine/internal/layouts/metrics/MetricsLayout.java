@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.engine.internal.layouts.metrics;
 
 import static org.agrona.IoUtil.unmap;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -25,6 +26,7 @@ import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
 
 import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
 
@@ -42,12 +44,26 @@ public abstract class MetricsLayout implements AutoCloseable
     protected static final int FIELD_SIZE = BitUtil.SIZE_OF_LONG;
     protected static final int NOT_FOUND = -1;
 
+    private static final int INDEX_INITIAL_CAPACITY = 64;
+
     protected final AtomicBufferEx buffer;
 
+    private long[] indexBindingIds;
+    private long[] indexMetricIds;
+    private int[] indexPositions;
+    private int indexMask;
+    private int indexSize;
+    private int limit;
+
     protected MetricsLayout(
         AtomicBufferEx buffer)
     {
         this.buffer = buffer;
+        this.indexBindingIds = new long[INDEX_INITIAL_CAPACITY];
+        this.indexMetricIds = new long[INDEX_INITIAL_CAPACITY];
+        this.indexPositions = new int[INDEX_INITIAL_CAPACITY];
+        this.indexMask = INDEX_INITIAL_CAPACITY - 1;
+        Arrays.fill(indexPositions, NOT_FOUND);
     }
 
     @Override
@@ -79,44 +95,133 @@ public abstract class MetricsLayout implements AutoCloseable
         return findPosition(bindingId, metricId, attributesId, kind, true);
     }
 
-    private int findPosition(
+    private synchronized int findPosition(
         long bindingId,
         int metricId,
         int attributesId,
         int kind,
         boolean createIfEmpty)
     {
-        int pos = 0;
-        boolean done = false;
-        while (!done)
+        int pos = lookupPosition(bindingId, metricId, attributesId);
+        while (pos == NOT_FOUND)
         {
-            long b = buffer.getLong(pos + BINDING_ID_OFFSET);
-            int m = buffer.getInt(pos + METRIC_ID_OFFSET);
-            int a = buffer.getInt(pos + ATTRIBUTES_ID_OFFSET);
-            if (b == bindingId && m == metricId && a == attributesId)
-            {
-                done = true;
-            }
-            else if (isEmptySlot(m))
+            final int offset = limit;
+            if (offset + recordSize() > buffer.capacity())
             {
                 if (createIfEmpty)
                 {
-                    createRecord(bindingId, metricId, attributesId, kind, pos);
+                    throw new IndexOutOfBoundsException(String.format("%s full at %d records of %d bytes",
+                        getClass().getSimpleName(), indexSize, recordSize()));
                 }
-                else
+                break;
+            }
+
+            int m = buffer.getIntVolatile(offset + METRIC_ID_OFFSET);
+            long b = buffer.getLong(offset + BINDING_ID_OFFSET);
+            int a = buffer.getInt(offset + ATTRIBUTES_ID_OFFSET);
+            if (isEmptySlot(m))
+            {
+                if (!createIfEmpty)
                 {
-                    pos = NOT_FOUND;
+                    break;
                 }
-                done = true;
+
+                createRecord(bindingId, metricId, attributesId, kind, offset);
+                b = bindingId;
+                m = metricId;
+                a = attributesId;
             }
-            else
+
+            indexPosition(b, m, a, offset);
+            limit += recordSize();
+
+            if (b == bindingId && m == metricId && a == attributesId)
             {
-                pos += recordSize();
+                pos = offset;
             }
         }
         return pos;
     }
 
+    private int lookupPosition(
+        long bindingId,
+        int metricId,
+        int attributesId)
+    {
+        final long indexMetricId = indexMetricId(metricId, attributesId);
+
+        int slot = indexSlot(bindingId, metricId, attributesId);
+        while (indexPositions[slot] != NOT_FOUND &&
+            (indexBindingIds[slot] != bindingId || indexMetricIds[slot] != indexMetricId))
+        {
+            slot = (slot + 1) & indexMask;
+        }
+        return indexPositions[slot];
+    }
+
+    private void indexPosition(
+        long bindingId,
+        int metricId,
+        int attributesId,
+        int pos)
+    {
+        if ((indexSize + 1) << 1 > indexPositions.length)
+        {
+            resizeIndex(indexPositions.length << 1);
+        }
+
+        int slot = indexSlot(bindingId, metricId, attributesId);
+        while (indexPositions[slot] != NOT_FOUND)
+        {
+            slot = (slot + 1) & indexMask;
+        }
+
+        indexBindingIds[slot] = bindingId;
+        indexMetricIds[slot] = indexMetricId(metricId, attributesId);
+        indexPositions[slot] = pos;
+        indexSize++;
+    }
+
+    private void resizeIndex(
+        int capacity)
+    {
+        final long[] bindingIds = indexBindingIds;
+        final long[] metricIds = indexMetricIds;
+        final int[] positions = indexPositions;
+
+        indexBindingIds = new long[capacity];
+        indexMetricIds = new long[capacity];
+        indexPositions = new int[capacity];
+        indexMask = capacity - 1;
+        indexSize = 0;
+        Arrays.fill(indexPositions, NOT_FOUND);
+
+        for (int slot = 0; slot < positions.length; slot++)
+        {
+            if (positions[slot] != NOT_FOUND)
+            {
+                final int metricId = (int) (metricIds[slot] >>> Integer.SIZE);
+                final int attributesId = (int) metricIds[slot];
+                indexPosition(bindingIds[slot], metricId, attributesId, positions[slot]);
+            }
+        }
+    }
+
+    private int indexSlot(
+        long bindingId,
+        int metricId,
+        int attributesId)
+    {
+        return Hashing.hash(bindingId * 31L + indexMetricId(metricId, attributesId), indexMask);
+    }
+
+    private static long indexMetricId(
+        int metricId,
+        int attributesId)
+    {
+        return (long) metricId << Integer.SIZE | attributesId & 0xffff_ffffL;
+    }
+
     private boolean isEmptySlot(
         int metricId)
     {
@@ -168,7 +273,7 @@ public abstract class MetricsLayout implements AutoCloseable
 
         private boolean isBufferLeft()
         {
-            return index < buffer.capacity();
+            return index + recordSize() <= buffer.capacity();
         }
 
         private boolean isRecordLeft()
@@ -89,10 +89,10 @@ public abstract class ScalarsLayout extends MetricsLayout
         int index)
     {
         buffer.putLong(index + BINDING_ID_OFFSET, bindingId);
-        buffer.putInt(index + METRIC_ID_OFFSET, metricId);
         buffer.putInt(index + ATTRIBUTES_ID_OFFSET, attributesId);
         buffer.putLong(index + KIND_OFFSET, kind);
         buffer.putLong(index + VALUE_OFFSET, 0L);
+        buffer.putIntOrdered(index + METRIC_ID_OFFSET, metricId);
     }
 
     @Override
@@ -30,7 +30,9 @@ public class EngineMetricGroup implements MetricGroup
     private final Map<String, Supplier<Metric>> engineMetrics = Map.of(
         EngineWorkersUsageMetric.NAME, EngineWorkersUsageMetric::new,
         EngineWorkersCapacityMetric.NAME, EngineWorkersCapacityMetric::new,
-        EngineWorkersCountMetric.NAME, EngineWorkersCountMetric::new
+        EngineWorkersCountMetric.NAME, EngineWorkersCountMetric::new,
+        EngineBuffersSlotsMetric.NAME, EngineBuffersSlotsMetric::new,
+        EngineBuffersAcquiredMetric.NAME, EngineBuffersAcquiredMetric::new
     );
 
     public EngineMetricGroup(
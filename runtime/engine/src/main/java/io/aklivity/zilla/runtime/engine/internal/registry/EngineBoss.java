@@ -189,6 +189,15 @@ public class EngineBoss implements EngineController, Agent
         return attachedTask.future();
     }
 
+    CompletableFuture<Void> update(
+        NamespaceUpdate update)
+    {
+        NamespaceTask updatedTask = new NamespaceTask(update.next, n -> updateNamespace(update));
+        taskQueue.offer(updatedTask);
+
+        return updatedTask.future();
+    }
+
     public void detachNow(
         NamespaceConfig namespace)
     {
@@ -248,4 +257,29 @@ public class EngineBoss implements EngineController, Agent
 
         namespaces.remove(namespace);
     }
+
+    private void updateNamespace(
+        NamespaceUpdate update)
+    {
+        for (BindingConfig binding : update.detachedBindings)
+        {
+            BindingController controller = controllersByType.get(binding.type);
+            if (controller != null)
+            {
+                controller.detach(binding);
+            }
+        }
+
+        namespaces.remove(update.previous);
+        namespaces.add(update.next);
+
+        for (BindingConfig binding : update.attachedBindings)
+        {
+            BindingController controller = controllersByType.get(binding.type);
+            if (controller != null && binding.kind == KindConfig.SERVER)
+            {
+                controller.attach(binding);
+            }
+        }
+    }
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import io.aklivity.zilla.config.engine.BindingConfig;
+import io.aklivity.zilla.config.engine.EngineConfig;
+import io.aklivity.zilla.config.engine.EngineConfigBuilder;
+import io.aklivity.zilla.config.engine.EngineConfigWriter;
+import io.aklivity.zilla.config.engine.ExporterConfig;
+import io.aklivity.zilla.config.engine.NamespaceConfig;
+import io.aklivity.zilla.runtime.common.yaml.json.YamlJson;
+
+/**
+ * Structural diff between two engine configurations, used to reconfigure the engine incrementally.
+ * <p>
+ * Namespaces, bindings and exporters are compared by name using both their written form and their source
+ * document, so only those that were added, removed or modified need to be detached and attached. The source
+ * document covers options that are read but not written back, while the written form covers values that
+ * change through expression resolution. Guards, vaults, catalogs, stores and telemetry metrics can be
+ * referenced by name from any binding, so a change to any of them cannot be applied incrementally.
+ * </p>
+ */
+final class EngineConfigDiff
+{
+    private static final String BINDINGS_NAME = "bindings";
+    private static final String GUARDS_NAME = "guards";
+    private static final String VAULTS_NAME = "vaults";
+    private static final String CATALOGS_NAME = "catalogs";
+    private static final String STORES_NAME = "stores";
+    private static final String TELEMETRY_NAME = "telemetry";
+    private static final String EXPORTERS_NAME = "exporters";
+    private static final String NAME_NAME = "name";
+
+    private static final List<String> RESOURCES_NAMES = List.of(GUARDS_NAME, VAULTS_NAME, CATALOGS_NAME, STORES_NAME);
+
+    final EngineConfig config;
+    final List<NamespaceConfig> detached;
+    final List<NamespaceConfig> attached;
+    final List<NamespaceUpdate> updated;
+
+    private EngineConfigDiff(
+        EngineConfig config,
+        List<NamespaceConfig> detached,
+        List<NamespaceConfig> attached,
+        List<NamespaceUpdate> updated)
+    {
+        this.config = config;
+        this.detached = detached;
+        this.attached = attached;
+        this.updated = updated;
+    }
+
+    boolean isEmpty()
+    {
+        return detached.isEmpty() && attached.isEmpty() && updated.isEmpty();
+    }
+
+    /**
+     * Computes the diff between the previous and next configuration.
+     *
+     * @param writer        writes each namespace for comparison
+     * @param previous      the attached configuration
+     * @param previousText  the source text of the attached configuration
+     * @param next          the new configuration
+     * @param nextText      the source text of the new configuration
+     * @return the diff, or {@code null} if the configuration cannot be changed incrementally
+     */
+    static EngineConfigDiff of(
+        EngineConfigWriter writer,
+        EngineConfig previous,
+        String previousText,
+        EngineConfig next,
+        String nextText)
+    {
+        final JsonProvider provider = YamlJson.provider();
+        final Map<String, NamespaceConfig> previousByName = new LinkedHashMap<>();
+        final Map<String, JsonObject> previousJsonByName = new LinkedHashMap<>();
+        final Map<String, JsonObject> nextJsonByName = new LinkedHashMap<>();
+        final Map<String, JsonObject> previousSourceByName = sources(provider, previousText);
+        final Map<String, JsonObject> nextSourceByName = sources(provider, nextText);
+
+        previous.namespaces.forEach(n -> previousByName.put(n.name, n));
+        previous.namespaces.forEach(n -> previousJsonByName.put(n.name, write(writer, provider, n)));
+        next.namespaces.forEach(n -> nextJsonByName.put(n.name, write(writer, provider, n)));
+
+        EngineConfigDiff diff = null;
+
+        if (previousJsonByName.size() == previous.namespaces.size() &&
+            nextJsonByName.size() == next.namespaces.size() &&
+            previousSourceByName != null &&
+            nextSourceByName != null &&
+            previousSourceByName.keySet().equals(previousJsonByName.keySet()) &&
+            nextSourceByName.keySet().equals(nextJsonByName.keySet()) &&
+            resourcesUnchanged(provider, previousJsonByName, nextJsonByName) &&
+            resourcesUnchanged(provider, previousSourceByName, nextSourceByName))
+        {
+            final EngineConfigBuilder<EngineConfig> config = EngineConfig.builder();
+            final List<NamespaceConfig> detached = new ArrayList<>();
+            final List<NamespaceConfig> attached = new ArrayList<>();
+            final List<NamespaceUpdate> updated = new ArrayList<>();
+
+            for (NamespaceConfig namespace : next.namespaces)
+            {
+                final NamespaceConfig previousNamespace = previousByName.get(namespace.name);
+                final JsonObject previousJson = previousJsonByName.get(namespace.name);
+                final JsonObject nextJson = nextJsonByName.get(namespace.name);
+                final JsonObject previousSource = previousSourceByName.get(namespace.name);
+                final JsonObject nextSource = nextSourceByName.get(namespace.name);
+
+                if (previousNamespace == null)
+                {
+                    attached.add(namespace);
+                    config.namespace(namespace);
+                }
+                else if (previousJson.equals(nextJson) &&
+                    previousSource.equals(nextSource))
+                {
+                    config.namespace(previousNamespace);
+                }
+                else
+                {
+                    updated.add(update(previousNamespace, previousJson, previousSource, namespace, nextJson, nextSource));
+                    config.namespace(namespace);
+                }
+            }
+
+            previous.namespaces.stream()
+                .filter(n -> !nextJsonByName.containsKey(n.name))
+                .forEach(detached::add);
+
+            diff = new EngineConfigDiff(config.build(), detached, attached, updated);
+        }
+
+        return diff;
+    }
+
+    private static NamespaceUpdate update(
+        NamespaceConfig previous,
+        JsonObject previousJson,
+        JsonObject previousSource,
+        NamespaceConfig next,
+        JsonObject nextJson,
+        JsonObject nextSource)
+    {
+        final JsonObject previousBindings = members(previousJson, BINDINGS_NAME);
+        final JsonObject nextBindings = members(nextJson, BINDINGS_NAME);
+        final JsonObject previousSourceBindings = members(previousSource, BINDINGS_NAME);
+        final JsonObject nextSourceBindings = members(nextSource, BINDINGS_NAME);
+        final JsonObject previousExporters = members(members(previousJson, TELEMETRY_NAME), EXPORTERS_NAME);
+        final JsonObject nextExporters = members(members(nextJson, TELEMETRY_NAME), EXPORTERS_NAME);
+        final JsonObject previousSourceExporters = members(members(previousSource, TELEMETRY_NAME), EXPORTERS_NAME);
+        final JsonObject nextSourceExporters = members(members(nextSource, TELEMETRY_NAME), EXPORTERS_NAME);
+
+        final List<BindingConfig> detachedBindings = new ArrayList<>();
+        final List<BindingConfig> attachedBindings = new ArrayList<>();
+        final List<ExporterConfig> detachedExporters = new ArrayList<>();
+        final List<ExporterConfig> attachedExporters = new ArrayList<>();
+
+        previous.bindings.stream()
+            .filter(b -> changed(b.name, previousBindings, nextBindings, previousSourceBindings, nextSourceBindings))
+            .forEach(detachedBindings::add);
+        next.bindings.stream()
+            .filter(b -> changed(b.name, previousBindings, nextBindings, previousSourceBindings, nextSourceBindings))
+            .forEach(attachedBindings::add);
+
+        previous.telemetry.exporters.stream()
+            .filter(e -> changed(e.name, previousExporters, nextExporters, previousSourceExporters, nextSourceExporters))
+            .forEach(detachedExporters::add);
+        next.telemetry.exporters.stream()
+            .filter(e -> changed(e.name, previousExporters, nextExporters, previousSourceExporters, nextSourceExporters))
+            .forEach(attachedExporters::add);
+
+        return new NamespaceUpdate(previous, next, detachedBindings, attachedBindings, detachedExporters, attachedExporters);
+    }
+
+    private static boolean changed(
+        String name,
+        JsonObject previous,
+        JsonObject next,
+        JsonObject previousSource,
+        JsonObject nextSource)
+    {
+        return !Objects.equals(previous.get(name), next.get(name)) ||
+            !Objects.equals(previousSource.get(name), nextSource.get(name));
+    }
+
+    private static boolean resourcesUnchanged(
+        JsonProvider provider,
+        Map<String, JsonObject> previousJsonByName,
+        Map<String, JsonObject> nextJsonByName)
+    {
+        final Set<String> names = new LinkedHashSet<>(previousJsonByName.keySet());
+        names.addAll(nextJsonByName.keySet());
+
+        return names.stream()
+            .allMatch(n -> resources(provider, previousJsonByName.get(n)).equals(resources(provider, nextJsonByName.get(n))));
+    }
+
+    private static JsonObject resources(
+        JsonProvider provider,
+        JsonObject namespace)
+    {
+        final JsonObjectBuilder resources = provider.createObjectBuilder();
+
+        for (String name : RESOURCES_NAMES)
+        {
+            resources.add(name, members(namespace, name));
+        }
+
+        final JsonObject telemetry = members(namespace, TELEMETRY_NAME);
+        telemetry.forEach((name, value) ->
+        {
+            if (!EXPORTERS_NAME.equals(name))
+            {
+                resources.add(TELEMETRY_NAME + "." + name, value);
+            }
+        });
+
+        return resources.build();
+    }
+
+    private static JsonObject members(
+        JsonObject object,
+        String name)
+    {
+        final JsonValue value = object != null ? object.get(name) : null;
+
+        return value instanceof JsonObject ? (JsonObject) value : JsonValue.EMPTY_JSON_OBJECT;
+    }
+
+    private static JsonObject write(
+        EngineConfigWriter writer,
+        JsonProvider provider,
+        NamespaceConfig namespace)
+    {
+        try (JsonReader reader = provider.createReader(new StringReader(writer.write(namespace))))
+        {
+            return reader.readObject();
+        }
+    }
+
+    private static Map<String, JsonObject> sources(
+        JsonProvider provider,
+        String text)
+    {
+        Map<String, JsonObject> sources = null;
+
+        if (text != null)
+        {
+            sources = new LinkedHashMap<>();
+
+            try (JsonParser parser = provider.createParser(new StringReader(text.stripTrailing())))
+            {
+                while (sources != null && parser.hasNext())
+                {
+                    parser.next();
+
+                    final JsonObject source = parser.getObject();
+                    final JsonValue name = source.get(NAME_NAME);
+
+                    if (!(name instanceof JsonString) ||
+                        sources.putIfAbsent(((JsonString) name).getString(), source) != null)
+                    {
+                        sources = null;
+                    }
+                }
+            }
+            catch (JsonException | IllegalStateException ex)
+            {
+                sources = null;
+            }
+        }
+
+        return sources;
+    }
+}
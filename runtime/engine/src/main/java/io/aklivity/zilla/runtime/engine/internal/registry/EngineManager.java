@@ -237,6 +237,36 @@ public class EngineManager
                 final String oldConfigText = currentText;
                 final EngineConfig oldConfig = current;
 
+                final EngineConfigDiff diff = config.configReloadIncremental() && oldConfig != null
+                    ? EngineConfigDiff.of(new EngineConfigWriter(info), oldConfig, oldConfigText, newConfig, newConfigText)
+                    : null;
+
+                if (diff != null)
+                {
+                    try
+                    {
+                        currentText = newConfigText;
+                        current = diff.config;
+
+                        reconfigure(diff);
+                    }
+                    catch (Exception ex)
+                    {
+                        context.onError(ex);
+
+                        unregister(diff.config);
+
+                        currentText = oldConfigText;
+                        current = oldConfig;
+
+                        register(oldConfig);
+
+                        rethrowUnchecked(ex);
+                    }
+
+                    break reconfigure;
+                }
+
                 unregister(oldConfig);
 
                 try
@@ -519,7 +549,7 @@ public class EngineManager
             final long maxbits = maxWorkers.apply(binding.type.intern().hashCode()).applyAsInt(binding.kind);
             for (int bitindex = 0; Long.bitCount(affinity) > maxbits; bitindex++)
             {
-                affinity &= ~(1 << bitindex);
+                affinity &= ~(1L << bitindex);
             }
 
             tuning.affinity(binding.id, affinity);
@@ -556,6 +586,42 @@ public class EngineManager
         extensions.forEach(e -> e.onUnregistered(context));
     }
 
+    private void reconfigure(
+        EngineConfigDiff diff)
+    {
+        if (!diff.isEmpty())
+        {
+            extensions.forEach(e -> e.onUnregistered(context));
+
+            for (NamespaceConfig namespace : diff.detached)
+            {
+                unwatch(namespace);
+                unregister(namespace);
+            }
+
+            for (NamespaceUpdate update : diff.updated)
+            {
+                update.previous.resources.stream()
+                    .filter(r -> !update.next.resources.contains(r))
+                    .forEach(watchTask::unwatch);
+
+                update(update);
+
+                update.next.resources.stream()
+                    .filter(r -> !update.previous.resources.contains(r))
+                    .forEach(watchTask::watch);
+            }
+
+            for (NamespaceConfig namespace : diff.attached)
+            {
+                register(namespace);
+                watch(namespace);
+            }
+
+            extensions.forEach(e -> e.onRegistered(context));
+        }
+    }
+
     private void watch(
         NamespaceConfig namespace)
     {
@@ -581,6 +647,17 @@ public class EngineManager
             .ifPresent(CompletableFuture::join);
     }
 
+    private void update(
+        NamespaceUpdate update)
+    {
+        boss.update(update).join();
+
+        workers.stream()
+            .map(w -> w.update(update))
+            .reduce(CompletableFuture::allOf)
+            .ifPresent(CompletableFuture::join);
+    }
+
     private void unregister(
         NamespaceConfig namespace)
     {
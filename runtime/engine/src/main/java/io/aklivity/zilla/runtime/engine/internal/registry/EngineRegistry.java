@@ -122,6 +122,12 @@ public class EngineRegistry
         return new NamespaceTask(namespace, this::detachNamespace);
     }
 
+    NamespaceTask update(
+        NamespaceUpdate update)
+    {
+        return new NamespaceTask(update.next, n -> updateNamespace(update));
+    }
+
     public BindingRegistry resolveBinding(
         long bindingId)
     {
@@ -225,6 +231,24 @@ public class EngineRegistry
     {
         int namespaceId = supplyLabelId.applyAsInt(namespace.name);
         NamespaceRegistry registry = namespacesById.remove(namespaceId);
-        registry.detach();
+        if (registry != null)
+        {
+            registry.detach();
+        }
+    }
+
+    private void updateNamespace(
+        NamespaceUpdate update)
+    {
+        int namespaceId = supplyLabelId.applyAsInt(update.next.name);
+        NamespaceRegistry registry = namespacesById.get(namespaceId);
+        if (registry != null)
+        {
+            registry.update(update);
+        }
+        else
+        {
+            attachNamespace(update.next);
+        }
     }
 }
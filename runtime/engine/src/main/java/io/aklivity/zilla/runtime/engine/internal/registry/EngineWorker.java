@@ -21,6 +21,7 @@ import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static io.aklivity.zilla.runtime.engine.internal.registry.MetricHandlerKind.ORIGIN;
 import static io.aklivity.zilla.runtime.engine.internal.registry.MetricHandlerKind.ROUTED;
 import static io.aklivity.zilla.runtime.engine.internal.stream.BudgetId.ownerIndex;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.MAX_WORKERS;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.clientIndex;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.instanceId;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.isInitial;
@@ -127,11 +128,13 @@ import io.aklivity.zilla.runtime.engine.exporter.ExporterHandler;
 import io.aklivity.zilla.runtime.engine.guard.Guard;
 import io.aklivity.zilla.runtime.engine.guard.GuardContext;
 import io.aklivity.zilla.runtime.engine.guard.GuardHandler;
+import io.aklivity.zilla.runtime.engine.internal.Tuning;
 import io.aklivity.zilla.runtime.engine.internal.budget.BudgetHandleRegistry;
 import io.aklivity.zilla.runtime.engine.internal.budget.DefaultBudgetCreditor;
 import io.aklivity.zilla.runtime.engine.internal.budget.DefaultBudgetDebitor;
 import io.aklivity.zilla.runtime.engine.internal.budget.FacadeBudgetCredit;
 import io.aklivity.zilla.runtime.engine.internal.budget.FacadeBudgetDebit;
+import io.aklivity.zilla.runtime.engine.internal.buffer.SlabBufferPool;
 import io.aklivity.zilla.runtime.engine.internal.event.io.EventWriter;
 import io.aklivity.zilla.runtime.engine.internal.exporter.ExporterAgent;
 import io.aklivity.zilla.runtime.engine.internal.layouts.BindingsLayout;
@@ -142,6 +145,8 @@ import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.CountersLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.GaugesLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.MetricsLayout;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineBuffersAcquiredMetric;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineBuffersSlotsMetric;
 import io.aklivity.zilla.runtime.engine.internal.metrics.EngineWorkersCapacityMetric;
 import io.aklivity.zilla.runtime.engine.internal.metrics.EngineWorkersCountMetric;
 import io.aklivity.zilla.runtime.engine.internal.metrics.EngineWorkersUsageMetric;
@@ -160,6 +165,7 @@ import io.aklivity.zilla.runtime.engine.internal.types.stream.ResetFW;
 import io.aklivity.zilla.runtime.engine.internal.types.stream.SignalFW;
 import io.aklivity.zilla.runtime.engine.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.engine.metrics.Collector;
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
 import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
 import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
@@ -347,7 +353,8 @@ public class EngineWorker implements EngineContext, Agent
 
         this.histogramsLayout = new HistogramsLayout.Builder()
                 .path(config.directory().resolve(String.format("metrics/histograms%d", index)))
-                .capacity(config.countersBufferCapacity())
+                .records(config.metricsHistogramRecords())
+                .buckets(HistogramBuckets.of(config.metricsHistogramSignificantDigits()))
                 .readonly(readonly)
                 .build();
 
@@ -361,6 +368,10 @@ public class EngineWorker implements EngineContext, Agent
                 .path(config.directory().resolve(String.format("buffers%d", index)))
                 .slotCapacity(config.bufferSlotCapacity())
                 .slotCount(config.bufferPoolCapacity() / config.bufferSlotCapacity())
+                .slab(config.bufferPoolSlab())
+                .minSlotCapacity(config.bufferSlabMinCapacity())
+                .maxSlotCapacity(config.bufferSlabMaxCapacity())
+                .defaultShare(config.bufferSlabDefaultShare())
                 .readonly(readonly)
                 .build();
 
@@ -1081,6 +1092,24 @@ public class EngineWorker implements EngineContext, Agent
             recordCount.accept(1);
             recordCapacity.accept(ENGINE_WORKER_CAPACITY_LIMIT.getAsInt(config));
             recordUtilization.accept(0);
+
+            if (bufferPool instanceof SlabBufferPool slabBufferPool)
+            {
+                int slotsMetricId = router.supplyLabelId(EngineBuffersSlotsMetric.NAME);
+                int acquiredMetricId = router.supplyLabelId(EngineBuffersAcquiredMetric.NAME);
+
+                for (int sizeClass = 0; sizeClass < slabBufferPool.sizeClasses(); sizeClass++)
+                {
+                    int capacity = slabBufferPool.sizeClassCapacity(sizeClass);
+                    int attributesId = router.supplyLabelId(String.format("capacity=%d", capacity));
+
+                    LongConsumer recordSlots = supplyGaugeWriter(NO_NAMESPACED_ID, slotsMetricId, attributesId);
+                    recordSlots.accept(slabBufferPool.slotCount(sizeClass));
+
+                    LongConsumer recordAcquired = supplyGaugeWriter(NO_NAMESPACED_ID, acquiredMetricId, attributesId);
+                    slabBufferPool.recordAcquiredSlots(sizeClass, recordAcquired);
+                }
+            }
         }
     }
 
@@ -1194,6 +1223,23 @@ public class EngineWorker implements EngineContext, Agent
         return detachTask.future();
     }
 
+    CompletableFuture<Void> update(
+        NamespaceUpdate update)
+    {
+        assert thread != Thread.currentThread();
+
+        NamespaceTask updateTask = registry.update(update);
+        dispatch(updateTask);
+
+        if (localIndex == 0)
+        {
+            updateTask.future().join();
+            writeBindingTypes(registry);
+        }
+
+        return updateTask.future();
+    }
+
     public AgentRunner runner()
     {
         return runner;
@@ -1396,33 +1442,33 @@ public class EngineWorker implements EngineContext, Agent
     private void doSystemFlush(
         long traceId,
         long budgetId,
+        int watcherBase,
         long watchers)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
+        for (long pending = watchers; pending != 0L; pending &= pending - 1L)
         {
-            if ((watchers & (1L << watcherIndex)) != 0L)
-            {
-                if (EngineConfiguration.DEBUG_BUDGETS)
-                {
-                    System.out.format("[%d] [0x%016x] [0x%016x] flush %d\n",
-                            System.nanoTime(), traceId, budgetId, watcherIndex);
-                }
+            final int watcherIndex = watcherBase + Long.numberOfTrailingZeros(pending);
 
-                final MessageConsumer writer = supplyWriter(watcherIndex);
-                final FlushFW flush = flushRW.wrap(writeBuffer, 0, writeBuffer.capacity())
-                        .originId(0L)
-                        .routedId(0L)
-                        .streamId(0L)
-                        .sequence(0L)
-                        .acknowledge(0L)
-                        .maximum(0)
-                        .traceId(traceId)
-                        .budgetId(budgetId)
-                        .reserved(0)
-                        .build();
-
-                writer.accept(flush.typeId(), flush.buffer(), flush.offset(), flush.sizeof());
+            if (EngineConfiguration.DEBUG_BUDGETS)
+            {
+                System.out.format("[%d] [0x%016x] [0x%016x] flush %d\n",
+                        System.nanoTime(), traceId, budgetId, watcherIndex);
             }
+
+            final MessageConsumer writer = supplyWriter(watcherIndex);
+            final FlushFW flush = flushRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                    .originId(0L)
+                    .routedId(0L)
+                    .streamId(0L)
+                    .sequence(0L)
+                    .acknowledge(0L)
+                    .maximum(0)
+                    .traceId(traceId)
+                    .budgetId(budgetId)
+                    .reserved(0)
+                    .build();
+
+            writer.accept(flush.typeId(), flush.buffer(), flush.offset(), flush.sizeof());
         }
     }
 
@@ -2221,6 +2267,10 @@ public class EngineWorker implements EngineContext, Agent
 
         Affinity affinity = new Affinity();
         affinity.mask = BitSet.valueOf(new long[] { mask });
+        if (mask == Tuning.AFFINITY_ALL)
+        {
+            affinity.mask.set(0, config.workers());
+        }
         affinity.nextIndex = affinity.mask.get(localIndex) ? localIndex : affinity.mask.nextSetBit(0);
 
         return affinity;
@@ -2236,7 +2286,7 @@ public class EngineWorker implements EngineContext, Agent
     private Int2ObjectHashMap<MessageConsumer>[] initDispatcher()
     {
         @SuppressWarnings("unchecked")
-        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[64];
+        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[MAX_WORKERS];
         for (int i = 0; i < dispatcher.length; i++)
         {
             dispatcher[i] = new Int2ObjectHashMap<>();
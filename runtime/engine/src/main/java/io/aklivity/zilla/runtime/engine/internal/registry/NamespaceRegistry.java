@@ -59,7 +59,7 @@ import io.aklivity.zilla.runtime.engine.vault.VaultContext;
 
 public class NamespaceRegistry
 {
-    private final NamespaceConfig namespace;
+    private NamespaceConfig namespace;
     private final Function<String, BindingContext> bindingsByType;
     private final Function<String, GuardContext> guardsByType;
     private final Function<String, VaultContext> vaultsByType;
@@ -155,6 +155,18 @@ public class NamespaceRegistry
         namespace.telemetry.exporters.forEach(this::detachExporter);
     }
 
+    void update(
+        NamespaceUpdate update)
+    {
+        update.detachedBindings.forEach(this::detachBinding);
+        update.detachedExporters.forEach(this::detachExporter);
+
+        namespace = update.next;
+
+        update.attachedBindings.forEach(this::attachBinding);
+        update.attachedExporters.forEach(this::attachExporter);
+    }
+
     public Collection<BindingRegistry> bindings()
     {
         return bindingsById.values();
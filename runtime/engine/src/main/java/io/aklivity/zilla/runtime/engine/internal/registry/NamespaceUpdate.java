@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import java.util.List;
+
+import io.aklivity.zilla.config.engine.BindingConfig;
+import io.aklivity.zilla.config.engine.ExporterConfig;
+import io.aklivity.zilla.config.engine.NamespaceConfig;
+
+final class NamespaceUpdate
+{
+    final NamespaceConfig previous;
+    final NamespaceConfig next;
+    final List<BindingConfig> detachedBindings;
+    final List<BindingConfig> attachedBindings;
+    final List<ExporterConfig> detachedExporters;
+    final List<ExporterConfig> attachedExporters;
+
+    NamespaceUpdate(
+        NamespaceConfig previous,
+        NamespaceConfig next,
+        List<BindingConfig> detachedBindings,
+        List<BindingConfig> attachedBindings,
+        List<ExporterConfig> detachedExporters,
+        List<ExporterConfig> attachedExporters)
+    {
+        this.previous = previous;
+        this.next = next;
+        this.detachedBindings = detachedBindings;
+        this.attachedBindings = attachedBindings;
+        this.detachedExporters = detachedExporters;
+        this.attachedExporters = attachedExporters;
+    }
+}
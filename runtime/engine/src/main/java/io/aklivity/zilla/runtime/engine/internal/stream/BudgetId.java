@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.stream;
 
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.MAX_WORKERS;
+
 public final class BudgetId
 {
     public static int ownerIndex(
@@ -22,7 +24,7 @@ public final class BudgetId
     {
         final int reserved = Byte.SIZE;
         final int shift = Long.SIZE - reserved;
-        return (int)(budgetId >> shift) & Byte.MAX_VALUE;
+        return (int)(budgetId >> shift) & (MAX_WORKERS - 1);
     }
 
     public static long budgetMask(
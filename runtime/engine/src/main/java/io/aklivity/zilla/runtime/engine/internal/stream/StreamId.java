@@ -17,6 +17,11 @@ package io.aklivity.zilla.runtime.engine.internal.stream;
 
 public final class StreamId
 {
+    public static final int INDEX_BITS = 7;
+    public static final int MAX_WORKERS = 1 << INDEX_BITS;
+
+    private static final long INDEX_MASK = MAX_WORKERS - 1;
+
     public static int streamIndex(
         long streamId)
     {
@@ -32,13 +37,13 @@ public final class StreamId
     public static int clientIndex(
         long streamId)
     {
-        return (int)(streamId >> 56) & 0x7f;
+        return (int)((streamId >> 56) & INDEX_MASK);
     }
 
     public static int serverIndex(
         long streamId)
     {
-        return (int)(streamId >> 48) & 0x7f;
+        return (int)((streamId >> 48) & INDEX_MASK);
     }
 
     public static int instanceId(
@@ -52,8 +57,8 @@ public final class StreamId
         int remoteIndex,
         int instanceId)
     {
-        return isInitial(instanceId) ? ((localIndex & 0x7fL) << 56) | ((remoteIndex & 0x7fL) << 48) | instanceId
-                : ((remoteIndex & 0x7fL) << 56) | ((localIndex & 0x7fL) << 48) | instanceId;
+        return isInitial(instanceId) ? ((localIndex & INDEX_MASK) << 56) | ((remoteIndex & INDEX_MASK) << 48) | instanceId
+                : ((remoteIndex & INDEX_MASK) << 56) | ((localIndex & INDEX_MASK) << 48) | instanceId;
     }
 
     public static long throttleId(
@@ -61,8 +66,8 @@ public final class StreamId
         int remoteIndex,
         int instanceId)
     {
-        return isInitial(instanceId) ? ((remoteIndex & 0x7fL) << 56) | ((localIndex & 0x7fL) << 48) | instanceId
-                : ((localIndex & 0x7fL) << 56) | ((remoteIndex & 0x7fL) << 48) | instanceId;
+        return isInitial(instanceId) ? ((remoteIndex & INDEX_MASK) << 56) | ((localIndex & INDEX_MASK) << 48) | instanceId
+                : ((localIndex & INDEX_MASK) << 56) | ((remoteIndex & INDEX_MASK) << 48) | instanceId;
     }
 
     public static boolean isInitial(
@@ -99,4 +99,14 @@ public interface Collector
      * @return array of {@code {bindingId, metricId, attributesId, kind}} tuples for all active histograms
      */
     long[][] histogramIds();
+
+    /**
+     * Returns the bucket scheme used by the suppliers returned from {@link #histogram}.
+     *
+     * @return the histogram bucket scheme
+     */
+    default HistogramBuckets histogramBuckets()
+    {
+        return HistogramBuckets.POWER_OF_TWO;
+    }
 }
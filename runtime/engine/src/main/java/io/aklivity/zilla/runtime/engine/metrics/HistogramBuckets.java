@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.metrics;
+
+/**
+ * Bucket scheme used to record {@link Metric.Kind#HISTOGRAM} values.
+ * <p>
+ * The {@link #POWER_OF_TWO} scheme uses one bucket per power of two. The log-linear scheme, in the
+ * style of HDR histograms, splits each power of two into linear sub-buckets, so that the relative
+ * error of any recorded value is bounded by the configured number of significant decimal digits.
+ * Values at or beyond {@code 2^40} are recorded in a final overflow bucket.
+ * </p>
+ *
+ * @see Collector#histogramBuckets()
+ */
+public final class HistogramBuckets
+{
+    public static final HistogramBuckets POWER_OF_TWO = new HistogramBuckets(0);
+
+    private static final int POWER_OF_TWO_BUCKETS = 63;
+    private static final int HIGHEST_TRACKABLE_BITS = 40;
+    private static final int MAX_SIGNIFICANT_DIGITS = 3;
+
+    private final int significantDigits;
+    private final int subBucketBits;
+    private final int count;
+    private final long[] limits;
+
+    private HistogramBuckets(
+        int significantDigits)
+    {
+        final int subBucketBits = significantDigits != 0 ? subBucketBits(significantDigits) : 0;
+
+        this.significantDigits = significantDigits;
+        this.subBucketBits = subBucketBits;
+        this.count = significantDigits != 0
+            ? ((HIGHEST_TRACKABLE_BITS - subBucketBits + 1) << subBucketBits) + 1
+            : POWER_OF_TWO_BUCKETS;
+        this.limits = new long[count];
+
+        for (int index = 0; index < count; index++)
+        {
+            limits[index] = significantDigits != 0 ? logLinearLimit(index) : 1L << (index + 1);
+        }
+    }
+
+    /**
+     * Returns the log-linear bucket scheme for the given number of significant decimal digits.
+     *
+     * @param significantDigits  the significant decimal digits, from {@code 0} to {@code 3},
+     *                           where {@code 0} selects the {@link #POWER_OF_TWO} scheme
+     * @return the bucket scheme
+     */
+    public static HistogramBuckets of(
+        int significantDigits)
+    {
+        if (significantDigits < 0 || significantDigits > MAX_SIGNIFICANT_DIGITS)
+        {
+            throw new IllegalArgumentException("significantDigits not between 0 and " + MAX_SIGNIFICANT_DIGITS);
+        }
+
+        return significantDigits != 0 ? new HistogramBuckets(significantDigits) : POWER_OF_TWO;
+    }
+
+    /**
+     * Returns the number of significant decimal digits, or {@code 0} for the {@link #POWER_OF_TWO} scheme.
+     *
+     * @return the significant decimal digits
+     */
+    public int significantDigits()
+    {
+        return significantDigits;
+    }
+
+    /**
+     * Returns the number of buckets.
+     *
+     * @return the bucket count
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the exclusive upper limit of each bucket. The last bucket is unbounded.
+     *
+     * @return the bucket limits, not to be modified
+     */
+    public long[] limits()
+    {
+        return limits;
+    }
+
+    /**
+     * Returns the bucket for a recorded value.
+     *
+     * @param value  the non-negative recorded value
+     * @return the bucket index
+     */
+    public int index(
+        long value)
+    {
+        assert value >= 0;
+
+        int index;
+        if (significantDigits == 0)
+        {
+            index = Math.max(63 - Long.numberOfLeadingZeros(value), 0);
+        }
+        else if (value < 1L << subBucketBits)
+        {
+            index = (int) value;
+        }
+        else if (value >= 1L << HIGHEST_TRACKABLE_BITS)
+        {
+            index = count - 1;
+        }
+        else
+        {
+            final int shift = 63 - Long.numberOfLeadingZeros(value) - subBucketBits;
+            final int subBucket = (int) (value >>> shift) & ((1 << subBucketBits) - 1);
+            index = ((shift + 1) << subBucketBits) + subBucket;
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the value used to represent all values recorded in a bucket, when computing statistics.
+     *
+     * @param index  the bucket index
+     * @return the highest value of the bucket, or the lowest value of the unbounded last bucket
+     */
+    public long value(
+        int index)
+    {
+        return significantDigits != 0 && index == count - 1
+            ? 1L << HIGHEST_TRACKABLE_BITS
+            : limits[index] - 1;
+    }
+
+    private long logLinearLimit(
+        int index)
+    {
+        final int subBuckets = 1 << subBucketBits;
+
+        long limit;
+        if (index == count - 1)
+        {
+            limit = Long.MAX_VALUE;
+        }
+        else if (index < subBuckets)
+        {
+            limit = index + 1;
+        }
+        else
+        {
+            final int shift = (index >> subBucketBits) - 1;
+            final int subBucket = index & (subBuckets - 1);
+            limit = (long) (subBuckets + subBucket + 1) << shift;
+        }
+
+        return limit;
+    }
+
+    private static int subBucketBits(
+        int significantDigits)
+    {
+        final long subBuckets = (long) Math.pow(10, significantDigits);
+        return 64 - Long.numberOfLeadingZeros(subBuckets - 1);
+    }
+}
@@ -15,8 +15,6 @@
  */
 package io.aklivity.zilla.runtime.engine.metrics.reader;
 
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKET_LIMITS;
 import static io.aklivity.zilla.runtime.engine.namespace.NamespacedId.namespaceId;
 
 import java.util.Map;
@@ -28,10 +26,12 @@ import org.agrona.collections.Int2IntHashMap;
 
 import io.aklivity.zilla.config.engine.KindConfig;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.MetricsLayout;
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
 
 public class HistogramRecord implements MetricRecord
 {
     private static final Int2IntHashMap MS_BUCKET_MAP = generateMillisecondsBucketMap();
+    private static final long NANOS_PER_MILLI = 1_000_000L;
 
     private final long bindingId;
     private final int metricId;
@@ -40,9 +40,11 @@ public class HistogramRecord implements MetricRecord
     private final KindConfig bindingKind;
     private final LongSupplier[] readers;
     private final LongFunction<String> labelResolver;
+    private final HistogramBuckets buckets;
 
-    private long[] bucketValues = new long[BUCKETS];
+    private long[] bucketValues;
     private long[] millisecondBucketValues = null;
+    private double[] millisecondBucketLimits = null;
 
     public HistogramRecord(
         long bindingId,
@@ -52,6 +54,20 @@ public class HistogramRecord implements MetricRecord
         LongSupplier[] readers,
         LongFunction<String> labelResolver)
     {
+        this(bindingId, metricId, attributesId, kind, readers, labelResolver, HistogramBuckets.POWER_OF_TWO);
+    }
+
+    public HistogramRecord(
+        long bindingId,
+        int metricId,
+        int attributesId,
+        int kind,
+        LongSupplier[] readers,
+        LongFunction<String> labelResolver,
+        HistogramBuckets buckets)
+    {
+        this.buckets = buckets;
+        this.bucketValues = new long[buckets.count()];
         this.bindingId = bindingId;
         this.metricId = metricId;
         this.attributesId = attributesId;
@@ -106,17 +122,22 @@ public class HistogramRecord implements MetricRecord
 
     public int buckets()
     {
-        return BUCKETS;
+        return buckets.count();
     }
 
     public long[] bucketLimits()
     {
-        return BUCKET_LIMITS;
+        return buckets.limits();
+    }
+
+    public int significantDigits()
+    {
+        return buckets.significantDigits();
     }
 
     public void update()
     {
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < bucketValues.length; i++)
         {
             bucketValues[i] = readers[i].getAsLong();
         }
@@ -132,16 +153,39 @@ public class HistogramRecord implements MetricRecord
     {
         if (millisecondBucketValues == null)
         {
-            millisecondBucketValues = new long[BUCKETS];
-            for (int i = 0; i < BUCKETS; i++)
+            if (buckets == HistogramBuckets.POWER_OF_TWO)
             {
-                int msIndex = MS_BUCKET_MAP.get(i);
-                millisecondBucketValues[msIndex] += bucketValues[i];
+                millisecondBucketValues = new long[bucketValues.length];
+                for (int i = 0; i < bucketValues.length; i++)
+                {
+                    int msIndex = MS_BUCKET_MAP.get(i);
+                    millisecondBucketValues[msIndex] += bucketValues[i];
+                }
+            }
+            else
+            {
+                millisecondBucketValues = bucketValues;
             }
         }
         return millisecondBucketValues;
     }
 
+    public double[] millisecondBucketLimits()
+    {
+        if (millisecondBucketLimits == null)
+        {
+            final long[] limits = buckets.limits();
+            final double divisor = buckets == HistogramBuckets.POWER_OF_TWO ? 1.0 : NANOS_PER_MILLI;
+
+            millisecondBucketLimits = new double[limits.length];
+            for (int i = 0; i < limits.length; i++)
+            {
+                millisecondBucketLimits[i] = limits[i] / divisor;
+            }
+        }
+        return millisecondBucketLimits;
+    }
+
     public long[] stats()
     {
         return stats(bucketValues);
@@ -149,11 +193,20 @@ public class HistogramRecord implements MetricRecord
 
     public long[] millisecondStats()
     {
-        if (millisecondBucketValues == null)
+        long[] stats;
+        if (buckets == HistogramBuckets.POWER_OF_TWO)
+        {
+            stats = stats(millisecondBucketValues());
+        }
+        else
         {
-            millisecondBucketValues();
+            stats = stats(bucketValues);
+            stats[0] /= NANOS_PER_MILLI;
+            stats[1] /= NANOS_PER_MILLI;
+            stats[2] /= NANOS_PER_MILLI;
+            stats[4] /= NANOS_PER_MILLI;
         }
-        return stats(millisecondBucketValues);
+        return stats;
     }
 
     private long[] stats(
@@ -163,7 +216,7 @@ public class HistogramRecord implements MetricRecord
         long sum = 0L;
         int minIndex = -1;
         int maxIndex = -1;
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < bucketValues.length; i++)
         {
             long bucketCount = bucketValues[i];
             count += bucketCount;
@@ -187,7 +240,7 @@ public class HistogramRecord implements MetricRecord
     private long getValue(
         int index)
     {
-        return BUCKET_LIMITS[index] - 1;
+        return buckets.value(index);
     }
 
     @Override
@@ -15,18 +15,30 @@
  */
 package io.aklivity.zilla.runtime.engine.metrics.reader;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 
+import org.agrona.collections.Long2ObjectHashMap;
+
 import io.aklivity.zilla.runtime.engine.metrics.Collector;
 
+/**
+ * Reads metric records from a {@link Collector}.
+ * <p>
+ * A reader can be kept for the lifetime of an exporter and {@linkplain #refresh() refreshed} before each export,
+ * so that records for metrics seen before, along with their value readers, are reused rather than recreated.
+ * </p>
+ */
 public class MetricsReader
 {
     private final Collector collector;
     private final LongFunction<String> labelResolver;
     private final List<MetricRecord> records;
+    private final Long2ObjectHashMap<Long2ObjectHashMap<MetricRecord>> counters;
+    private final Long2ObjectHashMap<Long2ObjectHashMap<MetricRecord>> gauges;
+    private final Long2ObjectHashMap<Long2ObjectHashMap<MetricRecord>> histograms;
 
     public MetricsReader(
         Collector collector,
@@ -34,10 +46,11 @@ public class MetricsReader
     {
         this.collector = collector;
         this.labelResolver = labelResolver;
-        this.records = new LinkedList<>();
-        collectCounters();
-        collectGauges();
-        collectHistograms();
+        this.records = new ArrayList<>();
+        this.counters = new Long2ObjectHashMap<>();
+        this.gauges = new Long2ObjectHashMap<>();
+        this.histograms = new Long2ObjectHashMap<>();
+        refresh();
     }
 
     public List<MetricRecord> records()
@@ -45,6 +58,18 @@ public class MetricsReader
         return records;
     }
 
+    /**
+     * Refreshes {@link #records()} with the metrics currently active in the collector, reusing the records of
+     * metrics already read.
+     */
+    public void refresh()
+    {
+        records.clear();
+        collectCounters();
+        collectGauges();
+        collectHistograms();
+    }
+
     private void collectCounters()
     {
         for (long[] ids : collector.counterIds())
@@ -52,9 +77,16 @@ public class MetricsReader
             long bindingId = ids[0];
             int metricId = (int) ids[1];
             int attributesId = (int) ids[2];
-            int kind = (int) ids[3];
-            LongSupplier reader = collector.counter(bindingId, metricId, attributesId);
-            records.add(new ScalarRecord(bindingId, metricId, attributesId, kind, reader, labelResolver));
+            Long2ObjectHashMap<MetricRecord> recordsById = counters.computeIfAbsent(bindingId, MetricsReader::newRecordsById);
+            MetricRecord record = recordsById.get(recordId(metricId, attributesId));
+            if (record == null)
+            {
+                int kind = (int) ids[3];
+                LongSupplier reader = collector.counter(bindingId, metricId, attributesId);
+                record = new ScalarRecord(bindingId, metricId, attributesId, kind, reader, labelResolver);
+                recordsById.put(recordId(metricId, attributesId), record);
+            }
+            records.add(record);
         }
     }
 
@@ -65,9 +97,16 @@ public class MetricsReader
             long bindingId = ids[0];
             int metricId = (int) ids[1];
             int attributesId = (int) ids[2];
-            int kind = (int) ids[3];
-            LongSupplier reader = collector.gauge(bindingId, metricId, attributesId);
-            records.add(new ScalarRecord(bindingId, metricId, attributesId, kind, reader, labelResolver));
+            Long2ObjectHashMap<MetricRecord> recordsById = gauges.computeIfAbsent(bindingId, MetricsReader::newRecordsById);
+            MetricRecord record = recordsById.get(recordId(metricId, attributesId));
+            if (record == null)
+            {
+                int kind = (int) ids[3];
+                LongSupplier reader = collector.gauge(bindingId, metricId, attributesId);
+                record = new ScalarRecord(bindingId, metricId, attributesId, kind, reader, labelResolver);
+                recordsById.put(recordId(metricId, attributesId), record);
+            }
+            records.add(record);
         }
     }
 
@@ -78,9 +117,30 @@ public class MetricsReader
             long bindingId = ids[0];
             int metricId = (int) ids[1];
             int attributesId = (int) ids[2];
-            int kind = (int) ids[3];
-            LongSupplier[] readers = collector.histogram(bindingId, metricId, attributesId);
-            records.add(new HistogramRecord(bindingId, metricId, attributesId, kind, readers, labelResolver));
+            Long2ObjectHashMap<MetricRecord> recordsById = histograms.computeIfAbsent(bindingId, MetricsReader::newRecordsById);
+            MetricRecord record = recordsById.get(recordId(metricId, attributesId));
+            if (record == null)
+            {
+                int kind = (int) ids[3];
+                LongSupplier[] readers = collector.histogram(bindingId, metricId, attributesId);
+                record = new HistogramRecord(bindingId, metricId, attributesId, kind, readers, labelResolver,
+                    collector.histogramBuckets());
+                recordsById.put(recordId(metricId, attributesId), record);
+            }
+            records.add(record);
         }
     }
+
+    private static Long2ObjectHashMap<MetricRecord> newRecordsById(
+        long bindingId)
+    {
+        return new Long2ObjectHashMap<>();
+    }
+
+    private static long recordId(
+        int metricId,
+        int attributesId)
+    {
+        return (long) metricId << Integer.SIZE | attributesId & 0xffff_ffffL;
+    }
 }
@@ -83,6 +83,41 @@ public interface ModelPipeline
      */
     boolean identity();
 
+    /**
+     * Prepares the schema this pipeline needs for the value starting at {@code data[index..index+length)},
+     * without blocking the calling thread.
+     * <p>
+     * Returns {@code true} when {@link #transform} and {@link #padding} can run without waiting on a catalog.
+     * Otherwise returns {@code false} and the catalog signals the given stream with {@code signalId} and
+     * {@code contextId} once its lookup settles; the caller parks that stream without consuming the value
+     * and prepares again on the signal. Called at the start of each value, before {@link #padding}.
+     * </p>
+     *
+     * @param traceId    the trace identifier for diagnostics
+     * @param originId   the origin binding id of the stream to signal
+     * @param routedId   the routed binding id of the stream to signal
+     * @param streamId   the stream id to signal
+     * @param signalId   the signal identifier delivered to the stream
+     * @param contextId  the signal context delivered to the stream
+     * @param data       the source buffer containing the start of the untransformed value
+     * @param index      the offset of the value
+     * @param length     the length of the value available so far
+     * @return {@code true} if the pipeline is ready, {@code false} if the stream will be signaled
+     */
+    default boolean prepare(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int length)
+    {
+        return true;
+    }
+
     /**
      * Returns the number of additional bytes required in the output buffer to accommodate any framing
      * overhead this pipeline's transform may add (e.g., schema id prefix bytes) for the given input.
@@ -15,11 +15,16 @@
  */
 package io.aklivity.zilla.runtime.engine.store;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
 /**
  * Provides key-value state operations for streams passing through a binding backed by a store.
  * <p>
@@ -71,6 +76,51 @@ public interface StoreHandler
         Duration ttl,
         Consumer<String> completion);
 
+    /**
+     * Retrieves the value associated with the given key as bytes.
+     * <p>
+     * The default implementation encodes the {@link #get(String, BiConsumer)} result as UTF-8.
+     * Implementations that hold values in binary form override this to avoid the conversion.
+     * The buffer is only valid inside the callback.
+     * </p>
+     *
+     * @param key        the key to look up
+     * @param completion a callback that receives {@code (key, value)};
+     *                   {@code value} is {@code null} if the key is not present
+     */
+    default void getBytes(
+        String key,
+        BiConsumer<String, DirectBufferEx> completion)
+    {
+        get(key, (k, v) -> completion.accept(k, v != null ? new UnsafeBufferEx(v.getBytes(UTF_8)) : null));
+    }
+
+    /**
+     * Associates the given bytes with the given key, replacing any existing value.
+     * <p>
+     * The bytes are copied before this method returns, so the caller may reuse the buffer.
+     * The default implementation decodes the bytes as UTF-8 and delegates to
+     * {@link #put(String, String, Duration, Consumer)}.
+     * </p>
+     *
+     * @param key        the key to store
+     * @param buffer     the buffer containing the value
+     * @param index      the offset of the value in the buffer
+     * @param length     the length of the value
+     * @param ttl        the time-to-live, or {@code null} for no expiry
+     * @param completion a callback invoked when the operation completes
+     */
+    default void putBytes(
+        String key,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        put(key, buffer.getStringWithoutLengthUtf8(index, length), ttl, completion);
+    }
+
     /**
      * Associates the given value with the given key only if the key is not already present.
      *
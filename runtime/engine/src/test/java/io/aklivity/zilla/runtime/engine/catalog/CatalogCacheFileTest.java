@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CatalogCacheFileTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReloadSchemasAfterReopen() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("test").resolve("catalog0");
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 1024))
+        {
+            assertTrue(file.putSchema(9, 1L, "{\"type\":\"string\"}"));
+            assertTrue(file.putSchemaId(42, 2L, 9));
+        }
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 1024))
+        {
+            Map<Integer, String> schemas = new HashMap<>();
+            Map<Integer, Integer> schemaIds = new HashMap<>();
+            Map<Integer, Long> timestamps = new HashMap<>();
+            file.schemas(schemas::put);
+            file.schemaIds((k, t, id) ->
+            {
+                schemaIds.put(k, id);
+                timestamps.put(k, t);
+            });
+
+            assertEquals(Map.of(9, "{\"type\":\"string\"}"), schemas);
+            assertEquals(Map.of(42, 9), schemaIds);
+            assertEquals(Map.of(42, 2L), timestamps);
+        }
+    }
+
+    @Test
+    public void shouldCompactToLatestSchemaIdOnReopen() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("catalog0");
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 1024))
+        {
+            file.putSchemaId(42, 1L, 9);
+            file.putSchemaId(42, 2L, 10);
+        }
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 1024))
+        {
+            Map<Integer, Integer> schemaIds = new HashMap<>();
+            int[] count = new int[1];
+            file.schemaIds((k, t, id) ->
+            {
+                schemaIds.put(k, id);
+                count[0]++;
+            });
+
+            assertEquals(Map.of(42, 10), schemaIds);
+            assertEquals(1, count[0]);
+        }
+    }
+
+    @Test
+    public void shouldCompactWhenFull() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("catalog0");
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 64))
+        {
+            for (int id = 1; id <= 10; id++)
+            {
+                assertTrue(file.putSchemaId(42, id, id));
+            }
+        }
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 64))
+        {
+            Map<Integer, Integer> schemaIds = new HashMap<>();
+            file.schemaIds((k, t, id) -> schemaIds.put(k, id));
+
+            assertEquals(Map.of(42, 10), schemaIds);
+        }
+    }
+
+    @Test
+    public void shouldRejectAppendWhenFull() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("catalog0");
+
+        try (CatalogCacheFile file = new CatalogCacheFile(path, 64))
+        {
+            assertTrue(file.putSchemaId(42, 1L, 9));
+            assertFalse(file.putSchema(9, 1L, "x".repeat(64)));
+        }
+    }
+}
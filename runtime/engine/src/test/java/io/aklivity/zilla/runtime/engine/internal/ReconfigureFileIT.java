@@ -251,4 +251,20 @@ public class ReconfigureFileIT
         k3po.notifyBarrier("CONFIG_CHANGED");
         k3po.finish();
     }
+
+    @Test
+    @Configuration("zilla.reconfigure.modify.catalog.vault.json")
+    public void shouldReconfigureWhenCatalogVaultModified() throws Exception
+    {
+        Path source = Paths.get(ReconfigureFileIT.class.getResource("zilla.reconfigure.modify.catalog.vault.after.json")
+            .toURI());
+        Path target = CONFIG_DIR.resolve("zilla.reconfigure.modify.catalog.vault.json");
+
+        EngineTest.TestEngineExt.unregisterLatch = new CountDownLatch(1);
+
+        Files.move(source, target, ATOMIC_MOVE);
+
+        EngineTest.TestEngineExt.unregisterLatch.await();
+        EngineTest.TestEngineExt.registerLatch.await();
+    }
 }
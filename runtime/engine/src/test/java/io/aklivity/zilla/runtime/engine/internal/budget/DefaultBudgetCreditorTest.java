@@ -145,7 +145,7 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0, 0x01L);
         verifyNoMoreInteractions(flusher);
     }
 
@@ -171,7 +171,35 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0, 0x01L);
+        verifyNoMoreInteractions(flusher);
+    }
+
+    @Test
+    public void shouldCreditByIndexWithWideWatchers() throws Exception
+    {
+        final BudgetFlusher flusher = Mockito.mock(BudgetFlusher.class);
+        final BudgetsLayout layout = new BudgetsLayout.Builder()
+            .owner(true)
+            .path(Paths.get("target/zilla-itests/budgets0"))
+            .capacity(1024)
+            .build();
+
+        final long budgetId = 1L;
+        final long traceId = 1L;
+
+        try (DefaultBudgetCreditor creditor = new DefaultBudgetCreditor(0, layout, flusher))
+        {
+            final long creditorIndex = creditor.acquire(budgetId);
+            creditor.watchers(creditorIndex, 0, 0x01L);
+            creditor.watchers(creditorIndex, Long.SIZE, 0x10L);
+            creditor.credit(traceId, creditorIndex, 1024L);
+
+            assertEquals(1024L, creditor.available(creditorIndex));
+        }
+
+        verify(flusher).flush(traceId, budgetId, 0, 0x01L);
+        verify(flusher).flush(traceId, budgetId, Long.SIZE, 0x10L);
         verifyNoMoreInteractions(flusher);
     }
 }
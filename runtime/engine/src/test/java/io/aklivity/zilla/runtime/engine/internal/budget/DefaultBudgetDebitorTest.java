@@ -18,6 +18,7 @@ package io.aklivity.zilla.runtime.engine.internal.budget;
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetIdOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetRemainingOffset;
+import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetWatchersOffset;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.mockito.Mockito.verify;
@@ -230,4 +231,45 @@ public class DefaultBudgetDebitorTest
         verify(flusher).accept(traceId);
         verifyNoMoreInteractions(flusher);
     }
+
+    @Test
+    public void shouldClaimWithInsufficientBudgetAsWideWatcher() throws Exception
+    {
+        final LongConsumer flusher = Mockito.mock(LongConsumer.class);
+        final BudgetsLayout layout = new BudgetsLayout.Builder()
+            .owner(true)
+            .path(Paths.get("target/zilla-itests/budgets0"))
+            .capacity(1024)
+            .build();
+
+        final long budgetId = 1L;
+        final long watcherId = 2L;
+        final long traceId = 3L;
+        final int creditorLocalIndex = 1;
+        final int watcherIndex = 100;
+
+        try (DefaultBudgetDebitor debitor = new DefaultBudgetDebitor(watcherIndex, 0, layout))
+        {
+            layout.buffer().putLongVolatile(budgetIdOffset(creditorLocalIndex), budgetId);
+            layout.buffer().putLongVolatile(budgetRemainingOffset(creditorLocalIndex), 256L);
+
+            final long debitorIndex = debitor.acquire(budgetId, watcherId, flusher);
+            final int claimed = debitor.claim(debitorIndex, watcherId, 512, 1024);
+            final long watchers = debitor.watchers(debitorIndex);
+            final long narrowWatchers = layout.buffer().getLongVolatile(budgetWatchersOffset(creditorLocalIndex));
+
+            debitor.flush(traceId, budgetId);
+
+            assertEquals(0, claimed);
+            assertEquals(1L << (watcherIndex - Long.SIZE), watchers);
+            assertEquals(0L, narrowWatchers);
+
+            debitor.release(debitorIndex, watcherId);
+
+            assertEquals(0L, debitor.watchers(debitorIndex));
+        }
+
+        verify(flusher).accept(traceId);
+        verifyNoMoreInteractions(flusher);
+    }
 }
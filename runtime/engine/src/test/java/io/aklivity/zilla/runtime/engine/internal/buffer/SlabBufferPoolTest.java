@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.buffer;
+
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
+
+public class SlabBufferPoolTest
+{
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSlotCapacityNotPowerOfTwo()
+    {
+        new SlabBufferPool(64 * 1024, 512, 4096, 1000, 0.25);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSlotCapacityOutsideSizeClasses()
+    {
+        new SlabBufferPool(64 * 1024, 512, 4096, 8192, 0.25);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectDefaultShareOutOfRange()
+    {
+        new SlabBufferPool(64 * 1024, 512, 4096, 1024, 0.0);
+    }
+
+    @Test
+    public void shouldShareCapacityAcrossSizeClasses()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        assertEquals(4, pool.sizeClasses());
+        assertEquals(8, pool.slotCount(0));
+        assertEquals(4, pool.slotCount(1));
+        assertEquals(2, pool.slotCount(2));
+        assertEquals(1, pool.slotCount(3));
+        assertEquals(1024, pool.slotCapacity());
+    }
+
+    @Test
+    public void shouldReserveDefaultShareForDefaultSizeClass()
+    {
+        SlabBufferPool pool = new SlabBufferPool(8 * 4096, 512, 4096, 1024, 0.625);
+
+        assertEquals(8, pool.slotCount(0));
+        assertEquals(20, pool.slotCount(1));
+        assertEquals(2, pool.slotCount(2));
+        assertEquals(1, pool.slotCount(3));
+    }
+
+    @Test
+    public void shouldAcquireDefaultSlotCapacity()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        int slot = pool.acquire(1L);
+
+        assertNotEquals(NO_SLOT, slot);
+        assertEquals(1024, pool.slotCapacity(slot));
+        assertEquals(1024, pool.buffer(slot).capacity());
+        assertEquals(1, pool.acquiredSlots(1));
+    }
+
+    @Test
+    public void shouldAcquireSmallestSufficientSlotCapacity()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        assertEquals(512, pool.slotCapacity(pool.acquire(1L, 200)));
+        assertEquals(2048, pool.slotCapacity(pool.acquire(2L, 1025)));
+        assertEquals(4096, pool.slotCapacity(pool.acquire(3L, 4096)));
+        assertEquals(NO_SLOT, pool.acquire(4L, 4097));
+    }
+
+    @Test
+    public void shouldAcquireLargerSlotCapacityWhenExhausted()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        for (int i = 0; i < 8; i++)
+        {
+            assertEquals(512, pool.slotCapacity(pool.acquire(i, 512)));
+        }
+
+        assertEquals(1024, pool.slotCapacity(pool.acquire(8L, 512)));
+        assertEquals(9, pool.acquiredSlots());
+    }
+
+    @Test
+    public void shouldAcquireLargerSlotCapacityWhenDefaultExhausted()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(1024, pool.slotCapacity(pool.acquire(i)));
+        }
+
+        assertEquals(2048, pool.slotCapacity(pool.acquire(4L)));
+        assertEquals(2048, pool.slotCapacity(pool.acquire(5L)));
+        assertEquals(4096, pool.slotCapacity(pool.acquire(6L)));
+    }
+
+    @Test
+    public void shouldReportNoSlotWhenAllSizeClassesExhausted()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        for (int i = 0; i < 7; i++)
+        {
+            assertNotEquals(NO_SLOT, pool.acquire(i));
+        }
+
+        assertEquals(NO_SLOT, pool.acquire(7L));
+        assertEquals(NO_SLOT, pool.acquire(8L, 4096 + 1));
+    }
+
+    @Test
+    public void shouldRecordAcquiredSlots()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+        AtomicLong acquired = new AtomicLong(-1L);
+
+        pool.recordAcquiredSlots(1, acquired::set);
+        assertEquals(0L, acquired.get());
+
+        int slot = pool.duplicate().acquire(1L);
+        assertEquals(1L, acquired.get());
+
+        pool.release(slot);
+        assertEquals(0L, acquired.get());
+    }
+
+    @Test
+    public void shouldReuseReleasedSlot()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        int slot = pool.acquire(1L, 4096);
+        pool.release(slot);
+
+        assertEquals(0, pool.acquiredSlots());
+        assertEquals(slot, pool.acquire(2L, 4096));
+    }
+
+    @Test
+    public void shouldNotOverlapSlotsAcrossSizeClasses()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+
+        int small = pool.acquire(1L, 512);
+        int large = pool.acquire(2L, 4096);
+
+        MutableDirectBufferEx smallBuffer = pool.buffer(small);
+        smallBuffer.setMemory(0, smallBuffer.capacity(), (byte) 0x01);
+
+        MutableDirectBufferEx largeBuffer = pool.buffer(large);
+        largeBuffer.setMemory(0, largeBuffer.capacity(), (byte) 0x02);
+
+        assertEquals(0x01, pool.buffer(small).getByte(511));
+        assertEquals(0x02, pool.buffer(large).getByte(0));
+    }
+
+    @Test
+    public void shouldShareSlotsWithDuplicate()
+    {
+        SlabBufferPool pool = new SlabBufferPool(4 * 4096, 512, 4096, 1024, 0.25);
+        BufferPool duplicate = pool.duplicate();
+
+        int slot = duplicate.acquire(1L, 2048);
+        pool.buffer(slot).putInt(0, 123);
+
+        assertEquals(1, pool.acquiredSlots(2));
+        assertEquals(123, duplicate.buffer(slot).getInt(0));
+    }
+}
@@ -96,6 +96,64 @@ public class CountersLayoutTest
         Files.delete(path);
     }
 
+    @Test
+    public void shouldFindManyRecords() throws Exception
+    {
+        String fileName = "target/zilla-itests/counters3";
+        Path path = Paths.get(fileName);
+        CountersLayout layout = new CountersLayout.Builder()
+                .path(path)
+                .capacity(1024 * 1024)
+                .readonly(false)
+                .label("counters")
+                .build();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            layout.supplyWriter(i % 10, 42 + i / 10, i).accept(i);
+        }
+
+        for (int i = 0; i < 1000; i++)
+        {
+            assertThat(layout.supplyReader(i % 10, 42 + i / 10, i).getAsLong(), equalTo((long) i));
+        }
+        assertThat(layout.supplyReader(10L, 42, 0).getAsLong(), equalTo(0L));
+
+        layout.close();
+        assertTrue(Files.exists(path));
+        Files.delete(path);
+    }
+
+    @Test
+    public void shouldFindRecordsCreatedAfterReaderOpened() throws Exception
+    {
+        String fileName = "target/zilla-itests/counters4";
+        Path path = Paths.get(fileName);
+        CountersLayout writer = new CountersLayout.Builder()
+                .path(path)
+                .capacity(8192)
+                .readonly(false)
+                .label("counters")
+                .build();
+        CountersLayout reader = new CountersLayout.Builder()
+                .path(path)
+                .readonly(true)
+                .label("counters")
+                .build();
+
+        writer.supplyWriter(11L, 42, 0).accept(1L);
+        assertThat(reader.supplyReader(11L, 42, 0).getAsLong(), equalTo(1L));
+        assertThat(reader.supplyReader(22L, 77, 0).getAsLong(), equalTo(0L));
+
+        writer.supplyWriter(22L, 77, 0).accept(2L);
+        assertThat(reader.supplyReader(22L, 77, 0).getAsLong(), equalTo(2L));
+
+        reader.close();
+        writer.close();
+        assertTrue(Files.exists(path));
+        Files.delete(path);
+    }
+
     @Test
     public void shouldGetIds()
     {
@@ -28,6 +28,8 @@ import java.util.function.LongSupplier;
 
 import org.junit.Test;
 
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
+
 public class HistogramsLayoutTest
 {
     @Test
@@ -197,6 +199,40 @@ public class HistogramsLayoutTest
         Files.delete(path);
     }
 
+    @Test
+    public void shouldSizeFromRecordsAndBuckets() throws Exception
+    {
+        String fileName = "target/zilla-itests/histograms4";
+        Path path = Paths.get(fileName);
+        HistogramBuckets buckets = HistogramBuckets.of(3);
+        HistogramsLayout histogramsLayout = new HistogramsLayout.Builder()
+                .path(path)
+                .records(2)
+                .buckets(buckets)
+                .readonly(false)
+                .build();
+
+        LongConsumer writer = histogramsLayout.supplyWriter(11L, 42, 0);
+        histogramsLayout.supplyWriter(22L, 77, 0);
+        assertThrows(IndexOutOfBoundsException.class, () ->
+        {
+            histogramsLayout.supplyWriter(33L, 88, 0);
+        });
+
+        writer.accept(Long.MAX_VALUE);
+        LongSupplier[] readers = histogramsLayout.supplyReaders(11L, 42, 0);
+        assertThat(readers[buckets.count() - 1].getAsLong(), equalTo(1L));
+
+        LongSupplier[] missing = histogramsLayout.supplyReaders(99999L, 99999, 0);
+        assertThat(missing.length, equalTo(buckets.count()));
+        assertThat(missing[buckets.count() - 1].getAsLong(), equalTo(0L));
+
+        histogramsLayout.close();
+        assertTrue(Files.exists(path));
+        assertThat(Files.size(path), equalTo(2L * (24L + buckets.count() * 8L)));
+        Files.delete(path);
+    }
+
     @Test
     public void shouldGetIds()
     {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.config.engine.EngineConfig;
+import io.aklivity.zilla.config.engine.EngineConfigWriter;
+import io.aklivity.zilla.config.engine.EngineInfo;
+import io.aklivity.zilla.config.engine.KindConfig;
+import io.aklivity.zilla.config.engine.NamespaceConfig;
+import io.aklivity.zilla.config.engine.NamespaceConfigBuilder;
+
+public class EngineConfigDiffTest
+{
+    private final EngineConfigWriter writer = new EngineConfigWriter(new EngineInfo());
+
+    @Test
+    public void shouldKeepUnchangedNamespaces()
+    {
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(namespace("test", "test0", "test1"))
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace(namespace("test", "test0", "test1"))
+            .build();
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, text(previous), next, text(next));
+
+        assertNotNull(diff);
+        assertTrue(diff.isEmpty());
+        assertSame(previous.namespaces.get(0), diff.config.namespaces.get(0));
+    }
+
+    @Test
+    public void shouldUpdateChangedBindingsOnly()
+    {
+        NamespaceConfig previousNamespace = namespace("test", "test0", "test1");
+        NamespaceConfig nextNamespace = namespace("test", "test0", "test2");
+
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(previousNamespace)
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace(nextNamespace)
+            .build();
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, text(previous), next, text(next));
+
+        assertNotNull(diff);
+        assertTrue(diff.attached.isEmpty());
+        assertTrue(diff.detached.isEmpty());
+        assertEquals(1, diff.updated.size());
+
+        NamespaceUpdate update = diff.updated.get(0);
+        assertSame(previousNamespace, update.previous);
+        assertSame(nextNamespace, update.next);
+        assertEquals(1, update.detachedBindings.size());
+        assertEquals("test1", update.detachedBindings.get(0).name);
+        assertEquals(1, update.attachedBindings.size());
+        assertEquals("test2", update.attachedBindings.get(0).name);
+        assertSame(nextNamespace, diff.config.namespaces.get(0));
+    }
+
+    @Test
+    public void shouldAttachAndDetachNamespaces()
+    {
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(namespace("test", "test0"))
+            .namespace(namespace("removed", "test0"))
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace(namespace("test", "test0"))
+            .namespace(namespace("added", "test0"))
+            .build();
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, text(previous), next, text(next));
+
+        assertNotNull(diff);
+        assertTrue(diff.updated.isEmpty());
+        assertEquals(1, diff.detached.size());
+        assertEquals("removed", diff.detached.get(0).name);
+        assertEquals(1, diff.attached.size());
+        assertEquals("added", diff.attached.get(0).name);
+        assertEquals(2, diff.config.namespaces.size());
+    }
+
+    @Test
+    public void shouldNotDiffWhenGuardsChanged()
+    {
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(namespace("test", "test0"))
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace()
+                .name("test")
+                .guard()
+                    .name("guard0")
+                    .type("test")
+                    .build()
+                .binding()
+                    .name("test0")
+                    .type("test")
+                    .kind(KindConfig.SERVER)
+                    .build()
+                .build()
+            .build();
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, text(previous), next, text(next));
+
+        assertNull(diff);
+    }
+
+    @Test
+    public void shouldUpdateBindingsWhenUnwrittenSourceChanged()
+    {
+        NamespaceConfig previousNamespace = namespace("test", "test0", "test1");
+        NamespaceConfig nextNamespace = namespace("test", "test0", "test1");
+
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(previousNamespace)
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace(nextNamespace)
+            .build();
+
+        String previousText = text(previous);
+        String nextText = previousText.replaceFirst("(?m)^(\\s+)type: test$", "$1type: test\n$1unwritten: true");
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, previousText, next, nextText);
+
+        assertNotNull(diff);
+        assertEquals(1, diff.updated.size());
+
+        NamespaceUpdate update = diff.updated.get(0);
+        assertEquals(1, update.detachedBindings.size());
+        assertEquals("test0", update.detachedBindings.get(0).name);
+        assertEquals(1, update.attachedBindings.size());
+        assertEquals("test0", update.attachedBindings.get(0).name);
+    }
+
+    @Test
+    public void shouldNotDiffWhenSourceUnmatched()
+    {
+        EngineConfig previous = EngineConfig.builder()
+            .namespace(namespace("test", "test0"))
+            .build();
+        EngineConfig next = EngineConfig.builder()
+            .namespace(namespace("test", "test0"))
+            .build();
+
+        EngineConfigDiff diff = EngineConfigDiff.of(writer, previous, text(previous), next, null);
+
+        assertNull(diff);
+    }
+
+    private String text(
+        EngineConfig config)
+    {
+        return config.namespaces.stream()
+            .map(writer::write)
+            .collect(Collectors.joining("\n---\n"));
+    }
+
+    private static NamespaceConfig namespace(
+        String name,
+        String... bindings)
+    {
+        NamespaceConfigBuilder<NamespaceConfig> namespace = NamespaceConfig.builder()
+            .name(name);
+
+        for (String binding : bindings)
+        {
+            namespace
+                .binding()
+                    .name(binding)
+                    .type("test")
+                    .kind(KindConfig.SERVER)
+                    .build();
+        }
+
+        return namespace.build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
+
+public class HistogramBucketsTest
+{
+    @Test
+    public void shouldMatchPowerOfTwoLayoutBuckets()
+    {
+        HistogramBuckets buckets = HistogramBuckets.of(0);
+
+        assertSame(HistogramBuckets.POWER_OF_TWO, buckets);
+        assertEquals(HistogramsLayout.BUCKETS, buckets.count());
+        assertArrayEquals(HistogramsLayout.BUCKET_LIMITS, buckets.limits());
+        assertEquals(0, buckets.index(0L));
+        assertEquals(0, buckets.index(1L));
+        assertEquals(20, buckets.index(1_100_000L));
+        assertEquals(20, buckets.index(2_000_000L));
+    }
+
+    @Test
+    public void shouldSeparateValuesWithinPowerOfTwo()
+    {
+        HistogramBuckets buckets = HistogramBuckets.of(2);
+
+        assertNotEquals(buckets.index(1_100_000L), buckets.index(2_000_000L));
+        assertNotEquals(buckets.index(1_100_000L), buckets.index(1_200_000L));
+    }
+
+    @Test
+    public void shouldBoundRelativeError()
+    {
+        for (int digits = 1; digits <= 3; digits++)
+        {
+            HistogramBuckets buckets = HistogramBuckets.of(digits);
+            long[] limits = buckets.limits();
+            double error = Math.pow(10, -digits);
+
+            for (long value = 1L; value < 1L << 40; value = value * 3 + 1)
+            {
+                int index = buckets.index(value);
+                long lower = index == 0 ? 0L : limits[index - 1];
+
+                assertTrue(value >= lower && value < limits[index]);
+                assertTrue((double) (limits[index] - 1 - lower) / Math.max(lower, 1L) <= error);
+            }
+        }
+    }
+
+    @Test
+    public void shouldRecordOverflowInLastBucket()
+    {
+        HistogramBuckets buckets = HistogramBuckets.of(1);
+
+        assertEquals(buckets.count() - 1, buckets.index(1L << 40));
+        assertEquals(buckets.count() - 1, buckets.index(Long.MAX_VALUE));
+        assertEquals(1L << 40, buckets.limits()[buckets.count() - 2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTooManySignificantDigits()
+    {
+        HistogramBuckets.of(4);
+    }
+}
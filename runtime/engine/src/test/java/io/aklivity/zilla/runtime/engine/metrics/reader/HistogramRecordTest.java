@@ -17,9 +17,13 @@ package io.aklivity.zilla.runtime.engine.metrics.reader;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 
@@ -27,6 +31,7 @@ import org.junit.Test;
 
 import io.aklivity.zilla.config.engine.KindConfig;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.MetricsLayout;
+import io.aklivity.zilla.runtime.engine.metrics.HistogramBuckets;
 import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
 
 public class HistogramRecordTest
@@ -120,6 +125,37 @@ public class HistogramRecordTest
         assertThat(stats[4], equalTo(302_365_750_092L)); // avg
     }
 
+    @Test
+    public void shouldResolveLogLinearTimeInMilliseconds()
+    {
+        // GIVEN
+        HistogramBuckets buckets = HistogramBuckets.of(2);
+        int fast = buckets.index(1_100_000L);
+        int slow = buckets.index(2_000_000L);
+        LongSupplier[] readers = new LongSupplier[buckets.count()];
+        Arrays.setAll(readers, i -> i == fast || i == slow ? () -> 1L : () -> 0L);
+        HistogramRecord histogram = new HistogramRecord(0L, 0, 0, MetricsLayout.NO_KIND, readers, null, buckets);
+
+        // WHEN
+        histogram.update();
+        long[] value = histogram.millisecondBucketValues();
+        double[] limits = histogram.millisecondBucketLimits();
+        long[] stats = histogram.millisecondStats();
+
+        // THEN
+        assertThat(histogram.buckets(), equalTo(buckets.count()));
+        assertThat(value[fast], equalTo(1L));
+        assertThat(value[slow], equalTo(1L));
+        assertThat(limits[fast], greaterThan(1.1));
+        assertThat(limits[fast], lessThan(1.11));
+        assertThat(limits[fast - 1], lessThanOrEqualTo(1.1));
+        assertThat(limits[slow], greaterThan(2.0));
+        assertThat(limits[slow - 1], lessThanOrEqualTo(2.0));
+        assertThat(stats[0], equalTo(1L)); // min
+        assertThat(stats[1], equalTo(2L)); // max
+        assertThat(stats[3], equalTo(2L)); // cnt
+    }
+
     @Test
     public void shouldReturnZeroStatsWhenEmpty()
     {
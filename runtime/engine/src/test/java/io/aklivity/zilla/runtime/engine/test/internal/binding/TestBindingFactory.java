@@ -78,6 +78,7 @@ import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.Data
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.EndFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.FlushFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.ResetFW;
+import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.SignalFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.TestDataExFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.TestEnvelopeValueFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.WindowFW;
@@ -90,6 +91,7 @@ final class TestBindingFactory implements BindingHandler
     private static final int FLAGS_INIT = 0x02;
     private static final int FLAGS_FIN = 0x01;
     private static final int DATA_FRAME_HEADER_SIZE = 85;
+    private static final int CATALOG_SIGNAL = 1;
     private static final List<String> EMPTY_ROLES = emptyList();
 
     private final BeginFW beginRO = new BeginFW();
@@ -116,6 +118,8 @@ final class TestBindingFactory implements BindingHandler
     private final ChallengeFW challengeRO = new ChallengeFW();
     private final ChallengeFW.Builder challengeRW = new ChallengeFW.Builder();
 
+    private final SignalFW signalRO = new SignalFW();
+
     private final OctetsFW octetsRO = new OctetsFW();
     private final OctetsFW envelopeExtRO = new OctetsFW();
 
@@ -490,6 +494,8 @@ final class TestBindingFactory implements BindingHandler
         private boolean pendingBegin;
         private long pendingTraceId;
         private boolean storeAssertionsStarted;
+        private int catalogAssertionIndex;
+        private boolean catalogPreparing;
         private final ModelPipeline pipeline;
         private final MutableDirectBufferEx initialBuffer;
 
@@ -674,6 +680,19 @@ final class TestBindingFactory implements BindingHandler
                 ChallengeFW challenge = challengeRO.wrap(buffer, index, index + length);
                 onReplyChallenge(challenge);
                 break;
+            case SignalFW.TYPE_ID:
+                SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onInitialSignal(signal);
+                break;
+            }
+        }
+
+        private void onInitialSignal(
+            SignalFW signal)
+        {
+            if (signal.signalId() == CATALOG_SIGNAL)
+            {
+                doCatalogAssertions(signal.traceId());
             }
         }
 
@@ -732,10 +751,26 @@ final class TestBindingFactory implements BindingHandler
 
             if (catalogs != null)
             {
-                CatalogHandler handler = catalogs.get(0);
-                if (catalogAssertions != null && !catalogAssertions.isEmpty())
+                doCatalogAssertions(traceId);
+            }
+            else
+            {
+                runInitialBeginChecks(traceId);
+            }
+        }
+
+        // a cold catalog answers on a signal rather than blocking the worker, so each lookup is prepared
+        // first and the remaining assertions resume from catalogAssertionIndex once it settles
+        private void doCatalogAssertions(
+            long traceId)
+        {
+            CatalogHandler handler = catalogs.get(0);
+            if (catalogAssertions != null && !catalogAssertions.isEmpty())
+            {
+                while (catalogAssertionIndex < catalogAssertions.size())
                 {
-                    for (CatalogAssertion assertion : catalogAssertions)
+                    CatalogAssertion assertion = catalogAssertions.get(catalogAssertionIndex);
+                    if (!catalogPreparing)
                     {
                         try
                         {
@@ -745,37 +780,50 @@ final class TestBindingFactory implements BindingHandler
                         {
                             throw new RuntimeException(ex);
                         }
-                        if (catalog.subject != null && catalog.version != null)
+                        catalogPreparing = true;
+                    }
+
+                    if (!prepareCatalog(handler, traceId, DEFAULT_ASSERTION_SCHEMA != assertion.schema))
+                    {
+                        return;
+                    }
+
+                    catalogPreparing = false;
+                    catalogAssertionIndex++;
+
+                    if (catalog.subject != null && catalog.version != null)
+                    {
+                        int id = handler.resolve(catalog.subject, catalog.version);
+                        if (id != assertion.id)
                         {
-                            int id = handler.resolve(catalog.subject, catalog.version);
-                            if (id != assertion.id)
-                            {
-                                doInitialReset(traceId);
-                            }
-                            if (DEFAULT_ASSERTION_SCHEMA != assertion.schema)
-                            {
-                                String schema = handler.resolve(id);
-                                if (!Objects.equals(assertion.schema, schema))
-                                {
-                                    doInitialReset(traceId);
-                                }
-                            }
+                            doInitialReset(traceId);
                         }
-                        else
+                        if (DEFAULT_ASSERTION_SCHEMA != assertion.schema)
                         {
-                            String schema = handler.resolve(catalog.id);
-                            if (assertion.schema == null && schema != null)
-                            {
-                                doInitialReset(traceId);
-                            }
-                            else if (assertion.schema != null && !assertion.schema.equals(schema))
+                            String schema = handler.resolve(id);
+                            if (!Objects.equals(assertion.schema, schema))
                             {
                                 doInitialReset(traceId);
                             }
                         }
                     }
+                    else
+                    {
+                        String schema = handler.resolve(catalog.id);
+                        if (assertion.schema == null && schema != null)
+                        {
+                            doInitialReset(traceId);
+                        }
+                        else if (assertion.schema != null && !assertion.schema.equals(schema))
+                        {
+                            doInitialReset(traceId);
+                        }
+                    }
                 }
-                else
+            }
+            else
+            {
+                if (!catalogPreparing)
                 {
                     if (catalog.subject != null && schema == null)
                     {
@@ -785,17 +833,50 @@ final class TestBindingFactory implements BindingHandler
                     {
                         handler.register(catalog.subject, schema);
                     }
-                    else if (catalog.subject != null && catalog.version != null && schema != null)
-                    {
-                        handler.resolve(catalog.subject, catalog.version);
-                    }
-                    else
+                    catalogPreparing = true;
+                }
+
+                if (catalog.subject == null || schema == null)
+                {
+                    if (!prepareCatalog(handler, traceId, false))
                     {
-                        handler.resolve(catalog.id);
+                        return;
                     }
+                    handler.resolve(catalog.id);
                 }
+
+                catalogPreparing = false;
             }
 
+            runInitialBeginChecks(traceId);
+        }
+
+        private boolean prepareCatalog(
+            CatalogHandler handler,
+            long traceId,
+            boolean schema)
+        {
+            boolean prepared;
+            if (catalog.subject != null && catalog.version != null)
+            {
+                prepared = handler.prepare(catalog.subject, catalog.version,
+                    traceId, originId, routedId, initialId, CATALOG_SIGNAL, 0);
+                if (prepared && schema)
+                {
+                    prepared = handler.prepare(handler.resolve(catalog.subject, catalog.version),
+                        traceId, originId, routedId, initialId, CATALOG_SIGNAL, 0);
+                }
+            }
+            else
+            {
+                prepared = handler.prepare(catalog.id, traceId, originId, routedId, initialId, CATALOG_SIGNAL, 0);
+            }
+            return prepared;
+        }
+
+        private void runInitialBeginChecks(
+            long traceId)
+        {
             if (guard != null && attributes != null && !attributes.isEmpty())
             {
                 for (Map.Entry<String, String> entry : attributes.entrySet())
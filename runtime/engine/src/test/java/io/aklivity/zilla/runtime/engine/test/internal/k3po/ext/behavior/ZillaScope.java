@@ -324,15 +324,14 @@ public final class ZillaScope implements AutoCloseable
     private void doSystemFlush(
         long traceId,
         long budgetId,
+        int watcherBase,
         long watchers)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
+        for (long pending = watchers; pending != 0L; pending &= pending - 1L)
         {
-            if ((watchers & (1L << watcherIndex)) != 0L)
-            {
-                final ZillaTarget target = supplyTarget(watcherIndex);
-                target.doSystemFlush(traceId, budgetId);
-            }
+            final int watcherIndex = watcherBase + Long.numberOfTrailingZeros(pending);
+            final ZillaTarget target = supplyTarget(watcherIndex);
+            target.doSystemFlush(traceId, budgetId);
         }
     }
 
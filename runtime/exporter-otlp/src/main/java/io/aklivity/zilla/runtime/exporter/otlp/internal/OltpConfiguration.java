@@ -23,6 +23,9 @@ public class OltpConfiguration extends Configuration
     public static final PropertyDef<Duration> OTLP_EXPORTER_RETRY_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_TIMEOUT_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_WARNING_INTERVAL;
+    public static final PropertyDef<Encoding> OTLP_EXPORTER_ENCODING;
+    public static final PropertyDef<Compression> OTLP_EXPORTER_COMPRESSION;
+    public static final PropertyDef<Temporality> OTLP_EXPORTER_TEMPORALITY;
 
     private static final ConfigurationDef OTLP_EXPORTER_CONFIG;
 
@@ -35,6 +38,12 @@ public class OltpConfiguration extends Configuration
             (c, v) -> Duration.parse(v), "PT30S");
         OTLP_EXPORTER_WARNING_INTERVAL = config.property(Duration.class, "warning.interval",
             (c, v) -> Duration.parse(v), "PT5M");
+        OTLP_EXPORTER_ENCODING = config.property(Encoding.class, "encoding",
+            (c, v) -> Encoding.valueOf(v.toUpperCase()), "json");
+        OTLP_EXPORTER_COMPRESSION = config.property(Compression.class, "compression",
+            (c, v) -> Compression.valueOf(v.toUpperCase()), "none");
+        OTLP_EXPORTER_TEMPORALITY = config.property(Temporality.class, "temporality",
+            (c, v) -> Temporality.valueOf(v.toUpperCase()), "cumulative");
         OTLP_EXPORTER_CONFIG = config;
     }
 
@@ -58,4 +67,37 @@ public class OltpConfiguration extends Configuration
     {
         return OTLP_EXPORTER_WARNING_INTERVAL.get(this);
     }
+
+    public Encoding encoding()
+    {
+        return OTLP_EXPORTER_ENCODING.get(this);
+    }
+
+    public Compression compression()
+    {
+        return OTLP_EXPORTER_COMPRESSION.get(this);
+    }
+
+    public Temporality temporality()
+    {
+        return OTLP_EXPORTER_TEMPORALITY.get(this);
+    }
+
+    public enum Encoding
+    {
+        JSON,
+        PROTOBUF
+    }
+
+    public enum Compression
+    {
+        NONE,
+        GZIP
+    }
+
+    public enum Temporality
+    {
+        CUMULATIVE,
+        DELTA
+    }
 }
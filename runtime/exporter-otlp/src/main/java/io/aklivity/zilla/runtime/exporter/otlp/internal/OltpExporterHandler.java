@@ -16,6 +16,9 @@ package io.aklivity.zilla.runtime.exporter.otlp.internal;
 
 import static io.aklivity.zilla.config.exporter.otlp.OtlpOptionsConfig.OtlpSignalsConfig.LOGS;
 import static io.aklivity.zilla.config.exporter.otlp.OtlpOptionsConfig.OtlpSignalsConfig.METRICS;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.OltpConfiguration.Compression.GZIP;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.OltpConfiguration.Encoding.PROTOBUF;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.OltpConfiguration.Temporality.DELTA;
 
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -27,25 +30,39 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import io.aklivity.zilla.config.engine.AttributeConfig;
 import io.aklivity.zilla.config.exporter.otlp.OtlpOptionsConfig;
+import io.aklivity.zilla.runtime.common.agrona.buffer.ExpandableArrayBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.exporter.ExporterHandler;
 import io.aklivity.zilla.runtime.engine.metrics.Collector;
 import io.aklivity.zilla.runtime.engine.metrics.reader.MetricsReader;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.OltpConfiguration.Compression;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.OltpConfiguration.Encoding;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.config.OtlpExporterConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.EventReader;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpGzipEncoder;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpLogsEncoder;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpLogsSerializer;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsEncoder;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsSerializer;
 
 public class OltpExporterHandler implements ExporterHandler
 {
     private static final String HTTP = "http";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String CONTENT_TYPE_PROTOBUF = "application/x-protobuf";
+    private static final int INITIAL_BUFFER_CAPACITY = 64 * 1024;
 
     private final long retryInterval;
     private final Duration timeoutInterval;
     private final long warningInterval;
+    private final Encoding encoding;
+    private final Compression compression;
+    private final boolean delta;
     private final EngineContext context;
     private final Set<OtlpOptionsConfig.OtlpSignalsConfig> signals;
     private final String protocol;
@@ -58,14 +75,22 @@ public class OltpExporterHandler implements ExporterHandler
     private final HttpClient logsClient;
     private final String authorization;
     private final Clock clock;
+    private final MutableDirectBufferEx metricsBuffer;
+    private final MutableDirectBufferEx metricsCompressed;
+    private final MutableDirectBufferEx logsBuffer;
+    private final MutableDirectBufferEx logsCompressed;
 
+    private MetricsReader metrics;
     private OtlpMetricsSerializer metricsSerializer;
     private OtlpLogsSerializer logsSerializer;
+    private OtlpMetricsEncoder metricsEncoder;
+    private OtlpLogsEncoder logsEncoder;
+    private OtlpGzipEncoder gzip;
     private long nextAttempt;
     private long lastSuccess;
     private boolean warningLogged;
-    private CompletableFuture<HttpResponse<String>> metricsResponse;
-    private CompletableFuture<HttpResponse<String>> logsResponse;
+    private CompletableFuture<HttpResponse<Void>> metricsResponse;
+    private CompletableFuture<HttpResponse<Void>> logsResponse;
 
     public OltpExporterHandler(
         OltpConfiguration config,
@@ -77,6 +102,9 @@ public class OltpExporterHandler implements ExporterHandler
         this.retryInterval = config.retryInterval().toMillis();
         this.timeoutInterval = config.timeoutInterval();
         this.warningInterval = config.warningInterval().toMillis();
+        this.encoding = config.encoding();
+        this.compression = config.compression();
+        this.delta = config.temporality() == DELTA;
         this.context = context;
         this.metricsEndpoint = exporter.metrics;
         this.logsEndpoint = exporter.logs;
@@ -90,6 +118,10 @@ public class OltpExporterHandler implements ExporterHandler
         this.attributes = attributes;
         this.authorization = options.authorization;
         this.clock = context.clock();
+        this.metricsBuffer = new ExpandableArrayBufferEx(INITIAL_BUFFER_CAPACITY);
+        this.metricsCompressed = new ExpandableArrayBufferEx(INITIAL_BUFFER_CAPACITY);
+        this.logsBuffer = new ExpandableArrayBufferEx(INITIAL_BUFFER_CAPACITY);
+        this.logsCompressed = new ExpandableArrayBufferEx(INITIAL_BUFFER_CAPACITY);
     }
 
     @Override
@@ -97,10 +129,26 @@ public class OltpExporterHandler implements ExporterHandler
     {
         assert HTTP.equals(protocol);
 
-        EventReader eventReader = new EventReader(context);
-        logsSerializer = new OtlpLogsSerializer(attributes, eventReader);
         lastSuccess = clock.millis();
         nextAttempt = lastSuccess + interval;
+        metrics = new MetricsReader(collector, context::supplyLocalName);
+
+        if (encoding == PROTOBUF)
+        {
+            long startTime = TimeUnit.MILLISECONDS.toNanos(lastSuccess);
+            metricsEncoder = new OtlpMetricsEncoder(attributes, context::resolveMetric, delta, startTime);
+            logsEncoder = new OtlpLogsEncoder(attributes, context);
+        }
+        else
+        {
+            EventReader eventReader = new EventReader(context);
+            logsSerializer = new OtlpLogsSerializer(attributes, eventReader);
+        }
+
+        if (compression == GZIP)
+        {
+            gzip = new OtlpGzipEncoder();
+        }
     }
 
     @Override
@@ -129,23 +177,37 @@ public class OltpExporterHandler implements ExporterHandler
     {
         if (signals.contains(METRICS) && (metricsResponse == null || metricsResponse.isDone()))
         {
-            MetricsReader metrics = new MetricsReader(collector, context::supplyLocalName);
-            metricsSerializer = new OtlpMetricsSerializer(metrics.records(), attributes, context::resolveMetric);
-            String metricsJson = metricsSerializer.serializeAll();
-            HttpRequest.Builder metricsRequest = HttpRequest.newBuilder()
-                .uri(metricsEndpoint)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(metricsJson))
-                .timeout(timeoutInterval);
-
-            if (authorization != null)
+            if (metricsEncoder != null && succeeded(metricsResponse))
             {
-                metricsRequest.header("authorization", authorization);
+                metricsEncoder.commit();
             }
+            metricsResponse = null;
 
-            metricsResponse = metricsClient.sendAsync(metricsRequest.build(), HttpResponse.BodyHandlers.ofString());
-            metricsResponse.thenAccept(this::handleResponse);
-            nextAttempt = now + retryInterval;
+            metrics.refresh();
+            int length;
+            if (metricsEncoder != null)
+            {
+                length = metricsEncoder.encode(metrics.records(), TimeUnit.MILLISECONDS.toNanos(now), metricsBuffer, 0);
+            }
+            else
+            {
+                metricsSerializer = new OtlpMetricsSerializer(metrics.records(), attributes, context::resolveMetric);
+                length = metricsBuffer.putStringWithoutLengthUtf8(0, metricsSerializer.serializeAll());
+            }
+
+            if (length != 0)
+            {
+                HttpRequest request = newRequest(metricsEndpoint, metricsBuffer, length, metricsCompressed);
+                metricsResponse = metricsClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+                metricsResponse.thenAccept(this::handleResponse);
+                nextAttempt = now + retryInterval;
+            }
+            else
+            {
+                lastSuccess = now;
+                nextAttempt = now + interval;
+                warningLogged = false;
+            }
         }
     }
 
@@ -154,26 +216,58 @@ public class OltpExporterHandler implements ExporterHandler
     {
         if (signals.contains(LOGS) && (logsResponse == null || logsResponse.isDone()))
         {
-            String logsJson = logsSerializer.serializeAll();
-            HttpRequest.Builder logsRequest = HttpRequest.newBuilder()
-                .uri(logsEndpoint)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(logsJson))
-                .timeout(timeoutInterval);
-
-            if (authorization != null)
+            int length;
+            if (logsEncoder != null)
+            {
+                length = logsEncoder.encode(logsBuffer, 0);
+            }
+            else
             {
-                logsRequest.header("authorization", authorization);
+                length = logsBuffer.putStringWithoutLengthUtf8(0, logsSerializer.serializeAll());
             }
 
-            logsResponse = logsClient.sendAsync(logsRequest.build(), HttpResponse.BodyHandlers.ofString());
-            logsResponse.thenAccept(this::handleResponse);
-            nextAttempt = now + retryInterval;
+            if (length != 0)
+            {
+                HttpRequest request = newRequest(logsEndpoint, logsBuffer, length, logsCompressed);
+                logsResponse = logsClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+                logsResponse.thenAccept(this::handleResponse);
+                nextAttempt = now + retryInterval;
+            }
         }
     }
 
+    private HttpRequest newRequest(
+        URI endpoint,
+        MutableDirectBufferEx buffer,
+        int length,
+        MutableDirectBufferEx compressed)
+    {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+            .uri(endpoint)
+            .header("Content-Type", encoding == PROTOBUF ? CONTENT_TYPE_PROTOBUF : CONTENT_TYPE_JSON)
+            .timeout(timeoutInterval);
+
+        if (gzip != null)
+        {
+            int compressedLength = gzip.encode(buffer, 0, length, compressed, 0);
+            request.header("Content-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(compressed.byteArray(), 0, compressedLength));
+        }
+        else
+        {
+            request.POST(HttpRequest.BodyPublishers.ofByteArray(buffer.byteArray(), 0, length));
+        }
+
+        if (authorization != null)
+        {
+            request.header("authorization", authorization);
+        }
+
+        return request.build();
+    }
+
     private void handleResponse(
-        HttpResponse<String> response)
+        HttpResponse<Void> response)
     {
         if (response.statusCode() == HttpURLConnection.HTTP_OK)
         {
@@ -183,8 +277,20 @@ public class OltpExporterHandler implements ExporterHandler
         }
     }
 
+    private static boolean succeeded(
+        CompletableFuture<HttpResponse<Void>> response)
+    {
+        return response != null &&
+            !response.isCompletedExceptionally() &&
+            response.join().statusCode() == HttpURLConnection.HTTP_OK;
+    }
+
     @Override
     public void stop()
     {
+        if (gzip != null)
+        {
+            gzip.close();
+        }
     }
 }
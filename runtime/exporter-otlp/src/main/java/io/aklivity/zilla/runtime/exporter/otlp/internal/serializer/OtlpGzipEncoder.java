@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+
+/**
+ * Compresses encoded request bodies as a gzip member, reusing the same {@link Deflater} for every export.
+ * <p>
+ * Both buffers must be backed by byte arrays, so that the compressed body can be handed to the HTTP client
+ * without another copy.
+ * </p>
+ */
+public final class OtlpGzipEncoder
+{
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int SIZEOF_TRAILER = Integer.BYTES + Integer.BYTES;
+    private static final int MIN_DEFLATE_CAPACITY = 4096;
+
+    private final Deflater deflater;
+    private final CRC32 checksum;
+
+    public OtlpGzipEncoder()
+    {
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.checksum = new CRC32();
+    }
+
+    /**
+     * Compresses a range of the source buffer into the target buffer.
+     *
+     * @param source        the uncompressed bytes
+     * @param offset        the offset of the uncompressed bytes in the source buffer
+     * @param length        the number of uncompressed bytes
+     * @param target        the destination buffer, expanded as needed
+     * @param targetOffset  the offset in the target buffer to start writing at
+     * @return the limit in the target buffer after the gzip trailer
+     */
+    public int encode(
+        DirectBufferEx source,
+        int offset,
+        int length,
+        MutableDirectBufferEx target,
+        int targetOffset)
+    {
+        final byte[] input = source.byteArray();
+        final int inputOffset = source.wrapAdjustment() + offset;
+
+        checksum.reset();
+        checksum.update(input, inputOffset, length);
+
+        deflater.reset();
+        deflater.setInput(input, inputOffset, length);
+        deflater.finish();
+
+        target.putBytes(targetOffset, HEADER);
+        int limit = targetOffset + HEADER.length;
+
+        while (!deflater.finished())
+        {
+            target.checkLimit(limit + Math.max(MIN_DEFLATE_CAPACITY, deflater.getRemaining()));
+
+            final int outputOffset = target.wrapAdjustment() + limit;
+            final int outputLength = target.capacity() - limit;
+            limit += deflater.deflate(target.byteArray(), outputOffset, outputLength);
+        }
+
+        target.putInt(limit, (int) checksum.getValue(), LITTLE_ENDIAN);
+        target.putInt(limit + Integer.BYTES, length, LITTLE_ENDIAN);
+
+        return limit + SIZEOF_TRAILER;
+    }
+
+    public void close()
+    {
+        deflater.end();
+    }
+}
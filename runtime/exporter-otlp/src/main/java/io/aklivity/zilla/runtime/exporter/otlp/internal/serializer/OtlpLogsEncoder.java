@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.aklivity.zilla.config.engine.AttributeConfig;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageReader;
+import io.aklivity.zilla.runtime.engine.event.EventFormatter;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.types.event.EventFW;
+
+/**
+ * Encodes pending engine events as an OTLP {@code ExportLogsServiceRequest} protobuf message.
+ */
+public final class OtlpLogsEncoder
+{
+    private static final int MESSAGE_COUNT_LIMIT = 100;
+    private static final String SCOPE_NAME = "OtlpLogsSerializer";
+    private static final String SCOPE_VERSION = "1.0.0";
+
+    private static final int REQUEST_RESOURCE_LOGS = 1;
+    private static final int RESOURCE_LOGS_RESOURCE = 1;
+    private static final int RESOURCE_LOGS_SCOPE_LOGS = 2;
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    private static final int SCOPE_LOGS_SCOPE = 1;
+    private static final int SCOPE_LOGS_LOG_RECORDS = 2;
+    private static final int SCOPE_NAME_FIELD = 1;
+    private static final int SCOPE_VERSION_FIELD = 2;
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING = 1;
+
+    private static final int LOG_TIME = 1;
+    private static final int LOG_BODY = 5;
+    private static final int LOG_ATTRIBUTES = 6;
+    private static final int LOG_OBSERVED_TIME = 11;
+
+    private final List<AttributeConfig> attributes;
+    private final EngineContext context;
+    private final MessageReader readEvent;
+    private final EventFormatter formatter;
+    private final EventFW eventRO = new EventFW();
+    private final OtlpProtobufWriter writer;
+
+    public OtlpLogsEncoder(
+        List<AttributeConfig> attributes,
+        EngineContext context)
+    {
+        this.attributes = attributes;
+        this.context = context;
+        this.readEvent = context.supplyEventReader();
+        this.formatter = context.supplyEventFormatter();
+        this.writer = new OtlpProtobufWriter();
+    }
+
+    /**
+     * Encodes the pending events into the buffer.
+     *
+     * @param buffer  the destination buffer, expanded as needed
+     * @param offset  the offset in the buffer to start encoding at
+     * @return the limit in the buffer after the encoded request, or {@code offset} if there are no events
+     */
+    public int encode(
+        MutableDirectBufferEx buffer,
+        int offset)
+    {
+        writer.wrap(buffer, offset);
+
+        final int resourceLogs = writer.beginMessage(REQUEST_RESOURCE_LOGS);
+        final int resource = writer.beginMessage(RESOURCE_LOGS_RESOURCE);
+        for (AttributeConfig attribute : attributes)
+        {
+            putAttribute(RESOURCE_ATTRIBUTES, attribute.name, attribute.value);
+        }
+        writer.endMessage(resource);
+
+        final int scopeLogs = writer.beginMessage(RESOURCE_LOGS_SCOPE_LOGS);
+        final int scope = writer.beginMessage(SCOPE_LOGS_SCOPE);
+        writer.putString(SCOPE_NAME_FIELD, SCOPE_NAME);
+        writer.putString(SCOPE_VERSION_FIELD, SCOPE_VERSION);
+        writer.endMessage(scope);
+
+        final int events = readEvent.read(this::handleEvent, MESSAGE_COUNT_LIMIT);
+
+        writer.endMessage(scopeLogs);
+        writer.endMessage(resourceLogs);
+
+        return events != 0 ? writer.limit() : offset;
+    }
+
+    private void handleEvent(
+        int msgTypeId,
+        DirectBufferEx buffer,
+        int index,
+        int length)
+    {
+        final EventFW event = eventRO.wrap(buffer, index, index + length);
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(event.timestamp());
+        final String qname = context.supplyQName(event.namespacedId());
+        final String eventName = context.supplyEventName(event.id());
+        final String extension = formatter.format(msgTypeId, buffer, index, length);
+
+        final int record = writer.beginMessage(SCOPE_LOGS_LOG_RECORDS);
+        writer.putFixed64(LOG_TIME, nanos);
+        final int body = writer.beginMessage(LOG_BODY);
+        writer.putString(ANY_VALUE_STRING, qname + " " + extension);
+        writer.endMessage(body);
+        putAttribute(LOG_ATTRIBUTES, "event.name", eventName);
+        writer.putFixed64(LOG_OBSERVED_TIME, nanos);
+        writer.endMessage(record);
+    }
+
+    private void putAttribute(
+        int field,
+        String key,
+        String value)
+    {
+        final int keyValue = writer.beginMessage(field);
+        writer.putString(KEY_VALUE_KEY, key);
+        final int anyValue = writer.beginMessage(KEY_VALUE_VALUE);
+        writer.putString(ANY_VALUE_STRING, value);
+        writer.endMessage(anyValue);
+        writer.endMessage(keyValue);
+    }
+}
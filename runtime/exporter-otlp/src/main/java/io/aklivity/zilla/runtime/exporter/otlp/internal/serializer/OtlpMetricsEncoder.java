@@ -0,0 +1,400 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.MILLISECONDS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.aklivity.zilla.config.engine.AttributeConfig;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+
+/**
+ * Encodes metric records as an OTLP {@code ExportMetricsServiceRequest} protobuf message.
+ * <p>
+ * With delta temporality, counters and histograms are reported as the change since the last acknowledged
+ * export, and series that have not changed since then are left out of the request altogether. The values
+ * sent are only taken as the new baseline once {@link #commit()} is called, so a failed export is folded
+ * into the next one instead of being lost.
+ * </p>
+ */
+public final class OtlpMetricsEncoder
+{
+    private static final String SCOPE_NAME = "OtlpMetricsSerializer";
+    private static final String SCOPE_VERSION = "1.0.0";
+    private static final String SERVICE_NAME = "service.name";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final int TEMPORALITY_DELTA = 1;
+    private static final int TEMPORALITY_CUMULATIVE = 2;
+
+    private static final int REQUEST_RESOURCE_METRICS = 1;
+    private static final int RESOURCE_METRICS_RESOURCE = 1;
+    private static final int RESOURCE_METRICS_SCOPE_METRICS = 2;
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    private static final int SCOPE_METRICS_SCOPE = 1;
+    private static final int SCOPE_METRICS_METRICS = 2;
+    private static final int SCOPE_NAME_FIELD = 1;
+    private static final int SCOPE_VERSION_FIELD = 2;
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING = 1;
+
+    private static final int METRIC_NAME = 1;
+    private static final int METRIC_DESCRIPTION = 2;
+    private static final int METRIC_UNIT = 3;
+    private static final int METRIC_GAUGE = 5;
+    private static final int METRIC_SUM = 7;
+    private static final int METRIC_HISTOGRAM = 9;
+
+    private static final int DATA_POINTS = 1;
+    private static final int AGGREGATION_TEMPORALITY = 2;
+    private static final int SUM_IS_MONOTONIC = 3;
+
+    private static final int NUMBER_START_TIME = 2;
+    private static final int NUMBER_TIME = 3;
+    private static final int NUMBER_AS_DOUBLE = 4;
+    private static final int NUMBER_AS_INT = 6;
+    private static final int NUMBER_ATTRIBUTES = 7;
+
+    private static final int HISTOGRAM_START_TIME = 2;
+    private static final int HISTOGRAM_TIME = 3;
+    private static final int HISTOGRAM_COUNT = 4;
+    private static final int HISTOGRAM_SUM = 5;
+    private static final int HISTOGRAM_BUCKET_COUNTS = 6;
+    private static final int HISTOGRAM_EXPLICIT_BOUNDS = 7;
+    private static final int HISTOGRAM_ATTRIBUTES = 9;
+    private static final int HISTOGRAM_MIN = 11;
+    private static final int HISTOGRAM_MAX = 12;
+
+    private static final int STATE_ACKNOWLEDGED = 0;
+    private static final int STATE_VALUES = 1;
+
+    private final List<AttributeConfig> attributes;
+    private final OtlpMetricsDescriptor descriptor;
+    private final boolean delta;
+    private final String serviceName;
+    private final OtlpProtobufWriter writer;
+    private final Map<Series, long[]> series;
+
+    private long startTime;
+    private long pendingTime;
+    private long[] bucketCounts;
+    private double[] explicitBounds;
+
+    public OtlpMetricsEncoder(
+        List<AttributeConfig> attributes,
+        Function<String, Metric> resolveMetric,
+        boolean delta,
+        long startTime)
+    {
+        this.attributes = attributes;
+        this.descriptor = new OtlpMetricsDescriptor(resolveMetric);
+        this.delta = delta;
+        this.serviceName = attributes.stream()
+            .filter(a -> SERVICE_NAME.equals(a.name))
+            .map(a -> a.value)
+            .findFirst()
+            .orElse(null);
+        this.writer = new OtlpProtobufWriter();
+        this.series = new HashMap<>();
+        this.startTime = startTime;
+        this.pendingTime = startTime;
+        this.bucketCounts = new long[0];
+        this.explicitBounds = new double[0];
+    }
+
+    /**
+     * Encodes the metric records into the buffer.
+     *
+     * @param records  the metric records to encode
+     * @param time     the time of the export, in nanoseconds since the epoch
+     * @param buffer   the destination buffer, expanded as needed
+     * @param offset   the offset in the buffer to start encoding at
+     * @return the limit in the buffer after the encoded request, or {@code offset} if there is nothing to export
+     */
+    public int encode(
+        List<MetricRecord> records,
+        long time,
+        MutableDirectBufferEx buffer,
+        int offset)
+    {
+        pendingTime = time;
+        writer.wrap(buffer, offset);
+
+        final int resourceMetrics = writer.beginMessage(REQUEST_RESOURCE_METRICS);
+        final int resource = writer.beginMessage(RESOURCE_METRICS_RESOURCE);
+        for (AttributeConfig attribute : attributes)
+        {
+            putAttribute(RESOURCE_ATTRIBUTES, attribute.name, attribute.value);
+        }
+        writer.endMessage(resource);
+
+        final int scopeMetrics = writer.beginMessage(RESOURCE_METRICS_SCOPE_METRICS);
+        final int scope = writer.beginMessage(SCOPE_METRICS_SCOPE);
+        writer.putString(SCOPE_NAME_FIELD, SCOPE_NAME);
+        writer.putString(SCOPE_VERSION_FIELD, SCOPE_VERSION);
+        writer.endMessage(scope);
+
+        int encoded = 0;
+        for (MetricRecord record : records)
+        {
+            if (record instanceof HistogramRecord histogram)
+            {
+                encoded += encodeHistogram(histogram, time);
+            }
+            else if (record instanceof ScalarRecord scalar)
+            {
+                encoded += encodeScalar(scalar, time);
+            }
+        }
+
+        writer.endMessage(scopeMetrics);
+        writer.endMessage(resourceMetrics);
+
+        return encoded != 0 ? writer.limit() : offset;
+    }
+
+    /**
+     * Acknowledges the last encoded request, so that the next delta is taken from the values it reported.
+     */
+    public void commit()
+    {
+        if (delta)
+        {
+            for (long[] state : series.values())
+            {
+                final int size = (state.length - STATE_VALUES) >> 1;
+                System.arraycopy(state, STATE_VALUES + size, state, STATE_VALUES, size);
+                state[STATE_ACKNOWLEDGED] = 1L;
+            }
+            startTime = pendingTime;
+        }
+    }
+
+    private int encodeScalar(
+        ScalarRecord record,
+        long time)
+    {
+        final String metric = record.metric();
+        final String kind = descriptor.kind(metric);
+        final String unit = descriptor.unit(metric);
+        final boolean sum = "sum".equals(kind);
+        final long value = record.valueReader().getAsLong();
+
+        long sample = value;
+        boolean changed = true;
+        if (delta)
+        {
+            final long[] state = state(record, 1);
+            final long acknowledged = state[STATE_VALUES];
+            state[STATE_VALUES + 1] = value;
+            changed = state[STATE_ACKNOWLEDGED] == 0L || value != acknowledged;
+            if (sum)
+            {
+                sample = value - acknowledged;
+            }
+        }
+
+        if (changed)
+        {
+            final int body = writer.beginMessage(SCOPE_METRICS_METRICS);
+            writer.putString(METRIC_NAME, descriptor.nameByBinding(metric, record.bindingKind()));
+            writer.putString(METRIC_DESCRIPTION, descriptor.description(metric));
+            writer.putString(METRIC_UNIT, unit);
+
+            final int data = writer.beginMessage(sum ? METRIC_SUM : METRIC_GAUGE);
+            final int point = writer.beginMessage(DATA_POINTS);
+            putAttributes(NUMBER_ATTRIBUTES, record);
+            if (sum)
+            {
+                writer.putFixed64(NUMBER_START_TIME, startTime);
+            }
+            writer.putFixed64(NUMBER_TIME, time);
+            if (MILLISECONDS.equals(unit))
+            {
+                writer.putDouble(NUMBER_AS_DOUBLE, sample / NANOS_PER_MILLI);
+            }
+            else
+            {
+                writer.putFixed64(NUMBER_AS_INT, sample);
+            }
+            writer.endMessage(point);
+            if (sum)
+            {
+                writer.putVarint(AGGREGATION_TEMPORALITY, delta ? TEMPORALITY_DELTA : TEMPORALITY_CUMULATIVE);
+                writer.putBool(SUM_IS_MONOTONIC, true);
+            }
+            writer.endMessage(data);
+
+            writer.endMessage(body);
+        }
+
+        return changed ? 1 : 0;
+    }
+
+    private int encodeHistogram(
+        HistogramRecord record,
+        long time)
+    {
+        record.update();
+
+        final String metric = record.metric();
+        final String unit = descriptor.unit(metric);
+        final boolean milliseconds = MILLISECONDS.equals(unit);
+        final int buckets = record.buckets();
+        final long[] values = milliseconds ? record.millisecondBucketValues() : record.bucketValues();
+        final long[] stats = milliseconds ? record.millisecondStats() : record.stats();
+
+        if (bucketCounts.length < buckets)
+        {
+            bucketCounts = new long[buckets];
+            explicitBounds = new double[buckets];
+        }
+
+        long count = stats[3];
+        long sum = stats[2];
+        boolean changed = true;
+        if (delta)
+        {
+            final long[] state = state(record, buckets + 1);
+            final int pending = STATE_VALUES + buckets + 1;
+            count = 0L;
+            for (int i = 0; i < buckets; i++)
+            {
+                bucketCounts[i] = values[i] - state[STATE_VALUES + i];
+                state[pending + i] = values[i];
+                count += bucketCounts[i];
+            }
+            sum -= state[STATE_VALUES + buckets];
+            state[pending + buckets] = stats[2];
+            changed = state[STATE_ACKNOWLEDGED] == 0L || count != 0L;
+        }
+        else
+        {
+            System.arraycopy(values, 0, bucketCounts, 0, buckets);
+        }
+
+        if (changed)
+        {
+            // collapse runs of empty log-linear buckets, keeping the bound below each non-empty bucket;
+            // decided on cumulative values even for delta temporality, so the exported bounds only ever grow
+            final boolean sparse = record.significantDigits() != 0;
+            int exported = 0;
+            for (int i = 0; i < buckets; i++)
+            {
+                if (!sparse || i == buckets - 1 || values[i] != 0L || values[i + 1] != 0L)
+                {
+                    bucketCounts[exported] = bucketCounts[i];
+                    if (i < buckets - 1)
+                    {
+                        explicitBounds[exported] = milliseconds ? record.millisecondBucketLimits()[i] : record.bucketLimits()[i];
+                    }
+                    exported++;
+                }
+            }
+
+            final int body = writer.beginMessage(SCOPE_METRICS_METRICS);
+            writer.putString(METRIC_NAME, descriptor.nameByBinding(metric, record.bindingKind()));
+            writer.putString(METRIC_DESCRIPTION, descriptor.description(metric));
+            writer.putString(METRIC_UNIT, unit);
+
+            final int data = writer.beginMessage(METRIC_HISTOGRAM);
+            final int point = writer.beginMessage(DATA_POINTS);
+            putAttributes(HISTOGRAM_ATTRIBUTES, record);
+            writer.putFixed64(HISTOGRAM_START_TIME, startTime);
+            writer.putFixed64(HISTOGRAM_TIME, time);
+            writer.putFixed64(HISTOGRAM_COUNT, count);
+            writer.putDouble(HISTOGRAM_SUM, sum);
+            writer.putPackedFixed64(HISTOGRAM_BUCKET_COUNTS, bucketCounts, exported);
+            writer.putPackedDouble(HISTOGRAM_EXPLICIT_BOUNDS, explicitBounds, exported - 1);
+            if (!delta)
+            {
+                writer.putDouble(HISTOGRAM_MIN, stats[0]);
+                writer.putDouble(HISTOGRAM_MAX, stats[1]);
+            }
+            writer.endMessage(point);
+            writer.putVarint(AGGREGATION_TEMPORALITY, delta ? TEMPORALITY_DELTA : TEMPORALITY_CUMULATIVE);
+            writer.endMessage(data);
+
+            writer.endMessage(body);
+        }
+
+        return changed ? 1 : 0;
+    }
+
+    private long[] state(
+        MetricRecord record,
+        int size)
+    {
+        final Series key = new Series(record.bindingId(), record.metric(), record.attributesId());
+        long[] state = series.get(key);
+        if (state == null || state.length != STATE_VALUES + size + size)
+        {
+            state = new long[STATE_VALUES + size + size];
+            series.put(key, state);
+        }
+        return state;
+    }
+
+    private void putAttributes(
+        int field,
+        MetricRecord record)
+    {
+        if (record.namespace() != null)
+        {
+            putAttribute(field, "namespace", record.namespace());
+        }
+        if (record.binding() != null)
+        {
+            putAttribute(field, "binding", record.binding());
+        }
+        if (serviceName != null)
+        {
+            putAttribute(field, SERVICE_NAME, serviceName);
+        }
+        for (Map.Entry<String, String> entry : record.attributes().entrySet())
+        {
+            putAttribute(field, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void putAttribute(
+        int field,
+        String key,
+        String value)
+    {
+        final int keyValue = writer.beginMessage(field);
+        writer.putString(KEY_VALUE_KEY, key);
+        final int anyValue = writer.beginMessage(KEY_VALUE_VALUE);
+        writer.putString(ANY_VALUE_STRING, value);
+        writer.endMessage(anyValue);
+        writer.endMessage(keyValue);
+    }
+
+    private record Series(
+        long bindingId,
+        String metric,
+        int attributesId)
+    {
+    }
+}
@@ -14,12 +14,10 @@
  */
 package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
 
-import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.MILLISECONDS;
 
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -29,10 +27,7 @@ import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 
-import org.agrona.collections.Object2ObjectHashMap;
-
 import io.aklivity.zilla.config.engine.AttributeConfig;
-import io.aklivity.zilla.config.engine.KindConfig;
 import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
 import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
@@ -45,26 +40,9 @@ public class OtlpMetricsSerializer
     private static final String SERVICE_NAME = "service.name";
     // CUMULATIVE is an AggregationTemporality for a metric aggregator which reports changes since a fixed start time.
     private static final int CUMULATIVE = 2;
-    private static final Map<String, String> SERVER_METRIC_NAMES = Map.of(
-        "http.request.size", "http.server.request.size",
-        "http.response.size", "http.server.response.size",
-        "http.duration", "http.server.duration",
-        "http.active.requests", "http.server.active_requests"
-    );
-    private static final Map<String, String> CLIENT_METRIC_NAMES = Map.of(
-        "http.request.size", "http.client.request.size",
-        "http.response.size", "http.client.response.size",
-        "http.duration", "http.client.duration"
-    );
-    private static final Map<KindConfig, Map<String, String>> KIND_METRIC_NAMES = Map.of(
-        KindConfig.SERVER, SERVER_METRIC_NAMES,
-        KindConfig.CLIENT, CLIENT_METRIC_NAMES
-    );
-    private static final String MILLISECONDS = "milliseconds";
 
     private final List<MetricRecord> records;
     private final List<AttributeConfig> attributes;
-    private final Function<String, Metric> resolveMetric;
     private final OtlpMetricsDescriptor descriptor;
     private final AttributeConfig serviceNameAttribute;
 
@@ -75,8 +53,7 @@ public class OtlpMetricsSerializer
     {
         this.records = records;
         this.attributes = attributes;
-        this.resolveMetric = resolveMetric;
-        this.descriptor = new OtlpMetricsDescriptor();
+        this.descriptor = new OtlpMetricsDescriptor(resolveMetric);
         this.serviceNameAttribute = resolveServiceNameAttribute();
     }
 
@@ -226,14 +203,30 @@ public class OtlpMetricsSerializer
         HistogramRecord record)
     {
         record.update();
+        String unit = descriptor.unit(record.metric());
         // Histogram buckets are inclusive of their upper boundary, except the last bucket where the boundary is at infinity.
-        JsonArrayBuilder explicitBounds = Json.createArrayBuilder();
-        Arrays.stream(record.bucketLimits()).limit(record.buckets() - 1).forEach(explicitBounds::add);
+        // Runs of empty log-linear buckets are collapsed, keeping the boundary below each non-empty bucket.
         // The number of elements in bucket_counts must be by one greater than the number of elements in explicit_bounds.
+        JsonArrayBuilder explicitBounds = Json.createArrayBuilder();
         JsonArrayBuilder bucketCounts = Json.createArrayBuilder();
-        String unit = descriptor.unit(record.metric());
+        int buckets = record.buckets();
+        boolean sparse = record.significantDigits() != 0;
         long[] bucketValues = MILLISECONDS.equals(unit) ? record.millisecondBucketValues() : record.bucketValues();
-        Arrays.stream(bucketValues).forEach(bucketCounts::add);
+        for (int i = 0; i < buckets; i++)
+        {
+            if (!sparse || i == buckets - 1 || bucketValues[i] != 0L || bucketValues[i + 1] != 0L)
+            {
+                bucketCounts.add(bucketValues[i]);
+                if (i < buckets - 1 && MILLISECONDS.equals(unit))
+                {
+                    addBound(explicitBounds, record.millisecondBucketLimits()[i]);
+                }
+                else if (i < buckets - 1)
+                {
+                    explicitBounds.add(record.bucketLimits()[i]);
+                }
+            }
+        }
         long[] stats = MILLISECONDS.equals(unit) ? record.millisecondStats() : record.stats();
         JsonObject dataPoint = Json.createObjectBuilder()
             .add("timeUnixNano", now())
@@ -259,6 +252,20 @@ public class OtlpMetricsSerializer
             .build();
     }
 
+    private static void addBound(
+        JsonArrayBuilder explicitBounds,
+        double bound)
+    {
+        if (bound == Math.rint(bound))
+        {
+            explicitBounds.add((long) bound);
+        }
+        else
+        {
+            explicitBounds.add(bound);
+        }
+    }
+
     private String createJson(
         JsonArrayBuilder attributes,
         JsonArrayBuilder metricsArray)
@@ -289,70 +296,4 @@ public class OtlpMetricsSerializer
             .build();
         return jsonObject.toString();
     }
-
-    final class OtlpMetricsDescriptor
-    {
-        private final Map<String, String> kinds;
-        private final Map<String, String> descriptions;
-        private final Map<String, String> units;
-
-        private OtlpMetricsDescriptor()
-        {
-            this.kinds = new Object2ObjectHashMap<>();
-            this.descriptions = new Object2ObjectHashMap<>();
-            this.units = new Object2ObjectHashMap<>();
-        }
-
-        public String kind(
-            String internalName)
-        {
-            String result = kinds.get(internalName);
-            if (result == null)
-            {
-                Metric.Kind kind = resolveMetric.apply(internalName).kind();
-                result = kind == COUNTER ? "sum" : kind.toString().toLowerCase();
-                kinds.put(internalName, result);
-            }
-            return result;
-        }
-
-        public String nameByBinding(
-            String internalMetricName,
-            KindConfig bindingKind)
-        {
-            Map<String, String> externalNames = bindingKind == null ? null : KIND_METRIC_NAMES.get(bindingKind);
-            String result = externalNames == null ? null : externalNames.get(internalMetricName);
-            return result != null ? result : internalMetricName;
-        }
-
-        public String description(
-            String internalName)
-        {
-            String result = descriptions.get(internalName);
-            if (result == null)
-            {
-                result = resolveMetric.apply(internalName).description();
-                descriptions.put(internalName, result);
-            }
-            return result;
-        }
-
-        public String unit(
-            String internalName)
-        {
-            String result = units.get(internalName);
-            if (result == null)
-            {
-                Metric.Unit unit = resolveMetric.apply(internalName).unit();
-                result = switch (unit)
-                {
-                case COUNT -> "";
-                case NANOSECONDS -> MILLISECONDS; // we are converting nanoseconds values to milliseconds
-                default -> unit.toString().toLowerCase();
-                };
-                units.put(internalName, result);
-            }
-            return result;
-        }
-    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+
+/**
+ * Encodes protobuf wire format fields into a caller supplied buffer.
+ * <p>
+ * Nested messages are opened with {@link #beginMessage(int)}, which reserves a single byte for the length,
+ * and closed with {@link #endMessage(int)}, which shifts the message body along only when the length needs
+ * a longer varint.
+ * </p>
+ */
+public final class OtlpProtobufWriter
+{
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH = 2;
+
+    private MutableDirectBufferEx buffer;
+    private int limit;
+
+    public OtlpProtobufWriter wrap(
+        MutableDirectBufferEx buffer,
+        int offset)
+    {
+        this.buffer = buffer;
+        this.limit = offset;
+        return this;
+    }
+
+    public int limit()
+    {
+        return limit;
+    }
+
+    public int beginMessage(
+        int field)
+    {
+        putTag(field, WIRE_LENGTH);
+        limit++;
+        return limit;
+    }
+
+    public void endMessage(
+        int body)
+    {
+        final int length = limit - body;
+        final int lengthSize = varintSize(length);
+
+        if (lengthSize > 1)
+        {
+            final int shift = lengthSize - 1;
+            buffer.checkLimit(limit + shift);
+            buffer.putBytes(body + shift, buffer, body, length);
+            limit += shift;
+        }
+
+        final int end = limit;
+        limit = body - 1;
+        putRawVarint(length);
+        limit = end;
+    }
+
+    public void putString(
+        int field,
+        String value)
+    {
+        putTag(field, WIRE_LENGTH);
+        final int body = limit + 1;
+        limit = body + buffer.putStringWithoutLengthUtf8(body, value);
+        endMessage(body);
+    }
+
+    public void putVarint(
+        int field,
+        long value)
+    {
+        putTag(field, WIRE_VARINT);
+        putRawVarint(value);
+    }
+
+    public void putBool(
+        int field,
+        boolean value)
+    {
+        putVarint(field, value ? 1L : 0L);
+    }
+
+    public void putFixed64(
+        int field,
+        long value)
+    {
+        putTag(field, WIRE_FIXED64);
+        buffer.putLong(limit, value, LITTLE_ENDIAN);
+        limit += Long.BYTES;
+    }
+
+    public void putDouble(
+        int field,
+        double value)
+    {
+        putTag(field, WIRE_FIXED64);
+        buffer.putDouble(limit, value, LITTLE_ENDIAN);
+        limit += Double.BYTES;
+    }
+
+    public void putPackedFixed64(
+        int field,
+        long[] values,
+        int count)
+    {
+        putTag(field, WIRE_LENGTH);
+        putRawVarint((long) count * Long.BYTES);
+        for (int i = 0; i < count; i++)
+        {
+            buffer.putLong(limit, values[i], LITTLE_ENDIAN);
+            limit += Long.BYTES;
+        }
+    }
+
+    public void putPackedDouble(
+        int field,
+        double[] values,
+        int count)
+    {
+        putTag(field, WIRE_LENGTH);
+        putRawVarint((long) count * Double.BYTES);
+        for (int i = 0; i < count; i++)
+        {
+            buffer.putDouble(limit, values[i], LITTLE_ENDIAN);
+            limit += Double.BYTES;
+        }
+    }
+
+    private void putTag(
+        int field,
+        int wireType)
+    {
+        putRawVarint(field << 3 | wireType);
+    }
+
+    private void putRawVarint(
+        long value)
+    {
+        while ((value & ~0x7fL) != 0L)
+        {
+            buffer.putByte(limit++, (byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.putByte(limit++, (byte) value);
+    }
+
+    private static int varintSize(
+        long value)
+    {
+        int size = 1;
+        while ((value & ~0x7fL) != 0L)
+        {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
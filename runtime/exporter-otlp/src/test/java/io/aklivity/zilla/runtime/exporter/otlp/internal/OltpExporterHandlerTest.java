@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal;
+
+import static io.aklivity.zilla.config.exporter.otlp.OtlpOptionsConfig.OtlpSignalsConfig.METRICS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.aklivity.zilla.config.engine.ExporterConfig;
+import io.aklivity.zilla.config.engine.GenericExporterConfig;
+import io.aklivity.zilla.config.exporter.otlp.OtlpOptionsConfig;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.metrics.Collector;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.config.OtlpExporterConfig;
+
+public class OltpExporterHandlerTest
+{
+    private static final long BINDING_ID = 1L << 32 | 2L;
+    private static final int METRIC_ID = 3;
+    private static final int NO_KIND = -1;
+
+    private final BlockingQueue<byte[]> requests = new LinkedBlockingQueue<>();
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicReference<String> contentType = new AtomicReference<>();
+
+    private HttpServer collector;
+
+    @Before
+    public void startCollector() throws Exception
+    {
+        collector = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        collector.createContext("/v1/metrics", exchange ->
+        {
+            try (GZIPInputStream body = new GZIPInputStream(exchange.getRequestBody()))
+            {
+                contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+                requests.add(body.readAllBytes());
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        collector.start();
+    }
+
+    @After
+    public void stopCollector()
+    {
+        collector.stop(0);
+    }
+
+    @Test
+    public void shouldExportChangedSeriesAsDeltas() throws Exception
+    {
+        Properties properties = new Properties();
+        properties.setProperty(OltpConfiguration.OTLP_EXPORTER_ENCODING.name(), "protobuf");
+        properties.setProperty(OltpConfiguration.OTLP_EXPORTER_COMPRESSION.name(), "gzip");
+        properties.setProperty(OltpConfiguration.OTLP_EXPORTER_TEMPORALITY.name(), "delta");
+        OltpConfiguration config = new OltpConfiguration(new Configuration(properties));
+
+        OltpExporterHandler handler = newHandler(config);
+        handler.start();
+
+        counter.set(5L);
+        byte[] first = export(handler);
+        assertThat(first, notNullValue());
+        assertThat(contentType.get(), equalTo("application/x-protobuf"));
+        assertThat(containsInt(first, 5L), equalTo(true));
+
+        counter.set(8L);
+        byte[] second = export(handler);
+        assertThat(second, notNullValue());
+        assertThat(containsInt(second, 3L), equalTo(true));
+
+        byte[] third = export(handler);
+        assertThat(third, nullValue());
+
+        handler.stop();
+    }
+
+    private OltpExporterHandler newHandler(
+        OltpConfiguration config)
+    {
+        Metric metric = mock(Metric.class);
+        when(metric.kind()).thenReturn(Metric.Kind.COUNTER);
+        when(metric.unit()).thenReturn(Metric.Unit.COUNT);
+        when(metric.description()).thenReturn("counter description");
+
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> millis.get());
+
+        EngineContext context = mock(EngineContext.class);
+        when(context.clock()).thenReturn(clock);
+        when(context.supplyLocalName(anyLong())).thenAnswer(i -> "label" + i.getArgument(0));
+        when(context.resolveMetric(anyString())).thenReturn(metric);
+
+        Collector collector = mock(Collector.class);
+        when(collector.counterIds()).thenReturn(new long[][] {{ BINDING_ID, METRIC_ID, 0, NO_KIND }});
+        when(collector.gaugeIds()).thenReturn(new long[][] {});
+        when(collector.histogramIds()).thenReturn(new long[][] {});
+        when(collector.counter(anyLong(), anyInt(), anyInt())).thenReturn(counter::get);
+
+        OtlpOptionsConfig options = OtlpOptionsConfig.builder()
+            .interval(Duration.ofSeconds(30L))
+            .signals(Set.of(METRICS))
+            .endpoint()
+                .protocol("http")
+                .location(URI.create("http://localhost:" + this.collector.getAddress().getPort()))
+                .build()
+            .build();
+        ExporterConfig exporter = GenericExporterConfig.builder()
+            .namespace("test")
+            .name("otlp0")
+            .type("otlp")
+            .options(options)
+            .build();
+        OtlpExporterConfig otlpExporter = new OtlpExporterConfig(config, context, exporter);
+
+        return new OltpExporterHandler(config, context, otlpExporter, collector, List.of());
+    }
+
+    private byte[] export(
+        OltpExporterHandler handler) throws Exception
+    {
+        byte[] request = null;
+        for (int attempt = 0; attempt < 20 && request == null; attempt++)
+        {
+            millis.addAndGet(Duration.ofMinutes(1L).toMillis());
+            handler.export();
+            request = requests.poll(100L, TimeUnit.MILLISECONDS);
+        }
+        return request;
+    }
+
+    private static boolean containsInt(
+        byte[] request,
+        long value)
+    {
+        // NumberDataPoint.as_int is field 6, encoded as sfixed64
+        ByteBuffer expected = ByteBuffer.allocate(1 + Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        expected.put((byte) (6 << 3 | 1)).putLong(value);
+        byte[] pattern = expected.array();
+
+        boolean found = false;
+        for (int i = 0; i + pattern.length <= request.length && !found; i++)
+        {
+            found = ByteBuffer.wrap(request, i, pattern.length).equals(ByteBuffer.wrap(pattern));
+        }
+        return found;
+    }
+}
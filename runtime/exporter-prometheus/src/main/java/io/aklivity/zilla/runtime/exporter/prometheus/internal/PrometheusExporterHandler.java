@@ -14,23 +14,7 @@
  */
 package io.aklivity.zilla.runtime.exporter.prometheus.internal;
 
-import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
-import static java.net.HttpURLConnection.HTTP_OK;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
-import java.io.UnsupportedEncodingException;
-import java.net.InetSocketAddress;
 import java.util.List;
-import java.util.Map;
-
-import org.agrona.LangUtil;
-import org.agrona.collections.Int2ObjectHashMap;
-
-import com.sun.net.httpserver.HttpExchange;
-import com.sun.net.httpserver.HttpHandler;
-import com.sun.net.httpserver.HttpServer;
 
 import io.aklivity.zilla.config.exporter.prometheus.PrometheusEndpointConfig;
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
@@ -41,16 +25,16 @@ import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
 import io.aklivity.zilla.runtime.engine.metrics.reader.MetricsReader;
 import io.aklivity.zilla.runtime.exporter.prometheus.internal.config.PrometheusExporterConfig;
 import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusMetricDescriptor;
-import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusMetricsPrinter;
+import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusMetricsWriter;
 
 public class PrometheusExporterHandler implements ExporterHandler
 {
     private final EngineContext context;
     private final PrometheusEndpointConfig[] endpoints;
-    private final Map<Integer, HttpServer> servers;
     private final Collector collector;
 
-    private PrometheusMetricDescriptor descriptor;
+    private MetricsReader metrics;
+    private PrometheusHttpServer server;
 
     public PrometheusExporterHandler(
         EngineConfiguration config,
@@ -61,86 +45,35 @@ public class PrometheusExporterHandler implements ExporterHandler
         this.context = context;
         this.endpoints = exporter.options().endpoints; // options is required, at least one endpoint is required
         this.collector = collector;
-        this.servers = new Int2ObjectHashMap<>();
     }
 
     @Override
     public void start()
     {
-        this.descriptor = new PrometheusMetricDescriptor(context::resolveMetric);
+        PrometheusMetricDescriptor descriptor = new PrometheusMetricDescriptor(context::resolveMetric);
+        PrometheusMetricsWriter writer = new PrometheusMetricsWriter(descriptor::kind, descriptor::name,
+            descriptor::description, descriptor::milliseconds);
 
-        for (PrometheusEndpointConfig endpoint : endpoints)
-        {
-            HttpServer server = null;
-            try
-            {
-                server = HttpServer.create(new InetSocketAddress(endpoint.port), 0);
-            }
-            catch (IOException ex)
-            {
-                LangUtil.rethrowUnchecked(ex);
-            }
-            server.createContext(endpoint.path, new MetricsHttpHandler());
-            server.start();
-            servers.put(endpoint.port, server);
-        }
+        this.metrics = new MetricsReader(collector, context::supplyLocalName);
+        this.server = new PrometheusHttpServer(endpoints, this::records, writer);
+        server.start();
     }
 
     @Override
     public int export()
     {
-        return 0;
+        return server.poll();
     }
 
     @Override
     public void stop()
     {
-        for (int port : servers.keySet())
-        {
-            HttpServer server = servers.remove(port);
-            server.stop(0);
-        }
+        server.stop();
     }
 
-    private String generateOutput()
+    private List<MetricRecord> records()
     {
-        MetricsReader metrics = new MetricsReader(collector, context::supplyLocalName);
-        List<MetricRecord> records = metrics.records();
-        PrometheusMetricsPrinter printer = new PrometheusMetricsPrinter(records, descriptor::kind,
-            descriptor::name, descriptor::description, descriptor::milliseconds);
-        String output = "";
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        PrintStream out = new PrintStream(os);
-        printer.print(out);
-        try
-        {
-            output = os.toString("UTF8");
-        }
-        catch (UnsupportedEncodingException ex)
-        {
-            LangUtil.rethrowUnchecked(ex);
-        }
-        return output;
-    }
-
-    private final class MetricsHttpHandler implements HttpHandler
-    {
-        private static final int NO_RESPONSE_BODY = -1;
-
-        public void handle(
-            HttpExchange exchange) throws IOException
-        {
-            if ("GET".equals(exchange.getRequestMethod()))
-            {
-                String response = generateOutput();
-                exchange.sendResponseHeaders(HTTP_OK, response.length());
-                exchange.getResponseBody().write(response.getBytes());
-            }
-            else
-            {
-                exchange.sendResponseHeaders(HTTP_BAD_METHOD, NO_RESPONSE_BODY);
-            }
-            exchange.close();
-        }
+        metrics.refresh();
+        return metrics.records();
     }
 }
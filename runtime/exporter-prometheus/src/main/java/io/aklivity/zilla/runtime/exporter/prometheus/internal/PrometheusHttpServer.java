@@ -0,0 +1,478 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.prometheus.internal;
+
+import static java.net.StandardSocketOptions.SO_REUSEADDR;
+import static java.net.StandardSocketOptions.TCP_NODELAY;
+import static java.nio.channels.SelectionKey.OP_ACCEPT;
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.agrona.CloseHelper;
+import org.agrona.LangUtil;
+
+import io.aklivity.zilla.config.exporter.prometheus.PrometheusEndpointConfig;
+import io.aklivity.zilla.runtime.common.agrona.buffer.ExpandableDirectByteBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusFormat;
+import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusGzipEncoder;
+import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.PrometheusMetricsWriter;
+
+/**
+ * Serves scrape requests from non-blocking channels polled by the exporter agent, instead of a separate
+ * HTTP server thread pool.
+ * <p>
+ * Each connection keeps its own response buffer, so keep-alive scrapes encode into the same memory every time.
+ * The response body is encoded first, leaving room in front of it for the response headers, so that the
+ * complete response is written to the channel from a single contiguous range.
+ * </p>
+ */
+final class PrometheusHttpServer
+{
+    private static final int REQUEST_CAPACITY = 8192;
+    private static final int HEADERS_CAPACITY = 512;
+    private static final int INITIAL_RESPONSE_CAPACITY = 64 * 1024;
+
+    private static final String CRLF = "\r\n";
+    private static final String HEADERS_END = "\r\n\r\n";
+
+    private static final byte[] METHOD_GET = "GET".getBytes(US_ASCII);
+    private static final byte[] VERSION_HTTP_1_1 = "HTTP/1.1".getBytes(US_ASCII);
+    private static final byte[] HEADER_ACCEPT = "accept".getBytes(US_ASCII);
+    private static final byte[] HEADER_ACCEPT_ENCODING = "accept-encoding".getBytes(US_ASCII);
+    private static final byte[] HEADER_CONNECTION = "connection".getBytes(US_ASCII);
+    private static final byte[] ENCODING_GZIP = "gzip".getBytes(US_ASCII);
+    private static final byte[] CONNECTION_CLOSE = "close".getBytes(US_ASCII);
+
+    private final PrometheusEndpointConfig[] endpoints;
+    private final Supplier<List<MetricRecord>> supplyRecords;
+    private final PrometheusMetricsWriter writer;
+    private final PrometheusGzipEncoder gzip;
+    private final ExpandableDirectByteBufferEx uncompressed;
+    private final MutableDirectBufferEx headers;
+
+    private Selector selector;
+    private int work;
+
+    PrometheusHttpServer(
+        PrometheusEndpointConfig[] endpoints,
+        Supplier<List<MetricRecord>> supplyRecords,
+        PrometheusMetricsWriter writer)
+    {
+        this.endpoints = endpoints;
+        this.supplyRecords = supplyRecords;
+        this.writer = writer;
+        this.gzip = new PrometheusGzipEncoder();
+        this.uncompressed = new ExpandableDirectByteBufferEx(INITIAL_RESPONSE_CAPACITY);
+        this.headers = new UnsafeBufferEx(new byte[HEADERS_CAPACITY]);
+    }
+
+    void start()
+    {
+        try
+        {
+            this.selector = Selector.open();
+
+            for (PrometheusEndpointConfig endpoint : endpoints)
+            {
+                ServerSocketChannel server = ServerSocketChannel.open();
+                server.setOption(SO_REUSEADDR, true);
+                server.bind(new InetSocketAddress(endpoint.port));
+                server.configureBlocking(false);
+                server.register(selector, OP_ACCEPT, endpoint.path.getBytes(US_ASCII));
+            }
+        }
+        catch (IOException ex)
+        {
+            stop();
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    int poll()
+    {
+        work = 0;
+
+        try
+        {
+            selector.selectNow(this::onSelected);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return work;
+    }
+
+    void stop()
+    {
+        if (selector != null)
+        {
+            for (SelectionKey key : selector.keys())
+            {
+                CloseHelper.quietClose(key.channel());
+            }
+            CloseHelper.quietClose(selector);
+            selector = null;
+        }
+        gzip.close();
+    }
+
+    private void onSelected(
+        SelectionKey key)
+    {
+        try
+        {
+            if (key.isAcceptable())
+            {
+                onAcceptable(key);
+            }
+            else
+            {
+                final Connection connection = (Connection) key.attachment();
+
+                if (key.isReadable())
+                {
+                    connection.onReadable();
+                }
+
+                if (key.isValid() && key.isWritable())
+                {
+                    connection.onWritable();
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            if (key.attachment() instanceof Connection connection)
+            {
+                connection.close();
+            }
+        }
+
+        work++;
+    }
+
+    private void onAcceptable(
+        SelectionKey key) throws IOException
+    {
+        final ServerSocketChannel server = (ServerSocketChannel) key.channel();
+        final byte[] path = (byte[]) key.attachment();
+
+        SocketChannel channel;
+        while ((channel = server.accept()) != null)
+        {
+            channel.configureBlocking(false);
+            channel.setOption(TCP_NODELAY, true);
+
+            final Connection connection = new Connection(channel, path);
+            connection.key = channel.register(selector, OP_READ, connection);
+        }
+    }
+
+    private final class Connection
+    {
+        private final SocketChannel channel;
+        private final byte[] path;
+        private final ByteBuffer request;
+        private final ExpandableDirectByteBufferEx response;
+
+        private SelectionKey key;
+        private ByteBuffer pending;
+        private boolean closing;
+
+        private Connection(
+            SocketChannel channel,
+            byte[] path)
+        {
+            this.channel = channel;
+            this.path = path;
+            this.request = ByteBuffer.allocate(REQUEST_CAPACITY);
+            this.response = new ExpandableDirectByteBufferEx(INITIAL_RESPONSE_CAPACITY);
+        }
+
+        private void onReadable() throws IOException
+        {
+            final int read = channel.read(request);
+
+            if (read == -1)
+            {
+                close();
+            }
+            else
+            {
+                final int headersEnd = headersEnd();
+
+                if (headersEnd != -1)
+                {
+                    onRequest(headersEnd);
+
+                    request.flip();
+                    request.position(headersEnd + HEADERS_END.length());
+                    request.compact();
+                }
+                else if (!request.hasRemaining())
+                {
+                    closing = true;
+                    respond(431, "Request Header Fields Too Large", null, false, 0);
+                }
+            }
+        }
+
+        private void onWritable() throws IOException
+        {
+            channel.write(pending);
+
+            if (!pending.hasRemaining())
+            {
+                pending = null;
+
+                if (closing)
+                {
+                    close();
+                }
+                else
+                {
+                    key.interestOps(OP_READ);
+                }
+            }
+        }
+
+        private void onRequest(
+            int headersEnd)
+        {
+            final byte[] head = request.array();
+
+            final int lineEnd = indexOf(head, 0, headersEnd, '\r');
+            final int methodEnd = indexOf(head, 0, lineEnd, ' ');
+            final int targetStart = Math.min(methodEnd + 1, lineEnd);
+            final int targetEnd = indexOf(head, targetStart, lineEnd, ' ');
+            final int versionStart = Math.min(targetEnd + 1, lineEnd);
+            final int pathEnd = indexOf(head, targetStart, targetEnd, '?');
+
+            PrometheusFormat format = PrometheusFormat.TEXT;
+            boolean gzipped = false;
+            closing = !Arrays.equals(head, versionStart, lineEnd, VERSION_HTTP_1_1, 0, VERSION_HTTP_1_1.length);
+
+            int lineStart = lineEnd + CRLF.length();
+            while (lineStart < headersEnd)
+            {
+                final int headerEnd = indexOf(head, lineStart, headersEnd, '\r');
+                final int colon = indexOf(head, lineStart, headerEnd, ':');
+                if (colon != headerEnd)
+                {
+                    final int nameStart = skipSpaces(head, lineStart, colon);
+                    final int nameEnd = trimSpaces(head, nameStart, colon);
+                    final int valueStart = skipSpaces(head, colon + 1, headerEnd);
+                    if (equalsIgnoreCase(head, nameStart, nameEnd, HEADER_ACCEPT))
+                    {
+                        format = PrometheusFormat.of(head, valueStart, headerEnd);
+                    }
+                    else if (equalsIgnoreCase(head, nameStart, nameEnd, HEADER_ACCEPT_ENCODING))
+                    {
+                        gzipped = containsIgnoreCase(head, valueStart, headerEnd, ENCODING_GZIP);
+                    }
+                    else if (equalsIgnoreCase(head, nameStart, nameEnd, HEADER_CONNECTION))
+                    {
+                        closing = containsIgnoreCase(head, valueStart, headerEnd, CONNECTION_CLOSE);
+                    }
+                }
+                lineStart = headerEnd + CRLF.length();
+            }
+
+            if (!Arrays.equals(head, 0, methodEnd, METHOD_GET, 0, METHOD_GET.length))
+            {
+                respond(405, "Method Not Allowed", null, false, 0);
+            }
+            else if (!Arrays.equals(head, targetStart, pathEnd, path, 0, path.length))
+            {
+                respond(404, "Not Found", null, false, 0);
+            }
+            else
+            {
+                final List<MetricRecord> records = supplyRecords.get();
+
+                int limit;
+                if (gzipped)
+                {
+                    final int length = writer.write(records, format, uncompressed, 0);
+                    limit = gzip.encode(uncompressed, 0, length, response, HEADERS_CAPACITY);
+                }
+                else
+                {
+                    limit = writer.write(records, format, response, HEADERS_CAPACITY);
+                }
+
+                respond(200, "OK", format.contentType(), gzipped, limit - HEADERS_CAPACITY);
+            }
+        }
+
+        private void respond(
+            int status,
+            String reason,
+            String contentType,
+            boolean gzipped,
+            int contentLength)
+        {
+            int limit = 0;
+            limit += headers.putStringWithoutLengthAscii(limit, "HTTP/1.1 ");
+            limit += headers.putIntAscii(limit, status);
+            limit += headers.putStringWithoutLengthAscii(limit, " ");
+            limit += headers.putStringWithoutLengthAscii(limit, reason);
+            limit += headers.putStringWithoutLengthAscii(limit, CRLF);
+            if (status == 405)
+            {
+                limit += headers.putStringWithoutLengthAscii(limit, "Allow: GET\r\n");
+            }
+            if (contentType != null)
+            {
+                limit += headers.putStringWithoutLengthAscii(limit, "Content-Type: ");
+                limit += headers.putStringWithoutLengthAscii(limit, contentType);
+                limit += headers.putStringWithoutLengthAscii(limit, CRLF);
+            }
+            if (gzipped)
+            {
+                limit += headers.putStringWithoutLengthAscii(limit, "Content-Encoding: gzip\r\n");
+            }
+            limit += headers.putStringWithoutLengthAscii(limit, "Content-Length: ");
+            limit += headers.putIntAscii(limit, contentLength);
+            limit += headers.putStringWithoutLengthAscii(limit, CRLF);
+            if (closing)
+            {
+                limit += headers.putStringWithoutLengthAscii(limit, "Connection: close\r\n");
+            }
+            limit += headers.putStringWithoutLengthAscii(limit, CRLF);
+
+            final int offset = HEADERS_CAPACITY - limit;
+            response.putBytes(offset, headers, 0, limit);
+
+            pending = response.byteBuffer();
+            pending.limit(HEADERS_CAPACITY + contentLength).position(offset);
+
+            key.interestOps(OP_WRITE);
+        }
+
+        private int headersEnd()
+        {
+            final byte[] array = request.array();
+            final int limit = request.position() - HEADERS_END.length();
+
+            int headersEnd = -1;
+            for (int i = 0; i <= limit && headersEnd == -1; i++)
+            {
+                if (array[i] == '\r' && array[i + 1] == '\n' && array[i + 2] == '\r' && array[i + 3] == '\n')
+                {
+                    headersEnd = i;
+                }
+            }
+            return headersEnd;
+        }
+
+        private void close()
+        {
+            key.cancel();
+            CloseHelper.quietClose(channel);
+        }
+    }
+
+    private static int indexOf(
+        byte[] bytes,
+        int index,
+        int limit,
+        char ch)
+    {
+        int progress = index;
+        while (progress < limit && bytes[progress] != ch)
+        {
+            progress++;
+        }
+        return progress;
+    }
+
+    private static int skipSpaces(
+        byte[] bytes,
+        int index,
+        int limit)
+    {
+        int progress = index;
+        while (progress < limit && (bytes[progress] == ' ' || bytes[progress] == '\t'))
+        {
+            progress++;
+        }
+        return progress;
+    }
+
+    private static int trimSpaces(
+        byte[] bytes,
+        int index,
+        int limit)
+    {
+        int progress = limit;
+        while (progress > index && (bytes[progress - 1] == ' ' || bytes[progress - 1] == '\t'))
+        {
+            progress--;
+        }
+        return progress;
+    }
+
+    private static boolean equalsIgnoreCase(
+        byte[] bytes,
+        int index,
+        int limit,
+        byte[] value)
+    {
+        boolean equals = limit - index == value.length;
+        for (int i = 0; i < value.length && equals; i++)
+        {
+            equals = toLowerCase(bytes[index + i]) == toLowerCase(value[i]);
+        }
+        return equals;
+    }
+
+    private static boolean containsIgnoreCase(
+        byte[] bytes,
+        int index,
+        int limit,
+        byte[] value)
+    {
+        boolean contains = false;
+        for (int i = index; i <= limit - value.length && !contains; i++)
+        {
+            contains = equalsIgnoreCase(bytes, i, i + value.length, value);
+        }
+        return contains;
+    }
+
+    private static int toLowerCase(
+        byte b)
+    {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.prometheus.internal.printer;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.util.Arrays;
+
+public enum PrometheusFormat
+{
+    TEXT("text/plain; version=0.0.4; charset=utf-8"),
+    OPENMETRICS("application/openmetrics-text; version=1.0.0; charset=utf-8"),
+    PROTOBUF("application/vnd.google.protobuf; proto=io.prometheus.client.MetricFamily; encoding=delimited");
+
+    private static final byte[] PROTOBUF_TYPE = "application/vnd.google.protobuf".getBytes(US_ASCII);
+    private static final byte[] PROTOBUF_PROTO = "io.prometheus.client.MetricFamily".getBytes(US_ASCII);
+    private static final byte[] OPENMETRICS_TYPE = "application/openmetrics-text".getBytes(US_ASCII);
+
+    private final String contentType;
+
+    PrometheusFormat(
+        String contentType)
+    {
+        this.contentType = contentType;
+    }
+
+    public String contentType()
+    {
+        return contentType;
+    }
+
+    public static PrometheusFormat of(
+        byte[] accept,
+        int index,
+        int limit)
+    {
+        PrometheusFormat format = TEXT;
+        if (contains(accept, index, limit, PROTOBUF_TYPE) &&
+            contains(accept, index, limit, PROTOBUF_PROTO))
+        {
+            format = PROTOBUF;
+        }
+        else if (contains(accept, index, limit, OPENMETRICS_TYPE))
+        {
+            format = OPENMETRICS;
+        }
+        return format;
+    }
+
+    private static boolean contains(
+        byte[] bytes,
+        int index,
+        int limit,
+        byte[] value)
+    {
+        boolean contains = false;
+        for (int i = index; i <= limit - value.length && !contains; i++)
+        {
+            contains = Arrays.equals(bytes, i, i + value.length, value, 0, value.length);
+        }
+        return contains;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.prometheus.internal.printer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+
+/**
+ * Compresses encoded exposition output as a gzip member, reusing the same {@link Deflater} for every scrape.
+ * <p>
+ * Both buffers must be backed by direct memory, so the deflater reads and writes them in place.
+ * </p>
+ */
+public final class PrometheusGzipEncoder
+{
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int SIZEOF_TRAILER = Integer.BYTES + Integer.BYTES;
+    private static final int MIN_DEFLATE_CAPACITY = 4096;
+
+    private final Deflater deflater;
+    private final CRC32 checksum;
+
+    public PrometheusGzipEncoder()
+    {
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.checksum = new CRC32();
+    }
+
+    /**
+     * Compresses a range of the source buffer into the target buffer.
+     *
+     * @param source        the uncompressed bytes
+     * @param offset        the offset of the uncompressed bytes in the source buffer
+     * @param length        the number of uncompressed bytes
+     * @param target        the destination buffer, expanded as needed
+     * @param targetOffset  the offset in the target buffer to start writing at
+     * @return the limit in the target buffer after the gzip trailer
+     */
+    public int encode(
+        DirectBufferEx source,
+        int offset,
+        int length,
+        MutableDirectBufferEx target,
+        int targetOffset)
+    {
+        final ByteBuffer input = source.byteBuffer();
+        final int inputOffset = source.wrapAdjustment() + offset;
+
+        input.limit(inputOffset + length).position(inputOffset);
+        checksum.reset();
+        checksum.update(input);
+
+        input.limit(inputOffset + length).position(inputOffset);
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+
+        target.putBytes(targetOffset, HEADER);
+        int limit = targetOffset + HEADER.length;
+
+        while (!deflater.finished())
+        {
+            target.checkLimit(limit + Math.max(MIN_DEFLATE_CAPACITY, deflater.getRemaining()));
+
+            final ByteBuffer output = target.byteBuffer();
+            final int outputOffset = target.wrapAdjustment() + limit;
+            output.limit(target.wrapAdjustment() + target.capacity()).position(outputOffset);
+
+            limit += deflater.deflate(output);
+        }
+
+        target.putInt(limit, (int) checksum.getValue(), LITTLE_ENDIAN);
+        target.putInt(limit + Integer.BYTES, length, LITTLE_ENDIAN);
+
+        return limit + SIZEOF_TRAILER;
+    }
+
+    public void close()
+    {
+        deflater.end();
+    }
+}
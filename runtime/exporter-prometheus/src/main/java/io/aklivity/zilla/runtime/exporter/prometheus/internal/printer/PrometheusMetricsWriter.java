@@ -0,0 +1,699 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.prometheus.internal.printer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.MutableDirectBufferEx;
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+
+/**
+ * Streams metric records in a Prometheus exposition format directly into a caller supplied buffer.
+ * <p>
+ * Samples are encoded byte by byte without intermediate strings, so the same buffer can be reused for every scrape.
+ * Records are grouped by metric, so each metric family is described once even when reported by several bindings.
+ * </p>
+ */
+public final class PrometheusMetricsWriter
+{
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double DECIMAL_SCALE = 1_000_000_000.0;
+    private static final int DECIMAL_DIGITS = 9;
+    private static final String TOTAL_SUFFIX = "_total";
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH = 2;
+
+    private static final int FAMILY_NAME = 1;
+    private static final int FAMILY_HELP = 2;
+    private static final int FAMILY_TYPE = 3;
+    private static final int FAMILY_METRIC = 4;
+
+    private static final int TYPE_COUNTER = 0;
+    private static final int TYPE_GAUGE = 1;
+    private static final int TYPE_UNTYPED = 3;
+    private static final int TYPE_HISTOGRAM = 4;
+
+    private static final int METRIC_LABEL = 1;
+    private static final int METRIC_GAUGE = 2;
+    private static final int METRIC_COUNTER = 3;
+    private static final int METRIC_UNTYPED = 5;
+    private static final int METRIC_HISTOGRAM = 7;
+
+    private static final int LABEL_NAME = 1;
+    private static final int LABEL_VALUE = 2;
+
+    private static final int VALUE = 1;
+
+    private static final int HISTOGRAM_SAMPLE_COUNT = 1;
+    private static final int HISTOGRAM_SAMPLE_SUM = 2;
+    private static final int HISTOGRAM_BUCKET = 3;
+
+    private static final int BUCKET_CUMULATIVE_COUNT = 1;
+    private static final int BUCKET_UPPER_BOUND = 2;
+
+    private final Function<String, String> supplyKind;
+    private final Function<String, String> supplyName;
+    private final Function<String, String> supplyDescription;
+    private final Function<String, Boolean> supplyMilliseconds;
+    private final Map<String, List<MetricRecord>> recordsByMetric;
+
+    private MutableDirectBufferEx buffer;
+
+    public PrometheusMetricsWriter(
+        Function<String, String> supplyKind,
+        Function<String, String> supplyName,
+        Function<String, String> supplyDescription,
+        Function<String, Boolean> supplyMilliseconds)
+    {
+        this.supplyKind = supplyKind;
+        this.supplyName = supplyName;
+        this.supplyDescription = supplyDescription;
+        this.supplyMilliseconds = supplyMilliseconds;
+        this.recordsByMetric = new LinkedHashMap<>();
+    }
+
+    /**
+     * Encodes the metric records into the buffer.
+     *
+     * @param records  the metric records to encode
+     * @param format   the exposition format
+     * @param buffer   the destination buffer, expanded as needed
+     * @param offset   the offset in the buffer to start encoding at
+     * @return the limit in the buffer after the last encoded byte
+     */
+    public int write(
+        List<MetricRecord> records,
+        PrometheusFormat format,
+        MutableDirectBufferEx buffer,
+        int offset)
+    {
+        this.buffer = buffer;
+
+        recordsByMetric.values().forEach(List::clear);
+        for (MetricRecord record : records)
+        {
+            recordsByMetric.computeIfAbsent(record.metric(), m -> new ArrayList<>()).add(record);
+        }
+
+        int limit = offset;
+        for (List<MetricRecord> family : recordsByMetric.values())
+        {
+            if (!family.isEmpty())
+            {
+                switch (format)
+                {
+                case PROTOBUF:
+                    limit = writeFamily(family, limit);
+                    break;
+                default:
+                    limit = writeText(family, format == PrometheusFormat.OPENMETRICS, limit);
+                    break;
+                }
+            }
+        }
+
+        if (format == PrometheusFormat.OPENMETRICS)
+        {
+            limit = putAscii(limit, "# EOF\n");
+        }
+
+        this.buffer = null;
+
+        return limit;
+    }
+
+    private int writeText(
+        List<MetricRecord> records,
+        boolean openMetrics,
+        int limit)
+    {
+        final String metric = records.get(0).metric();
+        final String kind = supplyKind.apply(metric);
+        final String name = supplyName.apply(metric);
+        final boolean milliseconds = supplyMilliseconds.apply(metric);
+        final String family = openMetrics && name.endsWith(TOTAL_SUFFIX)
+            ? name.substring(0, name.length() - TOTAL_SUFFIX.length())
+            : name;
+
+        if (openMetrics)
+        {
+            limit = writeType(family, kind, limit);
+            limit = writeHelp(family, supplyDescription.apply(metric), true, limit);
+        }
+        else
+        {
+            limit = writeHelp(family, supplyDescription.apply(metric), false, limit);
+            limit = writeType(family, kind, limit);
+        }
+
+        for (MetricRecord record : records)
+        {
+            if (record instanceof HistogramRecord histogram)
+            {
+                limit = writeHistogramText(histogram, name, milliseconds, limit);
+            }
+            else if (record instanceof ScalarRecord scalar)
+            {
+                final long value = scalar.valueReader().getAsLong();
+                limit = putAscii(limit, name);
+                limit = writeLabels(record, null, limit);
+                limit = putByte(limit, ' ');
+                limit = milliseconds ? putDecimal(limit, value / NANOS_PER_MILLI) : putLong(limit, value);
+                limit = putByte(limit, '\n');
+            }
+        }
+
+        return limit;
+    }
+
+    private int writeHistogramText(
+        HistogramRecord record,
+        String name,
+        boolean milliseconds,
+        int limit)
+    {
+        record.update();
+
+        final int buckets = record.buckets();
+        final boolean sparse = record.significantDigits() != 0;
+        final long[] values = milliseconds ? record.millisecondBucketValues() : record.bucketValues();
+        final long[] stats = milliseconds ? record.millisecondStats() : record.stats();
+
+        long cumulative = 0L;
+        for (int i = 0; i < buckets; i++)
+        {
+            cumulative += values[i];
+
+            if (!sparse || exported(values, buckets, i))
+            {
+                limit = putAscii(limit, name);
+                limit = putAscii(limit, "_bucket{le=\"");
+                if (i == buckets - 1)
+                {
+                    limit = putAscii(limit, "+Inf");
+                }
+                else if (milliseconds)
+                {
+                    limit = putDecimal(limit, record.millisecondBucketLimits()[i]);
+                }
+                else
+                {
+                    limit = putLong(limit, record.bucketLimits()[i]);
+                }
+                limit = putByte(limit, '"');
+                limit = writeLabels(record, ",", limit);
+                limit = putByte(limit, ' ');
+                limit = putLong(limit, cumulative);
+                limit = putByte(limit, '\n');
+            }
+        }
+
+        limit = putAscii(limit, name);
+        limit = putAscii(limit, "_sum");
+        limit = writeLabels(record, null, limit);
+        limit = putByte(limit, ' ');
+        limit = putLong(limit, stats[2]);
+        limit = putByte(limit, '\n');
+
+        limit = putAscii(limit, name);
+        limit = putAscii(limit, "_count");
+        limit = writeLabels(record, null, limit);
+        limit = putByte(limit, ' ');
+        limit = putLong(limit, stats[3]);
+        limit = putByte(limit, '\n');
+
+        return limit;
+    }
+
+    private int writeHelp(
+        String family,
+        String description,
+        boolean escapeQuote,
+        int limit)
+    {
+        limit = putAscii(limit, "# HELP ");
+        limit = putAscii(limit, family);
+        limit = putByte(limit, ' ');
+        limit = putEscaped(limit, description, escapeQuote);
+        return putByte(limit, '\n');
+    }
+
+    private int writeType(
+        String family,
+        String kind,
+        int limit)
+    {
+        limit = putAscii(limit, "# TYPE ");
+        limit = putAscii(limit, family);
+        limit = putByte(limit, ' ');
+        limit = putAscii(limit, kind);
+        return putByte(limit, '\n');
+    }
+
+    private int writeLabels(
+        MetricRecord record,
+        String prefix,
+        int limit)
+    {
+        if (prefix == null)
+        {
+            limit = putByte(limit, '{');
+        }
+        else
+        {
+            limit = putAscii(limit, prefix);
+        }
+
+        limit = writeLabel("namespace", record.namespace(), limit);
+        limit = putByte(limit, ',');
+        limit = writeLabel("binding", record.binding(), limit);
+
+        for (Map.Entry<String, String> entry : record.attributes().entrySet())
+        {
+            limit = putByte(limit, ',');
+            limit = writeLabel(entry.getKey(), entry.getValue(), limit);
+        }
+
+        return putByte(limit, '}');
+    }
+
+    private int writeLabel(
+        String name,
+        String value,
+        int limit)
+    {
+        limit = putAscii(limit, name);
+        limit = putAscii(limit, "=\"");
+        limit = putEscaped(limit, value, true);
+        return putByte(limit, '"');
+    }
+
+    private int writeFamily(
+        List<MetricRecord> records,
+        int limit)
+    {
+        final String metric = records.get(0).metric();
+        final String kind = supplyKind.apply(metric);
+        final boolean milliseconds = supplyMilliseconds.apply(metric);
+
+        final int family = limit + 1;
+        limit = family;
+        limit = putString(limit, FAMILY_NAME, supplyName.apply(metric));
+        limit = putString(limit, FAMILY_HELP, supplyDescription.apply(metric));
+        limit = putTag(limit, FAMILY_TYPE, WIRE_VARINT);
+        limit = putVarint(limit, type(kind, records.get(0)));
+
+        for (MetricRecord record : records)
+        {
+            limit = putTag(limit, FAMILY_METRIC, WIRE_LENGTH);
+            final int sample = limit + 1;
+            limit = sample;
+            limit = writeLabelPair("namespace", record.namespace(), limit);
+            limit = writeLabelPair("binding", record.binding(), limit);
+            for (Map.Entry<String, String> entry : record.attributes().entrySet())
+            {
+                limit = writeLabelPair(entry.getKey(), entry.getValue(), limit);
+            }
+
+            if (record instanceof HistogramRecord histogram)
+            {
+                limit = writeHistogramValue(histogram, milliseconds, limit);
+            }
+            else if (record instanceof ScalarRecord scalar)
+            {
+                final long value = scalar.valueReader().getAsLong();
+                limit = putTag(limit, scalarField(kind), WIRE_LENGTH);
+                final int body = limit + 1;
+                limit = putTag(body, VALUE, WIRE_FIXED64);
+                limit = putDouble(limit, milliseconds ? value / NANOS_PER_MILLI : value);
+                limit = endMessage(body, limit);
+            }
+
+            limit = endMessage(sample, limit);
+        }
+
+        return endMessage(family, limit);
+    }
+
+    private int writeHistogramValue(
+        HistogramRecord record,
+        boolean milliseconds,
+        int limit)
+    {
+        record.update();
+
+        final int buckets = record.buckets();
+        final boolean sparse = record.significantDigits() != 0;
+        final long[] values = milliseconds ? record.millisecondBucketValues() : record.bucketValues();
+        final long[] stats = milliseconds ? record.millisecondStats() : record.stats();
+
+        limit = putTag(limit, METRIC_HISTOGRAM, WIRE_LENGTH);
+        final int histogram = limit + 1;
+        limit = putTag(histogram, HISTOGRAM_SAMPLE_COUNT, WIRE_VARINT);
+        limit = putVarint(limit, stats[3]);
+        limit = putTag(limit, HISTOGRAM_SAMPLE_SUM, WIRE_FIXED64);
+        limit = putDouble(limit, stats[2]);
+
+        long cumulative = 0L;
+        for (int i = 0; i < buckets - 1; i++)
+        {
+            cumulative += values[i];
+
+            if (!sparse || exported(values, buckets, i))
+            {
+                limit = putTag(limit, HISTOGRAM_BUCKET, WIRE_LENGTH);
+                final int bucket = limit + 1;
+                limit = putTag(bucket, BUCKET_CUMULATIVE_COUNT, WIRE_VARINT);
+                limit = putVarint(limit, cumulative);
+                limit = putTag(limit, BUCKET_UPPER_BOUND, WIRE_FIXED64);
+                limit = putDouble(limit, milliseconds ? record.millisecondBucketLimits()[i] : record.bucketLimits()[i]);
+                limit = endMessage(bucket, limit);
+            }
+        }
+
+        return endMessage(histogram, limit);
+    }
+
+    private int writeLabelPair(
+        String name,
+        String value,
+        int limit)
+    {
+        limit = putTag(limit, METRIC_LABEL, WIRE_LENGTH);
+        final int label = limit + 1;
+        limit = putString(label, LABEL_NAME, name);
+        limit = putString(limit, LABEL_VALUE, value);
+        return endMessage(label, limit);
+    }
+
+    // skips runs of empty log-linear buckets, keeping the upper bound of the bucket below each non-empty
+    // bucket so that quantile interpolation still sees the lower bound of every non-empty bucket; bucket
+    // values are cumulative over the life of the record, so the exported bounds only ever grow
+    private static boolean exported(
+        long[] values,
+        int buckets,
+        int bucket)
+    {
+        return bucket == buckets - 1 || values[bucket] != 0L || values[bucket + 1] != 0L;
+    }
+
+    private static int type(
+        String kind,
+        MetricRecord record)
+    {
+        int type = TYPE_UNTYPED;
+        if (record instanceof HistogramRecord)
+        {
+            type = TYPE_HISTOGRAM;
+        }
+        else if ("counter".equals(kind))
+        {
+            type = TYPE_COUNTER;
+        }
+        else if ("gauge".equals(kind))
+        {
+            type = TYPE_GAUGE;
+        }
+        return type;
+    }
+
+    private static int scalarField(
+        String kind)
+    {
+        int field = METRIC_UNTYPED;
+        if ("counter".equals(kind))
+        {
+            field = METRIC_COUNTER;
+        }
+        else if ("gauge".equals(kind))
+        {
+            field = METRIC_GAUGE;
+        }
+        return field;
+    }
+
+    /*
+     * Nested messages are encoded with a single byte reserved for their length, just before the body.
+     * When the body turns out to need a longer varint, it is shifted along to make room.
+     */
+    private int endMessage(
+        int body,
+        int limit)
+    {
+        final int length = limit - body;
+        final int lengthSize = varintSize(length);
+
+        if (lengthSize > 1)
+        {
+            final int shift = lengthSize - 1;
+            buffer.checkLimit(limit + shift);
+            buffer.putBytes(body + shift, buffer, body, length);
+            limit += shift;
+        }
+
+        putVarint(body - 1, length);
+
+        return limit;
+    }
+
+    private int putTag(
+        int limit,
+        int field,
+        int wireType)
+    {
+        return putVarint(limit, field << 3 | wireType);
+    }
+
+    private int putString(
+        int limit,
+        int field,
+        String value)
+    {
+        limit = putTag(limit, field, WIRE_LENGTH);
+        limit = putVarint(limit, utf8Length(value));
+        return putUtf8(limit, value, false, false);
+    }
+
+    private int putDouble(
+        int limit,
+        double value)
+    {
+        buffer.putDouble(limit, value, LITTLE_ENDIAN);
+        return limit + Double.BYTES;
+    }
+
+    private int putVarint(
+        int limit,
+        long value)
+    {
+        while ((value & ~0x7fL) != 0L)
+        {
+            buffer.putByte(limit++, (byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.putByte(limit++, (byte) value);
+        return limit;
+    }
+
+    private int putByte(
+        int limit,
+        char value)
+    {
+        buffer.putByte(limit, (byte) value);
+        return limit + 1;
+    }
+
+    private int putAscii(
+        int limit,
+        String value)
+    {
+        return limit + buffer.putStringWithoutLengthAscii(limit, value);
+    }
+
+    private int putLong(
+        int limit,
+        long value)
+    {
+        return limit + buffer.putLongAscii(limit, value);
+    }
+
+    /*
+     * Writes whole values as integers, and other values with up to nine fractional digits,
+     * which covers millisecond values derived from nanoseconds without going through Double.toString.
+     */
+    private int putDecimal(
+        int limit,
+        double value)
+    {
+        if (Double.isNaN(value))
+        {
+            limit = putAscii(limit, "NaN");
+        }
+        else if (Double.isInfinite(value))
+        {
+            limit = putAscii(limit, value > 0 ? "+Inf" : "-Inf");
+        }
+        else if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE)
+        {
+            limit = putLong(limit, (long) value);
+        }
+        else if (Math.abs(value) < Long.MAX_VALUE / DECIMAL_SCALE)
+        {
+            long scaled = Math.round(value * DECIMAL_SCALE);
+            if (scaled < 0L)
+            {
+                limit = putByte(limit, '-');
+                scaled = -scaled;
+            }
+
+            limit = putLong(limit, scaled / (long) DECIMAL_SCALE);
+
+            long fraction = scaled % (long) DECIMAL_SCALE;
+            if (fraction != 0L)
+            {
+                int digits = DECIMAL_DIGITS;
+                while (fraction % 10L == 0L)
+                {
+                    fraction /= 10L;
+                    digits--;
+                }
+
+                limit = putByte(limit, '.');
+                for (int i = digits - 1; i >= 0; i--)
+                {
+                    buffer.putByte(limit + i, (byte) ('0' + fraction % 10L));
+                    fraction /= 10L;
+                }
+                limit += digits;
+            }
+        }
+        else
+        {
+            limit = putAscii(limit, Double.toString(value));
+        }
+        return limit;
+    }
+
+    private int putEscaped(
+        int limit,
+        String value,
+        boolean escapeQuote)
+    {
+        return putUtf8(limit, value, true, escapeQuote);
+    }
+
+    private int putUtf8(
+        int limit,
+        String value,
+        boolean escape,
+        boolean escapeQuote)
+    {
+        final int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            final char ch = value.charAt(i);
+            if (escape && ch == '\\')
+            {
+                limit = putByte(limit, '\\');
+                limit = putByte(limit, '\\');
+            }
+            else if (escape && ch == '\n')
+            {
+                limit = putByte(limit, '\\');
+                limit = putByte(limit, 'n');
+            }
+            else if (escapeQuote && ch == '"')
+            {
+                limit = putByte(limit, '\\');
+                limit = putByte(limit, '"');
+            }
+            else if (ch < 0x80)
+            {
+                buffer.putByte(limit++, (byte) ch);
+            }
+            else if (ch < 0x800)
+            {
+                buffer.putByte(limit++, (byte) (0xc0 | ch >> 6));
+                buffer.putByte(limit++, (byte) (0x80 | ch & 0x3f));
+            }
+            else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                buffer.putByte(limit++, (byte) (0xf0 | codePoint >> 18));
+                buffer.putByte(limit++, (byte) (0x80 | codePoint >> 12 & 0x3f));
+                buffer.putByte(limit++, (byte) (0x80 | codePoint >> 6 & 0x3f));
+                buffer.putByte(limit++, (byte) (0x80 | codePoint & 0x3f));
+            }
+            else
+            {
+                buffer.putByte(limit++, (byte) (0xe0 | ch >> 12));
+                buffer.putByte(limit++, (byte) (0x80 | ch >> 6 & 0x3f));
+                buffer.putByte(limit++, (byte) (0x80 | ch & 0x3f));
+            }
+        }
+        return limit;
+    }
+
+    private static int utf8Length(
+        String value)
+    {
+        final int length = value.length();
+        int size = 0;
+        for (int i = 0; i < length; i++)
+        {
+            final char ch = value.charAt(i);
+            if (ch < 0x80)
+            {
+                size += 1;
+            }
+            else if (ch < 0x800)
+            {
+                size += 2;
+            }
+            else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                size += 4;
+                i++;
+            }
+            else
+            {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static int varintSize(
+        long value)
+    {
+        int size = 1;
+        while ((value & ~0x7fL) != 0L)
+        {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
@@ -14,7 +14,6 @@
  */
 module io.aklivity.zilla.runtime.exporter.prometheus
 {
-    requires jdk.httpserver;
     requires io.aklivity.zilla.runtime.engine;
     requires io.aklivity.zilla.config.exporter.prometheus;
 
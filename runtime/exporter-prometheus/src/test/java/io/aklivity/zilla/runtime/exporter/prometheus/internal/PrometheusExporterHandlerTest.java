@@ -27,6 +27,7 @@ import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Test;
 
@@ -79,10 +80,63 @@ public class PrometheusExporterHandlerTest
 
         // WHEN
         handler.start();
-        HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(handler, client, httpRequest);
 
         // THEN
         assertThat(response.statusCode(), equalTo(200));
         handler.stop();
     }
+
+    @Test
+    public void shouldRejectMethodNotAllowed() throws Exception
+    {
+        // GIVEN
+        EngineConfiguration config = mock(EngineConfiguration.class);
+        EngineContext context = mock(EngineContext.class);
+        PrometheusEndpointConfig endpoint = PrometheusEndpointConfig.builder()
+            .scheme("http")
+            .port(4243)
+            .path("/metrics")
+            .build();
+        PrometheusOptionsConfig options = PrometheusOptionsConfig.builder()
+            .endpoints(new PrometheusEndpointConfig[]{endpoint})
+            .build();
+        ExporterConfig exporter = GenericExporterConfig.builder()
+                .namespace("test")
+                .name("test0")
+                .type("prometheus")
+                .options(options)
+                .build();
+        PrometheusExporterConfig prometheusExporter = new PrometheusExporterConfig(exporter);
+        Collector collector = mock(Collector.class);
+        PrometheusExporterHandler handler = new PrometheusExporterHandler(config, context, prometheusExporter, collector);
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest httpRequest = HttpRequest
+            .newBuilder(new URI("http://localhost:4243/metrics"))
+            .timeout(Duration.of(10, SECONDS))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+
+        // WHEN
+        handler.start();
+        HttpResponse<String> response = send(handler, client, httpRequest);
+
+        // THEN
+        assertThat(response.statusCode(), equalTo(405));
+        handler.stop();
+    }
+
+    private static HttpResponse<String> send(
+        PrometheusExporterHandler handler,
+        HttpClient client,
+        HttpRequest request) throws Exception
+    {
+        CompletableFuture<HttpResponse<String>> response = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        while (!response.isDone())
+        {
+            handler.export();
+            Thread.onSpinWait();
+        }
+        return response.get();
+    }
 }
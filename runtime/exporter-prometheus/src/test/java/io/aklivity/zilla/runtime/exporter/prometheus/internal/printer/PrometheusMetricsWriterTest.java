@@ -0,0 +1,366 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.prometheus.internal.printer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.ExpandableDirectByteBufferEx;
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+
+public class PrometheusMetricsWriterTest
+{
+    private PrometheusMetricDescriptor descriptor;
+    private PrometheusMetricsWriter writer;
+    private ExpandableDirectByteBufferEx buffer;
+
+    @Before
+    public void init()
+    {
+        descriptor = mock(PrometheusMetricDescriptor.class);
+        when(descriptor.name("counter1")).thenReturn("counter1_total");
+        when(descriptor.kind("counter1")).thenReturn("counter");
+        when(descriptor.description("counter1")).thenReturn("description for counter1");
+
+        when(descriptor.name("gauge1")).thenReturn("gauge1");
+        when(descriptor.kind("gauge1")).thenReturn("gauge");
+        when(descriptor.description("gauge1")).thenReturn("description for gauge1");
+
+        when(descriptor.name("histogram1")).thenReturn("histogram1");
+        when(descriptor.kind("histogram1")).thenReturn("histogram");
+        when(descriptor.description("histogram1")).thenReturn("description for histogram1");
+
+        writer = new PrometheusMetricsWriter(descriptor::kind, descriptor::name,
+            descriptor::description, descriptor::milliseconds);
+        buffer = new ExpandableDirectByteBufferEx(16);
+    }
+
+    @Test
+    public void shouldWriteText() throws Exception
+    {
+        String expected =
+            "# HELP counter1_total description for counter1\n" +
+            "# TYPE counter1_total counter\n" +
+            "counter1_total{namespace=\"ns1\",binding=\"binding1\"} 42\n" +
+            "# HELP gauge1 description for gauge1\n" +
+            "# TYPE gauge1 gauge\n" +
+            "gauge1{namespace=\"ns1\",binding=\"binding1\"} 77\n" +
+            "# HELP histogram1 description for histogram1\n" +
+            "# TYPE histogram1 histogram\n" +
+            "histogram1_bucket{le=\"1\",namespace=\"ns1\",binding=\"binding1\"} 7\n" +
+            "histogram1_bucket{le=\"10\",namespace=\"ns1\",binding=\"binding1\"} 49\n" +
+            "histogram1_bucket{le=\"100\",namespace=\"ns1\",binding=\"binding1\"} 58\n" +
+            "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 59\n" +
+            "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 2327\n" +
+            "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 59\n";
+
+        int limit = writer.write(records(), PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldWriteOpenMetrics() throws Exception
+    {
+        String expected =
+            "# TYPE counter1 counter\n" +
+            "# HELP counter1 description for counter1\n" +
+            "counter1_total{namespace=\"ns1\",binding=\"binding1\"} 42\n" +
+            "# TYPE gauge1 gauge\n" +
+            "# HELP gauge1 description for gauge1\n" +
+            "gauge1{namespace=\"ns1\",binding=\"binding1\"} 77\n" +
+            "# TYPE histogram1 histogram\n" +
+            "# HELP histogram1 description for histogram1\n" +
+            "histogram1_bucket{le=\"1\",namespace=\"ns1\",binding=\"binding1\"} 7\n" +
+            "histogram1_bucket{le=\"10\",namespace=\"ns1\",binding=\"binding1\"} 49\n" +
+            "histogram1_bucket{le=\"100\",namespace=\"ns1\",binding=\"binding1\"} 58\n" +
+            "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 59\n" +
+            "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 2327\n" +
+            "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 59\n" +
+            "# EOF\n";
+
+        int limit = writer.write(records(), PrometheusFormat.OPENMETRICS, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldWriteEmptyPowerOfTwoBuckets() throws Exception
+    {
+        String expected =
+            "# HELP histogram1 description for histogram1\n" +
+            "# TYPE histogram1 histogram\n" +
+            "histogram1_bucket{le=\"2\",namespace=\"ns1\",binding=\"binding1\"} 0\n" +
+            "histogram1_bucket{le=\"4\",namespace=\"ns1\",binding=\"binding1\"} 0\n" +
+            "histogram1_bucket{le=\"8\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+            "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+            "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 25\n" +
+            "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 5\n";
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding1");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.buckets()).thenReturn(4);
+        when(histogramRecord.significantDigits()).thenReturn(0);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{2, 4, 8, 16});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{0, 0, 5, 0});
+        when(histogramRecord.stats()).thenReturn(new long[]{4L, 6L, 25L, 5L, 5L});
+
+        int limit = writer.write(List.of(histogramRecord), PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldSkipRunsOfEmptyLogLinearBuckets() throws Exception
+    {
+        String expected =
+            "# HELP histogram1 description for histogram1\n" +
+            "# TYPE histogram1 histogram\n" +
+            "histogram1_bucket{le=\"2\",namespace=\"ns1\",binding=\"binding1\"} 0\n" +
+            "histogram1_bucket{le=\"3\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+            "histogram1_bucket{le=\"5\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+            "histogram1_bucket{le=\"6\",namespace=\"ns1\",binding=\"binding1\"} 8\n" +
+            "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 8\n" +
+            "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 33\n" +
+            "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 8\n";
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding1");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.buckets()).thenReturn(9);
+        when(histogramRecord.significantDigits()).thenReturn(1);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{0, 0, 5, 0, 0, 3, 0, 0, 0});
+        when(histogramRecord.stats()).thenReturn(new long[]{3L, 6L, 33L, 8L, 4L});
+
+        int limit = writer.write(List.of(histogramRecord), PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldWriteMillisecondsAndEscapedLabels() throws Exception
+    {
+        String expected =
+            "# HELP gauge1 description for gauge1\n" +
+            "# TYPE gauge1 gauge\n" +
+            "gauge1{namespace=\"ns1\",binding=\"binding1\",path=\"/a\\\"b\\\\c\"} 1.25\n";
+
+        ScalarRecord gaugeRecord = mock(ScalarRecord.class);
+        when(gaugeRecord.namespace()).thenReturn("ns1");
+        when(gaugeRecord.binding()).thenReturn("binding1");
+        when(gaugeRecord.metric()).thenReturn("gauge1");
+        when(gaugeRecord.attributes()).thenReturn(Map.of("path", "/a\"b\\c"));
+        when(gaugeRecord.valueReader()).thenReturn(() -> 1_250_000L);
+        when(descriptor.milliseconds("gauge1")).thenReturn(true);
+
+        int limit = writer.write(List.of(gaugeRecord), PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldWriteProtobuf() throws Exception
+    {
+        ByteBuffer expected = ByteBuffer.allocate(97).order(LITTLE_ENDIAN);
+        expected.put((byte) 96);
+        putString(expected, 0x0a, "counter1_total");
+        putString(expected, 0x12, "description for counter1");
+        expected.put((byte) 0x18).put((byte) 0);
+        expected.put((byte) 0x22).put((byte) 50);
+        expected.put((byte) 0x0a).put((byte) 16);
+        putString(expected, 0x0a, "namespace");
+        putString(expected, 0x12, "ns1");
+        expected.put((byte) 0x0a).put((byte) 19);
+        putString(expected, 0x0a, "binding");
+        putString(expected, 0x12, "binding1");
+        expected.put((byte) 0x1a).put((byte) 9);
+        expected.put((byte) 0x09).putDouble(42.0);
+
+        int limit = writer.write(List.of(counterRecord()), PrometheusFormat.PROTOBUF, buffer, 0);
+
+        byte[] actual = new byte[limit];
+        buffer.getBytes(0, actual);
+        assertThat(actual, equalTo(expected.array()));
+    }
+
+    @Test
+    public void shouldWriteProtobufWithLongLengths() throws Exception
+    {
+        String value = "v".repeat(200);
+
+        ScalarRecord counterRecord = counterRecord();
+        when(counterRecord.attributes()).thenReturn(Map.of("key", value));
+
+        int limit = writer.write(List.of(counterRecord, counterRecord), PrometheusFormat.PROTOBUF, buffer, 0);
+
+        int length = (buffer.getByte(0) & 0x7f) | (buffer.getByte(1) & 0x7f) << 7;
+        assertThat(limit, equalTo(length + 2));
+        assertThat(buffer.getStringWithoutLengthUtf8(limit - 11 - 200, 200), equalTo(value));
+    }
+
+    @Test
+    public void shouldWriteOneFamilyForBindingsWithSameMetric() throws Exception
+    {
+        String expected =
+            "# HELP counter1_total description for counter1\n" +
+            "# TYPE counter1_total counter\n" +
+            "counter1_total{namespace=\"ns1\",binding=\"binding1\"} 42\n" +
+            "counter1_total{namespace=\"ns1\",binding=\"binding2\"} 43\n" +
+            "# HELP gauge1 description for gauge1\n" +
+            "# TYPE gauge1 gauge\n" +
+            "gauge1{namespace=\"ns1\",binding=\"binding1\"} 77\n";
+
+        ScalarRecord counterRecord2 = mock(ScalarRecord.class);
+        when(counterRecord2.namespace()).thenReturn("ns1");
+        when(counterRecord2.binding()).thenReturn("binding2");
+        when(counterRecord2.metric()).thenReturn("counter1");
+        when(counterRecord2.valueReader()).thenReturn(() -> 43L);
+
+        ScalarRecord gaugeRecord = mock(ScalarRecord.class);
+        when(gaugeRecord.namespace()).thenReturn("ns1");
+        when(gaugeRecord.binding()).thenReturn("binding1");
+        when(gaugeRecord.metric()).thenReturn("gauge1");
+        when(gaugeRecord.valueReader()).thenReturn(() -> 77L);
+
+        List<MetricRecord> records = List.of(counterRecord(), gaugeRecord, counterRecord2);
+
+        int limit = writer.write(records, PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+
+        limit = writer.write(records, PrometheusFormat.TEXT, buffer, 0);
+
+        assertThat(buffer.getStringWithoutLengthUtf8(0, limit), equalTo(expected));
+    }
+
+    @Test
+    public void shouldWriteOneProtobufFamilyForBindingsWithSameMetric() throws Exception
+    {
+        ByteBuffer expected = ByteBuffer.allocate(150).order(LITTLE_ENDIAN);
+        expected.put((byte) 148);
+        expected.put((byte) 0x01);
+        putString(expected, 0x0a, "counter1_total");
+        putString(expected, 0x12, "description for counter1");
+        expected.put((byte) 0x18).put((byte) 0);
+        putCounter(expected, "binding1", 42.0);
+        putCounter(expected, "binding2", 43.0);
+
+        ScalarRecord counterRecord2 = mock(ScalarRecord.class);
+        when(counterRecord2.namespace()).thenReturn("ns1");
+        when(counterRecord2.binding()).thenReturn("binding2");
+        when(counterRecord2.metric()).thenReturn("counter1");
+        when(counterRecord2.valueReader()).thenReturn(() -> 43L);
+
+        int limit = writer.write(List.of(counterRecord(), counterRecord2), PrometheusFormat.PROTOBUF, buffer, 0);
+
+        byte[] actual = new byte[limit];
+        buffer.getBytes(0, actual);
+        assertThat(actual, equalTo(expected.array()));
+    }
+
+    @Test
+    public void shouldEncodeGzip() throws Exception
+    {
+        ExpandableDirectByteBufferEx compressed = new ExpandableDirectByteBufferEx(16);
+        PrometheusGzipEncoder gzip = new PrometheusGzipEncoder();
+
+        int length = writer.write(records(), PrometheusFormat.TEXT, buffer, 0);
+        int limit = gzip.encode(buffer, 0, length, compressed, 8);
+        gzip.close();
+
+        byte[] bytes = new byte[limit - 8];
+        compressed.getBytes(8, bytes);
+        String actual;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes)))
+        {
+            actual = new String(in.readAllBytes(), UTF_8);
+        }
+
+        assertThat(actual, equalTo(buffer.getStringWithoutLengthUtf8(0, length)));
+    }
+
+    private static void putString(
+        ByteBuffer buffer,
+        int tag,
+        String value)
+    {
+        buffer.put((byte) tag).put((byte) value.length()).put(value.getBytes(UTF_8));
+    }
+
+    private static void putCounter(
+        ByteBuffer buffer,
+        String binding,
+        double value)
+    {
+        buffer.put((byte) 0x22).put((byte) 50);
+        buffer.put((byte) 0x0a).put((byte) 16);
+        putString(buffer, 0x0a, "namespace");
+        putString(buffer, 0x12, "ns1");
+        buffer.put((byte) 0x0a).put((byte) 19);
+        putString(buffer, 0x0a, "binding");
+        putString(buffer, 0x12, binding);
+        buffer.put((byte) 0x1a).put((byte) 9);
+        buffer.put((byte) 0x09).putDouble(value);
+    }
+
+    private static ScalarRecord counterRecord()
+    {
+        ScalarRecord counterRecord = mock(ScalarRecord.class);
+        when(counterRecord.namespace()).thenReturn("ns1");
+        when(counterRecord.binding()).thenReturn("binding1");
+        when(counterRecord.metric()).thenReturn("counter1");
+        when(counterRecord.valueReader()).thenReturn(() -> 42L);
+        return counterRecord;
+    }
+
+    private static List<MetricRecord> records()
+    {
+        ScalarRecord gaugeRecord = mock(ScalarRecord.class);
+        when(gaugeRecord.namespace()).thenReturn("ns1");
+        when(gaugeRecord.binding()).thenReturn("binding1");
+        when(gaugeRecord.metric()).thenReturn("gauge1");
+        when(gaugeRecord.valueReader()).thenReturn(() -> 77L);
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding1");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.buckets()).thenReturn(4);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{1, 10, 100, 1000});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{7, 42, 9, 1});
+        when(histogramRecord.stats()).thenReturn(new long[]{1L, 1000L, 2327L, 59L, 39L}); // min, max, sum, cnt, avg
+
+        return List.of(counterRecord(), gaugeRecord, histogramRecord);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.guard.jwt.internal;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class JwtConfiguration extends Configuration
+{
+    public static final IntPropertyDef JWT_TOKEN_CACHE_CAPACITY;
+
+    private static final ConfigurationDef JWT_CONFIG;
+
+    static
+    {
+        final ConfigurationDef config = new ConfigurationDef("zilla.guard.jwt");
+        JWT_TOKEN_CACHE_CAPACITY = config.property("token.cache.capacity", 1024);
+        JWT_CONFIG = config;
+    }
+
+    public JwtConfiguration()
+    {
+        super(JWT_CONFIG, new Configuration());
+    }
+
+    public JwtConfiguration(
+        Configuration config)
+    {
+        super(JWT_CONFIG, config);
+    }
+
+    public int tokenCacheCapacity()
+    {
+        return JWT_TOKEN_CACHE_CAPACITY.getAsInt(this);
+    }
+}
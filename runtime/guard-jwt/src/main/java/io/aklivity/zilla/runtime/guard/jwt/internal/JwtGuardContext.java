@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.guard.jwt.internal;
 
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+
 import java.util.function.LongSupplier;
 
 import org.agrona.collections.Long2ObjectHashMap;
@@ -23,12 +25,17 @@ import io.aklivity.zilla.config.guard.jwt.JwtOptionsConfig;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.guard.GuardContext;
+import io.aklivity.zilla.runtime.guard.jwt.internal.metrics.JwtTokenCacheHitsMetric;
+import io.aklivity.zilla.runtime.guard.jwt.internal.metrics.JwtTokenCacheMissesMetric;
 
 final class JwtGuardContext implements GuardContext
 {
     private final Long2ObjectHashMap<JwtGuardHandler> handlersById;
     private final LongSupplier supplyAuthorizedId;
     private final EngineContext context;
+    private final int tokenCacheCapacity;
+    private final int tokenCacheHitsId;
+    private final int tokenCacheMissesId;
 
     JwtGuardContext(
         Configuration config,
@@ -37,6 +44,9 @@ final class JwtGuardContext implements GuardContext
         this.handlersById = new Long2ObjectHashMap<>();
         this.context = context;
         this.supplyAuthorizedId = context::supplyAuthorizedId;
+        this.tokenCacheCapacity = new JwtConfiguration(config).tokenCacheCapacity();
+        this.tokenCacheHitsId = context.supplyTypeId(JwtTokenCacheHitsMetric.NAME);
+        this.tokenCacheMissesId = context.supplyTypeId(JwtTokenCacheMissesMetric.NAME);
     }
 
     @Override
@@ -44,7 +54,9 @@ final class JwtGuardContext implements GuardContext
         GuardConfig guard)
     {
         JwtOptionsConfig options = (JwtOptionsConfig) guard.options;
-        JwtGuardHandler handler = new JwtGuardHandler(options, context, supplyAuthorizedId);
+        JwtGuardHandler handler = new JwtGuardHandler(options, context, supplyAuthorizedId, tokenCacheCapacity,
+            context.supplyMetricWriter(COUNTER, guard.id, tokenCacheHitsId, 0, null),
+            context.supplyMetricWriter(COUNTER, guard.id, tokenCacheMissesId, 0, null));
         handlersById.put(guard.id, handler);
         return handler;
     }
@@ -14,21 +14,28 @@
  */
 package io.aklivity.zilla.runtime.guard.jwt.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 import org.agrona.collections.Long2ObjectHashMap;
@@ -51,6 +58,8 @@ public class JwtGuardHandler implements GuardHandler
 {
     private static final String SPLIT_VALUE_PATTERN = "\\s+";
     private static final String SPLIT_PATH_PATTERN = "\\.";
+    private static final long NOT_BEFORE_NONE = Long.MIN_VALUE;
+    private static final LongConsumer NO_METRIC = v -> {};
 
     private final JsonWebSignature signature = new JsonWebSignature();
 
@@ -66,11 +75,26 @@ public class JwtGuardHandler implements GuardHandler
     private final JwtEventContext event;
     private final Map<String, String> attributes;
     private final Consumer<Runnable> dispatcher;
+    private final JwtTokenCache tokens;
+    private final MessageDigest tokenDigest;
+    private final LongConsumer recordTokenCacheHit;
+    private final LongConsumer recordTokenCacheMiss;
 
     public JwtGuardHandler(
         JwtOptionsConfig options,
         EngineContext context,
         LongSupplier supplyAuthorizedId)
+    {
+        this(options, context, supplyAuthorizedId, new JwtConfiguration().tokenCacheCapacity(), NO_METRIC, NO_METRIC);
+    }
+
+    public JwtGuardHandler(
+        JwtOptionsConfig options,
+        EngineContext context,
+        LongSupplier supplyAuthorizedId,
+        int tokenCacheCapacity,
+        LongConsumer recordTokenCacheHit,
+        LongConsumer recordTokenCacheMiss)
     {
         this.issuer = options.issuer;
         this.audience = options.audience;
@@ -121,6 +145,10 @@ public class JwtGuardHandler implements GuardHandler
         this.event = new JwtEventContext(context);
         this.attributes = options.attributes;
         this.dispatcher = context::dispatch;
+        this.tokens = new JwtTokenCache(tokenCacheCapacity);
+        this.tokenDigest = newTokenDigest();
+        this.recordTokenCacheHit = recordTokenCacheHit;
+        this.recordTokenCacheMiss = recordTokenCacheMiss;
     }
 
     @Override
@@ -133,7 +161,6 @@ public class JwtGuardHandler implements GuardHandler
         JwtSession session = null;
         String identity = null;
         String reason = "";
-        Map<String, String> attributes = new HashMap<>();
 
         authorize:
         try
@@ -144,78 +171,98 @@ public class JwtGuardHandler implements GuardHandler
                 break authorize;
             }
 
-            signature.setCompactSerialization(credentials);
-
-            String kid = signature.getKeyIdHeaderValue();
-            String alg = signature.getAlgorithmHeaderValue();
-            JsonWebKey key = keys.get(kid);
+            long now = Instant.now().toEpochMilli();
+            ByteBuffer tokenKey = tokenKey(credentials);
+            JwtToken token = tokens.get(tokenKey);
 
-            if (alg == null ||
-                key == null ||
-                !Objects.equals(alg, key.getAlgorithm()))
+            if (token != null && token.valid(now))
             {
-                reason = "Invalid alg or key.";
-                break authorize;
+                recordTokenCacheHit.accept(1L);
             }
-
-            signature.setKey(null);
-            signature.setKey(key.getKey());
-            if (!signature.verifySignature())
+            else
             {
-                reason = "Unable to verify key signature.";
-                break authorize;
-            }
+                recordTokenCacheMiss.accept(1L);
+                tokens.remove(tokenKey);
+                token = null;
 
-            String payload = signature.getPayload();
-            JwtClaims claims = JwtClaims.parse(payload);
-            identity = this.identity != null ? claims.getStringClaimValue(this.identity) : claims.getSubject();
-            NumericDate notBefore = claims.getNotBefore();
-            NumericDate notAfter = claims.getExpirationTime();
-            String issuer = claims.getIssuer();
-            List<String> audience = claims.getAudience();
+                signature.setCompactSerialization(credentials);
 
-            long now = Instant.now().toEpochMilli();
-            if (notBefore != null && now < notBefore.getValueInMillis() ||
-                notAfter != null && now > notAfter.getValueInMillis())
-            {
-                reason = "Token is expired.";
-                break authorize;
-            }
-            if (issuer == null || !issuer.equals(this.issuer) ||
-                audience == null || !audience.contains(this.audience))
-            {
-                reason = "Invalid issuer or audience.";
-                break authorize;
-            }
+                String kid = signature.getKeyIdHeaderValue();
+                String alg = signature.getAlgorithmHeaderValue();
+                JsonWebKey key = keys.get(kid);
 
-            Object rolesValue = claimValue(claims, this.roles);
-            @SuppressWarnings("unchecked")
-            List<String> roles = (rolesValue instanceof List)
-                    ? (List<String>) rolesValue
-                    : Optional.ofNullable(rolesValue)
-                        .map(Object::toString)
-                        .map(s -> s.split(SPLIT_VALUE_PATTERN))
-                        .map(Arrays::asList)
-                        .orElse(null);
-
-            if (this.attributes != null && !this.attributes.isEmpty())
-            {
-                this.attributes
-                    .forEach((name, attribute) ->
-                    {
-                        Object value = claimValue(claims, attribute);
-                        attributes.put(name, value != null ? value.toString() : null);
-                    });
+                if (alg == null ||
+                    key == null ||
+                    !Objects.equals(alg, key.getAlgorithm()))
+                {
+                    reason = "Invalid alg or key.";
+                    break authorize;
+                }
+
+                signature.setKey(null);
+                signature.setKey(key.getKey());
+                if (!signature.verifySignature())
+                {
+                    reason = "Unable to verify key signature.";
+                    break authorize;
+                }
+
+                String payload = signature.getPayload();
+                JwtClaims claims = JwtClaims.parse(payload);
+                identity = this.identity != null ? claims.getStringClaimValue(this.identity) : claims.getSubject();
+                NumericDate notBefore = claims.getNotBefore();
+                NumericDate notAfter = claims.getExpirationTime();
+                String issuer = claims.getIssuer();
+                List<String> audience = claims.getAudience();
+
+                if (notBefore != null && now < notBefore.getValueInMillis() ||
+                    notAfter != null && now > notAfter.getValueInMillis())
+                {
+                    reason = "Token is expired.";
+                    break authorize;
+                }
+                if (issuer == null || !issuer.equals(this.issuer) ||
+                    audience == null || !audience.contains(this.audience))
+                {
+                    reason = "Invalid issuer or audience.";
+                    break authorize;
+                }
+
+                Object rolesValue = claimValue(claims, this.roles);
+                @SuppressWarnings("unchecked")
+                List<String> roles = (rolesValue instanceof List)
+                        ? (List<String>) rolesValue
+                        : Optional.ofNullable(rolesValue)
+                            .map(Object::toString)
+                            .map(s -> s.split(SPLIT_VALUE_PATTERN))
+                            .map(Arrays::asList)
+                            .orElse(null);
+
+                Map<String, String> attributes = new HashMap<>();
+                if (this.attributes != null && !this.attributes.isEmpty())
+                {
+                    this.attributes
+                        .forEach((name, attribute) ->
+                        {
+                            Object value = claimValue(claims, attribute);
+                            attributes.put(name, value != null ? value.toString() : null);
+                        });
+                }
+
+                token = new JwtToken(identity, roles, Collections.unmodifiableMap(attributes),
+                    notBefore != null ? notBefore.getValueInMillis() : NOT_BEFORE_NONE,
+                    notAfter != null ? notAfter.getValueInMillis() : EXPIRES_NEVER);
+                tokens.put(tokenKey, token);
             }
 
+            identity = token.identity;
+
             JwtSessionStore sessionStore = supplySessionStore(contextId);
-            session = sessionStore.supplySession(identity, roles, attributes);
+            session = sessionStore.supplySession(identity, token.roles, token.attributes);
 
             session.credentials = credentials;
-            session.roles = roles;
-            session.expiresAt = notAfter != null
-                ? Math.max(session.expiresAt, notAfter.getValueInMillis())
-                : EXPIRES_NEVER;
+            session.roles = token.roles;
+            session.expiresAt = Math.max(session.expiresAt, token.expiresAt);
             session.challengeAt = challenge != null ? session.expiresAt - challenge.toMillis() : session.expiresAt;
 
             JwtSession previous = sessionsById.put(session.authorized, session);
@@ -477,6 +524,87 @@ public class JwtGuardHandler implements GuardHandler
         }
     }
 
+    private static final class JwtToken
+    {
+        private final String identity;
+        private final List<String> roles;
+        private final Map<String, String> attributes;
+        private final long notBefore;
+        private final long expiresAt;
+
+        private JwtToken(
+            String identity,
+            List<String> roles,
+            Map<String, String> attributes,
+            long notBefore,
+            long expiresAt)
+        {
+            this.identity = identity;
+            this.roles = roles;
+            this.attributes = attributes;
+            this.notBefore = notBefore;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean valid(
+            long now)
+        {
+            return notBefore <= now && now <= expiresAt;
+        }
+    }
+
+    // bearer tokens are cached by digest, so verified credentials are not retained in the cache
+    private ByteBuffer tokenKey(
+        String credentials)
+    {
+        return ByteBuffer.wrap(tokenDigest.digest(credentials.getBytes(UTF_8)));
+    }
+
+    private static MessageDigest newTokenDigest()
+    {
+        MessageDigest digest = null;
+
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return digest;
+    }
+
+    private static final class JwtTokenCache extends LinkedHashMap<ByteBuffer, JwtToken>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private JwtTokenCache(
+            int capacity)
+        {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        public JwtToken put(
+            ByteBuffer tokenKey,
+            JwtToken token)
+        {
+            return capacity > 0 ? super.put(tokenKey, token) : null;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<ByteBuffer, JwtToken> eldest)
+        {
+            return size() > capacity;
+        }
+    }
+
     private static Object claimValue(
         Object node,
         String path)
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.guard.jwt.internal.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class JwtMetricGroup implements MetricGroup
+{
+    public static final String NAME = "jwt";
+
+    private final Map<String, Supplier<Metric>> jwtMetrics = Map.of(
+        JwtTokenCacheHitsMetric.NAME, JwtTokenCacheHitsMetric::new,
+        JwtTokenCacheMissesMetric.NAME, JwtTokenCacheMissesMetric::new
+    );
+
+    public JwtMetricGroup(
+        Configuration config)
+    {
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public Metric supply(
+        String name)
+    {
+        return jwtMetrics.getOrDefault(name, () -> null).get();
+    }
+
+    @Override
+    public Collection<String> metricNames()
+    {
+        return jwtMetrics.keySet();
+    }
+}
@@ -23,4 +23,7 @@ module io.aklivity.zilla.runtime.guard.jwt
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.guard.jwt.internal.JwtEventFormatterFactory;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.guard.jwt.internal.metrics.JwtMetricGroupFactorySpi;
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.guard.jwt.internal;
+
+import static io.aklivity.zilla.runtime.guard.jwt.internal.JwtConfiguration.JWT_TOKEN_CACHE_CAPACITY;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class JwtConfigurationTest
+{
+    public static final String TOKEN_CACHE_CAPACITY_NAME = "zilla.guard.jwt.token.cache.capacity";
+
+    @Test
+    public void shouldVerifyConstants()
+    {
+        assertEquals(JWT_TOKEN_CACHE_CAPACITY.name(), TOKEN_CACHE_CAPACITY_NAME);
+    }
+}
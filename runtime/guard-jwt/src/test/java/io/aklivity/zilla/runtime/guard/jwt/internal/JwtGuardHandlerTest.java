@@ -807,6 +807,76 @@ public class JwtGuardHandlerTest
         assertThat(guard.attribute(sessionId, "user"), equalTo("12345"));
     }
 
+    @Test
+    public void shouldAuthorizeFromTokenCache() throws Exception
+    {
+        JwtOptionsConfig options = JwtOptionsConfig.builder()
+            .inject(identity())
+            .issuer("test issuer")
+            .audience("testAudience")
+            .key(RFC7515_RS256_CONFIG)
+            .build();
+        MutableLong hits = new MutableLong();
+        MutableLong misses = new MutableLong();
+        JwtGuardHandler guard = new JwtGuardHandler(options, context, new MutableLong(1L)::getAndIncrement, 1,
+            hits::addAndGet, misses::addAndGet);
+
+        Instant now = Instant.now();
+
+        JwtClaims claims = new JwtClaims();
+        claims.setClaim("iss", "test issuer");
+        claims.setClaim("aud", "testAudience");
+        claims.setClaim("sub", "testSubject");
+        claims.setClaim("exp", now.getEpochSecond() + 10L);
+        claims.setClaim("scope", "read:stream write:stream");
+        String token = sign(claims.toJson(), "test", RFC7515_RS256, "RS256");
+
+        claims.setClaim("sub", "otherSubject");
+        String otherToken = sign(claims.toJson(), "test", RFC7515_RS256, "RS256");
+
+        long sessionId = guard.reauthorize(0L, 0L, 101L, token);
+        long cachedSessionId = guard.reauthorize(0L, 0L, 101L, token);
+
+        assertThat(cachedSessionId, equalTo(sessionId));
+        assertThat(guard.identity(cachedSessionId), equalTo("testSubject"));
+        assertThat(guard.expiresAt(cachedSessionId), equalTo(ofSeconds(now.getEpochSecond() + 10L).toMillis()));
+        assertTrue(guard.verify(cachedSessionId, asList("read:stream", "write:stream")));
+        assertThat(hits.get(), equalTo(1L));
+        assertThat(misses.get(), equalTo(1L));
+
+        long otherSessionId = guard.reauthorize(0L, 0L, 101L, otherToken);
+        guard.reauthorize(0L, 0L, 101L, token);
+
+        assertThat(guard.identity(otherSessionId), equalTo("otherSubject"));
+        assertThat(hits.get(), equalTo(1L));
+        assertThat(misses.get(), equalTo(3L));
+    }
+
+    @Test
+    public void shouldNotAuthorizeTamperedTokenFromTokenCache() throws Exception
+    {
+        JwtOptionsConfig options = JwtOptionsConfig.builder()
+            .inject(identity())
+            .issuer("test issuer")
+            .audience("testAudience")
+            .key(RFC7515_RS256_CONFIG)
+            .build();
+        JwtGuardHandler guard = new JwtGuardHandler(options, context, new MutableLong(1L)::getAndIncrement);
+
+        JwtClaims claims = new JwtClaims();
+        claims.setClaim("iss", "test issuer");
+        claims.setClaim("aud", "testAudience");
+        claims.setClaim("sub", "testSubject");
+        claims.setClaim("exp", Instant.now().getEpochSecond() + 10L);
+        String token = sign(claims.toJson(), "test", RFC7515_RS256, "RS256");
+
+        long sessionId = guard.reauthorize(0L, 0L, 101L, token);
+        long tamperedId = guard.reauthorize(0L, 0L, 101L, token.substring(0, token.length() - 2));
+
+        assertThat(sessionId, not(equalTo(0L)));
+        assertThat(tamperedId, equalTo(0L));
+    }
+
     static String sign(
         String payload,
         String kid,
@@ -22,6 +22,9 @@ import static java.util.function.Function.identity;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -74,6 +77,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
 
         GuardedConfig guarded = GuardedConfig.builder()
             .inject(identity())
@@ -99,6 +103,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
 
         GuardedConfig guarded = GuardedConfig.builder()
             .inject(identity())
@@ -131,6 +136,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
 
         GuardedConfig guarded = GuardedConfig.builder()
             .name("test0")
@@ -182,6 +188,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(1L);
 
         GuardedConfig guarded = GuardedConfig.builder()
@@ -235,6 +242,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(1L);
 
         GuardedConfig guarded = GuardedConfig.builder()
@@ -287,6 +295,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(1L);
 
         GuardedConfig guarded = GuardedConfig.builder()
@@ -338,6 +347,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(0x01L);
 
         GuardFactory factory = GuardFactory.instantiate();
@@ -389,6 +399,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(1L);
 
         GuardedConfig guarded = GuardedConfig.builder()
@@ -440,6 +451,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(0x01L);
 
         GuardFactory factory = GuardFactory.instantiate();
@@ -493,6 +505,7 @@ public class JwtGuardTest
         EngineContext engine = Mockito.mock(EngineContext.class);
 
         when(engine.index()).thenReturn(0);
+        when(engine.supplyMetricWriter(any(), anyLong(), anyInt(), anyInt(), any())).thenReturn(v -> {});
         when(engine.supplyAuthorizedId()).thenReturn(1L);
 
         GuardedConfig guarded = GuardedConfig.builder()
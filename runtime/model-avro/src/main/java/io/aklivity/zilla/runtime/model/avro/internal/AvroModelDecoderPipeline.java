@@ -134,6 +134,21 @@ final class AvroModelDecoderPipeline implements ModelPipeline
         return active != null && active.identity();
     }
 
+    @Override
+    public boolean prepare(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int length)
+    {
+        return handler.prepareDecode(traceId, originId, routedId, streamId, signalId, contextId, data, index, length);
+    }
+
     @Override
     public int padding(
         DirectBufferEx data,
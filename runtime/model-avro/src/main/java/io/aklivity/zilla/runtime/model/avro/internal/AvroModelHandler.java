@@ -111,6 +111,28 @@ public abstract class AvroModelHandler
         return schema;
     }
 
+    // the non-blocking counterpart of supplySchema: true once every catalog lookup it depends on has
+    // settled, otherwise the catalog signals the stream and the caller prepares again on that signal
+    protected final boolean prepareSchema(
+        int schemaId,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = handler.prepare(schemaId, traceId, originId, routedId, streamId, signalId, contextId);
+        if (prepared && overlayHandler != null)
+        {
+            prepared = overlayHandler.prepare(overlaySubject, overlayVersion,
+                    traceId, originId, routedId, streamId, signalId, contextId) &&
+                overlayHandler.prepare(overlayHandler.resolve(overlaySubject, overlayVersion),
+                    traceId, originId, routedId, streamId, signalId, contextId);
+        }
+        return prepared;
+    }
+
     private static long cacheKey(
         int schemaId,
         int overlaySchemaId)
@@ -118,20 +140,37 @@ public abstract class AvroModelHandler
         return (long) schemaId << 32 | overlaySchemaId & 0xFFFFFFFFL;
     }
 
+    // only a resolved schema's padding is cached, so a lookup still in flight is not pinned at 0
     protected final int supplyPadding(
         int schemaId)
     {
-        return paddings.computeIfAbsent(schemaId, id ->
+        int padding = paddings.get(schemaId);
+        if (padding == -1)
         {
-            AvroSchema schema = supplySchema(id);
-            return calculatePadding(schema != null ? schema.type() : null);
-        });
+            AvroSchema schema = supplySchema(schemaId);
+            padding = calculatePadding(schema != null ? schema.type() : null);
+            if (schema != null)
+            {
+                paddings.put(schemaId, padding);
+            }
+        }
+        return padding;
     }
 
     protected final int supplyExtPadding(
         int schemaId)
     {
-        return extPaddings.computeIfAbsent(schemaId, id -> extPadding(supplySchema(id)));
+        int padding = extPaddings.get(schemaId);
+        if (padding == -1)
+        {
+            AvroSchema schema = supplySchema(schemaId);
+            padding = extPadding(schema);
+            if (schema != null)
+            {
+                extPaddings.put(schemaId, padding);
+            }
+        }
+        return padding;
     }
 
     // overridden by AvroModelHandlerImpl to sum the padding contributed by each installed model extension;
@@ -148,6 +148,36 @@ public final class AvroModelHandlerImpl extends AvroModelHandler implements Mode
             : handler.resolve(subject, catalog.version);
     }
 
+    boolean prepareDecode(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int length)
+    {
+        int schemaId = handler.resolve(data, index, length);
+        return schemaId != NO_SCHEMA_ID
+            ? prepareSchema(schemaId, traceId, originId, routedId, streamId, signalId, contextId)
+            : prepareEncode(traceId, originId, routedId, streamId, signalId, contextId);
+    }
+
+    boolean prepareEncode(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = catalog != null && catalog.id != NO_SCHEMA_ID ||
+            handler.prepare(subject, catalog.version, traceId, originId, routedId, streamId, signalId, contextId);
+        return prepared && prepareSchema(resolveSchemaId(), traceId, originId, routedId, streamId, signalId, contextId);
+    }
+
     // writes the schema framing prefix for the resolved schema id into next, returning the bytes written
     int encodePrefix(
         long traceId,
@@ -18,7 +18,9 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
@@ -39,6 +41,7 @@ import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
 import io.aklivity.zilla.runtime.common.avro.AvroSchema;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.model.ModelController;
 import io.aklivity.zilla.runtime.engine.model.ModelEnvelope;
 import io.aklivity.zilla.runtime.engine.model.ModelEvent;
@@ -235,6 +238,24 @@ public class AvroModelDecoderPipelineTest
         assertFalse(pipeline.identity());
     }
 
+    @Test
+    public void shouldPrepareBeforeSchemaResolved()
+    {
+        CatalogHandler catalog = mock(CatalogHandler.class);
+        when(catalog.prepare("test-value", "latest", 1L, 2L, 3L, 4L, 5, 6)).thenReturn(false, true);
+        when(catalog.resolve("test-value", "latest")).thenReturn(9);
+        when(catalog.prepare(9, 1L, 2L, 3L, 4L, 5, 6)).thenReturn(true);
+        when(context.supplyCatalog(anyLong())).thenReturn(catalog);
+
+        AvroModelHandlerImpl handler = new AvroModelHandlerImpl(config, newModel("json"), context, List.of());
+        ModelPipeline pipeline = handler.supplyDecoder(ModelEnvelope.NONE, ModelTransform.NONE);
+        UnsafeBufferEx data = new UnsafeBufferEx(AVRO);
+
+        assertFalse(pipeline.prepare(1L, 2L, 3L, 4L, 5, 6, data, 0, AVRO.length));
+        assertTrue(pipeline.prepare(1L, 2L, 3L, 4L, 5, 6, data, 0, AVRO.length));
+        verify(catalog).prepare(9, 1L, 2L, 3L, 4L, 5, 6);
+    }
+
     private AvroModelHandlerImpl newHandler()
     {
         return newHandler(SCHEMA, "json");
@@ -261,7 +282,14 @@ public class AvroModelDecoderPipelineTest
                 .schema(schema)
                 .build()
             .build();
-        AvroModelConfig model = AvroModelConfig.builder()
+        when(context.supplyCatalog(catalog.id)).thenReturn(new TestCatalogHandler(catalog.options));
+        return new AvroModelHandlerImpl(config, newModel(view), context, exts);
+    }
+
+    private static AvroModelConfig newModel(
+        String view)
+    {
+        return AvroModelConfig.builder()
             .view(view)
             .catalog()
                 .name("test0")
@@ -272,8 +300,6 @@ public class AvroModelDecoderPipelineTest
                         .build()
                 .build()
             .build();
-        when(context.supplyCatalog(catalog.id)).thenReturn(new TestCatalogHandler(catalog.options));
-        return new AvroModelHandlerImpl(config, model, context, exts);
     }
 
     private static AvroModelExtContext expandingExt(
@@ -92,10 +92,21 @@ public abstract class JsonModelHandler
         return schema;
     }
 
+    // only a resolved schema's padding is cached, so a lookup still in flight is not pinned at 0
     protected final int supplyExtPadding(
         int schemaId)
     {
-        return extPaddings.computeIfAbsent(schemaId, id -> extPadding(supplySchema(id)));
+        int padding = extPaddings.get(schemaId);
+        if (padding == -1)
+        {
+            JsonSchema schema = supplySchema(schemaId);
+            padding = extPadding(schema);
+            if (schema != null)
+            {
+                extPaddings.put(schemaId, padding);
+            }
+        }
+        return padding;
     }
 
     // overridden by JsonModelHandlerImpl to sum the padding contributed by each installed model extension
@@ -105,6 +116,28 @@ public abstract class JsonModelHandler
         return 0;
     }
 
+    // the non-blocking counterpart of supplySchema: true once every catalog lookup it depends on has
+    // settled, otherwise the catalog signals the stream and the caller prepares again on that signal
+    protected final boolean prepareSchema(
+        int schemaId,
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = handler.prepare(schemaId, traceId, originId, routedId, streamId, signalId, contextId);
+        if (prepared && overlayHandler != null)
+        {
+            prepared = overlayHandler.prepare(overlaySubject, overlayVersion,
+                    traceId, originId, routedId, streamId, signalId, contextId) &&
+                overlayHandler.prepare(overlayHandler.resolve(overlaySubject, overlayVersion),
+                    traceId, originId, routedId, streamId, signalId, contextId);
+        }
+        return prepared;
+    }
+
     private static long cacheKey(
         int schemaId,
         int overlaySchemaId)
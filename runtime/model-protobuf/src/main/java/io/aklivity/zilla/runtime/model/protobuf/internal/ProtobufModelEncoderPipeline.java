@@ -123,6 +123,21 @@ final class ProtobufModelEncoderPipeline implements ModelPipeline
         return false;
     }
 
+    @Override
+    public boolean prepare(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int length)
+    {
+        return handler.prepareEncode(traceId, originId, routedId, streamId, signalId, contextId);
+    }
+
     @Override
     public int padding(
         DirectBufferEx data,
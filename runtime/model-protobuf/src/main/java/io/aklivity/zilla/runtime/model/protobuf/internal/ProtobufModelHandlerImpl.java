@@ -162,6 +162,36 @@ public final class ProtobufModelHandlerImpl extends ProtobufModelHandler impleme
             : handler.resolve(subject, catalog.version);
     }
 
+    boolean prepareDecode(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId,
+        DirectBufferEx data,
+        int index,
+        int length)
+    {
+        int schemaId = handler.resolve(data, index, length);
+        return schemaId != NO_SCHEMA_ID
+            ? prepareSchema(schemaId, traceId, originId, routedId, streamId, signalId, contextId)
+            : prepareEncode(traceId, originId, routedId, streamId, signalId, contextId);
+    }
+
+    boolean prepareEncode(
+        long traceId,
+        long originId,
+        long routedId,
+        long streamId,
+        int signalId,
+        int contextId)
+    {
+        boolean prepared = catalog != null && catalog.id > 0 ||
+            handler.prepare(subject, catalog.version, traceId, originId, routedId, streamId, signalId, contextId);
+        return prepared && prepareSchema(resolveSchemaId(), traceId, originId, routedId, streamId, signalId, contextId);
+    }
+
     // consumes the message-index varints at the value start (after the catalog framing), returning the number
     // of bytes they occupy; the decoded path is then read by message(int)
     int messageProgress(
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.agrona.BitUtil.align;
+import static org.agrona.IoUtil.createEmptyFile;
+import static org.agrona.IoUtil.mapExistingFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import org.agrona.CloseHelper;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * One generation of a filesystem store, a memory-mapped append-only log of records.
+ * <p>
+ * The header holds the {@code tail}, the offset after the last complete record, and {@code next},
+ * the generation that replaced this one after compaction. Records are written beyond the tail
+ * before the tail is advanced, so a reader in any process that maps the file only sees complete
+ * records, and a writer that dies mid-record leaves nothing for readers to see.
+ * </p>
+ * <p>
+ * Each record carries a CRC-32C of its contents, so a record that did not reach the disk intact
+ * before an operating system crash is detected on replay, and the log is truncated before it.
+ * Records are forced to disk as they are appended only when {@code sync} is requested; new
+ * generations are always forced before they are committed.
+ * </p>
+ * <p>
+ * The magic is written last when a generation is created, so a generation left incomplete by a
+ * crash during compaction is never read.
+ * </p>
+ */
+final class FileSystemLog
+{
+    static final int KIND_PUT = 1;
+    static final int KIND_DELETE = 2;
+    static final int KIND_LOCK = 3;
+    static final int KIND_UNLOCK = 4;
+
+    static final int SIZEOF_HEADER = 64;
+
+    private static final int MAGIC = 0x7a737466;
+    private static final int VERSION = 1;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = OFFSET_MAGIC + Integer.BYTES;
+    private static final int OFFSET_TAIL = OFFSET_VERSION + Integer.BYTES;
+    private static final int OFFSET_NEXT = OFFSET_TAIL + Long.BYTES;
+
+    private static final int OFFSET_LENGTH = 0;
+    private static final int OFFSET_CHECKSUM = OFFSET_LENGTH + Integer.BYTES;
+    private static final int OFFSET_EXPIRES_AT = OFFSET_CHECKSUM + Integer.BYTES;
+    private static final int OFFSET_KIND = OFFSET_EXPIRES_AT + Long.BYTES;
+    private static final int OFFSET_KEY_LENGTH = OFFSET_KIND + Integer.BYTES;
+    private static final int OFFSET_VALUE_LENGTH = OFFSET_KEY_LENGTH + Integer.BYTES;
+    private static final int OFFSET_KEY = OFFSET_VALUE_LENGTH + Integer.BYTES;
+
+    private static final int RECORD_ALIGNMENT = Long.BYTES;
+
+    final long generation;
+    final Path path;
+    final AtomicBufferEx buffer;
+
+    private final MappedByteBuffer mapped;
+    private final CRC32C checksum;
+
+    private FileSystemLog(
+        long generation,
+        Path path,
+        MappedByteBuffer mapped)
+    {
+        this.generation = generation;
+        this.path = path;
+        this.mapped = mapped;
+        this.buffer = new UnsafeBufferEx(mapped).asNative();
+        this.checksum = new CRC32C();
+    }
+
+    static Path path(
+        Path directory,
+        long generation)
+    {
+        return directory.resolve(String.format("%016x.log", generation));
+    }
+
+    static long generation(
+        Path path)
+    {
+        final String name = path.getFileName().toString();
+        return name.matches("[0-9a-f]{16}\\.log") ? Long.parseUnsignedLong(name.substring(0, 16), 16) : 0L;
+    }
+
+    static FileSystemLog create(
+        Path directory,
+        long generation,
+        int capacity)
+    {
+        final Path path = path(directory, generation);
+        CloseHelper.close(createEmptyFile(path.toFile(), capacity));
+
+        final FileSystemLog log = map(path, generation);
+        log.buffer.putInt(OFFSET_VERSION, VERSION);
+        log.buffer.putLongOrdered(OFFSET_TAIL, SIZEOF_HEADER);
+        return log;
+    }
+
+    static FileSystemLog map(
+        Path path,
+        long generation)
+    {
+        return new FileSystemLog(generation, path, mapExistingFile(path.toFile(), "store"));
+    }
+
+    static boolean valid(
+        Path path)
+    {
+        boolean valid = false;
+
+        try (FileChannel channel = FileChannel.open(path, READ))
+        {
+            final ByteBuffer header = ByteBuffer.allocate(OFFSET_TAIL).order(ByteOrder.nativeOrder());
+
+            int read = 0;
+            while (header.hasRemaining() && read != -1)
+            {
+                read = channel.read(header);
+            }
+
+            valid = !header.hasRemaining() &&
+                header.getInt(OFFSET_MAGIC) == MAGIC &&
+                header.getInt(OFFSET_VERSION) == VERSION;
+        }
+        catch (IOException ex)
+        {
+            // removed by a concurrent compaction, or not readable, so not a candidate
+        }
+
+        return valid;
+    }
+
+    static int sizeof(
+        int keyLength,
+        int valueLength)
+    {
+        return align(OFFSET_KEY + keyLength + valueLength, RECORD_ALIGNMENT);
+    }
+
+    boolean valid()
+    {
+        return buffer.capacity() >= SIZEOF_HEADER &&
+            buffer.getIntVolatile(OFFSET_MAGIC) == MAGIC &&
+            buffer.getInt(OFFSET_VERSION) == VERSION;
+    }
+
+    void commit()
+    {
+        mapped.force();
+        buffer.putIntOrdered(OFFSET_MAGIC, MAGIC);
+        mapped.force(0, SIZEOF_HEADER);
+    }
+
+    int capacity()
+    {
+        return buffer.capacity();
+    }
+
+    int tail()
+    {
+        return (int) buffer.getLongVolatile(OFFSET_TAIL);
+    }
+
+    long next()
+    {
+        return buffer.getLongVolatile(OFFSET_NEXT);
+    }
+
+    void next(
+        long generation)
+    {
+        buffer.putLongOrdered(OFFSET_NEXT, generation);
+        mapped.force(0, SIZEOF_HEADER);
+    }
+
+    void truncate(
+        int tail)
+    {
+        buffer.putLongOrdered(OFFSET_TAIL, tail);
+        mapped.force(0, SIZEOF_HEADER);
+    }
+
+    boolean append(
+        int kind,
+        byte[] key,
+        DirectBufferEx value,
+        int index,
+        int length,
+        long expiresAt,
+        boolean sync)
+    {
+        final int offset = tail();
+        final int sizeof = sizeof(key.length, length);
+        final boolean appendable = offset + sizeof <= buffer.capacity();
+
+        if (appendable)
+        {
+            buffer.putInt(offset + OFFSET_LENGTH, sizeof);
+            buffer.putLong(offset + OFFSET_EXPIRES_AT, expiresAt);
+            buffer.putInt(offset + OFFSET_KIND, kind);
+            buffer.putInt(offset + OFFSET_KEY_LENGTH, key.length);
+            buffer.putInt(offset + OFFSET_VALUE_LENGTH, length);
+            buffer.putBytes(offset + OFFSET_KEY, key);
+            if (length > 0)
+            {
+                buffer.putBytes(offset + OFFSET_KEY + key.length, value, index, length);
+            }
+            buffer.putInt(offset + OFFSET_CHECKSUM, checksum(offset, key.length + length));
+
+            if (sync)
+            {
+                mapped.force(offset, sizeof);
+            }
+
+            buffer.putLongOrdered(OFFSET_TAIL, offset + sizeof);
+
+            if (sync)
+            {
+                mapped.force(0, SIZEOF_HEADER);
+            }
+        }
+
+        return appendable;
+    }
+
+    boolean verify(
+        int offset)
+    {
+        final int keyLength = buffer.getInt(offset + OFFSET_KEY_LENGTH);
+        final int valueLength = buffer.getInt(offset + OFFSET_VALUE_LENGTH);
+
+        return keyLength >= 0 &&
+            valueLength >= 0 &&
+            OFFSET_KEY + (long) keyLength + valueLength <= length(offset) &&
+            buffer.getInt(offset + OFFSET_CHECKSUM) == checksum(offset, keyLength + valueLength);
+    }
+
+    int length(
+        int offset)
+    {
+        return buffer.getInt(offset + OFFSET_LENGTH);
+    }
+
+    int kind(
+        int offset)
+    {
+        return buffer.getInt(offset + OFFSET_KIND);
+    }
+
+    long expiresAt(
+        int offset)
+    {
+        return buffer.getLong(offset + OFFSET_EXPIRES_AT);
+    }
+
+    String key(
+        int offset)
+    {
+        return buffer.getStringWithoutLengthUtf8(offset + OFFSET_KEY, buffer.getInt(offset + OFFSET_KEY_LENGTH));
+    }
+
+    int valueOffset(
+        int offset)
+    {
+        return offset + OFFSET_KEY + buffer.getInt(offset + OFFSET_KEY_LENGTH);
+    }
+
+    int valueLength(
+        int offset)
+    {
+        return buffer.getInt(offset + OFFSET_VALUE_LENGTH);
+    }
+
+    private int checksum(
+        int offset,
+        int contentLength)
+    {
+        final int index = offset + OFFSET_EXPIRES_AT;
+        final int length = OFFSET_KEY - OFFSET_EXPIRES_AT + contentLength;
+
+        checksum.reset();
+        checksum.update(buffer.segment().asSlice(buffer.wrapAdjustment() + index, length).asByteBuffer());
+
+        return (int) checksum.getValue();
+    }
+}
@@ -0,0 +1,808 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemLog.KIND_DELETE;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemLog.KIND_LOCK;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemLog.KIND_PUT;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemLog.KIND_UNLOCK;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemLog.SIZEOF_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.agrona.CloseHelper;
+import org.agrona.LangUtil;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.AtomicBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+
+/**
+ * State of one filesystem store, shared by all workers in this process that attach to it.
+ * <p>
+ * Every process replays the same log into an in-memory index of keys to value locations in the
+ * mapped file, so values are never copied onto the heap. Mutations are appended while holding an
+ * exclusive lock on the store's {@code lock} file, after catching up with the log, so conditional
+ * operations such as {@code putIfAbsent} and {@code lock} are evaluated against the latest state
+ * of every process. The operating system releases the lock if its holder dies. Reads and watch
+ * notifications only need to catch up with the log, without the lock.
+ * </p>
+ * <p>
+ * A read that finds this process already caught up with the log, and no generation switch in
+ * progress, is served from the index without taking the storage monitor at all.
+ * </p>
+ * <p>
+ * The lock is only ever tried, never awaited, so a worker thread is not blocked while another
+ * process holds it; mutations then return {@code false} without completing, and are retried later.
+ * </p>
+ * <p>
+ * When an append does not fit, or when dead records exceed live ones, the lock holder compacts
+ * the live entries into the next generation and marks this one with its successor, so other
+ * processes follow once they have read to the final tail, notifying watchers of any watched key
+ * whose entry differs in the successor. If the lock holder dies mid-compaction, the next lock
+ * holder repeats it.
+ * </p>
+ * <p>
+ * Replaced generations are unlinked but not unmapped, so value buffers handed to completions stay
+ * valid until they are garbage collected.
+ * </p>
+ */
+final class FileSystemStorage
+{
+    private static final byte[] NO_VALUE = new byte[0];
+
+    final AtomicInteger refs = new AtomicInteger();
+    final ConcurrentMap<String, List<Watcher>> watchers = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final int capacity;
+    private final boolean sync;
+    private final Map<String, FileSystemEntry> entries;
+    private final Map<String, LockEntry> locks;
+    private final UnsafeBufferEx valueRO;
+
+    private FileChannel channel;
+    private volatile FileSystemLog log;
+    private volatile int position;
+    private volatile int switches;
+    private long liveBytes;
+
+    FileSystemStorage(
+        Path directory,
+        int capacity,
+        boolean sync)
+    {
+        this.directory = directory;
+        this.capacity = capacity;
+        this.sync = sync;
+        this.entries = new ConcurrentHashMap<>();
+        this.locks = new HashMap<>();
+        this.valueRO = new UnsafeBufferEx();
+    }
+
+    synchronized void open()
+    {
+        try
+        {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve("lock"), CREATE, WRITE);
+
+            try (FileLock lock = channel.lock())
+            {
+                recover();
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    synchronized void close()
+    {
+        CloseHelper.quietClose(channel);
+        entries.clear();
+        locks.clear();
+        watchers.clear();
+        log = null;
+    }
+
+    FileSystemEntry get(
+        String key,
+        long now)
+    {
+        final int switches = this.switches;
+
+        FileSystemEntry entry = entries.get(key);
+        if ((switches & 1) != 0 || switches != this.switches || !caughtUp())
+        {
+            entry = getSlow(key);
+        }
+
+        return entry != null && !entry.expired(now) ? entry : null;
+    }
+
+    private synchronized FileSystemEntry getSlow(
+        String key)
+    {
+        catchUp();
+        return entries.get(key);
+    }
+
+    synchronized boolean put(
+        String key,
+        String value,
+        long expiresAt)
+    {
+        final byte[] bytes = value.getBytes(UTF_8);
+        valueRO.wrap(bytes);
+        return put(key, valueRO, 0, bytes.length, expiresAt);
+    }
+
+    synchronized boolean put(
+        String key,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        long expiresAt)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                append(KIND_PUT, key, buffer, index, length, expiresAt);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized boolean putIfAbsent(
+        String key,
+        String value,
+        long expiresAt,
+        long now,
+        Consumer<String> completion)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                String result = null;
+
+                final FileSystemEntry existing = entries.get(key);
+                if (existing != null && !existing.expired(now))
+                {
+                    result = existing.text();
+                }
+                else
+                {
+                    final byte[] bytes = value.getBytes(UTF_8);
+                    valueRO.wrap(bytes);
+                    append(KIND_PUT, key, valueRO, 0, bytes.length, expiresAt);
+                }
+
+                completion.accept(result);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized boolean delete(
+        String key,
+        long now,
+        Consumer<String> completion)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                String result = null;
+
+                final FileSystemEntry existing = entries.get(key);
+                if (existing != null)
+                {
+                    result = !existing.expired(now) ? existing.text() : null;
+                    append(KIND_DELETE, key, valueRO, 0, 0, 0L);
+                }
+
+                completion.accept(result);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized boolean lock(
+        String key,
+        String token,
+        long expiresAt,
+        long now,
+        Consumer<String> completion)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                String result = null;
+
+                final LockEntry existing = locks.get(key);
+                if (existing == null || existing.expiresAt() <= now)
+                {
+                    final byte[] bytes = token.getBytes(UTF_8);
+                    valueRO.wrap(bytes);
+                    append(KIND_LOCK, key, valueRO, 0, bytes.length, expiresAt);
+                    result = token;
+                }
+
+                completion.accept(result);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized boolean unlock(
+        String key,
+        String token,
+        long now,
+        Consumer<String> completion)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                String result = null;
+
+                final LockEntry existing = locks.get(key);
+                if (existing != null && (existing.expiresAt() <= now || existing.token().equals(token)))
+                {
+                    // an expired holder is removed as well, but the caller did not prove ownership
+                    result = existing.expiresAt() > now ? token : null;
+                    append(KIND_UNLOCK, key, valueRO, 0, 0, 0L);
+                }
+
+                completion.accept(result);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized boolean renew(
+        String key,
+        String token,
+        long expiresAt,
+        long now,
+        Consumer<String> completion)
+    {
+        boolean acquired = false;
+
+        try (FileLock lock = acquire())
+        {
+            if (lock != null)
+            {
+                String result = null;
+
+                final LockEntry existing = locks.get(key);
+                if (existing != null && existing.expiresAt() > now && existing.token().equals(token))
+                {
+                    final byte[] bytes = token.getBytes(UTF_8);
+                    valueRO.wrap(bytes);
+                    append(KIND_LOCK, key, valueRO, 0, bytes.length, expiresAt);
+                    result = token;
+                }
+                else if (existing != null && existing.expiresAt() <= now)
+                {
+                    append(KIND_UNLOCK, key, valueRO, 0, 0, 0L);
+                }
+
+                completion.accept(result);
+                acquired = true;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return acquired;
+    }
+
+    synchronized void poll()
+    {
+        catchUp();
+
+        if (compactable())
+        {
+            try (FileLock lock = tryLock())
+            {
+                if (lock != null)
+                {
+                    catchUp();
+                    if (compactable())
+                    {
+                        compact(0);
+                    }
+                }
+            }
+            catch (IOException ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+        }
+    }
+
+    private FileLock acquire() throws IOException
+    {
+        final FileLock lock = tryLock();
+
+        if (lock != null)
+        {
+            catchUp();
+            if (log.next() != 0L)
+            {
+                // previous lock holder died before completing compaction
+                compact(0);
+            }
+            else if (position < log.tail())
+            {
+                // previous lock holder's records did not reach the disk intact
+                log.truncate(position);
+            }
+        }
+
+        return lock;
+    }
+
+    private FileLock tryLock() throws IOException
+    {
+        FileLock lock = null;
+
+        try
+        {
+            lock = channel.tryLock();
+        }
+        catch (OverlappingFileLockException ex)
+        {
+            // held by another storage for the same directory in this process
+        }
+
+        return lock;
+    }
+
+    private void append(
+        int kind,
+        String key,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        long expiresAt)
+    {
+        final byte[] keyBytes = key.getBytes(UTF_8);
+
+        if (!log.append(kind, keyBytes, buffer, index, length, expiresAt, sync))
+        {
+            compact(FileSystemLog.sizeof(keyBytes.length, length));
+            log.append(kind, keyBytes, buffer, index, length, expiresAt, sync);
+        }
+
+        catchUp();
+    }
+
+    private boolean caughtUp()
+    {
+        final FileSystemLog log = this.log;
+        return log != null && position == log.tail() && log.next() == 0L;
+    }
+
+    private boolean compactable()
+    {
+        final int tail = log.tail();
+        return tail > log.capacity() >> 1 && tail - SIZEOF_HEADER > liveBytes << 1;
+    }
+
+    private void recover() throws IOException
+    {
+        final FileSystemLog latest = latest();
+
+        for (Path path : generations())
+        {
+            if (latest == null || !path.equals(latest.path))
+            {
+                Files.deleteIfExists(path);
+            }
+        }
+
+        if (latest != null)
+        {
+            switchTo(latest, false);
+        }
+        else
+        {
+            final FileSystemLog initial = FileSystemLog.create(directory, 1L, capacity);
+            initial.commit();
+            switchTo(initial, false);
+        }
+
+        if (log.next() != 0L)
+        {
+            compact(0);
+        }
+        else if (position < log.tail())
+        {
+            log.truncate(position);
+        }
+    }
+
+    private void catchUp()
+    {
+        FileSystemLog current = log;
+        while (current != null)
+        {
+            final long next = current.next();
+
+            replay(current, true);
+            current = null;
+
+            if (next != 0L)
+            {
+                final Path path = FileSystemLog.path(directory, next);
+                final FileSystemLog successor = Files.exists(path) ? FileSystemLog.map(path, next) : latest();
+                if (successor != null && successor.valid() && successor.generation > log.generation)
+                {
+                    // a successor already replaced by a later compaction is skipped
+                    switchTo(successor, true);
+                    current = successor;
+                }
+            }
+        }
+    }
+
+    private FileSystemLog latest()
+    {
+        FileSystemLog latest = null;
+
+        for (Path path : generations())
+        {
+            // only the chosen generation is mapped, candidates are checked by reading their header
+            if (FileSystemLog.valid(path))
+            {
+                final FileSystemLog candidate = FileSystemLog.map(path, FileSystemLog.generation(path));
+                if (candidate.valid())
+                {
+                    latest = candidate;
+                    break;
+                }
+            }
+        }
+
+        return latest;
+    }
+
+    private List<Path> generations()
+    {
+        List<Path> generations = List.of();
+
+        try (Stream<Path> files = Files.list(directory))
+        {
+            generations = files
+                .filter(p -> FileSystemLog.generation(p) != 0L)
+                .sorted(Comparator.comparingLong(FileSystemLog::generation).reversed())
+                .toList();
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return generations;
+    }
+
+    private void compact(
+        int reserve)
+    {
+        final long now = System.currentTimeMillis();
+
+        long required = SIZEOF_HEADER + reserve;
+        for (FileSystemEntry entry : entries.values())
+        {
+            required += entry.expired(now) ? 0 : entry.sizeof;
+        }
+        for (LockEntry lock : locks.values())
+        {
+            required += lock.expiresAt() <= now ? 0 : lock.sizeof();
+        }
+
+        final int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(this.capacity, required << 1));
+        final FileSystemLog current = log;
+        final FileSystemLog successor = FileSystemLog.create(directory, current.generation + 1, capacity);
+
+        entries.forEach((key, entry) ->
+        {
+            if (!entry.expired(now))
+            {
+                successor.append(KIND_PUT, key.getBytes(UTF_8), entry.buffer, entry.offset, entry.length, entry.expiresAt, false);
+            }
+        });
+        locks.forEach((key, lock) ->
+        {
+            if (lock.expiresAt() > now)
+            {
+                final byte[] token = lock.token().getBytes(UTF_8);
+                successor.append(KIND_LOCK, key.getBytes(UTF_8), new UnsafeBufferEx(token), 0, token.length,
+                    lock.expiresAt(), false);
+            }
+        });
+
+        current.next(successor.generation);
+        successor.commit();
+
+        switchTo(successor, false);
+
+        try
+        {
+            Files.deleteIfExists(current.path);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private void switchTo(
+        FileSystemLog successor,
+        boolean notify)
+    {
+        // records compacted away by another process are not replayed, so watched keys are compared instead
+        Map<String, FileSystemEntry> watched = Map.of();
+        if (notify && !watchers.isEmpty())
+        {
+            watched = new HashMap<>();
+            for (String key : watchers.keySet())
+            {
+                watched.put(key, entries.get(key));
+            }
+        }
+
+        switches++;
+
+        entries.clear();
+        locks.clear();
+        liveBytes = 0L;
+
+        log = successor;
+        position = SIZEOF_HEADER;
+
+        replay(successor, false);
+
+        switches++;
+
+        for (Map.Entry<String, FileSystemEntry> previous : watched.entrySet())
+        {
+            final String key = previous.getKey();
+            final FileSystemEntry entry = entries.get(key);
+            if (!FileSystemEntry.matches(previous.getValue(), entry))
+            {
+                notifyWatchers(key, entry);
+            }
+        }
+    }
+
+    private void replay(
+        FileSystemLog source,
+        boolean notify)
+    {
+        final int tail = source.tail();
+        final int minimum = FileSystemLog.sizeof(0, 0);
+
+        while (position < tail)
+        {
+            final int length = source.length(position);
+            if (length < minimum || position + length > tail || !source.verify(position))
+            {
+                // corrupt record, truncated by the next lock holder
+                break;
+            }
+
+            apply(source, position, notify);
+            position += length;
+        }
+    }
+
+    private void apply(
+        FileSystemLog source,
+        int offset,
+        boolean notify)
+    {
+        final String key = source.key(offset);
+        final int sizeof = source.length(offset);
+
+        switch (source.kind(offset))
+        {
+        case KIND_PUT:
+        {
+            final FileSystemEntry entry = new FileSystemEntry(source.buffer, source.valueOffset(offset),
+                source.valueLength(offset), source.expiresAt(offset), sizeof);
+            final FileSystemEntry previous = entries.put(key, entry);
+            liveBytes += sizeof - (previous != null ? previous.sizeof : 0);
+            if (notify)
+            {
+                notifyWatchers(key, entry);
+            }
+            break;
+        }
+        case KIND_DELETE:
+        {
+            final FileSystemEntry previous = entries.remove(key);
+            liveBytes -= previous != null ? previous.sizeof : 0;
+            if (notify && previous != null)
+            {
+                notifyWatchers(key, null);
+            }
+            break;
+        }
+        case KIND_LOCK:
+        {
+            final String token = source.buffer.getStringWithoutLengthUtf8(source.valueOffset(offset), source.valueLength(offset));
+            final LockEntry previous = locks.put(key, new LockEntry(token, source.expiresAt(offset), sizeof));
+            liveBytes += sizeof - (previous != null ? previous.sizeof() : 0);
+            break;
+        }
+        case KIND_UNLOCK:
+        {
+            final LockEntry previous = locks.remove(key);
+            liveBytes -= previous != null ? previous.sizeof() : 0;
+            break;
+        }
+        }
+    }
+
+    private void notifyWatchers(
+        String key,
+        FileSystemEntry entry)
+    {
+        final List<Watcher> list = watchers.get(key);
+        if (list != null && !list.isEmpty())
+        {
+            final String value = entry != null ? entry.text() : null;
+            for (Watcher w : list)
+            {
+                w.dispatcher.accept(() -> w.listener.accept(key, value));
+            }
+        }
+    }
+
+    static final class FileSystemEntry
+    {
+        final AtomicBufferEx buffer;
+        final int offset;
+        final int length;
+        final long expiresAt;
+        final int sizeof;
+
+        FileSystemEntry(
+            AtomicBufferEx buffer,
+            int offset,
+            int length,
+            long expiresAt,
+            int sizeof)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+            this.expiresAt = expiresAt;
+            this.sizeof = sizeof;
+        }
+
+        boolean expired(
+            long now)
+        {
+            return now > expiresAt;
+        }
+
+        static boolean matches(
+            FileSystemEntry entry,
+            FileSystemEntry other)
+        {
+            return entry == other ||
+                entry != null &&
+                other != null &&
+                entry.expiresAt == other.expiresAt &&
+                entry.length == other.length &&
+                MemorySegment.mismatch(
+                    entry.buffer.segment(), entry.offset, entry.offset + entry.length,
+                    other.buffer.segment(), other.offset, other.offset + other.length) == -1L;
+        }
+
+        String text()
+        {
+            return buffer.getStringWithoutLengthUtf8(offset, length);
+        }
+
+        DirectBufferEx bytes()
+        {
+            return length != 0 ? new UnsafeBufferEx(buffer, offset, length) : new UnsafeBufferEx(NO_VALUE);
+        }
+    }
+
+    record Watcher(
+        BiConsumer<String, String> listener,
+        Consumer<Runnable> dispatcher)
+    {
+    }
+
+    private record LockEntry(
+        String token,
+        long expiresAt,
+        int sizeof)
+    {
+    }
+}
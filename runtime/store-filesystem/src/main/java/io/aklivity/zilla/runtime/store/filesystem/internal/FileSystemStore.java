@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aklivity.zilla.config.engine.StoreConfig;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.store.Store;
+import io.aklivity.zilla.runtime.engine.store.StoreContext;
+
+final class FileSystemStore implements Store
+{
+    static final String NAME = "filesystem";
+
+    // keyed by directory, so that stores sharing a directory in one process also share its lock
+    private static final ConcurrentMap<Path, FileSystemStorage> STORAGE = new ConcurrentHashMap<>();
+
+    private final FileSystemStoreConfiguration config;
+
+    FileSystemStore(
+        FileSystemStoreConfiguration config)
+    {
+        this.config = config;
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public StoreContext supply(
+        EngineContext context)
+    {
+        return new FileSystemStoreContext(
+            this::acquireStorage,
+            this::releaseStorage,
+            context::dispatch,
+            context.signaler(),
+            config.pollInterval().toMillis());
+    }
+
+    private FileSystemStorage acquireStorage(
+        StoreConfig store)
+    {
+        return STORAGE.compute(directory(store), (path, storage) ->
+        {
+            final FileSystemStorage acquired = storage != null ? storage : newStorage(path);
+            acquired.refs.incrementAndGet();
+            return acquired;
+        });
+    }
+
+    private void releaseStorage(
+        StoreConfig store)
+    {
+        STORAGE.computeIfPresent(directory(store), (path, storage) ->
+        {
+            final boolean released = storage.refs.decrementAndGet() == 0;
+            if (released)
+            {
+                storage.close();
+            }
+            return released ? null : storage;
+        });
+    }
+
+    private FileSystemStorage newStorage(
+        Path directory)
+    {
+        final FileSystemStorage storage = new FileSystemStorage(directory, config.capacity(), config.sync());
+        storage.open();
+        return storage;
+    }
+
+    private Path directory(
+        StoreConfig store)
+    {
+        return config.directory().toAbsolutePath().normalize().resolve(store.namespace).resolve(store.name);
+    }
+}
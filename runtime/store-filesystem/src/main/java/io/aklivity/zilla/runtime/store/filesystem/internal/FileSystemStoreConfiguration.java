@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class FileSystemStoreConfiguration extends Configuration
+{
+    public static final PropertyDef<Path> STORE_DIRECTORY;
+    public static final IntPropertyDef STORE_CAPACITY;
+    public static final PropertyDef<Duration> STORE_POLL_INTERVAL;
+    public static final BooleanPropertyDef STORE_SYNC;
+
+    private static final ConfigurationDef FILESYSTEM_STORE_CONFIG;
+
+    static
+    {
+        final ConfigurationDef config = new ConfigurationDef("zilla.store.filesystem");
+        STORE_DIRECTORY = config.property(Path.class, "directory",
+            FileSystemStoreConfiguration::directory, "stores");
+        STORE_CAPACITY = config.property("capacity", 64 * 1024 * 1024);
+        STORE_POLL_INTERVAL = config.property(Duration.class, "poll.interval",
+            (c, v) -> Duration.parse(v), "PT0.1S");
+        STORE_SYNC = config.property("sync", false);
+        FILESYSTEM_STORE_CONFIG = config;
+    }
+
+    public FileSystemStoreConfiguration()
+    {
+        super(FILESYSTEM_STORE_CONFIG, new Configuration());
+    }
+
+    public FileSystemStoreConfiguration(
+        Configuration config)
+    {
+        super(FILESYSTEM_STORE_CONFIG, config);
+    }
+
+    public Path directory()
+    {
+        return STORE_DIRECTORY.get(this);
+    }
+
+    public int capacity()
+    {
+        return STORE_CAPACITY.getAsInt(this);
+    }
+
+    public Duration pollInterval()
+    {
+        return STORE_POLL_INTERVAL.get(this);
+    }
+
+    public boolean sync()
+    {
+        return STORE_SYNC.getAsBoolean(this);
+    }
+
+    private static Path directory(
+        Configuration config,
+        String directory)
+    {
+        return Paths.get(ENGINE_DIRECTORY.get(config)).resolve(directory);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+import io.aklivity.zilla.config.engine.StoreConfig;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
+import io.aklivity.zilla.runtime.engine.store.StoreContext;
+import io.aklivity.zilla.runtime.engine.store.StoreHandler;
+
+final class FileSystemStoreContext implements StoreContext
+{
+    private final Function<StoreConfig, FileSystemStorage> acquireStorage;
+    private final Consumer<StoreConfig> releaseStorage;
+    private final Consumer<Runnable> dispatcher;
+    private final Signaler signaler;
+    private final long pollInterval;
+    private final Long2ObjectHashMap<FileSystemStoreHandler> handlersById;
+
+    FileSystemStoreContext(
+        Function<StoreConfig, FileSystemStorage> acquireStorage,
+        Consumer<StoreConfig> releaseStorage,
+        Consumer<Runnable> dispatcher,
+        Signaler signaler,
+        long pollInterval)
+    {
+        this.acquireStorage = acquireStorage;
+        this.releaseStorage = releaseStorage;
+        this.dispatcher = dispatcher;
+        this.signaler = signaler;
+        this.pollInterval = pollInterval;
+        this.handlersById = new Long2ObjectHashMap<>();
+    }
+
+    @Override
+    public StoreHandler attach(
+        StoreConfig config)
+    {
+        final FileSystemStoreHandler handler = new FileSystemStoreHandler(
+            acquireStorage.apply(config),
+            dispatcher,
+            signaler,
+            pollInterval);
+        handlersById.put(config.id, handler);
+        handler.start();
+        return handler;
+    }
+
+    @Override
+    public void detach(
+        StoreConfig config)
+    {
+        final FileSystemStoreHandler handler = handlersById.remove(config.id);
+        if (handler != null)
+        {
+            handler.stop();
+        }
+        releaseStorage.accept(config);
+    }
+}
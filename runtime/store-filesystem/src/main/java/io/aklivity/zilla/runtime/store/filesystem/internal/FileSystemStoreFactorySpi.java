@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.store.Store;
+import io.aklivity.zilla.runtime.engine.store.StoreFactorySpi;
+
+public final class FileSystemStoreFactorySpi implements StoreFactorySpi
+{
+    @Override
+    public String type()
+    {
+        return FileSystemStore.NAME;
+    }
+
+    @Override
+    public Store create(
+        Configuration config)
+    {
+        return new FileSystemStore(new FileSystemStoreConfiguration(config));
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
+import io.aklivity.zilla.runtime.engine.store.StoreHandler;
+import io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStorage.FileSystemEntry;
+import io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStorage.Watcher;
+
+final class FileSystemStoreHandler implements StoreHandler
+{
+    private static final int POLL_SIGNAL = 1;
+    private static final int RETRY_SIGNAL = 2;
+    private static final long RETRY_INTERVAL = 1L;
+
+    private final FileSystemStorage storage;
+    private final Consumer<Runnable> dispatcher;
+    private final Signaler signaler;
+    private final long pollInterval;
+    private final Deque<BooleanSupplier> pending;
+
+    private long pollId = Signaler.NO_CANCEL_ID;
+    private long retryId = Signaler.NO_CANCEL_ID;
+
+    FileSystemStoreHandler(
+        FileSystemStorage storage,
+        Consumer<Runnable> dispatcher,
+        Signaler signaler,
+        long pollInterval)
+    {
+        this.storage = storage;
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.signaler = signaler;
+        this.pollInterval = pollInterval;
+        this.pending = new ArrayDeque<>();
+    }
+
+    void start()
+    {
+        if (signaler != null && pollInterval > 0L)
+        {
+            pollId = signaler.signalAt(System.currentTimeMillis() + pollInterval, POLL_SIGNAL, this::onPoll);
+        }
+    }
+
+    void stop()
+    {
+        if (pollId != Signaler.NO_CANCEL_ID)
+        {
+            signaler.cancel(pollId);
+            pollId = Signaler.NO_CANCEL_ID;
+        }
+
+        if (retryId != Signaler.NO_CANCEL_ID)
+        {
+            signaler.cancel(retryId);
+            retryId = Signaler.NO_CANCEL_ID;
+        }
+
+        pending.clear();
+    }
+
+    @Override
+    public void get(
+        String key,
+        BiConsumer<String, String> completion)
+    {
+        submit(() ->
+        {
+            final FileSystemEntry entry = storage.get(key, System.currentTimeMillis());
+            final String value = entry != null ? entry.text() : null;
+            defer(() -> completion.accept(key, value));
+            return true;
+        });
+    }
+
+    @Override
+    public void getBytes(
+        String key,
+        BiConsumer<String, DirectBufferEx> completion)
+    {
+        submit(() ->
+        {
+            final FileSystemEntry entry = storage.get(key, System.currentTimeMillis());
+            final DirectBufferEx value = entry != null ? entry.bytes() : null;
+            defer(() -> completion.accept(key, value));
+            return true;
+        });
+    }
+
+    @Override
+    public void put(
+        String key,
+        String value,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        submit(() ->
+        {
+            final boolean acquired = storage.put(key, value, expiresAt(System.currentTimeMillis(), ttl));
+            if (acquired)
+            {
+                defer(() -> completion.accept(null));
+            }
+            return acquired;
+        });
+    }
+
+    @Override
+    public void putBytes(
+        String key,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        if (pending.isEmpty() && storage.put(key, buffer, index, length, expiresAt(System.currentTimeMillis(), ttl)))
+        {
+            defer(() -> completion.accept(null));
+        }
+        else
+        {
+            // the caller may reuse its buffer once this returns, so a deferred attempt needs a copy
+            final byte[] value = new byte[length];
+            buffer.getBytes(index, value);
+            final DirectBufferEx copy = new UnsafeBufferEx(value);
+
+            pending.add(() ->
+            {
+                final boolean acquired = storage.put(key, copy, 0, length, expiresAt(System.currentTimeMillis(), ttl));
+                if (acquired)
+                {
+                    defer(() -> completion.accept(null));
+                }
+                return acquired;
+            });
+            scheduleRetry();
+        }
+    }
+
+    @Override
+    public void putIfAbsent(
+        String key,
+        String value,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        submit(() ->
+        {
+            final long now = System.currentTimeMillis();
+            return storage.putIfAbsent(key, value, expiresAt(now, ttl), now, r -> defer(() -> completion.accept(r)));
+        });
+    }
+
+    @Override
+    public void delete(
+        String key,
+        Consumer<String> completion)
+    {
+        submit(() -> storage.delete(key, System.currentTimeMillis(), r -> defer(() -> completion.accept(null))));
+    }
+
+    @Override
+    public void getAndDelete(
+        String key,
+        Consumer<String> completion)
+    {
+        submit(() -> storage.delete(key, System.currentTimeMillis(), r -> defer(() -> completion.accept(r))));
+    }
+
+    @Override
+    public void lock(
+        String key,
+        Duration ttl,
+        BiConsumer<String, String> completion)
+    {
+        final String token = UUID.randomUUID().toString();
+        submit(() ->
+        {
+            final long now = System.currentTimeMillis();
+            return storage.lock(key, token, expiresAt(now, ttl), now, r -> defer(() -> completion.accept(key, r)));
+        });
+    }
+
+    @Override
+    public void unlock(
+        String key,
+        String token,
+        Consumer<String> completion)
+    {
+        submit(() -> storage.unlock(key, token, System.currentTimeMillis(), r -> defer(() -> completion.accept(r))));
+    }
+
+    @Override
+    public void renew(
+        String key,
+        String token,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        submit(() ->
+        {
+            final long now = System.currentTimeMillis();
+            return storage.renew(key, token, expiresAt(now, ttl), now, r -> defer(() -> completion.accept(r)));
+        });
+    }
+
+    @Override
+    public Closeable watch(
+        String key,
+        BiConsumer<String, String> listener)
+    {
+        final Watcher watcher = new Watcher(listener, dispatcher);
+        final List<Watcher> list = storage.watchers.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        list.add(watcher);
+        return () ->
+        {
+            final List<Watcher> current = storage.watchers.get(key);
+            if (current != null)
+            {
+                current.remove(watcher);
+            }
+        };
+    }
+
+    private void onPoll(
+        int signalId)
+    {
+        storage.poll();
+        pollId = signaler.signalAt(System.currentTimeMillis() + pollInterval, POLL_SIGNAL, this::onPoll);
+    }
+
+    private void submit(
+        BooleanSupplier operation)
+    {
+        // operations queued behind one waiting for the store lock keep their order
+        if (!pending.isEmpty() || !operation.getAsBoolean())
+        {
+            pending.add(operation);
+            scheduleRetry();
+        }
+    }
+
+    private void onRetry(
+        int signalId)
+    {
+        retryId = Signaler.NO_CANCEL_ID;
+
+        while (!pending.isEmpty() && pending.peek().getAsBoolean())
+        {
+            pending.poll();
+        }
+
+        if (!pending.isEmpty())
+        {
+            scheduleRetry();
+        }
+    }
+
+    private void scheduleRetry()
+    {
+        if (retryId == Signaler.NO_CANCEL_ID)
+        {
+            if (signaler != null)
+            {
+                retryId = signaler.signalAt(System.currentTimeMillis() + RETRY_INTERVAL, RETRY_SIGNAL, this::onRetry);
+            }
+            else
+            {
+                dispatcher.accept(() -> onRetry(RETRY_SIGNAL));
+            }
+        }
+    }
+
+    private void defer(
+        Runnable task)
+    {
+        dispatcher.accept(task);
+    }
+
+    private static long expiresAt(
+        long now,
+        Duration ttl)
+    {
+        return ttl == null ? Long.MAX_VALUE : now + ttl.toMillis();
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStorage.Watcher;
+
+public class FileSystemStorageTest
+{
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private FileSystemStorage storage;
+
+    @Before
+    public void open() throws Exception
+    {
+        directory = folder.newFolder("store").toPath();
+        storage = new FileSystemStorage(directory, 4096, false);
+        storage.open();
+    }
+
+    @After
+    public void close()
+    {
+        storage.close();
+    }
+
+    @Test
+    public void shouldPutAndGet()
+    {
+        storage.put("key", "value", NEVER);
+
+        assertEquals("value", storage.get("key", 0L).text());
+        assertNull(storage.get("absent", 0L));
+    }
+
+    @Test
+    public void shouldPutAndGetBytes()
+    {
+        byte[] value = "bytes".getBytes(UTF_8);
+        storage.put("key", new UnsafeBufferEx(value), 0, value.length, NEVER);
+
+        byte[] actual = new byte[value.length];
+        storage.get("key", 0L).bytes().getBytes(0, actual);
+
+        assertEquals("bytes", new String(actual, UTF_8));
+    }
+
+    @Test
+    public void shouldExpireEntry()
+    {
+        storage.put("key", "value", 100L);
+
+        assertEquals("value", storage.get("key", 100L).text());
+        assertNull(storage.get("key", 101L));
+    }
+
+    @Test
+    public void shouldPutIfAbsent()
+    {
+        assertNull(await(c -> storage.putIfAbsent("key", "first", NEVER, 0L, c)));
+        assertEquals("first", await(c -> storage.putIfAbsent("key", "second", NEVER, 0L, c)));
+        assertEquals("first", storage.get("key", 0L).text());
+    }
+
+    @Test
+    public void shouldGetAndDelete()
+    {
+        storage.put("key", "value", NEVER);
+
+        assertEquals("value", await(c -> storage.delete("key", 0L, c)));
+        assertNull(storage.get("key", 0L));
+        assertNull(await(c -> storage.delete("key", 0L, c)));
+    }
+
+    @Test
+    public void shouldLockUnlockAndRenew()
+    {
+        assertEquals("token", await(c -> storage.lock("key", "token", 1000L, 0L, c)));
+        assertNull(await(c -> storage.lock("key", "other", 1000L, 0L, c)));
+        assertNull(await(c -> storage.renew("key", "other", 2000L, 0L, c)));
+        assertEquals("token", await(c -> storage.renew("key", "token", 2000L, 0L, c)));
+        assertNull(await(c -> storage.lock("key", "other", 3000L, 1500L, c)));
+        assertEquals("token", await(c -> storage.unlock("key", "token", 1500L, c)));
+        assertEquals("other", await(c -> storage.lock("key", "other", 3000L, 1500L, c)));
+    }
+
+    @Test
+    public void shouldAcquireExpiredLock()
+    {
+        storage.lock("key", "token", 1000L, 0L, r -> {});
+
+        assertNull(await(c -> storage.unlock("key", "token", 1001L, c)));
+        assertEquals("other", await(c -> storage.lock("key", "other", 3000L, 1001L, c)));
+    }
+
+    @Test
+    public void shouldRecoverAfterReopen()
+    {
+        storage.put("key", "value", NEVER);
+        storage.put("deleted", "value", NEVER);
+        storage.delete("deleted", 0L, r -> {});
+        storage.lock("lock", "token", NEVER, 0L, r -> {});
+        storage.close();
+
+        storage = new FileSystemStorage(directory, 4096, false);
+        storage.open();
+
+        assertEquals("value", storage.get("key", 0L).text());
+        assertNull(storage.get("deleted", 0L));
+        assertNull(await(c -> storage.lock("lock", "other", NEVER, 0L, c)));
+    }
+
+    @Test
+    public void shouldCompactWhenFull()
+    {
+        for (int i = 0; i < 200; i++)
+        {
+            storage.put("key", "value-" + i, NEVER);
+        }
+        storage.put("other", "value", NEVER);
+
+        assertEquals("value-199", storage.get("key", 0L).text());
+        assertEquals("value", storage.get("other", 0L).text());
+        assertEquals(1, logs().size());
+        assertTrue(generation() > 1L);
+    }
+
+    @Test
+    public void shouldGrowWhenLiveEntriesExceedCapacity()
+    {
+        for (int i = 0; i < 200; i++)
+        {
+            storage.put("key-" + i, "value", NEVER);
+        }
+
+        for (int i = 0; i < 200; i++)
+        {
+            assertEquals("value", storage.get("key-" + i, 0L).text());
+        }
+    }
+
+    @Test
+    public void shouldShareEntriesAcrossInstances()
+    {
+        FileSystemStorage other = new FileSystemStorage(directory, 4096, false);
+        other.open();
+
+        try
+        {
+            for (int i = 0; i < 200; i++)
+            {
+                storage.put("key", "value-" + i, NEVER);
+            }
+
+            assertEquals("value-199", other.get("key", 0L).text());
+
+            other.put("other", "value", NEVER);
+
+            assertEquals("value", storage.get("other", 0L).text());
+        }
+        finally
+        {
+            other.close();
+        }
+    }
+
+    @Test
+    public void shouldNotifyWatchersAcrossInstances()
+    {
+        FileSystemStorage other = new FileSystemStorage(directory, 4096, false);
+        other.open();
+
+        try
+        {
+            List<String> changes = new ArrayList<>();
+            List<Watcher> watchers = List.of(new Watcher((k, v) -> changes.add(k + "=" + v), Runnable::run));
+            other.watchers.put("key", watchers);
+            other.watchers.put("gone", watchers);
+
+            storage.put("key", "value", NEVER);
+            storage.put("ignored", "value", NEVER);
+            storage.delete("key", 0L, r -> {});
+            storage.put("gone", "value", NEVER);
+            other.poll();
+
+            assertThat(changes, contains("key=value", "key=null", "gone=value"));
+            changes.clear();
+
+            // the delete and the put land in generations that other never maps
+            for (int i = 0; i < 200; i++)
+            {
+                storage.put("ignored", "value-" + i, NEVER);
+            }
+            storage.delete("gone", 0L, r -> {});
+            for (int i = 0; i < 200; i++)
+            {
+                storage.put("ignored", "value-" + i, NEVER);
+            }
+            storage.put("key", "after", NEVER);
+            other.poll();
+
+            assertThat(changes, containsInAnyOrder("gone=null", "key=after"));
+        }
+        finally
+        {
+            other.close();
+        }
+    }
+
+    @Test
+    public void shouldTruncateAtCorruptRecord() throws Exception
+    {
+        storage.put("key", "value", NEVER);
+        storage.put("corrupt", "value", NEVER);
+        storage.close();
+
+        // last value byte of the second record
+        final int corruptAt = FileSystemLog.SIZEOF_HEADER + FileSystemLog.sizeof(3, 5) + FileSystemLog.sizeof(7, 5) - 1;
+        try (FileChannel channel = FileChannel.open(FileSystemLog.path(directory, generation()), WRITE))
+        {
+            channel.write(ByteBuffer.wrap(new byte[] { 'x' }), corruptAt);
+        }
+
+        storage = new FileSystemStorage(directory, 4096, false);
+        storage.open();
+
+        assertEquals("value", storage.get("key", 0L).text());
+        assertNull(storage.get("corrupt", 0L));
+
+        storage.put("next", "value", NEVER);
+        storage.close();
+
+        storage = new FileSystemStorage(directory, 4096, false);
+        storage.open();
+
+        assertEquals("value", storage.get("key", 0L).text());
+        assertEquals("value", storage.get("next", 0L).text());
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteGeneration() throws Exception
+    {
+        storage.put("key", "value", NEVER);
+        storage.close();
+
+        FileSystemLog.create(directory, generation() + 1, 4096);
+
+        storage = new FileSystemStorage(directory, 4096, false);
+        storage.open();
+
+        assertEquals("value", storage.get("key", 0L).text());
+        assertThat(logs(), contains(FileSystemLog.path(directory, 1L)));
+        assertFalse(Files.exists(FileSystemLog.path(directory, 2L)));
+    }
+
+    @Test
+    public void shouldGetWithoutMonitorWhenCaughtUp() throws Exception
+    {
+        storage.put("key", "value", NEVER);
+
+        final CountDownLatch held = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread holder = new Thread(() ->
+        {
+            synchronized (storage)
+            {
+                held.countDown();
+                awaitUninterruptibly(release);
+            }
+        });
+        holder.start();
+
+        try
+        {
+            held.await();
+            assertEquals("value", storage.get("key", 0L).text());
+            assertNull(storage.get("missing", 0L));
+        }
+        finally
+        {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    public void shouldValidateGenerationFromHeader() throws Exception
+    {
+        storage.put("key", "value", NEVER);
+
+        final long generation = generation();
+        FileSystemLog.create(directory, generation + 1, 4096);
+        Files.write(FileSystemLog.path(directory, generation + 2), new byte[] { 1, 2, 3 });
+
+        assertTrue(FileSystemLog.valid(FileSystemLog.path(directory, generation)));
+        assertFalse(FileSystemLog.valid(FileSystemLog.path(directory, generation + 1)));
+        assertFalse(FileSystemLog.valid(FileSystemLog.path(directory, generation + 2)));
+        assertFalse(FileSystemLog.valid(FileSystemLog.path(directory, generation + 3)));
+    }
+
+    private static void awaitUninterruptibly(
+        CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String await(
+        Predicate<Consumer<String>> operation)
+    {
+        final String[] result = new String[1];
+        assertTrue(operation.test(r -> result[0] = r));
+        return result[0];
+    }
+
+    private long generation()
+    {
+        return logs().stream().mapToLong(FileSystemLog::generation).max().orElse(0L);
+    }
+
+    private List<Path> logs()
+    {
+        try (Stream<Path> files = Files.list(directory))
+        {
+            return files.filter(p -> FileSystemLog.generation(p) != 0L).toList();
+        }
+        catch (Exception ex)
+        {
+            throw new AssertionError(ex);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal;
+
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStoreConfiguration.STORE_CAPACITY;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStoreConfiguration.STORE_DIRECTORY;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStoreConfiguration.STORE_POLL_INTERVAL;
+import static io.aklivity.zilla.runtime.store.filesystem.internal.FileSystemStoreConfiguration.STORE_SYNC;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FileSystemStoreConfigurationTest
+{
+    public static final String STORE_DIRECTORY_NAME = "zilla.store.filesystem.directory";
+    public static final String STORE_CAPACITY_NAME = "zilla.store.filesystem.capacity";
+    public static final String STORE_POLL_INTERVAL_NAME = "zilla.store.filesystem.poll.interval";
+    public static final String STORE_SYNC_NAME = "zilla.store.filesystem.sync";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        new FileSystemStoreConfiguration();
+
+        assertEquals(STORE_DIRECTORY.name(), STORE_DIRECTORY_NAME);
+        assertEquals(STORE_CAPACITY.name(), STORE_CAPACITY_NAME);
+        assertEquals(STORE_POLL_INTERVAL.name(), STORE_POLL_INTERVAL_NAME);
+        assertEquals(STORE_SYNC.name(), STORE_SYNC_NAME);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.filesystem.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.config.engine.GenericStoreConfig;
+import io.aklivity.zilla.config.engine.StoreConfig;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
+import io.aklivity.zilla.runtime.engine.store.StoreContext;
+import io.aklivity.zilla.runtime.engine.store.StoreFactory;
+import io.aklivity.zilla.runtime.engine.store.StoreHandler;
+
+/**
+ * Compares {@code get} and {@code put} latency of {@code store-filesystem} against {@code store-memory}
+ * through the {@link StoreHandler} SPI, with completions run inline. Keys cycle through a fixed set so
+ * {@code store-filesystem} compacts periodically, the same as under a steady update load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(NANOSECONDS)
+public class StoreBM
+{
+    private static final int KEYS = 1024;
+
+    @Param({"memory", "filesystem"})
+    public String type;
+
+    private final String[] keys = new String[KEYS];
+    private final UnsafeBufferEx value = new UnsafeBufferEx("value-0123456789abcdef".getBytes(UTF_8));
+
+    private Path directory;
+    private StoreContext context;
+    private StoreConfig store;
+    private StoreHandler handler;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        directory = Files.createTempDirectory("zilla-store-bm");
+
+        Properties properties = new Properties();
+        properties.setProperty("zilla.engine.directory", directory.toString());
+
+        EngineContext engine = mock(EngineContext.class);
+        doAnswer(invocation ->
+        {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(engine).dispatch(any(Runnable.class));
+        when(engine.signaler()).thenReturn(mock(Signaler.class));
+
+        store = GenericStoreConfig.builder()
+            .namespace("test")
+            .name("store0")
+            .type(type)
+            .build();
+        store.id = 1L;
+
+        context = StoreFactory.instantiate().create(type, new Configuration(properties)).supply(engine);
+        handler = context.attach(store);
+
+        for (int i = 0; i < KEYS; i++)
+        {
+            keys[i] = "key-" + i;
+            handler.putBytes(keys[i], value, 0, value.capacity(), null, r -> {});
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws IOException
+    {
+        context.detach(store);
+
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList())
+            {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void get(
+        Blackhole blackhole)
+    {
+        handler.get(nextKey(), (k, v) -> blackhole.consume(v));
+    }
+
+    @Benchmark
+    public void getBytes(
+        Blackhole blackhole)
+    {
+        handler.getBytes(nextKey(), (k, v) -> blackhole.consume(v));
+    }
+
+    @Benchmark
+    public void put(
+        Blackhole blackhole)
+    {
+        handler.put(nextKey(), "value-0123456789abcdef", null, blackhole::consume);
+    }
+
+    @Benchmark
+    public void putBytes(
+        Blackhole blackhole)
+    {
+        handler.putBytes(nextKey(), value, 0, value.capacity(), null, blackhole::consume);
+    }
+
+    private String nextKey()
+    {
+        return keys[index++ & (KEYS - 1)];
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(StoreBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
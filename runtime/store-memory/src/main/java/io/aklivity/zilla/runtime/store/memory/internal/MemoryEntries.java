@@ -0,0 +1,335 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.memory.internal;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.Eviction;
+
+/**
+ * Entries of one memory store, shared by all workers attached to that store.
+ * <p>
+ * Entries are held in a concurrent map, so reads and writes from different workers do not contend
+ * on a shared lock. When a {@code capacity} is set, each entry is stamped when it is inserted or
+ * read, and each insert beyond the capacity samples {@value #EVICTION_SAMPLES} entries, continuing
+ * where the previous sample left off, and evicts either the least recently stamped ({@code lru}) or
+ * the one with the fewest hits ({@code lfu}). Reads only stamp entries with the current insert tick,
+ * so they never write shared state, and eviction is approximate in the same way as sampled LRU in
+ * other caches.
+ * </p>
+ * <p>
+ * Entries with a TTL are also queued by expiry time, so {@link #sweep} removes expired entries
+ * without scanning the store. Replaced entries stay queued until they are swept, or until the
+ * queue grows past twice the number of entries and is compacted.
+ * </p>
+ * <p>
+ * Metrics are published by whichever attached worker first {@link #claimMetrics claims} them, so
+ * the shared size and eviction count are reported once rather than once per worker.
+ * </p>
+ */
+final class MemoryEntries
+{
+    private static final int EVICTION_SAMPLES = 8;
+    private static final int EXPIRIES_SLACK = 64;
+
+    private final int capacity;
+    private final Eviction eviction;
+    private final long sweepInterval;
+    private final ConcurrentHashMap<String, MemoryEntry> entries;
+    private final PriorityQueue<MemoryEntry> expiries;
+    private final AtomicLong ticks;
+    private final AtomicLong sweepAt;
+    private final AtomicBoolean metrics;
+    private final AtomicLong evictions;
+    private final AtomicLong expirations;
+
+    private Iterator<MemoryEntry> samples;
+
+    MemoryEntries(
+        int capacity,
+        Eviction eviction,
+        long sweepInterval)
+    {
+        this.capacity = capacity;
+        this.eviction = eviction;
+        this.sweepInterval = sweepInterval;
+        this.entries = new ConcurrentHashMap<>();
+        this.expiries = new PriorityQueue<>(comparingLong(e -> e.expiresAt));
+        this.ticks = new AtomicLong();
+        this.sweepAt = new AtomicLong();
+        this.metrics = new AtomicBoolean();
+        this.evictions = new AtomicLong();
+        this.expirations = new AtomicLong();
+    }
+
+    MemoryEntry get(
+        String key,
+        long now,
+        Consumer<String> removed)
+    {
+        MemoryEntry entry = entries.get(key);
+
+        if (entry != null && entry.expired(now))
+        {
+            expire(entry, removed);
+            entry = null;
+        }
+        else if (entry != null && capacity > 0)
+        {
+            touch(entry);
+        }
+
+        return entry;
+    }
+
+    MemoryEntry put(
+        MemoryEntry entry,
+        long now,
+        Consumer<String> removed)
+    {
+        entry.accessedAt = ticks.getAndIncrement();
+
+        final MemoryEntry previous = entries.put(entry.key, entry);
+
+        if (previous != null)
+        {
+            previous.stale = true;
+            entry.hits = previous.hits;
+        }
+
+        insert(entry, removed);
+
+        return previous != null && !previous.expired(now) ? previous : null;
+    }
+
+    MemoryEntry putIfAbsent(
+        MemoryEntry entry,
+        long now,
+        Consumer<String> removed)
+    {
+        entry.accessedAt = ticks.getAndIncrement();
+
+        MemoryEntry existing = entries.putIfAbsent(entry.key, entry);
+        while (existing != null && existing.expired(now))
+        {
+            if (entries.replace(entry.key, existing, entry))
+            {
+                existing.stale = true;
+                expirations.incrementAndGet();
+                existing = null;
+            }
+            else
+            {
+                existing = entries.putIfAbsent(entry.key, entry);
+            }
+        }
+
+        if (existing == null)
+        {
+            insert(entry, removed);
+        }
+
+        return existing;
+    }
+
+    MemoryEntry remove(
+        String key)
+    {
+        final MemoryEntry entry = entries.remove(key);
+
+        if (entry != null)
+        {
+            entry.stale = true;
+        }
+
+        return entry;
+    }
+
+    int sweep(
+        long now,
+        int limit,
+        Consumer<String> removed)
+    {
+        final long sweepAt = this.sweepAt.get();
+
+        int swept = 0;
+        if (now >= sweepAt && this.sweepAt.compareAndSet(sweepAt, now + sweepInterval))
+        {
+            synchronized (expiries)
+            {
+                MemoryEntry entry = expiries.peek();
+                while (entry != null && entry.expired(now) && swept < limit)
+                {
+                    expiries.poll();
+
+                    if (!entry.stale && expire(entry, removed))
+                    {
+                        swept++;
+                    }
+
+                    entry = expiries.peek();
+                }
+            }
+        }
+
+        return swept;
+    }
+
+    int size()
+    {
+        return entries.size();
+    }
+
+    long evictions()
+    {
+        return evictions.get();
+    }
+
+    long expirations()
+    {
+        return expirations.get();
+    }
+
+    boolean claimMetrics()
+    {
+        return metrics.compareAndSet(false, true);
+    }
+
+    void releaseMetrics()
+    {
+        metrics.set(false);
+    }
+
+    private void touch(
+        MemoryEntry entry)
+    {
+        final long tick = ticks.get();
+        if (entry.accessedAt != tick)
+        {
+            entry.accessedAt = tick;
+        }
+
+        if (eviction == Eviction.LFU && entry.hits < Integer.MAX_VALUE)
+        {
+            entry.hits++;
+        }
+    }
+
+    private void insert(
+        MemoryEntry entry,
+        Consumer<String> removed)
+    {
+        if (entry.expires())
+        {
+            synchronized (expiries)
+            {
+                expiries.add(entry);
+
+                if (expiries.size() > (entries.size() << 1) + EXPIRIES_SLACK)
+                {
+                    expiries.removeIf(e -> e.stale);
+                }
+            }
+        }
+
+        if (capacity > 0 && entries.size() > capacity)
+        {
+            evict(entry, removed);
+        }
+    }
+
+    private synchronized void evict(
+        MemoryEntry inserted,
+        Consumer<String> removed)
+    {
+        while (entries.size() > capacity)
+        {
+            final MemoryEntry victim = victim(inserted);
+
+            if (victim == null)
+            {
+                break;
+            }
+
+            if (entries.remove(victim.key, victim))
+            {
+                victim.stale = true;
+                evictions.incrementAndGet();
+                removed.accept(victim.key);
+            }
+        }
+    }
+
+    private MemoryEntry victim(
+        MemoryEntry inserted)
+    {
+        MemoryEntry victim = null;
+
+        int sampled = 0;
+        int restarts = 2;
+        while (sampled < EVICTION_SAMPLES && restarts > 0)
+        {
+            if (samples == null || !samples.hasNext())
+            {
+                samples = entries.values().iterator();
+                restarts--;
+            }
+
+            final MemoryEntry candidate = samples.hasNext() ? samples.next() : null;
+            if (candidate != null && candidate != inserted && !candidate.stale)
+            {
+                if (victim == null || older(candidate, victim))
+                {
+                    victim = candidate;
+                }
+                sampled++;
+            }
+        }
+
+        return victim;
+    }
+
+    private boolean older(
+        MemoryEntry candidate,
+        MemoryEntry victim)
+    {
+        return eviction == Eviction.LFU && candidate.hits != victim.hits
+            ? candidate.hits < victim.hits
+            : candidate.accessedAt < victim.accessedAt;
+    }
+
+    private boolean expire(
+        MemoryEntry entry,
+        Consumer<String> removed)
+    {
+        final boolean expired = entries.remove(entry.key, entry);
+
+        if (expired)
+        {
+            entry.stale = true;
+            expirations.incrementAndGet();
+            removed.accept(entry.key);
+        }
+
+        return expired;
+    }
+}
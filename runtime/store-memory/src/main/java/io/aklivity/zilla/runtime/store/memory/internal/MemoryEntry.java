@@ -14,12 +14,66 @@
  */
 package io.aklivity.zilla.runtime.store.memory.internal;
 
-record MemoryEntry(
-    String value,
-    long expiresAt)
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class MemoryEntry
 {
-    boolean expired()
+    final String key;
+    final long expiresAt;
+
+    private final String text;
+    private final byte[] bytes;
+
+    volatile long accessedAt;
+    volatile int hits;
+    volatile boolean stale;
+
+    MemoryEntry(
+        String key,
+        String text,
+        long expiresAt)
+    {
+        this(key, text, null, expiresAt);
+    }
+
+    MemoryEntry(
+        String key,
+        byte[] bytes,
+        long expiresAt)
+    {
+        this(key, null, bytes, expiresAt);
+    }
+
+    private MemoryEntry(
+        String key,
+        String text,
+        byte[] bytes,
+        long expiresAt)
+    {
+        this.key = key;
+        this.text = text;
+        this.bytes = bytes;
+        this.expiresAt = expiresAt;
+    }
+
+    String text()
+    {
+        return text != null ? text : new String(bytes, UTF_8);
+    }
+
+    byte[] bytes()
+    {
+        return bytes != null ? bytes : text.getBytes(UTF_8);
+    }
+
+    boolean expires()
+    {
+        return expiresAt != Long.MAX_VALUE;
+    }
+
+    boolean expired(
+        long now)
     {
-        return System.currentTimeMillis() > expiresAt;
+        return now > expiresAt;
     }
 }
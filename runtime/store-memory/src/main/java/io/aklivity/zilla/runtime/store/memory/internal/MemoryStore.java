@@ -29,11 +29,13 @@ final class MemoryStore implements Store
 {
     static final String NAME = "memory";
 
+    private final MemoryStoreConfiguration config;
     private final ConcurrentMap<Long, MemoryStorage> storage;
 
     MemoryStore(
         MemoryStoreConfiguration config)
     {
+        this.config = config;
         this.storage = new ConcurrentHashMap<>();
     }
 
@@ -52,13 +54,15 @@ final class MemoryStore implements Store
             this::supplyWatchers,
             this::supplyLocks,
             this::releaseEntries,
-            context::dispatch);
+            context,
+            config.sweepInterval().toMillis(),
+            config.sweepLimit());
     }
 
-    private ConcurrentMap<String, MemoryEntry> acquireEntries(
+    private MemoryEntries acquireEntries(
         long storeId)
     {
-        final MemoryStorage memoryStorage = storage.computeIfAbsent(storeId, id -> new MemoryStorage());
+        final MemoryStorage memoryStorage = storage.computeIfAbsent(storeId, this::newStorage);
         memoryStorage.refs.incrementAndGet();
         return memoryStorage.entries;
     }
@@ -67,14 +71,14 @@ final class MemoryStore implements Store
         long storeId)
     {
         // attach already incremented refs via acquireEntries
-        return storage.computeIfAbsent(storeId, id -> new MemoryStorage()).watchers;
+        return storage.computeIfAbsent(storeId, this::newStorage).watchers;
     }
 
     private ConcurrentMap<String, LockEntry> supplyLocks(
         long storeId)
     {
         // attach already incremented refs via acquireEntries
-        return storage.computeIfAbsent(storeId, id -> new MemoryStorage()).locks;
+        return storage.computeIfAbsent(storeId, this::newStorage).locks;
     }
 
     private void releaseEntries(
@@ -83,11 +87,23 @@ final class MemoryStore implements Store
         storage.computeIfPresent(storeId, (id, ms) -> ms.refs.decrementAndGet() == 0 ? null : ms);
     }
 
+    private MemoryStorage newStorage(
+        long storeId)
+    {
+        return new MemoryStorage(new MemoryEntries(config.capacity(), config.eviction(), config.sweepInterval().toMillis()));
+    }
+
     private static final class MemoryStorage
     {
         final AtomicInteger refs = new AtomicInteger();
-        final ConcurrentMap<String, MemoryEntry> entries = new ConcurrentHashMap<>();
+        final MemoryEntries entries;
         final ConcurrentMap<String, List<Watcher>> watchers = new ConcurrentHashMap<>();
         final ConcurrentMap<String, LockEntry> locks = new ConcurrentHashMap<>();
+
+        MemoryStorage(
+            MemoryEntries entries)
+        {
+            this.entries = entries;
+        }
     }
 }
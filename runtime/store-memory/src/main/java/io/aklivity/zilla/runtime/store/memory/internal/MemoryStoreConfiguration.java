@@ -14,15 +14,28 @@
  */
 package io.aklivity.zilla.runtime.store.memory.internal;
 
+import java.time.Duration;
+
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class MemoryStoreConfiguration extends Configuration
 {
+    public static final IntPropertyDef STORE_CAPACITY;
+    public static final PropertyDef<Eviction> STORE_EVICTION;
+    public static final PropertyDef<Duration> STORE_SWEEP_INTERVAL;
+    public static final IntPropertyDef STORE_SWEEP_LIMIT;
+
     private static final ConfigurationDef MEMORY_STORE_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.store.memory");
+        STORE_CAPACITY = config.property("capacity", 0);
+        STORE_EVICTION = config.property(Eviction.class, "eviction",
+            (c, v) -> Eviction.valueOf(v.toUpperCase()), "lru");
+        STORE_SWEEP_INTERVAL = config.property(Duration.class, "sweep.interval",
+            (c, v) -> Duration.parse(v), "PT1S");
+        STORE_SWEEP_LIMIT = config.property("sweep.limit", 1024);
         MEMORY_STORE_CONFIG = config;
     }
 
@@ -36,4 +49,30 @@ public class MemoryStoreConfiguration extends Configuration
     {
         super(MEMORY_STORE_CONFIG, config);
     }
+
+    public int capacity()
+    {
+        return STORE_CAPACITY.getAsInt(this);
+    }
+
+    public Eviction eviction()
+    {
+        return STORE_EVICTION.get(this);
+    }
+
+    public Duration sweepInterval()
+    {
+        return STORE_SWEEP_INTERVAL.get(this);
+    }
+
+    public int sweepLimit()
+    {
+        return STORE_SWEEP_LIMIT.getAsInt(this);
+    }
+
+    public enum Eviction
+    {
+        LRU,
+        LFU
+    }
 }
@@ -14,55 +14,93 @@
  */
 package io.aklivity.zilla.runtime.store.memory.internal;
 
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.GAUGE;
+
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 
+import org.agrona.collections.Long2ObjectHashMap;
+
 import io.aklivity.zilla.config.engine.StoreConfig;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.store.StoreContext;
 import io.aklivity.zilla.runtime.engine.store.StoreHandler;
 import io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreHandler.LockEntry;
 import io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreHandler.Watcher;
+import io.aklivity.zilla.runtime.store.memory.internal.metrics.MemoryStoreEntriesMetric;
+import io.aklivity.zilla.runtime.store.memory.internal.metrics.MemoryStoreEvictionsMetric;
 
 final class MemoryStoreContext implements StoreContext
 {
-    private final LongFunction<ConcurrentMap<String, MemoryEntry>> supplyEntries;
+    private final LongFunction<MemoryEntries> supplyEntries;
     private final LongFunction<ConcurrentMap<String, List<Watcher>>> supplyWatchers;
     private final LongFunction<ConcurrentMap<String, LockEntry>> supplyLocks;
     private final LongConsumer removeEntries;
+    private final EngineContext context;
     private final Consumer<Runnable> dispatcher;
+    private final Signaler signaler;
+    private final long sweepInterval;
+    private final int sweepLimit;
+    private final int entriesId;
+    private final int evictionsId;
+    private final Long2ObjectHashMap<MemoryStoreHandler> handlersById;
 
     MemoryStoreContext(
-        LongFunction<ConcurrentMap<String, MemoryEntry>> supplyEntries,
+        LongFunction<MemoryEntries> supplyEntries,
         LongFunction<ConcurrentMap<String, List<Watcher>>> supplyWatchers,
         LongFunction<ConcurrentMap<String, LockEntry>> supplyLocks,
         LongConsumer removeEntries,
-        Consumer<Runnable> dispatcher)
+        EngineContext context,
+        long sweepInterval,
+        int sweepLimit)
     {
         this.supplyEntries = supplyEntries;
         this.supplyWatchers = supplyWatchers;
         this.supplyLocks = supplyLocks;
         this.removeEntries = removeEntries;
-        this.dispatcher = dispatcher;
+        this.context = context;
+        this.dispatcher = context::dispatch;
+        this.signaler = context.signaler();
+        this.sweepInterval = sweepInterval;
+        this.sweepLimit = sweepLimit;
+        this.entriesId = context.supplyTypeId(MemoryStoreEntriesMetric.NAME);
+        this.evictionsId = context.supplyTypeId(MemoryStoreEvictionsMetric.NAME);
+        this.handlersById = new Long2ObjectHashMap<>();
     }
 
     @Override
     public StoreHandler attach(
         StoreConfig config)
     {
-        return new MemoryStoreHandler(
+        final MemoryStoreHandler handler = new MemoryStoreHandler(
             supplyEntries.apply(config.id),
             supplyWatchers.apply(config.id),
             supplyLocks.apply(config.id),
-            dispatcher);
+            dispatcher,
+            signaler,
+            sweepInterval,
+            sweepLimit,
+            context.supplyMetricWriter(GAUGE, config.id, entriesId, 0, null),
+            context.supplyMetricWriter(COUNTER, config.id, evictionsId, 0, null));
+        handlersById.put(config.id, handler);
+        handler.start();
+        return handler;
     }
 
     @Override
     public void detach(
         StoreConfig config)
     {
+        final MemoryStoreHandler handler = handlersById.remove(config.id);
+        if (handler != null)
+        {
+            handler.stop();
+        }
         removeEntries.accept(config.id);
     }
 }
@@ -23,26 +23,81 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
+import io.aklivity.zilla.runtime.common.agrona.buffer.DirectBufferEx;
+import io.aklivity.zilla.runtime.common.agrona.buffer.UnsafeBufferEx;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.store.StoreHandler;
 
 final class MemoryStoreHandler implements StoreHandler
 {
-    private final ConcurrentMap<String, MemoryEntry> entries;
+    private static final int SWEEP_SIGNAL = 1;
+
+    private final MemoryEntries entries;
     private final ConcurrentMap<String, List<Watcher>> watchers;
     private final ConcurrentMap<String, LockEntry> locks;
     private final Consumer<Runnable> dispatcher;
+    private final Signaler signaler;
+    private final long sweepInterval;
+    private final int sweepLimit;
+    private final Consumer<String> onRemoved;
+    private final LongConsumer recordEntries;
+    private final LongConsumer recordEvictions;
+
+    private long sweepId = Signaler.NO_CANCEL_ID;
+    private boolean metrics;
+    private long evictions;
 
     MemoryStoreHandler(
-        ConcurrentMap<String, MemoryEntry> entries,
+        MemoryEntries entries,
         ConcurrentMap<String, List<Watcher>> watchers,
         ConcurrentMap<String, LockEntry> locks,
-        Consumer<Runnable> dispatcher)
+        Consumer<Runnable> dispatcher,
+        Signaler signaler,
+        long sweepInterval,
+        int sweepLimit,
+        LongConsumer recordEntries,
+        LongConsumer recordEvictions)
     {
         this.entries = entries;
         this.watchers = watchers;
         this.locks = locks;
         this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.signaler = signaler;
+        this.sweepInterval = sweepInterval;
+        this.sweepLimit = sweepLimit;
+        this.onRemoved = k -> notifyWatchers(k, null);
+        this.recordEntries = recordEntries;
+        this.recordEvictions = recordEvictions;
+    }
+
+    void start()
+    {
+        metrics = entries.claimMetrics();
+        evictions = entries.evictions();
+
+        if (signaler != null && sweepInterval > 0L)
+        {
+            sweepId = signaler.signalAt(System.currentTimeMillis() + sweepInterval, SWEEP_SIGNAL, this::onSweep);
+        }
+    }
+
+    void stop()
+    {
+        if (sweepId != Signaler.NO_CANCEL_ID)
+        {
+            signaler.cancel(sweepId);
+            sweepId = Signaler.NO_CANCEL_ID;
+        }
+
+        if (metrics)
+        {
+            recordMetrics();
+            recordEntries.accept(0L);
+            entries.releaseMetrics();
+            metrics = false;
+        }
     }
 
     @Override
@@ -50,11 +105,21 @@ final class MemoryStoreHandler implements StoreHandler
         String key,
         BiConsumer<String, String> completion)
     {
-        final MemoryEntry entry = entries.get(key);
-        final String value = entry != null && !entry.expired() ? entry.value() : null;
+        final MemoryEntry entry = entries.get(key, System.currentTimeMillis(), onRemoved);
+        final String value = entry != null ? entry.text() : null;
         defer(() -> completion.accept(key, value));
     }
 
+    @Override
+    public void getBytes(
+        String key,
+        BiConsumer<String, DirectBufferEx> completion)
+    {
+        final MemoryEntry entry = entries.get(key, System.currentTimeMillis(), onRemoved);
+        final byte[] value = entry != null ? entry.bytes() : null;
+        defer(() -> completion.accept(key, value != null ? new UnsafeBufferEx(value) : null));
+    }
+
     @Override
     public void put(
         String key,
@@ -62,12 +127,30 @@ final class MemoryStoreHandler implements StoreHandler
         Duration ttl,
         Consumer<String> completion)
     {
-        final long expiresAt = expiresAt(ttl);
-        entries.put(key, new MemoryEntry(value, expiresAt));
+        final long now = System.currentTimeMillis();
+        entries.put(new MemoryEntry(key, value, expiresAt(now, ttl)), now, onRemoved);
         notifyWatchers(key, value);
         defer(() -> completion.accept(null));
     }
 
+    @Override
+    public void putBytes(
+        String key,
+        DirectBufferEx buffer,
+        int index,
+        int length,
+        Duration ttl,
+        Consumer<String> completion)
+    {
+        final long now = System.currentTimeMillis();
+        final byte[] value = new byte[length];
+        buffer.getBytes(index, value);
+        final MemoryEntry entry = new MemoryEntry(key, value, expiresAt(now, ttl));
+        entries.put(entry, now, onRemoved);
+        notifyEntry(key, entry);
+        defer(() -> completion.accept(null));
+    }
+
     @Override
     public void putIfAbsent(
         String key,
@@ -75,19 +158,13 @@ final class MemoryStoreHandler implements StoreHandler
         Duration ttl,
         Consumer<String> completion)
     {
-        final long expiresAt = expiresAt(ttl);
-        final MemoryEntry newEntry = new MemoryEntry(value, expiresAt);
-        final MemoryEntry existing = entries.putIfAbsent(key, newEntry);
-        boolean stored = existing == null;
-        if (existing != null && existing.expired())
-        {
-            stored = entries.replace(key, existing, newEntry);
-        }
-        if (stored)
+        final long now = System.currentTimeMillis();
+        final MemoryEntry existing = entries.putIfAbsent(new MemoryEntry(key, value, expiresAt(now, ttl)), now, onRemoved);
+        if (existing == null)
         {
             notifyWatchers(key, value);
         }
-        final String result = existing != null && !existing.expired() ? existing.value() : null;
+        final String result = existing != null ? existing.text() : null;
         defer(() -> completion.accept(result));
     }
 
@@ -110,7 +187,7 @@ final class MemoryStoreHandler implements StoreHandler
         Consumer<String> completion)
     {
         final MemoryEntry entry = entries.remove(key);
-        final String value = entry != null && !entry.expired() ? entry.value() : null;
+        final String value = entry != null && !entry.expired(System.currentTimeMillis()) ? entry.text() : null;
         if (entry != null)
         {
             notifyWatchers(key, null);
@@ -176,7 +253,7 @@ final class MemoryStoreHandler implements StoreHandler
         String result = null;
         if (current != null && current.expiresAt() > now && current.token().equals(token))
         {
-            final long expiresAt = expiresAt(ttl);
+            final long expiresAt = expiresAt(now, ttl);
             final LockEntry renewed = new LockEntry(token, expiresAt);
             if (locks.replace(key, current, renewed))
             {
@@ -210,6 +287,38 @@ final class MemoryStoreHandler implements StoreHandler
         };
     }
 
+    private void onSweep(
+        int signalId)
+    {
+        entries.sweep(System.currentTimeMillis(), sweepLimit, onRemoved);
+
+        if (metrics)
+        {
+            recordMetrics();
+        }
+
+        sweepId = signaler.signalAt(System.currentTimeMillis() + sweepInterval, SWEEP_SIGNAL, this::onSweep);
+    }
+
+    private void recordMetrics()
+    {
+        final long evictions = entries.evictions();
+        recordEntries.accept(entries.size());
+        recordEvictions.accept(evictions - this.evictions);
+        this.evictions = evictions;
+    }
+
+    private void notifyEntry(
+        String key,
+        MemoryEntry entry)
+    {
+        final List<Watcher> list = watchers.get(key);
+        if (list != null && !list.isEmpty())
+        {
+            notifyWatchers(key, entry.text());
+        }
+    }
+
     private void notifyWatchers(
         String key,
         String value)
@@ -231,9 +340,10 @@ final class MemoryStoreHandler implements StoreHandler
     }
 
     private static long expiresAt(
+        long now,
         Duration ttl)
     {
-        return ttl == null ? Long.MAX_VALUE : System.currentTimeMillis() + ttl.toMillis();
+        return ttl == null ? Long.MAX_VALUE : now + ttl.toMillis();
     }
 
     record Watcher(
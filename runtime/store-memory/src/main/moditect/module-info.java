@@ -19,4 +19,7 @@ module io.aklivity.zilla.runtime.store.memory
 
     provides io.aklivity.zilla.runtime.engine.store.StoreFactorySpi
         with io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreFactorySpi;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.store.memory.internal.metrics.MemoryMetricGroupFactorySpi;
 }
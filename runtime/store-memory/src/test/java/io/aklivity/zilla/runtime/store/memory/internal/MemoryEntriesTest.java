@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.memory.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.Eviction;
+
+public class MemoryEntriesTest
+{
+    private final List<String> removed = new ArrayList<>();
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed()
+    {
+        MemoryEntries entries = new MemoryEntries(2, Eviction.LRU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", Long.MAX_VALUE), 0L, removed::add);
+        entries.put(new MemoryEntry("b", "2", Long.MAX_VALUE), 0L, removed::add);
+        entries.get("a", 0L, removed::add);
+        entries.put(new MemoryEntry("c", "3", Long.MAX_VALUE), 0L, removed::add);
+
+        assertThat(removed, contains("b"));
+        assertNotNull(entries.get("a", 0L, removed::add));
+        assertNull(entries.get("b", 0L, removed::add));
+        assertEquals(2, entries.size());
+        assertEquals(1L, entries.evictions());
+    }
+
+    @Test
+    public void shouldEvictLeastFrequentlyUsed()
+    {
+        MemoryEntries entries = new MemoryEntries(2, Eviction.LFU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", Long.MAX_VALUE), 0L, removed::add);
+        entries.put(new MemoryEntry("b", "2", Long.MAX_VALUE), 0L, removed::add);
+        entries.get("a", 0L, removed::add);
+        entries.get("a", 0L, removed::add);
+        entries.get("b", 0L, removed::add);
+        entries.get("a", 0L, removed::add);
+        entries.put(new MemoryEntry("c", "3", Long.MAX_VALUE), 0L, removed::add);
+
+        assertThat(removed, contains("b"));
+        assertEquals(1L, entries.evictions());
+    }
+
+    @Test
+    public void shouldEvictToCapacityWhenPutConcurrently() throws Exception
+    {
+        MemoryEntries entries = new MemoryEntries(100, Eviction.LRU, 1000L);
+
+        Thread[] writers = new Thread[4];
+        for (int w = 0; w < writers.length; w++)
+        {
+            final String prefix = "writer" + w + "-";
+            writers[w] = new Thread(() ->
+            {
+                for (int i = 0; i < 1000; i++)
+                {
+                    entries.put(new MemoryEntry(prefix + i, "value", Long.MAX_VALUE), 0L, k -> {});
+                    entries.get(prefix + (i >> 1), 0L, k -> {});
+                }
+            });
+            writers[w].start();
+        }
+
+        for (Thread writer : writers)
+        {
+            writer.join();
+        }
+
+        assertEquals(100, entries.size());
+        assertEquals(3900L, entries.evictions());
+    }
+
+    @Test
+    public void shouldNotEvictWhenUnbounded()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 1000L);
+
+        for (int i = 0; i < 100; i++)
+        {
+            entries.put(new MemoryEntry("key" + i, "value", Long.MAX_VALUE), 0L, removed::add);
+        }
+
+        assertThat(removed, empty());
+        assertEquals(100, entries.size());
+    }
+
+    @Test
+    public void shouldSweepExpiredEntries()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", 100L), 0L, removed::add);
+        entries.put(new MemoryEntry("b", "2", 200L), 0L, removed::add);
+        entries.put(new MemoryEntry("c", "3", Long.MAX_VALUE), 0L, removed::add);
+
+        assertEquals(1, entries.sweep(150L, 16, removed::add));
+        assertEquals(0, entries.sweep(250L, 16, removed::add));
+        assertEquals(1, entries.sweep(1150L, 16, removed::add));
+
+        assertThat(removed, contains("a", "b"));
+        assertEquals(1, entries.size());
+        assertEquals(2L, entries.expirations());
+    }
+
+    @Test
+    public void shouldNotSweepReplacedEntry()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", 100L), 0L, removed::add);
+        entries.put(new MemoryEntry("a", "2", 5000L), 50L, removed::add);
+
+        assertEquals(0, entries.sweep(150L, 16, removed::add));
+        assertEquals("2", entries.get("a", 150L, removed::add).text());
+        assertThat(removed, empty());
+    }
+
+    @Test
+    public void shouldLimitSweep()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 0L);
+
+        for (int i = 0; i < 10; i++)
+        {
+            entries.put(new MemoryEntry("key" + i, "value", 100L + i), 0L, removed::add);
+        }
+
+        assertEquals(4, entries.sweep(1000L, 4, removed::add));
+        assertEquals(4, entries.sweep(1000L, 4, removed::add));
+        assertEquals(2, entries.sweep(1000L, 4, removed::add));
+        assertEquals(0, entries.size());
+    }
+
+    @Test
+    public void shouldExpireOnGet()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", 100L), 0L, removed::add);
+
+        assertNull(entries.get("a", 150L, removed::add));
+        assertThat(removed, contains("a"));
+        assertEquals(0, entries.size());
+    }
+
+    @Test
+    public void shouldReplaceExpiredIfAbsent()
+    {
+        MemoryEntries entries = new MemoryEntries(0, Eviction.LRU, 1000L);
+
+        entries.put(new MemoryEntry("a", "1", 100L), 0L, removed::add);
+
+        assertEquals("1", entries.putIfAbsent(new MemoryEntry("a", "2", 500L), 50L, removed::add).text());
+        assertNull(entries.putIfAbsent(new MemoryEntry("a", "3", 500L), 150L, removed::add));
+        assertEquals("3", entries.get("a", 150L, removed::add).text());
+    }
+
+    @Test
+    public void shouldConvertBinaryValues()
+    {
+        MemoryEntry text = new MemoryEntry("a", "value", Long.MAX_VALUE);
+        MemoryEntry bytes = new MemoryEntry("b", "value".getBytes(UTF_8), Long.MAX_VALUE);
+
+        assertArrayEquals("value".getBytes(UTF_8), text.bytes());
+        assertEquals("value", bytes.text());
+    }
+}
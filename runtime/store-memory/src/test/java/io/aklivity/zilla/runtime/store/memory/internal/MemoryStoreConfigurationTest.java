@@ -14,13 +14,29 @@
  */
 package io.aklivity.zilla.runtime.store.memory.internal;
 
+import static io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.STORE_CAPACITY;
+import static io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.STORE_EVICTION;
+import static io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.STORE_SWEEP_INTERVAL;
+import static io.aklivity.zilla.runtime.store.memory.internal.MemoryStoreConfiguration.STORE_SWEEP_LIMIT;
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
 public class MemoryStoreConfigurationTest
 {
+    public static final String STORE_CAPACITY_NAME = "zilla.store.memory.capacity";
+    public static final String STORE_EVICTION_NAME = "zilla.store.memory.eviction";
+    public static final String STORE_SWEEP_INTERVAL_NAME = "zilla.store.memory.sweep.interval";
+    public static final String STORE_SWEEP_LIMIT_NAME = "zilla.store.memory.sweep.limit";
+
     @Test
     public void shouldVerifyConstants() throws Exception
     {
         new MemoryStoreConfiguration();
+
+        assertEquals(STORE_CAPACITY.name(), STORE_CAPACITY_NAME);
+        assertEquals(STORE_EVICTION.name(), STORE_EVICTION_NAME);
+        assertEquals(STORE_SWEEP_INTERVAL.name(), STORE_SWEEP_INTERVAL_NAME);
+        assertEquals(STORE_SWEEP_LIMIT.name(), STORE_SWEEP_LIMIT_NAME);
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.store.memory.internal.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactory;
+
+public class MemoryMetricGroupTest
+{
+    @Test
+    public void shouldLoadAndCreate()
+    {
+        Configuration config = new Configuration();
+        MetricGroupFactory factory = MetricGroupFactory.instantiate();
+        MetricGroup metricGroup = factory.create("memory", config);
+
+        assertTrue(metricGroup instanceof MemoryMetricGroup);
+        assertEquals("memory", metricGroup.name());
+    }
+
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new MemoryMetricGroup(new Configuration());
+
+        assertEquals(Set.of(
+            "memory.store.entries",
+            "memory.store.evictions"),
+            Set.copyOf(metricGroup.metricNames()));
+    }
+
+    @Test
+    public void shouldResolveStoreEntries()
+    {
+        MetricGroup metricGroup = new MemoryMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("memory.store.entries");
+
+        assertTrue(metric instanceof MemoryStoreEntriesMetric);
+        assertEquals(Metric.Kind.GAUGE, metric.kind());
+        assertEquals(Metric.Unit.COUNT, metric.unit());
+        assertNull(metric.supply(null));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownMetric()
+    {
+        MetricGroup metricGroup = new MemoryMetricGroup(new Configuration());
+
+        assertNull(metricGroup.supply("memory.unknown"));
+    }
+}
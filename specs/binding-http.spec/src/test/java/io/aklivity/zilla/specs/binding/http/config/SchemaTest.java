@@ -180,6 +180,22 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateHttp11ServerCompression()
+    {
+        JsonObject config = schema.validate("v1.1/server.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateHttp11ServerCompressionRoute()
+    {
+        JsonObject config = schema.validate("v1.1/server.compression.route.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateHttp11ClientAuthorizationCredentials()
     {
@@ -356,6 +372,22 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateHttp2ServerCompression()
+    {
+        JsonObject config = schema.validate("v2/server.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateHttp2ServerCompressionRoute()
+    {
+        JsonObject config = schema.validate("v2/server.compression.route.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateHttp2ClientAuthorizationCredentials()
     {
@@ -93,6 +93,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateClientOptionsProduceCompression()
+    {
+        JsonObject config = schema.validate("client.options.produce.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateClientOptionsSaslPlain()
     {
@@ -267,6 +267,24 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/message.values.gzip/client",
+        "${app}/message.values.gzip/server"})
+    public void shouldReceiveMessageValuesGzipAcrossWindows() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/session.partitions.changed/client",
+        "${app}/session.partitions.changed/server"})
+    public void shouldFetchIncrementallyWhenSessionPartitionsChanged() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/message.header/client",
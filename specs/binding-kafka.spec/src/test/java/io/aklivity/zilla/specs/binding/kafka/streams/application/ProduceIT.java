@@ -311,6 +311,15 @@ public class ProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/message.value.compressible/client",
+        "${app}/message.value.compressible/server"})
+    public void shouldSendMessageValueCompressible() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/message.value.repeated.fragmented/client",
@@ -284,6 +284,15 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/message.values.gzip/client",
+        "${net}/message.values.gzip/server"})
+    public void shouldReceiveMessageValuesGzipAcrossWindows() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/message.header/client",
@@ -275,6 +275,42 @@ public class ProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/message.value.gzip/client",
+        "${net}/message.value.gzip/server"})
+    public void shouldSendMessageValueGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.snappy/client",
+        "${net}/message.value.snappy/server"})
+    public void shouldSendMessageValueSnappy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.lz4/client",
+        "${net}/message.value.lz4/server"})
+    public void shouldSendMessageValueLz4() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.zstd/client",
+        "${net}/message.value.zstd/server"})
+    public void shouldSendMessageValueZstd() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/message.values.sequential/client",
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2026 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.specs.binding.ws.streams.application;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+
+/**
+ * RFC-7692, section 7 "The permessage-deflate Extension"
+ */
+public class PermessageDeflateIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/ws/streams/application/permessage.deflate");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(5, SECONDS));
+
+    @Rule
+    public final TestRule chain = outerRule(k3po).around(timeout);
+
+    @Test
+    @Specification({
+        "${app}/extension.negotiated/handshake.request.and.frame",
+        "${app}/extension.negotiated/handshake.response.and.frame" })
+    public void shouldNegotiateExtension() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/extension.negotiated.no.context.takeover/handshake.request.and.frame",
+        "${app}/extension.negotiated.no.context.takeover/handshake.response.and.frame" })
+    public void shouldNegotiateExtensionWithNoContextTakeover() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/extension.negotiated.fallback.offer/handshake.request.and.frame",
+        "${app}/extension.negotiated.fallback.offer/handshake.response.and.frame" })
+    public void shouldNegotiateExtensionFromFallbackOffer() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/extension.rejected.server.max.window.bits/handshake.request.and.frame",
+        "${app}/extension.rejected.server.max.window.bits/handshake.response.and.frame" })
+    public void shouldRejectExtensionWithServerMaxWindowBits() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/extension.rejected.unknown.parameter/handshake.request.and.frame",
+        "${app}/extension.rejected.unknown.parameter/handshake.response.and.frame" })
+    public void shouldRejectExtensionWithUnknownParameter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/echo.binary.payload.compressed.fragmented/handshake.request.and.frame",
+        "${app}/echo.binary.payload.compressed.fragmented/handshake.response.and.frame" })
+    public void shouldEchoCompressedBinaryFrameFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+}